@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.api;
+
+import java.time.Duration;
+import javax.annotation.Nullable;
+import org.projectnessie.model.EventFeedResponse;
+
+/**
+ * Request builder to read the server-side event feed.
+ *
+ * <p>The event feed must be enabled on the server, see {@code
+ * nessie.version.store.events.feed.enable}. Only events for references the caller is allowed to
+ * view are returned.
+ */
+public interface GetEventFeedBuilder {
+
+  /**
+   * The cursor to start reading from, the {@link EventFeedResponse#getNextCursor() next cursor} of
+   * the previous response. Defaults to {@code 0}, the start of the feed.
+   */
+  GetEventFeedBuilder cursor(long cursor);
+
+  /** The maximum number of events to return, capped by the server. */
+  GetEventFeedBuilder maxRecords(int maxRecords);
+
+  /**
+   * Used to add one or, by repeated invocations, more event type names to return, all event types
+   * are returned if none is added.
+   */
+  GetEventFeedBuilder type(String eventType);
+
+  /** Only return events for the given reference name. */
+  GetEventFeedBuilder reference(@Nullable @jakarta.annotation.Nullable String reference);
+
+  /**
+   * Let the server wait up to the given duration for new events, if no matching events are
+   * available. The server caps the duration, the request returns immediately by default.
+   */
+  GetEventFeedBuilder waitFor(@Nullable @jakarta.annotation.Nullable Duration wait);
+
+  EventFeedResponse get();
+}
@@ -117,4 +117,15 @@ public interface NessieApiV2 extends NessieApiV1 {
    * configuration.
    */
   ReferenceHistoryBuilder referenceHistory();
+
+  /**
+   * Read the server-side event feed, if enabled on the server.
+   *
+   * <p>Consumers resume reading from the {@linkplain
+   * org.projectnessie.model.EventFeedResponse#getNextCursor() next cursor} of the previous
+   * response.
+   */
+  default GetEventFeedBuilder eventFeed() {
+    throw new UnsupportedOperationException("The event feed is not supported by this client");
+  }
 }
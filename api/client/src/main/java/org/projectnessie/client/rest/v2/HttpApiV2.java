@@ -30,6 +30,7 @@ import org.projectnessie.client.api.GetCommitLogBuilder;
 import org.projectnessie.client.api.GetContentBuilder;
 import org.projectnessie.client.api.GetDiffBuilder;
 import org.projectnessie.client.api.GetEntriesBuilder;
+import org.projectnessie.client.api.GetEventFeedBuilder;
 import org.projectnessie.client.api.GetReferenceBuilder;
 import org.projectnessie.client.api.GetRepositoryConfigBuilder;
 import org.projectnessie.client.api.MergeReferenceBuilder;
@@ -192,6 +193,11 @@ public class HttpApiV2 implements NessieApiV2 {
     return new HttpGetDiff(client, this);
   }
 
+  @Override
+  public GetEventFeedBuilder eventFeed() {
+    return new HttpGetEventFeed(client);
+  }
+
   @Override
   public GetRepositoryConfigBuilder getRepositoryConfig() {
     return new HttpGetRepositoryConfig(client);
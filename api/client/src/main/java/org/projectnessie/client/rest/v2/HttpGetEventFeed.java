@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.rest.v2;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.projectnessie.client.api.GetEventFeedBuilder;
+import org.projectnessie.client.http.HttpClient;
+import org.projectnessie.client.http.HttpRequest;
+import org.projectnessie.model.EventFeedResponse;
+
+final class HttpGetEventFeed implements GetEventFeedBuilder {
+
+  private final HttpClient client;
+
+  HttpGetEventFeed(HttpClient client) {
+    this.client = client;
+  }
+
+  private long cursor;
+  private Integer maxRecords;
+  private final List<String> types = new ArrayList<>();
+  private String reference;
+  private Duration wait;
+
+  @Override
+  public GetEventFeedBuilder cursor(long cursor) {
+    this.cursor = cursor;
+    return this;
+  }
+
+  @Override
+  public GetEventFeedBuilder maxRecords(int maxRecords) {
+    this.maxRecords = maxRecords;
+    return this;
+  }
+
+  @Override
+  public GetEventFeedBuilder type(String eventType) {
+    types.add(eventType);
+    return this;
+  }
+
+  @Override
+  public GetEventFeedBuilder reference(String reference) {
+    this.reference = reference;
+    return this;
+  }
+
+  @Override
+  public GetEventFeedBuilder waitFor(Duration wait) {
+    this.wait = wait;
+    return this;
+  }
+
+  @Override
+  public EventFeedResponse get() {
+    HttpRequest request =
+        client
+            .newRequest()
+            .path("events/feed")
+            .queryParam("cursor", Long.toString(cursor))
+            .queryParam("max-records", maxRecords)
+            .queryParam("ref", reference)
+            .queryParam("wait", wait != null ? wait.toString() : null);
+    for (String type : types) {
+      request.queryParam("type", type);
+    }
+    return request.get().readEntity(EventFeedResponse.class);
+  }
+}
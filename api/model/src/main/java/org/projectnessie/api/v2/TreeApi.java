@@ -38,6 +38,8 @@ import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.ContentResponse;
 import org.projectnessie.model.DiffResponse;
 import org.projectnessie.model.EntriesResponse;
+import org.projectnessie.model.GetContentsOnReferencesRequest;
+import org.projectnessie.model.GetContentsOnReferencesResponse;
 import org.projectnessie.model.GetMultipleContentsRequest;
 import org.projectnessie.model.GetMultipleContentsResponse;
 import org.projectnessie.model.LogResponse;
@@ -392,4 +394,30 @@ public interface TreeApi {
       boolean withDocumentation,
       boolean forWrite)
       throws NessieNotFoundException;
+
+  /**
+   * Similar to {@link #getMultipleContents(String, GetMultipleContentsRequest, boolean, boolean)},
+   * but fetches the {@link Content} for keys on multiple references in a single request.
+   *
+   * <p>Each requested reference uses the same syntax as the {@code ref} path parameter, for example
+   * {@code main}, {@code main@1234abcd} or {@code @1234abcd}. The response contains one {@link
+   * GetMultipleContentsResponse} per distinct reference, in request order, each with the effective
+   * reference including the commit ID from which the contents were fetched.
+   *
+   * <p>Throws an {@code AccessCheckException} if access checks fail.
+   *
+   * @param request the references and the {@link ContentKey}s to retrieve on each reference
+   * @param withDocumentation whether to return the documentation, if it exists.
+   * @param forWrite If set to 'true', access control checks will check for write/create privilege
+   *     in addition to read access checks.
+   * @return the contents per reference
+   * @throws NessieNotFoundException Throws a {@link NessieReferenceNotFoundException}, if any of
+   *     the requested references does not exist.
+   */
+  GetContentsOnReferencesResponse getContentsOnReferences(
+      @Valid @jakarta.validation.Valid @NotNull @jakarta.validation.constraints.NotNull
+          GetContentsOnReferencesRequest request,
+      boolean withDocumentation,
+      boolean forWrite)
+      throws NessieNotFoundException;
 }
@@ -66,6 +66,8 @@ import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.ContentResponse;
 import org.projectnessie.model.DiffResponse;
 import org.projectnessie.model.EntriesResponse;
+import org.projectnessie.model.GetContentsOnReferencesRequest;
+import org.projectnessie.model.GetContentsOnReferencesResponse;
 import org.projectnessie.model.GetMultipleContentsRequest;
 import org.projectnessie.model.GetMultipleContentsResponse;
 import org.projectnessie.model.LogResponse;
@@ -776,6 +778,55 @@ public interface HttpTreeApi extends TreeApi {
           boolean forWrite)
       throws NessieNotFoundException;
 
+  @Override
+  @POST
+  @jakarta.ws.rs.POST
+  @Produces(MediaType.APPLICATION_JSON)
+  @jakarta.ws.rs.Produces(jakarta.ws.rs.core.MediaType.APPLICATION_JSON)
+  @Consumes(MediaType.APPLICATION_JSON)
+  @jakarta.ws.rs.Consumes(jakarta.ws.rs.core.MediaType.APPLICATION_JSON)
+  @Path("contents")
+  @jakarta.ws.rs.Path("contents")
+  @Operation(
+      summary = "Get content objects on multiple references.",
+      description =
+          "Similar to 'POST /trees/{ref}/contents', but takes a list of references, each with the "
+              + "'ContentKey's to retrieve on that reference (in the JSON payload), and returns the "
+              + "content objects per reference.\n"
+              + "\n"
+              + "References use the same syntax as the 'ref' path parameter. The heads of all "
+              + "references, the commits and the content objects are fetched together, which is "
+              + "more efficient than issuing one 'POST /trees/{ref}/contents' request per reference.",
+      operationId = "getContentsOnReferencesV2")
+  @APIResponses({
+    @APIResponse(
+        responseCode = "200",
+        description = "Retrieved successfully.",
+        content =
+            @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = GetContentsOnReferencesResponse.class))),
+    @APIResponse(responseCode = "400", description = "Invalid input, ref name not valid"),
+    @APIResponse(responseCode = "401", description = "Invalid credentials provided"),
+    @APIResponse(
+        responseCode = "403",
+        description = "Not allowed to view a given reference or read object content for a key"),
+    @APIResponse(responseCode = "404", description = "A provided ref doesn't exists")
+  })
+  @JsonView(Views.V2.class)
+  GetContentsOnReferencesResponse getContentsOnReferences(
+      @RequestBody(description = "References and keys to retrieve.")
+          GetContentsOnReferencesRequest request,
+      @Parameter(description = WITH_DOC_PARAMETER_DESCRIPTION)
+          @QueryParam("with-doc")
+          @jakarta.ws.rs.QueryParam("with-doc")
+          boolean withDocumentation,
+      @Parameter(description = FOR_WRITE_PARAMETER_DESCRIPTION)
+          @QueryParam("for-write")
+          @jakarta.ws.rs.QueryParam("for-write")
+          boolean forWrite)
+      throws NessieNotFoundException;
+
   @Override
   @POST
   @jakarta.ws.rs.POST
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import javax.annotation.Nullable;
+import javax.validation.constraints.NotNull;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.immutables.value.Value;
+
+/** A single event read from the server-side event feed, see {@link EventFeedResponse}. */
+@Schema(type = SchemaType.OBJECT, title = "EventFeedRecord")
+@Value.Immutable
+@JsonSerialize(as = ImmutableEventFeedRecord.class)
+@JsonDeserialize(as = ImmutableEventFeedRecord.class)
+public interface EventFeedRecord {
+
+  /** The monotonically increasing sequence number of the event within the repository's feed. */
+  @Value.Parameter(order = 1)
+  long getSequence();
+
+  /** The name of the event type, for example {@code COMMIT} or {@code REFERENCE_CREATED}. */
+  @NotNull
+  @jakarta.validation.constraints.NotNull
+  @Value.Parameter(order = 2)
+  String getType();
+
+  /**
+   * The name of the reference affected by the event, or the target reference for merges and
+   * transplants.
+   */
+  @Nullable
+  @jakarta.annotation.Nullable
+  @JsonInclude(Include.NON_NULL)
+  @Value.Parameter(order = 3)
+  String getReference();
+
+  /**
+   * The JSON representation of the event, as defined by the Nessie events API ({@code
+   * org.projectnessie.events.api.Event}).
+   */
+  @NotNull
+  @jakarta.validation.constraints.NotNull
+  @Value.Parameter(order = 4)
+  @Schema(type = SchemaType.OBJECT)
+  JsonNode getEvent();
+
+  static EventFeedRecord of(long sequence, String type, String reference, JsonNode event) {
+    return ImmutableEventFeedRecord.of(sequence, type, reference, event);
+  }
+}
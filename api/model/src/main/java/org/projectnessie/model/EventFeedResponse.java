@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.List;
+import javax.validation.constraints.NotNull;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.immutables.value.Value;
+
+/**
+ * A page of the server-side event feed.
+ *
+ * <p>Consumers pass {@link #getNextCursor()} as the cursor of the next request to resume reading
+ * after the last returned or scanned event.
+ */
+@Schema(type = SchemaType.OBJECT, title = "EventFeedResponse")
+@Value.Immutable
+@JsonSerialize(as = ImmutableEventFeedResponse.class)
+@JsonDeserialize(as = ImmutableEventFeedResponse.class)
+public interface EventFeedResponse {
+
+  static ImmutableEventFeedResponse.Builder builder() {
+    return ImmutableEventFeedResponse.builder();
+  }
+
+  /** The events visible to the caller, in feed order. */
+  @NotNull
+  @jakarta.validation.constraints.NotNull
+  List<EventFeedRecord> getRecords();
+
+  /** The cursor to pass to the next request. */
+  long getNextCursor();
+
+  /** Whether more events than returned by this response are available right now. */
+  @Value.Default
+  @JsonProperty(value = "hasMore")
+  default boolean isHasMore() {
+    return false;
+  }
+}
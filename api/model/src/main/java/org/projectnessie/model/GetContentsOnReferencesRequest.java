@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.Arrays;
+import java.util.List;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.immutables.value.Value;
+
+/**
+ * Request to fetch the contents for multiple keys on multiple references at once, see {@link
+ * GetContentsOnReferencesResponse}.
+ */
+@Schema(type = SchemaType.OBJECT, title = "GetContentsOnReferencesRequest")
+@Value.Immutable
+@JsonSerialize(as = ImmutableGetContentsOnReferencesRequest.class)
+@JsonDeserialize(as = ImmutableGetContentsOnReferencesRequest.class)
+public interface GetContentsOnReferencesRequest {
+
+  @NotNull
+  @jakarta.validation.constraints.NotNull
+  @Size
+  @jakarta.validation.constraints.Size(min = 1)
+  List<ReferenceKeys> getReferences();
+
+  static ImmutableGetContentsOnReferencesRequest.Builder builder() {
+    return ImmutableGetContentsOnReferencesRequest.builder();
+  }
+
+  @Schema(type = SchemaType.OBJECT, title = "ReferenceKeys")
+  @Value.Immutable
+  @JsonSerialize(as = ImmutableReferenceKeys.class)
+  @JsonDeserialize(as = ImmutableReferenceKeys.class)
+  interface ReferenceKeys {
+
+    /**
+     * The reference to read from, using the same syntax as the {@code ref} path parameter of the
+     * v2 tree endpoints, for example {@code main}, {@code main@1234abcd} or {@code @1234abcd}.
+     */
+    @NotNull
+    @jakarta.validation.constraints.NotNull
+    @Value.Parameter(order = 1)
+    String getRef();
+
+    @NotNull
+    @jakarta.validation.constraints.NotNull
+    @Size
+    @jakarta.validation.constraints.Size(min = 1)
+    @Value.Parameter(order = 2)
+    List<ContentKey> getKeys();
+
+    static ReferenceKeys of(String ref, List<ContentKey> keys) {
+      return ImmutableReferenceKeys.of(ref, keys);
+    }
+
+    static ReferenceKeys of(String ref, ContentKey... keys) {
+      return ImmutableReferenceKeys.of(ref, Arrays.asList(keys));
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import javax.annotation.Nullable;
+import javax.validation.constraints.NotNull;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.immutables.value.Value;
+
+/**
+ * A live Iceberg table or view version, streamed in response to a {@link LiveContentsRequest}.
+ *
+ * <p>Each distinct combination of content ID, metadata location and snapshot ID is streamed once,
+ * even if it is live on multiple references.
+ */
+@Schema(type = SchemaType.OBJECT, title = "LiveContentReference")
+@Value.Immutable
+@JsonSerialize(as = ImmutableLiveContentReference.class)
+@JsonDeserialize(as = ImmutableLiveContentReference.class)
+public interface LiveContentReference {
+
+  @NotNull
+  @jakarta.validation.constraints.NotNull
+  @Value.Parameter(order = 1)
+  String getContentId();
+
+  @NotNull
+  @jakarta.validation.constraints.NotNull
+  @Value.Parameter(order = 2)
+  @Schema(ref = "#/components/schemas/Type") // workaround self-referencing 'ref'
+  Content.Type getContentType();
+
+  @NotNull
+  @jakarta.validation.constraints.NotNull
+  @Value.Parameter(order = 3)
+  String getMetadataLocation();
+
+  /** The snapshot ID of an Iceberg table or the version ID of an Iceberg view. */
+  @Nullable
+  @jakarta.annotation.Nullable
+  @JsonInclude(Include.NON_NULL)
+  @Value.Parameter(order = 4)
+  Long getSnapshotId();
+
+  static LiveContentReference of(
+      String contentId, Content.Type contentType, String metadataLocation, Long snapshotId) {
+    return ImmutableLiveContentReference.of(contentId, contentType, metadataLocation, snapshotId);
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.time.Instant;
+import java.util.Map;
+import javax.annotation.Nullable;
+import javax.validation.constraints.NotNull;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.immutables.value.Value;
+import org.projectnessie.model.CommitMeta.InstantDeserializer;
+import org.projectnessie.model.CommitMeta.InstantSerializer;
+
+/**
+ * Request to stream the {@link LiveContentReference}s of all branches and tags, walking the commit
+ * log of each reference back to its cutoff point.
+ *
+ * <p>Cutoff policies use the same syntax and semantics as the Nessie GC tool: the number of live
+ * commits as an integer value, an ISO-8601 duration relative to {@link #getCutoffReferenceTime()},
+ * an ISO-8601 timestamp or {@code NONE} to consider all commits as live. The HEAD commit of a
+ * reference is always live.
+ */
+@Schema(type = SchemaType.OBJECT, title = "LiveContentsRequest")
+@Value.Immutable
+@JsonSerialize(as = ImmutableLiveContentsRequest.class)
+@JsonDeserialize(as = ImmutableLiveContentsRequest.class)
+public interface LiveContentsRequest {
+
+  String NO_CUTOFF = "NONE";
+
+  /** Cutoff policy for references that do not match any of {@link #getCutoffs()}. */
+  @NotNull
+  @jakarta.validation.constraints.NotNull
+  @Value.Default
+  default String getDefaultCutoff() {
+    return NO_CUTOFF;
+  }
+
+  /**
+   * Cutoff policies by reference name regular expression. The first pattern, in iteration order,
+   * that matches the whole name of a reference determines its cutoff policy.
+   */
+  @NotNull
+  @jakarta.validation.constraints.NotNull
+  Map<String, String> getCutoffs();
+
+  /** Reference timestamp for cutoff policies specified as durations, defaults to "now". */
+  @Nullable
+  @jakarta.annotation.Nullable
+  @JsonSerialize(using = InstantSerializer.class)
+  @JsonDeserialize(using = InstantDeserializer.class)
+  Instant getCutoffReferenceTime();
+
+  static ImmutableLiveContentsRequest.Builder builder() {
+    return ImmutableLiveContentsRequest.builder();
+  }
+}
@@ -273,7 +273,36 @@ public class TestModelObjectsSerialization {
                                       .putNull("parentCommitHash")
                                       .putNull("operations")
                                       .set("commitMeta", meta)));
-                }));
+                }),
+        new Case(EventFeedResponse.class)
+            .obj(
+                EventFeedResponse.builder()
+                    .addRecords(
+                        EventFeedRecord.of(
+                            42L, "REFERENCE_CREATED", "main", objectNode().put("id", "event-1")))
+                    .addRecords(
+                        EventFeedRecord.of(43L, "COMMIT", null, objectNode().put("id", "event-2")))
+                    .nextCursor(44L)
+                    .isHasMore(true)
+                    .build())
+            .jsonNode(
+                o ->
+                    o.put("nextCursor", 44)
+                        .put("hasMore", true)
+                        .set(
+                            "records",
+                            arrayNode()
+                                .add(
+                                    objectNode()
+                                        .put("sequence", 42)
+                                        .put("type", "REFERENCE_CREATED")
+                                        .put("reference", "main")
+                                        .set("event", objectNode().put("id", "event-1")))
+                                .add(
+                                    objectNode()
+                                        .put("sequence", 43)
+                                        .put("type", "COMMIT")
+                                        .set("event", objectNode().put("id", "event-2"))))));
   }
 
   static List<Case> negativeCases() {
@@ -45,6 +45,7 @@ dependencies {
     api(project(":nessie-events-ri"))
     api(project(":nessie-gc-base"))
     api(project(":nessie-gc-repository-jdbc"))
+    api(project(":nessie-gc-repository-persist"))
     api(project(":nessie-gcs-testcontainer"))
     api(project(":nessie-model"))
     api(project(":nessie-notice"))
@@ -104,6 +105,8 @@ dependencies {
     api(project(":nessie-versioned-storage-jdbc-tests"))
     api(project(":nessie-versioned-storage-jdbc2"))
     api(project(":nessie-versioned-storage-jdbc2-tests"))
+    api(project(":nessie-versioned-storage-mmap"))
+    api(project(":nessie-versioned-storage-mmap-tests"))
     api(project(":nessie-versioned-storage-mongodb"))
     api(project(":nessie-versioned-storage-mongodb-tests"))
     api(project(":nessie-versioned-storage-mongodb2"))
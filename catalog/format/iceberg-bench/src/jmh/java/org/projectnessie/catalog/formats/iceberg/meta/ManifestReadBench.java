@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.formats.iceberg.meta;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.apache.avro.file.SeekableByteArrayInput;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.projectnessie.catalog.formats.iceberg.manifest.AvroProjection;
+import org.projectnessie.catalog.formats.iceberg.manifest.IcebergManifestEntry;
+import org.projectnessie.catalog.formats.iceberg.manifest.IcebergManifestFile;
+import org.projectnessie.catalog.formats.iceberg.manifest.IcebergManifestFileReader;
+import org.projectnessie.catalog.formats.iceberg.manifest.IcebergManifestListReader;
+
+/**
+ * Compares full and projected reads of manifest files and manifest lists, the {@code entries}
+ * counter reports the number of decoded entries per second.
+ */
+@Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 3, time = 1000, timeUnit = MILLISECONDS)
+@Fork(1)
+@Threads(4)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+public class ManifestReadBench {
+
+  static final AvroProjection FILE_PATHS = AvroProjection.fields("status", "data_file.file_path");
+  static final AvroProjection MANIFEST_PATHS = AvroProjection.fields("manifest_path");
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Counters {
+    public long entries;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      entries = 0;
+    }
+  }
+
+  @Benchmark
+  public void manifestFileFull(
+      AvroSerializeBench.BenchmarkParam param, Counters counters, Blackhole blackhole)
+      throws Exception {
+    readManifestFile(param, AvroProjection.all(), counters, blackhole);
+  }
+
+  @Benchmark
+  public void manifestFileProjected(
+      AvroSerializeBench.BenchmarkParam param, Counters counters, Blackhole blackhole)
+      throws Exception {
+    readManifestFile(param, FILE_PATHS, counters, blackhole);
+  }
+
+  @Benchmark
+  public void manifestListFull(
+      AvroSerializeBench.BenchmarkParam param, Counters counters, Blackhole blackhole)
+      throws Exception {
+    readManifestList(param, AvroProjection.all(), counters, blackhole);
+  }
+
+  @Benchmark
+  public void manifestListProjected(
+      AvroSerializeBench.BenchmarkParam param, Counters counters, Blackhole blackhole)
+      throws Exception {
+    readManifestList(param, MANIFEST_PATHS, counters, blackhole);
+  }
+
+  private static void readManifestFile(
+      AvroSerializeBench.BenchmarkParam param,
+      AvroProjection projection,
+      Counters counters,
+      Blackhole blackhole)
+      throws Exception {
+    try (IcebergManifestFileReader reader =
+        IcebergManifestFileReader.openManifestReader(
+            new SeekableByteArrayInput(param.serializedIcebergManifestFile), projection)) {
+      while (reader.hasNext()) {
+        IcebergManifestEntry entry = reader.next();
+        blackhole.consume(entry);
+        counters.entries++;
+      }
+    }
+  }
+
+  private static void readManifestList(
+      AvroSerializeBench.BenchmarkParam param,
+      AvroProjection projection,
+      Counters counters,
+      Blackhole blackhole)
+      throws Exception {
+    try (IcebergManifestListReader reader =
+        IcebergManifestListReader.openManifestListReader(
+            new SeekableByteArrayInput(param.serializedIcebergManifestList), projection)) {
+      while (reader.hasNext()) {
+        IcebergManifestFile manifestFile = reader.next();
+        blackhole.consume(manifestFile);
+        counters.entries++;
+      }
+    }
+  }
+}
@@ -37,6 +37,8 @@ import java.lang.reflect.Type;
 import java.net.URL;
 import java.net.URLConnection;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -322,9 +324,23 @@ public final class Avro {
           MethodHandle getterMethod = lookup.unreflect(getter);
           MethodHandle setterMethod = lookup.unreflect(setter);
 
+          // Attributes that must be set on the builder, relevant for projected reads
+          boolean required =
+              !getter.isDefault()
+                  && !Map.class.isAssignableFrom(rawFieldType)
+                  && !Collection.class.isAssignableFrom(rawFieldType)
+                  && Arrays.stream(getter.getAnnotations())
+                      .noneMatch(a -> "Nullable".equals(a.annotationType().getSimpleName()));
+
           fields[i] =
               new AvroField(
-                  schemaField.name(), fieldSchema, fieldType, getterMethod, setterMethod, bundle);
+                  schemaField.name(),
+                  fieldSchema,
+                  fieldType,
+                  getterMethod,
+                  setterMethod,
+                  required,
+                  bundle);
         }
 
         MethodHandle builderBuild =
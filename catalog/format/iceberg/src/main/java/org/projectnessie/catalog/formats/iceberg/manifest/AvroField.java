@@ -32,6 +32,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.io.Decoder;
 import org.apache.avro.io.Encoder;
 
@@ -41,6 +43,8 @@ public final class AvroField {
   private final Type type;
   private final MethodHandle getter;
   private final MethodHandle setter;
+  private final boolean required;
+  private final AvroBundle bundle;
   private final FieldReader fieldReader;
   private final FieldWriter fieldWriter;
 
@@ -50,12 +54,15 @@ public final class AvroField {
       Type type,
       MethodHandle getter,
       MethodHandle setter,
+      boolean required,
       AvroBundle bundle) {
     this.name = name;
     this.schema = schema;
     this.type = type;
     this.getter = getter;
     this.setter = setter;
+    this.required = required;
+    this.bundle = bundle;
 
     this.fieldReader = fieldReaderFunction(schema, type, bundle);
     this.fieldWriter = fieldWriterFunction(schema, type, bundle);
@@ -229,6 +236,57 @@ public final class AvroField {
     }
   }
 
+  /**
+   * Reads the value of this field, if the field is a (nullable) record, only the fields selected by
+   * the given projection are decoded.
+   */
+  public Object read(Decoder decoder, Schema fieldSchema, AvroProjection projection) {
+    if (projection.isAll() || !(type instanceof Class)) {
+      return read(decoder, fieldSchema);
+    }
+    try {
+      Schema recordSchema = fieldSchema;
+      if (fieldSchema.getType() == Schema.Type.UNION) {
+        List<Schema> types = fieldSchema.getTypes();
+        if (types.stream().noneMatch(t -> t.getType() == Schema.Type.RECORD)) {
+          return read(decoder, fieldSchema);
+        }
+        recordSchema = types.get(decoder.readIndex());
+        if (recordSchema.getType() == Schema.Type.NULL) {
+          decoder.readNull();
+          return null;
+        }
+      }
+      if (recordSchema.getType() != Schema.Type.RECORD) {
+        return fieldReader.read(decoder, recordSchema);
+      }
+      return bundle.lookupSchema((Class<?>) type).read(decoder, recordSchema, projection);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Skips the value of this field without decoding it. Returns {@code null}, except for required
+   * fields: scalar values are decoded, partition records are returned without values. Other
+   * required records, like {@code data_file}, are skipped and returned as {@code null}.
+   */
+  public Object skip(Decoder decoder, Schema fieldSchema) {
+    try {
+      if (required) {
+        if (fieldSchema.getType() != Schema.Type.RECORD) {
+          return fieldReader.read(decoder, fieldSchema);
+        }
+        GenericDatumReader.skip(fieldSchema, decoder);
+        return type == GenericData.Record.class ? new GenericData.Record(fieldSchema) : null;
+      }
+      GenericDatumReader.skip(fieldSchema, decoder);
+      return null;
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   @SuppressWarnings({"rawtypes", "unchecked"})
   private static FieldReader readArrayMapRecord(
       Schema elementType, Type keyType, Type valueType, AvroBundle bundle) {
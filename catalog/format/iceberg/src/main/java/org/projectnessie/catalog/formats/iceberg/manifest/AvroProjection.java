@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.formats.iceberg.manifest;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Arrays.asList;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Selects the Avro fields to decode when reading manifest files or manifest lists.
+ *
+ * <p>Fields are referenced by their Avro field names, nested fields using dots, for example {@code
+ * data_file.file_path}. Selecting a record field without nested fields, for example {@code
+ * data_file}, selects the whole record.
+ *
+ * <p>Fields that are not selected are skipped in the Avro data without decoding them and are
+ * {@code null} or empty in the returned objects. Required scalar fields are always decoded, a
+ * required but unselected partition record has no values, other required but unselected records,
+ * for example {@code data_file}, are {@code null}.
+ */
+public final class AvroProjection {
+  private static final AvroProjection ALL = new AvroProjection(null);
+
+  /** Selected fields by name, {@code null} means all fields. */
+  private final Map<String, AvroProjection> fields;
+
+  private AvroProjection(Map<String, AvroProjection> fields) {
+    this.fields = fields;
+  }
+
+  /** Projection that selects all fields. */
+  public static AvroProjection all() {
+    return ALL;
+  }
+
+  /** Projection that selects the given fields. */
+  public static AvroProjection fields(String... fieldPaths) {
+    return fields(asList(fieldPaths));
+  }
+
+  /** Projection that selects the given fields. */
+  public static AvroProjection fields(Collection<String> fieldPaths) {
+    Map<String, AvroProjection> fields = new HashMap<>();
+    for (String fieldPath : fieldPaths) {
+      add(fields, fieldPath, fieldPath);
+    }
+    return new AvroProjection(fields);
+  }
+
+  private static void add(Map<String, AvroProjection> fields, String path, String fieldPath) {
+    checkArgument(!path.isEmpty(), "Invalid field path '%s'", fieldPath);
+    int dot = path.indexOf('.');
+    if (dot == -1) {
+      fields.put(path, ALL);
+      return;
+    }
+    AvroProjection nested =
+        fields.computeIfAbsent(path.substring(0, dot), n -> new AvroProjection(new HashMap<>()));
+    if (!nested.isAll()) {
+      add(nested.fields, path.substring(dot + 1), fieldPath);
+    }
+  }
+
+  public boolean isAll() {
+    return fields == null;
+  }
+
+  /** Whether the field with the given name is selected, either whole or partially. */
+  public boolean includes(String field) {
+    return fields == null || fields.containsKey(field);
+  }
+
+  /** The projection for the nested fields of the given field. */
+  public AvroProjection nested(String field) {
+    if (fields == null) {
+      return ALL;
+    }
+    AvroProjection nested = fields.get(field);
+    checkArgument(nested != null, "Field '%s' is not included in the projection", field);
+    return nested;
+  }
+
+  @Override
+  public String toString() {
+    return fields == null ? "*" : fields.toString();
+  }
+}
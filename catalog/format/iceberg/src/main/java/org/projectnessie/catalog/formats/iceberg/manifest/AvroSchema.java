@@ -218,4 +218,32 @@ final class AvroSchema<E, B> implements AvroTyped<E> {
 
     return builderBuild.apply(builderInstance);
   }
+
+  @Override
+  public E read(Decoder decoder, Schema schema, AvroProjection projection) {
+    if (projection.isAll()) {
+      return read(decoder, schema);
+    }
+
+    B builderInstance = builderCreator.get();
+
+    if (schema == null) {
+      schema = this.schema;
+    }
+
+    for (Schema.Field schemaField : schema.getFields()) {
+      AvroField field = fieldsByName.get(schemaField.name());
+      try {
+        Object value =
+            projection.includes(field.name())
+                ? field.read(decoder, schemaField.schema(), projection.nested(field.name()))
+                : field.skip(decoder, schemaField.schema());
+        field.valueTo(builderInstance, value);
+      } catch (RuntimeException e) {
+        throw new RuntimeException("Failed to read field '" + field.name() + "'", e);
+      }
+    }
+
+    return builderBuild.apply(builderInstance);
+  }
 }
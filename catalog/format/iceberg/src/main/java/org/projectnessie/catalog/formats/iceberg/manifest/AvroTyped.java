@@ -27,6 +27,14 @@ public interface AvroTyped<E> {
 
   E read(Decoder decoder, Schema schema) throws IOException;
 
+  /**
+   * Reads an entity, only decoding the fields selected by the given {@code projection}, other fields
+   * are skipped.
+   */
+  default E read(Decoder decoder, Schema schema, AvroProjection projection) throws IOException {
+    return read(decoder, schema);
+  }
+
   /**
    * Produces an updated schema instance using the schema overrides in the given {@code
    * readWriteContext}.
@@ -44,11 +44,21 @@ public abstract class IcebergManifestFileReader
   private IcebergManifestFileReader() {}
 
   public static IcebergManifestFileReader openManifestReader(SeekableInput input) {
+    return openManifestReader(input, AvroProjection.all());
+  }
+
+  /**
+   * Opens a manifest file reader that only decodes the fields of the manifest entries that are
+   * selected by the given projection, for example {@code
+   * AvroProjection.fields("status", "data_file.file_path")}.
+   */
+  public static IcebergManifestFileReader openManifestReader(
+      SeekableInput input, AvroProjection projection) {
 
     try {
       DataFileReader<IcebergManifestEntry> reader = null;
       try {
-        FileEntryReader datumReader = new FileEntryReader();
+        FileEntryReader datumReader = new FileEntryReader(projection);
 
         reader = new DataFileReader<>(input, datumReader);
 
@@ -92,9 +102,14 @@ public abstract class IcebergManifestFileReader
   }
 
   private static final class FileEntryReader implements DatumReader<IcebergManifestEntry> {
+    private final AvroProjection projection;
     private Schema readSchema;
     private AvroTyped<IcebergManifestEntry> avroSchema;
 
+    private FileEntryReader(AvroProjection projection) {
+      this.projection = projection;
+    }
+
     @Override
     public void setSchema(Schema schema) {
       this.readSchema = schema;
@@ -102,7 +117,7 @@ public abstract class IcebergManifestFileReader
 
     @Override
     public IcebergManifestEntry read(IcebergManifestEntry reuse, Decoder in) throws IOException {
-      return avroSchema.read(in, readSchema);
+      return avroSchema.read(in, readSchema, projection);
     }
   }
 
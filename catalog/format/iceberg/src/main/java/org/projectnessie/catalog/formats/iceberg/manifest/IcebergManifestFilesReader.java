@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.formats.iceberg.manifest;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.avro.file.SeekableInput;
+
+/** Reads the manifest files of a manifest list concurrently. */
+public final class IcebergManifestFilesReader {
+  private IcebergManifestFilesReader() {}
+
+  @FunctionalInterface
+  public interface ManifestInputProvider {
+    SeekableInput open(IcebergManifestFile manifestFile) throws IOException;
+  }
+
+  @FunctionalInterface
+  public interface ManifestFunction<R> {
+    R apply(IcebergManifestFile manifestFile, IcebergManifestFileReader reader) throws Exception;
+  }
+
+  /**
+   * Reads the given manifest files using at most {@code parallelism} tasks on the given executor
+   * and returns the results of {@code function} in the order of {@code manifestFiles}.
+   *
+   * <p>Reading stops after the first failure, which is rethrown.
+   */
+  public static <R> List<R> readManifests(
+      List<IcebergManifestFile> manifestFiles,
+      ManifestInputProvider inputProvider,
+      AvroProjection projection,
+      ManifestFunction<R> function,
+      Executor executor,
+      int parallelism) {
+    checkArgument(parallelism > 0, "parallelism must be greater than 0");
+
+    int count = manifestFiles.size();
+    Object[] results = new Object[count];
+    AtomicInteger next = new AtomicInteger();
+    AtomicReference<Exception> failure = new AtomicReference<>();
+
+    Runnable worker =
+        () -> {
+          for (int i = next.getAndIncrement(); i < count; i = next.getAndIncrement()) {
+            if (failure.get() != null) {
+              return;
+            }
+            IcebergManifestFile manifestFile = manifestFiles.get(i);
+            try (SeekableInput input = inputProvider.open(manifestFile);
+                IcebergManifestFileReader reader =
+                    IcebergManifestFileReader.openManifestReader(input, projection)) {
+              results[i] = function.apply(manifestFile, reader);
+            } catch (Exception e) {
+              failure.compareAndSet(
+                  null,
+                  new RuntimeException(
+                      "Failed to read manifest file " + manifestFile.manifestPath(), e));
+              return;
+            }
+          }
+        };
+
+    int workers = Math.min(parallelism, count);
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[workers];
+    for (int i = 0; i < workers; i++) {
+      futures[i] = CompletableFuture.runAsync(worker, executor);
+    }
+    try {
+      CompletableFuture.allOf(futures).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      failure.compareAndSet(null, e);
+    } catch (ExecutionException e) {
+      failure.compareAndSet(null, new RuntimeException(e.getCause()));
+    }
+
+    Exception e = failure.get();
+    if (e instanceof RuntimeException) {
+      throw (RuntimeException) e;
+    }
+    if (e != null) {
+      throw new RuntimeException(e);
+    }
+
+    @SuppressWarnings("unchecked")
+    List<R> list = (List<R>) Arrays.asList(results);
+    return Collections.unmodifiableList(list);
+  }
+}
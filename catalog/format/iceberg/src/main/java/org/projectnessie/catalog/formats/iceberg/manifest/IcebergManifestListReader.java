@@ -38,10 +38,19 @@ public abstract class IcebergManifestListReader
   private IcebergManifestListReader() {}
 
   public static IcebergManifestListReader openManifestListReader(SeekableInput input) {
+    return openManifestListReader(input, AvroProjection.all());
+  }
+
+  /**
+   * Opens a manifest list reader that only decodes the fields of the manifest files that are
+   * selected by the given projection, for example {@code AvroProjection.fields("manifest_path")}.
+   */
+  public static IcebergManifestListReader openManifestListReader(
+      SeekableInput input, AvroProjection projection) {
     try {
       DataFileReader<IcebergManifestFile> reader = null;
       try {
-        ListEntryReader datumReader = new ListEntryReader();
+        ListEntryReader datumReader = new ListEntryReader(projection);
 
         reader = new DataFileReader<>(input, datumReader);
 
@@ -76,9 +85,14 @@ public abstract class IcebergManifestListReader
   }
 
   private static final class ListEntryReader implements DatumReader<IcebergManifestFile> {
+    private final AvroProjection projection;
     private Schema readSchema;
     private AvroTyped<IcebergManifestFile> avroSchema;
 
+    private ListEntryReader(AvroProjection projection) {
+      this.projection = projection;
+    }
+
     @Override
     public void setSchema(Schema schema) {
       this.readSchema = schema;
@@ -86,7 +100,7 @@ public abstract class IcebergManifestListReader
 
     @Override
     public IcebergManifestFile read(IcebergManifestFile reuse, Decoder in) throws IOException {
-      return avroSchema.read(in, readSchema);
+      return avroSchema.read(in, readSchema, projection);
     }
   }
 
@@ -20,6 +20,8 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.projectnessie.catalog.formats.iceberg.manifest.IcebergFileFormat.AVRO;
@@ -163,6 +165,22 @@ public class TestAvroSerialization {
           .containsExactlyElementsOf(expectedManifestFiles(spec, icebergManifestFiles));
     }
 
+    try (IcebergManifestListReader listReader =
+        IcebergManifestListReader.openManifestListReader(
+            new SeekableFileInput(listFile.toFile()), AvroProjection.fields("manifest_path"))) {
+      List<IcebergManifestFile> files = new ArrayList<>();
+      listReader.forEachRemaining(files::add);
+      soft.assertThat(files)
+          .extracting(
+              IcebergManifestFile::manifestPath,
+              IcebergManifestFile::addedSnapshotId,
+              IcebergManifestFile::partitions)
+          .containsExactlyElementsOf(
+              icebergManifestFiles.stream()
+                  .map(mf -> tuple(mf.manifestPath(), null, emptyList()))
+                  .collect(Collectors.toList()));
+    }
+
     Path referenceFile = tempDir.resolve("snap-bar-foo" + AVRO.fileExtension());
     @SuppressWarnings("resource")
     LocalFileIO io = new LocalFileIO();
@@ -573,6 +591,50 @@ public class TestAvroSerialization {
                   .collect(Collectors.toList()));
     }
 
+    // Read manifest file using a projected IcebergManifestFileReader
+    try (IcebergManifestFileReader entryReader =
+        IcebergManifestFileReader.openManifestReader(
+            new SeekableFileInput(realFile.toFile()),
+            AvroProjection.fields("status", "data_file.file_path", "data_file.record_count"))) {
+      List<IcebergManifestEntry> allEntries = new ArrayList<>();
+      entryReader.forEachRemaining(allEntries::add);
+
+      soft.assertThat(allEntries)
+          .extracting(IcebergManifestEntry::status, IcebergManifestEntry::snapshotId)
+          .containsOnly(tuple(ADDED, null));
+      soft.assertThat(allEntries)
+          .extracting(IcebergManifestEntry::dataFile)
+          .extracting(
+              IcebergDataFile::filePath,
+              IcebergDataFile::recordCount,
+              IcebergDataFile::columnSizes,
+              IcebergDataFile::splitOffsets)
+          .containsExactlyElementsOf(
+              dataFiles.stream()
+                  .map(df -> tuple(df.filePath(), df.recordCount(), emptyMap(), null))
+                  .collect(Collectors.toList()));
+      soft.assertThat(allEntries)
+          .extracting(IcebergManifestEntry::dataFile)
+          .extracting(IcebergDataFile::partition)
+          .allSatisfy(
+              partition ->
+                  assertThat(partition.getSchema().getFields())
+                      .allSatisfy(f -> assertThat(partition.get(f.pos())).isNull()));
+    }
+
+    // Read manifest file using a projected IcebergManifestFileReader without 'data_file'
+    try (IcebergManifestFileReader entryReader =
+        IcebergManifestFileReader.openManifestReader(
+            new SeekableFileInput(realFile.toFile()), AvroProjection.fields("status"))) {
+      List<IcebergManifestEntry> allEntries = new ArrayList<>();
+      entryReader.forEachRemaining(allEntries::add);
+
+      soft.assertThat(allEntries)
+          .hasSize(dataFiles.size())
+          .extracting(IcebergManifestEntry::status, IcebergManifestEntry::dataFile)
+          .containsOnly(tuple(ADDED, null));
+    }
+
     // Read reference manifest file using IcebergManifestFileReader
     try (IcebergManifestFileReader entryReader =
         IcebergManifestFileReader.openManifestReader(
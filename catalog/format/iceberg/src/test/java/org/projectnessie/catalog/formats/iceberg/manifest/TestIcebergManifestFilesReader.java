@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.formats.iceberg.manifest;
+
+import static java.util.Collections.emptyList;
+import static org.projectnessie.catalog.formats.iceberg.manifest.IcebergFileFormat.PARQUET;
+import static org.projectnessie.catalog.formats.iceberg.manifest.IcebergManifestContent.DATA;
+import static org.projectnessie.catalog.formats.iceberg.manifest.IcebergManifestEntryStatus.ADDED;
+import static org.projectnessie.catalog.formats.iceberg.meta.IcebergPartitionSpec.UNPARTITIONED_SPEC;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.avro.file.SeekableByteArrayInput;
+import org.apache.avro.generic.GenericData;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.catalog.formats.iceberg.IcebergSpec;
+import org.projectnessie.catalog.formats.iceberg.meta.IcebergSchema;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestIcebergManifestFilesReader {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  private ExecutorService executor;
+  private final Map<String, byte[]> manifests = new HashMap<>();
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  public void readManifests() throws Exception {
+    List<IcebergManifestFile> manifestFiles = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      manifestFiles.add(writeManifest("file:///manifest-" + i, i));
+    }
+
+    List<List<String>> paths =
+        IcebergManifestFilesReader.readManifests(
+            manifestFiles,
+            mf -> new SeekableByteArrayInput(manifests.get(mf.manifestPath())),
+            AvroProjection.fields("data_file.file_path"),
+            (mf, reader) -> {
+              List<String> filePaths = new ArrayList<>();
+              reader.forEachRemaining(e -> filePaths.add(e.dataFile().filePath()));
+              return filePaths;
+            },
+            executor,
+            3);
+
+    soft.assertThat(paths)
+        .containsExactlyElementsOf(
+            IntStream.range(0, 20)
+                .mapToObj(
+                    i ->
+                        IntStream.range(0, i)
+                            .mapToObj(f -> dataFilePath("file:///manifest-" + i, f))
+                            .collect(Collectors.toList()))
+                .collect(Collectors.toList()));
+  }
+
+  @Test
+  public void failure() throws Exception {
+    List<IcebergManifestFile> manifestFiles =
+        List.of(writeManifest("file:///good", 3), writeManifest("file:///bad", 3));
+
+    soft.assertThatThrownBy(
+            () ->
+                IcebergManifestFilesReader.readManifests(
+                    manifestFiles,
+                    mf -> {
+                      if (mf.manifestPath().equals("file:///bad")) {
+                        throw new IOException("boom");
+                      }
+                      return new SeekableByteArrayInput(manifests.get(mf.manifestPath()));
+                    },
+                    AvroProjection.all(),
+                    (mf, reader) -> mf,
+                    executor,
+                    2))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage("Failed to read manifest file file:///bad")
+        .cause()
+        .hasMessage("boom");
+  }
+
+  private IcebergManifestFile writeManifest(String manifestPath, int dataFiles) throws Exception {
+    IcebergSchema schema = IcebergSchema.schema(0, emptyList(), emptyList());
+    IcebergManifestFileWriterSpec writerSpec =
+        IcebergManifestFileWriterSpec.builder()
+            .spec(IcebergSpec.V2)
+            .content(DATA)
+            .schema(schema)
+            .partitionSpec(UNPARTITIONED_SPEC)
+            .addedSnapshotId(1L)
+            .sequenceNumber(1L)
+            .minSequenceNumber(1L)
+            .manifestPath(manifestPath)
+            .build();
+
+    IcebergManifestFile manifestFile;
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (IcebergManifestFileWriter writer =
+        IcebergManifestFileWriter.openManifestFileWriter(writerSpec, output)) {
+      for (int i = 0; i < dataFiles; i++) {
+        writer.append(
+            IcebergDataFile.builder()
+                .fileFormat(PARQUET)
+                .filePath(dataFilePath(manifestPath, i))
+                .fileSizeInBytes(42L)
+                .recordCount(1L)
+                .partition(
+                    new GenericData.Record(UNPARTITIONED_SPEC.avroSchema(schema, "r102")))
+                .build(),
+            ADDED,
+            null,
+            1L,
+            1L);
+      }
+      manifestFile = writer.finish();
+    }
+    manifests.put(manifestPath, output.toByteArray());
+    return manifestFile;
+  }
+
+  private static String dataFilePath(String manifestPath, int i) {
+    return manifestPath + "/data-" + i + ".parquet";
+  }
+}
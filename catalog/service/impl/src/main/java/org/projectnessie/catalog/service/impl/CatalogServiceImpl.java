@@ -146,6 +146,8 @@ public class CatalogServiceImpl implements CatalogService {
   @Named("import-jobs")
   Executor executor;
 
+  @Inject SnapshotImportScheduler importScheduler;
+
   TreeService treeService(ApiContext apiContext) {
     return new TreeApiImpl(serverConfig, versionStore, authorizer, accessContext, apiContext);
   }
@@ -161,7 +163,8 @@ public class CatalogServiceImpl implements CatalogService {
         tasksService,
         new EntitySnapshotTaskBehavior(
             backendExceptionMapper, serviceConfig.effectiveRetryAfterThrottled()),
-        executor);
+        executor,
+        importScheduler);
   }
 
   @Override
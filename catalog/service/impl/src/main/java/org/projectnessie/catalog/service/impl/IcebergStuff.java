@@ -20,8 +20,11 @@ import static org.projectnessie.catalog.service.impl.EntitySnapshotTaskRequest.e
 import static org.projectnessie.catalog.service.impl.Util.nessieIdToObjId;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import org.projectnessie.catalog.files.api.BackendExceptionMapper;
 import org.projectnessie.catalog.files.api.ObjectIO;
 import org.projectnessie.catalog.model.snapshot.NessieEntitySnapshot;
 import org.projectnessie.catalog.model.snapshot.NessieTableSnapshot;
@@ -45,6 +48,7 @@ public class IcebergStuff {
   private final TasksService tasksService;
   private final EntitySnapshotTaskBehavior snapshotTaskBehavior;
   private final Executor executor;
+  private final SnapshotImportScheduler importScheduler;
 
   IcebergStuff(
       ObjectIO objectIO,
@@ -52,11 +56,46 @@ public class IcebergStuff {
       TasksService tasksService,
       EntitySnapshotTaskBehavior snapshotTaskBehavior,
       Executor executor) {
+    this(objectIO, persist, tasksService, snapshotTaskBehavior, executor, null);
+  }
+
+  IcebergStuff(
+      ObjectIO objectIO,
+      Persist persist,
+      TasksService tasksService,
+      EntitySnapshotTaskBehavior snapshotTaskBehavior,
+      Executor executor,
+      @Nullable SnapshotImportScheduler importScheduler) {
     this.objectIO = objectIO;
     this.persist = persist;
     this.tasksService = tasksService;
     this.snapshotTaskBehavior = snapshotTaskBehavior;
     this.executor = executor;
+    this.importScheduler = importScheduler;
+  }
+
+  /**
+   * Imports the snapshot for an {@linkplain IcebergTable Iceberg table} or {@linkplain IcebergView
+   * Iceberg view} in the background to pre-warm the Nessie Data Catalog database. The import worker
+   * runs via the {@linkplain SnapshotImportScheduler#warmUpExecutor(ObjId) warm-up executor} of the
+   * given scheduler.
+   */
+  public static CompletionStage<?> warmUpIcebergSnapshot(
+      ObjId snapshotId,
+      Content content,
+      ObjectIO objectIO,
+      Persist persist,
+      TasksService tasksService,
+      BackendExceptionMapper backendExceptionMapper,
+      Duration retryAfterThrottled,
+      SnapshotImportScheduler importScheduler) {
+    return new IcebergStuff(
+            objectIO,
+            persist,
+            tasksService,
+            new EntitySnapshotTaskBehavior(backendExceptionMapper, retryAfterThrottled),
+            importScheduler.warmUpExecutor(snapshotId))
+        .retrieveIcebergSnapshot(snapshotId, content);
   }
 
   /**
@@ -66,6 +105,9 @@ public class IcebergStuff {
    */
   public <S extends NessieEntitySnapshot<?>> CompletionStage<S> retrieveIcebergSnapshot(
       ObjId snapshotId, Content content) {
+    if (importScheduler != null) {
+      importScheduler.prioritize(snapshotId);
+    }
     EntitySnapshotTaskRequest snapshotTaskRequest =
         entitySnapshotTaskRequest(
             snapshotId, content, null, snapshotTaskBehavior, persist, objectIO, executor);
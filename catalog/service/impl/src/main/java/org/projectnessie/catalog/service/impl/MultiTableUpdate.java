@@ -21,6 +21,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import org.projectnessie.catalog.formats.iceberg.nessie.CatalogOps;
 import org.projectnessie.catalog.model.snapshot.NessieEntitySnapshot;
@@ -35,7 +37,12 @@ import org.projectnessie.model.Operation;
 import org.projectnessie.services.spi.TreeService;
 import org.projectnessie.versioned.RequestMeta.RequestMetaBuilder;
 
-/** Maintains state across all individual updates of a commit. */
+/**
+ * Maintains state across all individual updates of a commit.
+ *
+ * <p>Uses a {@link Lock} instead of {@code synchronized}, because {@link #commit()} performs the
+ * Nessie commit while holding the lock, which would pin the carrier of a virtual thread.
+ */
 final class MultiTableUpdate {
   private final TreeService treeService;
   private final ImmutableOperations.Builder operations;
@@ -45,6 +52,7 @@ final class MultiTableUpdate {
   private Branch targetBranch;
   private boolean committed;
   private final RequestMetaBuilder requestMeta;
+  private final Lock lock = new ReentrantLock();
 
   MultiTableUpdate(TreeService treeService, Branch target, RequestMetaBuilder requestMeta) {
     this.treeService = treeService;
@@ -58,7 +66,8 @@ final class MultiTableUpdate {
   }
 
   MultiTableUpdate commit() throws NessieConflictException, NessieNotFoundException {
-    synchronized (this) {
+    lock.lock();
+    try {
       committed = true;
       if (!tableUpdates.isEmpty()) {
         RequestMetaBuilder checkMeta = requestMeta;
@@ -84,45 +93,65 @@ final class MultiTableUpdate {
         targetBranch = commitResponse.getTargetBranch();
       }
       return this;
+    } finally {
+      lock.unlock();
     }
   }
 
   Branch targetBranch() {
-    synchronized (this) {
+    lock.lock();
+    try {
       return targetBranch;
+    } finally {
+      lock.unlock();
     }
   }
 
   Map<ContentKey, String> addedContentsMap() {
-    synchronized (this) {
+    lock.lock();
+    try {
       return addedContentsMap != null ? addedContentsMap : Map.of();
+    } finally {
+      lock.unlock();
     }
   }
 
   List<SingleTableUpdate> tableUpdates() {
-    synchronized (this) {
+    lock.lock();
+    try {
       return tableUpdates;
+    } finally {
+      lock.unlock();
     }
   }
 
   List<String> storedLocations() {
-    synchronized (this) {
+    lock.lock();
+    try {
       return storedLocations;
+    } finally {
+      lock.unlock();
     }
   }
 
   void addUpdate(ContentKey key, SingleTableUpdate singleTableUpdate) {
     checkState(!committed, "Already committed");
-    synchronized (this) {
+    lock.lock();
+    try {
       tableUpdates.add(singleTableUpdate);
       operations.addOperations(Operation.Put.of(key, singleTableUpdate.content));
+    } finally {
+      lock.unlock();
     }
   }
 
   void addStoredLocation(String location) {
     checkState(!committed, "Already committed");
-    synchronized (this) {
+    lock.lock();
+    try {
       storedLocations.add(location);
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -0,0 +1,419 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.service.impl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import jakarta.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.projectnessie.storage.uri.StorageUri;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules snapshot imports from object stores, giving imports requested by interactive requests
+ * priority over imports that pre-warm the Nessie Data Catalog database in the background.
+ *
+ * <p>The import workers of both kinds share {@code maxConcurrentImports} slots. Queued interactive
+ * imports always start before queued warm-up imports, and warm-up imports never use more than half
+ * of the slots. Warm-ups are queued per object store, at most {@code maxWarmUpsPerStore} warm-ups
+ * per object store are in flight, and at most {@code maxQueuedWarmUps} warm-ups are queued, further
+ * warm-ups are dropped. An interactive request for a snapshot removes a queued warm-up for the same
+ * snapshot and promotes its already queued import worker to the interactive queue.
+ *
+ * <p>Work is captured via the {@code contextCapture} function when it is submitted, so that
+ * thread-context like the request-context is propagated to the thread that runs the work later.
+ * Import workers rejected by the executor run on the calling thread, rejected warm-ups count as
+ * failed.
+ */
+public final class SnapshotImportScheduler {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotImportScheduler.class);
+
+  private final Executor executor;
+  private final UnaryOperator<Runnable> contextCapture;
+  private final LongSupplier nanoClock;
+  private final int maxConcurrentImports;
+  private final int maxWarmUpImports;
+  private final int maxWarmUpsPerStore;
+  private final int maxQueuedWarmUps;
+
+  // all fields below are guarded by 'this'
+  private final ArrayDeque<ImportJob> interactiveImports = new ArrayDeque<>();
+  private final ArrayDeque<ImportJob> warmUpImports = new ArrayDeque<>();
+  private final Map<String, StoreWarmUps> storeWarmUps = new LinkedHashMap<>();
+  private final Map<ObjId, WarmUp> warmUps = new HashMap<>();
+  private int runningImports;
+  private int runningWarmUpImports;
+  private int queuedWarmUps;
+  private int inFlightWarmUps;
+  private long scheduledWarmUps;
+  private long droppedWarmUps;
+  private long cancelledWarmUps;
+  private long failedWarmUps;
+  private long promotedImports;
+
+  public SnapshotImportScheduler(
+      Executor executor,
+      UnaryOperator<Runnable> contextCapture,
+      int maxConcurrentImports,
+      int maxWarmUpsPerStore,
+      int maxQueuedWarmUps) {
+    this(
+        executor,
+        contextCapture,
+        System::nanoTime,
+        maxConcurrentImports,
+        maxWarmUpsPerStore,
+        maxQueuedWarmUps);
+  }
+
+  SnapshotImportScheduler(
+      Executor executor,
+      UnaryOperator<Runnable> contextCapture,
+      LongSupplier nanoClock,
+      int maxConcurrentImports,
+      int maxWarmUpsPerStore,
+      int maxQueuedWarmUps) {
+    checkArgument(maxConcurrentImports > 0, "maxConcurrentImports must be positive");
+    checkArgument(maxWarmUpsPerStore > 0, "maxWarmUpsPerStore must be positive");
+    checkArgument(maxQueuedWarmUps >= 0, "maxQueuedWarmUps must not be negative");
+    this.executor = executor;
+    this.contextCapture = contextCapture;
+    this.nanoClock = nanoClock;
+    this.maxConcurrentImports = maxConcurrentImports;
+    this.maxWarmUpImports = Math.max(1, maxConcurrentImports / 2);
+    this.maxWarmUpsPerStore = maxWarmUpsPerStore;
+    this.maxQueuedWarmUps = maxQueuedWarmUps;
+  }
+
+  /** Identifies the object store of the given location, used to bound warm-ups per store. */
+  public static String objectStore(String location) {
+    StorageUri uri = StorageUri.of(location);
+    String authority = uri.authority();
+    return authority != null ? uri.scheme() + "://" + authority : String.valueOf(uri.scheme());
+  }
+
+  /** Executor for the import workers of interactive requests. */
+  public Executor interactiveExecutor() {
+    return task -> submitImport(new ImportJob(contextCapture.apply(task), null), false);
+  }
+
+  /** Executor for the import worker of the warm-up for the given snapshot. */
+  public Executor warmUpExecutor(ObjId snapshotId) {
+    return task -> submitImport(new ImportJob(contextCapture.apply(task), snapshotId), true);
+  }
+
+  /**
+   * Queues a warm-up for the given snapshot.
+   *
+   * @param snapshotId ID of the snapshot to import
+   * @param objectStore object store of the snapshot, see {@link #objectStore(String)}
+   * @param warmUp starts the warm-up, the returned stage completes when the warm-up has finished,
+   *     is called on a thread of the executor
+   * @return {@code true} if the warm-up has been queued, {@code false} if a warm-up for the same
+   *     snapshot is already queued or in flight or if the queue is full
+   */
+  public boolean scheduleWarmUp(
+      ObjId snapshotId, String objectStore, Supplier<CompletionStage<?>> warmUp) {
+    synchronized (this) {
+      if (warmUps.containsKey(snapshotId)) {
+        return false;
+      }
+      if (queuedWarmUps >= maxQueuedWarmUps) {
+        droppedWarmUps++;
+        return false;
+      }
+      WarmUp w = new WarmUp(snapshotId, objectStore, warmUp, nanoClock.getAsLong());
+      warmUps.put(snapshotId, w);
+      storeWarmUps.computeIfAbsent(objectStore, x -> new StoreWarmUps()).queue.add(w);
+      queuedWarmUps++;
+      scheduledWarmUps++;
+    }
+    dispatch();
+    return true;
+  }
+
+  /**
+   * Called for interactive requests for the given snapshot: removes a queued warm-up for the
+   * snapshot, because the interactive request imports the snapshot, and promotes a queued import
+   * worker of an in-flight warm-up for the snapshot, because the interactive request waits for it.
+   */
+  public void prioritize(ObjId snapshotId) {
+    synchronized (this) {
+      WarmUp w = warmUps.get(snapshotId);
+      if (w == null) {
+        return;
+      }
+      if (!w.started) {
+        StoreWarmUps store = storeWarmUps.get(w.objectStore);
+        store.queue.remove(w);
+        removeIfIdle(w.objectStore, store);
+        warmUps.remove(snapshotId);
+        queuedWarmUps--;
+        cancelledWarmUps++;
+        return;
+      }
+      for (Iterator<ImportJob> iter = warmUpImports.iterator(); iter.hasNext(); ) {
+        ImportJob job = iter.next();
+        if (snapshotId.equals(job.snapshotId)) {
+          iter.remove();
+          interactiveImports.add(job);
+          promotedImports++;
+        }
+      }
+    }
+    dispatch();
+  }
+
+  private void submitImport(ImportJob job, boolean warmUp) {
+    synchronized (this) {
+      if (warmUp) {
+        warmUpImports.add(job);
+      } else {
+        interactiveImports.add(job);
+      }
+    }
+    dispatch();
+  }
+
+  private void dispatch() {
+    List<ImportJob> imports = new ArrayList<>();
+    List<WarmUp> startWarmUps = new ArrayList<>();
+    synchronized (this) {
+      while (runningImports < maxConcurrentImports) {
+        ImportJob job = interactiveImports.poll();
+        if (job == null && runningWarmUpImports < maxWarmUpImports) {
+          job = warmUpImports.poll();
+          if (job != null) {
+            job.warmUp = true;
+            runningWarmUpImports++;
+          }
+        }
+        if (job == null) {
+          break;
+        }
+        runningImports++;
+        imports.add(job);
+      }
+
+      for (StoreWarmUps store : storeWarmUps.values()) {
+        while (store.inFlight < maxWarmUpsPerStore && !store.queue.isEmpty()) {
+          WarmUp w = store.queue.poll();
+          w.started = true;
+          store.inFlight++;
+          queuedWarmUps--;
+          inFlightWarmUps++;
+          startWarmUps.add(w);
+        }
+      }
+    }
+
+    for (ImportJob job : imports) {
+      // Callers wait for the completion of their import workers, so a rejected import worker runs
+      // on the calling thread instead of being dropped.
+      execute(() -> runImport(job), e -> runImport(job));
+    }
+    for (WarmUp w : startWarmUps) {
+      execute(() -> startWarmUp(w), e -> warmUpFinished(w, e));
+    }
+  }
+
+  private void execute(Runnable task, Consumer<RuntimeException> onRejected) {
+    try {
+      executor.execute(task);
+    } catch (RuntimeException e) {
+      LOGGER.warn("Failed to submit snapshot import work", e);
+      onRejected.accept(e);
+    }
+  }
+
+  private void runImport(ImportJob job) {
+    try {
+      job.task.run();
+    } finally {
+      importFinished(job);
+    }
+  }
+
+  private void importFinished(ImportJob job) {
+    synchronized (this) {
+      runningImports--;
+      if (job.warmUp) {
+        runningWarmUpImports--;
+      }
+    }
+    dispatch();
+  }
+
+  private void startWarmUp(WarmUp w) {
+    CompletionStage<?> stage;
+    try {
+      stage = w.warmUp.get();
+    } catch (RuntimeException e) {
+      warmUpFinished(w, e);
+      return;
+    }
+    stage.whenComplete((r, e) -> warmUpFinished(w, e));
+  }
+
+  private void warmUpFinished(WarmUp w, @Nullable Throwable failure) {
+    if (failure != null) {
+      LOGGER.debug("Snapshot warm-up for {} failed", w.snapshotId, failure);
+    }
+    synchronized (this) {
+      if (!warmUps.remove(w.snapshotId, w)) {
+        // already accounted for
+        return;
+      }
+      if (failure != null) {
+        failedWarmUps++;
+      }
+      StoreWarmUps store = storeWarmUps.get(w.objectStore);
+      store.inFlight--;
+      inFlightWarmUps--;
+      removeIfIdle(w.objectStore, store);
+    }
+    dispatch();
+  }
+
+  private void removeIfIdle(String objectStore, StoreWarmUps store) {
+    if (store.inFlight == 0 && store.queue.isEmpty()) {
+      storeWarmUps.remove(objectStore);
+    }
+  }
+
+  /** Number of currently running import workers, interactive and warm-up. */
+  public synchronized int runningImports() {
+    return runningImports;
+  }
+
+  /** Number of currently running import workers of warm-ups. */
+  public synchronized int runningWarmUpImports() {
+    return runningWarmUpImports;
+  }
+
+  /** Number of import workers of interactive requests waiting for a slot. */
+  public synchronized int queuedInteractiveImports() {
+    return interactiveImports.size();
+  }
+
+  /** Number of import workers of warm-ups waiting for a slot. */
+  public synchronized int queuedWarmUpImports() {
+    return warmUpImports.size();
+  }
+
+  /** Number of queued, not yet started warm-ups. */
+  public synchronized int queuedWarmUps() {
+    return queuedWarmUps;
+  }
+
+  /** Number of started, not yet finished warm-ups. */
+  public synchronized int inFlightWarmUps() {
+    return inFlightWarmUps;
+  }
+
+  /** Age of the oldest queued, not yet started warm-up, {@code 0} if there is none. */
+  public long warmUpLag(TimeUnit unit) {
+    long oldest = Long.MAX_VALUE;
+    synchronized (this) {
+      for (StoreWarmUps store : storeWarmUps.values()) {
+        WarmUp w = store.queue.peek();
+        if (w != null) {
+          oldest = Math.min(oldest, w.queuedAtNanos);
+        }
+      }
+    }
+    return oldest == Long.MAX_VALUE
+        ? 0L
+        : unit.convert(Math.max(0L, nanoClock.getAsLong() - oldest), TimeUnit.NANOSECONDS);
+  }
+
+  /** Number of queued warm-ups since start. */
+  public synchronized long scheduledWarmUps() {
+    return scheduledWarmUps;
+  }
+
+  /** Number of warm-ups dropped since start, because the queue was full. */
+  public synchronized long droppedWarmUps() {
+    return droppedWarmUps;
+  }
+
+  /** Number of queued warm-ups removed since start, because of an interactive request. */
+  public synchronized long cancelledWarmUps() {
+    return cancelledWarmUps;
+  }
+
+  /** Number of failed warm-ups since start. */
+  public synchronized long failedWarmUps() {
+    return failedWarmUps;
+  }
+
+  /** Number of warm-up import workers promoted since start, because of an interactive request. */
+  public synchronized long promotedImports() {
+    return promotedImports;
+  }
+
+  private static final class ImportJob {
+    final Runnable task;
+    @Nullable final ObjId snapshotId;
+    // guarded by the scheduler
+    boolean warmUp;
+
+    ImportJob(Runnable task, @Nullable ObjId snapshotId) {
+      this.task = task;
+      this.snapshotId = snapshotId;
+    }
+  }
+
+  private static final class WarmUp {
+    final ObjId snapshotId;
+    final String objectStore;
+    final Supplier<CompletionStage<?>> warmUp;
+    final long queuedAtNanos;
+    // guarded by the scheduler
+    boolean started;
+
+    WarmUp(
+        ObjId snapshotId,
+        String objectStore,
+        Supplier<CompletionStage<?>> warmUp,
+        long queuedAtNanos) {
+      this.snapshotId = snapshotId;
+      this.objectStore = objectStore;
+      this.warmUp = warmUp;
+      this.queuedAtNanos = queuedAtNanos;
+    }
+  }
+
+  private static final class StoreWarmUps {
+    final ArrayDeque<WarmUp> queue = new ArrayDeque<>();
+    int inFlight;
+  }
+}
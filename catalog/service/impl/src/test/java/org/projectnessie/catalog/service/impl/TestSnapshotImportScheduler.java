@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.service.impl;
+
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestSnapshotImportScheduler {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  private final ArrayDeque<Runnable> pending = new ArrayDeque<>();
+  private final AtomicLong nanos = new AtomicLong();
+  private final Map<ObjId, CompletableFuture<Object>> warmUps = new HashMap<>();
+
+  private SnapshotImportScheduler scheduler(
+      int maxConcurrentImports, int maxWarmUpsPerStore, int maxQueuedWarmUps) {
+    return new SnapshotImportScheduler(
+        pending::add,
+        UnaryOperator.identity(),
+        nanos::get,
+        maxConcurrentImports,
+        maxWarmUpsPerStore,
+        maxQueuedWarmUps);
+  }
+
+  private void runPending() {
+    for (Runnable r; (r = pending.poll()) != null; ) {
+      r.run();
+    }
+  }
+
+  private boolean scheduleWarmUp(SnapshotImportScheduler scheduler, ObjId id, String store) {
+    return scheduler.scheduleWarmUp(
+        id,
+        store,
+        () -> {
+          CompletableFuture<Object> future = new CompletableFuture<>();
+          warmUps.put(id, future);
+          return future;
+        });
+  }
+
+  @Test
+  public void interactiveImportsFirst() {
+    SnapshotImportScheduler scheduler = scheduler(4, 2, 10);
+    List<String> ran = new ArrayList<>();
+
+    for (int i = 0; i < 3; i++) {
+      String name = "warm-up-" + i;
+      scheduler.warmUpExecutor(randomObjId()).execute(() -> ran.add(name));
+    }
+    // warm-up imports use at most half of the slots
+    soft.assertThat(scheduler.runningWarmUpImports()).isEqualTo(2);
+    soft.assertThat(scheduler.queuedWarmUpImports()).isEqualTo(1);
+
+    for (int i = 0; i < 3; i++) {
+      String name = "interactive-" + i;
+      scheduler.interactiveExecutor().execute(() -> ran.add(name));
+    }
+    soft.assertThat(scheduler.runningImports()).isEqualTo(4);
+    soft.assertThat(scheduler.queuedInteractiveImports()).isEqualTo(1);
+    soft.assertThat(pending).hasSize(4);
+
+    // A finished warm-up import frees a slot for the queued interactive import, not for the queued
+    // warm-up import.
+    pending.poll().run();
+    soft.assertThat(scheduler.queuedInteractiveImports()).isEqualTo(0);
+    soft.assertThat(scheduler.queuedWarmUpImports()).isEqualTo(1);
+
+    runPending();
+    soft.assertThat(ran)
+        .containsExactly(
+            "warm-up-0",
+            "warm-up-1",
+            "interactive-0",
+            "interactive-1",
+            "interactive-2",
+            "warm-up-2");
+    soft.assertThat(scheduler.runningImports()).isEqualTo(0);
+    soft.assertThat(scheduler.runningWarmUpImports()).isEqualTo(0);
+  }
+
+  @Test
+  public void warmUpsPerObjectStore() {
+    SnapshotImportScheduler scheduler = scheduler(4, 2, 10);
+
+    ObjId a1 = randomObjId();
+    ObjId a2 = randomObjId();
+    ObjId a3 = randomObjId();
+    ObjId b1 = randomObjId();
+    soft.assertThat(scheduleWarmUp(scheduler, a1, "s3://a")).isTrue();
+    soft.assertThat(scheduleWarmUp(scheduler, a2, "s3://a")).isTrue();
+    nanos.set(TimeUnit.SECONDS.toNanos(1));
+    soft.assertThat(scheduleWarmUp(scheduler, a3, "s3://a")).isTrue();
+    soft.assertThat(scheduleWarmUp(scheduler, b1, "s3://b")).isTrue();
+    // duplicate
+    soft.assertThat(scheduleWarmUp(scheduler, a1, "s3://a")).isFalse();
+
+    soft.assertThat(scheduler.inFlightWarmUps()).isEqualTo(3);
+    soft.assertThat(scheduler.queuedWarmUps()).isEqualTo(1);
+    soft.assertThat(scheduler.scheduledWarmUps()).isEqualTo(4);
+
+    runPending();
+    soft.assertThat(warmUps).containsOnlyKeys(a1, a2, b1);
+
+    nanos.set(TimeUnit.SECONDS.toNanos(6));
+    soft.assertThat(scheduler.warmUpLag(TimeUnit.MILLISECONDS)).isEqualTo(5000L);
+
+    warmUps.get(b1).complete(null);
+    soft.assertThat(pending).isEmpty();
+    soft.assertThat(scheduler.inFlightWarmUps()).isEqualTo(2);
+
+    warmUps.get(a1).completeExceptionally(new RuntimeException("failed"));
+    runPending();
+    soft.assertThat(warmUps).containsOnlyKeys(a1, a2, a3, b1);
+    soft.assertThat(scheduler.queuedWarmUps()).isEqualTo(0);
+    soft.assertThat(scheduler.warmUpLag(TimeUnit.MILLISECONDS)).isEqualTo(0L);
+    soft.assertThat(scheduler.failedWarmUps()).isEqualTo(1);
+
+    warmUps.get(a2).complete(null);
+    warmUps.get(a3).complete(null);
+    soft.assertThat(scheduler.inFlightWarmUps()).isEqualTo(0);
+    // a finished warm-up can be scheduled again
+    soft.assertThat(scheduleWarmUp(scheduler, a1, "s3://a")).isTrue();
+  }
+
+  @Test
+  public void dropWarmUpsWhenQueueFull() {
+    SnapshotImportScheduler scheduler = scheduler(4, 1, 1);
+
+    soft.assertThat(scheduleWarmUp(scheduler, randomObjId(), "s3://a")).isTrue();
+    soft.assertThat(scheduleWarmUp(scheduler, randomObjId(), "s3://a")).isTrue();
+    soft.assertThat(scheduleWarmUp(scheduler, randomObjId(), "s3://a")).isFalse();
+    soft.assertThat(scheduler.inFlightWarmUps()).isEqualTo(1);
+    soft.assertThat(scheduler.queuedWarmUps()).isEqualTo(1);
+    soft.assertThat(scheduler.droppedWarmUps()).isEqualTo(1);
+  }
+
+  @Test
+  public void prioritize() {
+    SnapshotImportScheduler scheduler = scheduler(2, 1, 10);
+
+    ObjId started = randomObjId();
+    ObjId queued = randomObjId();
+    scheduleWarmUp(scheduler, started, "s3://a");
+    scheduleWarmUp(scheduler, queued, "s3://a");
+    runPending();
+    soft.assertThat(warmUps).containsOnlyKeys(started);
+
+    // An interactive request imports the snapshot itself, the queued warm-up is obsolete.
+    scheduler.prioritize(queued);
+    soft.assertThat(scheduler.queuedWarmUps()).isEqualTo(0);
+    soft.assertThat(scheduler.cancelledWarmUps()).isEqualTo(1);
+
+    // Occupy all slots, so the import worker of the started warm-up has to wait.
+    scheduler.interactiveExecutor().execute(() -> {});
+    scheduler.interactiveExecutor().execute(() -> {});
+    List<String> ran = new ArrayList<>();
+    scheduler.warmUpExecutor(started).execute(() -> ran.add("warm-up"));
+    scheduler.interactiveExecutor().execute(() -> ran.add("interactive"));
+    soft.assertThat(scheduler.queuedWarmUpImports()).isEqualTo(1);
+    soft.assertThat(scheduler.queuedInteractiveImports()).isEqualTo(1);
+
+    // An interactive request waits for the in-flight warm-up, its import worker is promoted.
+    scheduler.prioritize(started);
+    soft.assertThat(scheduler.queuedWarmUpImports()).isEqualTo(0);
+    soft.assertThat(scheduler.queuedInteractiveImports()).isEqualTo(2);
+    soft.assertThat(scheduler.promotedImports()).isEqualTo(1);
+
+    runPending();
+    soft.assertThat(ran).containsExactly("interactive", "warm-up");
+    soft.assertThat(scheduler.runningImports()).isEqualTo(0);
+    soft.assertThat(scheduler.runningWarmUpImports()).isEqualTo(0);
+  }
+
+  @Test
+  public void saturatedExecutor() {
+    Executor saturated =
+        task -> {
+          if (!pending.isEmpty()) {
+            throw new RejectedExecutionException("saturated");
+          }
+          pending.add(task);
+        };
+    SnapshotImportScheduler scheduler =
+        new SnapshotImportScheduler(saturated, UnaryOperator.identity(), nanos::get, 4, 2, 10);
+
+    CompletableFuture<String> first =
+        CompletableFuture.supplyAsync(() -> "first", scheduler.interactiveExecutor());
+    CompletableFuture<String> second =
+        CompletableFuture.supplyAsync(() -> "second", scheduler.interactiveExecutor());
+    // The rejected import worker ran on the calling thread, the caller does not wait forever.
+    soft.assertThat(second).isCompletedWithValue("second");
+    soft.assertThat(first).isNotDone();
+    soft.assertThat(scheduler.runningImports()).isEqualTo(1);
+
+    // A rejected warm-up is accounted as failed and does not occupy its object store.
+    soft.assertThat(scheduleWarmUp(scheduler, randomObjId(), "s3://a")).isTrue();
+    soft.assertThat(scheduler.inFlightWarmUps()).isEqualTo(0);
+    soft.assertThat(scheduler.failedWarmUps()).isEqualTo(1);
+
+    runPending();
+    soft.assertThat(first).isCompletedWithValue("first");
+    soft.assertThat(scheduler.runningImports()).isEqualTo(0);
+  }
+
+  @Test
+  public void objectStore() {
+    soft.assertThat(SnapshotImportScheduler.objectStore("s3://bucket/path/metadata.json"))
+        .isEqualTo("s3://bucket");
+    soft.assertThat(SnapshotImportScheduler.objectStore("gs://bucket/path/metadata.json"))
+        .isEqualTo("gs://bucket");
+  }
+}
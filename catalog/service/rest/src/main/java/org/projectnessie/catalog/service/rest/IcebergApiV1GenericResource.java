@@ -21,6 +21,7 @@ import static org.projectnessie.catalog.formats.iceberg.rest.IcebergEndpoint.ice
 import static org.projectnessie.model.Content.Type.ICEBERG_TABLE;
 
 import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import io.smallrye.mutiny.Uni;
 import jakarta.annotation.security.PermitAll;
 import jakarta.enterprise.context.RequestScoped;
@@ -234,6 +235,7 @@ public class IcebergApiV1GenericResource extends IcebergApiV1ResourceBase {
   @POST
   @Path("/v1/{prefix}/transactions/commit")
   @Blocking
+  @RunOnVirtualThread
   public Uni<Void> commitTransaction(
       @PathParam("prefix") String prefix,
       @Valid IcebergCommitTransactionRequest commitTransactionRequest)
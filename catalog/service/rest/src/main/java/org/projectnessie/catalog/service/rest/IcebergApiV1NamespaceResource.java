@@ -29,6 +29,7 @@ import static org.projectnessie.versioned.RequestMeta.API_WRITE;
 import static org.projectnessie.versioned.RequestMeta.apiWrite;
 
 import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
@@ -122,6 +123,7 @@ public class IcebergApiV1NamespaceResource extends IcebergApiV1ResourceBase {
   @POST
   @Path("/v1/{prefix}/namespaces")
   @Blocking
+  @RunOnVirtualThread
   public IcebergCreateNamespaceResponse createNamespace(
       @PathParam("prefix") String prefix,
       @Valid IcebergCreateNamespaceRequest createNamespaceRequest)
@@ -202,6 +204,7 @@ public class IcebergApiV1NamespaceResource extends IcebergApiV1ResourceBase {
   @DELETE
   @Path("/v1/{prefix}/namespaces/{namespace}")
   @Blocking
+  @RunOnVirtualThread
   public void dropNamespace(
       @PathParam("prefix") String prefix, @PathParam("namespace") String namespace)
       throws IOException {
@@ -275,6 +278,7 @@ public class IcebergApiV1NamespaceResource extends IcebergApiV1ResourceBase {
   @GET
   @Path("/v1/{prefix}/namespaces")
   @Blocking
+  @RunOnVirtualThread
   public IcebergListNamespacesResponse listNamespaces(
       @PathParam("prefix") String prefix,
       @QueryParam("parent") String parent,
@@ -299,6 +303,7 @@ public class IcebergApiV1NamespaceResource extends IcebergApiV1ResourceBase {
   @HEAD
   @Path("/v1/{prefix}/namespaces/{namespace}")
   @Blocking
+  @RunOnVirtualThread
   public void namespaceExists(
       @PathParam("prefix") String prefix, @PathParam("namespace") String namespace)
       throws IOException {
@@ -325,6 +330,7 @@ public class IcebergApiV1NamespaceResource extends IcebergApiV1ResourceBase {
   @GET
   @Path("/v1/{prefix}/namespaces/{namespace}")
   @Blocking
+  @RunOnVirtualThread
   public IcebergGetNamespaceResponse loadNamespaceMetadata(
       @PathParam("prefix") String prefix, @PathParam("namespace") String namespace)
       throws IOException {
@@ -374,6 +380,7 @@ public class IcebergApiV1NamespaceResource extends IcebergApiV1ResourceBase {
   @POST
   @Path("/v1/{prefix}/namespaces/{namespace}/properties")
   @Blocking
+  @RunOnVirtualThread
   public IcebergUpdateNamespacePropertiesResponse updateProperties(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -16,6 +16,7 @@
 package org.projectnessie.catalog.service.rest;
 
 import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
@@ -93,6 +94,7 @@ public class IcebergApiV1S3SignResource extends IcebergApiV1ResourceBase {
   @POST
   @Path("/v1/{prefix}/s3sign/{signedParams}")
   @Blocking
+  @RunOnVirtualThread
   public Uni<IcebergS3SignResponse> s3signWIthOpaqueParams(
       IcebergS3SignRequest request,
       @PathParam("prefix") String prefix,
@@ -127,6 +129,7 @@ public class IcebergApiV1S3SignResource extends IcebergApiV1ResourceBase {
   @POST
   @Path("/v1/{prefix}/s3-sign/{identifier}")
   @Blocking
+  @RunOnVirtualThread
   public Uni<IcebergS3SignResponse> s3sign(
       IcebergS3SignRequest request,
       @PathParam("prefix") String prefix,
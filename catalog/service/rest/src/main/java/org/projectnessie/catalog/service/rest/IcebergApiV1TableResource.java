@@ -45,6 +45,7 @@ import static org.projectnessie.versioned.RequestMeta.apiWrite;
 
 import com.google.common.collect.Lists;
 import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
@@ -155,6 +156,7 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   @GET
   @Path("/v1/{prefix}/namespaces/{namespace}/tables/{table}")
   @Blocking
+  @RunOnVirtualThread
   public Uni<IcebergLoadTableResponse> loadTable(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -172,6 +174,7 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   @GET
   @Path("/v1/{prefix}/namespaces/{namespace}/tables/{table}/credentials")
   @Blocking
+  @RunOnVirtualThread
   public Uni<IcebergLoadCredentialsResponse> loadCredentials(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -308,6 +311,7 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   @POST
   @Path("/v1/{prefix}/namespaces/{namespace}/tables")
   @Blocking
+  @RunOnVirtualThread
   public Uni<IcebergCreateTableResponse> createTable(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -395,6 +399,7 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   @POST
   @Path("/v1/{prefix}/namespaces/{namespace}/register")
   @Blocking
+  @RunOnVirtualThread
   public Uni<IcebergLoadTableResponse> registerTable(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -521,6 +526,7 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   @DELETE
   @Path("/v1/{prefix}/namespaces/{namespace}/tables/{table}")
   @Blocking
+  @RunOnVirtualThread
   public void dropTable(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -547,6 +553,7 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   @GET
   @Path("/v1/{prefix}/namespaces/{namespace}/tables")
   @Blocking
+  @RunOnVirtualThread
   public IcebergListTablesResponse listTables(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -567,6 +574,7 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   @POST
   @Path("/v1/{prefix}/tables/rename")
   @Blocking
+  @RunOnVirtualThread
   public void renameTable(
       @PathParam("prefix") String prefix,
       @Valid @NotNull IcebergRenameTableRequest renameTableRequest)
@@ -579,6 +587,7 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   @HEAD
   @Path("/v1/{prefix}/namespaces/{namespace}/tables/{table}")
   @Blocking
+  @RunOnVirtualThread
   public void tableExists(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -593,6 +602,7 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   @POST
   @Path("/v1/{prefix}/namespaces/{namespace}/tables/{table}/metrics")
   @Blocking
+  @RunOnVirtualThread
   public void reportMetrics(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -616,6 +626,7 @@ public class IcebergApiV1TableResource extends IcebergApiV1ResourceBase {
   @POST
   @Path("/v1/{prefix}/namespaces/{namespace}/tables/{table}")
   @Blocking
+  @RunOnVirtualThread
   public Uni<IcebergCommitTableResponse> updateTable(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -33,6 +33,7 @@ import static org.projectnessie.versioned.RequestMeta.apiWrite;
 
 import com.google.common.collect.Lists;
 import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
@@ -115,6 +116,7 @@ public class IcebergApiV1ViewResource extends IcebergApiV1ResourceBase {
   @POST
   @Path("/v1/{prefix}/namespaces/{namespace}/views")
   @Blocking
+  @RunOnVirtualThread
   public Uni<IcebergLoadViewResponse> createView(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -170,6 +172,7 @@ public class IcebergApiV1ViewResource extends IcebergApiV1ResourceBase {
   @DELETE
   @Path("/v1/{prefix}/namespaces/{namespace}/views/{view}")
   @Blocking
+  @RunOnVirtualThread
   public void dropView(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -200,6 +203,7 @@ public class IcebergApiV1ViewResource extends IcebergApiV1ResourceBase {
   @GET
   @Path("/v1/{prefix}/namespaces/{namespace}/views")
   @Blocking
+  @RunOnVirtualThread
   public IcebergListTablesResponse listViews(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -222,6 +226,7 @@ public class IcebergApiV1ViewResource extends IcebergApiV1ResourceBase {
   @GET
   @Path("/v1/{prefix}/namespaces/{namespace}/views/{view}")
   @Blocking
+  @RunOnVirtualThread
   public Uni<IcebergLoadViewResponse> loadView(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -247,6 +252,7 @@ public class IcebergApiV1ViewResource extends IcebergApiV1ResourceBase {
   @POST
   @Path("/v1/{prefix}/views/rename")
   @Blocking
+  @RunOnVirtualThread
   public void renameView(
       @PathParam("prefix") String prefix,
       @Valid @NotNull IcebergRenameTableRequest renameTableRequest)
@@ -259,6 +265,7 @@ public class IcebergApiV1ViewResource extends IcebergApiV1ResourceBase {
   @HEAD
   @Path("/v1/{prefix}/namespaces/{namespace}/views/{view}")
   @Blocking
+  @RunOnVirtualThread
   public void viewExists(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
@@ -273,6 +280,7 @@ public class IcebergApiV1ViewResource extends IcebergApiV1ResourceBase {
   @POST
   @Path("/v1/{prefix}/namespaces/{namespace}/views/{view}")
   @Blocking
+  @RunOnVirtualThread
   public Uni<IcebergLoadViewResponse> updateView(
       @PathParam("prefix") String prefix,
       @PathParam("namespace") String namespace,
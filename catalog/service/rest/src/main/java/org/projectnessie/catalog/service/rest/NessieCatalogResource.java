@@ -24,6 +24,7 @@ import static org.projectnessie.services.authz.ApiContext.apiContext;
 import static org.projectnessie.versioned.RequestMeta.API_READ;
 
 import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.RequestScoped;
@@ -64,6 +65,7 @@ public class NessieCatalogResource extends AbstractCatalogResource {
   @Path("trees/{ref:" + REF_NAME_PATH_ELEMENT_REGEX + "}/snapshots")
   @Produces(MediaType.APPLICATION_JSON)
   @Blocking
+  @RunOnVirtualThread
   public Multi<Object> tableSnapshots(
       @PathParam("ref") String ref,
       @QueryParam("key") List<ContentKey> keys,
@@ -105,6 +107,7 @@ public class NessieCatalogResource extends AbstractCatalogResource {
   @Path("trees/{ref:" + REF_NAME_PATH_ELEMENT_REGEX + "}/snapshot/{key}")
   @Produces(MediaType.APPLICATION_JSON)
   @Blocking
+  @RunOnVirtualThread
   public Uni<Response> tableSnapshot(
       @PathParam("ref") String ref,
       @PathParam("key") ContentKey key,
@@ -121,6 +124,7 @@ public class NessieCatalogResource extends AbstractCatalogResource {
   @POST
   @Path("trees/{ref:" + REF_NAME_PATH_ELEMENT_REGEX + "}/commit")
   @Blocking
+  @RunOnVirtualThread
   @Produces(MediaType.APPLICATION_JSON)
   public Uni<Response> commit(
       @PathParam("ref") String ref,
@@ -29,10 +29,14 @@ dependencies {
   implementation(project(":nessie-events-spi"))
   implementation(project(":nessie-events-service"))
   implementation(project(":nessie-quarkus-config"))
+  implementation(project(":nessie-services"))
+  implementation(project(":nessie-versioned-storage-common"))
 
   // Quarkus
   implementation(enforcedPlatform(libs.quarkus.bom))
   implementation("io.quarkus:quarkus-vertx")
+  implementation("io.quarkus:quarkus-rest")
+  implementation("io.quarkus:quarkus-rest-jackson")
 
   // Metrics
   implementation("io.micrometer:micrometer-core")
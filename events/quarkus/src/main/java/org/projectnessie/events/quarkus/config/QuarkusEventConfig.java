@@ -42,6 +42,9 @@ public interface QuarkusEventConfig extends EventConfig {
   @WithName("retry")
   RetryConfig getRetryConfig();
 
+  @WithName("feed")
+  FeedConfig getFeedConfig();
+
   interface RetryConfig {
 
     /**
@@ -74,4 +77,64 @@ public interface QuarkusEventConfig extends EventConfig {
       return next.compareTo(max) > 0 ? max : next;
     }
   }
+
+  interface FeedConfig {
+
+    /**
+     * Whether events are also appended to the durable event feed of the repository (disabled by
+     * default). Consumers read the feed via the {@code /api/v2/events/feed} endpoint and can
+     * resume from the last processed sequence number. The endpoint only returns events for
+     * references the caller is allowed to view.
+     *
+     * <p>Events are buffered in memory before they are written to the feed, see {@code
+     * flush-size} and {@code flush-interval}. Buffered events are lost if Nessie terminates
+     * abnormally, and only up to {@code max-pending} events are kept while writing to the feed
+     * fails.
+     */
+    @WithName("enable")
+    @WithDefault("false")
+    boolean isEnabled();
+
+    /** The number of buffered events that triggers writing a batch to the feed. */
+    @WithName("flush-size")
+    @WithDefault("100")
+    int getFlushSize();
+
+    /** The maximum time events are buffered before being written to the feed. */
+    @WithName("flush-interval")
+    @WithDefault("PT0.5S")
+    Duration getFlushInterval();
+
+    /**
+     * The maximum number of events retained in memory, if writing to the feed fails. Older events
+     * are dropped once this limit is exceeded.
+     */
+    @WithName("max-pending")
+    @WithDefault("10000")
+    int getMaxPending();
+
+    /** The maximum time a feed request waits for new events. */
+    @WithName("max-wait")
+    @WithDefault("PT30S")
+    Duration getMaxWait();
+
+    /** The interval at which waiting feed requests check for events appended by other nodes. */
+    @WithName("poll-interval")
+    @WithDefault("PT0.5S")
+    Duration getPollInterval();
+
+    /** How long events are retained in the feed, older events are removed. */
+    @WithName("retention")
+    @WithDefault("P7D")
+    Duration getRetention();
+
+    /**
+     * The interval at which expired events are removed from the feed. Each check also refreshes the
+     * retained feed objects, so this interval must be shorter than the cutoff used for repository
+     * cleanups, otherwise a cleanup purges events that are still retained.
+     */
+    @WithName("retention-check-interval")
+    @WithDefault("PT1H")
+    Duration getRetentionCheckInterval();
+  }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.events.quarkus.feed;
+
+import static org.projectnessie.events.service.feed.EventFeed.DEFAULT_MAX_BATCH_BYTES;
+import static org.projectnessie.events.service.feed.EventFeed.DEFAULT_MAX_BATCH_ENTRIES;
+
+import io.quarkus.arc.lookup.LookupIfProperty;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+import org.projectnessie.events.quarkus.config.QuarkusEventConfig;
+import org.projectnessie.events.quarkus.config.QuarkusEventConfig.FeedConfig;
+import org.projectnessie.events.service.feed.EventFeed;
+import org.projectnessie.events.service.feed.EventFeedSubscriber;
+import org.projectnessie.events.spi.EventSubscriber;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+
+public class EventFeedProducers {
+
+  @Produces
+  @Singleton
+  @LookupIfProperty(name = "nessie.version.store.events.feed.enable", stringValue = "true")
+  public EventFeed produceEventFeed(QuarkusEventConfig config, Instance<Persist> persist) {
+    if (!persist.isResolvable()) {
+      throw new IllegalStateException("The event feed requires a Nessie version store");
+    }
+    return new EventFeed(
+        persist.get(),
+        DEFAULT_MAX_BATCH_ENTRIES,
+        DEFAULT_MAX_BATCH_BYTES,
+        config.getFeedConfig().getPollInterval());
+  }
+
+  @Produces
+  @Singleton
+  @LookupIfProperty(name = "nessie.version.store.events.feed.enable", stringValue = "true")
+  public EventSubscriber produceEventFeedSubscriber(
+      QuarkusEventConfig config, Instance<EventFeed> feed) {
+    FeedConfig feedConfig = config.getFeedConfig();
+    return new EventFeedSubscriber(
+        feed.get(),
+        feedConfig.getFlushSize(),
+        feedConfig.getFlushInterval(),
+        feedConfig.getMaxPending(),
+        feedConfig.getRetention(),
+        feedConfig.getRetentionCheckInterval());
+  }
+}
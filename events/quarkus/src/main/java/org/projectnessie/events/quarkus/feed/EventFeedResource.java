@@ -0,0 +1,225 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.events.quarkus.feed;
+
+import static org.projectnessie.services.authz.ApiContext.apiContext;
+import static org.projectnessie.services.impl.RefUtil.toNamedRef;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.projectnessie.events.api.Event;
+import org.projectnessie.events.api.EventType;
+import org.projectnessie.events.api.MultiReferenceEvent;
+import org.projectnessie.events.api.ReferenceEvent;
+import org.projectnessie.events.quarkus.config.QuarkusEventConfig;
+import org.projectnessie.events.service.feed.EventFeed;
+import org.projectnessie.events.service.feed.EventFeedEntry;
+import org.projectnessie.events.service.feed.EventFeedPage;
+import org.projectnessie.events.spi.EventTypeFilter;
+import org.projectnessie.model.EventFeedRecord;
+import org.projectnessie.model.EventFeedResponse;
+import org.projectnessie.model.ImmutableEventFeedResponse;
+import org.projectnessie.model.Reference;
+import org.projectnessie.services.authz.AccessContext;
+import org.projectnessie.services.authz.ApiContext;
+import org.projectnessie.services.authz.Authorizer;
+import org.projectnessie.services.authz.BatchAccessChecker;
+import org.projectnessie.services.authz.Check;
+import org.projectnessie.versioned.NamedRef;
+
+/**
+ * Long-poll endpoint to consume the durable {@linkplain EventFeed event feed}.
+ *
+ * <p>Consumers pass the {@code nextCursor} of the previous response as the {@code cursor} of the
+ * next request. If no matching events are available, the request waits up to {@code wait} (an ISO
+ * duration or a number of seconds, capped by {@code nessie.version.store.events.feed.max-wait}) for
+ * new events.
+ *
+ * <p>Only events for references the caller is allowed to {@linkplain
+ * BatchAccessChecker#canViewReference(NamedRef) view} are returned.
+ */
+@RequestScoped
+@Path("api/v2/events/feed")
+public class EventFeedResource {
+
+  static final int MAX_RECORDS_LIMIT = 1000;
+
+  static final ApiContext EVENTS_V2 = apiContext("Nessie", 2);
+
+  private final Instance<EventFeed> feed;
+  private final QuarkusEventConfig config;
+  private final Authorizer authorizer;
+  private final AccessContext accessContext;
+
+  // Mandated by CDI 2.0
+  public EventFeedResource() {
+    this(null, null, null, null);
+  }
+
+  @Inject
+  public EventFeedResource(
+      Instance<EventFeed> feed,
+      QuarkusEventConfig config,
+      Authorizer authorizer,
+      AccessContext accessContext) {
+    this.feed = feed;
+    this.config = config;
+    this.authorizer = authorizer;
+    this.accessContext = accessContext;
+  }
+
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public EventFeedResponse readFeed(
+      @QueryParam("cursor") @DefaultValue("0") long cursor,
+      @QueryParam("max-records") @DefaultValue("100") int maxRecords,
+      @QueryParam("type") List<String> types,
+      @QueryParam("ref") String reference,
+      @QueryParam("wait") String wait)
+      throws InterruptedException {
+    if (!feed.isResolvable()) {
+      throw new NotFoundException("Event feed is not enabled");
+    }
+    EventFeed eventFeed = feed.get();
+
+    int limit = Math.max(1, Math.min(maxRecords, MAX_RECORDS_LIMIT));
+    Predicate<EventFeedEntry> filter = EventFeed.entryFilter(typeFilter(types), reference);
+    long deadline = System.nanoTime() + waitDuration(wait).toNanos();
+
+    while (true) {
+      EventFeedPage page = eventFeed.read(cursor, limit, filter);
+      cursor = page.nextCursor();
+      List<EventFeedEntry> entries = authorizedEntries(eventFeed, page.entries());
+      if (!entries.isEmpty()) {
+        return response(eventFeed, entries, page);
+      }
+      if (page.hasMore()) {
+        // Only non-matching or not visible entries have been scanned so far, continue immediately.
+        continue;
+      }
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0L || !eventFeed.awaitEntries(cursor, Duration.ofNanos(remaining))) {
+        return response(eventFeed, entries, page);
+      }
+    }
+  }
+
+  /** Returns the entries for references that the caller is allowed to view. */
+  private List<EventFeedEntry> authorizedEntries(
+      EventFeed eventFeed, List<EventFeedEntry> entries) {
+    if (entries.isEmpty()) {
+      return entries;
+    }
+
+    BatchAccessChecker checker = authorizer.startAccessCheck(accessContext, EVENTS_V2);
+    List<NamedRef> refs = new ArrayList<>(entries.size());
+    Set<NamedRef> checked = new HashSet<>();
+    for (EventFeedEntry entry : entries) {
+      NamedRef ref = namedRef(eventFeed.toEvent(entry));
+      refs.add(ref);
+      if (ref != null && checked.add(ref)) {
+        checker.canViewReference(ref);
+      }
+    }
+
+    Set<NamedRef> denied = new HashSet<>();
+    for (Check check : checker.check().keySet()) {
+      denied.add(check.ref());
+    }
+
+    List<EventFeedEntry> authorized = new ArrayList<>(entries.size());
+    for (int i = 0; i < entries.size(); i++) {
+      NamedRef ref = refs.get(i);
+      // Events that are not related to a reference are not exposed.
+      if (ref != null && !denied.contains(ref)) {
+        authorized.add(entries.get(i));
+      }
+    }
+    return authorized;
+  }
+
+  private static NamedRef namedRef(Event event) {
+    Reference reference;
+    if (event instanceof ReferenceEvent) {
+      reference = ((ReferenceEvent) event).getReference();
+    } else if (event instanceof MultiReferenceEvent) {
+      reference = ((MultiReferenceEvent) event).getTargetReference();
+    } else {
+      return null;
+    }
+    return toNamedRef(reference);
+  }
+
+  private Duration waitDuration(String wait) {
+    if (wait == null || wait.isEmpty()) {
+      return Duration.ZERO;
+    }
+    Duration duration;
+    try {
+      duration =
+          Character.isDigit(wait.charAt(0))
+              ? Duration.ofSeconds(Long.parseLong(wait))
+              : Duration.parse(wait);
+    } catch (NumberFormatException | DateTimeParseException e) {
+      throw new BadRequestException("Invalid wait duration: " + wait);
+    }
+    Duration maxWait = config.getFeedConfig().getMaxWait();
+    return duration.compareTo(maxWait) > 0 ? maxWait : duration;
+  }
+
+  private static EventTypeFilter typeFilter(List<String> types) {
+    if (types == null || types.isEmpty()) {
+      return EventTypeFilter.all();
+    }
+    List<EventType> eventTypes = new ArrayList<>(types.size());
+    for (String type : types) {
+      try {
+        eventTypes.add(EventType.valueOf(type));
+      } catch (IllegalArgumentException e) {
+        throw new BadRequestException("Unknown event type: " + type);
+      }
+    }
+    return EventTypeFilter.of(eventTypes);
+  }
+
+  private static EventFeedResponse response(
+      EventFeed eventFeed, List<EventFeedEntry> entries, EventFeedPage page) {
+    ImmutableEventFeedResponse.Builder response =
+        EventFeedResponse.builder().nextCursor(page.nextCursor()).isHasMore(page.hasMore());
+    for (EventFeedEntry entry : entries) {
+      response.addRecords(
+          EventFeedRecord.of(
+              entry.sequence(), entry.type().name(), entry.reference(), eventFeed.toJson(entry)));
+    }
+    return response.build();
+  }
+}
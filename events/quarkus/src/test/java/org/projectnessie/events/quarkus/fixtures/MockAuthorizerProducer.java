@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2023 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.events.quarkus.fixtures;
+
+import io.quarkus.test.Mock;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+import java.security.Principal;
+import org.projectnessie.services.authz.AbstractBatchAccessChecker;
+import org.projectnessie.services.authz.AccessContext;
+import org.projectnessie.services.authz.Authorizer;
+
+/** Provides the authorizer and access context beans, which are produced by the Nessie server. */
+@Mock
+public class MockAuthorizerProducer {
+
+  @Produces
+  @Singleton
+  public Authorizer produceAuthorizer() {
+    return (context, apiContext) -> AbstractBatchAccessChecker.NOOP_ACCESS_CHECKER;
+  }
+
+  @Produces
+  @RequestScoped
+  public AccessContext produceAccessContext() {
+    Principal anonymous = () -> "";
+    return () -> anonymous;
+  }
+}
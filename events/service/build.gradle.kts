@@ -23,10 +23,12 @@ dependencies {
   implementation(project(":nessie-versioned-spi"))
   implementation(project(":nessie-events-api"))
   implementation(project(":nessie-events-spi"))
+  implementation(project(":nessie-versioned-storage-common"))
 
   implementation(platform(libs.jackson.bom))
   implementation("com.fasterxml.jackson.core:jackson-core")
   implementation("com.fasterxml.jackson.core:jackson-databind")
+  implementation("com.fasterxml.jackson.datatype:jackson-datatype-jdk8")
 
   implementation(libs.slf4j.api)
 
@@ -39,6 +41,8 @@ dependencies {
   testImplementation(platform(libs.junit.bom))
   testImplementation(libs.bundles.junit.testing)
   testImplementation(libs.guava)
+  testImplementation(project(":nessie-versioned-storage-testextension"))
+  testImplementation(project(":nessie-versioned-storage-inmemory-tests"))
   testRuntimeOnly(libs.logback.classic)
 
   testCompileOnly(libs.microprofile.openapi)
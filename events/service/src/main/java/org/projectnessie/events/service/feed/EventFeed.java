@@ -0,0 +1,530 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.events.service.feed;
+
+import static java.util.UUID.randomUUID;
+import static org.projectnessie.events.service.feed.EventFeedEntry.eventFeedEntry;
+import static org.projectnessie.events.service.feed.EventFeedPage.eventFeedPage;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.projectnessie.events.api.Event;
+import org.projectnessie.events.api.MultiReferenceEvent;
+import org.projectnessie.events.api.ReferenceEvent;
+import org.projectnessie.events.spi.EventTypeFilter;
+import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
+import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Durable, append-only feed of {@link Event}s for a single Nessie repository.
+ *
+ * <p>Events are persisted in numbered {@linkplain EventFeedBatchObj batches} and get monotonically
+ * increasing sequence numbers, starting at {@code 0}. A {@linkplain EventFeedHeadObj head object}
+ * tracks the most recent batch and is updated using {@link Persist#updateConditional(
+ * org.projectnessie.versioned.storage.common.objtypes.UpdateableObj,
+ * org.projectnessie.versioned.storage.common.objtypes.UpdateableObj) conditional updates}, so
+ * multiple Nessie instances can append to the same feed concurrently.
+ *
+ * <p>Consumers read the feed using a cursor, which is the sequence number of the next entry to
+ * return. A consumer that remembers the {@linkplain EventFeedPage#nextCursor() next cursor} of the
+ * last page it processed can resume after a restart without losing events.
+ *
+ * <p>Batches are not reachable from any reference, so {@link #expire(Duration)} must be called
+ * periodically: it removes batches older than the retention period and re-stores the head and the
+ * retained batches, which keeps them from being purged by a repository cleanup. Reads skip batches
+ * that are missing nevertheless.
+ */
+public class EventFeed {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(EventFeed.class);
+
+  public static final int DEFAULT_MAX_BATCH_ENTRIES = 250;
+  public static final int DEFAULT_MAX_BATCH_BYTES = 256 * 1024;
+  public static final int MAX_BATCHES_PER_READ = 64;
+
+  /** Number of batches fetched from the backend at once while reading. */
+  static final int FETCH_BATCHES = 8;
+
+  static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(500);
+
+  private final Persist persist;
+  private final ObjectMapper mapper;
+  private final int maxBatchEntries;
+  private final int maxBatchBytes;
+  private final Duration pollInterval;
+
+  /** Notified after an append on this instance, lets waiting readers wake up early. */
+  private final Object appendMonitor = new Object();
+
+  public EventFeed(Persist persist) {
+    this(persist, DEFAULT_MAX_BATCH_ENTRIES, DEFAULT_MAX_BATCH_BYTES, DEFAULT_POLL_INTERVAL);
+  }
+
+  public EventFeed(
+      Persist persist, int maxBatchEntries, int maxBatchBytes, Duration pollInterval) {
+    this.persist = persist;
+    this.maxBatchEntries = maxBatchEntries;
+    this.maxBatchBytes = maxBatchBytes;
+    this.pollInterval = pollInterval;
+    this.mapper = new ObjectMapper().registerModule(new Jdk8Module());
+  }
+
+  /**
+   * Returns a filter for feed entries that matches the given event types and, if not {@code null},
+   * the given reference name.
+   */
+  public static Predicate<EventFeedEntry> entryFilter(
+      EventTypeFilter types, @Nullable String reference) {
+    if (reference == null) {
+      return e -> types.test(e.type());
+    }
+    return e -> types.test(e.type()) && reference.equals(e.reference());
+  }
+
+  /** The sequence number that will be assigned to the next appended event. */
+  public long headCursor() {
+    EventFeedHeadObj head = fetchHead();
+    return head != null ? head.nextSequence() : 0L;
+  }
+
+  /**
+   * Appends the given events to the feed.
+   *
+   * @return the sequence number of the last appended event, or {@code -1} if {@code events} is
+   *     empty
+   * @throws EventFeedAppendException if the events could not be appended, some of the events may
+   *     have been appended though
+   */
+  public long append(List<? extends Event> events) {
+    return append(events, -1L);
+  }
+
+  /**
+   * Appends the given events to the feed, skipping events that have already been appended at or
+   * after the sequence number {@code retryFrom}.
+   *
+   * <p>Used to retry a failed append: pass the {@link EventFeedAppendException#retryFrom()} of the
+   * failure, so that events that have been appended before the failure are not appended again.
+   *
+   * @param retryFrom sequence number from which on already appended events are skipped, a negative
+   *     value disables the check
+   * @return the sequence number of the last appended event, or {@code -1} if no event has been
+   *     appended
+   * @throws EventFeedAppendException if the events could not be appended, some of the events may
+   *     have been appended though
+   */
+  public long append(List<? extends Event> events, long retryFrom) {
+    if (events.isEmpty()) {
+      return -1L;
+    }
+
+    AppendAttempt attempt = new AppendAttempt(retryFrom);
+    long last = -1L;
+    try {
+      Set<String> appended = retryFrom >= 0L ? appendedEventIds(retryFrom) : Set.of();
+
+      List<EventFeedEntry> chunk = new ArrayList<>();
+      long chunkBytes = 0L;
+      for (Event event : events) {
+        EventFeedEntry entry = toEntry(event);
+        if (appended.contains(entry.eventId())) {
+          continue;
+        }
+        int size = entry.payload().length();
+        if (!chunk.isEmpty()
+            && (chunk.size() == maxBatchEntries || chunkBytes + size > maxBatchBytes)) {
+          last = appendBatch(chunk, attempt);
+          chunk = new ArrayList<>();
+          chunkBytes = 0L;
+        }
+        chunk.add(entry);
+        chunkBytes += size;
+      }
+      if (!chunk.isEmpty()) {
+        last = appendBatch(chunk, attempt);
+      }
+    } catch (RuntimeException e) {
+      throw new EventFeedAppendException(attempt.retryFrom, e);
+    } finally {
+      if (last >= 0L) {
+        synchronized (appendMonitor) {
+          appendMonitor.notifyAll();
+        }
+      }
+    }
+
+    return last;
+  }
+
+  /** IDs of the events that have been appended at or after the given sequence number. */
+  private Set<String> appendedEventIds(long sequence) {
+    Set<String> ids = new HashSet<>();
+    long cursor = sequence;
+    while (true) {
+      EventFeedPage page = read(cursor, Integer.MAX_VALUE, e -> e.eventId() != null);
+      for (EventFeedEntry entry : page.entries()) {
+        ids.add(entry.eventId());
+      }
+      cursor = page.nextCursor();
+      if (!page.hasMore()) {
+        return ids;
+      }
+    }
+  }
+
+  /**
+   * Reads entries starting at {@code cursor}.
+   *
+   * <p>The number of scanned batches is limited, so a selective {@code filter} may yield an empty
+   * page with {@link EventFeedPage#hasMore()} being {@code true}. Callers must continue with the
+   * returned {@linkplain EventFeedPage#nextCursor() next cursor} in that case.
+   *
+   * @param cursor sequence number of the first entry to return, values less than {@code 0} are
+   *     treated as {@code 0}
+   * @param maxEntries maximum number of entries to return
+   * @param filter only entries that match this filter are returned
+   */
+  public EventFeedPage read(long cursor, int maxEntries, Predicate<EventFeedEntry> filter) {
+    long nextCursor = Math.max(cursor, 0L);
+
+    EventFeedHeadObj head = fetchHead();
+    if (head == null || nextCursor >= head.nextSequence()) {
+      return eventFeedPage(List.of(), nextCursor, false);
+    }
+
+    List<EventFeedEntry> entries = new ArrayList<>();
+    long lastBatchNumber = head.lastBatchNumber();
+    long batchNumber = findBatchNumber(nextCursor, head.firstBatchNumber(), lastBatchNumber);
+    int scannedBatches = 0;
+
+    scan:
+    while (batchNumber <= lastBatchNumber && scannedBatches < MAX_BATCHES_PER_READ) {
+      int fetch = (int) Math.min(FETCH_BATCHES, lastBatchNumber - batchNumber + 1);
+      EventFeedBatchObj[] batches = fetchBatches(batchNumber, fetch);
+      for (EventFeedBatchObj batch : batches) {
+        scannedBatches++;
+        if (batch == null) {
+          // expired concurrently or purged by a repository cleanup
+          continue;
+        }
+        for (EventFeedEntry entry : batch.entries()) {
+          if (entry.sequence() < nextCursor) {
+            continue;
+          }
+          if (entries.size() == maxEntries) {
+            break scan;
+          }
+          nextCursor = entry.sequence() + 1;
+          if (filter.test(entry)) {
+            entries.add(entry);
+          }
+        }
+      }
+      batchNumber += fetch;
+    }
+
+    return eventFeedPage(entries, nextCursor, nextCursor < head.nextSequence());
+  }
+
+  /**
+   * Removes the batches that contain only events older than {@code retention}, the most recent
+   * batch is always retained.
+   *
+   * <p>The head and the retained batches are stored again, which refreshes their {@linkplain
+   * Obj#referenced() referenced timestamps}. This must happen more often than the cutoff of a
+   * repository cleanup, otherwise the cleanup purges them, because they are not reachable from any
+   * reference.
+   *
+   * @return the number of removed batches
+   */
+  public int expire(Duration retention) {
+    long cutoffMicros = persist.config().currentTimeMicros() - retention.toNanos() / 1000L;
+    while (true) {
+      EventFeedHeadObj head = fetchHead();
+      if (head == null) {
+        return 0;
+      }
+
+      long lastBatchNumber = head.lastBatchNumber();
+      long firstBatchNumber = head.firstBatchNumber();
+      List<ObjId> expired = new ArrayList<>();
+      for (long batchNumber = firstBatchNumber;
+          batchNumber <= lastBatchNumber;
+          batchNumber += FETCH_BATCHES) {
+        int fetch = (int) Math.min(FETCH_BATCHES, lastBatchNumber - batchNumber + 1);
+        EventFeedBatchObj[] batches = fetchBatches(batchNumber, fetch);
+        List<Obj> retained = new ArrayList<>(fetch);
+        for (int i = 0; i < fetch; i++) {
+          EventFeedBatchObj batch = batches[i];
+          long number = batchNumber + i;
+          if (number == firstBatchNumber
+              && number < lastBatchNumber
+              && (batch == null || batch.createdMicros() < cutoffMicros)) {
+            firstBatchNumber++;
+            if (batch != null) {
+              expired.add(batch.id());
+            }
+          } else if (batch != null) {
+            retained.add(batch.withReferenced(0L));
+          }
+        }
+        try {
+          persist.storeObjs(retained.toArray(new Obj[0]));
+        } catch (ObjTooLargeException e) {
+          throw new RuntimeException(e);
+        }
+      }
+
+      try {
+        if (!persist.updateConditional(
+            head, newHead(firstBatchNumber, lastBatchNumber, head.nextSequence()))) {
+          // concurrent append or expiration, retry with the current head
+          continue;
+        }
+      } catch (ObjTooLargeException e) {
+        throw new RuntimeException(e);
+      }
+      persist.deleteObjs(expired.toArray(new ObjId[0]));
+      if (!expired.isEmpty()) {
+        LOGGER.debug("Expired {} event feed batches", expired.size());
+      }
+      return expired.size();
+    }
+  }
+
+  /**
+   * Waits until the feed contains entries at or after {@code cursor}, or the timeout elapses.
+   *
+   * <p>Appends on this instance wake up waiting callers immediately, appends on other Nessie
+   * instances are noticed by re-checking the feed's head periodically.
+   *
+   * @return {@code true} if the feed contains entries at or after {@code cursor}
+   */
+  public boolean awaitEntries(long cursor, Duration timeout) throws InterruptedException {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    while (true) {
+      if (headCursor() > cursor) {
+        return true;
+      }
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0L) {
+        return false;
+      }
+      long waitNanos = Math.min(remaining, pollInterval.toNanos());
+      synchronized (appendMonitor) {
+        TimeUnit.NANOSECONDS.timedWait(appendMonitor, waitNanos);
+      }
+    }
+  }
+
+  /**
+   * Finds the number of the batch that contains the entry with the given sequence number, using a
+   * binary search over the batch numbers. Missing batches are treated as preceding the entry.
+   */
+  private long findBatchNumber(long sequence, long firstBatchNumber, long lastBatchNumber) {
+    long low = firstBatchNumber;
+    long high = lastBatchNumber;
+    while (low < high) {
+      long mid = (low + high + 1) >>> 1;
+      EventFeedBatchObj batch = fetchBatches(mid, 1)[0];
+      if (batch == null || batch.firstSequence() <= sequence) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return low;
+  }
+
+  private long appendBatch(List<EventFeedEntry> unsequenced, AppendAttempt attempt) {
+    while (true) {
+      EventFeedHeadObj head = fetchHead();
+      if (head == null) {
+        storeInitialHead();
+        continue;
+      }
+      if (attempt.retryFrom < 0L) {
+        attempt.retryFrom = head.nextSequence();
+      }
+
+      long batchNumber = head.lastBatchNumber() + 1;
+      long sequence = head.nextSequence();
+      List<EventFeedEntry> entries = new ArrayList<>(unsequenced.size());
+      for (EventFeedEntry entry : unsequenced) {
+        entries.add(
+            eventFeedEntry(
+                sequence++, entry.type(), entry.reference(), entry.payload(), entry.eventId()));
+      }
+      EventFeedBatchObj batch =
+          EventFeedBatchObj.builder()
+              .batchNumber(batchNumber)
+              .createdMicros(persist.config().currentTimeMicros())
+              .entries(entries)
+              .build();
+
+      try {
+        if (!persist.storeObj(batch, true)) {
+          // Either a concurrent append won the race for this batch number, or an earlier append
+          // failed after writing the batch but before updating the head. Help it along and retry,
+          // unless the existing batch was written by an earlier attempt to append these events.
+          LOGGER.debug("Event feed batch {} already exists, advancing head", batchNumber);
+          EventFeedBatchObj existing = fetchBatch(batchNumber);
+          advanceHead(head, existing);
+          if (eventIds(existing.entries()).equals(eventIds(entries))) {
+            return existing.lastSequence();
+          }
+          continue;
+        }
+        // If the conditional update fails, another instance already advanced the head to this
+        // batch, because no other batch with this number can exist.
+        advanceHead(head, batch);
+      } catch (ObjTooLargeException | ObjNotFoundException e) {
+        throw new RuntimeException(e);
+      }
+
+      return batch.lastSequence();
+    }
+  }
+
+  private static List<String> eventIds(List<EventFeedEntry> entries) {
+    List<String> ids = new ArrayList<>(entries.size());
+    for (EventFeedEntry entry : entries) {
+      ids.add(entry.eventId());
+    }
+    return ids;
+  }
+
+  private void advanceHead(EventFeedHeadObj head, EventFeedBatchObj batch)
+      throws ObjTooLargeException {
+    persist.updateConditional(
+        head,
+        newHead(head.firstBatchNumber(), batch.batchNumber(), batch.lastSequence() + 1));
+  }
+
+  private static EventFeedHeadObj newHead(
+      long firstBatchNumber, long lastBatchNumber, long nextSequence) {
+    return EventFeedHeadObj.builder()
+        .versionToken(randomUUID().toString())
+        .firstBatchNumber(firstBatchNumber)
+        .lastBatchNumber(lastBatchNumber)
+        .nextSequence(nextSequence)
+        .build();
+  }
+
+  private void storeInitialHead() {
+    try {
+      persist.storeObj(
+          EventFeedHeadObj.builder()
+              .versionToken(randomUUID().toString())
+              .lastBatchNumber(-1L)
+              .nextSequence(0L)
+              .build());
+    } catch (ObjTooLargeException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Nullable
+  private EventFeedHeadObj fetchHead() {
+    try {
+      return persist.fetchTypedObj(
+          EventFeedHeadObj.OBJ_ID, EventFeedHeadObj.OBJ_TYPE, EventFeedHeadObj.class);
+    } catch (ObjNotFoundException e) {
+      return null;
+    }
+  }
+
+  /** Fetches {@code count} batches starting at {@code batchNumber}, missing batches are null. */
+  private EventFeedBatchObj[] fetchBatches(long batchNumber, int count) {
+    ObjId[] ids = new ObjId[count];
+    for (int i = 0; i < count; i++) {
+      ids[i] = EventFeedBatchObj.batchObjId(batchNumber + i);
+    }
+    return persist.fetchTypedObjsIfExist(
+        ids, EventFeedBatchObj.OBJ_TYPE, EventFeedBatchObj.class);
+  }
+
+  private EventFeedBatchObj fetchBatch(long batchNumber) throws ObjNotFoundException {
+    return persist.fetchTypedObj(
+        EventFeedBatchObj.batchObjId(batchNumber),
+        EventFeedBatchObj.OBJ_TYPE,
+        EventFeedBatchObj.class);
+  }
+
+  private EventFeedEntry toEntry(Event event) {
+    String payload;
+    try {
+      payload = mapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+    return eventFeedEntry(
+        -1L, event.getType(), referenceName(event), payload, event.getIdAsText());
+  }
+
+  @Nullable
+  static String referenceName(Event event) {
+    if (event instanceof ReferenceEvent) {
+      return ((ReferenceEvent) event).getReference().getName();
+    }
+    if (event instanceof MultiReferenceEvent) {
+      return ((MultiReferenceEvent) event).getTargetReference().getName();
+    }
+    return null;
+  }
+
+  private static final class AppendAttempt {
+    /** The sequence number of the feed's head before the first write of the attempt. */
+    long retryFrom;
+
+    AppendAttempt(long retryFrom) {
+      this.retryFrom = retryFrom;
+    }
+  }
+
+  /** Deserializes the {@link EventFeedEntry#payload() payload} of a feed entry. */
+  public Event toEvent(EventFeedEntry entry) {
+    try {
+      return mapper.readValue(entry.payload(), Event.class);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /** Parses the {@link EventFeedEntry#payload() payload} of a feed entry as a JSON tree. */
+  public JsonNode toJson(EventFeedEntry entry) {
+    try {
+      return mapper.readTree(entry.payload());
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
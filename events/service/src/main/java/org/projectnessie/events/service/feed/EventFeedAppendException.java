@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.events.service.feed;
+
+/**
+ * Thrown when appending events to the {@link EventFeed} failed. Some of the events may have been
+ * appended though, pass {@link #retryFrom()} to {@link EventFeed#append(java.util.List, long)} to
+ * retry without appending those events again.
+ */
+public class EventFeedAppendException extends RuntimeException {
+
+  private final long retryFrom;
+
+  public EventFeedAppendException(long retryFrom, Throwable cause) {
+    super("Failed to append events to the event feed", cause);
+    this.retryFrom = retryFrom;
+  }
+
+  /**
+   * The sequence number from which on events may have been appended by the failed attempt, or
+   * {@code -1} if the attempt failed before it could have appended any event.
+   */
+  public long retryFrom() {
+    return retryFrom;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.events.service.feed;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.projectnessie.versioned.storage.common.objtypes.CustomObjType.customObjType;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.List;
+import org.immutables.value.Value;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.ObjType;
+
+/**
+ * An immutable batch of {@linkplain EventFeedEntry event feed entries}.
+ *
+ * <p>Batches are numbered consecutively, starting at {@code 0}. The {@link ObjId} of a batch is
+ * derived from its batch number, which allows readers to look up batches directly, without
+ * following a chain of pointers.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableEventFeedBatchObj.class)
+@JsonDeserialize(as = ImmutableEventFeedBatchObj.class)
+public interface EventFeedBatchObj extends Obj {
+
+  ObjType OBJ_TYPE = customObjType("event-feed-batch", "ev-b", EventFeedBatchObj.class);
+
+  @Override
+  @Value.Default
+  default ObjId id() {
+    return batchObjId(batchNumber());
+  }
+
+  @Override
+  @Value.Default
+  default ObjType type() {
+    return OBJ_TYPE;
+  }
+
+  long batchNumber();
+
+  /** Timestamp in microseconds since epoch when this batch was written, used for expiration. */
+  @Value.Default
+  default long createdMicros() {
+    return 0L;
+  }
+
+  /** The entries of this batch, ordered by their sequence numbers without gaps. */
+  List<EventFeedEntry> entries();
+
+  @Value.NonAttribute
+  default long firstSequence() {
+    return entries().get(0).sequence();
+  }
+
+  @Value.NonAttribute
+  default long lastSequence() {
+    return entries().get(entries().size() - 1).sequence();
+  }
+
+  @Value.Check
+  default void check() {
+    if (entries().isEmpty()) {
+      throw new IllegalStateException("Event feed batch must not be empty");
+    }
+  }
+
+  static ObjId batchObjId(long batchNumber) {
+    return ObjId.objIdFromByteArray(("event-feed-batch-" + batchNumber).getBytes(UTF_8));
+  }
+
+  static ImmutableEventFeedBatchObj.Builder builder() {
+    return ImmutableEventFeedBatchObj.builder();
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.events.service.feed;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import jakarta.annotation.Nullable;
+import org.immutables.value.Value;
+import org.projectnessie.events.api.EventType;
+
+/**
+ * A single event in the durable {@linkplain EventFeed event feed}.
+ *
+ * <p>The event type and the name of the affected reference are kept next to the serialized event,
+ * so that feed consumers can be served filtered results without deserializing every event.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableEventFeedEntry.class)
+@JsonDeserialize(as = ImmutableEventFeedEntry.class)
+public interface EventFeedEntry {
+
+  /** The monotonically increasing sequence number of this entry within the repository's feed. */
+  @Value.Parameter(order = 1)
+  long sequence();
+
+  @Value.Parameter(order = 2)
+  EventType type();
+
+  /**
+   * The name of the reference affected by the event, or the target reference for merges and
+   * transplants.
+   */
+  @Value.Parameter(order = 3)
+  @Nullable
+  String reference();
+
+  /** The JSON representation of the {@link org.projectnessie.events.api.Event}. */
+  @Value.Parameter(order = 4)
+  String payload();
+
+  /**
+   * The {@linkplain org.projectnessie.events.api.Event#getId() ID} of the event, used to detect
+   * already appended events when an append is retried.
+   */
+  @Value.Parameter(order = 5)
+  @Nullable
+  String eventId();
+
+  static EventFeedEntry eventFeedEntry(
+      long sequence, EventType type, String reference, String payload, String eventId) {
+    return ImmutableEventFeedEntry.of(sequence, type, reference, payload, eventId);
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.events.service.feed;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.projectnessie.versioned.storage.common.objtypes.CustomObjType.uncachedObjType;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.immutables.value.Value;
+import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.ObjType;
+
+/**
+ * Singleton per repository that tracks the most recent {@linkplain EventFeedBatchObj batch} of the
+ * event feed.
+ *
+ * <p>The object is not cached, because readers on other Nessie instances must see new batches
+ * immediately.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableEventFeedHeadObj.class)
+@JsonDeserialize(as = ImmutableEventFeedHeadObj.class)
+public interface EventFeedHeadObj extends UpdateableObj {
+
+  ObjType OBJ_TYPE = uncachedObjType("event-feed-head", "ev-h", EventFeedHeadObj.class);
+
+  ObjId OBJ_ID = ObjId.objIdFromByteArray("event-feed-head".getBytes(UTF_8));
+
+  @Override
+  @Value.Default
+  default ObjId id() {
+    return OBJ_ID;
+  }
+
+  @Override
+  @Value.Default
+  default ObjType type() {
+    return OBJ_TYPE;
+  }
+
+  /** Number of the oldest retained batch, older batches have expired. */
+  @Value.Default
+  default long firstBatchNumber() {
+    return 0L;
+  }
+
+  /** Number of the most recently written batch, {@code -1} if the feed is empty. */
+  long lastBatchNumber();
+
+  /** The sequence number that will be assigned to the next appended event. */
+  long nextSequence();
+
+  static ImmutableEventFeedHeadObj.Builder builder() {
+    return ImmutableEventFeedHeadObj.builder();
+  }
+}
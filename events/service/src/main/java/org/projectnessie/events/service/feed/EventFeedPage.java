@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.events.service.feed;
+
+import java.util.List;
+import org.immutables.value.Value;
+
+/** Result of {@link EventFeed#read(long, int, java.util.function.Predicate)}. */
+@Value.Immutable
+public interface EventFeedPage {
+
+  /** The entries that matched the filter, ordered by sequence number. */
+  @Value.Parameter(order = 1)
+  List<EventFeedEntry> entries();
+
+  /**
+   * The cursor to pass to the next {@link EventFeed#read(long, int,
+   * java.util.function.Predicate)} invocation to continue after the last examined entry.
+   */
+  @Value.Parameter(order = 2)
+  long nextCursor();
+
+  /** Whether the feed contains more entries after {@link #nextCursor()}. */
+  @Value.Parameter(order = 3)
+  boolean hasMore();
+
+  static EventFeedPage eventFeedPage(
+      List<EventFeedEntry> entries, long nextCursor, boolean hasMore) {
+    return ImmutableEventFeedPage.of(entries, nextCursor, hasMore);
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.events.service.feed;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.projectnessie.events.api.Event;
+import org.projectnessie.events.spi.EventSubscriber;
+import org.projectnessie.events.spi.EventSubscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link EventSubscriber} that appends all received events to an {@link EventFeed}.
+ *
+ * <p>Events are buffered and written as one batch when either {@code flushSize} events have been
+ * received or {@code flushInterval} has elapsed, whichever happens first. Flushes are serialized,
+ * so events are appended in the order in which they have been received. Events that could not be
+ * written are retried with the next flush, up to {@code maxPending} events are retained. Events
+ * that have been appended before a flush failed are not appended again by the retry.
+ *
+ * <p>Events that have not been written yet are only held in memory. The feed is therefore not
+ * transactional with the changes that caused the events:
+ *
+ * <ul>
+ *   <li>Buffered events are lost if the Nessie process terminates without {@linkplain #close()
+ *       closing} the subscriber, for example when it crashes. An orderly shutdown writes the
+ *       buffered events.
+ *   <li>If writing to the feed keeps failing, only the most recent {@code maxPending} events are
+ *       retained, older events are dropped and an error is logged.
+ * </ul>
+ *
+ * <p>Consumers that must not miss any change have to reconcile with the commit log of the affected
+ * references, for example after a gap in the event timestamps or a Nessie restart.
+ *
+ * <p>Every {@code retentionCheckInterval} the subscriber {@linkplain EventFeed#expire(Duration)
+ * expires} batches older than {@code retention}, which also keeps the retained batches from being
+ * purged by a repository cleanup.
+ */
+public class EventFeedSubscriber implements EventSubscriber {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(EventFeedSubscriber.class);
+
+  private final EventFeed feed;
+  private final int flushSize;
+  private final Duration flushInterval;
+  private final int maxPending;
+  private final Duration retention;
+  private final Duration retentionCheckInterval;
+
+  // guarded by this
+  private List<Event> buffer = new ArrayList<>();
+
+  private final Object flushLock = new Object();
+  // guarded by flushLock, sequence number from which on a retried flush checks for already
+  // appended events, -1 if the last flush succeeded
+  private long retryFrom = -1L;
+  private ScheduledExecutorService scheduler;
+
+  public EventFeedSubscriber(
+      EventFeed feed,
+      int flushSize,
+      Duration flushInterval,
+      int maxPending,
+      Duration retention,
+      Duration retentionCheckInterval) {
+    this.feed = feed;
+    this.flushSize = flushSize;
+    this.flushInterval = flushInterval;
+    this.maxPending = maxPending;
+    this.retention = retention;
+    this.retentionCheckInterval = retentionCheckInterval;
+  }
+
+  @Override
+  public void onSubscribe(EventSubscription subscription) {
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread t = new Thread(r, "nessie-event-feed-flush");
+              t.setDaemon(true);
+              return t;
+            });
+    long intervalMillis = flushInterval.toMillis();
+    scheduler.scheduleWithFixedDelay(
+        this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    scheduler.scheduleWithFixedDelay(
+        this::expireQuietly, 0L, retentionCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public boolean isBlocking() {
+    return true;
+  }
+
+  @Override
+  public void onEvent(Event event) {
+    boolean flush;
+    synchronized (this) {
+      buffer.add(event);
+      flush = buffer.size() >= flushSize;
+    }
+    if (flush) {
+      flushQuietly();
+    }
+  }
+
+  /** Writes all buffered events to the feed. */
+  public void flush() {
+    synchronized (flushLock) {
+      List<Event> events;
+      synchronized (this) {
+        if (buffer.isEmpty()) {
+          return;
+        }
+        events = buffer;
+        buffer = new ArrayList<>();
+      }
+
+      try {
+        feed.append(events, retryFrom);
+        retryFrom = -1L;
+      } catch (EventFeedAppendException e) {
+        // Keep the earliest position, events of earlier failed flushes are still buffered.
+        if (retryFrom < 0L) {
+          retryFrom = e.retryFrom();
+        }
+        synchronized (this) {
+          events.addAll(buffer);
+          int drop = events.size() - maxPending;
+          if (drop > 0) {
+            LOGGER.error(
+                "Dropping {} events that could not be appended to the event feed", drop, e);
+            events = new ArrayList<>(events.subList(drop, events.size()));
+          }
+          buffer = events;
+        }
+        throw e;
+      }
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      LOGGER.warn("Failed to append events to the event feed, will retry", e);
+    }
+  }
+
+  private void expireQuietly() {
+    try {
+      feed.expire(retention);
+    } catch (RuntimeException e) {
+      LOGGER.warn("Failed to expire event feed batches", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (scheduler != null) {
+      scheduler.shutdown();
+      try {
+        if (!scheduler.awaitTermination(flushInterval.toMillis() * 2, TimeUnit.MILLISECONDS)) {
+          LOGGER.warn("Event feed flush did not terminate in time");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    flushQuietly();
+  }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.events.service.feed;
+
+import static org.projectnessie.events.service.feed.EventFeed.entryFilter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.events.api.Event;
+import org.projectnessie.events.api.EventType;
+import org.projectnessie.events.api.ImmutableReferenceCreatedEvent;
+import org.projectnessie.events.api.ImmutableReferenceDeletedEvent;
+import org.projectnessie.events.spi.EventTypeFilter;
+import org.projectnessie.model.Branch;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.inmemorytests.InmemoryBackendTestFactory;
+import org.projectnessie.versioned.storage.testextension.NessieBackend;
+import org.projectnessie.versioned.storage.testextension.NessiePersist;
+import org.projectnessie.versioned.storage.testextension.PersistExtension;
+
+@ExtendWith({PersistExtension.class, SoftAssertionsExtension.class})
+@NessieBackend(InmemoryBackendTestFactory.class)
+public class TestEventFeed {
+  @NessiePersist Persist persist;
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  static final String HASH = "2e1cfa82b035c26cbbbdae632cea070514eb8b773f616aaeaf668e2f0be8f10d";
+
+  @BeforeEach
+  void erase() {
+    persist.erase();
+  }
+
+  @Test
+  public void emptyFeed() {
+    EventFeed feed = new EventFeed(persist);
+
+    soft.assertThat(feed.headCursor()).isEqualTo(0L);
+    soft.assertThat(feed.read(0L, 10, e -> true))
+        .extracting(EventFeedPage::entries, EventFeedPage::nextCursor, EventFeedPage::hasMore)
+        .containsExactly(List.of(), 0L, false);
+    soft.assertThat(feed.append(List.of())).isEqualTo(-1L);
+  }
+
+  @Test
+  public void appendAndResume() {
+    EventFeed feed = new EventFeed(persist, 3, Integer.MAX_VALUE, Duration.ofMillis(10));
+
+    List<Event> events =
+        IntStream.range(0, 10)
+            .mapToObj(i -> created("branch-" + i))
+            .map(Event.class::cast)
+            .collect(Collectors.toList());
+    soft.assertThat(feed.append(events.subList(0, 4))).isEqualTo(3L);
+    soft.assertThat(feed.append(events.subList(4, 10))).isEqualTo(9L);
+    soft.assertThat(feed.headCursor()).isEqualTo(10L);
+
+    List<EventFeedEntry> all = new ArrayList<>();
+    long cursor = 0L;
+    while (true) {
+      EventFeedPage page = feed.read(cursor, 4, e -> true);
+      all.addAll(page.entries());
+      cursor = page.nextCursor();
+      if (!page.hasMore()) {
+        break;
+      }
+    }
+
+    soft.assertThat(cursor).isEqualTo(10L);
+    soft.assertThat(all)
+        .extracting(EventFeedEntry::sequence)
+        .containsExactlyElementsOf(LongStream.range(0, 10).boxed().collect(Collectors.toList()));
+    soft.assertThat(all)
+        .extracting(EventFeedEntry::reference)
+        .containsExactlyElementsOf(
+            IntStream.range(0, 10).mapToObj(i -> "branch-" + i).collect(Collectors.toList()));
+    soft.assertThat(all)
+        .extracting(feed::toEvent)
+        .extracting(Event::getId)
+        .containsExactlyElementsOf(events.stream().map(Event::getId).collect(Collectors.toList()));
+
+    // resume in the middle of a batch
+    soft.assertThat(feed.read(7L, 100, e -> true).entries())
+        .extracting(EventFeedEntry::sequence)
+        .containsExactly(7L, 8L, 9L);
+  }
+
+  @Test
+  public void retriedAppendSkipsAppendedEvents() {
+    EventFeed feed = new EventFeed(persist, 3, Integer.MAX_VALUE, Duration.ofMillis(10));
+
+    feed.append(List.of(created("main")));
+    List<Event> events =
+        IntStream.range(0, 5)
+            .mapToObj(i -> created("branch-" + i))
+            .map(Event.class::cast)
+            .collect(Collectors.toList());
+    // simulate a failed append that wrote the first 4 events
+    soft.assertThat(feed.append(events.subList(0, 4))).isEqualTo(4L);
+
+    soft.assertThat(feed.append(events, 1L)).isEqualTo(5L);
+    soft.assertThat(feed.append(events, 1L)).isEqualTo(-1L);
+    soft.assertThat(feed.headCursor()).isEqualTo(6L);
+    soft.assertThat(feed.read(1L, 100, e -> true).entries())
+        .extracting(EventFeedEntry::eventId)
+        .containsExactlyElementsOf(
+            events.stream().map(Event::getIdAsText).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void expire() throws Exception {
+    EventFeed feed = new EventFeed(persist, 2, Integer.MAX_VALUE, Duration.ofMillis(10));
+
+    List<Event> events =
+        IntStream.range(0, 5)
+            .mapToObj(i -> created("branch-" + i))
+            .map(Event.class::cast)
+            .collect(Collectors.toList());
+    feed.append(events);
+
+    soft.assertThat(feed.expire(Duration.ofDays(1))).isEqualTo(0);
+    soft.assertThat(feed.read(0L, 100, e -> true).entries()).hasSize(5);
+
+    Thread.sleep(10L);
+    // the most recent batch is always retained
+    soft.assertThat(feed.expire(Duration.ofMillis(1))).isEqualTo(2);
+    soft.assertThat(feed.expire(Duration.ofMillis(1))).isEqualTo(0);
+    soft.assertThat(feed.headCursor()).isEqualTo(5L);
+    soft.assertThat(feed.read(0L, 100, e -> true))
+        .extracting(EventFeedPage::nextCursor, EventFeedPage::hasMore)
+        .containsExactly(5L, false);
+    soft.assertThat(feed.read(0L, 100, e -> true).entries())
+        .extracting(EventFeedEntry::sequence)
+        .containsExactly(4L);
+
+    feed.append(List.of(created("main")));
+    soft.assertThat(feed.read(2L, 100, e -> true).entries())
+        .extracting(EventFeedEntry::sequence)
+        .containsExactly(4L, 5L);
+  }
+
+  @Test
+  public void readSkipsPurgedBatches() {
+    EventFeed feed = new EventFeed(persist, 2, Integer.MAX_VALUE, Duration.ofMillis(10));
+
+    feed.append(
+        IntStream.range(0, 6)
+            .mapToObj(i -> created("branch-" + i))
+            .collect(Collectors.toList()));
+    persist.deleteObj(EventFeedBatchObj.batchObjId(0));
+    persist.deleteObj(EventFeedBatchObj.batchObjId(1));
+
+    soft.assertThat(feed.read(0L, 100, e -> true).entries())
+        .extracting(EventFeedEntry::sequence)
+        .containsExactly(4L, 5L);
+    soft.assertThat(feed.read(3L, 100, e -> true).entries())
+        .extracting(EventFeedEntry::sequence)
+        .containsExactly(4L, 5L);
+  }
+
+  @Test
+  public void filters() {
+    EventFeed feed = new EventFeed(persist);
+
+    feed.append(List.of(created("main"), deleted("main"), created("dev"), deleted("dev")));
+
+    soft.assertThat(
+            feed.read(0L, 100, entryFilter(EventTypeFilter.of(EventType.REFERENCE_DELETED), null))
+                .entries())
+        .extracting(EventFeedEntry::sequence)
+        .containsExactly(1L, 3L);
+    soft.assertThat(feed.read(0L, 100, entryFilter(EventTypeFilter.all(), "dev")).entries())
+        .extracting(EventFeedEntry::sequence)
+        .containsExactly(2L, 3L);
+    soft.assertThat(feed.read(0L, 100, entryFilter(EventTypeFilter.none(), null)))
+        .extracting(EventFeedPage::entries, EventFeedPage::nextCursor, EventFeedPage::hasMore)
+        .containsExactly(List.of(), 4L, false);
+  }
+
+  @Test
+  public void concurrentAppends() throws Exception {
+    EventFeed feed1 = new EventFeed(persist, 2, Integer.MAX_VALUE, Duration.ofMillis(10));
+    EventFeed feed2 = new EventFeed(persist, 2, Integer.MAX_VALUE, Duration.ofMillis(10));
+
+    int appends = 50;
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<CompletableFuture<Long>> futures = new ArrayList<>();
+      for (int i = 0; i < appends; i++) {
+        EventFeed feed = (i & 1) == 0 ? feed1 : feed2;
+        List<Event> events = List.of(created("a-" + i), created("b-" + i), created("c-" + i));
+        futures.add(CompletableFuture.supplyAsync(() -> feed.append(events), executor));
+      }
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+    } finally {
+      executor.shutdown();
+    }
+
+    soft.assertThat(feed1.headCursor()).isEqualTo(appends * 3L);
+
+    // A single read scans at most MAX_BATCHES_PER_READ batches, continue with the next cursor.
+    List<EventFeedEntry> all = new ArrayList<>();
+    long cursor = 0L;
+    while (true) {
+      EventFeedPage page = feed2.read(cursor, Integer.MAX_VALUE, e -> true);
+      all.addAll(page.entries());
+      cursor = page.nextCursor();
+      if (!page.hasMore()) {
+        break;
+      }
+    }
+    soft.assertThat(all)
+        .extracting(EventFeedEntry::sequence)
+        .containsExactlyElementsOf(
+            LongStream.range(0, appends * 3L).boxed().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void awaitEntries() throws Exception {
+    EventFeed feed = new EventFeed(persist, 10, Integer.MAX_VALUE, Duration.ofMillis(10));
+
+    soft.assertThat(feed.awaitEntries(0L, Duration.ofMillis(20))).isFalse();
+
+    CompletableFuture<Boolean> waiting =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return feed.awaitEntries(0L, Duration.ofSeconds(30));
+              } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+              }
+            });
+    feed.append(List.of(created("main")));
+    soft.assertThat(waiting.get()).isTrue();
+  }
+
+  static Event created(String ref) {
+    return ImmutableReferenceCreatedEvent.builder()
+        .id(UUID.randomUUID())
+        .repositoryId("repo")
+        .eventCreationTimestamp(Instant.now())
+        .reference(Branch.of(ref, HASH))
+        .hashAfter(HASH)
+        .build();
+  }
+
+  static Event deleted(String ref) {
+    return ImmutableReferenceDeletedEvent.builder()
+        .id(UUID.randomUUID())
+        .repositoryId("repo")
+        .eventCreationTimestamp(Instant.now())
+        .reference(Branch.of(ref, HASH))
+        .hashBefore(HASH)
+        .build();
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.events.service.feed;
+
+import static org.projectnessie.events.service.feed.TestEventFeed.created;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.events.api.Event;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.inmemorytests.InmemoryBackendTestFactory;
+import org.projectnessie.versioned.storage.testextension.NessieBackend;
+import org.projectnessie.versioned.storage.testextension.NessiePersist;
+import org.projectnessie.versioned.storage.testextension.PersistExtension;
+
+@ExtendWith({PersistExtension.class, SoftAssertionsExtension.class})
+@NessieBackend(InmemoryBackendTestFactory.class)
+public class TestEventFeedSubscriber {
+  @NessiePersist Persist persist;
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @BeforeEach
+  void erase() {
+    persist.erase();
+  }
+
+  @Test
+  public void flushSize() {
+    EventFeed feed = new EventFeed(persist);
+    EventFeedSubscriber subscriber = subscriber(feed, 3, 100);
+
+    subscriber.onEvent(created("a"));
+    subscriber.onEvent(created("b"));
+    soft.assertThat(feed.headCursor()).isEqualTo(0L);
+
+    subscriber.onEvent(created("c"));
+    soft.assertThat(feed.headCursor()).isEqualTo(3L);
+  }
+
+  @Test
+  public void bufferedEventsAreWrittenOnClose() {
+    EventFeed feed = new EventFeed(persist);
+    EventFeedSubscriber subscriber = subscriber(feed, 100, 100);
+
+    subscriber.onEvent(created("a"));
+    subscriber.onEvent(created("b"));
+    // Buffered events are only held in memory until the next flush.
+    soft.assertThat(feed.headCursor()).isEqualTo(0L);
+
+    subscriber.close();
+    soft.assertThat(feed.read(0L, 100, e -> true).entries())
+        .extracting(EventFeedEntry::reference)
+        .containsExactly("a", "b");
+  }
+
+  @Test
+  public void oldestPendingEventsAreDropped() {
+    AtomicBoolean fail = new AtomicBoolean(true);
+    EventFeed feed =
+        new EventFeed(persist) {
+          @Override
+          public long append(List<? extends Event> events, long retryFrom) {
+            if (fail.get()) {
+              throw new EventFeedAppendException(-1L, new RuntimeException("append failed"));
+            }
+            return super.append(events, retryFrom);
+          }
+        };
+    EventFeedSubscriber subscriber = subscriber(feed, 100, 3);
+
+    List<String> refs =
+        IntStream.range(0, 5).mapToObj(i -> "ref-" + i).collect(Collectors.toList());
+    refs.forEach(ref -> subscriber.onEvent(created(ref)));
+    soft.assertThatThrownBy(subscriber::flush).isInstanceOf(EventFeedAppendException.class);
+    soft.assertThat(feed.headCursor()).isEqualTo(0L);
+
+    fail.set(false);
+    subscriber.flush();
+    soft.assertThat(feed.read(0L, 100, e -> true).entries())
+        .extracting(EventFeedEntry::reference)
+        .containsExactlyElementsOf(refs.subList(2, 5));
+  }
+
+  private static EventFeedSubscriber subscriber(EventFeed feed, int flushSize, int maxPending) {
+    return new EventFeedSubscriber(
+        feed, flushSize, Duration.ofHours(1), maxPending, Duration.ofDays(1), Duration.ofHours(1));
+  }
+}
@@ -19,6 +19,8 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.projectnessie.gc.contents.ContentReference.icebergContent;
+import static org.projectnessie.gc.contents.ContentWatermark.contentWatermark;
+import static org.projectnessie.gc.contents.ReferenceWatermark.referenceWatermark;
 import static org.projectnessie.model.Content.Type.ICEBERG_TABLE;
 import static org.projectnessie.model.Content.Type.ICEBERG_VIEW;
 
@@ -38,8 +40,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.projectnessie.gc.contents.ContentReference;
+import org.projectnessie.gc.contents.ContentWatermark;
 import org.projectnessie.gc.contents.LiveContentSet;
 import org.projectnessie.gc.contents.LiveContentSetNotFoundException;
+import org.projectnessie.gc.contents.ReferenceWatermark;
 import org.projectnessie.gc.contents.spi.PersistenceSpi;
 import org.projectnessie.gc.files.FileReference;
 import org.projectnessie.model.ContentKey;
@@ -469,6 +473,89 @@ public abstract class AbstractPersistenceSpi {
     }
   }
 
+  @Test
+  public void incrementalIdentify() throws Exception {
+    Instant commitTime = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    LiveSetVals vals1 = new LiveSetVals();
+    List<ContentWatermark> contentWatermarks =
+        IntStream.range(0, vals1.refs.size())
+            .mapToObj(
+                i ->
+                    contentWatermark(
+                        "main",
+                        vals1.refs.get(i),
+                        commitTime.minus(i, ChronoUnit.MINUTES),
+                        i + 1,
+                        i % 3 == 0))
+            .collect(Collectors.toList());
+    vals1.startIdentify();
+    soft.assertThat(
+            persistenceSpi.addIdentifiedLiveContentWithWatermarks(
+                vals1.id, contentWatermarks.stream()))
+        .isEqualTo(vals1.refs.size());
+    soft.assertThat(
+            persistenceSpi.addIdentifiedLiveContentWithWatermarks(
+                vals1.id, contentWatermarks.stream()))
+        .isEqualTo(0L);
+    ReferenceWatermark main = referenceWatermark("main", "12345678", "NONE");
+    ReferenceWatermark tag = referenceWatermark("tag", "87654321", "2025-01-01T00:00:00Z");
+    persistenceSpi.addReferenceWatermark(vals1.id, main);
+    persistenceSpi.addReferenceWatermark(vals1.id, tag);
+    persistenceSpi.addReferenceWatermark(vals1.id, main);
+    try (Stream<ReferenceWatermark> watermarks =
+        persistenceSpi.fetchReferenceWatermarks(vals1.id)) {
+      soft.assertThat(watermarks).containsExactlyInAnyOrder(main, tag);
+    }
+    vals1.finishIdentify();
+
+    try (Stream<ContentWatermark> watermarks =
+        persistenceSpi.fetchContentWatermarks(vals1.id, "main")) {
+      soft.assertThat(watermarks).containsExactlyInAnyOrderElementsOf(contentWatermarks);
+    }
+    try (Stream<ContentWatermark> watermarks =
+        persistenceSpi.fetchContentWatermarks(vals1.id, "tag")) {
+      soft.assertThat(watermarks).isEmpty();
+    }
+    try (Stream<String> contentIds = persistenceSpi.fetchContentIds(vals1.id)) {
+      soft.assertThat(contentIds).containsExactlyInAnyOrderElementsOf(vals1.contentIds());
+    }
+    for (String contentId : vals1.contentIds()) {
+      try (Stream<ContentReference> refs =
+          persistenceSpi.fetchContentReferences(vals1.id, contentId)) {
+        soft.assertThat(refs).containsExactlyInAnyOrderElementsOf(vals1.refsForCid(contentId));
+      }
+    }
+
+    LiveSetVals vals2 = new LiveSetVals();
+    vals2.startIdentify();
+    try (Stream<ReferenceWatermark> watermarks =
+        persistenceSpi.fetchReferenceWatermarks(vals2.id)) {
+      soft.assertThat(watermarks).isEmpty();
+    }
+    try (Stream<ContentWatermark> watermarks =
+        persistenceSpi.fetchContentWatermarks(vals2.id, "main")) {
+      soft.assertThat(watermarks).isEmpty();
+    }
+    persistenceSpi.addReferenceWatermark(vals2.id, referenceWatermark("main", "abcdef", "2"));
+    vals2.finishIdentify();
+
+    vals2.delete();
+    try (Stream<ReferenceWatermark> watermarks =
+        persistenceSpi.fetchReferenceWatermarks(vals1.id)) {
+      soft.assertThat(watermarks).containsExactlyInAnyOrder(main, tag);
+    }
+    try (Stream<ContentWatermark> watermarks =
+        persistenceSpi.fetchContentWatermarks(vals1.id, "main")) {
+      soft.assertThat(watermarks).containsExactlyInAnyOrderElementsOf(contentWatermarks);
+    }
+
+    vals1.delete();
+    try (Stream<ContentWatermark> watermarks =
+        persistenceSpi.fetchContentWatermarks(vals1.id, "main")) {
+      soft.assertThat(watermarks).isEmpty();
+    }
+  }
+
   @Test
   public void baseLocations() throws Exception {
     LiveSetVals vals1 = new LiveSetVals();
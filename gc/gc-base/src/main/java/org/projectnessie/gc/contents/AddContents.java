@@ -36,6 +36,17 @@ public interface AddContents extends AutoCloseable {
 
   long addLiveContent(@NotNull Stream<ContentReference> contentReference);
 
+  /**
+   * Adds the {@link ContentWatermark#contentReference() content references} of the given
+   * watermarks as live contents and records the watermarks, used by incremental identify runs.
+   *
+   * @return the number of actually added content references
+   */
+  long addLiveContentWithWatermarks(@NotNull Stream<ContentWatermark> contentWatermarks);
+
+  /** Records up to which commit a reference has been walked, see {@link ReferenceWatermark}. */
+  void addReferenceWatermark(@NotNull ReferenceWatermark watermark);
+
   void finished();
 
   void finishedExceptionally(@NotNull Throwable e);
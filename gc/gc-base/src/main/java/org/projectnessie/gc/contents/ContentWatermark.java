@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.contents;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+import org.immutables.value.Value;
+import org.projectnessie.gc.identify.CutoffPolicy;
+import org.projectnessie.gc.identify.IdentifyLiveContents;
+
+/**
+ * Records where a live {@link ContentReference} has been found while walking the commit log of a
+ * named reference.
+ *
+ * <p>Watermarks are stored per live content set, in addition to the {@link ReferenceWatermark}s.
+ * An {@linkplain IdentifyLiveContents incremental identify run} re-checks the content watermarks of
+ * a reference against the reference's current {@link CutoffPolicy}, instead of walking the commits
+ * that have already been walked to produce the base live content set.
+ */
+@Value.Immutable
+public interface ContentWatermark {
+
+  /** Name of the Nessie branch or tag. */
+  @Value.Parameter(order = 1)
+  String referenceName();
+
+  /** The live content reference, found in the commit {@link ContentReference#commitId()}. */
+  @Value.Parameter(order = 2)
+  ContentReference contentReference();
+
+  /** The commit timestamp of the commit in which the content has been found. */
+  @Value.Parameter(order = 3)
+  Instant commitTime();
+
+  /**
+   * The position of the commit in the commit log of the reference, {@code 1} for the reference's
+   * HEAD commit, as passed to {@link CutoffPolicy#isCutoff(Instant, int)}.
+   */
+  @Value.Parameter(order = 4)
+  int commitDepth();
+
+  /**
+   * Whether the content has been found by listing all contents of the commit, {@code false} if it
+   * has been put by the commit.
+   */
+  @Value.Parameter(order = 5)
+  boolean allContents();
+
+  static ContentWatermark contentWatermark(
+      @NotNull String referenceName,
+      @NotNull ContentReference contentReference,
+      @NotNull Instant commitTime,
+      int commitDepth,
+      boolean allContents) {
+    return ImmutableContentWatermark.of(
+        referenceName, contentReference, commitTime, commitDepth, allContents);
+  }
+}
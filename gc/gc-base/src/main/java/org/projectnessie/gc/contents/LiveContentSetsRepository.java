@@ -74,6 +74,24 @@ public abstract class LiveContentSetsRepository {
     return persistenceSpi().getAllLiveContents();
   }
 
+  /**
+   * Retrieve the {@link ReferenceWatermark watermarks} of the references walked to produce the
+   * given live-content-set.
+   */
+  @MustBeClosed
+  public Stream<ReferenceWatermark> getReferenceWatermarks(UUID id) {
+    return persistenceSpi().fetchReferenceWatermarks(id);
+  }
+
+  /**
+   * Retrieve the {@link ContentWatermark watermarks} of the live contents found on the given
+   * reference to produce the given live-content-set.
+   */
+  @MustBeClosed
+  public Stream<ContentWatermark> getContentWatermarks(UUID id, String referenceName) {
+    return persistenceSpi().fetchContentWatermarks(id, referenceName);
+  }
+
   /**
    * Provides the interface used by {@link IdentifyLiveContents} to persist information about live
    * content.
@@ -123,6 +141,19 @@ public abstract class LiveContentSetsRepository {
         return persistenceSpi().addIdentifiedLiveContent(id, contentReference);
       }
 
+      @Override
+      public long addLiveContentWithWatermarks(
+          @NotNull Stream<ContentWatermark> contentWatermarks) {
+        Preconditions.checkState(!closed, "AddContents instance already closed.");
+        return persistenceSpi().addIdentifiedLiveContentWithWatermarks(id, contentWatermarks);
+      }
+
+      @Override
+      public void addReferenceWatermark(@NotNull ReferenceWatermark watermark) {
+        Preconditions.checkState(!closed, "AddContents instance already closed.");
+        persistenceSpi().addReferenceWatermark(id, watermark);
+      }
+
       @Override
       public void close() {
         if (!finished) {
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.contents;
+
+import jakarta.validation.constraints.NotNull;
+import org.immutables.value.Value;
+import org.projectnessie.gc.identify.CutoffPolicy;
+import org.projectnessie.gc.identify.IdentifyLiveContents;
+
+/**
+ * Records up to which commit a named reference has been walked by an {@link
+ * IdentifyLiveContents#identifyLiveContents() identify run} and which cutoff policy has been used.
+ *
+ * <p>Watermarks are stored per live content set, only for references whose live contents are
+ * completely described by the reference's {@link ContentWatermark}s. An incremental identify run
+ * that uses a live content set as its base only needs to walk the commits of a reference that are
+ * newer than the reference's watermark, if the current cutoff policy does not retain more commits
+ * than the recorded one.
+ */
+@Value.Immutable
+public interface ReferenceWatermark {
+
+  /** Name of the Nessie branch or tag. */
+  @Value.Parameter(order = 1)
+  String referenceName();
+
+  /** The HEAD commit ID of the reference at the time it has been walked. */
+  @Value.Parameter(order = 2)
+  String commitId();
+
+  /** The cutoff policy used to walk the reference, see {@link CutoffPolicy#asPolicyString()}. */
+  @Value.Parameter(order = 3)
+  String cutoffPolicy();
+
+  static ReferenceWatermark referenceWatermark(
+      @NotNull String referenceName, @NotNull String commitId, @NotNull String cutoffPolicy) {
+    return ImmutableReferenceWatermark.of(referenceName, commitId, cutoffPolicy);
+  }
+}
@@ -22,6 +22,7 @@ import com.google.common.base.Preconditions;
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -35,10 +36,12 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 import org.projectnessie.gc.contents.ContentReference;
+import org.projectnessie.gc.contents.ContentWatermark;
 import org.projectnessie.gc.contents.ImmutableLiveContentSet;
 import org.projectnessie.gc.contents.LiveContentSet;
 import org.projectnessie.gc.contents.LiveContentSet.Status;
 import org.projectnessie.gc.contents.LiveContentSetNotFoundException;
+import org.projectnessie.gc.contents.ReferenceWatermark;
 import org.projectnessie.gc.contents.spi.PersistenceSpi;
 import org.projectnessie.gc.files.FileReference;
 import org.projectnessie.storage.uri.StorageUri;
@@ -62,6 +65,12 @@ public class InMemoryPersistenceSpi implements PersistenceSpi {
 
     final Set<FileReference> fileDeletions = new HashSet<>();
 
+    /** Map of reference name to watermark. */
+    final Map<String, ReferenceWatermark> watermarks = new ConcurrentHashMap<>();
+
+    /** Map of reference name to the watermarks of the contents found on that reference. */
+    final Map<String, Set<ContentWatermark>> contentWatermarks = new ConcurrentHashMap<>();
+
     InMemoryLiveContentSet(LiveContentSet liveContentSet) {
       this.liveContentSet = new AtomicReference<>(liveContentSet);
     }
@@ -183,6 +192,48 @@ public class InMemoryPersistenceSpi implements PersistenceSpi {
         .orElse(Stream.empty());
   }
 
+  @Override
+  public long addIdentifiedLiveContentWithWatermarks(
+      @NotNull UUID liveSetId, @NotNull Stream<ContentWatermark> contentWatermarks) {
+    InMemoryLiveContentSet liveContentSet = get(liveSetId);
+    return addIdentifiedLiveContent(
+        liveSetId,
+        contentWatermarks
+            .peek(
+                watermark ->
+                    liveContentSet
+                        .contentWatermarks
+                        .computeIfAbsent(
+                            watermark.referenceName(),
+                            x -> Collections.synchronizedSet(new HashSet<>()))
+                        .add(watermark))
+            .map(ContentWatermark::contentReference));
+  }
+
+  @Override
+  public Stream<ContentWatermark> fetchContentWatermarks(
+      @NotNull UUID liveSetId, @NotNull String referenceName) {
+    return getOptional(liveSetId)
+        .map(
+            lcs ->
+                new ArrayList<>(lcs.contentWatermarks.getOrDefault(referenceName, emptySet()))
+                    .stream())
+        .orElse(Stream.empty());
+  }
+
+  @Override
+  public void addReferenceWatermark(
+      @NotNull UUID liveSetId, @NotNull ReferenceWatermark watermark) {
+    get(liveSetId).watermarks.putIfAbsent(watermark.referenceName(), watermark);
+  }
+
+  @Override
+  public Stream<ReferenceWatermark> fetchReferenceWatermarks(@NotNull UUID liveSetId) {
+    return getOptional(liveSetId)
+        .map(lcs -> lcs.watermarks.values().stream())
+        .orElse(Stream.empty());
+  }
+
   @Override
   public void associateBaseLocations(
       UUID liveSetId, String contentId, Collection<StorageUri> baseLocations) {
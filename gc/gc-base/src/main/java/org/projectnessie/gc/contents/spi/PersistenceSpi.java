@@ -23,9 +23,11 @@ import java.util.Collection;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.projectnessie.gc.contents.ContentReference;
+import org.projectnessie.gc.contents.ContentWatermark;
 import org.projectnessie.gc.contents.LiveContentSet;
 import org.projectnessie.gc.contents.LiveContentSetNotFoundException;
 import org.projectnessie.gc.contents.LiveContentSetsRepository;
+import org.projectnessie.gc.contents.ReferenceWatermark;
 import org.projectnessie.gc.files.FileReference;
 import org.projectnessie.storage.uri.StorageUri;
 
@@ -64,6 +66,25 @@ public interface PersistenceSpi {
   Stream<ContentReference> fetchContentReferences(
       @NotNull UUID liveSetId, @NotNull String contentId);
 
+  /**
+   * Adds the content references of the given watermarks like {@link
+   * #addIdentifiedLiveContent(UUID, Stream)} and records the watermarks, ignores duplicates.
+   *
+   * @return the number of actually added content references
+   */
+  long addIdentifiedLiveContentWithWatermarks(
+      @NotNull UUID liveSetId, @NotNull Stream<ContentWatermark> contentWatermarks);
+
+  @MustBeClosed
+  Stream<ContentWatermark> fetchContentWatermarks(
+      @NotNull UUID liveSetId, @NotNull String referenceName);
+
+  /** Records the watermark of a walked reference, ignores duplicates. */
+  void addReferenceWatermark(@NotNull UUID liveSetId, @NotNull ReferenceWatermark watermark);
+
+  @MustBeClosed
+  Stream<ReferenceWatermark> fetchReferenceWatermarks(@NotNull UUID liveSetId);
+
   void associateBaseLocations(
       @NotNull UUID liveSetId,
       @NotNull String contentId,
@@ -15,6 +15,7 @@
  */
 package org.projectnessie.gc.expire;
 
+import com.google.common.base.Preconditions;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import java.time.Instant;
 import org.immutables.value.Value;
@@ -30,6 +31,7 @@ public interface ExpireParameters {
   long DEFAULT_EXPECTED_FILE_COUNT = 1_000_000L;
   double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.00001d;
   double DEFAULT_ALLOWED_FALSE_POSITIVE_PROBABILITY = 0.0001d;
+  int DEFAULT_DELETE_BATCH_SIZE = 1000;
 
   static Builder builder() {
     return ImmutableExpireParameters.builder();
@@ -79,6 +81,14 @@ public interface ExpireParameters {
     @CanIgnoreReturnValue
     Builder fileDeleter(FileDeleter fileDeleter);
 
+    /**
+     * The maximum number of expired files passed to a single {@link
+     * FileDeleter#deleteMultiple(org.projectnessie.storage.uri.StorageUri, java.util.stream.Stream)}
+     * invocation, defaults to {@value ExpireParameters#DEFAULT_DELETE_BATCH_SIZE}.
+     */
+    @CanIgnoreReturnValue
+    Builder deleteBatchSize(int deleteBatchSize);
+
     ExpireParameters build();
   }
 
@@ -106,4 +116,14 @@ public interface ExpireParameters {
   Instant maxFileModificationTime();
 
   FileDeleter fileDeleter();
+
+  @Value.Default
+  default int deleteBatchSize() {
+    return DEFAULT_DELETE_BATCH_SIZE;
+  }
+
+  @Value.Check
+  default void check() {
+    Preconditions.checkArgument(deleteBatchSize() >= 1, "Delete batch size must be greater than 0");
+  }
 }
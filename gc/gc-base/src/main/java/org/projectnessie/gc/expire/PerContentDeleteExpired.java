@@ -19,7 +19,10 @@ import com.google.common.hash.BloomFilter;
 import com.google.common.hash.PrimitiveSink;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -91,19 +94,67 @@ public abstract class PerContentDeleteExpired {
     expireParameters().liveContentSet().associateBaseLocations(contentId(), baseLocations);
 
     return baseLocations.stream()
-        .map(
-            baseLocation -> {
-              try (Stream<FileReference> fileObjects = identifyExpiredFiles(filter, baseLocation)) {
-                return expireParameters().fileDeleter().deleteMultiple(baseLocation, fileObjects);
-              } catch (Exception e) {
-                String msg = "Failed to expire objects in base location " + baseLocation;
-                LOGGER.error("{}", msg, e);
-                throw new RuntimeException(msg, e);
-              }
-            })
+        .map(baseLocation -> expireBaseLocation(filter, baseLocation))
+        .reduce(DeleteSummary.EMPTY, DeleteSummary::add, DeleteSummary::add);
+  }
+
+  /**
+   * Lists the {@link org.projectnessie.gc.files.FilesLister#listingShards(StorageUri) shards} of a
+   * base location concurrently, in the current fork-join pool, and deletes the expired files of
+   * each shard in batches of {@link ExpireParameters#deleteBatchSize()} files.
+   */
+  @SuppressWarnings("UnstableApiUsage")
+  private DeleteSummary expireBaseLocation(
+      BloomFilter<StorageUri> filter, StorageUri baseLocation) {
+    List<String> shards;
+    try {
+      shards = expireParameters().filesLister().listingShards(baseLocation);
+    } catch (Exception e) {
+      String msg = "Failed to list shards of base location " + baseLocation;
+      LOGGER.error("{}", msg, e);
+      throw new RuntimeException(msg, e);
+    }
+
+    Stream<String> shardStream = shards.size() > 1 ? shards.parallelStream() : shards.stream();
+    return shardStream
+        .map(shard -> expireShard(filter, baseLocation, shard))
         .reduce(DeleteSummary.EMPTY, DeleteSummary::add, DeleteSummary::add);
   }
 
+  @SuppressWarnings("UnstableApiUsage")
+  private DeleteSummary expireShard(
+      BloomFilter<StorageUri> filter, StorageUri baseLocation, String shard) {
+    try (Stream<FileReference> fileObjects = identifyExpiredFiles(filter, baseLocation, shard)) {
+      int batchSize = expireParameters().deleteBatchSize();
+      DeleteSummary summary = DeleteSummary.EMPTY;
+      List<FileReference> batch = new ArrayList<>();
+      for (Iterator<FileReference> files = fileObjects.iterator(); files.hasNext(); ) {
+        batch.add(files.next());
+        if (batch.size() == batchSize || !files.hasNext()) {
+          summary =
+              summary.add(
+                  expireParameters().fileDeleter().deleteMultiple(baseLocation, batch.stream()));
+          batch.clear();
+        }
+      }
+      LOGGER.info(
+          "live-set#{} content#{}: Finished shard '{}' of base location {}: {}.",
+          expireParameters().liveContentSet().id(),
+          contentId(),
+          shard,
+          baseLocation,
+          summary);
+      return summary.completedShard();
+    } catch (Exception e) {
+      String msg = "Failed to expire objects in base location " + baseLocation;
+      if (!shard.isEmpty()) {
+        msg += ", shard '" + shard + "'";
+      }
+      LOGGER.error("{}", msg, e);
+      throw new RuntimeException(msg, e);
+    }
+  }
+
   /**
    * First part of {@link #expire()} to identify all files that are referenced by all live {@link
    * Content} objects.
@@ -156,18 +207,20 @@ public abstract class PerContentDeleteExpired {
   @SuppressWarnings("UnstableApiUsage")
   @MustBeClosed
   private Stream<FileReference> identifyExpiredFiles(
-      BloomFilter<StorageUri> filter, StorageUri baseLocation) throws NessieFileIOException {
+      BloomFilter<StorageUri> filter, StorageUri baseLocation, String shard)
+      throws NessieFileIOException {
     ExpireStats expireStats = new ExpireStats();
     long maxFileTime = expireParameters().maxFileModificationTime().toEpochMilli();
 
     LOGGER.debug(
-        "live-set#{} content#{}: Start walking base location {}.",
+        "live-set#{} content#{}: Start walking base location {}, shard '{}'.",
         expireParameters().liveContentSet().id(),
         contentId(),
-        baseLocation);
+        baseLocation,
+        shard);
 
     @SuppressWarnings("MustBeClosedChecker")
-    Stream<FileReference> list = expireParameters().filesLister().listRecursively(baseLocation);
+    Stream<FileReference> list = expireParameters().filesLister().listShard(baseLocation, shard);
     return list.filter(
             f -> {
               expireStats.totalFiles++;
@@ -185,7 +238,7 @@ public abstract class PerContentDeleteExpired {
         .onClose(
             () ->
                 LOGGER.info(
-                    "live-set#{} content#{}: Found {} total files in base location {}, "
+                    "live-set#{} content#{}: Found {} total files in base location {}, shard '{}', "
                         + "{} files considered expired, "
                         + "{} files considered live, "
                         + "{} files are newer than max-file-modification-time.",
@@ -193,6 +246,7 @@ public abstract class PerContentDeleteExpired {
                     contentId(),
                     expireStats.totalFiles,
                     baseLocation,
+                    shard,
                     expireStats.expiredFiles,
                     expireStats.liveFiles,
                     expireStats.newFiles));
@@ -31,9 +31,9 @@ public interface DeleteSummary {
   default DeleteSummary add(DeleteResult deleteResult) {
     switch (deleteResult) {
       case SUCCESS:
-        return of(deleted() + 1L, failures());
+        return ImmutableDeleteSummary.of(deleted() + 1L, failures()).withShards(shards());
       case FAILURE:
-        return of(deleted(), failures() + 1L);
+        return ImmutableDeleteSummary.of(deleted(), failures() + 1L).withShards(shards());
       default:
         throw new IllegalArgumentException("" + deleteResult);
     }
@@ -41,7 +41,13 @@ public interface DeleteSummary {
 
   @CanIgnoreReturnValue
   default DeleteSummary add(DeleteSummary b) {
-    return of(deleted() + b.deleted(), failures() + b.failures());
+    return ImmutableDeleteSummary.of(deleted() + b.deleted(), failures() + b.failures())
+        .withShards(shards() + b.shards());
+  }
+
+  /** Returns this summary, marked as the result of one completely processed listing shard. */
+  default DeleteSummary completedShard() {
+    return ImmutableDeleteSummary.of(deleted(), failures()).withShards(1L);
   }
 
   /** Number of successful deletes. */
@@ -51,4 +57,14 @@ public interface DeleteSummary {
   /** Number of deletes that failed. */
   @Value.Parameter(order = 2)
   long failures();
+
+  /**
+   * Number of completely processed listing shards, see {@link
+   * FilesLister#listingShards(org.projectnessie.storage.uri.StorageUri)}.
+   */
+  @Value.Default
+  @Value.Auxiliary
+  default long shards() {
+    return 0L;
+  }
 }
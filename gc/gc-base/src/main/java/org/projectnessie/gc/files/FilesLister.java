@@ -16,6 +16,8 @@
 package org.projectnessie.gc.files;
 
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.Stream;
 import org.projectnessie.storage.uri.StorageUri;
 
@@ -29,4 +31,30 @@ public interface FilesLister {
    */
   @MustBeClosed
   Stream<FileReference> listRecursively(StorageUri path) throws NessieFileIOException;
+
+  /**
+   * Splits the given {@code path} into <em>shards</em>, disjoint prefixes relative to {@code path}
+   * that can be listed concurrently via {@link #listShard(StorageUri, String)}.
+   *
+   * <p>The default implementation returns a single shard, the empty prefix, which represents all
+   * files in {@code path}.
+   */
+  default List<String> listingShards(StorageUri path) throws NessieFileIOException {
+    return Collections.singletonList("");
+  }
+
+  /**
+   * Returns a {@link Stream} of {@link FileReference} contained in the given {@code path}, whose
+   * {@link FileReference#path() relative path} starts with {@code shard}. The returned {@link
+   * FileReference}s have their {@link FileReference#base()} set to the {@code path} argument.
+   *
+   * <p>The default implementation filters the result of {@link #listRecursively(StorageUri)}.
+   */
+  @MustBeClosed
+  default Stream<FileReference> listShard(StorageUri path, String shard)
+      throws NessieFileIOException {
+    @SuppressWarnings("MustBeClosedChecker")
+    Stream<FileReference> files = listRecursively(path);
+    return shard.isEmpty() ? files : files.filter(f -> f.path().location().startsWith(shard));
+  }
 }
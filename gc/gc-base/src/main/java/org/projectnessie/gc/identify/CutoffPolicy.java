@@ -43,6 +43,24 @@ public interface CutoffPolicy {
 
   boolean isCutoff(@Nonnull Instant commitTime, int numCommits);
 
+  /**
+   * Returns a representation of this policy that can be parsed via {@link
+   * #parseStringToCutoffPolicy(String, ZonedDateTime)}, or {@code null} if this policy cannot be
+   * represented as a string. Used to persist the policy that has been used to walk a reference.
+   */
+  default String asPolicyString() {
+    return null;
+  }
+
+  /**
+   * Checks whether all commits that are live using this policy are also live using the given
+   * {@code previous} policy, assuming that both policies are applied to the same commit log. If
+   * that is the case, the live contents identified using the {@code previous} policy can be reused.
+   */
+  default boolean retainsNoMoreThan(@Nonnull CutoffPolicy previous) {
+    return previous.equals(NONE) || previous.equals(this);
+  }
+
   static CutoffPolicy atTimestamp(@Nonnull Instant cutoffTimestamp) {
     return new TimestampCutoffPolicy(cutoffTimestamp);
   }
@@ -16,6 +16,8 @@
 package org.projectnessie.gc.identify;
 
 import static java.lang.String.format;
+import static org.projectnessie.gc.contents.ContentWatermark.contentWatermark;
+import static org.projectnessie.gc.contents.ReferenceWatermark.referenceWatermark;
 
 import com.google.common.base.Preconditions;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
@@ -23,7 +25,10 @@ import jakarta.annotation.Nullable;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.UUID;
@@ -31,11 +36,14 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.immutables.value.Value;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.gc.contents.AddContents;
+import org.projectnessie.gc.contents.ContentWatermark;
 import org.projectnessie.gc.contents.LiveContentSetsRepository;
+import org.projectnessie.gc.contents.ReferenceWatermark;
 import org.projectnessie.gc.repository.RepositoryConnector;
 import org.projectnessie.model.CommitMeta;
 import org.projectnessie.model.Content;
@@ -67,7 +75,19 @@ import org.slf4j.LoggerFactory;
  *   <li>The desired number of named-references being walked concurrently.
  *   <li>A {@link #visitedDeduplicator() de-duplication functionality} to prevent walking the same
  *       commit(s) with compatible cut-off timestamps.
+ *   <li>An optional {@link #baseLiveContentSetId() base live-content-set} for incremental runs.
  * </ul>
+ *
+ * <p>Every run records a {@link ContentWatermark} for each live content found on a reference,
+ * containing the commit's timestamp and position in the reference's commit log, and a {@link
+ * ReferenceWatermark} for each completely walked reference. An incremental run stops walking the
+ * commit log of a reference when it reaches the watermark recorded in the base live-content-set,
+ * if the reference's current cutoff policy {@link CutoffPolicy#retainsNoMoreThan(CutoffPolicy)
+ * does not retain more} than the recorded one. The reference's content watermarks of the base
+ * live-content-set are then re-checked against the current cutoff policy, only the contents that
+ * are still live are added to the new live-content-set. References that have been re-assigned to a
+ * commit that is not a descendant of the watermark or that use a different cutoff policy are
+ * walked completely.
  */
 @Value.Immutable
 public abstract class IdentifyLiveContents {
@@ -149,6 +169,13 @@ public abstract class IdentifyLiveContents {
     @CanIgnoreReturnValue
     Builder parallelism(int parallelism);
 
+    /**
+     * Optional ID of a successfully identified live-content-set to use as the base of an
+     * incremental run, a full run is performed if not set.
+     */
+    @CanIgnoreReturnValue
+    Builder baseLiveContentSetId(UUID baseLiveContentSetId);
+
     IdentifyLiveContents build();
   }
 
@@ -177,6 +204,8 @@ public abstract class IdentifyLiveContents {
   private UUID walkAllReferences() {
     try (AddContents addContents = liveContentSetsRepository().newAddContents()) {
       try {
+        Map<String, ReferenceWatermark> watermarks = baseWatermarks();
+
         @SuppressWarnings("resource")
         Stream<Reference> refs = repositoryConnector().allReferences();
 
@@ -190,7 +219,10 @@ public abstract class IdentifyLiveContents {
 
         Optional<ReferencesWalkResult> result =
             refs.parallel()
-                .map(ref -> identifyContentsForReference(addContents, ref))
+                .map(
+                    ref ->
+                        identifyContentsForReference(
+                            addContents, ref, watermarks.get(ref.getName())))
                 .reduce(ReferencesWalkResult::add);
 
         LOGGER.info(
@@ -214,10 +246,46 @@ public abstract class IdentifyLiveContents {
     }
   }
 
+  private Map<String, ReferenceWatermark> baseWatermarks() {
+    UUID base = baseLiveContentSetId();
+    if (base == null) {
+      return Collections.emptyMap();
+    }
+    try (Stream<ReferenceWatermark> watermarks =
+        liveContentSetsRepository().getReferenceWatermarks(base)) {
+      return watermarks.collect(
+          Collectors.toMap(ReferenceWatermark::referenceName, Function.identity()));
+    }
+  }
+
+  /**
+   * Returns the given watermark, if the live contents identified up to the watermark's commit can
+   * be reused for the given cutoff policy, otherwise {@code null}.
+   */
+  private ReferenceWatermark usableWatermark(
+      ReferenceWatermark watermark, CutoffPolicy cutoffPolicy) {
+    if (watermark == null) {
+      return null;
+    }
+    CutoffPolicy previous;
+    try {
+      previous =
+          CutoffPolicy.parseStringToCutoffPolicy(
+              watermark.cutoffPolicy(), clock().instant().atZone(ZoneOffset.UTC));
+    } catch (Exception e) {
+      LOGGER.warn("Cannot parse cutoff policy of {}, ignoring it.", watermark, e);
+      return null;
+    }
+    return cutoffPolicy.retainsNoMoreThan(previous) ? watermark : null;
+  }
+
   @SuppressWarnings("resource")
   private ReferencesWalkResult identifyContentsForReference(
-      AddContents addContents, Reference namedReference) {
+      AddContents addContents, Reference namedReference, ReferenceWatermark baseWatermark) {
     CutoffPolicy cutoffPolicy = cutOffPolicySupplier().get(namedReference);
+    String refName = namedReference.getName();
+
+    ReferenceWatermark watermark = usableWatermark(baseWatermark, cutoffPolicy);
 
     if (visitedDeduplicator().alreadyVisited(cutoffPolicy.timestamp(), namedReference.getHash())) {
       // This commit-ID has already been visited with the same (or maybe an older/smaller)
@@ -243,6 +311,8 @@ public abstract class IdentifyLiveContents {
 
       LogEntryHolder holder = new LogEntryHolder();
       String lastCommitId = null;
+      Instant lastCommitTime = null;
+      int lastCommitDepth = 0;
       String finalCommitId = null;
 
       for (Spliterator<LogResponse.LogEntry> spliterator = commits.spliterator();
@@ -280,6 +350,24 @@ public abstract class IdentifyLiveContents {
         // The HEAD commit is always live, consult cutoff-policy for all other commits
         if (lastCommitId == null || !cutoffPolicy.isCutoff(commitTime, numCommits)) {
           // commit is "live"
+
+          if (watermark != null && watermark.commitId().equals(commitHash)) {
+            // The live contents reachable from this commit have been identified for the base
+            // live-set, re-check those against the current cutoff policy.
+            numContents +=
+                addBaseLiveContents(addContents, namedReference, cutoffPolicy, numCommits - 1);
+            LOGGER.info(
+                "live-set#{}: Finished walking the commit log of {} using {} after {} commits, commit {} is the watermark of the base live-set#{}.",
+                addContents.id(),
+                namedReference,
+                cutoffPolicy,
+                numCommits,
+                commitHash,
+                baseLiveContentSetId());
+            addReferenceWatermark(addContents, namedReference, cutoffPolicy);
+            return ReferencesWalkResult.singleWatermarkHit(numCommits, numContents);
+          }
+
           LOGGER.debug(
               "live-set#{}: Checking commit {} with {} operations via {}.",
               addContents.id(),
@@ -287,8 +375,11 @@ public abstract class IdentifyLiveContents {
               operations.size(),
               namedReference);
           lastCommitId = commitHash;
+          lastCommitTime = commitTime;
+          lastCommitDepth = numCommits;
+          int commitDepth = numCommits;
           numContents +=
-              addContents.addLiveContent(
+              addContents.addLiveContentWithWatermarks(
                   operations.stream()
                       .filter(operation -> operation instanceof Operation.Put)
                       .filter(
@@ -306,8 +397,13 @@ public abstract class IdentifyLiveContents {
                                 put,
                                 commitHash);
 
-                            return contentToContentReference()
-                                .contentToReference(content, commitHash, put.getKey());
+                            return contentWatermark(
+                                refName,
+                                contentToContentReference()
+                                    .contentToReference(content, commitHash, put.getKey()),
+                                commitTime,
+                                commitDepth,
+                                false);
                           }));
         } else {
           // 1st non-live commit
@@ -318,11 +414,13 @@ public abstract class IdentifyLiveContents {
 
       // Always consider all content reachable from the last live commit.
       if (lastCommitId != null) {
-        try {
-          numContents += collectAllKeys(addContents, Detached.of(lastCommitId));
-        } catch (NessieNotFoundException e) {
-          throw new RuntimeException(e);
-        }
+        numContents +=
+            collectAllKeys(
+                addContents,
+                refName,
+                Detached.of(lastCommitId),
+                lastCommitTime,
+                lastCommitDepth);
       }
 
       LOGGER.info(
@@ -334,6 +432,7 @@ public abstract class IdentifyLiveContents {
           finalCommitId != null
               ? format("commit %s is the first non-live commit.", finalCommitId)
               : "no more commits");
+      addReferenceWatermark(addContents, namedReference, cutoffPolicy);
       return ReferencesWalkResult.single(numCommits, numContents);
     } catch (NessieNotFoundException e) {
       throw new RuntimeException(
@@ -341,38 +440,127 @@ public abstract class IdentifyLiveContents {
     }
   }
 
+  /**
+   * Records the {@link ReferenceWatermark} of a reference, whose live contents are completely
+   * described by the {@link ContentWatermark}s recorded for it.
+   */
+  private static void addReferenceWatermark(
+      AddContents addContents, Reference namedReference, CutoffPolicy cutoffPolicy) {
+    String policyString = cutoffPolicy.asPolicyString();
+    if (policyString != null) {
+      addContents.addReferenceWatermark(
+          referenceWatermark(namedReference.getName(), namedReference.getHash(), policyString));
+    }
+  }
+
+  /**
+   * Adds the live contents of a reference identified for the base live-set that are still live
+   * using the current cutoff policy.
+   *
+   * <p>The commit log of the reference has been walked up to the base live-set's watermark commit,
+   * {@code newCommits} commits are newer than that commit. Contents put by a commit are live, if
+   * the commit and all newer commits recorded in the base live-set are live. If all of those
+   * commits are live, the contents visible at the base live-set's last live commit are live as
+   * well. Otherwise, all contents visible at the newest recorded non-live commit are added, which
+   * include all contents visible at the last live commit that have not been put by a live commit.
+   */
+  private long addBaseLiveContents(
+      AddContents addContents,
+      Reference namedReference,
+      CutoffPolicy cutoffPolicy,
+      int newCommits) {
+    List<ContentWatermark> baseWatermarks;
+    try (Stream<ContentWatermark> watermarks =
+        liveContentSetsRepository()
+            .getContentWatermarks(baseLiveContentSetId(), namedReference.getName())) {
+      baseWatermarks = watermarks.collect(Collectors.toList());
+    }
+
+    ContentWatermark firstNonLive = null;
+    for (ContentWatermark watermark : baseWatermarks) {
+      int commitDepth = watermark.commitDepth() + newCommits;
+      if (!watermark.allContents()
+          && commitDepth > 1
+          && cutoffPolicy.isCutoff(watermark.commitTime(), commitDepth)
+          && (firstNonLive == null || watermark.commitDepth() < firstNonLive.commitDepth())) {
+        firstNonLive = watermark;
+      }
+    }
+
+    int maxCommitDepth = firstNonLive != null ? firstNonLive.commitDepth() : Integer.MAX_VALUE;
+    boolean withAllContents = firstNonLive == null;
+    long numContents =
+        addContents.addLiveContentWithWatermarks(
+            baseWatermarks.stream()
+                .filter(w -> w.allContents() ? withAllContents : w.commitDepth() < maxCommitDepth)
+                .map(
+                    w ->
+                        contentWatermark(
+                            w.referenceName(),
+                            w.contentReference(),
+                            w.commitTime(),
+                            w.commitDepth() + newCommits,
+                            w.allContents())));
+
+    if (firstNonLive != null) {
+      numContents +=
+          collectAllKeys(
+              addContents,
+              namedReference.getName(),
+              Detached.of(firstNonLive.contentReference().commitId()),
+              firstNonLive.commitTime(),
+              firstNonLive.commitDepth() + newCommits);
+    }
+    return numContents;
+  }
+
   @SuppressWarnings("resource")
-  private long collectAllKeys(AddContents addContents, Detached ref)
-      throws NessieNotFoundException {
-    return addContents.addLiveContent(
-        repositoryConnector()
-            .allContents(ref, contentTypeFilter().validTypes())
-            .map(
-                e ->
-                    contentToContentReference()
-                        .contentToReference(e.getValue(), ref.getHash(), e.getKey())));
+  private long collectAllKeys(
+      AddContents addContents, String refName, Detached ref, Instant commitTime, int commitDepth) {
+    try {
+      return addContents.addLiveContentWithWatermarks(
+          repositoryConnector()
+              .allContents(ref, contentTypeFilter().validTypes())
+              .map(
+                  e ->
+                      contentWatermark(
+                          refName,
+                          contentToContentReference()
+                              .contentToReference(e.getValue(), ref.getHash(), e.getKey()),
+                          commitTime,
+                          commitDepth,
+                          true)));
+    } catch (NessieNotFoundException e) {
+      throw new RuntimeException(e);
+    }
   }
 
   private static final class ReferencesWalkResult {
     final int numReferences;
     final int numCommits;
     final int shortCircuits;
+    final int watermarkHits;
     final long numContents;
 
     private ReferencesWalkResult(
-        int numReferences, int numCommits, int shortCircuits, long numContents) {
+        int numReferences, int numCommits, int shortCircuits, int watermarkHits, long numContents) {
       this.numReferences = numReferences;
       this.numCommits = numCommits;
       this.shortCircuits = shortCircuits;
+      this.watermarkHits = watermarkHits;
       this.numContents = numContents;
     }
 
     static ReferencesWalkResult singleShortCircuit(int numCommits, long numContents) {
-      return new ReferencesWalkResult(1, numCommits, 1, numContents);
+      return new ReferencesWalkResult(1, numCommits, 1, 0, numContents);
+    }
+
+    static ReferencesWalkResult singleWatermarkHit(int numCommits, long numContents) {
+      return new ReferencesWalkResult(1, numCommits, 0, 1, numContents);
     }
 
     static ReferencesWalkResult single(int numCommits, long numContents) {
-      return new ReferencesWalkResult(1, numCommits, 0, numContents);
+      return new ReferencesWalkResult(1, numCommits, 0, 0, numContents);
     }
 
     ReferencesWalkResult add(ReferencesWalkResult other) {
@@ -380,6 +568,7 @@ public abstract class IdentifyLiveContents {
           numReferences + other.numReferences,
           numCommits + other.numCommits,
           shortCircuits + other.shortCircuits,
+          watermarkHits + other.watermarkHits,
           numContents + other.numContents);
     }
 
@@ -392,7 +581,9 @@ public abstract class IdentifyLiveContents {
           + ", numContents="
           + numContents
           + ", shortCircuits="
-          + shortCircuits;
+          + shortCircuits
+          + ", watermarkHits="
+          + watermarkHits;
     }
   }
 
@@ -427,6 +618,9 @@ public abstract class IdentifyLiveContents {
   @Nullable
   abstract ReferenceComparator referenceComparator();
 
+  @Nullable
+  abstract UUID baseLiveContentSetId();
+
   @Value.Default
   int parallelism() {
     return DEFAULT_PARALLELISM;
@@ -25,6 +25,11 @@ final class NoneCutoffPolicy implements CutoffPolicy {
     return false;
   }
 
+  @Override
+  public String asPolicyString() {
+    return "NONE";
+  }
+
   @Override
   public String toString() {
     return "no cutoff (keep everything)";
@@ -32,6 +32,19 @@ final class NumCommitsCutoffPolicy implements CutoffPolicy {
     return numCommits > commits;
   }
 
+  @Override
+  public String asPolicyString() {
+    return Integer.toString(commits);
+  }
+
+  @Override
+  public boolean retainsNoMoreThan(@Nonnull CutoffPolicy previous) {
+    if (previous instanceof NumCommitsCutoffPolicy) {
+      return commits <= ((NumCommitsCutoffPolicy) previous).commits;
+    }
+    return CutoffPolicy.super.retainsNoMoreThan(previous);
+  }
+
   @Override
   public String toString() {
     return "cutoff after " + commits + " commits";
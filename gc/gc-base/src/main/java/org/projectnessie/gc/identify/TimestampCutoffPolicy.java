@@ -32,6 +32,19 @@ final class TimestampCutoffPolicy implements CutoffPolicy {
     return commitTime.compareTo(cutoffTimestamp) < 0L;
   }
 
+  @Override
+  public String asPolicyString() {
+    return cutoffTimestamp.toString();
+  }
+
+  @Override
+  public boolean retainsNoMoreThan(@Nonnull CutoffPolicy previous) {
+    if (previous instanceof TimestampCutoffPolicy) {
+      return !cutoffTimestamp.isBefore(((TimestampCutoffPolicy) previous).cutoffTimestamp);
+    }
+    return CutoffPolicy.super.retainsNoMoreThan(previous);
+  }
+
   @Override
   public String toString() {
     return "cutoff at timestamp " + cutoffTimestamp;
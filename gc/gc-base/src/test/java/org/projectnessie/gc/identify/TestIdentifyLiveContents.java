@@ -15,12 +15,21 @@
  */
 package org.projectnessie.gc.identify;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.projectnessie.gc.contents.ContentReference.icebergContent;
+import static org.projectnessie.gc.contents.ReferenceWatermark.referenceWatermark;
 import static org.projectnessie.jaxrs.ext.NessieJaxRsExtension.jaxRsExtension;
+import static org.projectnessie.model.Content.Type.ICEBERG_TABLE;
 
 import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,12 +37,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.projectnessie.client.api.NessieApiV1;
 import org.projectnessie.client.ext.NessieClientFactory;
+import org.projectnessie.error.NessieNotFoundException;
+import org.projectnessie.gc.contents.ContentReference;
 import org.projectnessie.gc.contents.LiveContentSetsRepository;
+import org.projectnessie.gc.contents.ReferenceWatermark;
 import org.projectnessie.gc.contents.inmem.InMemoryPersistenceSpi;
 import org.projectnessie.gc.repository.NessieRepositoryConnector;
 import org.projectnessie.gc.repository.RepositoryConnector;
 import org.projectnessie.jaxrs.ext.NessieJaxRsExtension;
+import org.projectnessie.model.Branch;
+import org.projectnessie.model.CommitMeta;
 import org.projectnessie.model.Content;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.Detached;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.LogResponse;
+import org.projectnessie.model.Operation;
+import org.projectnessie.model.Reference;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.inmemorytests.InmemoryBackendTestFactory;
 import org.projectnessie.versioned.storage.testextension.NessieBackend;
@@ -126,4 +146,183 @@ public class TestIdentifyLiveContents {
           .hasMessageContaining("identifyLiveContents() has already been called");
     }
   }
+
+  @Test
+  public void incremental() throws Exception {
+    Branch main = nessieApi.getDefaultBranch();
+    for (int i = 0; i < 3; i++) {
+      main = commitTable(main, i);
+    }
+
+    InMemoryPersistenceSpi persistenceSpi = new InMemoryPersistenceSpi();
+    LiveContentSetsRepository repository =
+        LiveContentSetsRepository.builder().persistenceSpi(persistenceSpi).build();
+    AtomicInteger walkedCommits = new AtomicInteger();
+
+    try (RepositoryConnector nessie = countingConnector(walkedCommits)) {
+      UUID base = identify(nessie, repository, CutoffPolicy.NONE, null);
+      assertThat(walkedCommits).hasValue(3);
+      assertThat(watermarks(repository, base))
+          .containsEntry(
+              main.getName(), referenceWatermark(main.getName(), main.getHash(), "NONE"));
+
+      main = commitTable(main, 3);
+      main = commitTable(main, 4);
+
+      // only the new commits plus the watermark commit are walked
+      walkedCommits.set(0);
+      UUID incremental = identify(nessie, repository, CutoffPolicy.numCommits(2), base);
+      assertThat(walkedCommits).hasValue(3);
+      assertThat(watermarks(repository, incremental))
+          .containsEntry(main.getName(), referenceWatermark(main.getName(), main.getHash(), "2"));
+
+      // the incremental live set contains everything a full run with the same policy identifies
+      walkedCommits.set(0);
+      UUID full = identify(nessie, repository, CutoffPolicy.numCommits(2), null);
+      assertThat(walkedCommits).hasValue(3);
+      assertThat(contentReferences(persistenceSpi, incremental))
+          .containsAll(contentReferences(persistenceSpi, full))
+          .containsAll(contentReferences(persistenceSpi, base));
+
+      // a policy that retains more commits than the base live set's policy requires a full walk
+      walkedCommits.set(0);
+      UUID retainMore = identify(nessie, repository, CutoffPolicy.NONE, incremental);
+      assertThat(walkedCommits).hasValue(5);
+      assertThat(contentReferences(persistenceSpi, retainMore))
+          .containsExactlyInAnyOrderElementsOf(contentReferences(persistenceSpi, incremental));
+    }
+  }
+
+  @Test
+  public void incrementalRecheckBaseContents() throws Exception {
+    Branch main = nessieApi.getDefaultBranch();
+    for (int i = 0; i < 6; i++) {
+      main = commitTable(main, i);
+    }
+
+    InMemoryPersistenceSpi persistenceSpi = new InMemoryPersistenceSpi();
+    LiveContentSetsRepository repository =
+        LiveContentSetsRepository.builder().persistenceSpi(persistenceSpi).build();
+    AtomicInteger walkedCommits = new AtomicInteger();
+
+    try (RepositoryConnector nessie = countingConnector(walkedCommits)) {
+      UUID base = identify(nessie, repository, CutoffPolicy.numCommits(5), null);
+      assertThat(walkedCommits).hasValue(6);
+
+      // the same policy without new commits reuses all contents of the base live set
+      walkedCommits.set(0);
+      UUID unchanged = identify(nessie, repository, CutoffPolicy.numCommits(5), base);
+      assertThat(walkedCommits).hasValue(1);
+      assertThat(contentReferences(persistenceSpi, unchanged))
+          .containsExactlyInAnyOrderElementsOf(contentReferences(persistenceSpi, base));
+
+      main = commitTable(main, 6);
+
+      // the watermark commit is still live, but the contents put by the two oldest live commits
+      // of the base live set are no longer live
+      walkedCommits.set(0);
+      UUID incremental = identify(nessie, repository, CutoffPolicy.numCommits(4), base);
+      assertThat(walkedCommits).hasValue(2);
+      assertThat(watermarks(repository, incremental))
+          .containsEntry(main.getName(), referenceWatermark(main.getName(), main.getHash(), "4"));
+
+      walkedCommits.set(0);
+      UUID full = identify(nessie, repository, CutoffPolicy.numCommits(4), null);
+      assertThat(walkedCommits).hasValue(5);
+      assertThat(contentReferences(persistenceSpi, incremental))
+          .containsExactlyInAnyOrderElementsOf(contentReferences(persistenceSpi, full));
+
+      // content watermarks of the incremental live set can be re-checked by the next run
+      main = commitTable(main, 7);
+      walkedCommits.set(0);
+      UUID next = identify(nessie, repository, CutoffPolicy.numCommits(4), incremental);
+      assertThat(walkedCommits).hasValue(2);
+      walkedCommits.set(0);
+      UUID nextFull = identify(nessie, repository, CutoffPolicy.numCommits(4), null);
+      assertThat(walkedCommits).hasValue(5);
+      assertThat(contentReferences(persistenceSpi, next))
+          .containsExactlyInAnyOrderElementsOf(contentReferences(persistenceSpi, nextFull));
+    }
+  }
+
+  private Branch commitTable(Branch branch, int i) throws Exception {
+    return nessieApi
+        .commitMultipleOperations()
+        .branch(branch)
+        .commitMeta(CommitMeta.fromMessage("commit " + i))
+        .operation(
+            Operation.Put.of(
+                ContentKey.of("table-" + i), IcebergTable.of("meta-" + i, 42 + i, 43, 44, 45)))
+        .commit();
+  }
+
+  private UUID identify(
+      RepositoryConnector nessie,
+      LiveContentSetsRepository repository,
+      CutoffPolicy cutoffPolicy,
+      UUID base) {
+    return IdentifyLiveContents.builder()
+        .contentTypeFilter(
+            new ContentTypeFilter() {
+              @Override
+              public boolean test(Content.Type type) {
+                return type.equals(ICEBERG_TABLE);
+              }
+
+              @Override
+              public Set<Content.Type> validTypes() {
+                return Collections.singleton(ICEBERG_TABLE);
+              }
+            })
+        .cutOffPolicySupplier(r -> cutoffPolicy)
+        .contentToContentReference(
+            (content, commitId, key) -> icebergContent(commitId, key, content))
+        .liveContentSetsRepository(repository)
+        .repositoryConnector(nessie)
+        .baseLiveContentSetId(base)
+        .build()
+        .identifyLiveContents();
+  }
+
+  private RepositoryConnector countingConnector(AtomicInteger walkedCommits) {
+    RepositoryConnector nessie = NessieRepositoryConnector.nessie(nessieApi);
+    return new RepositoryConnector() {
+      @Override
+      public Stream<Reference> allReferences() throws NessieNotFoundException {
+        return nessie.allReferences();
+      }
+
+      @Override
+      public Stream<LogResponse.LogEntry> commitLog(Reference ref) throws NessieNotFoundException {
+        return nessie.commitLog(ref).peek(e -> walkedCommits.incrementAndGet());
+      }
+
+      @Override
+      public Stream<Map.Entry<ContentKey, Content>> allContents(
+          Detached ref, Set<Content.Type> types) throws NessieNotFoundException {
+        return nessie.allContents(ref, types);
+      }
+
+      @Override
+      public void close() throws Exception {
+        nessie.close();
+      }
+    };
+  }
+
+  private static Map<String, ReferenceWatermark> watermarks(
+      LiveContentSetsRepository repository, UUID liveSetId) {
+    try (Stream<ReferenceWatermark> watermarks = repository.getReferenceWatermarks(liveSetId)) {
+      return watermarks.collect(Collectors.toMap(ReferenceWatermark::referenceName, w -> w));
+    }
+  }
+
+  private static Set<ContentReference> contentReferences(
+      InMemoryPersistenceSpi persistenceSpi, UUID liveSetId) {
+    try (Stream<String> contentIds = persistenceSpi.fetchContentIds(liveSetId)) {
+      return contentIds
+          .flatMap(cid -> persistenceSpi.fetchContentReferences(liveSetId, cid))
+          .collect(Collectors.toSet());
+    }
+  }
 }
@@ -17,7 +17,11 @@ package org.projectnessie.gc.iceberg.files;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Spliterators.AbstractSpliterator;
@@ -26,6 +30,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
@@ -53,12 +58,20 @@ import org.slf4j.LoggerFactory;
  * Iceberg's {@link S3FileIO} for S3 schemes and/or {@link ResolvingFileIO} for non-S3 schemes.
  *
  * <p>The {@link FileIO} instances are only instantiated when needed.
+ *
+ * <p>Listing a base location can be split into shards via {@link #listingShardPrefixes()}, which
+ * are listed concurrently by {@link org.projectnessie.gc.expire.PerContentDeleteExpired}.
  */
 @Value.Immutable
 public abstract class IcebergFiles implements FilesLister, FileDeleter, AutoCloseable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(IcebergFiles.class);
 
+  /** Placeholder in {@link #listingShardPrefixes()} for the 16 hexadecimal digits. */
+  public static final String HEX_PLACEHOLDER = "{hex}";
+
+  private static final String HEX_DIGITS = "0123456789abcdef";
+
   public static Builder builder() {
     return ImmutableIcebergFiles.builder();
   }
@@ -80,6 +93,26 @@ public abstract class IcebergFiles implements FilesLister, FileDeleter, AutoClos
     @CanIgnoreReturnValue
     Builder properties(Map<String, ? extends String> entries);
 
+    @CanIgnoreReturnValue
+    Builder addListingShardPrefixes(String... elements);
+
+    /**
+     * Prefixes relative to a base location, each prefix is a shard that is listed concurrently to
+     * other shards, see {@link FilesLister#listingShards(StorageUri)}.
+     *
+     * <p>Prefixes must be disjoint. The placeholder {@value IcebergFiles#HEX_PLACEHOLDER} is
+     * expanded to the 16 hexadecimal digits, for example {@code data/{hex}} for tables using
+     * Iceberg's object storage layout with hashed path components. Prefixes that do not end with a
+     * {@code /} are matched against the beginning of the file or directory names, which is not
+     * supported by ADLS.
+     *
+     * <p>Files in a base location that do not start with any of the prefixes are not listed and
+     * therefore never deleted. If no prefixes are configured, which is the default, a base location
+     * is listed as a whole.
+     */
+    @CanIgnoreReturnValue
+    Builder listingShardPrefixes(Iterable<String> elements);
+
     IcebergFiles build();
   }
 
@@ -90,6 +123,28 @@ public abstract class IcebergFiles implements FilesLister, FileDeleter, AutoClos
 
   abstract Map<String, String> properties();
 
+  abstract List<String> listingShardPrefixes();
+
+  @Value.Lazy
+  List<String> expandedListingShardPrefixes() {
+    List<String> shards = new ArrayList<>();
+    listingShardPrefixes().forEach(prefix -> expandHexPlaceholder(prefix, shards::add));
+    return shards;
+  }
+
+  private static void expandHexPlaceholder(String prefix, Consumer<String> shards) {
+    int i = prefix.indexOf(HEX_PLACEHOLDER);
+    if (i < 0) {
+      shards.accept(prefix);
+      return;
+    }
+    String head = prefix.substring(0, i);
+    String tail = prefix.substring(i + HEX_PLACEHOLDER.length());
+    for (int d = 0; d < HEX_DIGITS.length(); d++) {
+      expandHexPlaceholder(head + HEX_DIGITS.charAt(d) + tail, shards);
+    }
+  }
+
   @SuppressWarnings("immutables:incompat")
   private volatile boolean hasResolvingFileIO;
 
@@ -129,38 +184,103 @@ public abstract class IcebergFiles implements FilesLister, FileDeleter, AutoClos
   public Stream<FileReference> listRecursively(StorageUri path) throws NessieFileIOException {
     StorageUri basePath = path.withTrailingSeparator();
     if (supportsBulkAndPrefixOperations(path)) {
+      return listPrefix(basePath, "");
+    }
 
-      @SuppressWarnings("resource")
-      SupportsPrefixOperations fileIo = (SupportsPrefixOperations) resolvingFileIO();
-      Iterable<FileInfo> fileInfos;
-      try {
-        fileInfos = fileIo.listPrefix(basePath.toString());
-      } catch (Exception e) {
-        throw new NessieFileIOException("Failed to list prefix of " + path, e);
-      }
-      return StreamSupport.stream(fileInfos.spliterator(), false)
-          .map(
-              f -> {
-                StorageUri location = StorageUri.of(f.location());
-                if (!location.isAbsolute()) {
-                  location = basePath.resolve("/").resolve(location);
-                }
-                return FileReference.of(
-                    basePath.relativize(location), basePath, f.createdAtMillis());
-              });
+    return listHadoop(basePath, new Path(basePath.location()), false);
+  }
+
+  @Override
+  public List<String> listingShards(StorageUri path) {
+    List<String> shards = expandedListingShardPrefixes();
+    return shards.isEmpty() ? Collections.singletonList("") : shards;
+  }
+
+  @Override
+  @MustBeClosed
+  public Stream<FileReference> listShard(StorageUri path, String shard)
+      throws NessieFileIOException {
+    if (shard.isEmpty()) {
+      return listRecursively(path);
     }
 
-    return listHadoop(basePath);
+    StorageUri basePath = path.withTrailingSeparator();
+    if (supportsBulkAndPrefixOperations(path)) {
+      return listPrefix(basePath, shard);
+    }
+
+    int lastSlash = shard.lastIndexOf('/');
+    String directory = shard.substring(0, lastSlash + 1);
+    String namePrefix = shard.substring(lastSlash + 1);
+    Path dir = new Path(basePath.resolve(directory).location());
+    if (namePrefix.isEmpty()) {
+      // A shard directory does not necessarily exist
+      return listHadoop(basePath, dir, true);
+    }
+
+    // Only list the files and directories in 'dir' whose name starts with 'namePrefix'
+    FileStatus[] children;
+    try {
+      children = hadoopFileSystem(basePath).listStatus(dir);
+    } catch (FileNotFoundException e) {
+      return Stream.empty();
+    } catch (IOException e) {
+      throw new NessieFileIOException("Failed to list (via Hadoop) " + dir, e);
+    }
+    return Arrays.stream(children)
+        .filter(child -> child.getPath().getName().startsWith(namePrefix))
+        .flatMap(
+            child -> {
+              if (child.isDirectory()) {
+                try {
+                  return listHadoop(basePath, child.getPath(), false);
+                } catch (NessieFileIOException e) {
+                  throw new RuntimeException(e);
+                }
+              }
+              return Stream.of(hadoopFileReference(basePath, child));
+            });
   }
 
-  private Stream<FileReference> listHadoop(StorageUri basePath) throws NessieFileIOException {
-    Path p = new Path(basePath.location());
-    FileSystem fs;
+  private Stream<FileReference> listPrefix(StorageUri basePath, String shard)
+      throws NessieFileIOException {
+    @SuppressWarnings("resource")
+    SupportsPrefixOperations fileIo = (SupportsPrefixOperations) resolvingFileIO();
+    Iterable<FileInfo> fileInfos;
     try {
-      fs = p.getFileSystem(hadoopConfiguration());
+      fileInfos = fileIo.listPrefix(basePath.toString() + shard);
+    } catch (Exception e) {
+      throw new NessieFileIOException("Failed to list prefix of " + basePath + shard, e);
+    }
+    return StreamSupport.stream(fileInfos.spliterator(), false)
+        .map(
+            f -> {
+              StorageUri location = StorageUri.of(f.location());
+              if (!location.isAbsolute()) {
+                location = basePath.resolve("/").resolve(location);
+              }
+              return FileReference.of(basePath.relativize(location), basePath, f.createdAtMillis());
+            });
+  }
+
+  private FileSystem hadoopFileSystem(StorageUri basePath) throws NessieFileIOException {
+    try {
+      return new Path(basePath.location()).getFileSystem(hadoopConfiguration());
     } catch (IOException e) {
       throw new NessieFileIOException("Failed to get Hadoop file system " + basePath, e);
     }
+  }
+
+  private static FileReference hadoopFileReference(StorageUri basePath, FileStatus status) {
+    return FileReference.of(
+        basePath.relativize(StorageUri.of(status.getPath().toUri())),
+        basePath,
+        status.getModificationTime());
+  }
+
+  private Stream<FileReference> listHadoop(StorageUri basePath, Path p, boolean missingIsEmpty)
+      throws NessieFileIOException {
+    FileSystem fs = hadoopFileSystem(basePath);
 
     return StreamSupport.stream(
         new AbstractSpliterator<>(Long.MAX_VALUE, 0) {
@@ -180,14 +300,15 @@ public abstract class IcebergFiles implements FilesLister, FileDeleter, AutoClos
               LocatedFileStatus status = iterator.next();
 
               if (status.isFile()) {
-                action.accept(
-                    FileReference.of(
-                        basePath.relativize(StorageUri.of(status.getPath().toUri())),
-                        basePath,
-                        status.getModificationTime()));
+                action.accept(hadoopFileReference(basePath, status));
               }
 
               return true;
+            } catch (FileNotFoundException e) {
+              if (missingIsEmpty) {
+                return false;
+              }
+              throw new RuntimeException("Failed to list (via Hadoop) " + basePath, e);
             } catch (IOException e) {
               throw new RuntimeException("Failed to list (via Hadoop) " + basePath, e);
             }
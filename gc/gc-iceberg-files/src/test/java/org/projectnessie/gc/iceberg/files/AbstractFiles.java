@@ -90,6 +90,41 @@ public abstract class AbstractFiles {
     }
   }
 
+  @Test
+  public void listingShards() throws Exception {
+    StorageUri baseUri = storageUri("/path/");
+
+    Set<String> keys = synchronizedSet(new TreeSet<>());
+    keys.add("path/a/file-1");
+    keys.add("path/a/sub/file-2");
+    keys.add("path/b/file-3");
+    keys.add("path/c/file-4");
+    keys.add("path/file-5");
+
+    try (ObjectStorageMock.MockServer server = createServer(keys);
+        IcebergFiles icebergFiles = createIcebergFiles(server, "a/", "b/", "d/")) {
+
+      assertThat(icebergFiles.listingShards(baseUri)).containsExactly("a/", "b/", "d/");
+
+      Set<StorageUri> listed = new HashSet<>();
+      for (String shard : icebergFiles.listingShards(baseUri)) {
+        try (Stream<FileReference> files = icebergFiles.listShard(baseUri, shard)) {
+          files
+              .peek(f -> assertThat(f.base()).isEqualTo(baseUri))
+              .map(FileReference::absolutePath)
+              .forEach(listed::add);
+        }
+      }
+
+      // files outside the configured shards are not listed
+      assertThat(listed)
+          .containsExactlyInAnyOrder(
+              storageUri("path/a/file-1"),
+              storageUri("path/a/sub/file-2"),
+              storageUri("path/b/file-3"));
+    }
+  }
+
   /**
    * Creates many files, lists the files, deletes 10% of the created files, lists again.
    *
@@ -157,8 +192,10 @@ public abstract class AbstractFiles {
         .start();
   }
 
-  private IcebergFiles createIcebergFiles(ObjectStorageMock.MockServer server) {
+  private IcebergFiles createIcebergFiles(
+      ObjectStorageMock.MockServer server, String... listingShardPrefixes) {
     return IcebergFiles.builder()
+        .addListingShardPrefixes(listingShardPrefixes)
         .properties(icebergProperties(server))
         .hadoopConfiguration(hadoopConfiguration(server))
         .build();
@@ -15,10 +15,16 @@
  */
 package org.projectnessie.gc.iceberg.files;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.projectnessie.gc.files.FileDeleter;
 import org.projectnessie.gc.files.FileReference;
@@ -48,6 +54,37 @@ public class TestIcebergFilesLocal extends AbstractFiles {
     }
   }
 
+  @Test
+  public void listingShards() throws Exception {
+    for (String file :
+        List.of("data/0a/file-1", "data/1b/file-2", "data/x/file-3", "metadata/file-4", "file-5")) {
+      Path p = path.resolve(file);
+      Files.createDirectories(p.getParent());
+      Files.createFile(p);
+    }
+
+    StorageUri base = baseUri();
+    try (IcebergFiles sharded =
+        IcebergFiles.builder().addListingShardPrefixes("data/{hex}", "metadata/").build()) {
+      List<String> shards = sharded.listingShards(base);
+      assertThat(shards).hasSize(17).contains("data/0", "data/f", "metadata/");
+
+      List<StorageUri> listed = new ArrayList<>();
+      for (String shard : shards) {
+        try (Stream<FileReference> files = sharded.listShard(base, shard)) {
+          files.map(FileReference::path).forEach(listed::add);
+        }
+      }
+
+      // files outside the configured shards are not listed
+      assertThat(listed)
+          .containsExactlyInAnyOrder(
+              StorageUri.of("data/0a/file-1"),
+              StorageUri.of("data/1b/file-2"),
+              StorageUri.of("metadata/file-4"));
+    }
+  }
+
   @Override
   protected StorageUri baseUri() {
     return StorageUri.of(path.toUri());
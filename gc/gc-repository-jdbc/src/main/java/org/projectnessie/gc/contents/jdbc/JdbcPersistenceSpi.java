@@ -17,25 +17,33 @@ package org.projectnessie.gc.contents.jdbc;
 
 import static com.google.common.base.Throwables.getStackTraceAsString;
 import static org.projectnessie.gc.contents.ContentReference.icebergContent;
+import static org.projectnessie.gc.contents.ContentWatermark.contentWatermark;
+import static org.projectnessie.gc.contents.ReferenceWatermark.referenceWatermark;
 import static org.projectnessie.gc.contents.jdbc.JdbcHelper.isIntegrityConstraintViolation;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.ADD_CONTENT;
+import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.DELETE_CONTENT_WATERMARKS;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.DELETE_FILE_DELETIONS;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.DELETE_LIVE_CONTENTS;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.DELETE_LIVE_CONTENT_SET;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.DELETE_LIVE_SET_LOCATIONS;
+import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.DELETE_WATERMARKS;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.ERROR_LENGTH;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.FINISH_EXPIRE;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.FINISH_IDENTIFY;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.INSERT_CONTENT_LOCATION;
+import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.INSERT_CONTENT_WATERMARK;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.INSERT_FILE_DELETIONS;
+import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.INSERT_WATERMARK;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_ALL_LIVE_CONTENT_SETS;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_CONTENT_COUNT;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_CONTENT_IDS;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_CONTENT_LOCATION;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_CONTENT_LOCATION_ALL;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_CONTENT_REFERENCES;
+import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_CONTENT_WATERMARKS;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_FILE_DELETIONS;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_LIVE_CONTENT_SET;
+import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.SELECT_WATERMARKS;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.START_EXPIRE;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.START_IDENTIFY;
 import static org.projectnessie.model.Content.Type.ICEBERG_TABLE;
@@ -50,6 +58,7 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -65,8 +74,10 @@ import javax.sql.DataSource;
 import org.immutables.value.Value;
 import org.intellij.lang.annotations.Language;
 import org.projectnessie.gc.contents.ContentReference;
+import org.projectnessie.gc.contents.ContentWatermark;
 import org.projectnessie.gc.contents.LiveContentSet;
 import org.projectnessie.gc.contents.LiveContentSetNotFoundException;
+import org.projectnessie.gc.contents.ReferenceWatermark;
 import org.projectnessie.gc.contents.jdbc.JdbcHelper.FromRow;
 import org.projectnessie.gc.contents.jdbc.JdbcHelper.Prepare;
 import org.projectnessie.gc.contents.jdbc.JdbcHelper.ResultSetSplit;
@@ -228,26 +239,7 @@ public abstract class JdbcPersistenceSpi implements PersistenceSpi {
           stmt.setString(1, liveSetId.toString());
           long count = 0L;
           for (Iterator<ContentReference> iter = contentReference.iterator(); iter.hasNext(); ) {
-            ContentReference ref = iter.next();
-            stmt.setString(2, ref.contentId());
-            stmt.setString(3, ref.commitId());
-            stmt.setString(4, ref.contentKey().toPathString());
-            stmt.setString(5, ref.contentType().name());
-            if (ref.contentType().equals(ICEBERG_TABLE) || ref.contentType().equals(ICEBERG_VIEW)) {
-              stmt.setString(
-                  6,
-                  Objects.requireNonNull(
-                      ref.metadataLocation(),
-                      "Illegal null metadataLocation in ContentReference for ICEBERG_TABLE/ICEBERG_VIEW"));
-              stmt.setLong(
-                  7,
-                  Objects.requireNonNull(
-                      ref.snapshotId(),
-                      "Illegal null snapshotId in ContentReference for ICEBERG_TABLE/ICEBERG_VIEW"));
-            } else {
-              throw new UnsupportedOperationException(
-                  "Unsupported content type " + ref.contentType());
-            }
+            setContentReference(stmt, 2, iter.next());
             // TODO add batch updates
             if (stmt.executeUpdate() != 0) {
               count++;
@@ -258,6 +250,81 @@ public abstract class JdbcPersistenceSpi implements PersistenceSpi {
         true);
   }
 
+  @Override
+  public long addIdentifiedLiveContentWithWatermarks(
+      UUID liveSetId, Stream<ContentWatermark> contentWatermarks) {
+    return singleStatement(
+        decorateInsertStatement(ADD_CONTENT),
+        (conn, stmt) -> {
+          stmt.setString(1, liveSetId.toString());
+          long count = 0L;
+          try (PreparedStatement stmt2 =
+              conn.prepareStatement(decorateInsertStatement(INSERT_CONTENT_WATERMARK))) {
+            stmt2.setString(1, liveSetId.toString());
+            for (Iterator<ContentWatermark> iter = contentWatermarks.iterator();
+                iter.hasNext(); ) {
+              ContentWatermark watermark = iter.next();
+              setContentReference(stmt, 2, watermark.contentReference());
+              if (stmt.executeUpdate() != 0) {
+                count++;
+              }
+              stmt2.setString(2, watermark.referenceName());
+              setContentReference(stmt2, 3, watermark.contentReference());
+              stmt2.setLong(9, ChronoUnit.MICROS.between(Instant.EPOCH, watermark.commitTime()));
+              stmt2.setInt(10, watermark.commitDepth());
+              stmt2.setBoolean(11, watermark.allContents());
+              stmt2.executeUpdate();
+            }
+          }
+          return count;
+        },
+        true);
+  }
+
+  @Override
+  @MustBeClosed
+  public Stream<ContentWatermark> fetchContentWatermarks(UUID liveSetId, String referenceName) {
+    return streamingResult(
+        SELECT_CONTENT_WATERMARKS,
+        stmt -> {
+          stmt.setString(1, liveSetId.toString());
+          stmt.setString(2, referenceName);
+        },
+        rs ->
+            contentWatermark(
+                referenceName,
+                contentReference(rs),
+                Instant.EPOCH.plus(rs.getLong(7), ChronoUnit.MICROS),
+                rs.getInt(8),
+                rs.getBoolean(9)));
+  }
+
+  /**
+   * Sets the parameters {@code index} to {@code index + 5} of the given statement to the attributes
+   * of the given content reference.
+   */
+  private static void setContentReference(PreparedStatement stmt, int index, ContentReference ref)
+      throws SQLException {
+    stmt.setString(index, ref.contentId());
+    stmt.setString(index + 1, ref.commitId());
+    stmt.setString(index + 2, ref.contentKey().toPathString());
+    stmt.setString(index + 3, ref.contentType().name());
+    if (ref.contentType().equals(ICEBERG_TABLE) || ref.contentType().equals(ICEBERG_VIEW)) {
+      stmt.setString(
+          index + 4,
+          Objects.requireNonNull(
+              ref.metadataLocation(),
+              "Illegal null metadataLocation in ContentReference for ICEBERG_TABLE/ICEBERG_VIEW"));
+      stmt.setLong(
+          index + 5,
+          Objects.requireNonNull(
+              ref.snapshotId(),
+              "Illegal null snapshotId in ContentReference for ICEBERG_TABLE/ICEBERG_VIEW"));
+    } else {
+      throw new UnsupportedOperationException("Unsupported content type " + ref.contentType());
+    }
+  }
+
   @Override
   @MustBeClosed
   public Stream<ContentReference> fetchContentReferences(UUID liveSetId, String contentId) {
@@ -270,6 +337,30 @@ public abstract class JdbcPersistenceSpi implements PersistenceSpi {
         JdbcPersistenceSpi::contentReference);
   }
 
+  @Override
+  public void addReferenceWatermark(UUID liveSetId, ReferenceWatermark watermark) {
+    singleStatement(
+        decorateInsertStatement(INSERT_WATERMARK),
+        (conn, stmt) -> {
+          stmt.setString(1, liveSetId.toString());
+          stmt.setString(2, watermark.referenceName());
+          stmt.setString(3, watermark.commitId());
+          stmt.setString(4, watermark.cutoffPolicy());
+          stmt.executeUpdate();
+          return null;
+        },
+        true);
+  }
+
+  @Override
+  @MustBeClosed
+  public Stream<ReferenceWatermark> fetchReferenceWatermarks(UUID liveSetId) {
+    return streamingResult(
+        SELECT_WATERMARKS,
+        stmt -> stmt.setString(1, liveSetId.toString()),
+        rs -> referenceWatermark(rs.getString(1), rs.getString(2), rs.getString(3)));
+  }
+
   @Override
   public void associateBaseLocations(
       UUID liveSetId, String contentId, Collection<StorageUri> baseLocations) {
@@ -323,6 +414,14 @@ public abstract class JdbcPersistenceSpi implements PersistenceSpi {
             stmt2.setString(1, liveSetId.toString());
             stmt2.executeUpdate();
           }
+          try (PreparedStatement stmt2 = conn.prepareStatement(DELETE_WATERMARKS)) {
+            stmt2.setString(1, liveSetId.toString());
+            stmt2.executeUpdate();
+          }
+          try (PreparedStatement stmt2 = conn.prepareStatement(DELETE_CONTENT_WATERMARKS)) {
+            stmt2.setString(1, liveSetId.toString());
+            stmt2.executeUpdate();
+          }
           try (PreparedStatement stmt2 = conn.prepareStatement(DELETE_LIVE_CONTENT_SET)) {
             stmt2.setString(1, liveSetId.toString());
             int cnt = stmt2.executeUpdate();
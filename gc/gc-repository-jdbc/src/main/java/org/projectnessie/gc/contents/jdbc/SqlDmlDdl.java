@@ -68,6 +68,31 @@ final class SqlDmlDdl {
           + "    modification_timestamp BIGINT, \n"
           + "    PRIMARY KEY (live_set_id, base_uri, path_uri))";
 
+  @Language("SQL")
+  static final String CREATE_LIVE_SET_WATERMARKS =
+      "CREATE TABLE gc_live_set_watermarks (\n"
+          + "    live_set_id VARCHAR(40), \n"
+          + "    ref_name VARCHAR(500), \n"
+          + "    commit_id VARCHAR(100), \n"
+          + "    cutoff_policy VARCHAR(100), \n"
+          + "    PRIMARY KEY (live_set_id, ref_name))";
+
+  @Language("SQL")
+  static final String CREATE_LIVE_SET_CONTENT_WATERMARKS =
+      "CREATE TABLE gc_live_set_content_watermarks (\n"
+          + "    live_set_id VARCHAR(40), \n"
+          + "    ref_name VARCHAR(250), \n"
+          + "    content_id VARCHAR(200), \n"
+          + "    commit_id VARCHAR(100), \n"
+          + "    content_key VARCHAR(500), \n"
+          + "    content_type VARCHAR(40), \n"
+          + "    metadata_location VARCHAR(1000), \n"
+          + "    snapshot_id BIGINT, \n"
+          + "    commit_time_micros BIGINT, \n"
+          + "    commit_depth INT, \n"
+          + "    all_contents BOOLEAN, \n"
+          + "    PRIMARY KEY (live_set_id, ref_name, content_id, commit_id))";
+
   @Language("SQL")
   static final String INSERT_FILE_DELETIONS =
       "INSERT INTO gc_file_deletions \n"
@@ -98,6 +123,14 @@ final class SqlDmlDdl {
   static final String DELETE_LIVE_CONTENTS =
       "DELETE FROM gc_live_set_contents WHERE live_set_id = ?";
 
+  @Language("SQL")
+  static final String DELETE_WATERMARKS =
+      "DELETE FROM gc_live_set_watermarks WHERE live_set_id = ?";
+
+  @Language("SQL")
+  static final String DELETE_CONTENT_WATERMARKS =
+      "DELETE FROM gc_live_set_content_watermarks WHERE live_set_id = ?";
+
   @Language("SQL")
   static final String DELETE_LIVE_CONTENT_SET = "DELETE FROM gc_live_sets WHERE live_set_id = ?";
 
@@ -165,10 +198,35 @@ final class SqlDmlDdl {
           + "    FROM gc_live_set_contents \n"
           + "    WHERE live_set_id = ? AND content_id = ?";
 
+  @Language("SQL")
+  static final String INSERT_CONTENT_WATERMARK =
+      "INSERT INTO gc_live_set_content_watermarks \n"
+          + "    (live_set_id, ref_name, content_id, commit_id, content_key, content_type, metadata_location, snapshot_id, commit_time_micros, commit_depth, all_contents) \n"
+          + "    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  @Language("SQL")
+  static final String SELECT_CONTENT_WATERMARKS =
+      "SELECT content_id, commit_id, content_key, content_type, metadata_location, snapshot_id, commit_time_micros, commit_depth, all_contents \n"
+          + "    FROM gc_live_set_content_watermarks \n"
+          + "    WHERE live_set_id = ? AND ref_name = ?";
+
+  @Language("SQL")
+  static final String INSERT_WATERMARK =
+      "INSERT INTO gc_live_set_watermarks \n"
+          + "    (live_set_id, ref_name, commit_id, cutoff_policy) VALUES (?, ?, ?, ?)";
+
+  @Language("SQL")
+  static final String SELECT_WATERMARKS =
+      "SELECT ref_name, commit_id, cutoff_policy \n"
+          + "    FROM gc_live_set_watermarks \n"
+          + "    WHERE live_set_id = ?";
+
   static final Map<String, String> ALL_CREATES =
       ImmutableMap.of(
           "gc_live_sets", CREATE_LIVE_SETS,
           "gc_live_set_contents", CREATE_LIVE_SET_CONTENTS,
           "gc_live_set_content_locations", CREATE_LIVE_SET_LOCATIONS,
-          "gc_file_deletions", CREATE_FILE_DELETIONS);
+          "gc_file_deletions", CREATE_FILE_DELETIONS,
+          "gc_live_set_watermarks", CREATE_LIVE_SET_WATERMARKS,
+          "gc_live_set_content_watermarks", CREATE_LIVE_SET_CONTENT_WATERMARKS);
 }
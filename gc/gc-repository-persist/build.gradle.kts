@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+plugins { id("nessie-conventions-client") }
+
+publishingHelper { mavenName = "Nessie - GC - Direct storage repository connector" }
+
+description =
+  "Repository connector for Nessie GC that reads references, commits and contents directly from the Nessie storage."
+
+dependencies {
+  compileOnly(libs.errorprone.annotations)
+  compileOnly(libs.jakarta.annotation.api)
+
+  implementation(nessieProject("nessie-model"))
+  implementation(nessieProject("nessie-gc-base"))
+  implementation(nessieProject("nessie-versioned-spi"))
+  implementation(nessieProject("nessie-versioned-storage-common"))
+  implementation(nessieProject("nessie-versioned-storage-store"))
+  runtimeOnly(nessieProject("nessie-server-store"))
+
+  implementation(libs.guava)
+
+  compileOnly(libs.microprofile.openapi)
+
+  compileOnly(platform(libs.jackson.bom))
+  compileOnly("com.fasterxml.jackson.core:jackson-annotations")
+
+  testImplementation(nessieProject("nessie-client"))
+  testImplementation(nessieProject("nessie-jaxrs-testextension"))
+  testImplementation(nessieProject("nessie-versioned-storage-inmemory-tests"))
+  testImplementation(nessieProject("nessie-versioned-storage-testextension"))
+
+  testRuntimeOnly(libs.logback.classic)
+
+  testCompileOnly(libs.microprofile.openapi)
+
+  testCompileOnly(platform(libs.jackson.bom))
+  testCompileOnly("com.fasterxml.jackson.core:jackson-annotations")
+
+  testImplementation(platform(libs.junit.bom))
+  testImplementation(libs.bundles.junit.testing)
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.repository.persist;
+
+import static org.projectnessie.versioned.storage.common.logic.CommitLogQuery.commitLogQuery;
+import static org.projectnessie.versioned.storage.common.logic.Logics.commitLogic;
+import static org.projectnessie.versioned.storage.common.logic.Logics.indexesLogic;
+import static org.projectnessie.versioned.storage.common.logic.Logics.referenceLogic;
+import static org.projectnessie.versioned.storage.common.logic.ReferencesQuery.referencesQuery;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.objIdFromString;
+import static org.projectnessie.versioned.storage.versionstore.RefMapping.REFS_HEADS;
+import static org.projectnessie.versioned.storage.versionstore.RefMapping.REFS_TAGS;
+import static org.projectnessie.versioned.storage.versionstore.TypeMapping.storeKeyToKey;
+import static org.projectnessie.versioned.storage.versionstore.TypeMapping.toCommitMeta;
+import static org.projectnessie.versioned.store.DefaultStoreWorker.contentTypeForPayload;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Streams;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.Spliterators.AbstractSpliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.projectnessie.error.NessieNotFoundException;
+import org.projectnessie.error.NessieReferenceNotFoundException;
+import org.projectnessie.gc.repository.RepositoryConnector;
+import org.projectnessie.model.Branch;
+import org.projectnessie.model.Content;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.Detached;
+import org.projectnessie.model.ImmutableLogEntry;
+import org.projectnessie.model.LogResponse.LogEntry;
+import org.projectnessie.model.Operation;
+import org.projectnessie.model.Reference;
+import org.projectnessie.model.Tag;
+import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
+import org.projectnessie.versioned.storage.common.logic.CommitLogic;
+import org.projectnessie.versioned.storage.common.logic.IndexesLogic;
+import org.projectnessie.versioned.storage.common.logic.ReferenceLogic;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.versionstore.ContentMapping;
+
+/**
+ * {@link RepositoryConnector} that reads references, commits and contents directly from a {@link
+ * Persist} instance, without a Nessie server in between.
+ *
+ * <p>Commits are read via {@link CommitLogic}, which fetches the commits of a commit log in batches
+ * of the commits' tails. The operations of a commit are read from the commit's incremental index
+ * via {@link IndexesLogic}. Contents are fetched in bulk, for {@value #COMMIT_BATCH_SIZE} commits
+ * of a commit log or for {@value #CONTENT_BATCH_SIZE} keys of a complete index at once. Keys in a
+ * complete index are filtered by the content type encoded in the index elements, so contents of
+ * other types are not fetched at all.
+ */
+public final class PersistRepositoryConnector implements RepositoryConnector {
+
+  static final int COMMIT_BATCH_SIZE = 50;
+  static final int CONTENT_BATCH_SIZE = 250;
+
+  private final ReferenceLogic referenceLogic;
+  private final CommitLogic commitLogic;
+  private final IndexesLogic indexesLogic;
+  private final ContentMapping contentMapping;
+
+  private PersistRepositoryConnector(Persist persist) {
+    this.referenceLogic = referenceLogic(persist);
+    this.commitLogic = commitLogic(persist);
+    this.indexesLogic = indexesLogic(persist);
+    this.contentMapping = new ContentMapping(persist);
+  }
+
+  public static RepositoryConnector persist(Persist persist) {
+    return new PersistRepositoryConnector(persist);
+  }
+
+  @Override
+  public Stream<Reference> allReferences() {
+    return Stream.concat(references(REFS_HEADS), references(REFS_TAGS));
+  }
+
+  private Stream<Reference> references(String prefix) {
+    return Streams.stream(referenceLogic.queryReferences(referencesQuery(prefix)))
+        .filter(r -> !r.deleted())
+        .map(
+            r -> {
+              String name = r.name().substring(prefix.length());
+              String hash = r.pointer().toString();
+              return prefix.equals(REFS_HEADS) ? Branch.of(name, hash) : Tag.of(name, hash);
+            });
+  }
+
+  @Override
+  public Stream<LogEntry> commitLog(Reference ref) {
+    Iterator<CommitObj> commits =
+        commitLogic.commitLog(commitLogQuery(objIdFromString(ref.getHash())));
+    return StreamSupport.stream(new CommitLogSplit(commits), false);
+  }
+
+  @Override
+  public Stream<Entry<ContentKey, Content>> allContents(Detached ref, Set<Content.Type> types)
+      throws NessieNotFoundException {
+    CommitObj commit;
+    try {
+      commit = commitLogic.fetchCommit(objIdFromString(ref.getHash()));
+    } catch (ObjNotFoundException e) {
+      throw new NessieReferenceNotFoundException(
+          "Commit '" + ref.getHash() + "' not found in the repository", e);
+    }
+    StoreIndex<CommitOp> index = indexesLogic.buildCompleteIndexOrEmpty(commit);
+    return StreamSupport.stream(new AllContentsSplit(index.iterator(), types), false);
+  }
+
+  /** Fetches the contents for the given value object IDs, mapped to the given keys. */
+  private List<Entry<ContentKey, Content>> fetchContents(List<Entry<ContentKey, ObjId>> values) {
+    if (values.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<ObjId> ids = new ArrayList<>(values.size());
+    for (Entry<ContentKey, ObjId> value : values) {
+      ids.add(value.getValue());
+    }
+    Map<ObjId, Content> contents;
+    try {
+      contents = contentMapping.fetchContentValues(ids);
+    } catch (ObjNotFoundException e) {
+      throw new RuntimeException(e);
+    }
+    List<Entry<ContentKey, Content>> r = new ArrayList<>(values.size());
+    for (Entry<ContentKey, ObjId> value : values) {
+      Content content = contents.get(value.getValue());
+      if (content == null) {
+        throw new IllegalStateException(
+            "Content object " + value.getValue() + " for key " + value.getKey() + " not found");
+      }
+      r.add(Maps.immutableEntry(value.getKey(), content));
+    }
+    return r;
+  }
+
+  private class CommitLogSplit extends AbstractSpliterator<LogEntry> {
+    private final Iterator<CommitObj> commits;
+    private Iterator<LogEntry> currentBatch = Collections.emptyIterator();
+
+    CommitLogSplit(Iterator<CommitObj> commits) {
+      super(Long.MAX_VALUE, 0);
+      this.commits = commits;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super LogEntry> action) {
+      while (true) {
+        if (currentBatch.hasNext()) {
+          action.accept(currentBatch.next());
+          return true;
+        }
+
+        List<CommitObj> batchCommits = new ArrayList<>();
+        while (batchCommits.size() < COMMIT_BATCH_SIZE && commits.hasNext()) {
+          batchCommits.add(commits.next());
+        }
+
+        if (batchCommits.isEmpty()) {
+          return false;
+        }
+
+        currentBatch = logEntries(batchCommits).iterator();
+      }
+    }
+
+    private List<LogEntry> logEntries(List<CommitObj> batchCommits) {
+      // Collect the operations of all commits in the batch to fetch the contents with one request
+      List<List<StoreIndexElement<CommitOp>>> operations = new ArrayList<>(batchCommits.size());
+      List<Entry<ContentKey, ObjId>> puts = new ArrayList<>();
+      for (CommitObj commit : batchCommits) {
+        List<StoreIndexElement<CommitOp>> commitOperations = new ArrayList<>();
+        for (StoreIndexElement<CommitOp> op : indexesLogic.commitOperations(commit)) {
+          ContentKey key = storeKeyToKey(op.key());
+          // Note: key==null, if not the "main universe" or not a "content" discriminator
+          if (key == null) {
+            continue;
+          }
+          commitOperations.add(op);
+          if (op.content().action().exists()) {
+            puts.add(Maps.immutableEntry(key, op.content().value()));
+          }
+        }
+        operations.add(commitOperations);
+      }
+
+      Iterator<Entry<ContentKey, Content>> contents = fetchContents(puts).iterator();
+
+      List<LogEntry> entries = new ArrayList<>(batchCommits.size());
+      for (int i = 0; i < batchCommits.size(); i++) {
+        CommitObj commit = batchCommits.get(i);
+        ImmutableLogEntry.Builder entry =
+            LogEntry.builder()
+                .commitMeta(toCommitMeta(commit))
+                .parentCommitHash(commit.directParent().toString());
+        for (StoreIndexElement<CommitOp> op : operations.get(i)) {
+          if (op.content().action().exists()) {
+            Entry<ContentKey, Content> content = contents.next();
+            entry.addOperations(Operation.Put.of(content.getKey(), content.getValue()));
+          } else {
+            entry.addOperations(Operation.Delete.of(storeKeyToKey(op.key())));
+          }
+        }
+        entries.add(entry.build());
+      }
+      return entries;
+    }
+  }
+
+  private class AllContentsSplit extends AbstractSpliterator<Entry<ContentKey, Content>> {
+    private final Iterator<StoreIndexElement<CommitOp>> elements;
+    private final Set<Content.Type> types;
+    private Iterator<Entry<ContentKey, Content>> currentBatch = Collections.emptyIterator();
+
+    AllContentsSplit(Iterator<StoreIndexElement<CommitOp>> elements, Set<Content.Type> types) {
+      super(Long.MAX_VALUE, 0);
+      this.elements = elements;
+      this.types = types;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Entry<ContentKey, Content>> action) {
+      while (true) {
+        if (currentBatch.hasNext()) {
+          action.accept(currentBatch.next());
+          return true;
+        }
+
+        List<Entry<ContentKey, ObjId>> batchValues = new ArrayList<>();
+        while (batchValues.size() < CONTENT_BATCH_SIZE && elements.hasNext()) {
+          StoreIndexElement<CommitOp> el = elements.next();
+          CommitOp op = el.content();
+          if (!op.action().exists() || !types.contains(contentTypeForPayload(op.payload()))) {
+            continue;
+          }
+          ContentKey key = storeKeyToKey(el.key());
+          if (key != null) {
+            batchValues.add(Maps.immutableEntry(key, op.value()));
+          }
+        }
+
+        if (batchValues.isEmpty()) {
+          return false;
+        }
+
+        currentBatch = fetchContents(batchValues).iterator();
+      }
+    }
+  }
+
+  @Override
+  public void close() {}
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.repository.persist;
+
+import static org.projectnessie.jaxrs.ext.NessieJaxRsExtension.jaxRsExtension;
+import static org.projectnessie.model.Content.Type.ICEBERG_TABLE;
+import static org.projectnessie.model.Content.Type.ICEBERG_VIEW;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.projectnessie.client.api.NessieApiV1;
+import org.projectnessie.client.ext.NessieClientFactory;
+import org.projectnessie.gc.repository.NessieRepositoryConnector;
+import org.projectnessie.gc.repository.RepositoryConnector;
+import org.projectnessie.jaxrs.ext.NessieJaxRsExtension;
+import org.projectnessie.model.Branch;
+import org.projectnessie.model.CommitMeta;
+import org.projectnessie.model.Content;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.Detached;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.IcebergView;
+import org.projectnessie.model.LogResponse.LogEntry;
+import org.projectnessie.model.Namespace;
+import org.projectnessie.model.Operation;
+import org.projectnessie.model.Reference;
+import org.projectnessie.model.Tag;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.inmemorytests.InmemoryBackendTestFactory;
+import org.projectnessie.versioned.storage.testextension.NessieBackend;
+import org.projectnessie.versioned.storage.testextension.NessiePersist;
+import org.projectnessie.versioned.storage.testextension.PersistExtension;
+
+@ExtendWith({PersistExtension.class, SoftAssertionsExtension.class})
+@NessieBackend(InmemoryBackendTestFactory.class)
+public class TestPersistRepositoryConnector {
+  public static final Set<Content.Type> ICEBERG_CONTENT_TYPES =
+      ImmutableSet.of(ICEBERG_TABLE, ICEBERG_VIEW);
+
+  @InjectSoftAssertions SoftAssertions soft;
+
+  @NessiePersist static Persist persist;
+
+  @RegisterExtension static NessieJaxRsExtension server = jaxRsExtension(() -> persist);
+
+  private NessieApiV1 nessieApi;
+
+  @BeforeEach
+  public void setUp(NessieClientFactory clientFactory) {
+    nessieApi = clientFactory.make();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    nessieApi.close();
+  }
+
+  /**
+   * Verifies that the direct-storage connector yields the same references, commit logs and
+   * contents as the connector using the Nessie REST API.
+   */
+  @Test
+  public void sameAsRestApi() throws Exception {
+    Branch main = nessieApi.getDefaultBranch();
+    Branch branch =
+        (Branch)
+            nessieApi
+                .createReference()
+                .reference(Branch.of("branch", main.getHash()))
+                .sourceRefName(main.getName())
+                .create();
+    Branch empty =
+        (Branch)
+            nessieApi
+                .createReference()
+                .reference(Branch.of("empty", main.getHash()))
+                .sourceRefName(main.getName())
+                .create();
+
+    branch =
+        commit(
+            branch,
+            "namespace",
+            Operation.Put.of(ContentKey.of("ns"), Namespace.of("ns")),
+            Operation.Put.of(ContentKey.of("ns", "view"), IcebergView.of("view-meta", 1, 2)));
+    // more commits than a single commit batch
+    for (int i = 0; i < PersistRepositoryConnector.COMMIT_BATCH_SIZE + 5; i++) {
+      branch =
+          commit(
+              branch,
+              "commit-" + i,
+              Operation.Put.of(
+                  ContentKey.of("ns", "table-" + i), IcebergTable.of("meta-" + i, i, 2, 3, 4)));
+    }
+    branch = commit(branch, "delete", Operation.Delete.of(ContentKey.of("ns", "table-3")));
+    Reference tag =
+        nessieApi
+            .createReference()
+            .reference(Tag.of("tag", branch.getHash()))
+            .sourceRefName(branch.getName())
+            .create();
+
+    try (RepositoryConnector rest = NessieRepositoryConnector.nessie(nessieApi);
+        RepositoryConnector direct = PersistRepositoryConnector.persist(persist)) {
+
+      soft.assertThat(direct.allReferences())
+          .containsExactlyInAnyOrder(main, branch, empty, tag)
+          .containsExactlyInAnyOrderElementsOf(rest.allReferences().collect(Collectors.toList()));
+
+      for (Reference ref : List.of(main, branch, empty, tag)) {
+        List<LogEntry> expected = rest.commitLog(ref).collect(Collectors.toList());
+        soft.assertThat(direct.commitLog(ref))
+            .describedAs("commit log of %s", ref)
+            .map(TestPersistRepositoryConnector::logEntryAsString)
+            .containsExactlyElementsOf(
+                expected.stream()
+                    .map(TestPersistRepositoryConnector::logEntryAsString)
+                    .collect(Collectors.toList()));
+
+        Detached detached = Detached.of(ref.getHash());
+        try (Stream<Entry<ContentKey, Content>> contents =
+                direct.allContents(detached, ICEBERG_CONTENT_TYPES);
+            Stream<Entry<ContentKey, Content>> expectedContents =
+                rest.allContents(detached, ICEBERG_CONTENT_TYPES)) {
+          soft.assertThat(contents)
+              .describedAs("contents of %s", ref)
+              .containsExactlyInAnyOrderElementsOf(
+                  expectedContents.collect(Collectors.toList()));
+        }
+      }
+
+      try (Stream<Entry<ContentKey, Content>> contents =
+          direct.allContents(Detached.of(branch.getHash()), ImmutableSet.of(ICEBERG_VIEW))) {
+        soft.assertThat(contents)
+            .extracting(Entry::getKey)
+            .containsExactly(ContentKey.of("ns", "view"));
+      }
+    }
+  }
+
+  private Branch commit(Branch branch, String message, Operation... operations) throws Exception {
+    return nessieApi
+        .commitMultipleOperations()
+        .commitMeta(CommitMeta.fromMessage(message))
+        .branch(branch)
+        .operations(List.of(operations))
+        .commit();
+  }
+
+  private static String logEntryAsString(LogEntry entry) {
+    return entry.getCommitMeta().getHash()
+        + " "
+        + entry.getParentCommitHash()
+        + " "
+        + entry.getCommitMeta().getMessage()
+        + " "
+        + entry.getCommitMeta().getCommitTime()
+        + " "
+        + entry.getOperations();
+  }
+}
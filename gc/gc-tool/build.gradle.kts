@@ -33,6 +33,11 @@ dependencies {
   implementation(nessieProject("nessie-gc-iceberg"))
   implementation(nessieProject("nessie-gc-iceberg-files"))
   implementation(nessieProject("nessie-gc-repository-jdbc"))
+  implementation(nessieProject("nessie-gc-repository-persist"))
+  implementation(nessieProject("nessie-versioned-storage-common"))
+  implementation(nessieProject("nessie-versioned-storage-jdbc"))
+  implementation(nessieProject("nessie-versioned-storage-jdbc2"))
+  implementation(nessieProject("nessie-versioned-storage-rocksdb"))
   implementation(nessieProject("nessie-notice"))
 
   compileOnly(libs.errorprone.annotations)
@@ -98,6 +103,8 @@ dependencies {
 
   testImplementation(nessieProject("nessie-jaxrs-testextension"))
   testImplementation(nessieProject("nessie-versioned-storage-inmemory-tests"))
+  testImplementation(nessieProject("nessie-versioned-storage-store"))
+  testImplementation(nessieProject("nessie-versioned-spi"))
 
   testRuntimeOnly(libs.logback.classic)
 
@@ -27,6 +27,10 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.apache.hadoop.conf.Configuration;
@@ -134,6 +138,23 @@ public abstract class BaseRepositoryCommand extends BaseCommand {
                     asString(liveContentSet.errorMessage()))));
   }
 
+  private static final Set<LiveContentSet.Status> IDENTIFIED_STATUSES =
+      EnumSet.of(
+          LiveContentSet.Status.IDENTIFY_SUCCESS,
+          LiveContentSet.Status.EXPIRY_IN_PROGRESS,
+          LiveContentSet.Status.EXPIRY_SUCCESS,
+          LiveContentSet.Status.EXPIRY_FAILED);
+
+  private static UUID latestIdentifiedLiveContentSet(
+      LiveContentSetsRepository liveContentSetsRepository) {
+    try (Stream<LiveContentSet> all = liveContentSetsRepository.getAllLiveContents()) {
+      return all.filter(lcs -> IDENTIFIED_STATUSES.contains(lcs.status()))
+          .max(Comparator.comparing(LiveContentSet::created))
+          .map(LiveContentSet::id)
+          .orElse(null);
+    }
+  }
+
   protected LiveContentSet identify(
       Closeables closeables,
       LiveContentSetsRepository liveContentSetsRepository,
@@ -164,15 +185,26 @@ public abstract class BaseRepositoryCommand extends BaseCommand {
     RepositoryConnector repositoryConnector =
         markOptions.getNessie().createRepositoryConnector(closeables);
 
-    IdentifyLiveContents identify =
+    IdentifyLiveContents.Builder identifyBuilder =
         IdentifyLiveContents.builder()
             .liveContentSetsRepository(liveContentSetsRepository)
             .contentTypeFilter(IcebergContentTypeFilter.INSTANCE)
             .cutOffPolicySupplier(perRefCutoffPolicySupplier)
             .repositoryConnector(repositoryConnector)
             .contentToContentReference(IcebergContentToContentReference.INSTANCE)
-            .parallelism(markOptions.getParallelism())
-            .build();
+            .parallelism(markOptions.getParallelism());
+
+    if (markOptions.isIncremental()) {
+      UUID base = latestIdentifiedLiveContentSet(liveContentSetsRepository);
+      if (base != null) {
+        out.printf("Incremental identify run using live-content-set %s as the base.%n", base);
+        identifyBuilder.baseLiveContentSetId(base);
+      } else {
+        out.println("No identified live-content-set found, performing a full identify run.");
+      }
+    }
+
+    IdentifyLiveContents identify = identifyBuilder.build();
 
     UUID liveContentSetId = identify.identifyLiveContents();
 
@@ -220,7 +252,8 @@ public abstract class BaseRepositoryCommand extends BaseCommand {
               + liveContentSet.status());
     }
 
-    try (IcebergFiles icebergFiles = createIcebergFiles(icebergOptions)) {
+    try (IcebergFiles icebergFiles =
+        createIcebergFiles(icebergOptions, sweepOptions.getListingShardPrefixes())) {
       Instant maxFileModificationTime = sweepOptions.getMaxFileModificationTime();
       if (maxFileModificationTime == null) {
         maxFileModificationTime = liveContentSet.created();
@@ -240,6 +273,7 @@ public abstract class BaseRepositoryCommand extends BaseCommand {
               .falsePositiveProbability(sweepOptions.getFalsePositiveProbability())
               .expectedFileCount(sweepOptions.getExpectedFileCount())
               .allowedFalsePositiveProbability(sweepOptions.getAllowedFalsePositiveProbability())
+              .deleteBatchSize(sweepOptions.getDeleteBatchSize())
               .build();
 
       Expire expire =
@@ -258,12 +292,13 @@ public abstract class BaseRepositoryCommand extends BaseCommand {
 
       String msg =
           format(
-              "Nessie-GC sweep phase for live-content-set %s finished with status %s after %s, deleted %d files, %d files could not be deleted.",
+              "Nessie-GC sweep phase for live-content-set %s finished with status %s after %s, deleted %d files, %d files could not be deleted, listed %d shards.",
               liveContentSet.id(),
               liveContentSet.status(),
               Duration.between(liveContentSet.created(), liveContentSet.identifyCompleted()),
               summary.deleted(),
-              summary.failures());
+              summary.failures(),
+              summary.shards());
 
       if (liveContentSet.status() != LiveContentSet.Status.EXPIRY_SUCCESS) {
         throw new ExecutionException(commandSpec.commandLine(), msg);
@@ -276,11 +311,17 @@ public abstract class BaseRepositoryCommand extends BaseCommand {
   }
 
   protected IcebergFiles createIcebergFiles(IcebergOptions icebergOptions) {
+    return createIcebergFiles(icebergOptions, List.of());
+  }
+
+  protected IcebergFiles createIcebergFiles(
+      IcebergOptions icebergOptions, List<String> listingShardPrefixes) {
     Configuration conf = new Configuration();
     icebergOptions.getHadoopConf().forEach(conf::set);
 
     return IcebergFiles.builder()
         .properties(icebergOptions.getIcebergProperties())
+        .listingShardPrefixes(listingShardPrefixes)
         .hadoopConfiguration(conf)
         .build();
   }
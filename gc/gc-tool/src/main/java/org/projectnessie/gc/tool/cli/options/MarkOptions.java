@@ -81,6 +81,24 @@ public class MarkOptions {
       description = "Number of Nessie references that can be walked in parallel.")
   int parallelism;
 
+  @CommandLine.Option(
+      names = "--incremental",
+      description = {
+        "Only walk the commits of each reference that are newer than the ones walked to produce "
+            + "the most recent successfully identified live-content-set and re-check the live "
+            + "contents of that live-content-set against the current cutoff policy.",
+        "References that have been re-assigned or that use a cutoff policy retaining more commits "
+            + "are walked completely."
+      })
+  boolean incremental;
+
+  @CommandLine.Option(
+      names = "--full-rescan",
+      description = {
+        "Walk all references back to their cutoff, even if --incremental is specified."
+      })
+  boolean fullRescan;
+
   @CommandLine.Spec CommandSpec commandSpec;
 
   public NessieOptions getNessie() {
@@ -95,6 +113,10 @@ public class MarkOptions {
     return liveSetIdFile;
   }
 
+  public boolean isIncremental() {
+    return incremental && !fullRescan;
+  }
+
   /**
    * Parses the {@code --cutoff} parameters, syntax is {@code ref-name-regex '=' number-of-commits |
    * duration | ISO-instant}.
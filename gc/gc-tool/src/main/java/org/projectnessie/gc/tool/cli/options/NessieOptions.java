@@ -56,7 +56,12 @@ public class NessieOptions {
       arity = "0..*")
   Map<String, String> nessieOptions = new HashMap<>();
 
+  @CommandLine.Mixin PersistOptions persist;
+
   public RepositoryConnector createRepositoryConnector(Closeables closeables) {
+    if (persist.isConfigured()) {
+      return persist.createRepositoryConnector(closeables);
+    }
     return NessieRepositoryConnector.nessie(closeables.add(createNessieApi()));
   }
 
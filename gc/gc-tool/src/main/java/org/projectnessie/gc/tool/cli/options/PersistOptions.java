@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.tool.cli.options;
+
+import static org.projectnessie.versioned.storage.common.logic.Logics.repositoryLogic;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.projectnessie.gc.contents.jdbc.AgroalJdbcDataSourceProvider;
+import org.projectnessie.gc.repository.RepositoryConnector;
+import org.projectnessie.gc.repository.persist.PersistRepositoryConnector;
+import org.projectnessie.gc.tool.cli.Closeables;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.persist.Backend;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.jdbc.JdbcBackendConfig;
+import org.projectnessie.versioned.storage.jdbc.JdbcBackendFactory;
+import org.projectnessie.versioned.storage.jdbc2.Jdbc2BackendConfig;
+import org.projectnessie.versioned.storage.jdbc2.Jdbc2BackendFactory;
+import org.projectnessie.versioned.storage.rocksdb.RocksDBBackendConfig;
+import org.projectnessie.versioned.storage.rocksdb.RocksDBBackendFactory;
+import picocli.CommandLine;
+
+/**
+ * Options to read the Nessie repository directly from the Nessie storage, the options correspond
+ * to the {@code nessie.version.store.*} configuration options of the Nessie server and the Nessie
+ * server admin tool.
+ */
+public class PersistOptions {
+
+  static final String PERSIST_CONFIG_PREFIX = "nessie.version.store.persist.";
+
+  /**
+   * The store types, same values as the {@code nessie.version.store.type} configuration option of
+   * the Nessie server and the Nessie server admin tool.
+   */
+  public enum StoreType {
+    IN_MEMORY(false),
+    ROCKSDB(true),
+    DYNAMODB(false),
+    DYNAMODB2(false),
+    MONGODB(false),
+    MONGODB2(false),
+    CASSANDRA(false),
+    CASSANDRA2(false),
+    JDBC(true),
+    JDBC2(true),
+    BIGTABLE(false);
+
+    /**
+     * Whether the backend can be configured from the options of the GC tool. The other store types
+     * need database clients, which are only provided by the Nessie server and the Nessie server
+     * admin tool.
+     */
+    final boolean supported;
+
+    StoreType(boolean supported) {
+      this.supported = supported;
+    }
+  }
+
+  @CommandLine.Option(
+      names = "--nessie-store-type",
+      description = {
+        "Read the Nessie repository directly from the Nessie storage instead of using the Nessie "
+            + "REST API, corresponds to 'nessie.version.store.type'.",
+        "Possible values: ${COMPLETION-CANDIDATES}."
+      })
+  StoreType storeType;
+
+  @CommandLine.Option(
+      names = "--nessie-store-jdbc-url",
+      description = "JDBC URL of the Nessie database, for the JDBC and JDBC2 store types.")
+  String jdbcUrl;
+
+  @CommandLine.Option(
+      names = "--nessie-store-jdbc-properties",
+      description = "JDBC parameters for the Nessie database.",
+      arity = "0..*",
+      split = ",")
+  Map<String, String> jdbcProperties = new HashMap<>();
+
+  @CommandLine.Option(
+      names = "--nessie-store-jdbc-user",
+      description = "JDBC user name used to authenticate the Nessie database access.")
+  String jdbcUser;
+
+  @CommandLine.Option(
+      names = "--nessie-store-jdbc-password",
+      description = "JDBC password used to authenticate the Nessie database access.")
+  String jdbcPassword;
+
+  @CommandLine.Option(
+      names = "--nessie-store-rocks-database-path",
+      description = {
+        "Path of the RocksDB database, for the ROCKSDB store type, corresponds to "
+            + "'nessie.version.store.persist.rocks.database-path'.",
+        "The database must not be used by a Nessie server at the same time."
+      })
+  Path rocksDatabasePath;
+
+  @CommandLine.Option(
+      names = "--nessie-store-option",
+      description = {
+        "Nessie storage options, corresponds to the 'nessie.version.store.persist.*' options, "
+            + "for example 'repository-id=my-repo'.",
+        "Option names can be specified with or without the 'nessie.version.store.persist.' prefix."
+      },
+      arity = "0..*",
+      split = ",")
+  Map<String, String> storeOptions = new HashMap<>();
+
+  public boolean isConfigured() {
+    return storeType != null;
+  }
+
+  public RepositoryConnector createRepositoryConnector(Closeables closeables) {
+    if (!storeType.supported) {
+      throw new IllegalArgumentException(
+          "Nessie store type "
+              + storeType
+              + " cannot be accessed directly by the GC tool, use the Nessie REST API instead");
+    }
+    // The GC tool never creates or changes the schema of the Nessie storage, that is the
+    // responsibility of the Nessie server and the Nessie server admin tool.
+    Backend backend = closeables.add(createBackend(closeables));
+    StoreConfig config = StoreConfig.Adjustable.empty().fromFunction(this::storeOption);
+    Persist persist = backend.createFactory().newPersist(config);
+    checkRepositoryExists(persist);
+    return closeables.add(PersistRepositoryConnector.persist(persist));
+  }
+
+  private static void checkRepositoryExists(Persist persist) {
+    boolean exists;
+    try {
+      exists = repositoryLogic(persist).repositoryExists();
+    } catch (RuntimeException e) {
+      throw new IllegalStateException(
+          "Cannot access the Nessie repository '"
+              + persist.config().repositoryId()
+              + "' in the Nessie storage, the storage schema may be missing",
+          e);
+    }
+    if (!exists) {
+      throw new IllegalStateException(
+          "Nessie repository '"
+              + persist.config().repositoryId()
+              + "' does not exist in the Nessie storage");
+    }
+  }
+
+  private String storeOption(String name) {
+    String value = storeOptions.get(name);
+    return value != null ? value : storeOptions.get(PERSIST_CONFIG_PREFIX + name);
+  }
+
+  private Backend createBackend(Closeables closeables) {
+    switch (storeType) {
+      case JDBC2:
+        return new Jdbc2BackendFactory()
+            .buildBackend(
+                Jdbc2BackendConfig.builder().dataSource(createDataSource(closeables)).build());
+      case JDBC:
+        return new JdbcBackendFactory()
+            .buildBackend(
+                JdbcBackendConfig.builder().dataSource(createDataSource(closeables)).build());
+      case ROCKSDB:
+        if (rocksDatabasePath == null) {
+          throw new IllegalArgumentException(
+              "Mandatory option --nessie-store-rocks-database-path is missing");
+        }
+        // RocksDB would silently create a new, empty database.
+        if (!Files.isDirectory(rocksDatabasePath)) {
+          throw new IllegalArgumentException(
+              "RocksDB database path " + rocksDatabasePath + " does not exist");
+        }
+        return new RocksDBBackendFactory()
+            .buildBackend(RocksDBBackendConfig.builder().databasePath(rocksDatabasePath).build());
+      default:
+        throw new IllegalArgumentException("Unsupported Nessie store type " + storeType);
+    }
+  }
+
+  private DataSource createDataSource(Closeables closeables) {
+    if (jdbcUrl == null) {
+      throw new IllegalArgumentException("Mandatory option --nessie-store-jdbc-url is missing");
+    }
+    AgroalJdbcDataSourceProvider.Builder jdbcDsBuilder =
+        AgroalJdbcDataSourceProvider.builder()
+            .jdbcUrl(jdbcUrl)
+            .usernamePasswordCredentials(jdbcUser, jdbcPassword);
+    jdbcProperties.forEach(jdbcDsBuilder::putJdbcProperties);
+    try {
+      return closeables.maybeAdd(jdbcDsBuilder.build().dataSource());
+    } catch (SQLException e) {
+      throw new RuntimeException("Failed to connect to the Nessie database " + jdbcUrl, e);
+    }
+  }
+}
@@ -16,10 +16,13 @@
 package org.projectnessie.gc.tool.cli.options;
 
 import static org.projectnessie.gc.expire.ExpireParameters.DEFAULT_ALLOWED_FALSE_POSITIVE_PROBABILITY;
+import static org.projectnessie.gc.expire.ExpireParameters.DEFAULT_DELETE_BATCH_SIZE;
 import static org.projectnessie.gc.expire.ExpireParameters.DEFAULT_EXPECTED_FILE_COUNT;
 import static org.projectnessie.gc.expire.ExpireParameters.DEFAULT_FALSE_POSITIVE_PROBABILITY;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import picocli.CommandLine;
 
 public class SweepOptions {
@@ -76,6 +79,27 @@ public class SweepOptions {
               + "This option is incompatible with --inmemory.")
   boolean deferDeletes;
 
+  @CommandLine.Option(
+      names = "--listing-shard-prefix",
+      description =
+          "Prefixes relative to a base location, each prefix is listed concurrently. "
+              + "The placeholder '{hex}' is expanded to the 16 hexadecimal digits, for example "
+              + "'data/{hex},metadata/' for tables using Iceberg's object storage layout. "
+              + "Files that do not start with any of the prefixes are neither listed nor deleted. "
+              + "By default, base locations are listed as a whole.",
+      arity = "0..*",
+      split = ",")
+  List<String> listingShardPrefixes = new ArrayList<>();
+
+  @CommandLine.Option(
+      names = "--delete-batch-size",
+      description =
+          "The maximum number of files deleted in a single bulk-delete request, defaults to "
+              + DEFAULT_DELETE_BATCH_SIZE
+              + ".",
+      defaultValue = "" + DEFAULT_DELETE_BATCH_SIZE)
+  int deleteBatchSize;
+
   public boolean isDeferDeletes() {
     return deferDeletes;
   }
@@ -99,4 +123,12 @@ public class SweepOptions {
   public Instant getMaxFileModificationTime() {
     return maxFileModificationTime;
   }
+
+  public List<String> getListingShardPrefixes() {
+    return listingShardPrefixes;
+  }
+
+  public int getDeleteBatchSize() {
+    return deleteBatchSize;
+  }
 }
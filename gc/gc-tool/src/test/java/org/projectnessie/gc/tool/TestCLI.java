@@ -21,6 +21,7 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.projectnessie.gc.contents.ContentReference.icebergContent;
 import static org.projectnessie.jaxrs.ext.NessieJaxRsExtension.jaxRsExtension;
 import static org.projectnessie.model.Content.Type.ICEBERG_TABLE;
+import static org.projectnessie.versioned.storage.common.logic.Logics.repositoryLogic;
 
 import java.io.BufferedReader;
 import java.io.StringReader;
@@ -29,6 +30,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
 import javax.sql.DataSource;
@@ -56,13 +58,22 @@ import org.projectnessie.gc.files.FileReference;
 import org.projectnessie.gc.tool.cli.options.SchemaCreateStrategy;
 import org.projectnessie.gc.tool.cli.util.RunCLI;
 import org.projectnessie.jaxrs.ext.NessieJaxRsExtension;
+import org.projectnessie.model.CommitMeta;
 import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.Operation;
 import org.projectnessie.storage.uri.StorageUri;
+import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.persist.Backend;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.inmemorytests.InmemoryBackendTestFactory;
+import org.projectnessie.versioned.storage.jdbc2.Jdbc2BackendConfig;
+import org.projectnessie.versioned.storage.jdbc2.Jdbc2BackendFactory;
 import org.projectnessie.versioned.storage.testextension.NessieBackend;
 import org.projectnessie.versioned.storage.testextension.NessiePersist;
 import org.projectnessie.versioned.storage.testextension.PersistExtension;
+import org.projectnessie.versioned.storage.versionstore.VersionStoreImpl;
 
 @ExtendWith({PersistExtension.class, SoftAssertionsExtension.class})
 @NessieBackend(InmemoryBackendTestFactory.class)
@@ -282,6 +293,93 @@ public class TestCLI {
     soft.assertThat(sweep.getExitCode()).as(sweep::getErr).isEqualTo(0);
   }
 
+  @Test
+  @Order(3)
+  public void markLiveDirectStorage(@TempDir Path dir) throws Exception {
+    String storeJdbcUrl = "jdbc:h2:mem:nessie_store;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+    DataSource storeDataSource =
+        AgroalJdbcDataSourceProvider.builder().jdbcUrl(storeJdbcUrl).build().dataSource();
+    try (Backend backend =
+        new Jdbc2BackendFactory()
+            .buildBackend(Jdbc2BackendConfig.builder().dataSource(storeDataSource).build())) {
+      backend.setupSchema();
+      Persist storePersist =
+          backend
+              .createFactory()
+              .newPersist(StoreConfig.Adjustable.empty().withRepositoryId("gc-repo"));
+      repositoryLogic(storePersist).initialize("main");
+      new VersionStoreImpl(storePersist)
+          .commit(
+              BranchName.of("main"),
+              Optional.empty(),
+              CommitMeta.fromMessage("table"),
+              singletonList(
+                  Operation.Put.of(
+                      ContentKey.of("direct_table"),
+                      IcebergTable.of("meta://direct/table", 42L, 1, 2, 3))));
+    } finally {
+      ((AutoCloseable) storeDataSource).close();
+    }
+
+    Path liveSetIdFile = dir.resolve("live-set-id.txt");
+    RunCLI identify =
+        RunCLI.run(
+            "mark-live",
+            "--jdbc-url",
+            JDBC_URL,
+            "--nessie-store-type",
+            "JDBC2",
+            "--nessie-store-jdbc-url",
+            storeJdbcUrl,
+            "--nessie-store-option",
+            "nessie.version.store.persist.repository-id=gc-repo",
+            "--write-live-set-id-to",
+            liveSetIdFile.toString());
+    soft.assertThat(identify.getExitCode()).as(identify::getErr).isEqualTo(0);
+    soft.assertThat(liveSetIdFile).isRegularFile();
+    soft.assertAll();
+
+    RunCLI show =
+        RunCLI.run(
+            "show",
+            "--jdbc-url",
+            JDBC_URL,
+            "--read-live-set-id-from",
+            liveSetIdFile.toString(),
+            "--with-content-references");
+    soft.assertThat(show.getExitCode()).as(show::getErr).isEqualTo(0);
+    soft.assertThat(show.getOut()).contains("direct_table").contains("meta://direct/table");
+  }
+
+  @Test
+  @Order(3)
+  public void markLiveDirectStorageWithoutSchema() throws Exception {
+    RunCLI run =
+        RunCLI.run(
+            "mark-live",
+            "--jdbc-url",
+            JDBC_URL,
+            "--nessie-store-type",
+            "JDBC2",
+            "--nessie-store-jdbc-url",
+            "jdbc:h2:mem:nessie_store_no_schema;MODE=PostgreSQL");
+    soft.assertThat(run.getExitCode()).as(run::getErr).isEqualTo(1);
+    soft.assertThat(run.getErr())
+        .contains("Cannot access the Nessie repository")
+        .contains("the storage schema may be missing");
+  }
+
+  @Test
+  @Order(3)
+  public void markLiveDirectStorageUnsupportedType() throws Exception {
+    RunCLI run = RunCLI.run("mark-live", "--jdbc-url", JDBC_URL, "--nessie-store-type", "MONGODB2");
+    soft.assertThat(run.getExitCode()).as(run::getErr).isEqualTo(1);
+    soft.assertThat(run.getErr())
+        .contains(
+            "Nessie store type MONGODB2 cannot be accessed directly by the GC tool, "
+                + "use the Nessie REST API instead");
+  }
+
   @Test
   @Order(4)
   public void showCreateSchemaScript() throws Exception {
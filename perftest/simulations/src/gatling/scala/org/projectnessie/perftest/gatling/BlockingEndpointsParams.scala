@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.perftest.gatling
+
+import java.lang.Integer.getInteger
+import java.lang.System.getProperty
+import java.util.concurrent.ThreadLocalRandom
+import org.projectnessie.model.ContentKey
+
+/** Parameters for the [[BlockingEndpointsSimulation]].
+  *
+  * @param threadMode
+  *   Label of the server-side execution mode of the blocking REST endpoints,
+  *   either `platform` (Quarkus worker thread pool) or `virtual` (virtual
+  *   threads), used to name the requests in the Gatling report. The server
+  *   mode itself is configured via `quarkus.virtual-threads.enabled`. System
+  *   property: `sim.threadMode`, defaults to `platform`.
+  * @param branch
+  *   The Nessie branch name to use, the default includes the current
+  *   wall-clock in ms since epoch. System property: `sim.branch`, defaults to
+  *   `s"blocking-${System.currentTimeMillis()}"`.
+  * @param numTables
+  *   The number of tables created before the measurement, each request
+  *   chooses a random table. System property: `sim.tables`, defaults to `100`.
+  * @param writePercent
+  *   The percentage of iterations that commit a table update, the other
+  *   iterations only read. System property: `sim.writePercent`, defaults to
+  *   `10`.
+  * @param rampSeconds
+  *   The duration in seconds over which the simulated users are started.
+  *   System property: `sim.ramp.seconds`, defaults to `10`.
+  * @param durationSeconds
+  *   The total runtime of the simulation in seconds, including the ramp-up.
+  *   System property: `sim.duration.seconds`, defaults to `60`.
+  * @param numUsers
+  *   see [[BaseParams.numUsers]], defaults to `200` for this simulation
+  * @param opRate
+  *   see [[BaseParams.opRate]]
+  * @param note
+  *   see [[BaseParams.note]], defaults to [[threadMode]]
+  */
+case class BlockingEndpointsParams(
+    threadMode: String,
+    branch: String,
+    numTables: Int,
+    writePercent: Int,
+    rampSeconds: Int,
+    durationSeconds: Int,
+    override val numUsers: Int,
+    override val opRate: Double,
+    override val note: String
+) extends BaseParams {
+
+  override def asPrintableString(): String = {
+    s"""${super.asPrintableString().trim}
+    |   thread-mode:    $threadMode
+    |   branch-name:    $branch
+    |   num-tables:     $numTables
+    |   write-percent:  $writePercent
+    |   ramp-up:        $rampSeconds
+    |   duration:       $durationSeconds
+    |""".stripMargin
+  }
+
+  def contentKey(t: Int): ContentKey = ContentKey.of(s"table-$t")
+
+  def randomTable(): ContentKey =
+    contentKey(ThreadLocalRandom.current().nextInt(numTables))
+}
+
+object BlockingEndpointsParams {
+  def fromSystemProperties(): BlockingEndpointsParams = {
+    val threadMode: String = getProperty("sim.threadMode", "platform")
+    val branch: String =
+      getProperty("sim.branch", s"blocking-${System.currentTimeMillis()}")
+    val numTables: Int = getInteger("sim.tables", 100)
+    val writePercent: Int = getInteger("sim.writePercent", 10)
+    val rampSeconds: Int = getInteger("sim.ramp.seconds", 10)
+    val durationSeconds: Int = getInteger("sim.duration.seconds", 60)
+    val numUsers: Int = getInteger("sim.users", 200)
+    val base = BaseParams.fromSystemProperties()
+
+    BlockingEndpointsParams(
+      threadMode,
+      branch,
+      numTables,
+      writePercent,
+      rampSeconds,
+      durationSeconds,
+      numUsers,
+      base.opRate,
+      getProperty("sim.note", threadMode)
+    )
+  }
+}
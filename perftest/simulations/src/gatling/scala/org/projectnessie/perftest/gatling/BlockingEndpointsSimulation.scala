@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.perftest.gatling
+
+import io.gatling.core.Predef._
+import io.gatling.core.scenario.Simulation
+import io.gatling.core.structure.{
+  ChainBuilder,
+  PopulationBuilder,
+  ScenarioBuilder
+}
+import java.util.concurrent.ThreadLocalRandom
+import org.projectnessie.error.NessieConflictException
+import org.projectnessie.model.CommitMeta.fromMessage
+import org.projectnessie.model.{Branch, IcebergTable, Operation}
+import org.projectnessie.perftest.gatling.Predef.nessie
+import scala.concurrent.duration.{FiniteDuration, HOURS, NANOSECONDS, SECONDS}
+
+/** Gatling simulation to compare the throughput and latency of the blocking
+  * Nessie REST endpoints running on the Quarkus worker thread pool against
+  * running on virtual threads.
+  *
+  * The simulation creates a branch with [[BlockingEndpointsParams.numTables]]
+  * tables, then ramps up [[BlockingEndpointsParams.numUsers]] concurrent users,
+  * each running a mix of reads (get reference, get content, list entries) and
+  * table updates. Run the simulation twice against the same backend, once with
+  * `-Dquarkus.virtual-threads.enabled=false -Dsim.threadMode=platform` and once
+  * with `-Dquarkus.virtual-threads.enabled=true -Dsim.threadMode=virtual`, and
+  * compare both Gatling reports. Limiting the worker thread pool, for example
+  * with `-Dquarkus.thread-pool.max-threads=50`, makes the difference visible
+  * with fewer simulated users.
+  *
+  * It has a bunch of configurables, see [[BlockingEndpointsParams]]
+  */
+class BlockingEndpointsSimulation extends Simulation {
+
+  private val params: BlockingEndpointsParams =
+    BlockingEndpointsParams.fromSystemProperties()
+
+  private val mode: String = params.threadMode
+
+  private def prepareScenario(): ScenarioBuilder = {
+    scenario("Initialize")
+      .exec(
+        nessie(s"prepare - Create branch and tables")
+          .execute { (client, session) =>
+            val created = client
+              .createReference()
+              .reference(Branch.of(params.branch, null))
+              .create()
+              .asInstanceOf[Branch]
+
+            val commit = client
+              .commitMultipleOperations()
+              .branch(created)
+              .commitMeta(fromMessage(s"Create ${params.numTables} tables"))
+            for (t <- 0 until params.numTables) {
+              commit.operation(
+                Operation.Put.of(
+                  params.contentKey(t),
+                  IcebergTable.of("meta-0", 1, 2, 3, 4)
+                )
+              )
+            }
+            commit.commit()
+            session
+          }
+          .dontLog()
+      )
+      .exitHereIfFailed
+  }
+
+  private def getReference: ChainBuilder =
+    exec(
+      nessie(s"$mode - Get reference").execute { (client, session) =>
+        client.getReference.refName(params.branch).get()
+        session
+      }
+    )
+
+  private def getContent: ChainBuilder =
+    exec(
+      nessie(s"$mode - Get content").execute { (client, session) =>
+        client.getContent
+          .refName(params.branch)
+          .getSingle(params.randomTable())
+        session
+      }
+    )
+
+  private def listEntries: ChainBuilder =
+    exec(
+      nessie(s"$mode - List entries").execute { (client, session) =>
+        // Consume all entries
+        client.getEntries.refName(params.branch).stream().forEach(_ => {})
+        session
+      }
+    )
+
+  private def updateTable: ChainBuilder =
+    exec(
+      nessie(s"$mode - Update table").execute { (client, session) =>
+        val key = params.randomTable()
+        val content = client.getContent.refName(params.branch).getSingle(key)
+        val updatedTable = IcebergTable
+          .builder()
+          .from(content.getContent.asInstanceOf[IcebergTable])
+          .snapshotId(ThreadLocalRandom.current().nextLong(1, Long.MaxValue))
+          .build()
+        try {
+          client
+            .commitMultipleOperations()
+            .branch(content.getEffectiveReference.asInstanceOf[Branch])
+            .commitMeta(fromMessage(s"Update table $key"))
+            .operation(Operation.Put.of(key, updatedTable))
+            .commit()
+        } catch {
+          // Conflicts are expected with many concurrent users
+          case _: NessieConflictException =>
+        }
+        session
+      }
+    )
+
+  private def workloadScenario(): ScenarioBuilder = {
+    val readPercent = 100 - params.writePercent
+    val contentPercent = readPercent * 2 / 5
+    val referencePercent = readPercent * 2 / 5
+    val entriesPercent = readPercent - contentPercent - referencePercent
+    val chain = randomSwitch(
+      params.writePercent.toDouble -> updateTable,
+      contentPercent.toDouble -> getContent,
+      referencePercent.toDouble -> getReference,
+      entriesPercent.toDouble -> listEntries
+    )
+
+    val iteration =
+      if (params.opRate > 0) {
+        // "pace" the requests, if an operation rate is configured
+        val oneHour = FiniteDuration(1, HOURS)
+        val nanosPerIteration =
+          oneHour.toNanos / (params.opRate * oneHour.toSeconds)
+        pace(FiniteDuration(nanosPerIteration.toLong, NANOSECONDS))
+          .exitBlockOnFail(chain)
+      } else {
+        // if no rate is configured, run "as fast as possible"
+        exitBlockOnFail(chain)
+      }
+
+    scenario(s"blocking-endpoints-$mode")
+      .forever("iteration") {
+        iteration
+      }
+  }
+
+  /** Sets up the simulation. Implemented as a function to respect the maximum
+    * duration.
+    */
+  private def doSetUp(): SetUp = {
+    val nessieProtocol: NessieProtocol = nessie().clientFromSystemProperties()
+
+    System.out.println(params.asPrintableString())
+
+    val prepare: PopulationBuilder =
+      prepareScenario().inject(atOnceUsers(1))
+    val workload: PopulationBuilder = workloadScenario().inject(
+      rampUsers(params.numUsers)
+        .during(FiniteDuration(params.rampSeconds, SECONDS))
+    )
+
+    setUp(prepare.andThen(workload))
+      .maxDuration(FiniteDuration(params.durationSeconds, SECONDS))
+      .protocols(nessieProtocol)
+  }
+
+  // This is where everything starts, doSetUp() returns the `SetUp` ...
+  doSetUp()
+}
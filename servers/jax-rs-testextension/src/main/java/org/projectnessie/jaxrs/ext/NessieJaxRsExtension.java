@@ -55,6 +55,7 @@ import org.projectnessie.services.rest.RestDiffResource;
 import org.projectnessie.services.rest.RestNamespaceResource;
 import org.projectnessie.services.rest.RestTreeResource;
 import org.projectnessie.services.rest.RestV2ConfigResource;
+import org.projectnessie.services.rest.RestV2LiveContentsResource;
 import org.projectnessie.services.rest.RestV2TreeResource;
 import org.projectnessie.services.rest.converters.ContentKeyParamConverterProvider;
 import org.projectnessie.services.rest.converters.NamespaceParamConverterProvider;
@@ -224,6 +225,7 @@ public class NessieJaxRsExtension extends NessieClientResolver
               ResourceConfig config = new ResourceConfig();
               config.register(RestV2ConfigResource.class);
               config.register(RestV2TreeResource.class);
+              config.register(RestV2LiveContentsResource.class);
               config.register(RestConfigResource.class);
               config.register(RestTreeResource.class);
               config.register(RestContentResource.class);
@@ -18,6 +18,7 @@ package org.projectnessie.jaxrs.tests;
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.InstanceOfAssertFactories.list;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -35,6 +36,7 @@ import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -68,11 +70,17 @@ import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.ContentResponse;
 import org.projectnessie.model.DiffResponse;
 import org.projectnessie.model.EntriesResponse;
+import org.projectnessie.model.GetContentsOnReferencesRequest;
+import org.projectnessie.model.GetContentsOnReferencesRequest.ReferenceKeys;
+import org.projectnessie.model.GetContentsOnReferencesResponse;
 import org.projectnessie.model.GetMultipleContentsRequest;
 import org.projectnessie.model.GetMultipleContentsResponse;
+import org.projectnessie.model.GetMultipleContentsResponse.ContentWithKey;
 import org.projectnessie.model.IcebergTable;
 import org.projectnessie.model.ImmutableBranch;
 import org.projectnessie.model.ImmutableOperations;
+import org.projectnessie.model.LiveContentReference;
+import org.projectnessie.model.LiveContentsRequest;
 import org.projectnessie.model.LogResponse;
 import org.projectnessie.model.Namespace;
 import org.projectnessie.model.Operation.Put;
@@ -83,6 +91,8 @@ import org.projectnessie.model.Tag;
 /** REST specific tests. */
 public abstract class BaseTestNessieRest extends BaseTestNessieApi {
 
+  protected static final String APPLICATION_NDJSON = "application/x-ndjson";
+
   protected URI clientUri;
 
   @BeforeEach
@@ -998,4 +1008,100 @@ public abstract class BaseTestNessieRest extends BaseTestNessieApi {
           }
         });
   }
+
+  @NessieApiVersions(versions = {NessieApiVersion.V2})
+  @Test
+  public void contentsOnReferences() {
+    Branch branch = createBranchV2("contentsOnReferences");
+    ContentKey key = ContentKey.of("bulk-table");
+    commitV2(branch, key, IcebergTable.of("meta-bulk", 1, 2, 3, 4));
+
+    GetContentsOnReferencesResponse response =
+        rest()
+            .body(
+                GetContentsOnReferencesRequest.builder()
+                    .addReferences(ReferenceKeys.of(branch.getName(), key))
+                    .addReferences(ReferenceKeys.of("main", key))
+                    .build())
+            .post("trees/contents")
+            .then()
+            .statusCode(200)
+            .extract()
+            .as(GetContentsOnReferencesResponse.class);
+    soft.assertThat(response.getReferences())
+        .satisfiesExactly(
+            r -> {
+              assertThat(r.getEffectiveReference().getName()).isEqualTo(branch.getName());
+              assertThat(r.getContents()).extracting(ContentWithKey::getKey).containsExactly(key);
+            },
+            r -> {
+              assertThat(r.getEffectiveReference().getName()).isEqualTo("main");
+              assertThat(r.getContents()).isEmpty();
+            });
+
+    NessieError nessieError =
+        rest()
+            .body(
+                GetContentsOnReferencesRequest.builder()
+                    .addReferences(ReferenceKeys.of("main", key))
+                    .addReferences(ReferenceKeys.of("no-such-ref", key))
+                    .build())
+            .post("trees/contents")
+            .then()
+            .statusCode(404)
+            .extract()
+            .as(NessieError.class);
+    soft.assertThat(nessieError.getErrorCode()).isEqualTo(ErrorCode.REFERENCE_NOT_FOUND);
+  }
+
+  @NessieApiVersions(versions = {NessieApiVersion.V2})
+  @Test
+  public void liveContents() throws Exception {
+    Branch branch = createBranchV2("liveContents");
+    commitV2(branch, ContentKey.of("live-1"), IcebergTable.of("meta-live-1", 11, 2, 3, 4));
+    commitV2(branch, ContentKey.of("live-2"), IcebergTable.of("meta-live-2", 12, 2, 3, 4));
+
+    String body =
+        rest()
+            .accept(APPLICATION_NDJSON)
+            .body(LiveContentsRequest.builder().defaultCutoff("1").build())
+            .post("live-contents")
+            .then()
+            .statusCode(200)
+            .contentType(APPLICATION_NDJSON)
+            .extract()
+            .asString();
+
+    // One JSON object per line, each line terminated by a newline.
+    soft.assertThat(body).endsWith("\n");
+    ObjectMapper mapper = new ObjectMapper();
+    List<LiveContentReference> live = new ArrayList<>();
+    for (String line : body.split("\n")) {
+      live.add(mapper.readValue(line, LiveContentReference.class));
+    }
+    soft.assertThat(live)
+        .extracting(LiveContentReference::getMetadataLocation, LiveContentReference::getSnapshotId)
+        .contains(tuple("meta-live-1", 11L), tuple("meta-live-2", 12L))
+        .doesNotHaveDuplicates();
+  }
+
+  @NessieApiVersions(versions = {NessieApiVersion.V2})
+  @ParameterizedTest
+  @CsvSource({
+    "main,not-a-cutoff,Invalid cutoff policy 'not-a-cutoff'",
+    "[,1,Unclosed character class",
+  })
+  public void liveContentsInvalidCutoff(String pattern, String cutoff, String message) {
+    NessieError nessieError =
+        rest()
+            .accept(APPLICATION_NDJSON)
+            .body(LiveContentsRequest.builder().putCutoffs(pattern, cutoff).build())
+            .post("live-contents")
+            .then()
+            .statusCode(400)
+            .extract()
+            .as(NessieError.class);
+    soft.assertThat(nessieError.getErrorCode()).isEqualTo(ErrorCode.BAD_REQUEST);
+    soft.assertThat(nessieError.getMessage()).contains(message);
+  }
 }
@@ -15,11 +15,29 @@
  */
 package org.projectnessie.jaxrs.tests;
 
+import static java.util.function.Function.identity;
 import static org.projectnessie.jaxrs.ext.NessieJaxRsExtension.jaxRsExtension;
+import static org.projectnessie.services.authz.ApiContext.apiContext;
 
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.projectnessie.client.ext.NessieApiVersion;
+import org.projectnessie.client.ext.NessieApiVersions;
+import org.projectnessie.error.ErrorCode;
+import org.projectnessie.error.NessieError;
+import org.projectnessie.jaxrs.ext.NessieAccessChecker;
 import org.projectnessie.jaxrs.ext.NessieJaxRsExtension;
+import org.projectnessie.model.LiveContentsRequest;
+import org.projectnessie.services.authz.AbstractBatchAccessChecker;
+import org.projectnessie.services.authz.AccessContext;
+import org.projectnessie.services.authz.BatchAccessChecker;
+import org.projectnessie.services.authz.Check;
+import org.projectnessie.services.authz.Check.CheckType;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.testextension.NessiePersist;
 import org.projectnessie.versioned.storage.testextension.PersistExtension;
@@ -30,4 +48,34 @@ abstract class AbstractTestRestApiPersist extends BaseTestNessieRestWithRelRef {
   @NessiePersist protected static Persist persist;
 
   @RegisterExtension static NessieJaxRsExtension server = jaxRsExtension(() -> persist);
+
+  @NessieApiVersions(versions = {NessieApiVersion.V2})
+  @Test
+  public void liveContentsAccessCheck(
+      @NessieAccessChecker Consumer<Function<AccessContext, BatchAccessChecker>> accessChecker) {
+    accessChecker.accept(
+        accessContext ->
+            new AbstractBatchAccessChecker(apiContext("Nessie", 2)) {
+              @Override
+              public Map<Check, String> check() {
+                return getChecks().stream()
+                    .filter(c -> c.type() == CheckType.UPDATE_REPOSITORY_CONFIG)
+                    .collect(Collectors.toMap(identity(), c -> "Not a GC administrator"));
+              }
+            });
+
+    // The access check fails before the response is committed, the client gets an error response
+    // instead of a truncated stream.
+    NessieError nessieError =
+        rest()
+            .accept(APPLICATION_NDJSON)
+            .body(LiveContentsRequest.builder().build())
+            .post("live-contents")
+            .then()
+            .statusCode(403)
+            .extract()
+            .as(NessieError.class);
+    soft.assertThat(nessieError.getErrorCode()).isEqualTo(ErrorCode.FORBIDDEN);
+    soft.assertThat(nessieError.getMessage()).contains("Not a GC administrator");
+  }
 }
@@ -14,7 +14,10 @@
  * limitations under the License.
  */
 
-plugins { id("nessie-conventions-quarkus") }
+plugins {
+  id("nessie-conventions-quarkus")
+  alias(libs.plugins.jmh)
+}
 
 publishingHelper { mavenName = "Nessie - Auth for Quarkus based servers" }
 
@@ -26,6 +29,7 @@ dependencies {
   implementation(project(":nessie-versioned-spi"))
 
   implementation(libs.guava)
+  implementation(libs.caffeine)
 
   implementation(enforcedPlatform(libs.quarkus.bom))
   implementation("io.quarkus:quarkus-security")
@@ -41,4 +45,11 @@ dependencies {
 
   testFixturesApi(platform(libs.junit.bom))
   testFixturesApi(libs.bundles.junit.testing)
+
+  jmhImplementation(libs.jmh.core)
+  jmhAnnotationProcessor(libs.jmh.generator.annprocess)
 }
+
+tasks.named("processJmhJandexIndex").configure { enabled = false }
+
+jmh { jmhVersion = libs.versions.jmh.get() }
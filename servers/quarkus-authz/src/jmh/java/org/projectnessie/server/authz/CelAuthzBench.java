@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.authz;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.projectnessie.model.Content.Type.ICEBERG_TABLE;
+import static org.projectnessie.services.authz.ApiContext.apiContext;
+import static org.projectnessie.services.authz.Check.CheckType.READ_CONTENT_KEY;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.quarkus.config.QuarkusNessieAuthorizationConfig;
+import org.projectnessie.services.authz.Check;
+import org.projectnessie.versioned.BranchName;
+
+/**
+ * Measures the cost of checking a batch of content keys against a set of CEL rules, with and
+ * without the decision cache.
+ */
+@Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 3, time = 1000, timeUnit = MILLISECONDS)
+@Fork(1)
+@Threads(4)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class CelAuthzBench {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkParam {
+    @Param({"0", "100000"})
+    public int decisionCacheSize;
+
+    @Param({"100", "1000"})
+    public int keys;
+
+    CompiledAuthorizationRules rules;
+    List<Check> checks;
+
+    @Setup
+    public void init() {
+      Map<String, String> ruleExpressions =
+          Map.of(
+              "viewRefs",
+              "op=='VIEW_REFERENCE' && role.startsWith('user')",
+              "readMain",
+              "op in ['READ_ENTRIES', 'READ_CONTENT_KEY', 'READ_ENTITY_VALUE'] && ref=='main'",
+              "writeOwnNamespace",
+              "op in ['CREATE_ENTITY', 'UPDATE_ENTITY', 'DELETE_ENTITY'] "
+                  + "&& path.startsWith(role + '.')",
+              "commit",
+              "op=='COMMIT_CHANGE_AGAINST_REFERENCE' && role.startsWith('user')",
+              "admins",
+              "'admin' in roles");
+
+      rules =
+          new CompiledAuthorizationRules(
+              new QuarkusNessieAuthorizationConfig() {
+                @Override
+                public boolean enabled() {
+                  return true;
+                }
+
+                @Override
+                public String authorizationType() {
+                  return "CEL";
+                }
+
+                @Override
+                public Map<String, String> rules() {
+                  return ruleExpressions;
+                }
+
+                @Override
+                public int decisionCacheSize() {
+                  return decisionCacheSize;
+                }
+              });
+
+      BranchName main = BranchName.of("main");
+      checks =
+          IntStream.range(0, keys)
+              .mapToObj(
+                  i ->
+                      (Check)
+                          Check.builder(READ_CONTENT_KEY)
+                              .ref(main)
+                              .key(ContentKey.of("user" + (i % 10), "table" + i))
+                              .contentType(ICEBERG_TABLE)
+                              .build())
+              .toList();
+    }
+  }
+
+  @Benchmark
+  public Map<Check, String> readContentKeys(BenchmarkParam param) {
+    CelBatchAccessChecker checker =
+        new CelBatchAccessChecker(param.rules, () -> () -> "user1", apiContext("Nessie", 2));
+    checker.canReadEntries(BranchName.of("main"));
+    param.checks.forEach(checker::can);
+    return checker.check();
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.authz;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Conservative, syntactic analysis of CEL authorization rules to find the {@code op} values for
+ * which a rule can evaluate to {@code true}.
+ *
+ * <p>A rule is restricted to a set of ops only if its expression <em>requires</em> {@code op} to
+ * be one of those values, for example {@code op=='VIEW_REFERENCE' && ref=='main'} or {@code op in
+ * ['CREATE_ENTITY', 'UPDATE_ENTITY'] && role=='admin'}. Disjunctions yield the union of the ops of
+ * all terms, conjunctions the intersection of the constrained terms. Anything that is not
+ * understood, for example negations or conditional expressions, is treated as "applies to all
+ * ops".
+ */
+final class AuthorizationRuleOps {
+  private static final String LITERAL = "(?:'([A-Za-z0-9_]+)'|\"([A-Za-z0-9_]+)\")";
+  private static final Pattern OP_EQUALS = Pattern.compile("op\\s*==\\s*" + LITERAL);
+  private static final Pattern EQUALS_OP = Pattern.compile(LITERAL + "\\s*==\\s*op");
+  private static final Pattern OP_IN = Pattern.compile("op\\s+in\\s+\\[(.*)]", Pattern.DOTALL);
+  private static final Pattern LIST_ELEMENT = Pattern.compile("\\s*" + LITERAL + "\\s*");
+
+  private AuthorizationRuleOps() {}
+
+  /**
+   * Returns the set of ops for which the given rule can evaluate to {@code true}, or {@code null}
+   * if the rule is not restricted to specific ops.
+   */
+  static Set<String> requiredOps(String expression) {
+    String expr = stripParentheses(expression.trim());
+
+    List<String> disjunction = splitTopLevel(expr, "||");
+    if (disjunction == null) {
+      return null;
+    }
+    if (disjunction.size() > 1) {
+      Set<String> union = new HashSet<>();
+      for (String term : disjunction) {
+        Set<String> ops = requiredOps(term);
+        if (ops == null) {
+          return null;
+        }
+        union.addAll(ops);
+      }
+      return union;
+    }
+
+    List<String> conjunction = splitTopLevel(expr, "&&");
+    if (conjunction == null) {
+      return null;
+    }
+    if (conjunction.size() > 1) {
+      Set<String> intersection = null;
+      for (String term : conjunction) {
+        Set<String> ops = requiredOps(term);
+        if (ops != null) {
+          if (intersection == null) {
+            intersection = new HashSet<>(ops);
+          } else {
+            intersection.retainAll(ops);
+          }
+        }
+      }
+      return intersection;
+    }
+
+    return atomOps(expr);
+  }
+
+  private static Set<String> atomOps(String expr) {
+    Matcher m = OP_EQUALS.matcher(expr);
+    if (m.matches()) {
+      return Set.of(literal(m));
+    }
+    m = EQUALS_OP.matcher(expr);
+    if (m.matches()) {
+      return Set.of(literal(m));
+    }
+    m = OP_IN.matcher(expr);
+    if (m.matches()) {
+      Set<String> ops = new HashSet<>();
+      String elements = m.group(1);
+      if (elements.isBlank()) {
+        return ops;
+      }
+      for (String element : elements.split(",", -1)) {
+        Matcher e = LIST_ELEMENT.matcher(element);
+        if (!e.matches()) {
+          return null;
+        }
+        ops.add(literal(e));
+      }
+      return ops;
+    }
+    return null;
+  }
+
+  private static String literal(Matcher m) {
+    return m.group(1) != null ? m.group(1) : m.group(2);
+  }
+
+  /** Removes parentheses that enclose the whole expression. */
+  private static String stripParentheses(String expr) {
+    while (expr.startsWith("(") && closingParenthesis(expr) == expr.length() - 1) {
+      expr = expr.substring(1, expr.length() - 1).trim();
+    }
+    return expr;
+  }
+
+  private static int closingParenthesis(String expr) {
+    int depth = 0;
+    for (int i = 0; i < expr.length(); i++) {
+      char c = expr.charAt(i);
+      if (c == '\'' || c == '"') {
+        i = skipString(expr, i);
+        if (i < 0) {
+          return -1;
+        }
+      } else if (c == '(') {
+        depth++;
+      } else if (c == ')') {
+        depth--;
+        if (depth == 0) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Splits the expression at the given operator, ignoring operators in nested expressions and
+   * string literals. Returns {@code null} if the expression contains a top-level conditional
+   * operator or cannot be tokenized.
+   */
+  private static List<String> splitTopLevel(String expr, String operator) {
+    List<String> parts = new ArrayList<>();
+    int depth = 0;
+    int start = 0;
+    for (int i = 0; i < expr.length(); i++) {
+      char c = expr.charAt(i);
+      switch (c) {
+        case '\'':
+        case '"':
+          i = skipString(expr, i);
+          if (i < 0) {
+            return null;
+          }
+          break;
+        case '(':
+        case '[':
+        case '{':
+          depth++;
+          break;
+        case ')':
+        case ']':
+        case '}':
+          depth--;
+          break;
+        case '?':
+          if (depth == 0) {
+            return null;
+          }
+          break;
+        default:
+          if (depth == 0 && expr.startsWith(operator, i)) {
+            parts.add(expr.substring(start, i).trim());
+            i += operator.length() - 1;
+            start = i + 1;
+          }
+          break;
+      }
+    }
+    if (depth != 0) {
+      return null;
+    }
+    parts.add(expr.substring(start).trim());
+    return parts;
+  }
+
+  /** Returns the index of the closing quote of the string literal starting at {@code start}. */
+  private static int skipString(String expr, int start) {
+    char quote = expr.charAt(start);
+    for (int i = start + 1; i < expr.length(); i++) {
+      char c = expr.charAt(i);
+      if (c == '\\') {
+        i++;
+      } else if (c == quote) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.authz;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR event for the evaluation of a batch of access checks by the CEL authorizer. */
+@Name(AuthzBatchCheckEvent.NAME)
+@Label("Authorization Batch Check")
+@Category({"Nessie", "Authorization"})
+@Description("Evaluation of a batch of access checks against the CEL authorization rules.")
+@StackTrace(false)
+public final class AuthzBatchCheckEvent extends Event {
+  public static final String NAME = "org.projectnessie.authz.BatchCheck";
+
+  @Label("Checks")
+  @Description("Number of access checks in the batch.")
+  int checks;
+
+  @Label("Denied")
+  @Description("Number of denied access checks.")
+  int denied;
+}
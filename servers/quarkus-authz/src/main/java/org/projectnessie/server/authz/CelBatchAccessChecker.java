@@ -29,8 +29,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
-import org.projectnessie.cel.tools.ScriptException;
 import org.projectnessie.model.Content.Type;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.RepositoryConfig;
@@ -58,6 +58,8 @@ final class CelBatchAccessChecker extends AbstractBatchAccessChecker {
 
   @Override
   public Map<Check, String> check() {
+    AuthzBatchCheckEvent event = new AuthzBatchCheckEvent();
+    event.begin();
     Map<Check, String> failed = new LinkedHashMap<>();
     getChecks()
         .forEach(
@@ -72,6 +74,12 @@ final class CelBatchAccessChecker extends AbstractBatchAccessChecker {
                 canPerformOp(check, failed);
               }
             });
+    event.end();
+    if (event.shouldCommit()) {
+      event.checks = getChecks().size();
+      event.denied = failed.size();
+      event.commit();
+    }
     return failed;
   }
 
@@ -91,110 +99,132 @@ final class CelBatchAccessChecker extends AbstractBatchAccessChecker {
 
   private void canPerformOp(Check check, Map<Check, String> failed) {
     String roleName = roleName();
-    Map<String, Object> arguments =
-        Map.of(
-            VAR_ROLE,
-            roleName,
-            VAR_ROLES,
-            roles(),
-            VAR_OP,
-            check.type().name(),
-            VAR_ACTIONS,
-            check.actions(),
-            VAR_API,
-            getApiContext(),
-            VAR_PATH,
-            "",
-            VAR_REF,
-            "",
-            VAR_CONTENT_TYPE,
-            "");
+    List<String> roles = roles();
+    String op = check.type().name();
+    DecisionKey key =
+        new DecisionKey(op, roleName, roles, "", "", "", null, check.actions(), getApiContext());
+
+    Supplier<Map<String, Object>> arguments =
+        () ->
+            Map.of(
+                VAR_ROLE,
+                roleName,
+                VAR_ROLES,
+                roles,
+                VAR_OP,
+                op,
+                VAR_ACTIONS,
+                check.actions(),
+                VAR_API,
+                getApiContext(),
+                VAR_PATH,
+                "",
+                VAR_REF,
+                "",
+                VAR_CONTENT_TYPE,
+                "");
 
     Supplier<String> errorMsgSupplier =
         () -> String.format("'%s' is not allowed for role '%s' ", check.type(), roleName);
-    canPerformOp(arguments, check, errorMsgSupplier, failed);
+    canPerformOp(op, key, arguments, check, errorMsgSupplier, failed);
   }
 
   private void canPerformOpOnReference(Check check, Map<Check, String> failed) {
     String role = roleName();
+    List<String> roles = roles();
     String op = check.type().name();
     String ref = Optional.ofNullable(check.ref()).map(NamedRef::getName).orElse("");
-    Map<String, Object> arguments =
-        Map.of("ref", ref, "role", role, "roles", roles(), "op", op, "path", "", "contentType", "");
+    DecisionKey key = new DecisionKey(op, role, roles, ref, "", "", null, null, null);
+
+    Supplier<Map<String, Object>> arguments =
+        () ->
+            Map.of(
+                "ref", ref, "role", role, "roles", roles, "op", op, "path", "", "contentType", "");
 
     Supplier<String> errorMsgSupplier =
         () ->
             String.format(
                 "'%s' is not allowed for role '%s' on reference '%s'", check.type(), role, ref);
-    canPerformOp(arguments, check, errorMsgSupplier, failed);
+    canPerformOp(op, key, arguments, check, errorMsgSupplier, failed);
   }
 
   private void canPerformOpOnPath(Check check, Map<Check, String> failed) {
     String role = roleName();
+    List<String> roles = roles();
     String op = check.type().name();
     String contentType = Optional.ofNullable(check.contentType()).map(Type::name).orElse("");
     String path = Optional.ofNullable(check.key()).map(ContentKey::toPathString).orElse("");
     String ref = Optional.ofNullable(check.ref()).map(NamedRef::getName).orElse("");
-    Map<String, Object> arguments =
-        Map.of(
-            "ref",
-            ref,
-            "path",
-            path,
-            "role",
-            role,
-            "roles",
-            roles(),
-            "op",
-            op,
-            "contentType",
-            contentType);
+    DecisionKey key = new DecisionKey(op, role, roles, ref, path, contentType, null, null, null);
+
+    Supplier<Map<String, Object>> arguments =
+        () ->
+            Map.of(
+                "ref",
+                ref,
+                "path",
+                path,
+                "role",
+                role,
+                "roles",
+                roles,
+                "op",
+                op,
+                "contentType",
+                contentType);
 
     Supplier<String> errorMsgSupplier =
         () -> String.format("'%s' is not allowed for role '%s' on content '%s'", op, role, path);
 
-    canPerformOp(arguments, check, errorMsgSupplier, failed);
+    canPerformOp(op, key, arguments, check, errorMsgSupplier, failed);
   }
 
   private void canPerformRepositoryConfig(Check check, Map<Check, String> failed) {
+    String role = roleName();
+    List<String> roles = roles();
     String op = check.type().name();
     String type =
         Optional.ofNullable(check.repositoryConfigType())
             .map(RepositoryConfig.Type::name)
             .orElse("");
+    DecisionKey key = new DecisionKey(op, role, roles, "", "", null, type, null, null);
 
-    Map<String, Object> arguments =
-        Map.of("ref", "", "path", "", "role", roleName(), "roles", roles(), "op", op, "type", type);
+    Supplier<Map<String, Object>> arguments =
+        () -> Map.of("ref", "", "path", "", "role", role, "roles", roles, "op", op, "type", type);
 
     Supplier<String> errorMsgSupplier =
         () ->
             String.format(
                 "'%s' is not allowed for repository config type '%s'", check.type(), type);
 
-    canPerformOp(arguments, check, errorMsgSupplier, failed);
+    canPerformOp(op, key, arguments, check, errorMsgSupplier, failed);
   }
 
   private void canPerformOp(
-      Map<String, Object> arguments,
+      String op,
+      DecisionKey key,
+      Supplier<Map<String, Object>> arguments,
       Check check,
       Supplier<String> errorMessageSupplier,
       Map<Check, String> failed) {
-    boolean allowed =
-        compiledRules.getRules().entrySet().stream()
-            .anyMatch(
-                entry -> {
-                  try {
-                    return entry.getValue().execute(Boolean.class, arguments);
-                  } catch (ScriptException e) {
-                    throw new RuntimeException(
-                        String.format(
-                            "Failed to execute authorization rule with id '%s' due to: %s",
-                            entry.getKey(), e.getMessage()),
-                        e);
-                  }
-                });
+    boolean allowed = compiledRules.isAllowed(op, key, arguments);
     if (!allowed) {
       failed.put(check, errorMessageSupplier.get());
     }
   }
+
+  /**
+   * Key for the decision cache, contains all values that are passed as arguments to the CEL rules.
+   * Values that are not passed as an argument for a kind of check are {@code null}.
+   */
+  private record DecisionKey(
+      String op,
+      String role,
+      List<String> roles,
+      String ref,
+      String path,
+      String contentType,
+      String repositoryConfigType,
+      Set<String> actions,
+      ApiContext api) {}
 }
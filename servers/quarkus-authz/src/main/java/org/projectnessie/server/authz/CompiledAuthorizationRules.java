@@ -17,26 +17,38 @@ package org.projectnessie.server.authz;
 
 import static org.projectnessie.services.authz.Check.CheckType.VIEW_REFERENCE;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.collect.ImmutableMap;
 import io.quarkus.runtime.Startup;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 import org.projectnessie.cel.tools.Script;
 import org.projectnessie.cel.tools.ScriptException;
 import org.projectnessie.quarkus.config.QuarkusNessieAuthorizationConfig;
+import org.projectnessie.services.authz.Check.CheckType;
 import org.projectnessie.services.cel.CELUtil;
 
 /**
  * Compiles the authorization rules from {@link QuarkusNessieAuthorizationConfig} at startup and
  * provides access to them via {@link CompiledAuthorizationRules#getRules()}.
+ *
+ * <p>Rules are also indexed by the {@code op} values they can match, see {@link
+ * AuthorizationRuleOps}, so that only the applicable rules are evaluated for a check. Decisions
+ * are memoized in a bounded cache, because the outcome of the rules only depends on the
+ * arguments passed to the rules.
  */
 @Singleton
 @Startup
 public class CompiledAuthorizationRules {
   private final QuarkusNessieAuthorizationConfig config;
   private final Map<String, Script> compiledRules;
+  private final Map<String, Map<String, Script>> rulesByOp;
+  private final Cache<Object, Boolean> decisionCache;
   private static final String ALLOW_VIEWING_ALL_REFS_ID = "__ALLOW_VIEWING_REF_ID";
   private static final String ALLOW_VIEWING_ALL_REFS =
       String.format("op=='%s' && ref.matches('.*')", VIEW_REFERENCE);
@@ -45,6 +57,10 @@ public class CompiledAuthorizationRules {
   public CompiledAuthorizationRules(QuarkusNessieAuthorizationConfig config) {
     this.config = config;
     this.compiledRules = compileAuthorizationRules();
+    this.rulesByOp = indexRulesByOp();
+    int decisionCacheSize = config.decisionCacheSize();
+    this.decisionCache =
+        decisionCacheSize > 0 ? Caffeine.newBuilder().maximumSize(decisionCacheSize).build() : null;
   }
 
   /**
@@ -81,6 +97,31 @@ public class CompiledAuthorizationRules {
     return ImmutableMap.copyOf(scripts);
   }
 
+  private Map<String, Map<String, Script>> indexRulesByOp() {
+    Map<String, String> rules = new HashMap<>(config.rules());
+    rules.putIfAbsent(ALLOW_VIEWING_ALL_REFS_ID, ALLOW_VIEWING_ALL_REFS);
+
+    Map<String, Set<String>> opsByRule = new HashMap<>();
+    for (String id : compiledRules.keySet()) {
+      opsByRule.put(id, AuthorizationRuleOps.requiredOps(rules.get(id)));
+    }
+
+    ImmutableMap.Builder<String, Map<String, Script>> index = ImmutableMap.builder();
+    for (CheckType checkType : CheckType.values()) {
+      String op = checkType.name();
+      ImmutableMap.Builder<String, Script> applicable = ImmutableMap.builder();
+      compiledRules.forEach(
+          (id, script) -> {
+            Set<String> ops = opsByRule.get(id);
+            if (ops == null || ops.contains(op)) {
+              applicable.put(id, script);
+            }
+          });
+      index.put(op, applicable.build());
+    }
+    return index.build();
+  }
+
   /**
    * Returns a map of compiled authorization rules.
    *
@@ -89,4 +130,46 @@ public class CompiledAuthorizationRules {
   public Map<String, Script> getRules() {
     return compiledRules;
   }
+
+  /**
+   * Returns the compiled authorization rules that can evaluate to {@code true} for the given
+   * {@code op}.
+   */
+  public Map<String, Script> getRulesForOp(String op) {
+    return rulesByOp.getOrDefault(op, compiledRules);
+  }
+
+  /**
+   * Evaluates the rules applicable to {@code op} with the arguments provided by {@code arguments}
+   * and returns whether any rule allows the operation.
+   *
+   * @param op the {@code op} argument
+   * @param decisionKey key of the decision cache, must be equal for two invocations if and only if
+   *     the arguments are equal
+   * @param arguments provides the arguments for the CEL rules, only called if the decision is not
+   *     cached
+   */
+  public boolean isAllowed(String op, Object decisionKey, Supplier<Map<String, Object>> arguments) {
+    if (decisionCache == null) {
+      return evaluate(op, arguments.get());
+    }
+    return decisionCache.get(decisionKey, k -> evaluate(op, arguments.get()));
+  }
+
+  private boolean evaluate(String op, Map<String, Object> arguments) {
+    for (Map.Entry<String, Script> entry : getRulesForOp(op).entrySet()) {
+      try {
+        if (entry.getValue().execute(Boolean.class, arguments)) {
+          return true;
+        }
+      } catch (ScriptException e) {
+        throw new RuntimeException(
+            String.format(
+                "Failed to execute authorization rule with id '%s' due to: %s",
+                entry.getKey(), e.getMessage()),
+            e);
+      }
+    }
+    return false;
+  }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.authz;
+
+import static org.projectnessie.server.authz.AuthorizationRuleOps.requiredOps;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestAuthorizationRuleOps {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  void restricted() {
+    soft.assertThat(requiredOps("op=='VIEW_REFERENCE'")).containsExactly("VIEW_REFERENCE");
+    soft.assertThat(requiredOps("\"VIEW_REFERENCE\" == op")).containsExactly("VIEW_REFERENCE");
+    soft.assertThat(requiredOps("op=='VIEW_REFERENCE' && ref.matches('.*')"))
+        .containsExactly("VIEW_REFERENCE");
+    soft.assertThat(requiredOps("op in ['CREATE_ENTITY', 'UPDATE_ENTITY'] && role=='admin'"))
+        .containsExactlyInAnyOrder("CREATE_ENTITY", "UPDATE_ENTITY");
+    soft.assertThat(
+            requiredOps("(op=='VIEW_REFERENCE' && ref=='main') || (op=='READ_ENTRIES' && x)"))
+        .containsExactlyInAnyOrder("VIEW_REFERENCE", "READ_ENTRIES");
+    soft.assertThat(requiredOps("op in ['CREATE_ENTITY', 'UPDATE_ENTITY'] && op=='UPDATE_ENTITY'"))
+        .containsExactly("UPDATE_ENTITY");
+    soft.assertThat(requiredOps("role=='x' && op=='VIEW_REFERENCE' && ref=='a||b'"))
+        .containsExactly("VIEW_REFERENCE");
+  }
+
+  @Test
+  void unrestricted() {
+    soft.assertThat(requiredOps("false")).isNull();
+    soft.assertThat(requiredOps("'admin' in roles")).isNull();
+    soft.assertThat(requiredOps("op=='VIEW_REFERENCE' || role=='admin'")).isNull();
+    soft.assertThat(requiredOps("!(op=='VIEW_REFERENCE')")).isNull();
+    soft.assertThat(requiredOps("op!='VIEW_REFERENCE'")).isNull();
+    soft.assertThat(requiredOps("role=='admin' ? true : op=='VIEW_REFERENCE'")).isNull();
+    soft.assertThat(requiredOps("op.startsWith('VIEW')")).isNull();
+  }
+}
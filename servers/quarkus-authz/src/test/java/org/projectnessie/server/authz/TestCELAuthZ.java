@@ -23,9 +23,12 @@ import static org.projectnessie.services.authz.Check.CheckType.VIEW_REFERENCE;
 
 import jakarta.enterprise.inject.Instance;
 import java.security.Principal;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
@@ -33,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.projectnessie.cel.tools.Script;
 import org.projectnessie.cel.tools.ScriptException;
 import org.projectnessie.quarkus.config.QuarkusNessieAuthorizationConfig;
@@ -169,8 +173,51 @@ public class TestCELAuthZ {
         .isSameAs(AbstractBatchAccessChecker.NOOP_ACCESS_CHECKER);
   }
 
+  @Test
+  void rulesIndexedByOp() {
+    CompiledAuthorizationRules rules = new CompiledAuthorizationRules(buildConfig(true));
+
+    soft.assertThat(rules.getRulesForOp(VIEW_REFERENCE.name()).keySet())
+        .containsExactlyInAnyOrder("foo", "bar", "baz", "__ALLOW_VIEWING_REF_ID");
+    soft.assertThat(rules.getRulesForOp(CREATE_REFERENCE.name()).keySet())
+        .containsExactlyInAnyOrder("foo", "bar", "baz");
+    soft.assertThat(rules.getRulesForOp(CheckType.READ_ENTITY_VALUE.name()).keySet())
+        .containsExactlyInAnyOrder("foo", "bar", "baz", "contentType");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 100})
+  void decisionCache(int decisionCacheSize) {
+    CompiledAuthorizationRules rules =
+        new CompiledAuthorizationRules(buildConfig(true, decisionCacheSize));
+
+    Map<String, Object> args =
+        Map.of("role", "baz", "roles", List.of("baz"), "op", CREATE_REFERENCE.name());
+    AtomicInteger argumentsCalls = new AtomicInteger();
+    Supplier<Map<String, Object>> arguments =
+        () -> {
+          argumentsCalls.incrementAndGet();
+          return args;
+        };
+
+    for (int i = 0; i < 3; i++) {
+      soft.assertThat(rules.isAllowed(CREATE_REFERENCE.name(), "key", arguments)).isTrue();
+    }
+    soft.assertThat(argumentsCalls).hasValue(decisionCacheSize > 0 ? 1 : 3);
+  }
+
   private static QuarkusNessieAuthorizationConfig buildConfig(boolean enabled) {
+    return buildConfig(enabled, 100);
+  }
+
+  private static QuarkusNessieAuthorizationConfig buildConfig(
+      boolean enabled, int decisionCacheSize) {
     return new QuarkusNessieAuthorizationConfig() {
+      @Override
+      public int decisionCacheSize() {
+        return decisionCacheSize;
+      }
+
       @Override
       public String authorizationType() {
         return "CEL";
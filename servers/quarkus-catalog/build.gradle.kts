@@ -28,6 +28,7 @@ dependencies {
   implementation(project(":nessie-catalog-service-config"))
   implementation(project(":nessie-catalog-service-impl"))
   implementation(project(":nessie-catalog-service-rest"))
+  implementation(project(":nessie-events-spi"))
   implementation(project(":nessie-tasks-api"))
   implementation(project(":nessie-tasks-service-async"))
   implementation(project(":nessie-tasks-service-impl"))
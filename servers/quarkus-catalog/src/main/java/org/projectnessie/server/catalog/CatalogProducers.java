@@ -19,11 +19,13 @@ import static java.time.Clock.systemUTC;
 
 import com.azure.core.http.HttpClient;
 import com.google.auth.http.HttpTransportFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.runtime.configuration.ConfigurationException;
 import io.smallrye.context.SmallRyeManagedExecutor;
-import io.smallrye.context.SmallRyeThreadContext;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.Any;
@@ -71,11 +73,15 @@ import org.projectnessie.catalog.service.impl.IcebergExceptionMapper;
 import org.projectnessie.catalog.service.impl.IllegalArgumentExceptionMapper;
 import org.projectnessie.catalog.service.impl.NessieExceptionMapper;
 import org.projectnessie.catalog.service.impl.PreviousTaskExceptionMapper;
+import org.projectnessie.catalog.service.impl.SnapshotImportScheduler;
+import org.projectnessie.nessie.tasks.api.TaskCompletionNotification;
+import org.projectnessie.nessie.tasks.api.TaskCompletionNotificationConsumer;
 import org.projectnessie.nessie.tasks.async.TasksAsync;
 import org.projectnessie.nessie.tasks.async.pool.JavaPoolTasksAsync;
 import org.projectnessie.nessie.tasks.async.wrapping.ThreadContextTasksAsync;
 import org.projectnessie.nessie.tasks.service.TasksServiceConfig;
 import org.projectnessie.nessie.tasks.service.impl.TasksServiceExecutor;
+import org.projectnessie.nessie.tasks.service.impl.TasksServiceImpl;
 import org.projectnessie.quarkus.config.CatalogServiceConfig;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.slf4j.Logger;
@@ -306,6 +312,24 @@ public class CatalogProducers {
     return executorService;
   }
 
+  void taskCompletionNotifications(
+      @Observes StartupEvent ev,
+      CatalogServiceConfig config,
+      TasksServiceImpl tasksService,
+      @Any Instance<TaskCompletionNotification> sender,
+      @Any Instance<TaskCompletionNotificationConsumer> receiver) {
+    if (!config.tasksCompletionNotifications()) {
+      return;
+    }
+    if (sender.isResolvable() && receiver.isResolvable()) {
+      LOGGER.info("Task completion notifications enabled");
+      tasksService.enableTaskCompletionNotifications(sender.get(), receiver.get());
+    } else {
+      LOGGER.warn(
+          "Task completion notifications are enabled, but no notification transport is available");
+    }
+  }
+
   @Produces
   @Singleton
   public TasksServiceConfig tasksServiceConfig(CatalogServiceConfig config) {
@@ -313,18 +337,108 @@ public class CatalogProducers {
         "tasks", config.raceWaitMin().toMillis(), config.raceWaitMax().toMillis());
   }
 
-  /** Provides the executor to run actual catalog import jobs, with thread-context propagation. */
+  /** Provides the threads that run the catalog import jobs scheduled by the import scheduler. */
+  @Produces
+  @Singleton
+  @Named("import-workers")
+  public ExecutorService importWorkers(CatalogServiceConfig config) {
+    return SmallRyeManagedExecutor.newThreadPoolExecutor(config.maxConcurrentImports(), -1);
+  }
+
+  public void shutdownImportWorkers(@Disposes @Named("import-workers") ExecutorService executor) {
+    executor.shutdown();
+  }
+
+  /**
+   * Provides the scheduler for catalog import jobs, which prioritizes imports for interactive
+   * requests over background warm-ups, with thread-context propagation.
+   */
+  @Produces
+  @Singleton
+  public SnapshotImportScheduler snapshotImportScheduler(
+      @Named("import-workers") ExecutorService executor,
+      ThreadContext threadContext,
+      CatalogServiceConfig config,
+      @Any Instance<MeterRegistry> meterRegistry) {
+    SnapshotImportScheduler scheduler =
+        new SnapshotImportScheduler(
+            executor,
+            threadContext::contextualRunnable,
+            config.maxConcurrentImports(),
+            config.maxConcurrentWarmUpsPerStore(),
+            config.maxQueuedWarmUps());
+    if (meterRegistry.isResolvable()) {
+      importSchedulerMetrics(meterRegistry.get(), scheduler);
+    }
+    return scheduler;
+  }
+
+  private static void importSchedulerMetrics(
+      MeterRegistry registry, SnapshotImportScheduler scheduler) {
+    Gauge.builder(
+            "nessie.catalog.imports.running",
+            scheduler,
+            s -> s.runningImports() - s.runningWarmUpImports())
+        .tag("priority", "interactive")
+        .register(registry);
+    Gauge.builder(
+            "nessie.catalog.imports.running",
+            scheduler,
+            SnapshotImportScheduler::runningWarmUpImports)
+        .tag("priority", "warm-up")
+        .register(registry);
+    Gauge.builder(
+            "nessie.catalog.imports.queued",
+            scheduler,
+            SnapshotImportScheduler::queuedInteractiveImports)
+        .tag("priority", "interactive")
+        .register(registry);
+    Gauge.builder(
+            "nessie.catalog.imports.queued",
+            scheduler,
+            SnapshotImportScheduler::queuedWarmUpImports)
+        .tag("priority", "warm-up")
+        .register(registry);
+    FunctionCounter.builder(
+            "nessie.catalog.imports.promoted", scheduler, SnapshotImportScheduler::promotedImports)
+        .register(registry);
+    Gauge.builder(
+            "nessie.catalog.warm-ups.queued", scheduler, SnapshotImportScheduler::queuedWarmUps)
+        .register(registry);
+    Gauge.builder(
+            "nessie.catalog.warm-ups.in-flight",
+            scheduler,
+            SnapshotImportScheduler::inFlightWarmUps)
+        .register(registry);
+    TimeGauge.builder(
+            "nessie.catalog.warm-ups.lag",
+            scheduler,
+            TimeUnit.MILLISECONDS,
+            s -> s.warmUpLag(TimeUnit.MILLISECONDS))
+        .register(registry);
+    FunctionCounter.builder(
+            "nessie.catalog.warm-ups", scheduler, SnapshotImportScheduler::scheduledWarmUps)
+        .tag("result", "scheduled")
+        .register(registry);
+    FunctionCounter.builder(
+            "nessie.catalog.warm-ups", scheduler, SnapshotImportScheduler::droppedWarmUps)
+        .tag("result", "dropped")
+        .register(registry);
+    FunctionCounter.builder(
+            "nessie.catalog.warm-ups", scheduler, SnapshotImportScheduler::cancelledWarmUps)
+        .tag("result", "cancelled")
+        .register(registry);
+    FunctionCounter.builder(
+            "nessie.catalog.warm-ups", scheduler, SnapshotImportScheduler::failedWarmUps)
+        .tag("result", "failed")
+        .register(registry);
+  }
+
+  /** Provides the executor to run actual catalog import jobs for interactive requests. */
   @Produces
   @Singleton
   @Named("import-jobs")
-  public Executor importJobExecutor(ThreadContext threadContext, CatalogServiceConfig config) {
-    ExecutorService executor =
-        SmallRyeManagedExecutor.newThreadPoolExecutor(config.maxConcurrentImports(), -1);
-    return new SmallRyeManagedExecutor(
-        config.maxConcurrentImports(),
-        -1,
-        (SmallRyeThreadContext) threadContext,
-        executor,
-        "import-jobs");
+  public Executor importJobExecutor(SnapshotImportScheduler scheduler) {
+    return scheduler.interactiveExecutor();
   }
 }
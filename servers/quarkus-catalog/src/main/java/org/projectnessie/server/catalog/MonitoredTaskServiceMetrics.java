@@ -131,4 +131,12 @@ public class MonitoredTaskServiceMetrics implements TaskServiceMetrics {
   @Override
   @Counted(PREFIX)
   public void taskHasFinalSuccess() {}
+
+  @Override
+  @Counted(PREFIX)
+  public void taskCompletionNotificationSent() {}
+
+  @Override
+  @Counted(PREFIX)
+  public void taskCompletionNotificationReceived() {}
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.catalog;
+
+import static org.projectnessie.catalog.service.objtypes.EntitySnapshotObj.snapshotObjIdForContent;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.ManagedContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import java.util.concurrent.CompletionStage;
+import org.projectnessie.catalog.files.api.BackendExceptionMapper;
+import org.projectnessie.catalog.files.api.ObjectIO;
+import org.projectnessie.catalog.service.config.ServiceConfig;
+import org.projectnessie.catalog.service.impl.IcebergStuff;
+import org.projectnessie.catalog.service.impl.SnapshotImportScheduler;
+import org.projectnessie.events.api.ContentStoredEvent;
+import org.projectnessie.events.api.EventType;
+import org.projectnessie.events.spi.EventSubscriber;
+import org.projectnessie.events.spi.EventSubscription;
+import org.projectnessie.events.spi.EventTypeFilter;
+import org.projectnessie.model.Content;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.IcebergView;
+import org.projectnessie.nessie.tasks.api.TasksService;
+import org.projectnessie.quarkus.config.CatalogServiceConfig;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pre-warms the Nessie Data Catalog database: queues background imports via the {@link
+ * SnapshotImportScheduler} for the snapshots of Iceberg tables and views stored by commits, if
+ * enabled via {@link CatalogServiceConfig#warmUpImports()}.
+ */
+@ApplicationScoped
+public class SnapshotWarmUpSubscriber implements EventSubscriber {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotWarmUpSubscriber.class);
+
+  @Inject CatalogServiceConfig config;
+  @Inject SnapshotImportScheduler importScheduler;
+  @Inject Instance<ObjectIO> objectIO;
+  @Inject Persist persist;
+  @Inject TasksService tasksService;
+  @Inject BackendExceptionMapper backendExceptionMapper;
+  @Inject ServiceConfig serviceConfig;
+
+  @Override
+  public void onSubscribe(EventSubscription subscription) {
+    if (config.warmUpImports()) {
+      LOGGER.info("Background snapshot imports for stored Iceberg tables and views enabled");
+    }
+  }
+
+  @Override
+  public EventTypeFilter getEventTypeFilter() {
+    return config.warmUpImports()
+        ? EventTypeFilter.of(EventType.CONTENT_STORED)
+        : EventTypeFilter.none();
+  }
+
+  @Override
+  public void onContentStored(ContentStoredEvent event) {
+    Content content = event.getContent();
+    String metadataLocation;
+    if (content instanceof IcebergTable) {
+      metadataLocation = ((IcebergTable) content).getMetadataLocation();
+    } else if (content instanceof IcebergView) {
+      metadataLocation = ((IcebergView) content).getMetadataLocation();
+    } else {
+      return;
+    }
+
+    ObjId snapshotId = snapshotObjIdForContent(content);
+    importScheduler.scheduleWarmUp(
+        snapshotId,
+        SnapshotImportScheduler.objectStore(metadataLocation),
+        () -> warmUp(snapshotId, content));
+  }
+
+  /**
+   * Runs the import in its own request context, which is propagated to the import worker and
+   * destroyed when the import has finished.
+   */
+  private CompletionStage<?> warmUp(ObjId snapshotId, Content content) {
+    ManagedContext requestContext = Arc.container().requestContext();
+    requestContext.activate();
+    InjectableContext.ContextState state = requestContext.getState();
+    try {
+      return IcebergStuff.warmUpIcebergSnapshot(
+              snapshotId,
+              content,
+              objectIO.get(),
+              persist,
+              tasksService,
+              backendExceptionMapper,
+              serviceConfig.effectiveRetryAfterThrottled(),
+              importScheduler)
+          .whenComplete((r, e) -> requestContext.destroy(state));
+    } catch (RuntimeException e) {
+      requestContext.destroy(state);
+      throw e;
+    } finally {
+      requestContext.deactivate();
+    }
+  }
+
+  @Override
+  public void close() {}
+}
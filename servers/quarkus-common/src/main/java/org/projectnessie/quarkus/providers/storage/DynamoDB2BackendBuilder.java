@@ -18,12 +18,15 @@ package org.projectnessie.quarkus.providers.storage;
 import static org.projectnessie.quarkus.config.VersionStoreConfig.VersionStoreType.DYNAMODB2;
 
 import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import org.projectnessie.quarkus.config.QuarkusDynamoDBConfig;
 import org.projectnessie.quarkus.providers.versionstore.StoreType;
 import org.projectnessie.versioned.storage.common.persist.Backend;
 import org.projectnessie.versioned.storage.dynamodb2.DynamoDB2BackendConfig;
 import org.projectnessie.versioned.storage.dynamodb2.DynamoDB2BackendFactory;
+import org.projectnessie.versioned.storage.dynamodb2.ImmutableDynamoDB2BackendConfig;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 @StoreType(DYNAMODB2)
@@ -32,16 +35,18 @@ public class DynamoDB2BackendBuilder implements BackendBuilder {
 
   @Inject DynamoDbClient client;
 
+  @Inject Instance<DynamoDbAsyncClient> asyncClient;
+
   @Inject QuarkusDynamoDBConfig dynamoDBConfig;
 
   @Override
   public Backend buildBackend() {
     DynamoDB2BackendFactory factory = new DynamoDB2BackendFactory();
-    DynamoDB2BackendConfig c =
-        DynamoDB2BackendConfig.builder()
-            .client(client)
-            .tablePrefix(dynamoDBConfig.tablePrefix())
-            .build();
-    return factory.buildBackend(c);
+    ImmutableDynamoDB2BackendConfig.Builder c =
+        DynamoDB2BackendConfig.builder().client(client).tablePrefix(dynamoDBConfig.tablePrefix());
+    if (asyncClient.isResolvable()) {
+      c.asyncClient(asyncClient.get());
+    }
+    return factory.buildBackend(c.build());
   }
 }
@@ -19,6 +19,7 @@ import static org.projectnessie.quarkus.config.VersionStoreConfig.VersionStoreTy
 
 import com.mongodb.client.MongoClient;
 import io.quarkus.arc.Arc;
+import io.quarkus.mongodb.reactive.ReactiveMongoClient;
 import io.quarkus.mongodb.runtime.MongoClientBeanUtil;
 import io.quarkus.mongodb.runtime.MongoClients;
 import jakarta.enterprise.context.Dependent;
@@ -42,10 +43,16 @@ public class MongoDB2BackendBuilder implements BackendBuilder {
     MongoClients mongoClients = Arc.container().instance(MongoClients.class).get();
     MongoClient client =
         mongoClients.createMongoClient(MongoClientBeanUtil.DEFAULT_MONGOCLIENT_NAME);
+    ReactiveMongoClient asyncClient =
+        mongoClients.createReactiveMongoClient(MongoClientBeanUtil.DEFAULT_MONGOCLIENT_NAME);
 
     MongoDB2BackendFactory factory = new MongoDB2BackendFactory();
     MongoDB2BackendConfig c =
-        MongoDB2BackendConfig.builder().databaseName(databaseName).client(client).build();
+        MongoDB2BackendConfig.builder()
+            .databaseName(databaseName)
+            .client(client)
+            .asyncClient(asyncClient.unwrap())
+            .build();
     return factory.buildBackend(c);
   }
 }
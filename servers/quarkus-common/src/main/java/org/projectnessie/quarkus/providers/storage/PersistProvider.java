@@ -17,7 +17,9 @@ package org.projectnessie.quarkus.providers.storage;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.String.format;
+import static org.projectnessie.quarkus.config.QuarkusStoreConfig.DEFAULT_CONFIG_CACHE_COMMIT_INDEX_CAPACITY_MB;
 import static org.projectnessie.quarkus.config.QuarkusStoreConfig.DEFAULT_CONFIG_CACHE_ENABLE_SOFT_REFERENCES;
+import static org.projectnessie.quarkus.config.QuarkusStoreConfig.DEFAULT_CONFIG_CACHE_HOT_TIER_HITS;
 import static org.projectnessie.quarkus.config.QuarkusStoreConfig.DEFAULT_CONFIG_CAPACITY_OVERSHOOT;
 import static org.projectnessie.versioned.storage.common.logic.Logics.repositoryLogic;
 
@@ -52,6 +54,7 @@ import org.projectnessie.versioned.storage.cache.DistributedCacheInvalidationCon
 import org.projectnessie.versioned.storage.cache.DistributedCacheInvalidations;
 import org.projectnessie.versioned.storage.cache.PersistCaches;
 import org.projectnessie.versioned.storage.common.persist.Backend;
+import org.projectnessie.versioned.storage.common.persist.FlightRecorderPersist;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
 import org.slf4j.Logger;
@@ -155,11 +158,18 @@ public class PersistProvider {
       var cacheCapacityOvershoot =
           storeConfig.cacheCapacityOvershoot().orElse(DEFAULT_CONFIG_CAPACITY_OVERSHOOT);
       checkArgument(cacheCapacityOvershoot > 0d && cacheCapacityOvershoot <= 1d);
+      var hotTierHits = storeConfig.cacheHotTierHits().orElse(DEFAULT_CONFIG_CACHE_HOT_TIER_HITS);
+      var commitIndexCapacityMb =
+          storeConfig
+              .cacheCommitIndexCapacityMb()
+              .orElse(DEFAULT_CONFIG_CACHE_COMMIT_INDEX_CAPACITY_MB);
       CacheConfig.Builder cacheConfig =
           CacheConfig.builder()
               .capacityMb(effectiveCacheSizeMB)
               .cacheCapacityOvershoot(cacheCapacityOvershoot)
-              .enableSoftReferences(enableSoftReferences);
+              .enableSoftReferences(enableSoftReferences)
+              .hotTierHits(hotTierHits)
+              .commitIndexCapacityMb(commitIndexCapacityMb);
       if (meterRegistry.isResolvable()) {
         cacheConfig.meterRegistry(meterRegistry.get());
       }
@@ -178,6 +188,8 @@ public class PersistProvider {
       String info = format("Using objects cache with %d MB", effectiveCacheSizeMB);
 
       info += ", with soft-references " + (enableSoftReferences ? "enabled" : "disabled");
+      info += ", hot-tier after " + hotTierHits + " hits";
+      info += ", commit index cache with " + commitIndexCapacityMb + " MB";
 
       CacheBackend cacheBackend = PersistCaches.newBackend(cacheConfig.build());
 
@@ -245,6 +257,9 @@ public class PersistProvider {
     PersistFactory persistFactory = b.createFactory();
     Persist persist = persistFactory.newPersist(storeConfig);
 
+    // Record JFR events for the calls that actually hit the backend, not for cache hits.
+    persist = new FlightRecorderPersist(persist);
+
     persist = cacheBackend.wrap(persist);
 
     LOGGER.info(
@@ -15,6 +15,9 @@
  */
 package org.projectnessie.quarkus.providers.storage;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Singleton;
 import org.projectnessie.quarkus.providers.NotObserved;
 import org.projectnessie.quarkus.providers.UninitializedRepository;
@@ -25,7 +28,8 @@ import org.projectnessie.versioned.storage.common.persist.Persist;
 @Singleton
 @UninitializedRepository
 public class QuarkusObservingPersist extends ObservingPersist {
-  public QuarkusObservingPersist(@NotObserved Persist delegate) {
-    super(delegate);
+  public QuarkusObservingPersist(
+      @NotObserved Persist delegate, @Any Instance<MeterRegistry> meterRegistry) {
+    super(delegate, meterRegistry.isResolvable() ? meterRegistry.get() : null);
   }
 }
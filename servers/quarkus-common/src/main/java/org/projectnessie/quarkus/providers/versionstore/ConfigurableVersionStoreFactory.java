@@ -15,14 +15,21 @@
  */
 package org.projectnessie.quarkus.providers.versionstore;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Any;
 import jakarta.enterprise.inject.Default;
+import jakarta.enterprise.inject.Disposes;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOError;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.projectnessie.quarkus.config.VersionStoreConfig;
 import org.projectnessie.quarkus.config.VersionStoreConfig.VersionStoreType;
@@ -48,6 +55,7 @@ public class ConfigurableVersionStoreFactory {
   private final VersionStoreConfig storeConfig;
   private final Persist persist;
   private final Instance<Consumer<Result>> resultConsumer;
+  private final Instance<MeterRegistry> meterRegistry;
 
   /**
    * Configurable version store factory.
@@ -58,21 +66,28 @@ public class ConfigurableVersionStoreFactory {
   public ConfigurableVersionStoreFactory(
       VersionStoreConfig storeConfig,
       @Default Persist persist,
-      @Any Instance<Consumer<Result>> resultConsumer) {
+      @Any Instance<Consumer<Result>> resultConsumer,
+      @Any Instance<MeterRegistry> meterRegistry) {
     this.storeConfig = storeConfig;
     this.persist = persist;
     this.resultConsumer = resultConsumer;
+    this.meterRegistry = meterRegistry;
   }
 
   /** Version store producer. */
   @Produces
   @Singleton
   @NotObserved
-  public VersionStore getVersionStore() {
+  public VersionStore getVersionStore(
+      @Named("namespace-summaries") ExecutorService namespaceSummariesExecutor) {
     VersionStoreType versionStoreType = storeConfig.getVersionStoreType();
 
     try {
-      VersionStore versionStore = new VersionStoreImpl(persist);
+      VersionStore versionStore =
+          new VersionStoreImpl(
+              persist,
+              meterRegistry.isResolvable() ? meterRegistry.get() : null,
+              namespaceSummariesExecutor);
 
       if (storeConfig.isEventsEnabled() && resultConsumer.isResolvable()) {
         versionStore = new EventsVersionStore(versionStore, resultConsumer.get());
@@ -83,4 +98,31 @@ public class ConfigurableVersionStoreFactory {
       throw e;
     }
   }
+
+  /**
+   * Single background thread that maintains the namespace summaries of new commits. Pending
+   * maintenance tasks are bounded, later commits are summarized from an older summary if tasks
+   * have been rejected.
+   */
+  @Produces
+  @Singleton
+  @Named("namespace-summaries")
+  public ExecutorService namespaceSummariesExecutor() {
+    return new ThreadPoolExecutor(
+        1,
+        1,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(1000),
+        r -> {
+          Thread t = new Thread(r, "nessie-namespace-summaries");
+          t.setDaemon(true);
+          return t;
+        });
+  }
+
+  public void shutdownNamespaceSummariesExecutor(
+      @Disposes @Named("namespace-summaries") ExecutorService executor) {
+    executor.shutdown();
+  }
 }
@@ -27,6 +27,32 @@ public interface CatalogServiceConfig {
   @WithDefault("32")
   int maxConcurrentImports();
 
+  /**
+   * Advanced property, enables importing the snapshots of Iceberg tables and views that are stored
+   * by commits in the background, so that later requests do not have to wait for the import.
+   * Requires that version store events are enabled. Imports for interactive requests take
+   * precedence over background imports.
+   */
+  @WithName("imports.warm-up.enabled")
+  @WithDefault("false")
+  boolean warmUpImports();
+
+  /**
+   * Advanced property, defines the maximum number of concurrent background imports per object
+   * store, for example per S3 bucket.
+   */
+  @WithName("imports.warm-up.max-concurrent-per-store")
+  @WithDefault("4")
+  int maxConcurrentWarmUpsPerStore();
+
+  /**
+   * Advanced property, defines the maximum number of queued background imports, further background
+   * imports are dropped.
+   */
+  @WithName("imports.warm-up.max-queued")
+  @WithDefault("10000")
+  int maxQueuedWarmUps();
+
   /** Advanced property, defines the maximum number of threads for async tasks like imports. */
   @WithName("tasks.threads.max")
   @WithDefault("-1")
@@ -51,4 +77,15 @@ public interface CatalogServiceConfig {
   @WithName("race.wait.max")
   @WithDefault("PT0.250S")
   Duration raceWaitMax();
+
+  /**
+   * Advanced property, enables push-based notifications to other Nessie instances when async tasks
+   * like imports finish, so that requests waiting for those tasks on other instances do not have
+   * to wait for the next poll of the task state. Notifications are sent via the distributed cache
+   * invalidation mechanism and require that to be configured. All Nessie instances must support
+   * task completion notifications before this option is enabled.
+   */
+  @WithName("tasks.completion-notifications.enabled")
+  @WithDefault("false")
+  boolean tasksCompletionNotifications();
 }
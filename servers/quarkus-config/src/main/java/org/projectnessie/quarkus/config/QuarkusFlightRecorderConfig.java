@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.quarkus.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Configuration of the continuous JDK Flight Recorder recording and of the management endpoint to
+ * dump it.
+ */
+@ConfigMapping(prefix = "nessie.server.flight-recorder")
+public interface QuarkusFlightRecorderConfig {
+
+  /**
+   * Start a continuous JDK Flight Recorder recording with the JDK's {@code default} settings when
+   * Nessie starts. The Nessie specific events for commits, backend calls, the objects cache, index
+   * stripe loads and authorization checks are included. Disabled by default.
+   */
+  @WithName("enabled")
+  @WithDefault("false")
+  boolean enabled();
+
+  /** Maximum age of the data kept by the continuous recording. */
+  @WithName("max-age")
+  @WithDefault("PT15M")
+  Duration maxAge();
+
+  /** Maximum size in bytes of the data kept by the continuous recording, defaults to 256 MB. */
+  @WithName("max-size")
+  @WithDefault("268435456")
+  long maxSize();
+
+  /** Path of the endpoint on the management port to dump the recorded data. */
+  @WithName("dump-uri")
+  @WithDefault("/nessie-management/flight-recording")
+  String dumpUri();
+
+  /**
+   * Tokens that are accepted in the {@code Nessie-Flight-Recording-Token} header of requests to
+   * the dump endpoint. The dump endpoint is only available, if at least one token is configured.
+   */
+  @WithName("dump-valid-tokens")
+  Optional<List<String>> dumpValidTokens();
+}
@@ -45,4 +45,13 @@ public interface QuarkusNessieAuthorizationConfig {
    *     expression.
    */
   Map<String, String> rules();
+
+  /**
+   * Maximum number of authorization decisions of the CEL authorizer to cache. A decision is the
+   * outcome of the authorization rules for a combination of user, roles, operation, reference,
+   * content key and content type. Set to {@code 0} to disable the cache.
+   */
+  @WithName("decision-cache-size")
+  @WithDefault("10000")
+  int decisionCacheSize();
 }
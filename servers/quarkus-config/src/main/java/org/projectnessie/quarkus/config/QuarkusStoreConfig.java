@@ -37,6 +37,9 @@ public interface QuarkusStoreConfig extends StoreConfig {
   String CONFIG_CACHE_INVALIDATIONS_SERVICE_NAME_LOOKUP_INTERVAL =
       "cache-invalidations.service-name-lookup-interval";
   String CONFIG_CACHE_INVALIDATIONS_REQUEST_TIMEOUT = "cache-invalidations.request-timeout";
+  String CONFIG_CACHE_INVALIDATIONS_BINARY_ENCODING = "cache-invalidations.binary-encoding";
+  String CONFIG_CACHE_INVALIDATIONS_COALESCE_WINDOW = "cache-invalidations.coalesce-window";
+  String CONFIG_CACHE_INVALIDATIONS_HTTP2 = "cache-invalidations.http2";
 
   @WithName(CONFIG_REPOSITORY_ID)
   @WithDefault(DEFAULT_REPOSITORY_ID)
@@ -179,6 +182,35 @@ public interface QuarkusStoreConfig extends StoreConfig {
   @WithDefault("" + DEFAULT_CONFIG_CAPACITY_OVERSHOOT)
   OptionalDouble cacheCapacityOvershoot();
 
+  String CONFIG_CACHE_HOT_TIER_HITS = "cache-hot-tier-hits";
+
+  /**
+   * Number of cache hits after which a cached object is kept in its deserialized form, defaults to
+   * {@code 3}. Set to {@code 0} to always deserialize objects on cache hits.
+   *
+   * <p>Frequently accessed objects, like recent commits and indexes, are then no longer
+   * deserialized on every cache hit. The estimated heap size of deserialized objects counts towards
+   * the cache capacity.
+   */
+  @WithName(CONFIG_CACHE_HOT_TIER_HITS)
+  @WithDefault("" + DEFAULT_CONFIG_CACHE_HOT_TIER_HITS)
+  OptionalInt cacheHotTierHits();
+
+  String CONFIG_CACHE_COMMIT_INDEX_CAPACITY_MB = "cache-commit-index-capacity-mb";
+
+  /**
+   * Capacity of the cache of deserialized commit indexes in megabytes, defaults to {@code 64}. Set
+   * to {@code 0} to disable the commit index cache.
+   *
+   * <p>Reads against the same commit, for example content lookups and key listings against a
+   * branch head, share the cached, deserialized index of that commit, including lazily loaded
+   * reference index stripes. The commit index cache is only active if the objects cache is
+   * enabled, its capacity is not part of the objects cache capacity.
+   */
+  @WithName(CONFIG_CACHE_COMMIT_INDEX_CAPACITY_MB)
+  @WithDefault("" + DEFAULT_CONFIG_CACHE_COMMIT_INDEX_CAPACITY_MB)
+  OptionalInt cacheCommitIndexCapacityMb();
+
   @WithName(CONFIG_REFERENCE_CACHE_TTL)
   @Override
   Optional<Duration> referenceCacheTtl();
@@ -228,4 +260,31 @@ public interface QuarkusStoreConfig extends StoreConfig {
 
   @WithName(CONFIG_CACHE_INVALIDATIONS_REQUEST_TIMEOUT)
   Optional<Duration> cacheInvalidationRequestTimeout();
+
+  /**
+   * Send cache invalidations using a compact binary encoding instead of JSON. Receivers always
+   * accept both encodings, enable this option only after all Nessie instances have been upgraded
+   * to a version that understands the binary encoding.
+   */
+  @WithName(CONFIG_CACHE_INVALIDATIONS_BINARY_ENCODING)
+  @WithDefault("false")
+  boolean cacheInvalidationBinaryEncoding();
+
+  /**
+   * Time to wait after the first pending cache invalidation before sending invalidations to the
+   * other Nessie instances. Duplicate invalidations within this window are sent only once. The
+   * default of zero sends invalidations immediately, still collapsing duplicate invalidations that
+   * are pending while a previous batch is being sent.
+   */
+  @WithName(CONFIG_CACHE_INVALIDATIONS_COALESCE_WINDOW)
+  Optional<Duration> cacheInvalidationCoalesceWindow();
+
+  /**
+   * Send cache invalidations via HTTP/2 over clear-text with prior knowledge, which multiplexes all
+   * requests to a Nessie instance over a single, persistent connection. Requires that the
+   * management interface of all Nessie instances accepts HTTP/2 clear-text connections.
+   */
+  @WithName(CONFIG_CACHE_INVALIDATIONS_HTTP2)
+  @WithDefault("false")
+  boolean cacheInvalidationHttp2();
 }
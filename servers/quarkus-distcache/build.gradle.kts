@@ -23,10 +23,12 @@ dependencies {
   implementation(project(":nessie-versioned-storage-cache"))
   implementation(project(":nessie-versioned-storage-common"))
   implementation(project(":nessie-network-tools"))
+  implementation(project(":nessie-tasks-api"))
 
   implementation(enforcedPlatform(libs.quarkus.bom))
   implementation("io.quarkus:quarkus-core")
   implementation("io.quarkus:quarkus-rest")
+  implementation("io.micrometer:micrometer-core")
 
   implementation("com.fasterxml.jackson.core:jackson-databind")
   compileOnly("com.fasterxml.jackson.core:jackson-annotations")
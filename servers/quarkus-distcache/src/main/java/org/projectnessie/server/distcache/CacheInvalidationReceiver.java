@@ -21,6 +21,7 @@ import static org.projectnessie.versioned.storage.common.persist.ObjId.objIdFrom
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.quarkus.vertx.http.ManagementInterface;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
 import jakarta.enterprise.event.Observes;
@@ -30,23 +31,29 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
+import org.projectnessie.nessie.tasks.api.TaskCompletionNotification;
+import org.projectnessie.nessie.tasks.api.TaskCompletionNotificationConsumer;
 import org.projectnessie.quarkus.config.QuarkusStoreConfig;
 import org.projectnessie.quarkus.providers.ServerInstanceId;
 import org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationEvictReference;
+import org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationTaskCompleted;
 import org.projectnessie.versioned.storage.cache.DistributedCacheInvalidation;
 import org.projectnessie.versioned.storage.cache.DistributedCacheInvalidationConsumer;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 // See https://quarkus.io/guides/management-interface-reference#management-endpoint-application
 @Singleton
-public class CacheInvalidationReceiver implements DistributedCacheInvalidationConsumer {
+public class CacheInvalidationReceiver
+    implements DistributedCacheInvalidationConsumer, TaskCompletionNotificationConsumer {
   public static final String NESSIE_CACHE_INVALIDATION_TOKEN_HEADER =
       "Nessie-Cache-Invalidation-Token";
 
   private static final Logger LOGGER = LoggerFactory.getLogger(CacheInvalidationReceiver.class);
 
   private DistributedCacheInvalidation distributedCacheInvalidation;
+  private TaskCompletionNotification taskCompletionNotification;
   private final String serverInstanceId;
   private final Set<String> validTokens;
   private final String invalidationPath;
@@ -71,6 +78,12 @@ public class CacheInvalidationReceiver implements DistributedCacheInvalidationCo
     this.distributedCacheInvalidation = distributedCacheInvalidation;
   }
 
+  @Override
+  public void applyTaskCompletionNotification(
+      TaskCompletionNotification taskCompletionNotification) {
+    this.taskCompletionNotification = taskCompletionNotification;
+  }
+
   public void registerManagementRoutes(@Observes ManagementInterface mi) {
     mi.router().post(invalidationPath).handler(this::cacheInvalidations);
   }
@@ -80,6 +93,19 @@ public class CacheInvalidationReceiver implements DistributedCacheInvalidationCo
     String senderId = request.getParam("sender");
     String token = request.getHeader(NESSIE_CACHE_INVALIDATION_TOKEN_HEADER);
 
+    if (CacheInvalidationsBinary.CONTENT_TYPE.equals(request.getHeader("Content-Type"))) {
+      cacheInvalidations(
+          rc,
+          () -> {
+            Buffer body = rc.body().buffer();
+            return CacheInvalidationsBinary.deserialize(
+                body != null ? body.getBytes() : new byte[0]);
+          },
+          senderId,
+          token);
+      return;
+    }
+
     cacheInvalidations(
         rc,
         () -> {
@@ -112,7 +138,9 @@ public class CacheInvalidationReceiver implements DistributedCacheInvalidationCo
       responseNoContent(rc);
       return;
     }
-    if (!"application/json".equals(rc.request().getHeader("Content-Type"))) {
+    String contentType = rc.request().getHeader("Content-Type");
+    if (!"application/json".equals(contentType)
+        && !CacheInvalidationsBinary.CONTENT_TYPE.equals(contentType)) {
       LOGGER.warn("Received cache invalidation with invalid HTTP content type");
       responseInvalidContentType(rc);
       return;
@@ -127,23 +155,40 @@ public class CacheInvalidationReceiver implements DistributedCacheInvalidationCo
     }
 
     DistributedCacheInvalidation cacheInvalidation = distributedCacheInvalidation;
-    if (cacheInvalidation != null) {
-      for (CacheInvalidations.CacheInvalidation invalidation : invs) {
-        switch (invalidation.type()) {
-          case CacheInvalidations.CacheInvalidationEvictObj.TYPE:
+    TaskCompletionNotification taskCompletion = taskCompletionNotification;
+    for (CacheInvalidations.CacheInvalidation invalidation : invs) {
+      switch (invalidation.type()) {
+        case CacheInvalidations.CacheInvalidationEvictObj.TYPE:
+          if (cacheInvalidation != null) {
             CacheInvalidations.CacheInvalidationEvictObj putObj =
                 (CacheInvalidations.CacheInvalidationEvictObj) invalidation;
             cacheInvalidation.evictObj(putObj.repoId(), objIdFromByteArray(putObj.id()));
-            break;
-          case CacheInvalidations.CacheInvalidationEvictReference.TYPE:
+          }
+          break;
+        case CacheInvalidations.CacheInvalidationEvictReference.TYPE:
+          if (cacheInvalidation != null) {
             CacheInvalidationEvictReference putReference =
                 (CacheInvalidations.CacheInvalidationEvictReference) invalidation;
             cacheInvalidation.evictReference(putReference.repoId(), putReference.refName());
-            break;
-          default:
-            // nothing we can do about a new invalidation type here
-            break;
-        }
+          }
+          break;
+        case CacheInvalidations.CacheInvalidationTaskCompleted.TYPE:
+          CacheInvalidationTaskCompleted taskCompleted =
+              (CacheInvalidations.CacheInvalidationTaskCompleted) invalidation;
+          ObjId taskObjId = objIdFromByteArray(taskCompleted.id());
+          // Evict a potentially stale, locally cached task object first, so that the task service
+          // sees the final state.
+          if (cacheInvalidation != null) {
+            cacheInvalidation.evictObj(taskCompleted.repoId(), taskObjId);
+          }
+          if (taskCompletion != null) {
+            taskCompletion.taskCompleted(
+                taskCompleted.repoId(), taskObjId, taskCompleted.versionToken());
+          }
+          break;
+        default:
+          // nothing we can do about a new invalidation type here
+          break;
       }
     }
 
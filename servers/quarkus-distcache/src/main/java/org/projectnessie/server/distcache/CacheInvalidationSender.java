@@ -23,19 +23,30 @@ import static org.projectnessie.quarkus.config.QuarkusStoreConfig.NESSIE_VERSION
 import static org.projectnessie.server.distcache.CacheInvalidationReceiver.NESSIE_CACHE_INVALIDATION_TOKEN_HEADER;
 import static org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationEvictObj.cacheInvalidationEvictObj;
 import static org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationEvictReference.cacheInvalidationEvictReference;
+import static org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationTaskCompleted.cacheInvalidationTaskCompleted;
 import static org.projectnessie.server.distcache.CacheInvalidations.cacheInvalidations;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import io.quarkus.runtime.Startup;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import java.net.SocketException;
 import java.net.UnknownHostException;
@@ -43,17 +54,18 @@ import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.projectnessie.nessie.networktools.AddressResolver;
+import org.projectnessie.nessie.tasks.api.TaskCompletionNotification;
 import org.projectnessie.quarkus.config.QuarkusStoreConfig;
 import org.projectnessie.quarkus.providers.ServerInstanceId;
 import org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidation;
@@ -64,7 +76,8 @@ import org.slf4j.LoggerFactory;
 
 @ApplicationScoped
 @Startup
-public class CacheInvalidationSender implements DistributedCacheInvalidation {
+public class CacheInvalidationSender
+    implements DistributedCacheInvalidation, TaskCompletionNotification {
   private static final Logger LOGGER = LoggerFactory.getLogger(CacheInvalidationSender.class);
 
   private final Vertx vertx;
@@ -79,12 +92,25 @@ public class CacheInvalidationSender implements DistributedCacheInvalidation {
   private final long requestTimeout;
 
   private final ObjectMapper objectMapper = new ObjectMapper();
+  private final boolean binaryEncoding;
   private final Lock lock = new ReentrantLock();
   private final int batchSize;
-  private final BlockingQueue<CacheInvalidation> invalidations = new LinkedBlockingQueue<>();
+  private final long coalesceWindowMillis;
+
+  /**
+   * Pending invalidations mapped to the {@link System#nanoTime()} when they were first enqueued.
+   * Duplicate invalidations are collapsed. Guarded by {@link #lock}.
+   */
+  private final LinkedHashMap<CacheInvalidation, Long> invalidations = new LinkedHashMap<>();
+
   private boolean triggered;
   private final String token;
 
+  private final DistributionSummary batchSizes;
+  private final Timer lag;
+  private final Counter coalesced;
+  private final Counter dropped;
+
   /** Contains the IPv4/6 addresses resolved from {@link #serviceNames}. */
   private volatile List<String> resolvedAddresses = emptyList();
 
@@ -93,7 +119,28 @@ public class CacheInvalidationSender implements DistributedCacheInvalidation {
       Vertx vertx,
       QuarkusStoreConfig config,
       @ConfigProperty(name = "quarkus.management.port") int httpPort,
-      @ServerInstanceId String serverInstanceId) {
+      @ServerInstanceId String serverInstanceId,
+      @Any Instance<MeterRegistry> meterRegistry) {
+    this(
+        vertx,
+        config,
+        httpPort,
+        serverInstanceId,
+        meterRegistry.isResolvable() ? meterRegistry.get() : null);
+  }
+
+  @VisibleForTesting
+  CacheInvalidationSender(
+      Vertx vertx, QuarkusStoreConfig config, int httpPort, String serverInstanceId) {
+    this(vertx, config, httpPort, serverInstanceId, (MeterRegistry) null);
+  }
+
+  CacheInvalidationSender(
+      Vertx vertx,
+      QuarkusStoreConfig config,
+      int httpPort,
+      String serverInstanceId,
+      MeterRegistry meterRegistry) {
     this.vertx = vertx;
 
     this.addressResolver = new AddressResolver(vertx);
@@ -102,7 +149,15 @@ public class CacheInvalidationSender implements DistributedCacheInvalidation {
             .cacheInvalidationRequestTimeout()
             .orElse(Duration.of(30, ChronoUnit.SECONDS))
             .toMillis();
-    this.httpClient = vertx.createHttpClient();
+    HttpClientOptions httpClientOptions = new HttpClientOptions().setKeepAlive(true);
+    if (config.cacheInvalidationHttp2()) {
+      // HTTP/2 with prior knowledge, all requests to a peer are multiplexed over one connection
+      httpClientOptions.setProtocolVersion(HttpVersion.HTTP_2).setHttp2ClearTextUpgrade(false);
+    }
+    this.httpClient = vertx.createHttpClient(httpClientOptions);
+    this.binaryEncoding = config.cacheInvalidationBinaryEncoding();
+    this.coalesceWindowMillis =
+        config.cacheInvalidationCoalesceWindow().map(Duration::toMillis).orElse(0L);
     this.serviceNames = config.cacheInvalidationServiceNames().orElse(emptyList());
     this.httpPort = httpPort;
     this.invalidationUri = config.cacheInvalidationUri() + "?sender=" + serverInstanceId;
@@ -110,6 +165,30 @@ public class CacheInvalidationSender implements DistributedCacheInvalidation {
         config.cacheInvalidationServiceNameLookupInterval().toMillis();
     this.batchSize = config.cacheInvalidationBatchSize();
     this.token = config.cacheInvalidationValidTokens().map(l -> l.get(0)).orElse(null);
+
+    // An empty composite registry provides no-op meters
+    MeterRegistry registry = meterRegistry != null ? meterRegistry : new CompositeMeterRegistry();
+    this.batchSizes =
+        DistributionSummary.builder("cache.invalidations.batch-size")
+            .description("Number of cache invalidations per batch sent to other Nessie instances.")
+            .register(registry);
+    this.lag =
+        Timer.builder("cache.invalidations.lag")
+            .description(
+                "Time between enqueueing the oldest cache invalidation of a batch and sending the batch.")
+            .register(registry);
+    this.coalesced =
+        Counter.builder("cache.invalidations.coalesced")
+            .description("Number of cache invalidations collapsed with a pending duplicate.")
+            .register(registry);
+    this.dropped =
+        Counter.builder("cache.invalidations.dropped")
+            .description(
+                "Number of cache invalidations that could not be delivered to a Nessie instance.")
+            .register(registry);
+    Gauge.builder("cache.invalidations.pending", this, CacheInvalidationSender::pendingCount)
+        .description("Number of cache invalidations waiting to be sent.")
+        .register(registry);
     if (!serviceNames.isEmpty()) {
       try {
         LOGGER.info("Sending remote cache invalidations to service name(s) {}", serviceNames);
@@ -186,11 +265,18 @@ public class CacheInvalidationSender implements DistributedCacheInvalidation {
 
     lock.lock();
     try {
-      invalidations.add(invalidation);
+      if (invalidations.putIfAbsent(invalidation, System.nanoTime()) != null) {
+        coalesced.increment();
+      }
 
       if (!triggered) {
         LOGGER.trace("Triggered invalidation submission");
-        vertx.executeBlocking(this::sendInvalidations);
+        if (coalesceWindowMillis > 0L) {
+          vertx.setTimer(
+              coalesceWindowMillis, x -> vertx.executeBlocking(this::sendInvalidations));
+        } else {
+          vertx.executeBlocking(this::sendInvalidations);
+        }
         triggered = true;
       }
     } finally {
@@ -198,13 +284,31 @@ public class CacheInvalidationSender implements DistributedCacheInvalidation {
     }
   }
 
+  private double pendingCount() {
+    lock.lock();
+    try {
+      return invalidations.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
   private Void sendInvalidations() {
     List<CacheInvalidation> batch = new ArrayList<>(batchSize);
+    long oldestEnqueued = 0L;
     try {
       while (true) {
         lock.lock();
         try {
-          invalidations.drainTo(batch, 100);
+          Iterator<Map.Entry<CacheInvalidation, Long>> iter = invalidations.entrySet().iterator();
+          while (batch.size() < batchSize && iter.hasNext()) {
+            Map.Entry<CacheInvalidation, Long> pending = iter.next();
+            if (batch.isEmpty()) {
+              oldestEnqueued = pending.getValue();
+            }
+            batch.add(pending.getKey());
+            iter.remove();
+          }
           if (batch.isEmpty()) {
             LOGGER.trace("Done sending invalidations");
             triggered = false;
@@ -213,6 +317,8 @@ public class CacheInvalidationSender implements DistributedCacheInvalidation {
         } finally {
           lock.unlock();
         }
+        batchSizes.record(batch.size());
+        lag.record(System.nanoTime() - oldestEnqueued, TimeUnit.NANOSECONDS);
         submit(batch, resolvedAddresses);
         batch = new ArrayList<>(batchSize);
       }
@@ -222,7 +328,9 @@ public class CacheInvalidationSender implements DistributedCacheInvalidation {
       if (!batch.isEmpty()) {
         lock.lock();
         try {
-          invalidations.addAll(batch);
+          for (CacheInvalidation invalidation : batch) {
+            invalidations.putIfAbsent(invalidation, oldestEnqueued);
+          }
           triggered = false;
         } finally {
           lock.unlock();
@@ -237,11 +345,18 @@ public class CacheInvalidationSender implements DistributedCacheInvalidation {
       List<CacheInvalidation> batch, List<String> resolvedAddresses) {
     LOGGER.trace("Submitting {} invalidations", batch.size());
 
-    String json;
-    try {
-      json = objectMapper.writeValueAsString(cacheInvalidations(batch));
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e);
+    String contentType;
+    Buffer body;
+    if (binaryEncoding) {
+      contentType = CacheInvalidationsBinary.CONTENT_TYPE;
+      body = Buffer.buffer(CacheInvalidationsBinary.serialize(batch));
+    } else {
+      contentType = APPLICATION_JSON;
+      try {
+        body = Buffer.buffer(objectMapper.writeValueAsBytes(cacheInvalidations(batch)));
+      } catch (JsonProcessingException e) {
+        throw new RuntimeException(e);
+      }
     }
 
     List<Future<Map.Entry<HttpClientResponse, Buffer>>> futures =
@@ -252,9 +367,9 @@ public class CacheInvalidationSender implements DistributedCacheInvalidation {
               .request(HttpMethod.POST, httpPort, address, invalidationUri)
               .compose(
                   req ->
-                      req.putHeader("Content-Type", APPLICATION_JSON)
+                      req.putHeader("Content-Type", contentType)
                           .putHeader(NESSIE_CACHE_INVALIDATION_TOKEN_HEADER, token)
-                          .send(json))
+                          .send(body))
               .compose(resp -> resp.body().map(b -> Map.entry(resp, b)))
               .timeout(requestTimeout, TimeUnit.MILLISECONDS)
               .onComplete(
@@ -262,6 +377,7 @@ public class CacheInvalidationSender implements DistributedCacheInvalidation {
                     HttpClientResponse resp = success.getKey();
                     int statusCode = resp.statusCode();
                     if (statusCode != 200 && statusCode != 204) {
+                      dropped.increment(batch.size());
                       LOGGER.warn(
                           "{} cache invalidations could not be sent to {}:{}{} - HTTP {}/{} - body: {}",
                           batch.size(),
@@ -277,6 +393,7 @@ public class CacheInvalidationSender implements DistributedCacheInvalidation {
                     }
                   },
                   failure -> {
+                    dropped.increment(batch.size());
                     if (failure instanceof SocketException
                         || failure instanceof UnknownHostException) {
                       LOGGER.warn(
@@ -307,4 +424,9 @@ public class CacheInvalidationSender implements DistributedCacheInvalidation {
   public void evictObj(String repositoryId, ObjId objId) {
     enqueue(cacheInvalidationEvictObj(repositoryId, objId.asByteArray()));
   }
+
+  @Override
+  public void taskCompleted(String repositoryId, ObjId objId, String versionToken) {
+    enqueue(cacheInvalidationTaskCompleted(repositoryId, objId.asByteArray(), versionToken));
+  }
 }
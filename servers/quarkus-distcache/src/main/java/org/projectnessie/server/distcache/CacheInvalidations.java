@@ -44,6 +44,9 @@ public interface CacheInvalidations {
     @JsonSubTypes.Type(
         value = CacheInvalidationEvictReference.class,
         name = CacheInvalidationEvictReference.TYPE),
+    @JsonSubTypes.Type(
+        value = CacheInvalidationTaskCompleted.class,
+        name = CacheInvalidationTaskCompleted.TYPE),
   })
   interface CacheInvalidation {
     String type();
@@ -101,4 +104,37 @@ public interface CacheInvalidations {
       return ImmutableCacheInvalidationEvictReference.of(repoId, refName);
     }
   }
+
+  /**
+   * Not a cache invalidation in the strict sense, but a notification that a task object reached a
+   * final state, implies the eviction of the task object.
+   */
+  @Value.Immutable
+  @JsonSerialize(as = ImmutableCacheInvalidationTaskCompleted.class)
+  @JsonDeserialize(as = ImmutableCacheInvalidationTaskCompleted.class)
+  @JsonTypeName(value = CacheInvalidationTaskCompleted.TYPE)
+  interface CacheInvalidationTaskCompleted extends CacheInvalidation {
+    String TYPE = "task";
+
+    @Override
+    default String type() {
+      return TYPE;
+    }
+
+    @Value.Parameter(order = 1)
+    @Override
+    String repoId();
+
+    @Value.Parameter(order = 2)
+    byte[] id();
+
+    @Value.Parameter(order = 3)
+    @JsonProperty("v")
+    String versionToken();
+
+    static CacheInvalidationTaskCompleted cacheInvalidationTaskCompleted(
+        String repoId, byte[] id, String versionToken) {
+      return ImmutableCacheInvalidationTaskCompleted.of(repoId, id, versionToken);
+    }
+  }
 }
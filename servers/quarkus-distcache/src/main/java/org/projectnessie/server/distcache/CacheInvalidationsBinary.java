@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.distcache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationEvictObj.cacheInvalidationEvictObj;
+import static org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationEvictReference.cacheInvalidationEvictReference;
+import static org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationTaskCompleted.cacheInvalidationTaskCompleted;
+import static org.projectnessie.versioned.storage.common.util.Ser.putVarInt;
+import static org.projectnessie.versioned.storage.common.util.Ser.readVarInt;
+import static org.projectnessie.versioned.storage.common.util.Ser.varIntLen;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidation;
+import org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationEvictObj;
+import org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationEvictReference;
+import org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationTaskCompleted;
+
+/**
+ * Compact binary representation of {@link CacheInvalidations}, an alternative to the JSON
+ * representation.
+ *
+ * <p>The format starts with a single version byte, followed by the invalidations. Each invalidation
+ * consists of a type byte, the var-int encoded length of the invalidation's payload and the
+ * payload. Strings and object IDs are encoded as var-int length followed by the UTF-8 respectively
+ * raw bytes. Invalidations of unknown types are skipped, which allows adding new types without
+ * breaking older receivers.
+ */
+final class CacheInvalidationsBinary {
+  static final String CONTENT_TYPE = "application/vnd.nessie.cache-invalidations";
+
+  static final byte VERSION = 1;
+
+  static final byte TYPE_EVICT_OBJ = 1;
+  static final byte TYPE_EVICT_REFERENCE = 2;
+  static final byte TYPE_TASK_COMPLETED = 3;
+
+  private CacheInvalidationsBinary() {}
+
+  static byte[] serialize(List<CacheInvalidation> invalidations) {
+    List<byte[][]> encoded = new ArrayList<>(invalidations.size());
+    byte[] types = new byte[invalidations.size()];
+    int size = 1;
+    for (int i = 0; i < invalidations.size(); i++) {
+      CacheInvalidation invalidation = invalidations.get(i);
+      byte[][] fields;
+      switch (invalidation.type()) {
+        case CacheInvalidationEvictObj.TYPE:
+          CacheInvalidationEvictObj evictObj = (CacheInvalidationEvictObj) invalidation;
+          types[i] = TYPE_EVICT_OBJ;
+          fields = new byte[][] {evictObj.repoId().getBytes(UTF_8), evictObj.id()};
+          break;
+        case CacheInvalidationEvictReference.TYPE:
+          CacheInvalidationEvictReference evictRef = (CacheInvalidationEvictReference) invalidation;
+          types[i] = TYPE_EVICT_REFERENCE;
+          fields =
+              new byte[][] {evictRef.repoId().getBytes(UTF_8), evictRef.refName().getBytes(UTF_8)};
+          break;
+        case CacheInvalidationTaskCompleted.TYPE:
+          CacheInvalidationTaskCompleted task = (CacheInvalidationTaskCompleted) invalidation;
+          types[i] = TYPE_TASK_COMPLETED;
+          fields =
+              new byte[][] {
+                task.repoId().getBytes(UTF_8), task.id(), task.versionToken().getBytes(UTF_8)
+              };
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown invalidation type " + invalidation.type());
+      }
+      encoded.add(fields);
+      int payload = payloadSize(fields);
+      size += 1 + varIntLen(payload) + payload;
+    }
+
+    ByteBuffer target = ByteBuffer.allocate(size);
+    target.put(VERSION);
+    for (int i = 0; i < types.length; i++) {
+      byte[][] fields = encoded.get(i);
+      target.put(types[i]);
+      putVarInt(target, payloadSize(fields));
+      for (byte[] field : fields) {
+        putVarInt(target, field.length);
+        target.put(field);
+      }
+    }
+    return target.array();
+  }
+
+  static CacheInvalidations deserialize(byte[] data) {
+    List<CacheInvalidation> invalidations = new ArrayList<>();
+    if (data.length == 0) {
+      return CacheInvalidations.cacheInvalidations(invalidations);
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(data);
+    byte version = buffer.get();
+    if (version != VERSION) {
+      throw new IllegalArgumentException("Unsupported cache invalidations version " + version);
+    }
+    while (buffer.hasRemaining()) {
+      byte type = buffer.get();
+      int payloadSize = readVarInt(buffer);
+      ByteBuffer payload = buffer.slice(buffer.position(), payloadSize);
+      buffer.position(buffer.position() + payloadSize);
+      switch (type) {
+        case TYPE_EVICT_OBJ:
+          invalidations.add(cacheInvalidationEvictObj(readString(payload), readBytes(payload)));
+          break;
+        case TYPE_EVICT_REFERENCE:
+          invalidations.add(
+              cacheInvalidationEvictReference(readString(payload), readString(payload)));
+          break;
+        case TYPE_TASK_COMPLETED:
+          invalidations.add(
+              cacheInvalidationTaskCompleted(
+                  readString(payload), readBytes(payload), readString(payload)));
+          break;
+        default:
+          // forward compatibility, skip unknown invalidation types
+          break;
+      }
+    }
+    return CacheInvalidations.cacheInvalidations(invalidations);
+  }
+
+  private static int payloadSize(byte[][] fields) {
+    int size = 0;
+    for (byte[] field : fields) {
+      size += varIntLen(field.length) + field.length;
+    }
+    return size;
+  }
+
+  private static byte[] readBytes(ByteBuffer payload) {
+    byte[] bytes = new byte[readVarInt(payload)];
+    payload.get(bytes);
+    return bytes;
+  }
+
+  private static String readString(ByteBuffer payload) {
+    return new String(readBytes(payload), UTF_8);
+  }
+}
@@ -19,6 +19,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -26,11 +27,13 @@ import static org.mockito.Mockito.when;
 import static org.projectnessie.server.distcache.CacheInvalidationReceiver.NESSIE_CACHE_INVALIDATION_TOKEN_HEADER;
 import static org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationEvictObj.cacheInvalidationEvictObj;
 import static org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationEvictReference.cacheInvalidationEvictReference;
+import static org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationTaskCompleted.cacheInvalidationTaskCompleted;
 import static org.projectnessie.server.distcache.CacheInvalidations.cacheInvalidations;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ_ID;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RequestBody;
@@ -39,6 +42,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.projectnessie.nessie.tasks.api.TaskCompletionNotification;
 import org.projectnessie.quarkus.config.QuarkusStoreConfig;
 import org.projectnessie.versioned.storage.cache.DistributedCacheInvalidation;
 
@@ -79,6 +84,80 @@ public class TestCacheInvalidationReceiver {
     verifyNoMoreInteractions(distributedCacheInvalidation);
   }
 
+  @Test
+  public void binaryEncoding() {
+    DistributedCacheInvalidation distributedCacheInvalidation =
+        mock(DistributedCacheInvalidation.class);
+
+    String token = "cafe";
+    List<String> tokens = singletonList(token);
+    String receiverId = "receiverId";
+    String senderId = "senderId";
+
+    CacheInvalidationReceiver receiver = buildReceiver(tokens, receiverId);
+    receiver.applyDistributedCacheInvalidation(distributedCacheInvalidation);
+
+    RoutingContext rc =
+        expectResponse(
+            r -> {
+              when(r.getParam("sender")).thenReturn(senderId);
+              when(r.getHeader(NESSIE_CACHE_INVALIDATION_TOKEN_HEADER)).thenReturn(token);
+              when(r.getHeader("Content-Type")).thenReturn(CacheInvalidationsBinary.CONTENT_TYPE);
+            });
+    RequestBody reqBody = mock(RequestBody.class);
+    when(reqBody.buffer())
+        .thenReturn(Buffer.buffer(CacheInvalidationsBinary.serialize(allInvalidationTypes())));
+    when(rc.body()).thenReturn(reqBody);
+
+    receiver.cacheInvalidations(rc);
+
+    verify(rc.response()).setStatusCode(204);
+    verify(rc.response()).setStatusMessage("No content");
+
+    verify(distributedCacheInvalidation).evictObj("repo", EMPTY_OBJ_ID);
+    verify(distributedCacheInvalidation).evictReference("repo", "refs/foo/bar");
+    verifyNoMoreInteractions(distributedCacheInvalidation);
+  }
+
+  @Test
+  public void taskCompleted() throws Exception {
+    DistributedCacheInvalidation distributedCacheInvalidation =
+        mock(DistributedCacheInvalidation.class);
+    TaskCompletionNotification taskCompletionNotification = mock(TaskCompletionNotification.class);
+
+    String token = "cafe";
+    List<String> tokens = singletonList(token);
+    String receiverId = "receiverId";
+    String senderId = "senderId";
+
+    CacheInvalidationReceiver receiver = buildReceiver(tokens, receiverId);
+    receiver.applyDistributedCacheInvalidation(distributedCacheInvalidation);
+    receiver.applyTaskCompletionNotification(taskCompletionNotification);
+
+    CacheInvalidations invalidations =
+        cacheInvalidations(
+            List.of(cacheInvalidationTaskCompleted("repo", EMPTY_OBJ_ID.asByteArray(), "token")));
+
+    RoutingContext rc =
+        expectResponse(
+            r -> {
+              when(r.getParam("sender")).thenReturn(senderId);
+              when(r.getHeader(NESSIE_CACHE_INVALIDATION_TOKEN_HEADER)).thenReturn(token);
+            });
+    RequestBody reqBody = mock(RequestBody.class);
+    when(reqBody.asString()).thenReturn(new ObjectMapper().writeValueAsString(invalidations));
+    when(rc.body()).thenReturn(reqBody);
+
+    receiver.cacheInvalidations(rc);
+
+    verify(rc.response()).setStatusCode(204);
+
+    InOrder inOrder = inOrder(distributedCacheInvalidation, taskCompletionNotification);
+    inOrder.verify(distributedCacheInvalidation).evictObj("repo", EMPTY_OBJ_ID);
+    inOrder.verify(taskCompletionNotification).taskCompleted("repo", EMPTY_OBJ_ID, "token");
+    verifyNoMoreInteractions(distributedCacheInvalidation, taskCompletionNotification);
+  }
+
   @Test
   public void doesNotAcceptInvalidationsWithoutTokens() {
     DistributedCacheInvalidation distributedCacheInvalidation =
@@ -366,6 +366,108 @@ public class TestCacheInvalidationSender {
     soft.assertThat(received).containsExactlyInAnyOrderElementsOf(expected);
   }
 
+  @Test
+  public void coalesceDuplicates() throws Exception {
+    String senderId = "senderId";
+
+    String token = "token";
+    List<String> tokens = singletonList(token);
+
+    List<String> serviceNames = singletonList("service-name");
+    List<String> resolvedServiceNames = singletonList("service-name-resolved");
+
+    QuarkusStoreConfig config =
+        buildConfig(
+            tokens, Optional.of(serviceNames), Duration.ofSeconds(10), Duration.ofSeconds(10));
+    when(config.cacheInvalidationCoalesceWindow()).thenReturn(Optional.of(Duration.ofMillis(50)));
+
+    Semaphore sem = new Semaphore(0);
+    Queue<CacheInvalidation> received = new ConcurrentLinkedQueue<>();
+    CacheInvalidationSender sender =
+        new CacheInvalidationSender(vertx, config, 80, senderId) {
+          @Override
+          Future<List<String>> resolveServiceNames(List<String> serviceNames) {
+            return succeededFuture(resolvedServiceNames);
+          }
+
+          @Override
+          List<Future<Map.Entry<HttpClientResponse, Buffer>>> submit(
+              List<CacheInvalidation> batch, List<String> resolvedAddresses) {
+            received.addAll(batch);
+            sem.release(batch.size());
+            return null;
+          }
+        };
+
+    for (int i = 0; i < 5; i++) {
+      sender.evictObj("repo", EMPTY_OBJ_ID);
+      sender.evictReference("repo", "refs/foo/bar");
+    }
+
+    assertThat(sem.tryAcquire(2, 30, TimeUnit.SECONDS)).isTrue();
+    // give a wrongly sent duplicate the chance to arrive
+    Thread.sleep(100L);
+
+    soft.assertThat(received)
+        .containsExactly(
+            cacheInvalidationEvictObj("repo", EMPTY_OBJ_ID.asByteArray()),
+            cacheInvalidationEvictReference("repo", "refs/foo/bar"));
+  }
+
+  @Test
+  public void sendBinaryEncoding() throws Exception {
+    String senderId = "senderId";
+
+    String token = "token";
+    List<String> tokens = singletonList(token);
+
+    List<String> serviceNames = singletonList("service-name");
+
+    QuarkusStoreConfig config =
+        buildConfig(
+            tokens, Optional.of(serviceNames), Duration.ofSeconds(10), Duration.ofSeconds(30));
+    when(config.cacheInvalidationBinaryEncoding()).thenReturn(true);
+
+    List<CacheInvalidation> expected =
+        invalidations().map(args -> args.get()[1]).map(CacheInvalidation.class::cast).toList();
+
+    AtomicReference<byte[]> body = new AtomicReference<>();
+    AtomicReference<String> contentType = new AtomicReference<>();
+    try (HttpTestServer receiver =
+        new HttpTestServer(
+            config.cacheInvalidationUri(),
+            exchange -> {
+              try (InputStream requestBody = exchange.getRequestBody()) {
+                body.set(requestBody.readAllBytes());
+              }
+              contentType.set(exchange.getRequestHeaders().getFirst("Content-Type"));
+              exchange.sendResponseHeaders(204, 0);
+              exchange.getResponseBody().close();
+            })) {
+
+      URI uri = receiver.getUri();
+
+      CacheInvalidationSender sender =
+          new CacheInvalidationSender(vertx, config, uri.getPort(), senderId) {
+            @Override
+            Future<List<String>> resolveServiceNames(List<String> serviceNames) {
+              return succeededFuture(List.of(uri.getHost()));
+            }
+          };
+
+      CompletableFuture<?> future =
+          Future.all(sender.submit(expected, singletonList(uri.getHost())))
+              .toCompletionStage()
+              .toCompletableFuture();
+
+      soft.assertThat(future).succeedsWithin(30, TimeUnit.SECONDS);
+
+      soft.assertThat(contentType.get()).isEqualTo(CacheInvalidationsBinary.CONTENT_TYPE);
+      soft.assertThat(CacheInvalidationsBinary.deserialize(body.get()))
+          .isEqualTo(cacheInvalidations(expected));
+    }
+  }
+
   @ParameterizedTest
   @MethodSource("invalidations")
   public void sendSingleInvalidation(
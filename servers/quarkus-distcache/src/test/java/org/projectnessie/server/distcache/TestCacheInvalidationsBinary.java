@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.distcache;
+
+import static org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationEvictObj.cacheInvalidationEvictObj;
+import static org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationEvictReference.cacheInvalidationEvictReference;
+import static org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidationTaskCompleted.cacheInvalidationTaskCompleted;
+import static org.projectnessie.server.distcache.CacheInvalidations.cacheInvalidations;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ_ID;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.server.distcache.CacheInvalidations.CacheInvalidation;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestCacheInvalidationsBinary {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  public void roundTrip() {
+    List<CacheInvalidation> invalidations =
+        List.of(
+            cacheInvalidationEvictObj("repo", EMPTY_OBJ_ID.asByteArray()),
+            cacheInvalidationEvictObj("", randomObjId().asByteArray()),
+            cacheInvalidationEvictReference("repo", "refs/foo/bar"),
+            cacheInvalidationEvictReference("räpo", "refs/heads/ünïcödé"),
+            cacheInvalidationTaskCompleted("repo", randomObjId().asByteArray(), "token"));
+
+    byte[] serialized = CacheInvalidationsBinary.serialize(invalidations);
+    soft.assertThat(CacheInvalidationsBinary.deserialize(serialized))
+        .isEqualTo(cacheInvalidations(invalidations));
+  }
+
+  @Test
+  public void empty() {
+    soft.assertThat(CacheInvalidationsBinary.deserialize(new byte[0]).invalidations()).isEmpty();
+    soft.assertThat(
+            CacheInvalidationsBinary.deserialize(CacheInvalidationsBinary.serialize(List.of()))
+                .invalidations())
+        .isEmpty();
+  }
+
+  @Test
+  public void skipUnknownTypes() {
+    byte[] known =
+        CacheInvalidationsBinary.serialize(
+            List.of(cacheInvalidationEvictReference("repo", "refs/foo/bar")));
+
+    // version byte, unknown type 99 with a 3 byte payload, then the known invalidation
+    ByteBuffer withUnknown = ByteBuffer.allocate(known.length + 5);
+    withUnknown.put(CacheInvalidationsBinary.VERSION);
+    withUnknown.put((byte) 99).put((byte) 3).put(new byte[] {1, 2, 3});
+    withUnknown.put(known, 1, known.length - 1);
+
+    soft.assertThat(CacheInvalidationsBinary.deserialize(withUnknown.array()).invalidations())
+        .containsExactly(cacheInvalidationEvictReference("repo", "refs/foo/bar"));
+  }
+
+  @Test
+  public void unsupportedVersion() {
+    soft.assertThatIllegalArgumentException()
+        .isThrownBy(() -> CacheInvalidationsBinary.deserialize(new byte[] {42}))
+        .withMessage("Unsupported cache invalidations version 42");
+  }
+
+  @Test
+  public void smallerThanJson() throws Exception {
+    List<CacheInvalidation> invalidations =
+        IntStream.range(0, 100)
+            .mapToObj(i -> cacheInvalidationEvictObj("", randomObjId().asByteArray()))
+            .map(CacheInvalidation.class::cast)
+            .toList();
+
+    byte[] binary = CacheInvalidationsBinary.serialize(invalidations);
+    byte[] json = new ObjectMapper().writeValueAsBytes(cacheInvalidations(invalidations));
+
+    // 1 version byte + 100 * (type + payload length + repo ID length + ID length + 32 ID bytes)
+    soft.assertThat(binary).hasSize(1 + 100 * 36);
+    soft.assertThat(binary.length).isLessThan(json.length / 2);
+    soft.assertThat(Arrays.copyOfRange(binary, 0, 1))
+        .containsExactly(CacheInvalidationsBinary.VERSION);
+  }
+}
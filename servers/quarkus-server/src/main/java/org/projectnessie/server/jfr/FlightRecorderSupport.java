@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.jfr;
+
+import static java.util.Collections.emptyList;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.vertx.http.ManagementInterface;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.HashSet;
+import java.util.Set;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import org.projectnessie.quarkus.config.QuarkusFlightRecorderConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Starts a continuous JDK Flight Recorder recording and provides the management endpoint to dump
+ * the recorded data, so that latency outliers can be diagnosed without restarting Nessie.
+ */
+// See https://quarkus.io/guides/management-interface-reference#management-endpoint-application
+@Singleton
+public class FlightRecorderSupport {
+  public static final String NESSIE_FLIGHT_RECORDING_TOKEN_HEADER =
+      "Nessie-Flight-Recording-Token";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(FlightRecorderSupport.class);
+
+  private final QuarkusFlightRecorderConfig config;
+  private final Set<String> validTokens;
+  private volatile Recording recording;
+
+  @Inject
+  public FlightRecorderSupport(QuarkusFlightRecorderConfig config) {
+    this.config = config;
+    this.validTokens = new HashSet<>(config.dumpValidTokens().orElse(emptyList()));
+  }
+
+  void startRecording(@Observes StartupEvent event) {
+    if (!config.enabled()) {
+      return;
+    }
+    if (!FlightRecorder.isAvailable()) {
+      LOGGER.info("JDK Flight Recorder is not available, not starting a continuous recording.");
+      return;
+    }
+    try {
+      Recording r = new Recording(Configuration.getConfiguration("default"));
+      r.setName("nessie");
+      r.setToDisk(true);
+      r.setMaxAge(config.maxAge());
+      r.setMaxSize(config.maxSize());
+      r.start();
+      recording = r;
+      LOGGER.info(
+          "Started continuous JDK Flight Recorder recording, keeping up to {} / {} bytes.",
+          config.maxAge(),
+          config.maxSize());
+    } catch (IOException | ParseException | RuntimeException e) {
+      LOGGER.warn("Failed to start continuous JDK Flight Recorder recording", e);
+    }
+  }
+
+  void stopRecording(@Observes ShutdownEvent event) {
+    Recording r = recording;
+    if (r != null) {
+      recording = null;
+      r.close();
+    }
+  }
+
+  public void registerManagementRoutes(@Observes ManagementInterface mi) {
+    if (validTokens.isEmpty()) {
+      return;
+    }
+    mi.router().get(config.dumpUri()).blockingHandler(this::dump);
+  }
+
+  void dump(RoutingContext rc) {
+    String token = rc.request().getHeader(NESSIE_FLIGHT_RECORDING_TOKEN_HEADER);
+    if (token == null || !validTokens.contains(token)) {
+      LOGGER.warn("Received flight recording dump request with invalid token");
+      rc.response().setStatusCode(400).setStatusMessage("Invalid token").end();
+      return;
+    }
+    if (!FlightRecorder.isAvailable()) {
+      rc.response().setStatusCode(503).setStatusMessage("Flight Recorder not available").end();
+      return;
+    }
+
+    Path file;
+    try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+      if (snapshot.getSize() == 0L) {
+        rc.response().setStatusCode(404).setStatusMessage("No recorded data").end();
+        return;
+      }
+      file = Files.createTempFile("nessie-", ".jfr");
+      snapshot.dump(file);
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("Failed to dump flight recording", e);
+      rc.response().setStatusCode(500).setStatusMessage("Failed to dump flight recording").end();
+      return;
+    }
+
+    LOGGER.info("Sending flight recording dump of {} bytes", file.toFile().length());
+    rc.response()
+        .putHeader("Content-Type", "application/octet-stream")
+        .putHeader("Content-Disposition", "attachment; filename=\"nessie.jfr\"")
+        .sendFile(file.toString())
+        .onComplete(x -> rc.vertx().fileSystem().delete(file.toString()));
+  }
+}
@@ -35,6 +35,9 @@ dependencies {
 
   compileOnly(libs.microprofile.openapi)
 
+  compileOnly(platform(libs.quarkus.bom))
+  compileOnly("io.smallrye.common:smallrye-common-annotation")
+
   implementation(platform(libs.jackson.bom))
   implementation("com.fasterxml.jackson.core:jackson-databind")
   compileOnly("com.fasterxml.jackson.core:jackson-annotations")
@@ -18,6 +18,7 @@ package org.projectnessie.services.rest;
 import static org.projectnessie.services.rest.RestApiContext.NESSIE_V1;
 
 import com.fasterxml.jackson.annotation.JsonView;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Path;
@@ -33,6 +34,7 @@ import org.projectnessie.versioned.VersionStore;
 
 /** REST endpoint to retrieve server settings. */
 @RequestScoped
+@RunOnVirtualThread
 @Path("api/v1/config")
 public class RestConfigResource implements HttpConfigApi {
 
@@ -18,6 +18,7 @@ package org.projectnessie.services.rest;
 import static org.projectnessie.services.rest.RestApiContext.NESSIE_V2;
 
 import com.fasterxml.jackson.annotation.JsonView;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Path;
@@ -43,6 +44,7 @@ import org.projectnessie.versioned.VersionStore;
 
 /** REST endpoint to retrieve server settings. */
 @RequestScoped
+@RunOnVirtualThread
 @Path("api/v2/config")
 public class RestV2ConfigResource implements HttpConfigApi {
 
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.rest;
+
+import static org.projectnessie.services.rest.RestApiContext.NESSIE_V2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.projectnessie.error.NessieNotFoundException;
+import org.projectnessie.model.LiveContentReference;
+import org.projectnessie.model.LiveContentsRequest;
+import org.projectnessie.services.authz.AccessContext;
+import org.projectnessie.services.authz.Authorizer;
+import org.projectnessie.services.config.ServerConfig;
+import org.projectnessie.services.impl.ContentApiImpl;
+import org.projectnessie.services.spi.ContentService;
+import org.projectnessie.versioned.VersionStore;
+
+/**
+ * REST endpoint that streams the live Iceberg table and view references of all branches and tags
+ * as newline delimited JSON, one {@link LiveContentReference} per line.
+ */
+@RequestScoped
+@RunOnVirtualThread
+@Path("api/v2/live-contents")
+public class RestV2LiveContentsResource {
+
+  public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+  private static final ObjectWriter WRITER =
+      new ObjectMapper().writerFor(LiveContentReference.class);
+
+  private final ContentService contentService;
+
+  // Mandated by CDI 2.0
+  public RestV2LiveContentsResource() {
+    this(null, null, null, null);
+  }
+
+  @Inject
+  public RestV2LiveContentsResource(
+      ServerConfig config, VersionStore store, Authorizer authorizer, AccessContext accessContext) {
+    this.contentService = new ContentApiImpl(config, store, authorizer, accessContext, NESSIE_V2);
+  }
+
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(APPLICATION_NDJSON)
+  public StreamingOutput getLiveContents(@Valid @NotNull LiveContentsRequest request)
+      throws NessieNotFoundException {
+    // References, HEADs and access checks are resolved before the response is committed, so
+    // that errors are mapped to the usual error responses.
+    Stream<LiveContentReference> liveContents = contentService.getLiveContents(request);
+    return output -> {
+      try (Stream<LiveContentReference> contents = liveContents) {
+        writeLines(contents.iterator(), output);
+      }
+    };
+  }
+
+  private static void writeLines(Iterator<LiveContentReference> contents, OutputStream output)
+      throws IOException {
+    while (contents.hasNext()) {
+      output.write(WRITER.writeValueAsBytes(contents.next()));
+      output.write('\n');
+    }
+    output.flush();
+  }
+}
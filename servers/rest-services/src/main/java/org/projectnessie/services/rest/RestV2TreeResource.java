@@ -25,12 +25,16 @@ import static org.projectnessie.versioned.RequestMeta.API_READ;
 import static org.projectnessie.versioned.RequestMeta.API_WRITE;
 
 import com.fasterxml.jackson.annotation.JsonView;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.core.HttpHeaders;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import org.projectnessie.api.v2.http.HttpTreeApi;
 import org.projectnessie.api.v2.params.CommitLogParams;
 import org.projectnessie.api.v2.params.DiffParams;
@@ -50,6 +54,8 @@ import org.projectnessie.model.ContentResponse;
 import org.projectnessie.model.DiffResponse;
 import org.projectnessie.model.DiffResponse.DiffEntry;
 import org.projectnessie.model.EntriesResponse;
+import org.projectnessie.model.GetContentsOnReferencesRequest;
+import org.projectnessie.model.GetContentsOnReferencesResponse;
 import org.projectnessie.model.GetMultipleContentsRequest;
 import org.projectnessie.model.GetMultipleContentsResponse;
 import org.projectnessie.model.ImmutableCommitMeta;
@@ -84,6 +90,7 @@ import org.projectnessie.versioned.VersionStore;
 
 /** REST endpoint for the tree-API. */
 @RequestScoped
+@RunOnVirtualThread
 @Path("api/v2/trees")
 public class RestV2TreeResource implements HttpTreeApi {
 
@@ -387,6 +394,20 @@ public class RestV2TreeResource implements HttpTreeApi {
             API_READ);
   }
 
+  @JsonView(Views.V2.class)
+  @Override
+  public GetContentsOnReferencesResponse getContentsOnReferences(
+      GetContentsOnReferencesRequest request, boolean withDocumentation, boolean forWrite)
+      throws NessieNotFoundException {
+    Map<ParsedReference, List<ContentKey>> references = new LinkedHashMap<>();
+    for (GetContentsOnReferencesRequest.ReferenceKeys referenceKeys : request.getReferences()) {
+      references
+          .computeIfAbsent(parseRefPathString(referenceKeys.getRef()), r -> new ArrayList<>())
+          .addAll(referenceKeys.getKeys());
+    }
+    return content().getContentsOnReferences(references, withDocumentation, API_READ);
+  }
+
   @JsonView(Views.V2.class)
   @Override
   public MergeResponse transplantCommitsIntoBranch(String branch, Transplant transplant)
@@ -16,22 +16,44 @@
 package org.projectnessie.services.impl;
 
 import static java.util.Objects.requireNonNull;
+import static org.projectnessie.versioned.ReferenceCutoff.referenceCutoff;
+import static org.projectnessie.versioned.ReferenceKeys.commitKeys;
+import static org.projectnessie.versioned.ReferenceKeys.referenceKeys;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.projectnessie.api.v2.params.ParsedReference;
 import org.projectnessie.error.NessieContentNotFoundException;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.error.NessieReferenceNotFoundException;
 import org.projectnessie.model.Branch;
+import org.projectnessie.model.CommitMeta;
+import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.ContentResponse;
 import org.projectnessie.model.Detached;
+import org.projectnessie.model.GetContentsOnReferencesResponse;
 import org.projectnessie.model.GetMultipleContentsResponse;
 import org.projectnessie.model.GetMultipleContentsResponse.ContentWithKey;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.IcebergView;
 import org.projectnessie.model.IdentifiedContentKey;
+import org.projectnessie.model.LiveContentReference;
+import org.projectnessie.model.LiveContentsRequest;
 import org.projectnessie.model.Reference;
+import org.projectnessie.model.RepositoryConfig;
 import org.projectnessie.model.Tag;
 import org.projectnessie.services.authz.AccessContext;
 import org.projectnessie.services.authz.ApiContext;
@@ -44,15 +66,24 @@ import org.projectnessie.services.spi.ContentService;
 import org.projectnessie.versioned.BranchName;
 import org.projectnessie.versioned.ContentResult;
 import org.projectnessie.versioned.DetachedRef;
+import org.projectnessie.versioned.GetNamedRefsParams;
 import org.projectnessie.versioned.NamedRef;
+import org.projectnessie.versioned.ReferenceContents;
+import org.projectnessie.versioned.ReferenceCutoff;
+import org.projectnessie.versioned.ReferenceInfo;
+import org.projectnessie.versioned.ReferenceKeys;
 import org.projectnessie.versioned.ReferenceNotFoundException;
 import org.projectnessie.versioned.RequestMeta;
 import org.projectnessie.versioned.TagName;
 import org.projectnessie.versioned.VersionStore;
 import org.projectnessie.versioned.WithHash;
+import org.projectnessie.versioned.paging.PaginationIterator;
 
 public class ContentApiImpl extends BaseApiImpl implements ContentService {
 
+  private static final Set<Content.Type> LIVE_CONTENT_TYPES =
+      Set.of(Content.Type.ICEBERG_TABLE, Content.Type.ICEBERG_VIEW);
+
   public ContentApiImpl(
       ServerConfig config,
       VersionStore store,
@@ -130,33 +161,7 @@ public class ContentApiImpl extends BaseApiImpl implements ContentService {
       }
 
       Map<ContentKey, ContentResult> values = getStore().getValues(ref.getHash(), keys, forWrite);
-      List<ContentWithKey> output =
-          values.entrySet().stream()
-              .filter(
-                  e -> {
-                    ContentResult contentResult = e.getValue();
-                    IdentifiedContentKey identifiedKey = contentResult.identifiedKey();
-                    Set<String> actions = requestMeta.keyActions(identifiedKey.contentKey());
-                    check.canReadEntityValue(r, identifiedKey, actions);
-                    if (contentResult.content() != null) {
-                      if (forWrite) {
-                        check.canUpdateEntity(r, identifiedKey, actions);
-                      }
-                      return true;
-                    } else {
-                      if (forWrite) {
-                        check.canCreateEntity(r, identifiedKey, actions);
-                      }
-                      return false;
-                    }
-                  })
-              .map(
-                  e -> {
-                    ContentResult contentResult = e.getValue();
-                    return ContentWithKey.of(
-                        e.getKey(), contentResult.content(), contentResult.documentation());
-                  })
-              .collect(Collectors.toList());
+      List<ContentWithKey> output = contentsWithKeys(values, r, check, requestMeta);
 
       check.checkAndThrow();
 
@@ -166,6 +171,199 @@ public class ContentApiImpl extends BaseApiImpl implements ContentService {
     }
   }
 
+  @Override
+  public GetContentsOnReferencesResponse getContentsOnReferences(
+      Map<ParsedReference, List<ContentKey>> references,
+      boolean withDocumentation,
+      RequestMeta requestMeta)
+      throws NessieNotFoundException {
+    try {
+      List<ReferenceKeys> requests = new ArrayList<>(references.size());
+      List<NamedRef> pinnedRefs = new ArrayList<>(references.size());
+      for (Map.Entry<ParsedReference, List<ContentKey>> entry : references.entrySet()) {
+        ParsedReference reference = entry.getKey();
+        String name = reference.name();
+        if (name == null) {
+          name = getServerConfig().getDefaultBranch();
+        }
+        if (reference.hashWithRelativeSpec() == null && !DetachedRef.REF_NAME.equals(name)) {
+          // The HEADs of named references are resolved by the version store in one go.
+          requests.add(referenceKeys(name, entry.getValue()));
+          pinnedRefs.add(null);
+        } else {
+          ResolvedHash ref =
+              getHashResolver()
+                  .resolveHashOnRef(
+                      name, reference.hashWithRelativeSpec(), new HashValidator("Expected hash"));
+          requests.add(commitKeys(ref.getHash(), entry.getValue()));
+          pinnedRefs.add(ref.getValue());
+        }
+      }
+
+      boolean forWrite = requestMeta.forWrite();
+      List<ReferenceContents> results =
+          getStore().getValuesOnReferences(requests, forWrite).collect(Collectors.toList());
+
+      BatchAccessChecker check = startAccessCheck();
+      List<GetMultipleContentsResponse> output = new ArrayList<>(results.size());
+      for (int i = 0; i < results.size(); i++) {
+        ReferenceContents result = results.get(i);
+        NamedRef r = pinnedRefs.get(i) != null ? pinnedRefs.get(i) : result.namedRef();
+        check.canViewReference(r);
+        if (forWrite) {
+          check.canCommitChangeAgainstReference(r);
+        }
+        output.add(
+            GetMultipleContentsResponse.of(
+                contentsWithKeys(result.contents(), r, check, requestMeta),
+                makeReference(WithHash.of(result.hash(), r))));
+      }
+
+      check.checkAndThrow();
+
+      return GetContentsOnReferencesResponse.of(output);
+    } catch (ReferenceNotFoundException ex) {
+      throw new NessieReferenceNotFoundException(ex.getMessage(), ex);
+    }
+  }
+
+  @Override
+  public Stream<LiveContentReference> getLiveContents(LiveContentsRequest request)
+      throws NessieNotFoundException {
+    Instant referenceTime =
+        request.getCutoffReferenceTime() != null
+            ? request.getCutoffReferenceTime()
+            : Instant.now();
+    Cutoff defaultCutoff = Cutoff.parse(request.getDefaultCutoff(), referenceTime);
+    Map<Predicate<String>, Cutoff> cutoffs = new LinkedHashMap<>();
+    request
+        .getCutoffs()
+        .forEach(
+            (pattern, cutoff) ->
+                cutoffs.put(
+                    Pattern.compile(pattern).asMatchPredicate(),
+                    Cutoff.parse(cutoff, referenceTime)));
+
+    try {
+      List<ReferenceCutoff> references = new ArrayList<>();
+      // The live contents of all references are not authorized per content, which would require
+      // resolving the identified key of every live content value. Require the privilege to manage
+      // the garbage collector configuration instead, like a GC administrator has.
+      BatchAccessChecker check =
+          startAccessCheck().canUpdateRepositoryConfig(RepositoryConfig.Type.GARBAGE_COLLECTOR);
+      try (PaginationIterator<ReferenceInfo<CommitMeta>> refs =
+          getStore().getNamedRefs(GetNamedRefsParams.DEFAULT, null)) {
+        while (refs.hasNext()) {
+          ReferenceInfo<CommitMeta> ref = refs.next();
+          NamedRef namedRef = ref.getNamedRef();
+          check.canViewReference(namedRef).canListCommitLog(namedRef).canReadEntries(namedRef);
+          Cutoff cutoff =
+              cutoffs.entrySet().stream()
+                  .filter(e -> e.getKey().test(namedRef.getName()))
+                  .map(Map.Entry::getValue)
+                  .findFirst()
+                  .orElse(defaultCutoff);
+          references.add(
+              referenceCutoff(namedRef, ref.getHash(), cutoff.maxCommits, cutoff.timestamp));
+        }
+      }
+
+      check.checkAndThrow();
+
+      return getStore()
+          .getLiveContents(references, LIVE_CONTENT_TYPES)
+          .map(ContentApiImpl::liveContentReference);
+    } catch (ReferenceNotFoundException ex) {
+      throw new NessieReferenceNotFoundException(ex.getMessage(), ex);
+    }
+  }
+
+  private static LiveContentReference liveContentReference(Content content) {
+    if (content instanceof IcebergTable) {
+      IcebergTable table = (IcebergTable) content;
+      return LiveContentReference.of(
+          table.getId(), table.getType(), table.getMetadataLocation(), table.getSnapshotId());
+    }
+    IcebergView view = (IcebergView) content;
+    return LiveContentReference.of(
+        view.getId(), view.getType(), view.getMetadataLocation(), view.getVersionId());
+  }
+
+  /**
+   * A parsed cutoff policy, using the syntax of the cutoff policies of the Nessie GC tool, which
+   * cannot be referenced from the server.
+   */
+  private static final class Cutoff {
+    final Integer maxCommits;
+    final Instant timestamp;
+
+    private Cutoff(Integer maxCommits, Instant timestamp) {
+      this.maxCommits = maxCommits;
+      this.timestamp = timestamp;
+    }
+
+    static Cutoff parse(String policy, Instant referenceTime) {
+      String value = policy.trim().toUpperCase(Locale.ROOT);
+      if (LiveContentsRequest.NO_CUTOFF.equals(value)) {
+        return new Cutoff(null, null);
+      }
+      try {
+        return new Cutoff(Integer.parseInt(value), null);
+      } catch (NumberFormatException ignore) {
+        // not a number of commits
+      }
+      try {
+        return new Cutoff(null, referenceTime.minus(Duration.parse(value)));
+      } catch (DateTimeParseException ignore) {
+        // not a duration
+      }
+      try {
+        return new Cutoff(null, ZonedDateTime.parse(value).toInstant());
+      } catch (DateTimeParseException ignore) {
+        // not a timestamp
+      }
+      throw new IllegalArgumentException(
+          "Invalid cutoff policy '"
+              + policy
+              + "', must be either 'NONE', a number of commits, an ISO-8601 duration or an "
+              + "ISO-8601 timestamp");
+    }
+  }
+
+  private static List<ContentWithKey> contentsWithKeys(
+      Map<ContentKey, ContentResult> values,
+      NamedRef r,
+      BatchAccessChecker check,
+      RequestMeta requestMeta) {
+    boolean forWrite = requestMeta.forWrite();
+    return values.entrySet().stream()
+        .filter(
+            e -> {
+              ContentResult contentResult = e.getValue();
+              IdentifiedContentKey identifiedKey = contentResult.identifiedKey();
+              Set<String> actions = requestMeta.keyActions(identifiedKey.contentKey());
+              check.canReadEntityValue(r, identifiedKey, actions);
+              if (contentResult.content() != null) {
+                if (forWrite) {
+                  check.canUpdateEntity(r, identifiedKey, actions);
+                }
+                return true;
+              } else {
+                if (forWrite) {
+                  check.canCreateEntity(r, identifiedKey, actions);
+                }
+                return false;
+              }
+            })
+        .map(
+            e -> {
+              ContentResult contentResult = e.getValue();
+              return ContentWithKey.of(
+                  e.getKey(), contentResult.content(), contentResult.documentation());
+            })
+        .collect(Collectors.toList());
+  }
+
   private static Reference makeReference(WithHash<NamedRef> refWithHash) {
     NamedRef ref = refWithHash.getValue();
     if (ref instanceof TagName) {
@@ -62,10 +62,12 @@ import org.projectnessie.versioned.BranchName;
 import org.projectnessie.versioned.ContentResult;
 import org.projectnessie.versioned.Hash;
 import org.projectnessie.versioned.KeyEntry;
+import org.projectnessie.versioned.NamespaceSummary;
 import org.projectnessie.versioned.ReferenceConflictException;
 import org.projectnessie.versioned.ReferenceNotFoundException;
 import org.projectnessie.versioned.RequestMeta;
 import org.projectnessie.versioned.VersionStore;
+import org.projectnessie.versioned.VersionStore.KeyRestrictions;
 import org.projectnessie.versioned.paging.PaginationIterator;
 
 public class NamespaceApiImpl extends BaseApiImpl implements NamespaceService {
@@ -136,8 +138,9 @@ public class NamespaceApiImpl extends BaseApiImpl implements NamespaceService {
       Namespace namespace = getNamespace(namespaceToDelete, refWithHash.getHash());
       Delete delete = Delete.of(namespace.toContentKey());
 
+      KeyRestrictions keyRestrictions = namespaceKeyRestrictions(namespaceToDelete);
       try (PaginationIterator<KeyEntry> keys =
-          getStore().getKeys(refWithHash.getHash(), null, false, NO_KEY_RESTRICTIONS)) {
+          getStore().getKeys(refWithHash.getHash(), null, false, keyRestrictions)) {
         while (keys.hasNext()) {
           KeyEntry k = keys.next();
           if (Namespace.of(k.getKey().contentKey().getElements())
@@ -212,23 +215,43 @@ public class NamespaceApiImpl extends BaseApiImpl implements NamespaceService {
       // which will make it impossible to use the `Namespace` object itself as an identifier to
       // subtract the set of explicitly created namespaces from the set of implicitly created ones.
 
-      // Iterate through all candidate keys, split into `Key`s of explicitly created namespaces
-      // (type==NAMESPACE) and collect implicitly created namespaces for all other content-types.
+      // The per-commit namespace summaries contain all explicitly created namespaces and all
+      // namespaces with content objects, no need to iterate through all keys. Split into `Key`s of
+      // explicitly created namespaces and implicitly created namespaces, which directly contain
+      // content objects other than namespaces.
       Set<ContentKey> explicitNamespaceKeys = new HashSet<>();
       Map<List<String>, Namespace> implicitNamespaces = new HashMap<>();
-      try (Stream<KeyEntry> stream =
-          getNamespacesKeyStream(namespace, refWithHash.getHash(), k -> true)) {
-        stream.forEach(
-            namespaceKeyWithType -> {
-              if (Content.Type.NAMESPACE.equals(namespaceKeyWithType.getKey().type())) {
-                explicitNamespaceKeys.add(namespaceKeyWithType.getKey().contentKey());
-              } else {
-                Namespace implicitNamespace = namespaceFromType(namespaceKeyWithType);
-                if (!implicitNamespace.isEmpty()) {
-                  implicitNamespaces.put(implicitNamespace.getElements(), implicitNamespace);
+      Optional<List<NamespaceSummary>> summaries =
+          getStore()
+              .getNamespaceSummaries(
+                  refWithHash.getHash(), namespace != null ? namespace.toContentKey() : null);
+      if (summaries.isPresent()) {
+        for (NamespaceSummary summary : summaries.get()) {
+          ContentKey key = summary.namespace();
+          if (summary.explicit()) {
+            explicitNamespaceKeys.add(key);
+          } else if (key.getElementCount() > 0 && containsNonNamespaceContent(summary)) {
+            implicitNamespaces.put(key.getElements(), Namespace.of(key.getElements()));
+          }
+        }
+      } else {
+        // No summary available for the commit, iterate through all candidate keys, split into
+        // `Key`s of explicitly created namespaces (type==NAMESPACE) and collect implicitly created
+        // namespaces for all other content-types.
+        try (Stream<KeyEntry> stream =
+            getNamespacesKeyStream(namespace, refWithHash.getHash(), k -> true)) {
+          stream.forEach(
+              namespaceKeyWithType -> {
+                if (Content.Type.NAMESPACE.equals(namespaceKeyWithType.getKey().type())) {
+                  explicitNamespaceKeys.add(namespaceKeyWithType.getKey().contentKey());
+                } else {
+                  Namespace implicitNamespace = namespaceFromType(namespaceKeyWithType);
+                  if (!implicitNamespace.isEmpty()) {
+                    implicitNamespaces.put(implicitNamespace.getElements(), implicitNamespace);
+                  }
                 }
-              }
-            });
+              });
+        }
       }
 
       ImmutableGetNamespacesResponse.Builder response =
@@ -297,13 +320,26 @@ public class NamespaceApiImpl extends BaseApiImpl implements NamespaceService {
   private Stream<KeyEntry> getNamespacesKeyStream(
       @Nullable Namespace namespace, Hash hash, Predicate<KeyEntry> earlyFilterPredicate)
       throws ReferenceNotFoundException {
-    PaginationIterator<KeyEntry> iter = getStore().getKeys(hash, null, false, NO_KEY_RESTRICTIONS);
+    PaginationIterator<KeyEntry> iter =
+        getStore().getKeys(hash, null, false, namespaceKeyRestrictions(namespace));
     return stream(spliteratorUnknownSize(iter, 0), false)
         .onClose(iter::close)
         .filter(earlyFilterPredicate)
         .filter(k -> null == namespace || namespaceFromType(k).isSameOrSubElementOf(namespace));
   }
 
+  private static KeyRestrictions namespaceKeyRestrictions(@Nullable Namespace namespace) {
+    if (namespace == null || namespace.isEmpty()) {
+      return NO_KEY_RESTRICTIONS;
+    }
+    return KeyRestrictions.builder().prefixKey(namespace.toContentKey()).build();
+  }
+
+  private static boolean containsNonNamespaceContent(NamespaceSummary summary) {
+    return summary.contentCounts().entrySet().stream()
+        .anyMatch(e -> !Content.Type.NAMESPACE.equals(e.getKey()) && e.getValue() > 0L);
+  }
+
   /**
    * If the {@link Content.Type} is an actual {@link Content.Type#NAMESPACE}, then we're returning
    * its name without modification as a {@link Namespace} instance. If the {@link Content.Type} is
@@ -25,11 +25,17 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.projectnessie.api.v2.params.ParsedReference;
 import org.projectnessie.error.NessieContentNotFoundException;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.ContentResponse;
+import org.projectnessie.model.GetContentsOnReferencesResponse;
 import org.projectnessie.model.GetMultipleContentsResponse;
+import org.projectnessie.model.LiveContentReference;
+import org.projectnessie.model.LiveContentsRequest;
 import org.projectnessie.services.authz.AccessCheckException;
 import org.projectnessie.versioned.RequestMeta;
 
@@ -97,4 +103,46 @@ public interface ContentService {
       boolean withDocumentation,
       RequestMeta requestMeta)
       throws NessieNotFoundException;
+
+  /**
+   * Retrieves one or more content objects by key on multiple references at once.
+   *
+   * <p>The heads of the named references without a commit ID are resolved together, the commits
+   * and content objects for all references are fetched together.
+   *
+   * @param references the references to read from, each mapped to the keys of the content objects
+   *     to retrieve on that reference
+   * @param withDocumentation unused, pass {@code false}
+   * @param requestMeta if {@code false}, "natural" read access checks will be performed. If {@code
+   *     true}, update/create access checks will be performed in addition to the read access checks.
+   * @return the existing content objects per reference, in the iteration order of {@code
+   *     references}
+   * @throws NessieNotFoundException if any of the references does not exist
+   * @throws AccessCheckException if access checks fail. Note that if some access check fails, the
+   *     function with throw an {@link AccessCheckException} and not return a result.
+   */
+  GetContentsOnReferencesResponse getContentsOnReferences(
+      @Valid @Size @Size(min = 1) Map<ParsedReference, List<ContentKey>> references,
+      boolean withDocumentation,
+      RequestMeta requestMeta)
+      throws NessieNotFoundException;
+
+  /**
+   * Streams the distinct Iceberg table and view references that are live on any branch or tag,
+   * walking the commit log of each reference back to its cutoff point.
+   *
+   * <p>The references and their HEADs are resolved and access checks are performed eagerly, the
+   * commit logs are walked lazily while the returned stream is consumed. The contents are not
+   * authorized individually, so the caller must be allowed to update the {@linkplain
+   * org.projectnessie.model.RepositoryConfig.Type#GARBAGE_COLLECTOR garbage collector
+   * configuration} in addition to view, list the commit log and read the entries of all references.
+   *
+   * @param request the cutoff policies
+   * @return stream of distinct live content references, must be closed
+   * @throws NessieNotFoundException if a reference HEAD commit does not exist
+   * @throws IllegalArgumentException if a cutoff policy is invalid
+   * @throws AccessCheckException if access checks fail.
+   */
+  Stream<LiveContentReference> getLiveContents(@Valid LiveContentsRequest request)
+      throws NessieNotFoundException;
 }
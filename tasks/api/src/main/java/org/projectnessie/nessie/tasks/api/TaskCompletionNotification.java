@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.nessie.tasks.api;
+
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+/**
+ * Notification that a {@link TaskObj task object} has reached a {@linkplain TaskStatus#isFinal()
+ * final state}.
+ *
+ * <p>Implemented by the transport that sends notifications to other Nessie instances and by the
+ * local tasks service that receives notifications from other Nessie instances.
+ */
+public interface TaskCompletionNotification {
+  /**
+   * The task object with the given ID has been updated to a final state with the given version
+   * token.
+   */
+  void taskCompleted(String repositoryId, ObjId objId, String versionToken);
+}
@@ -124,4 +124,13 @@ public interface TaskServiceMetrics {
    * TaskStatus#SUCCESS SUCCESS} state and is returned immediately.
    */
   void taskHasFinalSuccess();
+
+  /** Notification about a task that reached a final state has been sent to other instances. */
+  void taskCompletionNotificationSent();
+
+  /**
+   * Notification about a task that reached a final state has been received for a task that is
+   * awaited locally.
+   */
+  void taskCompletionNotificationReceived();
 }
@@ -35,6 +35,8 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import org.immutables.value.Value;
 import org.projectnessie.nessie.tasks.api.TaskBehavior;
+import org.projectnessie.nessie.tasks.api.TaskCompletionNotification;
+import org.projectnessie.nessie.tasks.api.TaskCompletionNotificationConsumer;
 import org.projectnessie.nessie.tasks.api.TaskObj;
 import org.projectnessie.nessie.tasks.api.TaskRequest;
 import org.projectnessie.nessie.tasks.api.TaskState;
@@ -62,8 +64,9 @@ public class TasksServiceImpl implements TasksService {
   private final long raceWaitMillisMin;
   private final long raceWaitMillisMax;
 
-  private final ConcurrentMap<TaskKey, CompletionStage<TaskObj>> currentTasks =
-      new ConcurrentHashMap<>();
+  private final ConcurrentMap<TaskKey, ExecParams> currentTasks = new ConcurrentHashMap<>();
+
+  private volatile TaskCompletionNotification completionNotification;
 
   private volatile boolean shutdown;
 
@@ -88,7 +91,7 @@ public class TasksServiceImpl implements TasksService {
     shutdown = true;
     return CompletableFuture.allOf(
             currentTasks.values().stream()
-                .map(CompletionStage::toCompletableFuture)
+                .map(params -> params.resultFuture)
                 .toArray(CompletableFuture[]::new))
         .thenApply(x -> null);
   }
@@ -98,6 +101,21 @@ public class TasksServiceImpl implements TasksService {
     return new TasksImpl(persist);
   }
 
+  /**
+   * Enables push-based notifications about tasks that reached a final state.
+   *
+   * <p>Final task results persisted by this instance are published via {@code sender}. Waiting
+   * task controllers for tasks that run on other Nessie instances re-evaluate the task object as
+   * soon as a notification for that task has been received via {@code receiver}, instead of
+   * waiting for the next scheduled re-evaluation. Scheduled re-evaluations remain in place as a
+   * fallback for lost notifications.
+   */
+  public void enableTaskCompletionNotifications(
+      TaskCompletionNotification sender, TaskCompletionNotificationConsumer receiver) {
+    receiver.applyTaskCompletionNotification(this::remoteTaskCompleted);
+    this.completionNotification = sender;
+  }
+
   <T extends TaskObj, B extends TaskObj.Builder> CompletionStage<T> submit(
       Persist persist, TaskRequest<T, B> taskRequest) {
     ObjId objId = taskRequest.objId();
@@ -105,13 +123,22 @@ public class TasksServiceImpl implements TasksService {
     // Try to get the object and immediately return if it has a final state. We expect to hit final
     // states way more often, so preventing the concurrent-hash-map interactions and especially the
     // asynchronous task handling improves the implementation.
-    // TODO using `fetchObj()` would be wrong here, because it is *synchronous* and can block.
-    //  Options:
-    //  a) remove this "optimization"
-    //  b) add a `getObjIfCached(ObjId)` --> chosen for now
-    //  c) add a `fetchObjAsync()`, but adding async variants to all database implementations will
-    //     be tricky
-    Obj obj = persist.getImmediate(taskRequest.objId());
+    // Using `fetchObj()` would be wrong here, because it is *synchronous* and can block. Cached
+    // objects are used directly, otherwise the object is fetched asynchronously, if the database
+    // implementation supports that without blocking.
+    Obj obj = persist.getImmediate(objId);
+    if (obj == null && persist.isAsyncNonBlocking()) {
+      return persist
+          .fetchObjsAsync(new ObjId[] {objId})
+          .thenCompose(objs -> submitWithObj(persist, taskRequest, objs[0]));
+    }
+    return submitWithObj(persist, taskRequest, obj);
+  }
+
+  private <T extends TaskObj, B extends TaskObj.Builder> CompletionStage<T> submitWithObj(
+      Persist persist, TaskRequest<T, B> taskRequest, Obj obj) {
+    ObjId objId = taskRequest.objId();
+
     if (obj != null) {
       T taskObj = castObj(taskRequest, obj);
       TaskStatus status = taskObj.taskState().status();
@@ -140,21 +167,60 @@ public class TasksServiceImpl implements TasksService {
           new IllegalStateException("Tasks service already shutdown"));
     }
 
+    ExecParams params =
+        currentTasks.computeIfAbsent(
+            taskKey,
+            id -> {
+              metrics.startNewTaskController();
+              ExecParams execParams = new ExecParams(persist, taskRequest);
+              LOGGER.trace("{}: Starting new local task controller for {}", name, execParams);
+              async.call(() -> tryLocal(execParams));
+              return execParams;
+            });
     @SuppressWarnings("unchecked")
-    CompletionStage<T> r =
-        (CompletionStage<T>)
-            currentTasks.computeIfAbsent(
-                taskKey,
-                id -> {
-                  metrics.startNewTaskController();
-                  ExecParams execParams = new ExecParams(persist, taskRequest);
-                  LOGGER.trace("{}: Starting new local task controller for {}", name, execParams);
-                  async.call(() -> tryLocal(execParams));
-                  return execParams.resultFuture;
-                });
+    CompletionStage<T> r = (CompletionStage<T>) params.resultFuture;
     return r;
   }
 
+  private void remoteTaskCompleted(String repositoryId, ObjId objId, String versionToken) {
+    ExecParams params = currentTasks.get(TaskKey.taskKey(repositoryId, objId));
+    if (params == null) {
+      // No local request is waiting for the task.
+      return;
+    }
+
+    metrics.taskCompletionNotificationReceived();
+    LOGGER.trace(
+        "{}: Received completion notification for {} with version token {}",
+        name,
+        params,
+        versionToken);
+    async.call(() -> tryLocalAfterCompletionNotification(params));
+  }
+
+  private void tryLocalAfterCompletionNotification(ExecParams params) {
+    params.lock.lock();
+    try {
+      if (params.runningObj != null) {
+        // The task is being executed locally, the notification refers to an outdated state.
+        return;
+      }
+      tryLocal(params);
+    } finally {
+      params.lock.unlock();
+    }
+  }
+
+  // Called while ExecParams is locked
+  private void notifyTaskCompleted(ExecParams params, TaskObj result) {
+    TaskCompletionNotification notification = completionNotification;
+    if (notification != null) {
+      metrics.taskCompletionNotificationSent();
+      notification.taskCompleted(
+          params.persist.config().repositoryId(), params.objId(), result.versionToken());
+    }
+  }
+
   private void finalResult(ExecParams params, TaskObj result) {
     try {
       params.resultFuture.complete(result);
@@ -173,13 +239,18 @@ public class TasksServiceImpl implements TasksService {
 
   private void removeFromCurrentTasks(ExecParams params) {
     TaskKey taskKey = TaskKey.taskKey(params.persist.config().repositoryId(), params.objId());
-    currentTasks.remove(taskKey);
+    currentTasks.remove(taskKey, params);
   }
 
   private void tryLocal(ExecParams params) {
     // Called from a thread pool, need to lock.
     params.lock.lock();
     try {
+      if (params.resultFuture.isDone()) {
+        // A completion notification made a scheduled re-evaluation obsolete.
+        return;
+      }
+
       metrics.taskAttempt();
       LOGGER.trace("{}: Task evaluation attempt for {}", name, params);
 
@@ -360,6 +431,7 @@ public class TasksServiceImpl implements TasksService {
               "{}: Task execution success result for {} updated in database, returning final result",
               name,
               params);
+          notifyTaskCompleted(params, r);
           finalResult(params, r);
         } else {
           metrics.taskExecutionResultRace();
@@ -398,6 +470,7 @@ public class TasksServiceImpl implements TasksService {
                 "{}: Task execution ended in final failure for {} updated in database, returning final result",
                 name,
                 params);
+            notifyTaskCompleted(params, updatedObj);
             finalFailure(params, failure);
           }
         } else {
@@ -43,6 +43,7 @@ import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
+import org.projectnessie.nessie.tasks.api.TaskCompletionNotification;
 import org.projectnessie.nessie.tasks.api.TaskObj;
 import org.projectnessie.nessie.tasks.api.TaskState;
 import org.projectnessie.nessie.tasks.api.Tasks;
@@ -1000,6 +1001,76 @@ public class TestTasksServiceImpl {
     verifyNoMoreInteractions(metrics2);
   }
 
+  @Test
+  public void twoServicesCompletionNotification() throws Exception {
+    MutableClock clock = MutableClock.of(Instant.now(), ZoneId.of("UTC"));
+    TestingTasksAsync async1 = new TestingTasksAsync(clock);
+    TestingTasksAsync async2 = new TestingTasksAsync(clock);
+
+    CompletableFuture<BasicTaskObj.Builder> taskCompletionStage = new CompletableFuture<>();
+
+    TaskServiceMetrics metrics1 = mock(TaskServiceMetrics.class);
+    TaskServiceMetrics metrics2 = mock(TaskServiceMetrics.class);
+
+    TasksServiceImpl service1 = new TasksServiceImpl(async1, metrics1, tasksServiceConfig(1));
+    Tasks tasks1 = service1.forPersist(persist);
+    TasksServiceImpl service2 = new TasksServiceImpl(async2, metrics2, tasksServiceConfig(2));
+    Tasks tasks2 = service2.forPersist(persist);
+
+    // Simulate the transport: notifications sent by service #1 are received by service #2
+    AtomicReference<TaskCompletionNotification> receiver2 = new AtomicReference<>();
+    service2.enableTaskCompletionNotifications((repo, id, token) -> {}, receiver2::set);
+    service1.enableTaskCompletionNotifications(
+        (repo, id, token) -> receiver2.get().taskCompleted(repo, id, token), n -> {});
+
+    BasicTaskRequest taskRequest1 = basicTaskRequest("hello", () -> taskCompletionStage);
+    CompletableFuture<BasicTaskObj> taskFuture1 = tasks1.submit(taskRequest1).toCompletableFuture();
+    soft.assertThat(async1.doWork()).isEqualTo(1);
+    reset(metrics1);
+
+    clock.add(250, ChronoUnit.MILLIS);
+    BasicTaskRequest taskRequest2 = basicTaskRequest("hello", () -> taskCompletionStage);
+    CompletableFuture<BasicTaskObj> taskFuture2 = tasks2.submit(taskRequest2).toCompletableFuture();
+    soft.assertThat(async2.doWork()).isEqualTo(1);
+    soft.assertThat(taskFuture2).isNotDone();
+    verify(metrics2).startNewTaskController();
+    verify(metrics2).taskAttempt();
+    verify(metrics2).taskAttemptRunning();
+    verifyNoMoreInteractions(metrics2);
+    reset(metrics2);
+
+    taskCompletionStage.complete(
+        BasicTaskObj.builder()
+            .id(taskRequest1.objId())
+            .taskParameter(taskRequest1.taskParameter())
+            .taskResult(taskRequest1.taskParameter() + " finished")
+            .taskState(TaskState.successState()));
+    soft.assertThat(taskFuture1).isCompleted();
+    verify(metrics1).taskExecutionFinished();
+    verify(metrics1).taskExecutionResult();
+    verify(metrics1).taskCompletionNotificationSent();
+    verifyNoMoreInteractions(metrics1);
+    verify(metrics2).taskCompletionNotificationReceived();
+    verifyNoMoreInteractions(metrics2);
+    reset(metrics2);
+
+    // Clock did not advance, but the 2nd future completes due to the notification.
+    soft.assertThat(async2.doWork()).isEqualTo(1);
+    soft.assertThat(taskFuture2).isCompleted();
+    soft.assertThat(taskFuture2.get())
+        .extracting(BasicTaskObj::taskResult)
+        .isEqualTo("hello finished");
+    verify(metrics2).taskAttempt();
+    verify(metrics2).taskAttemptFinalSuccess();
+    verifyNoMoreInteractions(metrics2);
+    reset(metrics2);
+
+    // The scheduled re-evaluation is a no-op
+    clock.add(5, ChronoUnit.SECONDS);
+    async2.doWork();
+    verifyNoMoreInteractions(metrics2);
+  }
+
   static TasksServiceConfig tasksServiceConfig(int inst) {
     return TasksServiceConfig.tasksServiceConfig(
         "instance#" + inst, DEFAULT_RACE_WAIT_MILLIS_MIN, DEFAULT_RACE_WAIT_MILLIS_MAX);
@@ -23,7 +23,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.projectnessie.model.CommitMeta;
+import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.IdentifiedContentKey;
 import org.projectnessie.model.Operation;
@@ -181,6 +183,24 @@ public class EventsVersionStore implements VersionStore {
     return delegate.getValues(ref, keys, returnNotFound);
   }
 
+  @Override
+  public Stream<ReferenceContents> getValuesOnReferences(
+      List<ReferenceKeys> requests, boolean returnNotFound) throws ReferenceNotFoundException {
+    return delegate.getValuesOnReferences(requests, returnNotFound);
+  }
+
+  @Override
+  public Optional<List<NamespaceSummary>> getNamespaceSummaries(Ref ref, ContentKey namespace)
+      throws ReferenceNotFoundException {
+    return delegate.getNamespaceSummaries(ref, namespace);
+  }
+
+  @Override
+  public Stream<Content> getLiveContents(List<ReferenceCutoff> references, Set<Content.Type> types)
+      throws ReferenceNotFoundException {
+    return delegate.getLiveContents(references, types);
+  }
+
   @Override
   public PaginationIterator<Diff> getDiffs(
       Ref from, Ref to, String pagingToken, KeyRestrictions keyRestrictions)
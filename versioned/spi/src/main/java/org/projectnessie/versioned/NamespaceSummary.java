@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned;
+
+import java.util.Map;
+import org.immutables.value.Value;
+import org.projectnessie.model.Content;
+import org.projectnessie.model.ContentKey;
+
+/**
+ * Counts of the contents in a namespace on a commit, see {@link
+ * VersionStore#getNamespaceSummaries(Ref, ContentKey)}.
+ *
+ * <p>Summaries exist for explicitly created namespaces and for all namespaces that contain at least
+ * one content object, directly or in a child namespace.
+ */
+@Value.Immutable
+public interface NamespaceSummary {
+
+  /** The key of the namespace, the empty key represents the root. */
+  @Value.Parameter(order = 1)
+  ContentKey namespace();
+
+  /** Whether a {@link org.projectnessie.model.Namespace} object exists for {@link #namespace()}. */
+  @Value.Parameter(order = 2)
+  boolean explicit();
+
+  /**
+   * Number of direct children of the namespace per content type, explicitly created child
+   * namespaces are counted as {@link Content.Type#NAMESPACE}.
+   */
+  @Value.Parameter(order = 3)
+  Map<Content.Type, Long> contentCounts();
+
+  /** Number of direct child namespaces, explicitly or implicitly created. */
+  @Value.Parameter(order = 4)
+  int childNamespaces();
+
+  /** Number of all content objects in the namespace and its child namespaces. */
+  @Value.Parameter(order = 5)
+  long totalContents();
+
+  static NamespaceSummary namespaceSummary(
+      ContentKey namespace,
+      boolean explicit,
+      Map<Content.Type, Long> contentCounts,
+      int childNamespaces,
+      long totalContents) {
+    return ImmutableNamespaceSummary.of(
+        namespace, explicit, contentCounts, childNamespaces, totalContents);
+  }
+}
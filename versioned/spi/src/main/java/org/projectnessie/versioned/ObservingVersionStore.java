@@ -26,7 +26,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 import org.projectnessie.model.CommitMeta;
+import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.IdentifiedContentKey;
 import org.projectnessie.model.Operation;
@@ -224,6 +226,33 @@ public class ObservingVersionStore implements VersionStore {
     return delegate.getValues(ref, keys, returnNotFound);
   }
 
+  @WithSpan
+  @Override
+  @Counted(PREFIX)
+  @Timed(value = PREFIX, histogram = true)
+  public Stream<ReferenceContents> getValuesOnReferences(
+      List<ReferenceKeys> requests, boolean returnNotFound) throws ReferenceNotFoundException {
+    return delegate.getValuesOnReferences(requests, returnNotFound);
+  }
+
+  @WithSpan
+  @Override
+  @Counted(PREFIX)
+  @Timed(value = PREFIX, histogram = true)
+  public Optional<List<NamespaceSummary>> getNamespaceSummaries(
+      @SpanAttribute(TAG_REF) Ref ref, ContentKey namespace) throws ReferenceNotFoundException {
+    return delegate.getNamespaceSummaries(ref, namespace);
+  }
+
+  @WithSpan
+  @Override
+  @Counted(PREFIX)
+  @Timed(value = PREFIX, histogram = true)
+  public Stream<Content> getLiveContents(List<ReferenceCutoff> references, Set<Content.Type> types)
+      throws ReferenceNotFoundException {
+    return delegate.getLiveContents(references, types);
+  }
+
   @WithSpan
   @Override
   @Counted(PREFIX)
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned;
+
+import jakarta.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+import org.immutables.value.Value;
+import org.projectnessie.model.ContentKey;
+
+/**
+ * Result of the lookup of one {@link ReferenceKeys}, see {@link
+ * VersionStore#getValuesOnReferences(List, boolean)}.
+ */
+@Value.Immutable
+public interface ReferenceContents {
+
+  @Value.Parameter(order = 1)
+  ReferenceKeys request();
+
+  /** The resolved branch or tag, {@code null} if the contents were read from a commit hash. */
+  @Value.Parameter(order = 2)
+  @Nullable
+  NamedRef namedRef();
+
+  /** The commit from which the contents were read. */
+  @Value.Parameter(order = 3)
+  Hash hash();
+
+  /** Content results by key, with the same semantics as {@link VersionStore#getValues}. */
+  @Value.Parameter(order = 4)
+  Map<ContentKey, ContentResult> contents();
+
+  static ReferenceContents referenceContents(
+      ReferenceKeys request,
+      NamedRef namedRef,
+      Hash hash,
+      Map<ContentKey, ContentResult> contents) {
+    return ImmutableReferenceContents.of(request, namedRef, hash, contents);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned;
+
+import jakarta.annotation.Nullable;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.immutables.value.Value;
+
+/**
+ * A named reference and the cutoff point of its commit log, see {@link
+ * VersionStore#getLiveContents(List, Set)}.
+ *
+ * <p>The semantics are the same as for the cutoff policies of Nessie GC: the HEAD commit is always
+ * live, each following commit is live unless it is cut off by {@link #maxCommits()} or {@link
+ * #cutoffTimestamp()}. Without either, all commits of the reference are live.
+ */
+@Value.Immutable
+public interface ReferenceCutoff {
+
+  @Value.Parameter(order = 1)
+  NamedRef namedRef();
+
+  /** The HEAD commit of the reference from which the commit log is walked. */
+  @Value.Parameter(order = 2)
+  Hash head();
+
+  /** Maximum number of live commits, including the HEAD commit. */
+  @Value.Parameter(order = 3)
+  @Nullable
+  Integer maxCommits();
+
+  /** Commits created before this timestamp are not live. */
+  @Value.Parameter(order = 4)
+  @Nullable
+  Instant cutoffTimestamp();
+
+  /**
+   * Checks whether the {@code numCommits}-th commit of the commit log, created at {@code
+   * commitTime}, is the first non-live commit.
+   */
+  default boolean isCutoff(Instant commitTime, int numCommits) {
+    Integer maxCommits = maxCommits();
+    if (maxCommits != null && numCommits > maxCommits) {
+      return true;
+    }
+    Instant cutoffTimestamp = cutoffTimestamp();
+    return cutoffTimestamp != null && commitTime.isBefore(cutoffTimestamp);
+  }
+
+  static ReferenceCutoff referenceCutoff(
+      NamedRef namedRef, Hash head, Integer maxCommits, Instant cutoffTimestamp) {
+    return ImmutableReferenceCutoff.of(namedRef, head, maxCommits, cutoffTimestamp);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import jakarta.annotation.Nullable;
+import java.util.List;
+import org.immutables.value.Value;
+import org.projectnessie.model.ContentKey;
+
+/**
+ * Content keys to look up on a reference or commit, see {@link
+ * VersionStore#getValuesOnReferences(List, boolean)}.
+ */
+@Value.Immutable
+public interface ReferenceKeys {
+
+  /**
+   * Name of the branch or tag to read from at its current HEAD, branches take precedence over tags
+   * with the same name. Mutually exclusive with {@link #hash()}.
+   */
+  @Value.Parameter(order = 1)
+  @Nullable
+  String refName();
+
+  /** The commit to read from, mutually exclusive with {@link #refName()}. */
+  @Value.Parameter(order = 2)
+  @Nullable
+  Hash hash();
+
+  @Value.Parameter(order = 3)
+  List<ContentKey> keys();
+
+  @Value.Check
+  default void check() {
+    checkArgument(
+        (refName() == null) != (hash() == null), "Exactly one of refName or hash must be set");
+  }
+
+  static ReferenceKeys referenceKeys(String refName, Iterable<ContentKey> keys) {
+    return ImmutableReferenceKeys.of(refName, null, keys);
+  }
+
+  static ReferenceKeys commitKeys(Hash hash, Iterable<ContentKey> keys) {
+    return ImmutableReferenceKeys.of(null, hash, keys);
+  }
+}
@@ -411,6 +411,57 @@ public interface VersionStore {
       Ref ref, Collection<ContentKey> keys, boolean returnNotFound)
       throws ReferenceNotFoundException;
 
+  /**
+   * Get the values for keys on multiple references or commits at once, for example to look up the
+   * same keys on many branches and tags.
+   *
+   * <p>All references are resolved eagerly, the returned stream may fetch data lazily.
+   *
+   * @param requests the references or commits with the keys to retrieve
+   * @param returnNotFound same as for {@link #getValues(Ref, Collection, boolean)}
+   * @return stream of results, one element per request in the order of {@code requests}
+   * @throws ReferenceNotFoundException if any of the requested references or commits does not
+   *     exist
+   */
+  Stream<ReferenceContents> getValuesOnReferences(
+      List<ReferenceKeys> requests, boolean returnNotFound) throws ReferenceNotFoundException;
+
+  /**
+   * Get the content counts of a namespace and all its child namespaces.
+   *
+   * <p>Summaries are maintained incrementally when commits are written, so this function does not
+   * need to scan all keys on the reference. Callers have to fall back to scanning the keys, if no
+   * summary is available for the commit.
+   *
+   * @param ref The ref to use.
+   * @param namespace the namespace to return the summaries for, {@code null} or the empty key for
+   *     all namespaces
+   * @return summaries of {@code namespace} and all namespaces below it, ordered by namespace key,
+   *     empty list if {@code namespace} does not exist, empty optional if no summary is available
+   *     for the commit
+   * @throws ReferenceNotFoundException if {@code ref} is not present in the store
+   */
+  Optional<List<NamespaceSummary>> getNamespaceSummaries(Ref ref, @Nullable ContentKey namespace)
+      throws ReferenceNotFoundException;
+
+  /**
+   * Get the content values that are live on the given references, walking the commit log of each
+   * reference from its HEAD back to its {@linkplain ReferenceCutoff cutoff point}.
+   *
+   * <p>Contents of the given types that are put by a live commit and all contents of those types
+   * that are visible at the last live commit of a reference are live. Each distinct content value
+   * is returned only once, even if it is live on multiple references.
+   *
+   * <p>All HEAD commits are checked eagerly, the returned stream walks the commit logs lazily.
+   *
+   * @param references the references with their cutoff points
+   * @param types the content types to return
+   * @return stream of distinct live content values
+   * @throws ReferenceNotFoundException if any of the HEAD commits does not exist
+   */
+  Stream<Content> getLiveContents(List<ReferenceCutoff> references, Set<Content.Type> types)
+      throws ReferenceNotFoundException;
+
   /**
    * Get list of diffs between two refs.
    *
@@ -33,8 +33,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -42,6 +44,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.projectnessie.model.CommitMeta;
+import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.IcebergTable;
 import org.projectnessie.model.Operation;
@@ -581,6 +584,54 @@ class TestEventsVersionStore {
     verifyNoInteractions(sink);
   }
 
+  @Test
+  void testGetValuesOnReferences() throws Exception {
+    ContentResult contentResult1 =
+        contentResult(identifiedContentKeyFromContent(key1, table1, x -> null), table1, null);
+    List<ReferenceKeys> requests =
+        Arrays.asList(
+            ReferenceKeys.referenceKeys(branch1.getName(), List.of(key1)),
+            ReferenceKeys.commitKeys(hash1, List.of(key1)));
+    List<ReferenceContents> expected =
+        Arrays.asList(
+            ReferenceContents.referenceContents(
+                requests.get(0), branch1, hash1, ImmutableMap.of(key1, contentResult1)),
+            ReferenceContents.referenceContents(
+                requests.get(1), null, hash1, ImmutableMap.of(key1, contentResult1)));
+    when(delegate.getValuesOnReferences(requests, false)).thenReturn(expected.stream());
+    EventsVersionStore versionStore = new EventsVersionStore(delegate, sink);
+    assertThat(versionStore.getValuesOnReferences(requests, false))
+        .containsExactlyElementsOf(expected);
+    verifyNoMoreInteractions(delegate);
+    verifyNoInteractions(sink);
+  }
+
+  @Test
+  void testGetNamespaceSummaries() throws Exception {
+    Optional<List<NamespaceSummary>> expected =
+        Optional.of(
+            List.of(
+                NamespaceSummary.namespaceSummary(
+                    key1, true, ImmutableMap.of(Content.Type.ICEBERG_TABLE, 1L), 0, 1L)));
+    when(delegate.getNamespaceSummaries(branch1, key1)).thenReturn(expected);
+    EventsVersionStore versionStore = new EventsVersionStore(delegate, sink);
+    assertThat(versionStore.getNamespaceSummaries(branch1, key1)).isSameAs(expected);
+    verifyNoMoreInteractions(delegate);
+    verifyNoInteractions(sink);
+  }
+
+  @Test
+  void testGetLiveContents() throws Exception {
+    List<ReferenceCutoff> references =
+        List.of(ReferenceCutoff.referenceCutoff(branch1, hash1, 10, null));
+    Set<Content.Type> types = Set.of(Content.Type.ICEBERG_TABLE);
+    when(delegate.getLiveContents(references, types)).thenReturn(Stream.of(table1));
+    EventsVersionStore versionStore = new EventsVersionStore(delegate, sink);
+    assertThat(versionStore.getLiveContents(references, types)).containsExactly(table1);
+    verifyNoMoreInteractions(delegate);
+    verifyNoInteractions(sink);
+  }
+
   @Test
   void testGetDiffs() throws Exception {
     when(delegate.getDiffs(hash1, hash2, "token1", NO_KEY_RESTRICTIONS)).thenReturn(iteratorDiffs);
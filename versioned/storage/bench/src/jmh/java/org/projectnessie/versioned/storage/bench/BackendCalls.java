@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.bench;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Reports the number of calls to the storage backend as a secondary result of a benchmark. JMH
+ * reports the counter as a rate, divide it by the primary result to get the backend calls per
+ * operation.
+ */
+@AuxCounters(AuxCounters.Type.EVENTS)
+@State(Scope.Thread)
+public class BackendCalls {
+  private LongAdder calls;
+  private long start;
+
+  @Setup(Level.Iteration)
+  public void reset() {
+    calls = CallCountingPersist.callsOfCurrentThread();
+    start = calls.sum();
+  }
+
+  public long backendCalls() {
+    return calls.sum() - start;
+  }
+}
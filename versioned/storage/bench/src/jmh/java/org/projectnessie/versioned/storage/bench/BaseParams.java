@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.bench;
+
+import static org.projectnessie.versioned.storage.common.indexes.StoreKey.key;
+import static org.projectnessie.versioned.storage.common.logic.CreateCommit.Add.commitAdd;
+import static org.projectnessie.versioned.storage.common.logic.CreateCommit.newCommitBuilder;
+import static org.projectnessie.versioned.storage.common.logic.Logics.commitLogic;
+import static org.projectnessie.versioned.storage.common.logic.Logics.indexesLogic;
+import static org.projectnessie.versioned.storage.common.logic.Logics.referenceLogic;
+import static org.projectnessie.versioned.storage.common.logic.Logics.repositoryLogic;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitHeaders.EMPTY_COMMIT_HEADERS;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import org.projectnessie.versioned.storage.cache.CacheConfig;
+import org.projectnessie.versioned.storage.cache.PersistCaches;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.indexes.StoreKey;
+import org.projectnessie.versioned.storage.common.logic.CommitLogic;
+import org.projectnessie.versioned.storage.common.logic.CreateCommit;
+import org.projectnessie.versioned.storage.common.logic.IndexesLogic;
+import org.projectnessie.versioned.storage.common.logic.ReferenceLogic;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.persist.Backend;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.common.persist.Reference;
+import org.projectnessie.versioned.storage.testextension.BackendTestFactory;
+
+/**
+ * Common state of the storage benchmarks: sets up the backend named by {@code backendName} via its
+ * {@link BackendTestFactory}, optionally with the cache layer, and an initialized repository.
+ */
+abstract class BaseParams {
+  public static final String DEFAULT_BRANCH_NAME = "main";
+  public static final String DEFAULT_BRANCH_REF = "refs/heads/" + DEFAULT_BRANCH_NAME;
+
+  Backend backend;
+  BackendTestFactory backendTestFactory;
+  Persist persist;
+  CommitLogic commitLogic;
+  IndexesLogic indexesLogic;
+  ReferenceLogic referenceLogic;
+
+  /** The default branch, updated by {@link #commit(int)}. */
+  Reference branch;
+
+  /** Number of keys added by {@link #commit(int)} so far. */
+  int keyCount;
+
+  protected void init(String backendName, boolean cache) throws Exception {
+    Set<String> known = new HashSet<>();
+    for (BackendTestFactory candidate : ServiceLoader.load(BackendTestFactory.class)) {
+      String name = candidate.getName();
+      known.add(name);
+      if (backendName.equals(name)) {
+        backendTestFactory = candidate;
+        break;
+      }
+    }
+    if (backendTestFactory == null) {
+      throw new IllegalArgumentException(
+          "Could not find backend named " + backendName + ", known backends: " + known);
+    }
+
+    backendTestFactory.start();
+
+    backend = backendTestFactory.createNewBackend();
+    backend.setupSchema();
+    persist =
+        CallCountingPersist.wrap(
+            backend.createFactory().newPersist(StoreConfig.Adjustable.empty()));
+    if (cache) {
+      persist =
+          PersistCaches.newBackend(
+                  CacheConfig.builder().capacityMb(256).cacheCapacityOvershoot(0.1d).build())
+              .wrap(persist);
+    }
+
+    repositoryLogic(persist).initialize(DEFAULT_BRANCH_NAME);
+    commitLogic = commitLogic(persist);
+    indexesLogic = indexesLogic(persist);
+    referenceLogic = referenceLogic(persist);
+    branch = referenceLogic.getReference(DEFAULT_BRANCH_REF);
+  }
+
+  protected void tearDown() throws Exception {
+    if (backend != null) {
+      try {
+        backend.close();
+      } finally {
+        backend = null;
+      }
+    }
+    if (backendTestFactory != null) {
+      try {
+        backendTestFactory.stop();
+      } finally {
+        backendTestFactory = null;
+      }
+    }
+  }
+
+  static StoreKey benchKey(int i) {
+    return key("namespace-" + (i / 100), "table-" + i);
+  }
+
+  /** Commits {@code numKeys} new keys to the default branch. */
+  CommitObj commit(int numKeys) throws Exception {
+    CreateCommit.Builder createCommit =
+        newCommitBuilder()
+            .parentCommitId(branch.pointer())
+            .headers(EMPTY_COMMIT_HEADERS)
+            .message("bench commit");
+    for (int i = 0; i < numKeys; i++) {
+      createCommit.addAdds(commitAdd(benchKey(keyCount++), 0, randomObjId(), null, null));
+    }
+    CommitObj commit = commitLogic.doCommit(createCommit.build(), List.of());
+    branch = referenceLogic.assignReference(branch, commit.id());
+    return commit;
+  }
+}
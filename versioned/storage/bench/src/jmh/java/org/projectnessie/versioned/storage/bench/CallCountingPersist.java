@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.bench;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+
+/**
+ * Proxy for a {@link Persist} that counts the calls that reach the storage backend, per calling
+ * thread, reported via {@link BackendCalls}.
+ *
+ * <p>When the cache layer is enabled, the proxy sits below the cache, so cache hits are not
+ * counted.
+ */
+final class CallCountingPersist implements InvocationHandler {
+
+  /** Methods that do not call the storage backend. */
+  private static final Set<String> NOT_COUNTED =
+      Set.of(
+          "name",
+          "config",
+          "hardObjectSizeLimit",
+          "effectiveIndexSegmentSizeLimit",
+          "effectiveIncrementalIndexSizeLimit",
+          "isCaching",
+          "commitIndexCache",
+          "getImmediate",
+          "equals",
+          "hashCode",
+          "toString");
+
+  private static final ThreadLocal<LongAdder> CALLS = ThreadLocal.withInitial(LongAdder::new);
+
+  private final Persist delegate;
+
+  private CallCountingPersist(Persist delegate) {
+    this.delegate = delegate;
+  }
+
+  static Persist wrap(Persist persist) {
+    return (Persist)
+        Proxy.newProxyInstance(
+            Persist.class.getClassLoader(),
+            new Class<?>[] {Persist.class},
+            new CallCountingPersist(persist));
+  }
+
+  /** The backend call counter of the current thread. */
+  static LongAdder callsOfCurrentThread() {
+    return CALLS.get();
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    if (!NOT_COUNTED.contains(method.getName())) {
+      CALLS.get().increment();
+    }
+    try {
+      return method.invoke(delegate, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
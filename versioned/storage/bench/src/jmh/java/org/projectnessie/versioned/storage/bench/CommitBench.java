@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.bench;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+
+/**
+ * Commit throughput against the default branch, each commit adds {@code keysPerCommit} new keys and
+ * bumps the branch. Runs single-threaded, concurrent commits would only measure commit retries.
+ */
+@Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 3, time = 1000, timeUnit = MILLISECONDS)
+@Fork(1)
+@Threads(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+public class CommitBench {
+  @State(Scope.Benchmark)
+  public static class BenchmarkParam extends BaseParams {
+    @Param({"In-Memory", "RocksDB", "JDBC2-H2"})
+    public String backendName;
+
+    @Param({"false", "true"})
+    public boolean cache;
+
+    @Param({"1", "10", "100"})
+    public int keysPerCommit;
+
+    @Setup
+    public void init() throws Exception {
+      init(backendName, cache);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      super.tearDown();
+    }
+  }
+
+  @Benchmark
+  public CommitObj commit(BenchmarkParam param, BackendCalls backendCalls) throws Exception {
+    return param.commit(param.keysPerCommit);
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.bench;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+import org.projectnessie.versioned.storage.common.persist.Reference;
+
+/**
+ * Point lookups of a random key on the HEAD of the default branch: resolves the reference, fetches
+ * the HEAD commit and looks up the key in the commit's complete index.
+ */
+@Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 3, time = 1000, timeUnit = MILLISECONDS)
+@Fork(1)
+@Threads(4)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+public class PointLookupBench {
+  @State(Scope.Benchmark)
+  public static class BenchmarkParam extends BaseParams {
+    @Param({"In-Memory", "RocksDB", "JDBC2-H2"})
+    public String backendName;
+
+    @Param({"false", "true"})
+    public boolean cache;
+
+    @Param({"100", "10000"})
+    public int numKeys;
+
+    @Setup
+    public void init() throws Exception {
+      init(backendName, cache);
+      for (int i = 0; i < numKeys; i += 100) {
+        commit(Math.min(100, numKeys - i));
+      }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      super.tearDown();
+    }
+  }
+
+  @Benchmark
+  public StoreIndexElement<CommitOp> lookup(BenchmarkParam param, BackendCalls backendCalls)
+      throws Exception {
+    Reference reference = param.referenceLogic.getReference(BaseParams.DEFAULT_BRANCH_REF);
+    CommitObj head = param.commitLogic.fetchCommit(reference.pointer());
+    StoreIndex<CommitOp> index = param.indexesLogic.buildCompleteIndexOrEmpty(head);
+    return index.get(BaseParams.benchKey(ThreadLocalRandom.current().nextInt(param.numKeys)));
+  }
+}
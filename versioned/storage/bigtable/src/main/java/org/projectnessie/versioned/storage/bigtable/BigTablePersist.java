@@ -39,6 +39,7 @@ import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.s
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeReference;
 
 import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
 import com.google.api.core.ApiFutures;
 import com.google.api.gax.batching.Batcher;
 import com.google.api.gax.rpc.AbortedException;
@@ -59,15 +60,19 @@ import com.google.cloud.bigtable.data.v2.models.RowMutationEntry;
 import com.google.cloud.bigtable.data.v2.models.TableId;
 import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.protobuf.ByteString;
 import jakarta.annotation.Nonnull;
 import java.lang.reflect.Array;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
@@ -148,6 +153,17 @@ public class BigTablePersist implements Persist {
     }
   }
 
+  @Override
+  @Nonnull
+  public CompletionStage<Reference> fetchReferenceAsync(@Nonnull String name) {
+    try {
+      return toCompletionStage(backend.client().readRowAsync(backend.tableRefsId, dbKey(name)))
+          .thenApply(row -> row != null ? referenceFromRow(row) : null);
+    } catch (ApiException e) {
+      return failedStage(e);
+    }
+  }
+
   @Override
   @Nonnull
   public Reference[] fetchReferences(@Nonnull String[] names) {
@@ -357,6 +373,79 @@ public class BigTablePersist implements Persist {
     }
   }
 
+  @Override
+  @Nonnull
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    @SuppressWarnings("unchecked")
+    T[] r = (T[]) Array.newInstance(typeClass, ids.length);
+
+    Map<ObjId, Integer> idToIndex = new HashMap<>();
+    Query query = Query.create(backend.tableObjsId);
+    for (int i = 0; i < ids.length; i++) {
+      ObjId id = ids[i];
+      if (id != null) {
+        idToIndex.put(id, i);
+        query.rowKey(dbKey(id));
+      }
+    }
+    if (idToIndex.isEmpty()) {
+      return CompletableFuture.completedFuture(r);
+    }
+
+    try {
+      return toCompletionStage(backend.client().readRowsCallable().all().futureCall(query))
+          .thenApply(
+              rows -> {
+                for (Row row : rows) {
+                  Obj obj = objFromRow(row);
+                  Integer i = idToIndex.get(obj.id());
+                  if (i != null && (type == null || type.equals(obj.type()))) {
+                    r[i] = typeClass.cast(obj);
+                  }
+                }
+                return r;
+              });
+    } catch (ApiException e) {
+      return failedStage(e);
+    }
+  }
+
+  private static <T> CompletionStage<T> toCompletionStage(ApiFuture<T> future) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    ApiFutures.addCallback(
+        future,
+        new ApiFutureCallback<>() {
+          @Override
+          public void onFailure(Throwable t) {
+            if (t instanceof ApiException) {
+              try {
+                apiException((ApiException) t);
+              } catch (RuntimeException e) {
+                t = e;
+              }
+            }
+            result.completeExceptionally(t);
+          }
+
+          @Override
+          public void onSuccess(T value) {
+            result.complete(value);
+          }
+        },
+        MoreExecutors.directExecutor());
+    return result;
+  }
+
+  private static <T> CompletionStage<T> failedStage(ApiException e) {
+    try {
+      apiException(e);
+      throw new IllegalStateException(e);
+    } catch (RuntimeException mapped) {
+      return CompletableFuture.failedFuture(mapped);
+    }
+  }
+
   @Override
   public boolean storeObj(@Nonnull Obj obj, boolean ignoreSoftSizeRestrictions)
       throws ObjTooLargeException {
@@ -465,6 +554,43 @@ public class BigTablePersist implements Persist {
     return r;
   }
 
+  @Override
+  @Nonnull
+  public CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs) {
+    boolean[] r = new boolean[objs.length];
+    List<CompletableFuture<?>> writes = new ArrayList<>(objs.length);
+    try {
+      for (int i = 0; i < objs.length; i++) {
+        Obj obj = objs[i];
+        if (obj != null) {
+          int idx = i;
+          ConditionalRowMutation conditionalRowMutation = mutationForStoreObj(obj, false);
+          writes.add(
+              toCompletionStage(backend.client().checkAndMutateRowAsync(conditionalRowMutation))
+                  .thenCompose(
+                      exists -> {
+                        if (!exists) {
+                          r[idx] = true;
+                          return CompletableFuture.<Void>completedFuture(null);
+                        }
+                        return toCompletionStage(
+                            backend
+                                .client()
+                                .mutateRowAsync(
+                                    mutationForUpdateReferenced(
+                                        obj.id(), config.currentTimeMicros())));
+                      })
+                  .toCompletableFuture());
+        }
+      }
+    } catch (ObjTooLargeException e) {
+      return CompletableFuture.failedFuture(e);
+    } catch (ApiException e) {
+      return failedStage(e);
+    }
+    return CompletableFuture.allOf(writes.toArray(new CompletableFuture<?>[0])).thenApply(x -> r);
+  }
+
   private void updateReferenced(List<ObjId> updateReferenced) {
     List<ApiFuture<?>> futures = new ArrayList<>(updateReferenced.size());
     long referenced = config.currentTimeMicros();
@@ -680,6 +806,11 @@ public class BigTablePersist implements Persist {
     backend.eraseRepositories(singleton(config().repositoryId()));
   }
 
+  @Override
+  public boolean isAsyncNonBlocking() {
+    return true;
+  }
+
   @Nonnull
   @Override
   public CloseableIterator<Obj> scanAllObjects(@Nonnull Set<ObjType> returnedObjTypes) {
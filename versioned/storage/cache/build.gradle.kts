@@ -14,7 +14,10 @@
  * limitations under the License.
  */
 
-plugins { id("nessie-conventions-server") }
+plugins {
+  id("nessie-conventions-server")
+  alias(libs.plugins.jmh)
+}
 
 publishingHelper { mavenName = "Nessie - Storage - Cache" }
 
@@ -50,4 +53,12 @@ dependencies {
   testImplementation(platform(libs.junit.bom))
   testImplementation(libs.bundles.junit.testing)
   testRuntimeOnly(libs.logback.classic)
+
+  jmhImplementation(libs.jmh.core)
+  jmhImplementation(project(":nessie-versioned-storage-common-tests"))
+  jmhAnnotationProcessor(libs.jmh.generator.annprocess)
 }
+
+tasks.named("processJmhJandexIndex").configure { enabled = false }
+
+jmh { jmhVersion = libs.versions.jmh.get() }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexElement.indexElement;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitHeaders.EMPTY_COMMIT_HEADERS;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.Action.ADD;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.COMMIT_OP_SERIALIZER;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.commitOp;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.commontests.ImmutableRealisticKeySet;
+import org.projectnessie.versioned.storage.commontests.KeyIndexTestSet;
+
+/**
+ * Compares objects cache hits that deserialize the object, use soft references or use the hot tier
+ * of decoded objects.
+ */
+@Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 3, time = 1000, timeUnit = MILLISECONDS)
+@Fork(1)
+@Threads(4)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class CacheGetBench {
+  @State(Scope.Benchmark)
+  public static class BenchmarkParam {
+
+    @Param({"decode", "soft-references", "hot-tier"})
+    public String mode;
+
+    @Param({"1000"})
+    public int numObjects;
+
+    @Param({"50"})
+    public int tablesPerNamespace;
+
+    private CaffeineCacheBackend backend;
+    private ObjId[] ids;
+
+    @Setup
+    public void init() {
+      CacheConfig.Builder config =
+          CacheConfig.builder().capacityMb(512).cacheCapacityOvershoot(0.1d);
+      switch (mode) {
+        case "decode":
+          break;
+        case "soft-references":
+          config.enableSoftReferences(true);
+          break;
+        case "hot-tier":
+          config.hotTierHits(2);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown mode " + mode);
+      }
+      backend = new CaffeineCacheBackend(config.build());
+
+      KeyIndexTestSet<CommitOp> keyIndexTestSet =
+          KeyIndexTestSet.<CommitOp>newGenerator()
+              .keySet(
+                  ImmutableRealisticKeySet.builder()
+                      .namespaceLevels(1)
+                      .foldersPerLevel(1)
+                      .tablesPerNamespace(tablesPerNamespace)
+                      .build())
+              .elementSupplier(key -> indexElement(key, commitOp(ADD, 1, randomObjId())))
+              .elementSerializer(COMMIT_OP_SERIALIZER)
+              .build()
+              .generateIndexTestSet();
+
+      ids = new ObjId[numObjects];
+      for (int i = 0; i < numObjects; i++) {
+        CommitObj commit =
+            CommitObj.commitBuilder()
+                .id(randomObjId())
+                .seq(i)
+                .created(42L)
+                .message("commit message " + i)
+                .headers(EMPTY_COMMIT_HEADERS)
+                .incrementalIndex(keyIndexTestSet.serialized())
+                .build();
+        backend.put("repo", commit);
+        ids[i] = commit.id();
+      }
+    }
+  }
+
+  @Benchmark
+  public Obj get(BenchmarkParam param) {
+    ObjId id = param.ids[ThreadLocalRandom.current().nextInt(param.ids.length)];
+    return param.backend.get("repo", id);
+  }
+}
@@ -21,6 +21,8 @@ import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.concurrent.Executor;
 import java.util.function.LongSupplier;
 import org.immutables.value.Value;
@@ -31,6 +33,8 @@ public interface CacheConfig {
   String INVALID_REFERENCE_NEGATIVE_TTL =
       "Cache reference-negative-TTL must only be present, if reference-TTL is configured, and must only be positive.";
   String INVALID_REFERENCE_TTL = "Cache reference-TTL must be positive, if present.";
+  String INVALID_HOT_TIER_HITS = "Cache hot-tier-hits must not be negative.";
+  String INVALID_COMMIT_INDEX_CAPACITY = "Commit index cache capacity must not be negative.";
 
   long capacityMb();
 
@@ -42,6 +46,20 @@ public interface CacheConfig {
 
   Optional<Boolean> enableSoftReferences();
 
+  /**
+   * Number of cache hits after which an objects cache entry keeps the decoded object in addition to
+   * its serialized representation. The estimated heap size of the decoded object is accounted in
+   * the cache's weight. Absent or {@code 0} disables keeping decoded objects.
+   */
+  OptionalInt hotTierHits();
+
+  /**
+   * Capacity in megabytes of the cache of shared, deserialized commit index views, see {@link
+   * org.projectnessie.versioned.storage.common.persist.CommitIndexCache}. The cache is separate
+   * from the objects cache. Absent or {@code 0} disables the commit index cache.
+   */
+  OptionalLong commitIndexCapacityMb();
+
   double cacheCapacityOvershoot();
 
   @Value.Default
@@ -73,6 +91,9 @@ public interface CacheConfig {
                 checkState(
                     referenceTtl().isPresent() && ttl.compareTo(Duration.ZERO) > 0,
                     INVALID_REFERENCE_NEGATIVE_TTL));
+    hotTierHits().ifPresent(hits -> checkState(hits >= 0, INVALID_HOT_TIER_HITS));
+    commitIndexCapacityMb()
+        .ifPresent(capacity -> checkState(capacity >= 0L, INVALID_COMMIT_INDEX_CAPACITY));
   }
 
   interface Builder {
@@ -97,6 +118,12 @@ public interface CacheConfig {
     @CanIgnoreReturnValue
     Builder cacheCapacityOvershoot(double cacheCapacityOvershoot);
 
+    @CanIgnoreReturnValue
+    Builder hotTierHits(int hotTierHits);
+
+    @CanIgnoreReturnValue
+    Builder commitIndexCapacityMb(long commitIndexCapacityMb);
+
     @CanIgnoreReturnValue
     Builder executor(Executor executor);
 
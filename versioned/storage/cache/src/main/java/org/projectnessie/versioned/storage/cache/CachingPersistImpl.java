@@ -23,6 +23,8 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
@@ -31,6 +33,7 @@ import org.projectnessie.versioned.storage.common.exceptions.RefConditionFailedE
 import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundException;
 import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
 import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
+import org.projectnessie.versioned.storage.common.persist.CommitIndexCache;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.ObjType;
@@ -41,10 +44,15 @@ class CachingPersistImpl implements Persist {
 
   final Persist persist;
   final ObjCache cache;
+  final ObjLoadCoalescer loads;
+  final CommitIndexCache commitIndexes;
 
-  CachingPersistImpl(Persist persist, ObjCache cache) {
+  CachingPersistImpl(
+      Persist persist, ObjCache cache, ObjLoadCoalescer loads, CommitIndexCache commitIndexes) {
     this.persist = persist;
     this.cache = cache;
+    this.loads = loads;
+    this.commitIndexes = commitIndexes;
   }
 
   @Override
@@ -57,14 +65,24 @@ class CachingPersistImpl implements Persist {
       }
       throw new ObjNotFoundException(id);
     }
-    try {
-      o = persist.fetchObj(id);
-      cache.putLocal(o);
-      return o;
-    } catch (ObjNotFoundException e) {
+    o =
+        loads.load(
+            id,
+            null,
+            i -> {
+              try {
+                Obj obj = persist.fetchObj(i);
+                cache.putLocal(obj);
+                return obj;
+              } catch (ObjNotFoundException e) {
+                return null;
+              }
+            });
+    if (o == null) {
       cache.remove(id);
-      throw e;
+      throw new ObjNotFoundException(id);
     }
+    return o;
   }
 
   @Override
@@ -89,12 +107,22 @@ class CachingPersistImpl implements Persist {
         throw new ObjNotFoundException(id);
       }
     } else {
-      try {
-        o = persist.fetchTypedObj(id, type, typeClass);
-        cache.putLocal(o);
-      } catch (ObjNotFoundException e) {
+      o =
+          loads.load(
+              id,
+              type,
+              i -> {
+                try {
+                  Obj obj = persist.fetchTypedObj(i, type, typeClass);
+                  cache.putLocal(obj);
+                  return obj;
+                } catch (ObjNotFoundException e) {
+                  return null;
+                }
+              });
+      if (o == null) {
         cache.putReferenceNegative(id, type);
-        throw e;
+        throw new ObjNotFoundException(id);
       }
     }
     @SuppressWarnings("unchecked")
@@ -128,7 +156,22 @@ class CachingPersistImpl implements Persist {
       return r;
     }
 
-    Obj[] backendResult = persist.fetchObjs(backendIds);
+    // Like the backend's 'fetchObjs', fail before any missing object is cached as non-existing.
+    Obj[] backendResult = loadFromBackend(backendIds, null, Obj.class);
+    List<ObjId> notFound = null;
+    for (int i = 0; i < backendIds.length; i++) {
+      ObjId id = backendIds[i];
+      if (id != null && backendResult[i] == null) {
+        if (notFound == null) {
+          notFound = new ArrayList<>();
+        }
+        notFound.add(id);
+      }
+    }
+    if (notFound != null) {
+      throw new ObjNotFoundException(notFound);
+    }
+
     return fetchObjsPost(backendIds, backendResult, r, null);
   }
 
@@ -142,8 +185,7 @@ class CachingPersistImpl implements Persist {
     ObjId[] backendIds = fetchObjsPre(ids, r, type, typeClass);
 
     if (backendIds != null) {
-      T[] backendResult = persist.fetchTypedObjsIfExist(backendIds, type, typeClass);
-      r = fetchObjsPost(backendIds, backendResult, r, type);
+      r = fetchObjsFromBackend(backendIds, r, type, typeClass);
     }
 
     List<ObjId> notFound = null;
@@ -175,8 +217,7 @@ class CachingPersistImpl implements Persist {
       return r;
     }
 
-    T[] backendResult = persist.fetchTypedObjsIfExist(backendIds, type, typeClass);
-    return fetchObjsPost(backendIds, backendResult, r, type);
+    return fetchObjsFromBackend(backendIds, r, type, typeClass);
   }
 
   private <T extends Obj> ObjId[] fetchObjsPre(
@@ -204,15 +245,38 @@ class CachingPersistImpl implements Persist {
     return backendIds;
   }
 
+  private <T extends Obj> T[] fetchObjsFromBackend(
+      ObjId[] backendIds, T[] r, ObjType type, @Nonnull Class<T> typeClass) {
+    Obj[] backendResult = loadFromBackend(backendIds, type, typeClass);
+    return fetchObjsPost(backendIds, backendResult, r, type);
+  }
+
+  private <T extends Obj> Obj[] loadFromBackend(
+      ObjId[] backendIds, ObjType type, @Nonnull Class<T> typeClass) {
+    return loads.loadAll(
+        backendIds,
+        type,
+        ids -> {
+          T[] loaded = persist.fetchTypedObjsIfExist(ids, type, typeClass);
+          for (T o : loaded) {
+            if (o != null) {
+              cache.putLocal(o);
+            }
+          }
+          return loaded;
+        });
+  }
+
   private <T extends Obj> T[] fetchObjsPost(
-      ObjId[] backendIds, T[] backendResult, T[] r, ObjType type) {
+      ObjId[] backendIds, Obj[] backendResult, T[] r, ObjType type) {
     for (int i = 0; i < backendResult.length; i++) {
       ObjId id = backendIds[i];
       if (id != null) {
-        T o = backendResult[i];
+        Obj o = backendResult[i];
         if (o != null) {
-          r[i] = o;
-          cache.putLocal(o);
+          @SuppressWarnings("unchecked")
+          T typed = (T) o;
+          r[i] = typed;
         } else {
           cache.putReferenceNegative(id, type);
         }
@@ -224,16 +288,39 @@ class CachingPersistImpl implements Persist {
   @Override
   @Nonnull
   public Obj[] fetchObjsIfExist(@Nonnull ObjId[] ids) {
-    Obj[] r = new Obj[ids.length];
+    return fetchTypedObjsIfExist(ids, null, Obj.class);
+  }
 
-    ObjId[] backendIds = fetchObjsPre(ids, r, null, Obj.class);
+  @Override
+  @Nonnull
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    @SuppressWarnings("unchecked")
+    T[] r = (T[]) Array.newInstance(typeClass, ids.length);
+
+    ObjId[] backendIds = fetchObjsPre(ids, r, type, typeClass);
 
     if (backendIds == null) {
-      return r;
+      return CompletableFuture.completedFuture(r);
     }
 
-    Obj[] backendResult = persist.fetchObjsIfExist(backendIds);
-    return fetchObjsPost(backendIds, backendResult, r, null);
+    return loads
+        .loadAllAsync(
+            backendIds,
+            type,
+            ids ->
+                persist
+                    .fetchTypedObjsAsync(ids, type, typeClass)
+                    .<Obj[]>thenApply(
+                        loaded -> {
+                          for (T o : loaded) {
+                            if (o != null) {
+                              cache.putLocal(o);
+                            }
+                          }
+                          return loaded;
+                        }))
+        .thenApply(backendResult -> fetchObjsPost(backendIds, backendResult, r, type));
   }
 
   @Override
@@ -258,11 +345,28 @@ class CachingPersistImpl implements Persist {
     return stored;
   }
 
+  @Override
+  @Nonnull
+  public CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs) {
+    return persist
+        .storeObjsAsync(objs)
+        .thenApply(
+            stored -> {
+              for (int i = 0; i < stored.length; i++) {
+                if (stored[i]) {
+                  cache.put(objs[i]);
+                }
+              }
+              return stored;
+            });
+  }
+
   @Override
   public void upsertObj(@Nonnull Obj obj) throws ObjTooLargeException {
     try {
       persist.upsertObj(obj);
     } finally {
+      loads.forget(obj.id());
       cache.remove(obj.id());
     }
   }
@@ -274,6 +378,7 @@ class CachingPersistImpl implements Persist {
     } finally {
       for (Obj obj : objs) {
         if (obj != null) {
+          loads.forget(obj.id());
           cache.remove(obj.id());
         }
       }
@@ -285,6 +390,7 @@ class CachingPersistImpl implements Persist {
     try {
       persist.deleteObj(id);
     } finally {
+      loads.forget(id);
       cache.remove(id);
     }
   }
@@ -296,6 +402,7 @@ class CachingPersistImpl implements Persist {
     } finally {
       for (ObjId id : ids) {
         if (id != null) {
+          loads.forget(id);
           cache.remove(id);
         }
       }
@@ -307,6 +414,7 @@ class CachingPersistImpl implements Persist {
     try {
       return persist.deleteWithReferenced(obj);
     } finally {
+      loads.forget(obj.id());
       cache.remove(obj.id());
     }
   }
@@ -316,6 +424,7 @@ class CachingPersistImpl implements Persist {
     try {
       return persist.deleteConditional(obj);
     } finally {
+      loads.forget(obj.id());
       cache.remove(obj.id());
     }
   }
@@ -323,6 +432,7 @@ class CachingPersistImpl implements Persist {
   @Override
   public boolean updateConditional(@Nonnull UpdateableObj expected, @Nonnull UpdateableObj newValue)
       throws ObjTooLargeException {
+    loads.forget(expected.id());
     if (persist.updateConditional(expected, newValue)) {
       cache.put(newValue);
       return true;
@@ -337,6 +447,7 @@ class CachingPersistImpl implements Persist {
     try {
       persist.erase();
     } finally {
+      loads.forgetAll();
       cache.clear();
     }
   }
@@ -440,6 +551,29 @@ class CachingPersistImpl implements Persist {
     return fetchReferenceInternal(name, false);
   }
 
+  @Override
+  @Nonnull
+  public CompletionStage<Reference> fetchReferenceAsync(@Nonnull String name) {
+    Reference r = cache.getReference(name);
+    if (r == NON_EXISTENT_REFERENCE_SENTINEL) {
+      return CompletableFuture.completedFuture(null);
+    }
+    if (r != null) {
+      return CompletableFuture.completedFuture(r);
+    }
+    return persist
+        .fetchReferenceAsync(name)
+        .thenApply(
+            ref -> {
+              if (ref == null) {
+                cache.putReferenceNegative(name);
+              } else {
+                cache.putReferenceLocal(ref);
+              }
+              return ref;
+            });
+  }
+
   @Override
   public Reference fetchReferenceForUpdate(@Nonnull String name) {
     return fetchReferenceInternal(name, true);
@@ -525,4 +659,15 @@ class CachingPersistImpl implements Persist {
   public boolean isCaching() {
     return true;
   }
+
+  @Override
+  public boolean isAsyncNonBlocking() {
+    return persist.isAsyncNonBlocking();
+  }
+
+  @Override
+  @Nonnull
+  public CommitIndexCache commitIndexCache() {
+    return commitIndexes;
+  }
 }
@@ -27,12 +27,15 @@ import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.s
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.Scheduler;
 import com.google.common.annotations.VisibleForTesting;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.binder.BaseUnits;
 import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import jakarta.annotation.Nonnull;
 import java.lang.ref.SoftReference;
 import java.time.Duration;
@@ -40,6 +43,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.IntConsumer;
 import java.util.function.LongSupplier;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
+import org.projectnessie.versioned.storage.common.persist.CommitIndexCache;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.ObjType;
@@ -59,6 +63,9 @@ class CaffeineCacheBackend implements CacheBackend {
   public static final String METER_CACHE_ADMIT_CAPACITY = "cache.capacity.admitted";
   public static final String METER_CACHE_WEIGHT = "cache.weight";
   public static final String METER_CACHE_REJECTED_WEIGHT = "cache.rejected-weight";
+  public static final String METER_CACHE_DECODES = "cache.decodes";
+  public static final String METER_CACHE_HOT_ENTRIES = "cache.hot.entries";
+  public static final String METER_CACHE_HOT_WEIGHT = "cache.hot.weight";
 
   private final CacheConfig config;
   final Cache<CacheKeyValue, CacheKeyValue> cache;
@@ -70,6 +77,11 @@ class CaffeineCacheBackend implements CacheBackend {
   private final AtomicLong rejections = new AtomicLong();
   private final IntConsumer rejectionsWeight;
   private final LongSupplier weightSupplier;
+  private final int hotTierHits;
+  private final AtomicLong hotEntries = new AtomicLong();
+  private final AtomicLong hotWeight = new AtomicLong();
+  private final Counter decodes;
+  private final CommitIndexCacheImpl commitIndexes;
 
   CaffeineCacheBackend(CacheConfig config) {
     this.config = config;
@@ -77,6 +89,7 @@ class CaffeineCacheBackend implements CacheBackend {
     refCacheTtlNanos = config.referenceTtl().orElse(Duration.ZERO).toNanos();
     refCacheNegativeTtlNanos = config.referenceNegativeTtl().orElse(Duration.ZERO).toNanos();
     enableSoftReferences = config.enableSoftReferences().orElse(false);
+    hotTierHits = config.hotTierHits().orElse(0);
 
     var maxWeight = config.capacityMb() * ONE_MB;
     admitWeight = maxWeight + (long) (maxWeight * config.cacheCapacityOvershoot());
@@ -88,6 +101,13 @@ class CaffeineCacheBackend implements CacheBackend {
             .ticker(config.clockNanos()::getAsLong)
             .maximumWeight(maxWeight)
             .weigher(this::weigher)
+            .removalListener(
+                (CacheKeyValue key, CacheKeyValue value, RemovalCause cause) -> {
+                  if (value != null && value.hot != null) {
+                    hotEntries.decrementAndGet();
+                    hotWeight.addAndGet(-value.hotHeapSize());
+                  }
+                })
             .expireAfter(
                 new Expiry<>() {
                   @Override
@@ -161,14 +181,32 @@ class CaffeineCacheBackend implements CacheBackend {
                           .tag("cache", CACHE_NAME)
                           .baseUnit(BaseUnits.BYTES)
                           .register(reg);
+                  Gauge.builder(METER_CACHE_HOT_ENTRIES, "", x -> (double) hotEntries.get())
+                      .description("Number of objects cache entries holding a decoded object.")
+                      .tag("cache", CACHE_NAME)
+                      .register(reg);
+                  Gauge.builder(METER_CACHE_HOT_WEIGHT, "", x -> (double) hotWeight.get())
+                      .description("Estimated heap size of decoded objects in the objects cache.")
+                      .tag("cache", CACHE_NAME)
+                      .baseUnit(BaseUnits.BYTES)
+                      .register(reg);
                   return (IntConsumer) rejectedWeightSummary::record;
                 })
             .orElse(x -> {});
+    decodes =
+        Counter.builder(METER_CACHE_DECODES)
+            .description("Number of objects deserialized on objects cache hits.")
+            .tag("cache", CACHE_NAME)
+            .register(config.meterRegistry().orElseGet(CompositeMeterRegistry::new));
 
     this.cache = cacheBuilder.build();
 
     var eviction = cache.policy().eviction().orElseThrow();
     weightSupplier = () -> eviction.weightedSize().orElse(0L);
+
+    long commitIndexCapacityMb = config.commitIndexCapacityMb().orElse(0L);
+    commitIndexes =
+        commitIndexCapacityMb > 0L ? new CommitIndexCacheImpl(config, commitIndexCapacityMb) : null;
   }
 
   @VisibleForTesting
@@ -186,29 +224,99 @@ class CaffeineCacheBackend implements CacheBackend {
     return admitWeight;
   }
 
+  @VisibleForTesting
+  long hotEntries() {
+    return hotEntries.get();
+  }
+
+  @VisibleForTesting
+  long hotWeight() {
+    return hotWeight.get();
+  }
+
+  @VisibleForTesting
+  CommitIndexCacheImpl commitIndexes() {
+    return commitIndexes;
+  }
+
   @Override
   public Persist wrap(@Nonnull Persist persist) {
     ObjCacheImpl cache = new ObjCacheImpl(this, persist.config());
-    return new CachingPersistImpl(persist, cache);
+    return new CachingPersistImpl(
+        persist, cache, newLoadCoalescer(), commitIndexCache(persist.config().repositoryId()));
   }
 
-  private int weigher(CacheKeyValue key, CacheKeyValue ignoredValue) {
+  ObjLoadCoalescer newLoadCoalescer() {
+    return new ObjLoadCoalescer(config.meterRegistry());
+  }
+
+  CommitIndexCache commitIndexCache(String repositoryId) {
+    return commitIndexes != null
+        ? commitIndexes.forRepository(repositoryId)
+        : CommitIndexCache.noopCommitIndexCache();
+  }
+
+  private int weigher(CacheKeyValue key, CacheKeyValue value) {
     int size = key.heapSize();
+    size += value.hotHeapSize();
     size += CAFFEINE_OBJ_OVERHEAD;
     return size;
   }
 
   @Override
   public Obj get(@Nonnull String repositoryId, @Nonnull ObjId id) {
+    ObjCacheGetEvent event = new ObjCacheGetEvent();
+    event.begin();
     CacheKeyValue key = cacheKeyForRead(repositoryId, id);
     CacheKeyValue value = cache.getIfPresent(key);
     if (value == null) {
+      event.finish(repositoryId, ObjCacheGetEvent.RESULT_MISS);
       return null;
     }
     if (value == NON_EXISTING_SENTINEL) {
+      event.finish(repositoryId, ObjCacheGetEvent.RESULT_NOT_FOUND);
       return NOT_FOUND_OBJ_SENTINEL;
     }
-    return value.getObj();
+    Obj hot = value.hot;
+    if (hot != null) {
+      event.finish(repositoryId, ObjCacheGetEvent.RESULT_HOT);
+      return hot;
+    }
+    Obj obj = value.getObj(decodes, event);
+    if (hotTierHits > 0 && ++value.hits >= hotTierHits) {
+      promote(key, value, obj);
+    }
+    event.finish(repositoryId, ObjCacheGetEvent.RESULT_HIT);
+    return obj;
+  }
+
+  /**
+   * Replaces the cache entry with one that keeps the decoded object, if the cache has capacity for
+   * the decoded object's heap size. The replacement is only applied if the entry has not been
+   * changed concurrently.
+   */
+  private void promote(CacheKeyValue key, CacheKeyValue value, Obj obj) {
+    CacheKeyValue hotValue = value.withHot(obj);
+    int hotHeapSize = hotValue.hotHeapSize();
+    if (weightSupplier.getAsLong() + hotHeapSize >= admitWeight) {
+      return;
+    }
+    boolean[] promoted = new boolean[1];
+    cache
+        .asMap()
+        .computeIfPresent(
+            key,
+            (k, current) -> {
+              if (current != value) {
+                return current;
+              }
+              promoted[0] = true;
+              return hotValue;
+            });
+    if (promoted[0]) {
+      hotEntries.incrementAndGet();
+      hotWeight.addAndGet(hotHeapSize);
+    }
   }
 
   @Override
@@ -272,11 +380,17 @@ class CaffeineCacheBackend implements CacheBackend {
   public void remove(@Nonnull String repositoryId, @Nonnull ObjId id) {
     CacheKeyValue key = cacheKeyForRead(repositoryId, id);
     cache.invalidate(key);
+    if (commitIndexes != null) {
+      commitIndexes.remove(repositoryId, id);
+    }
   }
 
   @Override
   public void clear(@Nonnull String repositoryId) {
     cache.asMap().keySet().removeIf(k -> k.repositoryId.equals(repositoryId));
+    if (commitIndexes != null) {
+      commitIndexes.clear(repositoryId);
+    }
   }
 
   private ObjId refObjId(String name) {
@@ -383,6 +497,12 @@ class CaffeineCacheBackend implements CacheBackend {
     final byte[] serialized;
     java.lang.ref.Reference<Object> object;
 
+    /** Strongly referenced decoded object of a "hot" entry, {@code null} for other entries. */
+    final Obj hot;
+
+    /** Number of hits that had to decode the object, not thread-safe, only used as a heuristic. */
+    int hits;
+
     CacheKeyValue(String repositoryId, ObjId id, boolean enableSoftReferences) {
       this(repositoryId, id, 0L, enableSoftReferences);
     }
@@ -404,6 +524,32 @@ class CaffeineCacheBackend implements CacheBackend {
       this.expiresAtNanosEpoch = expiresAtNanosEpoch;
       this.serialized = serialized;
       this.object = enableSoftReferences ? new SoftReference<>(object, null) : null;
+      this.hot = null;
+    }
+
+    private CacheKeyValue(CacheKeyValue source, Obj hot) {
+      this.repositoryId = source.repositoryId;
+      this.id = source.id;
+      this.expiresAtNanosEpoch = source.expiresAtNanosEpoch;
+      this.serialized = source.serialized;
+      this.object = null;
+      this.hot = hot;
+    }
+
+    CacheKeyValue withHot(Obj hot) {
+      return new CacheKeyValue(this, hot);
+    }
+
+    /**
+     * Estimated heap size of the decoded object, derived from the size of its serialized
+     * representation, because computing the exact heap size of an object graph is too expensive.
+     */
+    int hotHeapSize() {
+      if (hot == null) {
+        return 0;
+      }
+      byte[] s = serialized;
+      return DECODED_OBJ_OVERHEAD + (s != null ? s.length * DECODED_SIZE_FACTOR : 0);
     }
 
     int heapSize() {
@@ -440,13 +586,17 @@ class CaffeineCacheBackend implements CacheBackend {
       return "{" + repositoryId + ", " + id + '}';
     }
 
-    Obj getObj() {
+    Obj getObj(Counter decodes, ObjCacheGetEvent event) {
       var softRef = this.object;
       if (softRef == null) {
+        decodes.increment();
+        event.decoded = true;
         return ProtoSerialization.deserializeObj(id, 0L, this.serialized, null);
       }
       Obj obj = (Obj) this.object.get();
       if (obj == null) {
+        decodes.increment();
+        event.decoded = true;
         obj = ProtoSerialization.deserializeObj(id, 0L, this.serialized, null);
         // re-create the soft reference - but don't care about JMM side effects
         this.object = new SoftReference<>(obj);
@@ -479,11 +629,13 @@ class CaffeineCacheBackend implements CacheBackend {
    24   4   org.projectnessie.versioned.storage.common.persist.ObjId CacheKeyValue.id             null
    28   4                                                     byte[] CacheKeyValue.serialized     null
    32   4                                    java.lang.ref.Reference CacheKeyValue.object         null
-   36   4                                                            (object alignment gap)
-  Instance size: 40 bytes
+   36   4     org.projectnessie.versioned.storage.common.persist.Obj CacheKeyValue.hot            null
+   40   4                                                        int CacheKeyValue.hits           0
+   44   4                                                            (object alignment gap)
+  Instance size: 48 bytes
   Space losses: 0 bytes internal + 4 bytes external = 4 bytes total
   */
-  static final int OBJ_SIZE = 40;
+  static final int OBJ_SIZE = 48;
   /*
   Array overhead: 16 bytes
   */
@@ -507,4 +659,10 @@ class CaffeineCacheBackend implements CacheBackend {
   Assume an overhead of 2 objects for each entry (java.util.concurrent.ConcurrentHashMap$Node is 32 bytes) in Caffeine.
   */
   static final int CAFFEINE_OBJ_OVERHEAD = 2 * 32;
+  /*
+  Decoded objects are assumed to be a few times larger than their serialized representation,
+  mostly due to object headers, references and Java strings.
+  */
+  static final int DECODED_OBJ_OVERHEAD = 64;
+  static final int DECODED_SIZE_FACTOR = 3;
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.CAFFEINE_OBJ_OVERHEAD;
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.METER_CACHE_CAPACITY;
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.METER_CACHE_WEIGHT;
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.ONE_MB;
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.cacheKeyForRead;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.google.common.annotations.VisibleForTesting;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+import jakarta.annotation.Nonnull;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.CacheKeyValue;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+import org.projectnessie.versioned.storage.common.persist.CommitIndexCache;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+/**
+ * Bounded cache of shared commit index views for all repositories of a {@link CacheBackend}, see
+ * {@link CommitIndexCache}.
+ *
+ * <p>The weight of a cache entry is the estimated heap size of the index view. Index views load
+ * reference index stripes lazily, the weight of an entry is updated when a stripe has been loaded.
+ */
+final class CommitIndexCacheImpl {
+
+  public static final String CACHE_NAME = "nessie-commit-indexes";
+
+  final Cache<CacheKeyValue, View> cache;
+  private final LongSupplier weightSupplier;
+
+  CommitIndexCacheImpl(CacheConfig config, long capacityMb) {
+    long maxWeight = capacityMb * ONE_MB;
+
+    Caffeine<CacheKeyValue, View> cacheBuilder =
+        Caffeine.newBuilder()
+            .executor(config.executor())
+            .scheduler(Scheduler.systemScheduler())
+            .ticker(config.clockNanos()::getAsLong)
+            .maximumWeight(maxWeight)
+            .weigher(CommitIndexCacheImpl::weigher);
+    config
+        .meterRegistry()
+        .ifPresent(
+            reg -> {
+              cacheBuilder.recordStats(() -> new CaffeineStatsCounter(reg, CACHE_NAME));
+              Gauge.builder(METER_CACHE_CAPACITY, "", x -> maxWeight)
+                  .description("Total capacity of the commit indexes cache in bytes.")
+                  .tag("cache", CACHE_NAME)
+                  .baseUnit(BaseUnits.BYTES)
+                  .register(reg);
+              Gauge.builder(METER_CACHE_WEIGHT, "", x -> (double) currentWeightReported())
+                  .description("Current reported weight of the commit indexes cache in bytes.")
+                  .tag("cache", CACHE_NAME)
+                  .baseUnit(BaseUnits.BYTES)
+                  .register(reg);
+            });
+
+    this.cache = cacheBuilder.build();
+
+    var eviction = cache.policy().eviction().orElseThrow();
+    weightSupplier = () -> eviction.weightedSize().orElse(0L);
+  }
+
+  @VisibleForTesting
+  long currentWeightReported() {
+    return weightSupplier.getAsLong();
+  }
+
+  private static int weigher(CacheKeyValue key, View value) {
+    long size = key.heapSize() + value.heapSize.get() + CAFFEINE_OBJ_OVERHEAD;
+    return (int) Math.min(size, Integer.MAX_VALUE);
+  }
+
+  CommitIndexCache forRepository(@Nonnull String repositoryId) {
+    return (commit, builder) -> get(repositoryId, commit, builder);
+  }
+
+  StoreIndex<CommitOp> get(
+      @Nonnull String repositoryId,
+      @Nonnull CommitObj commit,
+      @Nonnull BiFunction<CommitObj, LongConsumer, StoreIndex<CommitOp>> builder) {
+    CacheKeyValue key = cacheKeyForRead(repositoryId, commit.id());
+    View view =
+        cache.get(
+            key,
+            k -> {
+              View v = new View(k);
+              v.index = builder.apply(commit, v::addHeapSize);
+              return v;
+            });
+    view.cached = true;
+    return view.index;
+  }
+
+  void remove(@Nonnull String repositoryId, @Nonnull ObjId id) {
+    cache.invalidate(cacheKeyForRead(repositoryId, id));
+  }
+
+  void clear(@Nonnull String repositoryId) {
+    cache.asMap().keySet().removeIf(k -> k.repositoryId.equals(repositoryId));
+  }
+
+  final class View {
+    final CacheKeyValue key;
+    final AtomicLong heapSize = new AtomicLong();
+    StoreIndex<CommitOp> index;
+
+    /**
+     * Set once the view has been added to the cache, the weight of the cache entry is updated for
+     * heap size changes after that.
+     */
+    volatile boolean cached;
+
+    View(CacheKeyValue key) {
+      this.key = key;
+    }
+
+    void addHeapSize(long size) {
+      heapSize.addAndGet(size);
+      if (cached) {
+        // Re-weigh the cache entry, a no-op if the view is no longer cached.
+        cache.asMap().replace(key, this, this);
+      }
+    }
+  }
+}
@@ -16,7 +16,9 @@
 package org.projectnessie.versioned.storage.cache;
 
 import jakarta.annotation.Nonnull;
+import java.util.Optional;
 import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
+import org.projectnessie.versioned.storage.common.persist.CommitIndexCache;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.ObjType;
@@ -50,7 +52,15 @@ final class DistributedInvalidationsCacheBackend implements CacheBackend {
   @Override
   public Persist wrap(@Nonnull Persist persist) {
     ObjCacheImpl cache = new ObjCacheImpl(this, persist.config());
-    return new CachingPersistImpl(persist, cache);
+    ObjLoadCoalescer loads =
+        local instanceof CaffeineCacheBackend
+            ? ((CaffeineCacheBackend) local).newLoadCoalescer()
+            : new ObjLoadCoalescer(Optional.empty());
+    CommitIndexCache commitIndexes =
+        local instanceof CaffeineCacheBackend
+            ? ((CaffeineCacheBackend) local).commitIndexCache(persist.config().repositoryId())
+            : CommitIndexCache.noopCommitIndexCache();
+    return new CachingPersistImpl(persist, cache, loads, commitIndexes);
   }
 
   @Override
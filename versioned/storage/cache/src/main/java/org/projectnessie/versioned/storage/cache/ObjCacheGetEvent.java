@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR event for an objects cache lookup, see {@link CaffeineCacheBackend}. */
+@Name(ObjCacheGetEvent.NAME)
+@Label("Objects Cache Get")
+@Category({"Nessie", "Storage", "Cache"})
+@Description("Lookup of an object in the objects cache.")
+@StackTrace(false)
+public final class ObjCacheGetEvent extends Event {
+  public static final String NAME = "org.projectnessie.storage.ObjCacheGet";
+
+  static final String RESULT_MISS = "miss";
+  static final String RESULT_NOT_FOUND = "not-found";
+  static final String RESULT_HOT = "hot";
+  static final String RESULT_HIT = "hit";
+
+  @Label("Repository ID")
+  String repositoryId;
+
+  @Label("Result")
+  @Description(
+      "One of miss, not-found (cached non-existence), hot (decoded object from the hot tier) or "
+          + "hit.")
+  String result;
+
+  @Label("Decoded")
+  @Description("Whether the object had to be deserialized for a cache hit.")
+  boolean decoded;
+
+  void finish(String repositoryId, String result) {
+    end();
+    if (shouldCommit()) {
+      this.repositoryId = repositoryId;
+      this.result = result;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.CACHE_NAME;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.ObjType;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+
+/**
+ * Coalesces concurrent cache misses for the same object, so that only one caller fetches the
+ * object from the backing {@link Persist} while concurrent callers for the same object wait for
+ * that result.
+ *
+ * <p>In-flight loads are keyed by object ID. A load is only coalesced with an in-flight load for
+ * the same object type, because the backing {@link Persist} returns "not found" for objects of a
+ * different type. A caller that requests another type than the in-flight load loads the object on
+ * its own without registering it. A caller always loads the objects it "owns" before it waits for
+ * loads owned by other callers, which prevents deadlocks between bulk loads with overlapping IDs.
+ */
+final class ObjLoadCoalescer {
+  static final String METER_CACHE_FETCHES = "cache.fetches";
+
+  private final ConcurrentMap<ObjId, Load> inFlight = new ConcurrentHashMap<>();
+  private final Counter issued;
+  private final Counter coalesced;
+
+  ObjLoadCoalescer(Optional<MeterRegistry> meterRegistry) {
+    MeterRegistry registry = meterRegistry.orElseGet(CompositeMeterRegistry::new);
+    this.issued = fetchesCounter(registry, "issued");
+    this.coalesced = fetchesCounter(registry, "coalesced");
+  }
+
+  private static Counter fetchesCounter(MeterRegistry registry, String result) {
+    return Counter.builder(METER_CACHE_FETCHES)
+        .description("Object fetches from the backing store on cache misses.")
+        .tag("cache", CACHE_NAME)
+        .tag("result", result)
+        .register(registry);
+  }
+
+  @FunctionalInterface
+  interface SingleLoader {
+    /** Loads the object from the backing store, returns {@code null} if it does not exist. */
+    Obj load(ObjId id);
+  }
+
+  @FunctionalInterface
+  interface BulkLoader {
+    /**
+     * Loads the objects from the backing store, the returned array has the same size as {@code
+     * ids} and contains {@code null} for {@code null} IDs and objects that do not exist.
+     */
+    Obj[] load(ObjId[] ids);
+  }
+
+  @FunctionalInterface
+  interface AsyncBulkLoader {
+    /** Asynchronous variant of {@link BulkLoader#load(ObjId[])}. */
+    CompletionStage<Obj[]> load(ObjId[] ids);
+  }
+
+  /** Loads a single object, returns {@code null} if the object does not exist. */
+  Obj load(ObjId id, ObjType type, SingleLoader loader) {
+    Load own = new Load(type);
+    Load existing = inFlight.putIfAbsent(id, own);
+    if (existing != null && existing.matches(type)) {
+      coalesced.increment();
+      return join(existing);
+    }
+
+    issued.increment();
+    try {
+      Obj obj = loader.load(id);
+      own.complete(obj);
+      return obj;
+    } catch (RuntimeException | Error e) {
+      own.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(id, own);
+    }
+  }
+
+  /**
+   * Loads multiple objects, the returned array has the same size as {@code ids} and contains
+   * {@code null} for {@code null} IDs and objects that do not exist.
+   */
+  Obj[] loadAll(ObjId[] ids, ObjType type, BulkLoader loader) {
+    int num = ids.length;
+    Obj[] result = new Obj[num];
+
+    @SuppressWarnings("unchecked")
+    CompletableFuture<Obj>[] futures = new CompletableFuture[num];
+    boolean[] owned = new boolean[num];
+    ObjId[] ownIds = register(ids, type, futures, owned);
+
+    if (ownIds != null) {
+      try {
+        completeOwned(ids, futures, owned, loader.load(ownIds), null);
+      } catch (RuntimeException | Error e) {
+        completeOwned(ids, futures, owned, null, e);
+        throw e;
+      }
+    }
+
+    for (int i = 0; i < num; i++) {
+      if (futures[i] != null) {
+        result[i] = join(futures[i]);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Asynchronous variant of {@link #loadAll(ObjId[], ObjType, BulkLoader)}, the returned stage
+   * completes when the objects owned by this call and the loads owned by concurrent callers have
+   * completed. Never blocks the calling thread.
+   */
+  CompletionStage<Obj[]> loadAllAsync(ObjId[] ids, ObjType type, AsyncBulkLoader loader) {
+    int num = ids.length;
+
+    @SuppressWarnings("unchecked")
+    CompletableFuture<Obj>[] futures = new CompletableFuture[num];
+    boolean[] owned = new boolean[num];
+    ObjId[] ownIds = register(ids, type, futures, owned);
+
+    if (ownIds != null) {
+      CompletionStage<Obj[]> load;
+      try {
+        load = loader.load(ownIds);
+      } catch (RuntimeException | Error e) {
+        load = CompletableFuture.failedFuture(e);
+      }
+      load.whenComplete(
+          (loaded, e) -> {
+            Throwable failure =
+                e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            completeOwned(ids, futures, owned, loaded, failure);
+          });
+    }
+
+    List<CompletableFuture<Obj>> pending = new ArrayList<>();
+    for (CompletableFuture<Obj> future : futures) {
+      if (future != null) {
+        pending.add(future);
+      }
+    }
+    return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+        .thenApply(
+            x -> {
+              Obj[] result = new Obj[num];
+              for (int i = 0; i < num; i++) {
+                if (futures[i] != null) {
+                  result[i] = futures[i].join();
+                }
+              }
+              return result;
+            });
+  }
+
+  /**
+   * Registers the loads for the given IDs, either as owned by the current caller or as coalesced
+   * with an in-flight load, returns the IDs to load by the current caller or {@code null}.
+   */
+  private ObjId[] register(
+      ObjId[] ids, ObjType type, CompletableFuture<Obj>[] futures, boolean[] owned) {
+    ObjId[] ownIds = null;
+    for (int i = 0; i < ids.length; i++) {
+      ObjId id = ids[i];
+      if (id == null) {
+        continue;
+      }
+      Load own = new Load(type);
+      Load existing = inFlight.putIfAbsent(id, own);
+      if (existing != null && existing.matches(type)) {
+        coalesced.increment();
+        futures[i] = existing;
+      } else {
+        issued.increment();
+        if (ownIds == null) {
+          ownIds = new ObjId[ids.length];
+        }
+        ownIds[i] = id;
+        futures[i] = own;
+        owned[i] = true;
+      }
+    }
+    return ownIds;
+  }
+
+  private void completeOwned(
+      ObjId[] ids,
+      CompletableFuture<Obj>[] futures,
+      boolean[] owned,
+      Obj[] loaded,
+      Throwable failure) {
+    for (int i = 0; i < ids.length; i++) {
+      if (owned[i]) {
+        if (failure != null) {
+          futures[i].completeExceptionally(failure);
+        } else {
+          futures[i].complete(loaded[i]);
+        }
+        inFlight.remove(ids[i], futures[i]);
+      }
+    }
+  }
+
+  /**
+   * Detaches in-flight loads for the given object, so that later cache misses fetch the object
+   * again, used when the object is updated or deleted.
+   */
+  void forget(ObjId id) {
+    inFlight.remove(id);
+  }
+
+  void forgetAll() {
+    inFlight.clear();
+  }
+
+  @VisibleForTesting
+  int inFlightCount() {
+    return inFlight.size();
+  }
+
+  private static Obj join(CompletableFuture<Obj> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * An in-flight load of an object, uses identity equality, so that only the owner removes it from
+   * the in-flight loads.
+   */
+  private static final class Load extends CompletableFuture<Obj> {
+    private final ObjType type;
+
+    Load(ObjType type) {
+      this.type = type;
+    }
+
+    boolean matches(ObjType type) {
+      return Objects.equals(this.type, type);
+    }
+  }
+}
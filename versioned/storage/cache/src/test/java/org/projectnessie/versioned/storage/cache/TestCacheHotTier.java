@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.METER_CACHE_DECODES;
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.METER_CACHE_HOT_ENTRIES;
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.METER_CACHE_HOT_WEIGHT;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.commontests.objtypes.SimpleTestObj;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestCacheHotTier {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  public void promoteAfterHits() {
+    CaffeineCacheBackend backend = newBackend(3);
+    Obj obj = SimpleTestObj.builder().id(randomObjId()).text("hello").build();
+    backend.put("repo", obj);
+    backend.cache.cleanUp();
+    long weightCold = backend.currentWeightReported();
+
+    // the first hits decode the object
+    Obj first = backend.get("repo", obj.id());
+    Obj second = backend.get("repo", obj.id());
+    soft.assertThat(first).isEqualTo(obj).isNotSameAs(second);
+    soft.assertThat(decodes()).isEqualTo(2d);
+    soft.assertThat(backend.hotEntries()).isEqualTo(0L);
+
+    // the third hit promotes the entry
+    Obj third = backend.get("repo", obj.id());
+    soft.assertThat(third).isEqualTo(obj);
+    backend.cache.cleanUp();
+    soft.assertThat(decodes()).isEqualTo(3d);
+    soft.assertThat(backend.hotEntries()).isEqualTo(1L);
+    soft.assertThat(backend.hotWeight()).isGreaterThan(0L);
+    soft.assertThat(backend.currentWeightReported()).isEqualTo(weightCold + backend.hotWeight());
+    soft.assertThat(gauge(METER_CACHE_HOT_ENTRIES)).isEqualTo(1d);
+    soft.assertThat(gauge(METER_CACHE_HOT_WEIGHT)).isEqualTo((double) backend.hotWeight());
+
+    // further hits return the decoded object
+    soft.assertThat(backend.get("repo", obj.id())).isSameAs(third);
+    soft.assertThat(backend.get("repo", obj.id())).isSameAs(third);
+    soft.assertThat(decodes()).isEqualTo(3d);
+
+    // replacing or removing the entry removes it from the hot tier
+    backend.put("repo", obj);
+    backend.cache.cleanUp();
+    soft.assertThat(backend.hotEntries()).isEqualTo(0L);
+    soft.assertThat(backend.hotWeight()).isEqualTo(0L);
+    soft.assertThat(backend.currentWeightReported()).isEqualTo(weightCold);
+    soft.assertThat(backend.get("repo", obj.id())).isEqualTo(obj);
+    soft.assertThat(decodes()).isEqualTo(4d);
+
+    for (int i = 0; i < 3; i++) {
+      backend.get("repo", obj.id());
+    }
+    soft.assertThat(backend.hotEntries()).isEqualTo(1L);
+    backend.remove("repo", obj.id());
+    soft.assertThat(backend.hotEntries()).isEqualTo(0L);
+    soft.assertThat(backend.hotWeight()).isEqualTo(0L);
+  }
+
+  @Test
+  public void disabled() {
+    CaffeineCacheBackend backend = newBackend(0);
+    Obj obj = SimpleTestObj.builder().id(randomObjId()).text("hello").build();
+    backend.put("repo", obj);
+
+    for (int i = 0; i < 10; i++) {
+      soft.assertThat(backend.get("repo", obj.id())).isEqualTo(obj);
+    }
+    soft.assertThat(decodes()).isEqualTo(10d);
+    soft.assertThat(backend.hotEntries()).isEqualTo(0L);
+  }
+
+  private CaffeineCacheBackend newBackend(int hotTierHits) {
+    return new CaffeineCacheBackend(
+        CacheConfig.builder()
+            .capacityMb(16)
+            .cacheCapacityOvershoot(0.1d)
+            .meterRegistry(meterRegistry)
+            .hotTierHits(hotTierHits)
+            .build());
+  }
+
+  private double decodes() {
+    return meterRegistry.get(METER_CACHE_DECODES).counter().count();
+  }
+
+  private double gauge(String name) {
+    return meterRegistry.get(name).gauge().value();
+  }
+}
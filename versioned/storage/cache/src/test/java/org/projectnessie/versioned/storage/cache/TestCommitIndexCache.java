@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static org.projectnessie.versioned.storage.cache.CommitIndexCacheImpl.CACHE_NAME;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.newStoreIndex;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitHeaders.EMPTY_COMMIT_HEADERS;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitObj.commitBuilder;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.COMMIT_OP_SERIALIZER;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ_ID;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.LongConsumer;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+import org.projectnessie.versioned.storage.common.persist.CommitIndexCache;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestCommitIndexCache {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  private SimpleMeterRegistry meterRegistry;
+  private AtomicInteger builds;
+  private AtomicReference<LongConsumer> heapSize;
+  private BiFunction<CommitObj, LongConsumer, StoreIndex<CommitOp>> builder;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    builds = new AtomicInteger();
+    heapSize = new AtomicReference<>();
+    builder =
+        (commit, heap) -> {
+          builds.incrementAndGet();
+          heapSize.set(heap);
+          heap.accept(1000L);
+          return newStoreIndex(COMMIT_OP_SERIALIZER);
+        };
+  }
+
+  @Test
+  public void sharedViews() {
+    CaffeineCacheBackend backend = newBackend(16);
+    CommitIndexCacheImpl commitIndexes = backend.commitIndexes();
+    CommitIndexCache cache = backend.commitIndexCache("repo");
+    CommitObj commit = commit();
+
+    StoreIndex<CommitOp> first = cache.get(commit, builder);
+    StoreIndex<CommitOp> second = cache.get(commit, builder);
+    soft.assertThat(second).isSameAs(first);
+    soft.assertThat(builds).hasValue(1);
+    soft.assertThat(gets("miss")).isEqualTo(1d);
+    soft.assertThat(gets("hit")).isEqualTo(1d);
+
+    // other repositories do not share the view
+    soft.assertThat(backend.commitIndexCache("other").get(commit, builder)).isNotSameAs(first);
+    soft.assertThat(builds).hasValue(2);
+
+    // lazily loaded parts of a view update the weight of the cache entry
+    commitIndexes.cache.cleanUp();
+    long weight = commitIndexes.currentWeightReported();
+    heapSize.get().accept(5000L);
+    commitIndexes.cache.cleanUp();
+    soft.assertThat(commitIndexes.currentWeightReported()).isEqualTo(weight + 5000L);
+
+    backend.remove("repo", commit.id());
+    soft.assertThat(cache.get(commit, builder)).isNotSameAs(first);
+    soft.assertThat(builds).hasValue(3);
+
+    backend.clear("repo");
+    cache.get(commit, builder);
+    soft.assertThat(builds).hasValue(4);
+    soft.assertThat(backend.commitIndexCache("other").get(commit, builder)).isNotNull();
+    soft.assertThat(builds).hasValue(4);
+  }
+
+  @Test
+  public void evictsByHeapSize() {
+    CaffeineCacheBackend backend = newBackend(1);
+    CommitIndexCacheImpl commitIndexes = backend.commitIndexes();
+    CommitIndexCache cache = backend.commitIndexCache("repo");
+
+    for (int i = 0; i < 5000; i++) {
+      cache.get(commit(), builder);
+    }
+    commitIndexes.cache.cleanUp();
+    soft.assertThat(commitIndexes.currentWeightReported())
+        .isLessThanOrEqualTo(CaffeineCacheBackend.ONE_MB);
+    soft.assertThat(commitIndexes.cache.estimatedSize()).isLessThan(5000L);
+  }
+
+  @Test
+  public void disabled() {
+    CaffeineCacheBackend backend = newBackend(0);
+    soft.assertThat(backend.commitIndexes()).isNull();
+
+    CommitIndexCache cache = backend.commitIndexCache("repo");
+    CommitObj commit = commit();
+    soft.assertThat(cache.get(commit, builder)).isNotSameAs(cache.get(commit, builder));
+    soft.assertThat(builds).hasValue(2);
+  }
+
+  private CaffeineCacheBackend newBackend(long commitIndexCapacityMb) {
+    return new CaffeineCacheBackend(
+        CacheConfig.builder()
+            .capacityMb(16)
+            .cacheCapacityOvershoot(0.1d)
+            .meterRegistry(meterRegistry)
+            .commitIndexCapacityMb(commitIndexCapacityMb)
+            .build());
+  }
+
+  private static CommitObj commit() {
+    return commitBuilder()
+        .id(randomObjId())
+        .seq(1L)
+        .created(42L)
+        .addTail(EMPTY_OBJ_ID)
+        .message("msg")
+        .headers(EMPTY_COMMIT_HEADERS)
+        .incrementalIndex(newStoreIndex(COMMIT_OP_SERIALIZER).serialize())
+        .build();
+  }
+
+  private double gets(String result) {
+    return meterRegistry
+        .get("cache.gets")
+        .tag("cache", CACHE_NAME)
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+}
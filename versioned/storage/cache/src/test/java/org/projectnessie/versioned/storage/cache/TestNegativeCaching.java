@@ -15,8 +15,11 @@
  */
 package org.projectnessie.versioned.storage.cache;
 
+import static org.assertj.core.api.InstanceOfAssertFactories.list;
+import static org.assertj.core.api.InstanceOfAssertFactories.type;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -31,6 +34,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.projectnessie.versioned.storage.cache.CacheTestObjTypeBundle.NegativeCachingObj;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
+import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.testextension.NessiePersist;
@@ -236,4 +240,31 @@ public class TestNegativeCaching {
 
     negativeCacheFetchRepeat(cachedPersist, backing, id);
   }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void fetchObjsFailsBeforeCaching(boolean enableSoftReferences) throws Exception {
+    Persist backing = spy(persist);
+    CacheBackend cacheBackend =
+        spy(
+            PersistCaches.newBackend(
+                CacheConfig.builder()
+                    .capacityMb(16)
+                    .enableSoftReferences(enableSoftReferences)
+                    .cacheCapacityOvershoot(0.1d)
+                    .build()));
+    Persist cachedPersist = cacheBackend.wrap(backing);
+
+    ObjId id = randomObjId();
+
+    soft.assertThatThrownBy(() -> cachedPersist.fetchObjs(new ObjId[] {id}))
+        .isInstanceOf(ObjNotFoundException.class)
+        .asInstanceOf(type(ObjNotFoundException.class))
+        .extracting(ObjNotFoundException::objIds, list(ObjId.class))
+        .containsExactly(id);
+    verify(backing).fetchTypedObjsIfExist(new ObjId[] {id}, null, Obj.class);
+    // 'fetchObjs' fails before missing objects are marked as non-existing in the cache
+    verify(cacheBackend, never()).remove(any(), any());
+    verify(cacheBackend, never()).putNegative(any(), any(), any());
+  }
 }
@@ -0,0 +1,312 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.mockito.Mockito.mock;
+import static org.projectnessie.versioned.storage.cache.ObjLoadCoalescer.METER_CACHE_FETCHES;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.COMMIT;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.VALUE;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestObjLoadCoalescer {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  private SimpleMeterRegistry meterRegistry;
+  private ObjLoadCoalescer loads;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    loads = new ObjLoadCoalescer(Optional.of(meterRegistry));
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void concurrentLoadsOfSameObject() throws Exception {
+    ObjId id = randomObjId();
+    Obj obj = mock(Obj.class);
+    AtomicInteger loaderCalls = new AtomicInteger();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    Future<Obj> leader =
+        executor.submit(
+            () ->
+                loads.load(
+                    id,
+                    VALUE,
+                    i -> {
+                      loaderCalls.incrementAndGet();
+                      loading.countDown();
+                      await(release);
+                      return obj;
+                    }));
+    loading.await(30, SECONDS);
+
+    Future<Obj> follower =
+        executor.submit(
+            () ->
+                loads.load(
+                    id,
+                    VALUE,
+                    i -> {
+                      loaderCalls.incrementAndGet();
+                      return obj;
+                    }));
+    while (fetches("coalesced") == 0d) {
+      Thread.sleep(1L);
+    }
+    release.countDown();
+
+    soft.assertThat(leader.get(30, SECONDS)).isSameAs(obj);
+    soft.assertThat(follower.get(30, SECONDS)).isSameAs(obj);
+    soft.assertThat(loaderCalls).hasValue(1);
+    soft.assertThat(fetches("issued")).isEqualTo(1d);
+    soft.assertThat(fetches("coalesced")).isEqualTo(1d);
+    soft.assertThat(loads.inFlightCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void differentTypesAreNotCoalesced() {
+    ObjId id = randomObjId();
+    Obj obj = mock(Obj.class);
+
+    soft.assertThat(loads.load(id, VALUE, i -> obj)).isSameAs(obj);
+    soft.assertThat(loads.load(id, COMMIT, i -> null)).isNull();
+    soft.assertThat(fetches("issued")).isEqualTo(2d);
+    soft.assertThat(fetches("coalesced")).isEqualTo(0d);
+  }
+
+  @Test
+  public void differentTypeWhileInFlight() throws Exception {
+    ObjId id = randomObjId();
+    Obj obj = mock(Obj.class);
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    Future<Obj> leader =
+        executor.submit(
+            () ->
+                loads.load(
+                    id,
+                    VALUE,
+                    i -> {
+                      loading.countDown();
+                      await(release);
+                      return obj;
+                    }));
+    loading.await(30, SECONDS);
+
+    // Loads for another type are not coalesced and do not replace the in-flight load
+    soft.assertThat(loads.load(id, COMMIT, i -> null)).isNull();
+    soft.assertThat(loads.inFlightCount()).isEqualTo(1);
+
+    release.countDown();
+    soft.assertThat(leader.get(30, SECONDS)).isSameAs(obj);
+    soft.assertThat(fetches("issued")).isEqualTo(2d);
+    soft.assertThat(fetches("coalesced")).isEqualTo(0d);
+    soft.assertThat(loads.inFlightCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void overlappingBulkLoads() throws Exception {
+    ObjId shared = randomObjId();
+    ObjId first = randomObjId();
+    ObjId second = randomObjId();
+    Obj sharedObj = mock(Obj.class);
+    Obj firstObj = mock(Obj.class);
+    Obj secondObj = mock(Obj.class);
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    Future<Obj[]> leader =
+        executor.submit(
+            () ->
+                loads.loadAll(
+                    new ObjId[] {shared, first, null},
+                    VALUE,
+                    ids -> {
+                      loading.countDown();
+                      await(release);
+                      return new Obj[] {sharedObj, firstObj, null};
+                    }));
+    loading.await(30, SECONDS);
+
+    ObjId[][] requested = new ObjId[1][];
+    Future<Obj[]> follower =
+        executor.submit(
+            () ->
+                loads.loadAll(
+                    new ObjId[] {second, shared},
+                    VALUE,
+                    ids -> {
+                      requested[0] = ids;
+                      return new Obj[] {secondObj, null};
+                    }));
+    while (fetches("coalesced") == 0d) {
+      Thread.sleep(1L);
+    }
+    release.countDown();
+
+    soft.assertThat(leader.get(30, SECONDS)).containsExactly(sharedObj, firstObj, null);
+    soft.assertThat(follower.get(30, SECONDS)).containsExactly(secondObj, sharedObj);
+    soft.assertThat(requested[0]).containsExactly(second, null);
+    soft.assertThat(fetches("issued")).isEqualTo(3d);
+    soft.assertThat(fetches("coalesced")).isEqualTo(1d);
+    soft.assertThat(loads.inFlightCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void asyncBulkLoadsCoalesce() throws Exception {
+    ObjId shared = randomObjId();
+    ObjId other = randomObjId();
+    Obj sharedObj = mock(Obj.class);
+    Obj otherObj = mock(Obj.class);
+    CompletableFuture<Obj[]> backend = new CompletableFuture<>();
+
+    CompletionStage<Obj[]> leader =
+        loads.loadAllAsync(new ObjId[] {shared, null}, VALUE, ids -> backend);
+    ObjId[][] requested = new ObjId[1][];
+    CompletionStage<Obj[]> follower =
+        loads.loadAllAsync(
+            new ObjId[] {other, shared},
+            VALUE,
+            ids -> {
+              requested[0] = ids;
+              return CompletableFuture.completedFuture(new Obj[] {otherObj, null});
+            });
+
+    soft.assertThat(requested[0]).containsExactly(other, null);
+    soft.assertThat(leader.toCompletableFuture()).isNotDone();
+    soft.assertThat(follower.toCompletableFuture()).isNotDone();
+    soft.assertThat(loads.inFlightCount()).isEqualTo(1);
+
+    backend.complete(new Obj[] {sharedObj, null});
+
+    soft.assertThat(leader.toCompletableFuture().get(30, SECONDS)).containsExactly(sharedObj, null);
+    soft.assertThat(follower.toCompletableFuture().get(30, SECONDS))
+        .containsExactly(otherObj, sharedObj);
+    soft.assertThat(fetches("issued")).isEqualTo(2d);
+    soft.assertThat(fetches("coalesced")).isEqualTo(1d);
+    soft.assertThat(loads.inFlightCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void failurePropagatesToWaiters() throws Exception {
+    ObjId id = randomObjId();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    Future<Obj> leader =
+        executor.submit(
+            () ->
+                loads.load(
+                    id,
+                    VALUE,
+                    i -> {
+                      loading.countDown();
+                      await(release);
+                      throw new IllegalStateException("boom");
+                    }));
+    loading.await(30, SECONDS);
+
+    Future<Obj> follower = executor.submit(() -> loads.load(id, VALUE, i -> mock(Obj.class)));
+    while (fetches("coalesced") == 0d) {
+      Thread.sleep(1L);
+    }
+    release.countDown();
+
+    soft.assertThatThrownBy(() -> leader.get(30, SECONDS))
+        .cause()
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("boom");
+    soft.assertThatThrownBy(() -> follower.get(30, SECONDS))
+        .cause()
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("boom");
+    soft.assertThat(loads.inFlightCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void forgetDetachesInFlightLoad() throws Exception {
+    ObjId id = randomObjId();
+    Obj stale = mock(Obj.class);
+    Obj fresh = mock(Obj.class);
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    Future<Obj> leader =
+        executor.submit(
+            () ->
+                loads.load(
+                    id,
+                    VALUE,
+                    i -> {
+                      loading.countDown();
+                      await(release);
+                      return stale;
+                    }));
+    loading.await(30, SECONDS);
+
+    loads.forget(id);
+    soft.assertThat(loads.inFlightCount()).isEqualTo(0);
+    soft.assertThat(loads.load(id, VALUE, i -> fresh)).isSameAs(fresh);
+
+    release.countDown();
+    soft.assertThat(leader.get(30, SECONDS)).isSameAs(stale);
+    soft.assertThat(fetches("issued")).isEqualTo(2d);
+    soft.assertThat(fetches("coalesced")).isEqualTo(0d);
+  }
+
+  private double fetches(String result) {
+    return meterRegistry.get(METER_CACHE_FETCHES).tag("result", result).counter().count();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(30, SECONDS);
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -38,6 +38,7 @@ import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.MAX_CONCURRENT_STORES;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.PURGE_REFERENCE;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.SCAN_OBJS;
+import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.SELECT_BATCH_SIZE;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.STORE_OBJ;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.UPDATE_OBJ;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.UPDATE_OBJ_REFERENCED;
@@ -57,13 +58,20 @@ import com.datastax.oss.driver.api.core.cql.Row;
 import com.google.common.collect.AbstractIterator;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.lang.reflect.Array;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -110,6 +118,25 @@ public class Cassandra2Persist implements Persist {
     return fetchReferences(new String[] {name})[0];
   }
 
+  @Nonnull
+  @Override
+  public CompletionStage<Reference> fetchReferenceAsync(@Nonnull String name) {
+    try {
+      return mapDriverException(
+          backend
+              .executeAsync(
+                  backend.buildStatement(
+                      FIND_REFERENCES, true, config.repositoryId(), singletonList(name)))
+              .thenApply(
+                  rs -> {
+                    Row row = rs.one();
+                    return row != null ? Cassandra2Serde.deserializeReference(row) : null;
+                  }));
+    } catch (DriverException e) {
+      return CompletableFuture.failedFuture(unhandledException(e));
+    }
+  }
+
   @Nonnull
   @Override
   public Reference[] fetchReferences(@Nonnull String[] names) {
@@ -314,6 +341,102 @@ public class Cassandra2Persist implements Persist {
     return r;
   }
 
+  @Nonnull
+  @Override
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    @SuppressWarnings("unchecked")
+    T[] r = (T[]) Array.newInstance(typeClass, ids.length);
+    Map<ObjId, Integer> idToIndex = new HashMap<>();
+    List<ByteBuffer> batch = new ArrayList<>();
+    List<CompletableFuture<?>> queries = new ArrayList<>();
+
+    // The whole ID-to-index map must be populated before issuing queries, it is read by driver
+    // threads
+    for (int i = 0; i < ids.length; i++) {
+      ObjId id = ids[i];
+      if (id != null) {
+        idToIndex.put(id, i);
+      }
+    }
+
+    try {
+      for (ObjId id : ids) {
+        if (id != null) {
+          batch.add(serializeObjId(id));
+          if (batch.size() == SELECT_BATCH_SIZE) {
+            queries.add(fetchObjsBatchAsync(batch, type, typeClass, idToIndex, r));
+            batch = new ArrayList<>();
+          }
+        }
+      }
+      if (!batch.isEmpty()) {
+        queries.add(fetchObjsBatchAsync(batch, type, typeClass, idToIndex, r));
+      }
+    } catch (DriverException e) {
+      return CompletableFuture.failedFuture(unhandledException(e));
+    }
+
+    return mapDriverException(
+        CompletableFuture.allOf(queries.toArray(new CompletableFuture<?>[0])).thenApply(x -> r));
+  }
+
+  private <T extends Obj> CompletableFuture<?> fetchObjsBatchAsync(
+      List<ByteBuffer> batch,
+      ObjType type,
+      Class<T> typeClass,
+      Map<ObjId, Integer> idToIndex,
+      T[] r) {
+    Consumer<Row> rowConsumer =
+        row -> {
+          ObjType objType = objTypeByName(requireNonNull(row.getString(COL_OBJ_TYPE.name())));
+          if (type != null && !type.equals(objType)) {
+            return;
+          }
+          ObjId id = deserializeObjId(row.getByteBuffer(COL_OBJ_ID.name()));
+          Integer i = idToIndex.get(id);
+          if (i != null) {
+            String versionToken = row.getString(COL_OBJ_VERS.name());
+            ByteBuffer serialized = row.getByteBuffer(COL_OBJ_VALUE.name());
+            String colReferenced = COL_OBJ_REFERENCED.name();
+            long referenced = row.isNull(colReferenced) ? -1 : row.getLong(colReferenced);
+            r[i] = typeClass.cast(deserializeObj(id, referenced, serialized, versionToken));
+          }
+        };
+    return backend
+        .executeAsync(backend.buildStatement(FIND_OBJS, true, config.repositoryId(), batch))
+        .thenCompose(rs -> consumePages(rs, rowConsumer))
+        .toCompletableFuture();
+  }
+
+  private static CompletionStage<Void> consumePages(AsyncResultSet rs, Consumer<Row> rowConsumer) {
+    for (Row row : rs.currentPage()) {
+      rowConsumer.accept(row);
+    }
+    if (rs.hasMorePages()) {
+      return rs.fetchNextPage().thenCompose(next -> consumePages(next, rowConsumer));
+    }
+    return CompletableFuture.completedFuture(null);
+  }
+
+  private static <R> CompletionStage<R> mapDriverException(CompletionStage<R> stage) {
+    CompletableFuture<R> result = new CompletableFuture<>();
+    stage.whenComplete(
+        (value, e) -> {
+          if (e == null) {
+            result.complete(value);
+            return;
+          }
+          Throwable cause =
+              e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+          result.completeExceptionally(
+              cause instanceof DriverException
+                  ? unhandledException((DriverException) cause)
+                  : cause);
+        });
+    return result;
+  }
+
   @Override
   public boolean storeObj(@Nonnull Obj obj, boolean ignoreSoftSizeRestrictions)
       throws ObjTooLargeException {
@@ -332,6 +455,53 @@ public class Cassandra2Persist implements Persist {
     return persistObjs(objs, referenced, false);
   }
 
+  @Nonnull
+  @Override
+  public CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs) {
+    long referenced = config.currentTimeMicros();
+    boolean[] r = new boolean[objs.length];
+    AtomicInteger next = new AtomicInteger();
+    // Same limit as for the synchronous variant, but without blocking: each "lane" issues the next
+    // write when its previous write has completed.
+    CompletableFuture<?>[] lanes =
+        new CompletableFuture<?>[Math.min(objs.length, MAX_CONCURRENT_STORES)];
+    for (int i = 0; i < lanes.length; i++) {
+      lanes[i] = storeNextObjAsync(objs, referenced, r, next);
+    }
+    return mapDriverException(CompletableFuture.allOf(lanes).thenApply(x -> r));
+  }
+
+  private CompletableFuture<Void> storeNextObjAsync(
+      Obj[] objs, long referenced, boolean[] r, AtomicInteger next) {
+    int i;
+    do {
+      i = next.getAndIncrement();
+      if (i >= objs.length) {
+        return CompletableFuture.completedFuture(null);
+      }
+    } while (objs[i] == null);
+
+    Obj o = objs[i];
+    int idx = i;
+    try {
+      return writeSingleObj(o, referenced, false, false, backend::executeAsync)
+          .thenCompose(
+              rs -> {
+                if (rs.wasApplied()) {
+                  r[idx] = true;
+                  return CompletableFuture.<AsyncResultSet>completedFuture(null);
+                }
+                return updateSingleReferenced(o.id(), referenced, backend::executeAsync);
+              })
+          .thenCompose(rs -> storeNextObjAsync(objs, referenced, r, next))
+          .toCompletableFuture();
+    } catch (ObjTooLargeException e) {
+      return CompletableFuture.failedFuture(e);
+    } catch (DriverException e) {
+      return CompletableFuture.failedFuture(unhandledException(e));
+    }
+  }
+
   @Override
   public void upsertObj(@Nonnull Obj obj) throws ObjTooLargeException {
     long referenced = config.currentTimeMicros();
@@ -594,6 +764,11 @@ public class Cassandra2Persist implements Persist {
     backend.eraseRepositories(singleton(config().repositoryId()));
   }
 
+  @Override
+  public boolean isAsyncNonBlocking() {
+    return true;
+  }
+
   @Override
   @Nonnull
   public CloseableIterator<Obj> scanAllObjects(@Nonnull Set<ObjType> returnedObjTypes) {
@@ -18,6 +18,9 @@ package org.projectnessie.versioned.storage.cassandra2;
 import com.google.errorprone.annotations.concurrent.GuardedBy;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 
@@ -27,6 +30,9 @@ import org.projectnessie.versioned.storage.common.persist.ObjId;
  *
  * <p>Note: this implementation does not actively prevent submitting a new query, but it prevents
  * making further progress by blocking inside {@link #submitted(CompletionStage)}.
+ *
+ * <p>Waiting for the child queries uses a {@link Lock}, not {@code synchronized}, so that waiting
+ * virtual threads do not pin their carrier threads.
  */
 final class LimitedConcurrentRequests implements AutoCloseable {
 
@@ -36,12 +42,15 @@ final class LimitedConcurrentRequests implements AutoCloseable {
   /** Holds the potential failure. */
   final Throwable[] failureHolder = new Throwable[1];
 
+  private final Lock lock = new ReentrantLock();
+  private final Condition allFinished = lock.newCondition();
+
   /** Number of started queries. */
-  @GuardedBy("this")
+  @GuardedBy("lock")
   int started;
 
   /** Number of finished queries. */
-  @GuardedBy("this")
+  @GuardedBy("lock")
   int finished;
 
   LimitedConcurrentRequests(int maxChildQueries) {
@@ -49,9 +58,12 @@ final class LimitedConcurrentRequests implements AutoCloseable {
   }
 
   void submitted(CompletionStage<?> cs) {
-    synchronized (this) {
+    lock.lock();
+    try {
       // Increment the number of started queries.
       started++;
+    } finally {
+      lock.unlock();
     }
 
     // Acquire a permit for the started query.
@@ -81,11 +93,14 @@ final class LimitedConcurrentRequests implements AutoCloseable {
             }
 
           } finally {
-            synchronized (this) {
+            lock.lock();
+            try {
               // Increment the number of finished queries.
               finished++;
               // Notify potential waiter (`close()`).
-              notify();
+              allFinished.signalAll();
+            } finally {
+              lock.unlock();
             }
           }
         });
@@ -95,17 +110,17 @@ final class LimitedConcurrentRequests implements AutoCloseable {
   public void close() {
     try {
       // Wait until all started queries have finished.
-      while (true) {
-        synchronized (this) {
-          if (finished == started) {
-            break;
-          }
+      lock.lock();
+      try {
+        while (finished != started) {
           try {
-            wait();
+            allFinished.await();
           } catch (InterruptedException e) {
             throw new RuntimeException(e);
           }
         }
+      } finally {
+        lock.unlock();
       }
     } finally {
       maybeThrow();
@@ -14,7 +14,10 @@
  * limitations under the License.
  */
 
-plugins { id("nessie-conventions-server") }
+plugins {
+  id("nessie-conventions-server")
+  alias(libs.plugins.jmh)
+}
 
 publishingHelper { mavenName = "Nessie - Storage - Common serialization" }
 
@@ -39,4 +42,12 @@ dependencies {
 
   testImplementation(platform(libs.junit.bom))
   testImplementation(libs.bundles.junit.testing)
+
+  jmhImplementation(libs.jmh.core)
+  jmhImplementation(project(":nessie-versioned-storage-common-tests"))
+  jmhAnnotationProcessor(libs.jmh.generator.annprocess)
 }
+
+tasks.named("processJmhJandexIndex").configure { enabled = false }
+
+jmh { jmhVersion = libs.versions.jmh.get() }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.serialize;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexElement.indexElement;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitHeaders.EMPTY_COMMIT_HEADERS;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.Action.ADD;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.COMMIT_OP_SERIALIZER;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.commitOp;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObj;
+import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.releasePooledBuffer;
+import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeObj;
+import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeObjPooled;
+
+import java.nio.ByteBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.commontests.ImmutableRealisticKeySet;
+import org.projectnessie.versioned.storage.commontests.KeyIndexTestSet;
+
+/**
+ * Compares serializing a commit into a new byte array against serializing into a pooled buffer, and
+ * deserializing from a byte array against deserializing from a direct buffer.
+ *
+ * <p>Run with {@code -prof gc} to compare the allocation rates per commit.
+ */
+@Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 3, time = 1000, timeUnit = MILLISECONDS)
+@Fork(1)
+@Threads(4)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class ObjSerializationBench {
+  @State(Scope.Benchmark)
+  public static class BenchmarkParam {
+
+    @Param({"50", "500"})
+    public int tablesPerNamespace;
+
+    private CommitObj commit;
+    private byte[] serialized;
+    private ByteBuffer serializedDirect;
+
+    @Setup
+    public void init() throws Exception {
+      KeyIndexTestSet<CommitOp> keyIndexTestSet =
+          KeyIndexTestSet.<CommitOp>newGenerator()
+              .keySet(
+                  ImmutableRealisticKeySet.builder()
+                      .namespaceLevels(1)
+                      .foldersPerLevel(1)
+                      .tablesPerNamespace(tablesPerNamespace)
+                      .build())
+              .elementSupplier(key -> indexElement(key, commitOp(ADD, 1, randomObjId())))
+              .elementSerializer(COMMIT_OP_SERIALIZER)
+              .build()
+              .generateIndexTestSet();
+
+      commit =
+          CommitObj.commitBuilder()
+              .id(randomObjId())
+              .seq(1L)
+              .created(42L)
+              .message("commit message")
+              .headers(EMPTY_COMMIT_HEADERS)
+              .incrementalIndex(keyIndexTestSet.serialized())
+              .build();
+
+      serialized = serializeObj(commit, Integer.MAX_VALUE, Integer.MAX_VALUE, true);
+      serializedDirect = ByteBuffer.allocateDirect(serialized.length);
+      serializedDirect.put(serialized).flip();
+    }
+  }
+
+  @Benchmark
+  public byte[] serializeToArray(BenchmarkParam param) throws ObjTooLargeException {
+    return serializeObj(param.commit, Integer.MAX_VALUE, Integer.MAX_VALUE, true);
+  }
+
+  @Benchmark
+  public int serializePooled(BenchmarkParam param) throws ObjTooLargeException {
+    ByteBuffer buffer =
+        serializeObjPooled(param.commit, Integer.MAX_VALUE, Integer.MAX_VALUE, true);
+    try {
+      return buffer.remaining();
+    } finally {
+      releasePooledBuffer(buffer);
+    }
+  }
+
+  @Benchmark
+  public Obj deserializeArray(BenchmarkParam param) {
+    return deserializeObj(param.commit.id(), 0L, param.serialized, null);
+  }
+
+  @Benchmark
+  public Obj deserializeDirectBuffer(BenchmarkParam param) {
+    return deserializeObj(param.commit.id(), 0L, param.serializedDirect.duplicate(), null);
+  }
+}
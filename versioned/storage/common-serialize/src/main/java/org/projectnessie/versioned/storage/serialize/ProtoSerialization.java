@@ -16,6 +16,7 @@
 package org.projectnessie.versioned.storage.serialize;
 
 import static java.util.Collections.emptyList;
+import static org.projectnessie.nessie.relocated.protobuf.UnsafeByteOperations.unsafeWrap;
 import static org.projectnessie.versioned.storage.common.indexes.StoreKey.keyFromString;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitObj.commitBuilder;
 import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
@@ -34,8 +35,12 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.function.Consumer;
 import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.nessie.relocated.protobuf.CodedInputStream;
+import org.projectnessie.nessie.relocated.protobuf.CodedOutputStream;
 import org.projectnessie.nessie.relocated.protobuf.InvalidProtocolBufferException;
 import org.projectnessie.nessie.relocated.protobuf.Parser;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
@@ -77,6 +82,16 @@ import org.projectnessie.versioned.storage.common.proto.StorageTypes.UniqueIdPro
 
 public final class ProtoSerialization {
 
+  private static final int MIN_POOLED_BUFFER_SIZE = 4096;
+  private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+  private static final int MAX_POOLED_BUFFERS = 16;
+
+  /**
+   * Buffers shared by all threads. The pool retains at most 1 MB, independent of the number of
+   * (virtual) threads.
+   */
+  private static final Queue<ByteBuffer> BUFFER_POOL = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+
   private ProtoSerialization() {}
 
   public static byte[] serializeReference(Reference reference) {
@@ -214,61 +229,128 @@ public final class ProtoSerialization {
     if (obj == null) {
       return null;
     }
+    return objProto(obj, incrementalIndexSizeLimit, indexSizeLimit, includeVersionToken)
+        .toByteArray();
+  }
+
+  /**
+   * Serializes an object like {@link #serializeObj(Obj, int, int, boolean)}, but writes into a
+   * buffer from a small, shared pool instead of allocating a new array per object.
+   *
+   * <p>Callers must consume the returned buffer, for example by copying it into the storage, and
+   * then hand it back via {@link #releasePooledBuffer(ByteBuffer)}. The buffer must not be used
+   * after it has been released and must not be handed over to asynchronous operations.
+   */
+  public static ByteBuffer serializeObjPooled(
+      Obj obj, int incrementalIndexSizeLimit, int indexSizeLimit, boolean includeVersionToken)
+      throws ObjTooLargeException {
+    if (obj == null) {
+      return null;
+    }
+    ObjProto proto = objProto(obj, incrementalIndexSizeLimit, indexSizeLimit, includeVersionToken);
+    ByteBuffer buffer = pooledBuffer(proto.getSerializedSize());
+    try {
+      CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+      proto.writeTo(output);
+      output.flush();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  /**
+   * Returns a buffer from {@link #serializeObjPooled(Obj, int, int, boolean)} to the pool. Buffers
+   * that are too large for the pool and buffers exceeding the pool's capacity are dropped.
+   */
+  public static void releasePooledBuffer(ByteBuffer buffer) {
+    if (buffer != null
+        && buffer.hasArray()
+        && buffer.capacity() >= MIN_POOLED_BUFFER_SIZE
+        && buffer.capacity() <= MAX_POOLED_BUFFER_SIZE) {
+      buffer.clear();
+      BUFFER_POOL.offer(buffer);
+    }
+  }
+
+  private static ByteBuffer pooledBuffer(int size) {
+    if (size > MAX_POOLED_BUFFER_SIZE) {
+      return ByteBuffer.allocate(size);
+    }
+    ByteBuffer buffer = BUFFER_POOL.poll();
+    if (buffer == null || buffer.capacity() < size) {
+      // A too small pooled buffer is dropped, its replacement is returned to the pool instead.
+      int capacity = Math.max(MIN_POOLED_BUFFER_SIZE, Integer.highestOneBit(size - 1) << 1);
+      return ByteBuffer.allocate(Math.min(capacity, MAX_POOLED_BUFFER_SIZE));
+    }
+    return buffer;
+  }
+
+  private static ObjProto objProto(
+      Obj obj, int incrementalIndexSizeLimit, int indexSizeLimit, boolean includeVersionToken)
+      throws ObjTooLargeException {
     ObjProto.Builder b = ObjProto.newBuilder().setReferenced(obj.referenced());
     if (obj.type() instanceof StandardObjType) {
       switch (((StandardObjType) obj.type())) {
         case COMMIT:
-          return b.setCommit(serializeCommit((CommitObj) obj, incrementalIndexSizeLimit))
-              .build()
-              .toByteArray();
+          return b.setCommit(serializeCommit((CommitObj) obj, incrementalIndexSizeLimit)).build();
         case VALUE:
-          return b.setContentValue(serializeContentValue((ContentValueObj) obj))
-              .build()
-              .toByteArray();
+          return b.setContentValue(serializeContentValue((ContentValueObj) obj)).build();
         case REF:
-          return b.setRef(serializeRef((RefObj) obj)).build().toByteArray();
+          return b.setRef(serializeRef((RefObj) obj)).build();
         case INDEX_SEGMENTS:
-          return b.setIndexSegments(serializeIndexSegments((IndexSegmentsObj) obj))
-              .build()
-              .toByteArray();
+          return b.setIndexSegments(serializeIndexSegments((IndexSegmentsObj) obj)).build();
         case INDEX:
-          return b.setIndex(serializeIndex((IndexObj) obj, indexSizeLimit)).build().toByteArray();
+          return b.setIndex(serializeIndex((IndexObj) obj, indexSizeLimit)).build();
         case STRING:
-          return b.setStringData(serializeStringData((StringObj) obj)).build().toByteArray();
+          return b.setStringData(serializeStringData((StringObj) obj)).build();
         case TAG:
-          return b.setTag(serializeTag((TagObj) obj)).build().toByteArray();
+          return b.setTag(serializeTag((TagObj) obj)).build();
         case UNIQUE:
-          return b.setUniqueId(serializeUniqueId((UniqueIdObj) obj)).build().toByteArray();
+          return b.setUniqueId(serializeUniqueId((UniqueIdObj) obj)).build();
         default:
           throw new UnsupportedOperationException("Unknown standard object type " + obj.type());
       }
     } else {
-      return b.setCustom(serializeCustom(obj, includeVersionToken)).build().toByteArray();
+      return b.setCustom(serializeCustom(obj, includeVersionToken)).build();
     }
   }
 
+  /**
+   * Deserializes an object. Byte string attributes of the returned object, for example the index
+   * of a commit or the data of an index object, share the memory of {@code serialized}, which
+   * therefore must not be modified afterwards.
+   */
   public static Obj deserializeObj(
       ObjId id, long referenced, ByteBuffer serialized, String versionToken) {
     if (serialized == null) {
       return null;
     }
-    try {
-      ObjProto obj = ObjProto.parseFrom(serialized);
-      return deserializeObjProto(id, referenced, obj, versionToken);
-    } catch (InvalidProtocolBufferException e) {
-      throw new RuntimeException(e);
-    }
+    return deserializeObj(id, referenced, unsafeWrap(serialized), versionToken);
   }
 
+  /**
+   * Deserializes an object. Byte string attributes of the returned object, for example the index
+   * of a commit or the data of an index object, share the memory of {@code serialized}, which
+   * therefore must not be modified afterwards.
+   */
   public static Obj deserializeObj(
       ObjId id, long referenced, byte[] serialized, String versionToken) {
     if (serialized == null) {
       return null;
     }
+    return deserializeObj(id, referenced, unsafeWrap(serialized), versionToken);
+  }
+
+  private static Obj deserializeObj(
+      ObjId id, long referenced, ByteString serialized, String versionToken) {
     try {
-      ObjProto obj = ObjProto.parseFrom(serialized);
+      CodedInputStream input = serialized.newCodedInput();
+      input.enableAliasing(true);
+      ObjProto obj = ObjProto.parseFrom(input);
       return deserializeObjProto(id, referenced, obj, versionToken);
-    } catch (InvalidProtocolBufferException e) {
+    } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
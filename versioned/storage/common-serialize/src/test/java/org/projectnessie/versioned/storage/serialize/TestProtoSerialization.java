@@ -40,9 +40,11 @@ import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.d
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObjIds;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializePreviousPointers;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeReference;
+import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.releasePooledBuffer;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeObj;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeObjId;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeObjIds;
+import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeObjPooled;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializePreviousPointers;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeReference;
 
@@ -118,6 +120,15 @@ public class TestProtoSerialization {
     soft.assertThat(deserialized2).isEqualTo(obj);
     soft.assertThat(serialized).isEqualTo(reserialized);
 
+    ByteBuffer pooled = serializeObjPooled(obj, Integer.MAX_VALUE, Integer.MAX_VALUE, true);
+    soft.assertThat(pooled).isEqualTo(ByteBuffer.wrap(serialized));
+    soft.assertThat(deserializeObj(obj.id(), 0L, pooled.duplicate(), null)).isEqualTo(obj);
+    releasePooledBuffer(pooled);
+    // A reused buffer contains only the newly serialized object
+    pooled = serializeObjPooled(obj, Integer.MAX_VALUE, Integer.MAX_VALUE, true);
+    soft.assertThat(pooled).isEqualTo(ByteBuffer.wrap(serialized));
+    releasePooledBuffer(pooled);
+
     if (obj instanceof UpdateableObj) {
       soft.assertThat(StorageTypes.ObjProto.parseFrom(serialized).getCustom().getVersionToken())
           .isNotNull();
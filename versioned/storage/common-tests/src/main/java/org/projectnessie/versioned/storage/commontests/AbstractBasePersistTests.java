@@ -24,6 +24,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 import static java.util.UUID.randomUUID;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.LONG;
 import static org.assertj.core.api.InstanceOfAssertFactories.list;
@@ -988,6 +989,58 @@ public class AbstractBasePersistTests {
     soft.assertThat(fetched).containsExactlyElementsOf(objects);
   }
 
+  @Test
+  public void asyncStoreAndFetch() throws Exception {
+    List<TagObj> objects =
+        IntStream.range(0, 257) // spans multiple fetch batches of the backends
+            .mapToObj(i -> tag(randomObjId(), 42L, null, null, ByteString.copyFrom(new byte[42])))
+            .collect(Collectors.toList());
+    Obj[] objs = objects.toArray(new Obj[0]);
+    ObjId[] ids = objects.stream().map(Obj::id).toArray(ObjId[]::new);
+
+    soft.assertThat(persist.storeObjsAsync(objs).toCompletableFuture().get(30, SECONDS))
+        .hasSize(objects.size())
+        .containsOnly(true);
+    soft.assertThat(persist.storeObjsAsync(objs).toCompletableFuture().get(30, SECONDS))
+        .hasSize(objects.size())
+        .containsOnly(false);
+
+    soft.assertThat(persist.fetchObjsAsync(ids).toCompletableFuture().get(30, SECONDS))
+        .containsExactlyElementsOf(objects);
+    soft.assertThat(
+            persist
+                .fetchTypedObjsAsync(ids, TAG, TagObj.class)
+                .toCompletableFuture()
+                .get(30, SECONDS))
+        .containsExactlyElementsOf(objects);
+    soft.assertThat(
+            persist
+                .fetchTypedObjsAsync(ids, COMMIT, CommitObj.class)
+                .toCompletableFuture()
+                .get(30, SECONDS))
+        .hasSize(objects.size())
+        .containsOnlyNulls();
+
+    ObjId nonExisting = randomObjId();
+    soft.assertThat(
+            persist
+                .fetchObjsAsync(new ObjId[] {ids[0], null, nonExisting})
+                .toCompletableFuture()
+                .get(30, SECONDS))
+        .containsExactly(objects.get(0), null, null);
+    soft.assertThat(persist.fetchObjsAsync(new ObjId[0]).toCompletableFuture().get(30, SECONDS))
+        .isEmpty();
+
+    Reference reference = reference("async-ref", randomObjId(), false, 42L, null);
+    persist.addReference(reference);
+    soft.assertThat(
+            persist.fetchReferenceAsync("async-ref").toCompletableFuture().get(30, SECONDS))
+        .isEqualTo(reference);
+    soft.assertThat(
+            persist.fetchReferenceAsync("no-such-ref").toCompletableFuture().get(30, SECONDS))
+        .isNull();
+  }
+
   @Test
   public void multipleStoreObjs() throws Exception {
     Obj obj1 = tag(randomObjId(), 42L, null, null, ByteString.EMPTY);
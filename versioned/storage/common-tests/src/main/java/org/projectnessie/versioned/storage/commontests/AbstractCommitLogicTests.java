@@ -67,6 +67,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.projectnessie.versioned.storage.common.exceptions.CommitConflictException;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
@@ -355,6 +356,66 @@ public class AbstractCommitLogicTests {
     }
   }
 
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 5})
+  public void commitLogReadAhead(int readAhead) throws Exception {
+    CommitLogic commitLogic = commitLogic(persist);
+
+    soft.assertThatThrownBy(
+            () ->
+                newArrayList(
+                    commitLogic.commitLog(commitLogQuery(null, randomObjId(), null, readAhead))))
+        .isInstanceOf(NoSuchElementException.class);
+
+    soft.assertThat(
+            newArrayList(
+                commitLogic.commitLog(commitLogQuery(null, EMPTY_OBJ_ID, null, readAhead))))
+        .isEmpty();
+
+    ObjId tip = requireNonNull(commitLogic.doCommit(stdCommit().build(), emptyList())).id();
+    List<ObjId> commits = new ArrayList<>();
+    commits.add(tip);
+    for (int i = 0; i < 5 * persist.config().parentsPerCommit() + 3; i++) {
+      tip =
+          requireNonNull(
+                  commitLogic.doCommit(
+                      stdCommit().parentCommitId(tip).message("commit #" + i).build(),
+                      emptyList()))
+              .id();
+      commits.add(0, tip);
+    }
+
+    soft.assertThat(newArrayList(commitLogic.commitLog(commitLogQuery(null, tip, null, readAhead))))
+        .containsExactlyElementsOf(newArrayList(commitLogic.commitLog(commitLogQuery(tip))))
+        .extracting(CommitObj::id)
+        .containsExactlyElementsOf(commits);
+
+    for (int i : new int[] {0, 1, persist.config().parentsPerCommit(), commits.size() - 1}) {
+      ObjId end = commits.get(i);
+      soft.assertThat(
+              newArrayList(commitLogic.commitLog(commitLogQuery(null, tip, end, readAhead))))
+          .extracting(CommitObj::id)
+          .containsExactlyElementsOf(commits.subList(0, i + 1));
+
+      PagingToken token = commitLogic.commitLog(commitLogQuery(tip)).tokenForKey(end);
+      soft.assertThat(
+              newArrayList(commitLogic.commitLog(commitLogQuery(token, tip, null, readAhead))))
+          .extracting(CommitObj::id)
+          .containsExactlyElementsOf(commits.subList(i, commits.size()));
+    }
+
+    // Stop consuming the commit log early, closing the result cancels pending read-ahead fetches
+    try (PagedResult<CommitObj, ObjId> iter =
+        commitLogic.commitLog(commitLogQuery(null, tip, null, readAhead))) {
+      soft.assertThat(iter.next().id()).isEqualTo(tip);
+      for (int i = 1; i < 2 * persist.config().parentsPerCommit(); i++) {
+        soft.assertThat(iter.next().id()).isEqualTo(commits.get(i));
+      }
+      iter.close();
+      soft.assertThat(iter.hasNext()).isFalse();
+    }
+  }
+
   @Test
   public void commitIdLog() throws Exception {
     CommitLogic commitLogic = commitLogic(persist);
@@ -16,7 +16,9 @@
 package org.projectnessie.versioned.storage.commontests;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.InstanceOfAssertFactories.list;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
@@ -40,6 +42,7 @@ import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ
 import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
 import static org.projectnessie.versioned.storage.commontests.KeyIndexTestSet.basicIndexTestSet;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -60,6 +63,7 @@ import org.projectnessie.versioned.storage.common.logic.IndexesLogic;
 import org.projectnessie.versioned.storage.common.logic.SuppliedCommitIndex;
 import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
 import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+import org.projectnessie.versioned.storage.common.objtypes.IndexStripe;
 import org.projectnessie.versioned.storage.common.objtypes.StandardObjType;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.Persist;
@@ -288,6 +292,59 @@ public class AbstractIndexesLogicTests {
             incrRemove);
   }
 
+  @Test
+  public void sharedCompleteIndex() throws Exception {
+    IndexesLogic indexesLogic = indexesLogic(persist);
+
+    KeyIndexTestSet<CommitOp> indexTestSet = basicIndexTestSet();
+    StoreIndex<CommitOp> striped = indexFromStripes(indexTestSet.keyIndex().divide(5));
+
+    ObjId referenceIndexId = indexesLogic.persistStripedIndex(striped);
+    List<IndexStripe> stripes = indexesLogic.persistIndexStripesFromIndex(striped);
+
+    StoreIndex<CommitOp> incremental = newStoreIndex(COMMIT_OP_SERIALIZER);
+    StoreIndexElement<CommitOp> add = indexElement(key("d_add"), commitOp(ADD, 1, randomObjId()));
+    incremental.add(add);
+
+    CommitObj.Builder commit =
+        commitBuilder()
+            .created(42L)
+            .seq(1L)
+            .addTail(EMPTY_OBJ_ID)
+            .message("msg")
+            .headers(EMPTY_COMMIT_HEADERS)
+            .incrementalIndex(incremental.serialize());
+    CommitObj withReferenceIndex =
+        commit.id(randomObjId()).referenceIndex(referenceIndexId).build();
+    CommitObj withStripes =
+        commit.id(randomObjId()).referenceIndex(null).referenceIndexStripes(stripes).build();
+
+    StoreIndex<CommitOp> layered = layeredIndex(striped, incremental);
+
+    for (CommitObj c : asList(withReferenceIndex, withStripes)) {
+      StoreIndex<CommitOp> shared = indexesLogic.buildSharedCompleteIndex(c);
+
+      StoreKey lookup = indexTestSet.keys().get(indexTestSet.keys().size() / 2);
+      soft.assertThat(shared.loadIfNecessary(singleton(lookup)).get(lookup))
+          .isEqualTo(layered.get(lookup));
+      soft.assertThat(shared.get(add.key())).isEqualTo(add);
+      soft.assertThat(shared.asKeyList()).containsExactlyElementsOf(layered.asKeyList());
+      soft.assertThat(newArrayList(shared)).containsExactlyElementsOf(newArrayList(layered));
+      soft.assertThat(shared.isMutable()).isFalse();
+
+      soft.assertThatThrownBy(() -> shared.add(add))
+          .isInstanceOf(UnsupportedOperationException.class);
+      soft.assertThatThrownBy(() -> shared.remove(add.key()))
+          .isInstanceOf(UnsupportedOperationException.class);
+      soft.assertThatThrownBy(shared::asMutableIndex)
+          .isInstanceOf(UnsupportedOperationException.class);
+      soft.assertThatThrownBy(shared::serialize)
+          .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    soft.assertThat(indexesLogic.buildSharedCompleteIndexOrEmpty(null)).isEmpty();
+  }
+
   @Test
   public void perCommitOpsEmpty() {
     IndexesLogic indexesLogic = indexesLogic(persist);
@@ -43,7 +43,12 @@ import org.projectnessie.versioned.storage.commontests.ImmutableRealisticKeySet;
 import org.projectnessie.versioned.storage.commontests.KeyIndexTestSet;
 import org.projectnessie.versioned.storage.commontests.KeyIndexTestSet.IndexTestSetGenerator;
 
-/** Benchmark that uses {@link RealisticKeySet} to generate keys. */
+/**
+ * Benchmark that uses {@link RealisticKeySet} to generate keys.
+ *
+ * <p>Run with {@code -prof gc} to compare the allocation rates, for example of {@link
+ * #deserializeCompareKeys} and {@link #deserializeCompareMaterializedKeys}.
+ */
 @Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
 @Measurement(iterations = 3, time = 1000, timeUnit = MILLISECONDS)
 @Fork(1)
@@ -132,6 +137,34 @@ public class RealisticKeyIndexImplBench {
     return deserialized.get(param.keyIndexTestSet.randomKey());
   }
 
+  @Benchmark
+  public void deserializeContains100RandomKeys(BenchmarkParam param, Blackhole bh) {
+    StoreIndex<CommitOp> deserialized = param.keyIndexTestSet.deserialize();
+    for (int i = 0; i < 100; i++) {
+      bh.consume(deserialized.contains(param.keyIndexTestSet.randomKey()));
+    }
+  }
+
+  /** Compares the keys of two deserialized indexes, like a diff does, using serialized keys. */
+  @Benchmark
+  public void deserializeCompareKeys(BenchmarkParam param, Blackhole bh) {
+    Iterator<StoreIndexElement<CommitOp>> a = param.keyIndexTestSet.deserialize().iterator();
+    Iterator<StoreIndexElement<CommitOp>> b = param.keyIndexTestSet.deserialize().iterator();
+    while (a.hasNext() && b.hasNext()) {
+      bh.consume(StoreIndexes.compareKeys(a.next(), b.next()));
+    }
+  }
+
+  /** Same as {@link #deserializeCompareKeys}, but materializes the keys to compare those. */
+  @Benchmark
+  public void deserializeCompareMaterializedKeys(BenchmarkParam param, Blackhole bh) {
+    Iterator<StoreIndexElement<CommitOp>> a = param.keyIndexTestSet.deserialize().iterator();
+    Iterator<StoreIndexElement<CommitOp>> b = param.keyIndexTestSet.deserialize().iterator();
+    while (a.hasNext() && b.hasNext()) {
+      bh.consume(a.next().key().compareTo(b.next().key()));
+    }
+  }
+
   @Benchmark
   public void deserializeIterate250(BenchmarkParam param, Blackhole bh) {
     StoreIndex<CommitOp> deserialized = param.keyIndexTestSet.deserialize();
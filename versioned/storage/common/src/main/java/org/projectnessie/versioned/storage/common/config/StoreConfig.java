@@ -78,6 +78,8 @@ public interface StoreConfig {
   int DEFAULT_CACHE_CAPACITY_FRACTION_ADJUST_MB = 256;
   double DEFAULT_CACHE_CAPACITY_FRACTION_OF_HEAP = 0.6d;
   double DEFAULT_CONFIG_CAPACITY_OVERSHOOT = 0.1d;
+  int DEFAULT_CONFIG_CACHE_HOT_TIER_HITS = 3;
+  int DEFAULT_CONFIG_CACHE_COMMIT_INDEX_CAPACITY_MB = 64;
 
   /**
    * Whether namespace validation is enabled, changing this to false will break the Nessie
@@ -16,6 +16,7 @@
 package org.projectnessie.versioned.storage.common.indexes;
 
 import static java.util.Collections.singletonList;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.compareKeys;
 
 import com.google.common.collect.AbstractIterator;
 import jakarta.annotation.Nonnull;
@@ -179,7 +180,7 @@ final class LayeredIndexImpl<V> implements StoreIndex<V> {
         } else if (fullElement == null) {
           cmp = 1;
         } else {
-          cmp = fullElement.key().compareTo(incrementalElement.key());
+          cmp = compareKeys(fullElement, incrementalElement);
         }
 
         if (cmp == 0) {
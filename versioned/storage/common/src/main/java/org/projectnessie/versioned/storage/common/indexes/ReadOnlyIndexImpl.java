@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.indexes;
+
+import static java.util.Collections.singletonList;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+/**
+ * Read-only facade of an index view that is shared by concurrent readers, rejects all mutating
+ * operations and does not expose the wrapped index.
+ */
+final class ReadOnlyIndexImpl<V> implements StoreIndex<V> {
+
+  private final StoreIndex<V> delegate;
+
+  ReadOnlyIndexImpl(StoreIndex<V> delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public ObjId getObjId() {
+    return delegate.getObjId();
+  }
+
+  @Override
+  public boolean isModified() {
+    return false;
+  }
+
+  @Override
+  public StoreIndex<V> loadIfNecessary(Set<StoreKey> keys) {
+    delegate.loadIfNecessary(keys);
+    return this;
+  }
+
+  @Override
+  public boolean isLoaded() {
+    return delegate.isLoaded();
+  }
+
+  @Override
+  public StoreIndex<V> asMutableIndex() {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean isMutable() {
+    return false;
+  }
+
+  @Override
+  public List<StoreIndex<V>> divide(int parts) {
+    throw unsupported();
+  }
+
+  @Override
+  public List<StoreIndex<V>> stripes() {
+    return singletonList(this);
+  }
+
+  @Override
+  public int elementCount() {
+    return delegate.elementCount();
+  }
+
+  @Override
+  public int estimatedSerializedSize() {
+    return delegate.estimatedSerializedSize();
+  }
+
+  @Override
+  public boolean add(@Nonnull StoreIndexElement<V> element) {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateAll(Function<StoreIndexElement<V>, V> updater) {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean remove(@Nonnull StoreKey key) {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean contains(@Nonnull StoreKey key) {
+    return delegate.contains(key);
+  }
+
+  @Override
+  @Nullable
+  public StoreIndexElement<V> get(@Nonnull StoreKey key) {
+    return delegate.get(key);
+  }
+
+  @Override
+  @Nullable
+  public StoreKey first() {
+    return delegate.first();
+  }
+
+  @Override
+  @Nullable
+  public StoreKey last() {
+    return delegate.last();
+  }
+
+  @Override
+  public List<StoreKey> asKeyList() {
+    return delegate.asKeyList();
+  }
+
+  @Override
+  @Nonnull
+  public Iterator<StoreIndexElement<V>> iterator(
+      @Nullable StoreKey begin, @Nullable StoreKey end, boolean prefetch) {
+    return delegate.iterator(begin, end, prefetch);
+  }
+
+  @Override
+  @Nonnull
+  public ByteString serialize() {
+    throw unsupported();
+  }
+
+  private static UnsupportedOperationException unsupported() {
+    return new UnsupportedOperationException("Shared index views are read-only");
+  }
+}
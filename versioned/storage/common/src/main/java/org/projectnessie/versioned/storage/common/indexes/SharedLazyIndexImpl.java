@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.indexes;
+
+import static java.util.Collections.singletonList;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+/**
+ * Thread-safe and read-only variant of {@link LazyIndexImpl}, used for index views that are shared
+ * by concurrent readers.
+ *
+ * <p>The index is loaded at most once, either via the supplier or via {@link
+ * #complete(StoreIndex)} from a bulk load. The {@code onLoad} callback is invoked exactly once with
+ * the loaded index, before the loaded index is published to other threads, and is expected to
+ * materialize all elements of the loaded index.
+ */
+final class SharedLazyIndexImpl<V> implements StoreIndex<V> {
+
+  private final Supplier<StoreIndex<V>> supplier;
+  private final Consumer<StoreIndex<V>> onLoad;
+  private final ObjId objId;
+  private final StoreKey firstKey;
+  private final StoreKey lastKey;
+  private final Lock lock = new ReentrantLock();
+  private volatile StoreIndex<V> loaded;
+
+  SharedLazyIndexImpl(
+      Supplier<StoreIndex<V>> supplier,
+      Consumer<StoreIndex<V>> onLoad,
+      ObjId objId,
+      StoreKey firstKey,
+      StoreKey lastKey) {
+    this.supplier = supplier;
+    this.onLoad = onLoad;
+    this.objId = objId;
+    this.firstKey = firstKey;
+    this.lastKey = lastKey;
+  }
+
+  private StoreIndex<V> loaded() {
+    StoreIndex<V> l = loaded;
+    if (l == null) {
+      lock.lock();
+      try {
+        l = loaded;
+        if (l == null) {
+          l = publish(supplier.get());
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+    return l;
+  }
+
+  /**
+   * Publishes an index that has been loaded by a bulk load, unless this instance has already been
+   * loaded.
+   */
+  void complete(@Nonnull StoreIndex<V> index) {
+    if (loaded != null) {
+      return;
+    }
+    lock.lock();
+    try {
+      if (loaded == null) {
+        publish(index);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private StoreIndex<V> publish(StoreIndex<V> index) {
+    onLoad.accept(index);
+    loaded = index;
+    return index;
+  }
+
+  @Override
+  public ObjId getObjId() {
+    return objId;
+  }
+
+  @Override
+  public boolean isModified() {
+    return false;
+  }
+
+  @Override
+  public StoreIndex<V> loadIfNecessary(Set<StoreKey> keys) {
+    loaded();
+    return this;
+  }
+
+  @Override
+  public boolean isLoaded() {
+    return loaded != null;
+  }
+
+  @Override
+  public StoreIndex<V> asMutableIndex() {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean isMutable() {
+    return false;
+  }
+
+  @Override
+  public List<StoreIndex<V>> divide(int parts) {
+    throw unsupported();
+  }
+
+  @Override
+  public List<StoreIndex<V>> stripes() {
+    return singletonList(this);
+  }
+
+  @Override
+  public int elementCount() {
+    return loaded().elementCount();
+  }
+
+  @Override
+  public int estimatedSerializedSize() {
+    return loaded().estimatedSerializedSize();
+  }
+
+  @Override
+  public boolean add(@Nonnull StoreIndexElement<V> element) {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateAll(Function<StoreIndexElement<V>, V> updater) {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean remove(@Nonnull StoreKey key) {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean contains(@Nonnull StoreKey key) {
+    if (loaded == null && (key.equals(firstKey) || key.equals(lastKey))) {
+      return true;
+    }
+    return loaded().contains(key);
+  }
+
+  @Override
+  @Nullable
+  public StoreIndexElement<V> get(@Nonnull StoreKey key) {
+    return loaded().get(key);
+  }
+
+  @Override
+  @Nullable
+  public StoreKey first() {
+    if (loaded != null || firstKey == null) {
+      return loaded().first();
+    }
+    return firstKey;
+  }
+
+  @Override
+  @Nullable
+  public StoreKey last() {
+    if (loaded != null || lastKey == null) {
+      return loaded().last();
+    }
+    return lastKey;
+  }
+
+  @Override
+  public List<StoreKey> asKeyList() {
+    return loaded().asKeyList();
+  }
+
+  @Override
+  @Nonnull
+  public Iterator<StoreIndexElement<V>> iterator(
+      @Nullable StoreKey begin, @Nullable StoreKey end, boolean prefetch) {
+    return loaded().iterator(begin, end, prefetch);
+  }
+
+  @Override
+  @Nonnull
+  public ByteString serialize() {
+    throw unsupported();
+  }
+
+  private static UnsupportedOperationException unsupported() {
+    return new UnsupportedOperationException("Shared index views are read-only");
+  }
+}
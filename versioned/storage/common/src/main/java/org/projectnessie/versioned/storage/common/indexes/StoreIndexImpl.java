@@ -17,7 +17,6 @@ package org.projectnessie.versioned.storage.common.indexes;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
-import static java.util.Collections.binarySearch;
 import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 import static org.projectnessie.nessie.relocated.protobuf.UnsafeByteOperations.unsafeWrap;
@@ -150,6 +149,12 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
    */
   private final ByteBuffer scratchKeyBuffer = newKeyBuffer();
 
+  /**
+   * Holds the serialized representation of the key to {@link #search(StoreKey) search for},
+   * allocated when a search needs to compare serialized keys for the first time.
+   */
+  private ByteBuffer searchKeyBuffer;
+
   private boolean modified;
   private ObjId objId;
 
@@ -278,7 +283,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
     modified = true;
     List<StoreIndexElement<V>> e = elements;
     ElementSerializer<V> serializer = this.serializer;
-    int idx = search(e, element);
+    int idx = search(element.key());
     int elementSerializedSize = element.contentSerializedSize(serializer);
     if (idx >= 0) {
       // exact match, key already in segment
@@ -309,7 +314,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
   @Override
   public boolean remove(@Nonnull StoreKey key) {
     List<StoreIndexElement<V>> e = elements;
-    int idx = search(e, key);
+    int idx = search(key);
     if (idx < 0) {
       return false;
     }
@@ -329,14 +334,14 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
 
   @Override
   public boolean contains(@Nonnull StoreKey key) {
-    int idx = search(elements, key);
+    int idx = search(key);
     return idx >= 0;
   }
 
   @Override
   public @Nullable StoreIndexElement<V> get(@Nonnull StoreKey key) {
     List<StoreIndexElement<V>> e = elements;
-    int idx = search(e, key);
+    int idx = search(key);
     if (idx < 0) {
       return null;
     }
@@ -393,7 +398,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
   }
 
   private int iteratorIndex(StoreKey from, int exactAdd) {
-    int fromIdx = search(elements, from);
+    int fromIdx = search(from);
     if (fromIdx < 0) {
       fromIdx = -fromIdx - 1;
     } else {
@@ -708,20 +713,30 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
       return keySerBuffer.put(serialized.limit(valueOffset).position(keyOffset)).flip();
     }
 
-    private StoreKey materializeKey() {
+    StoreIndexImpl<V> index() {
+      return StoreIndexImpl.this;
+    }
+
+    /**
+     * Returns a buffer containing the full serialized key of this element. The returned buffer is
+     * either {@link StoreIndexImpl#serialized} or {@link StoreIndexImpl#scratchKeyBuffer} and only
+     * valid until the next key of the same index is materialized or compared.
+     */
+    ByteBuffer serializedKey() {
       StoreIndexImpl<V> index = StoreIndexImpl.this;
       ByteBuffer serialized = requireNonNull(index.serialized);
 
       ByteBuffer suffix = serialized.limit(valueOffset).position(keyOffset);
 
-      ByteBuffer keyBuffer;
       int preLen = prefixLen;
       if (preLen > 0) {
-        keyBuffer = prefixKey(serialized, this, preLen).position(preLen).put(suffix).flip();
-      } else {
-        keyBuffer = suffix;
+        return prefixKey(serialized, this, preLen).position(preLen).put(suffix).flip();
       }
-      return deserializeKey(keyBuffer);
+      return suffix;
+    }
+
+    private StoreKey materializeKey() {
+      return deserializeKey(serializedKey());
     }
 
     private ByteBuffer prefixKey(ByteBuffer serialized, LazyStoreIndexElement me, int remaining) {
@@ -834,12 +849,82 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
     return ByteBuffer.allocate(MAX_KEY_BYTES);
   }
 
-  private static <V> int search(List<StoreIndexElement<V>> e, @Nonnull StoreKey key) {
-    // Need a StoreIndexElement for the sake of 'binarySearch()' (the content value isn't used)
-    return search(e, indexElement(key, ""));
+  /**
+   * Binary search for the given key, same contract as {@link
+   * java.util.Collections#binarySearch(List, Object, Comparator)}.
+   *
+   * <p>Keys of elements that have not been materialized yet are compared using their serialized
+   * representation, which does not allocate any {@link String} or {@link StoreKey} for the probed
+   * elements.
+   */
+  private int search(@Nonnull StoreKey key) {
+    List<StoreIndexElement<V>> e = elements;
+    ByteBuffer serializedKey = null;
+    boolean compareSerialized = true;
+
+    int low = 0;
+    int high = e.size() - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      StoreIndexElement<V> el = e.get(mid);
+
+      int cmp;
+      if (compareSerialized
+          && el.getClass() == LazyStoreIndexElement.class
+          && ((LazyStoreIndexElement) el).key == null) {
+        if (serializedKey == null) {
+          serializedKey = serializeSearchKey(key);
+          if (serializedKey == null) {
+            compareSerialized = false;
+            continue;
+          }
+        }
+        LazyStoreIndexElement lazyEl = (LazyStoreIndexElement) el;
+        cmp = StoreKey.compareSerialized(lazyEl.serializedKey(), serializedKey);
+      } else {
+        cmp = el.key().compareTo(key);
+      }
+
+      if (cmp < 0) {
+        low = mid + 1;
+      } else if (cmp > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  private ByteBuffer serializeSearchKey(StoreKey key) {
+    ByteBuffer buffer = searchKeyBuffer;
+    if (buffer == null) {
+      buffer = searchKeyBuffer = newKeyBuffer();
+    }
+    try {
+      return key.serialize(buffer);
+    } catch (IllegalArgumentException e) {
+      // Key too big to be serialized, cannot be contained in a serialized index, but let the
+      // search yield the insertion point.
+      return null;
+    }
   }
 
-  private static <V> int search(List<StoreIndexElement<V>> e, StoreIndexElement<?> element) {
-    return binarySearch(e, element, KEY_COMPARATOR);
+  /**
+   * Compares the keys of two elements like {@code a.key().compareTo(b.key())}. Elements that have
+   * been lazily deserialized from two different indexes and whose keys have not been materialized
+   * yet, are compared using their serialized representations.
+   */
+  static int compareElementKeys(StoreIndexElement<?> a, StoreIndexElement<?> b) {
+    if (a.getClass() == LazyStoreIndexElement.class
+        && b.getClass() == LazyStoreIndexElement.class) {
+      StoreIndexImpl<?>.LazyStoreIndexElement lazyA = (StoreIndexImpl<?>.LazyStoreIndexElement) a;
+      StoreIndexImpl<?>.LazyStoreIndexElement lazyB = (StoreIndexImpl<?>.LazyStoreIndexElement) b;
+      // Both elements use the scratch buffer of their index, so those must be different.
+      if (lazyA.key == null && lazyB.key == null && lazyA.index() != lazyB.index()) {
+        return StoreKey.compareSerialized(lazyA.serializedKey(), lazyB.serializedKey());
+      }
+    }
+    return a.key().compareTo(b.key());
   }
 }
@@ -20,12 +20,20 @@ import static org.projectnessie.versioned.storage.common.indexes.IndexLoader.not
 
 import jakarta.annotation.Nonnull;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.projectnessie.nessie.relocated.protobuf.ByteString;
 import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
 
 /** Factory methods for store indexes. */
 public final class StoreIndexes {
+  /**
+   * Rough estimate of the heap used by a materialized element, its key and its value, the value
+   * used for {@link #estimatedHeapSize(StoreIndex)}.
+   */
+  static final int ESTIMATED_MATERIALIZED_ELEMENT_HEAP_SIZE = 200;
+
   private StoreIndexes() {}
 
   public static <V> StoreIndex<V> emptyImmutableIndex(ElementSerializer<V> serializer) {
@@ -109,4 +117,90 @@ public final class StoreIndexes {
     StoreKey[] firstLastKeysArr = firstLastKeys.toArray(new StoreKey[0]);
     return new StripedIndexImpl<>(stripesArr, firstLastKeysArr, indexLoader);
   }
+
+  /**
+   * Thread-safe variant of {@link #lazyStoreIndex(Supplier, StoreKey, StoreKey)} for index views
+   * that are shared by concurrent readers. The returned index is read-only.
+   *
+   * <p>The supplier is called at most once. {@code onLoad} is called exactly once with the loaded
+   * index, before the loaded index is visible to other threads, and must {@link
+   * #materializeIndex(StoreIndex) materialize} the loaded index, if the loaded index is not
+   * thread-safe.
+   */
+  public static <V> StoreIndex<V> sharedLazyStoreIndex(
+      Supplier<StoreIndex<V>> supplier,
+      Consumer<StoreIndex<V>> onLoad,
+      ObjId objId,
+      StoreKey firstKey,
+      StoreKey lastKey) {
+    return new SharedLazyIndexImpl<>(supplier, onLoad, objId, firstKey, lastKey);
+  }
+
+  /**
+   * Variant of {@link #indexFromSplits(List, List, IndexLoader)} for index views that are shared by
+   * concurrent readers, all {@code stripes} must have been created via {@link
+   * #sharedLazyStoreIndex(Supplier, Consumer, ObjId, StoreKey, StoreKey)}.
+   *
+   * <p>Stripes loaded by the {@code indexLoader} are handed over to the shared lazy stripes, which
+   * remain the only instances referenced by the returned striped index.
+   */
+  public static <V> StoreIndex<V> sharedIndexFromSplits(
+      @Nonnull List<StoreIndex<V>> stripes,
+      @Nonnull List<StoreKey> firstLastKeys,
+      IndexLoader<V> indexLoader) {
+    IndexLoader<V> sharedLoader =
+        indexesToLoad -> {
+          StoreIndex<V>[] loaded = indexLoader.loadIndexes(indexesToLoad);
+          for (int i = 0; i < loaded.length; i++) {
+            StoreIndex<V> index = loaded[i];
+            if (index != null) {
+              @SuppressWarnings("unchecked")
+              SharedLazyIndexImpl<V> stripe = (SharedLazyIndexImpl<V>) stripes.get(i);
+              stripe.complete(index);
+              loaded[i] = stripe;
+            }
+          }
+          return loaded;
+        };
+    return indexFromSplits(stripes, firstLastKeys, sharedLoader);
+  }
+
+  /**
+   * Returns a read-only view of the given index, all mutating operations and {@link
+   * StoreIndex#serialize()} throw an {@link UnsupportedOperationException}.
+   */
+  public static <V> StoreIndex<V> readOnlyIndex(StoreIndex<V> index) {
+    return new ReadOnlyIndexImpl<>(index);
+  }
+
+  /**
+   * Materializes the keys and values of all elements of the given index, so that subsequent read
+   * operations no longer touch the index's serialized representation. A materialized index that is
+   * safely published can be read by concurrent threads.
+   */
+  public static <V> StoreIndex<V> materializeIndex(StoreIndex<V> index) {
+    for (StoreIndexElement<V> el : index) {
+      el.key();
+      el.content();
+    }
+    return index;
+  }
+
+  /**
+   * Compares the keys of the given elements, the result has the same sign as {@code
+   * a.key().compareTo(b.key())}. Keys of elements that have been lazily deserialized from different
+   * indexes are compared using their serialized representation, without materializing the keys.
+   */
+  public static int compareKeys(StoreIndexElement<?> a, StoreIndexElement<?> b) {
+    return StoreIndexImpl.compareElementKeys(a, b);
+  }
+
+  /**
+   * Estimated heap size of the given, materialized index, including its serialized representation
+   * and the materialized elements.
+   */
+  public static long estimatedHeapSize(StoreIndex<?> index) {
+    return index.estimatedSerializedSize()
+        + (long) index.elementCount() * ESTIMATED_MATERIALIZED_ELEMENT_HEAP_SIZE;
+  }
 }
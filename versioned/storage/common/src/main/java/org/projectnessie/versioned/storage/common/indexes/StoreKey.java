@@ -55,6 +55,40 @@ public final class StoreKey implements Comparable<StoreKey> {
     return key.compareTo(that.key);
   }
 
+  /**
+   * Compares two serialized keys, as produced by {@link #serialize(ByteBuffer)}, byte by byte
+   * without deserializing them. The sign of the result is the same as the sign of {@link
+   * #compareTo(StoreKey)} for the deserialized keys.
+   *
+   * <p>The UTF-8 byte order is the code point order, which differs from the UTF-16 order used by
+   * {@link String#compareTo(String)} only when a supplementary character (4-byte UTF-8 sequence)
+   * is compared against a character in the range {@code U+E000..U+FFFF} (3-byte UTF-8 sequence
+   * starting with {@code 0xEE} or {@code 0xEF}). This case is handled explicitly.
+   *
+   * <p>Reads the bytes between the buffers' positions and limits, does not modify the buffers.
+   */
+  static int compareSerialized(ByteBuffer a, ByteBuffer b) {
+    int posA = a.position();
+    int posB = b.position();
+    int lenA = a.limit() - posA;
+    int lenB = b.limit() - posB;
+    int len = Math.min(lenA, lenB);
+    for (int i = 0; i < len; i++) {
+      int ca = a.get(posA + i) & 0xff;
+      int cb = b.get(posB + i) & 0xff;
+      if (ca != cb) {
+        if (ca >= 0xf0 && (cb == 0xee || cb == 0xef)) {
+          return -1;
+        }
+        if (cb >= 0xf0 && (ca == 0xee || ca == 0xef)) {
+          return 1;
+        }
+        return ca - cb;
+      }
+    }
+    return lenA - lenB;
+  }
+
   @Override
   public int hashCode() {
     return key.hashCode();
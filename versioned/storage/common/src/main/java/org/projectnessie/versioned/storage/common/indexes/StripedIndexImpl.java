@@ -228,7 +228,7 @@ final class StripedIndexImpl<V> implements StoreIndex<V> {
     }
 
     Predicate<StoreKey> endCheck =
-        prefix ? k -> !k.startsWith(begin) : (end != null ? k -> end.compareTo(k) < 0 : k -> false);
+        prefix ? k -> !k.startsWith(begin) : (end != null ? k -> end.compareTo(k) < 0 : null);
 
     return new AbstractIterator<>() {
       int stripe = start;
@@ -241,7 +241,9 @@ final class StripedIndexImpl<V> implements StoreIndex<V> {
           boolean has = current.hasNext();
           if (has) {
             StoreIndexElement<V> v = current.next();
-            if (endCheck.test(v.key())) {
+            // Only materialize the key, if it needs to be checked. All elements in the stripes
+            // before the 'stop' stripe are before the 'end' key.
+            if (endCheck != null && (prefix || stripe == stop) && endCheck.test(v.key())) {
               return endOfData();
             }
             return v;
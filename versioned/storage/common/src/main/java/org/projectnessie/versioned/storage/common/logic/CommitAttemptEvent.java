@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.logic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR event for a single attempt of a {@link CommitRetry#commitRetry commit retry loop}. */
+@Name(CommitAttemptEvent.NAME)
+@Label("Commit Attempt")
+@Category({"Nessie", "Storage"})
+@Description("A single attempt of a commit operation, retried attempts are separate events.")
+@StackTrace(false)
+public final class CommitAttemptEvent extends Event {
+  public static final String NAME = "org.projectnessie.storage.CommitAttempt";
+
+  static final String OUTCOME_SUCCESS = "success";
+  static final String OUTCOME_RETRY = "retry";
+  static final String OUTCOME_UNKNOWN_RESULT = "unknown-result";
+  static final String OUTCOME_FAILED = "failed";
+
+  @Label("Repository ID")
+  String repositoryId;
+
+  @Label("Attempt")
+  @Description("Number of the attempt, starting at 0.")
+  int attempt;
+
+  @Label("Outcome")
+  @Description("One of success, retry, unknown-result or failed.")
+  String outcome;
+
+  void finish(String repositoryId, int attempt, String outcome) {
+    end();
+    if (shouldCommit()) {
+      this.repositoryId = repositoryId;
+      this.attempt = attempt;
+      this.outcome = outcome;
+      commit();
+    }
+  }
+}
@@ -34,6 +34,19 @@ public interface CommitLogQuery extends PageableQuery {
   @Value.Parameter(order = 3)
   Optional<ObjId> endCommitId();
 
+  /** Suggested {@link #readAhead()} for callers that walk long commit logs. */
+  int DEFAULT_READ_AHEAD = 2;
+
+  /**
+   * Number of commit batches to fetch asynchronously ahead of the consumer of the commit log, each
+   * batch contains up to {@code parents-per-commit} commits. {@code 0}, the default, disables
+   * read-ahead, as do negative values.
+   */
+  @Value.Default
+  default int readAhead() {
+    return 0;
+  }
+
   @Nonnull
   static CommitLogQuery commitLogQuery(@Nonnull ObjId commitId) {
     return commitLogQuery(null, commitId, null);
@@ -45,4 +58,15 @@ public interface CommitLogQuery extends PageableQuery {
     return ImmutableCommitLogQuery.of(
         Optional.ofNullable(pagingToken), commitId, Optional.ofNullable(endCommitId));
   }
+
+  @Nonnull
+  static CommitLogQuery commitLogQuery(
+      @Nullable PagingToken pagingToken,
+      @Nonnull ObjId commitId,
+      @Nullable ObjId endCommitId,
+      int readAhead) {
+    return ImmutableCommitLogQuery.of(
+            Optional.ofNullable(pagingToken), commitId, Optional.ofNullable(endCommitId))
+        .withReadAhead(readAhead);
+  }
 }
@@ -24,6 +24,7 @@ import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 import static org.projectnessie.nessie.relocated.protobuf.ByteString.copyFromUtf8;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexElement.indexElement;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.compareKeys;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.indexFromStripes;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.newStoreIndex;
 import static org.projectnessie.versioned.storage.common.indexes.StoreKey.keyFromString;
@@ -116,7 +117,19 @@ final class CommitLogicImpl implements CommitLogic {
             .map(ObjId::objIdFromBytes)
             .orElse(commitLogQuery.commitId());
 
-    return new CommitLogIter(startCommitId, commitLogQuery.endCommitId().orElse(null));
+    ObjId endCommitId = commitLogQuery.endCommitId().orElse(null);
+    int readAhead = commitLogQuery.readAhead();
+    return readAhead > 0
+        ? new ReadAheadCommitLogIter(persist, startCommitId, endCommitId, readAhead)
+        : new CommitLogIter(startCommitId, endCommitId);
+  }
+
+  static String commitsNotFoundMessage(List<ObjId> ids) {
+    return ids.size() == 1
+        ? "Commit '" + ids.get(0) + "' not found"
+        : "Commit(s) "
+            + ids.stream().map(ObjId::toString).collect(Collectors.joining(", "))
+            + " not found";
   }
 
   private final class CommitLogIter extends AbstractIterator<CommitObj>
@@ -153,13 +166,7 @@ final class CommitLogicImpl implements CommitLogic {
           try {
             b = batch = Arrays.asList(persist.fetchObjs(n.toArray(new ObjId[0]))).iterator();
           } catch (ObjNotFoundException e) {
-            List<ObjId> ids = e.objIds();
-            throw new NoSuchElementException(
-                ids.size() == 1
-                    ? "Commit '" + ids.get(0) + "' not found"
-                    : "Commit(s) "
-                        + ids.stream().map(ObjId::toString).collect(Collectors.joining(", "))
-                        + " not found");
+            throw new NoSuchElementException(commitsNotFoundMessage(e.objIds()));
           }
         }
 
@@ -934,7 +941,8 @@ final class CommitLogicImpl implements CommitLogic {
       this.toIndex = toIndex;
       this.fromIter = fromIter;
       this.toIter = toIter;
-      this.filter = filter != null ? filter : x -> true;
+      // 'null' means "no filter", avoids materializing the keys of elements that are not needed
+      this.filter = filter;
     }
 
     @Override
@@ -971,10 +979,8 @@ final class CommitLogicImpl implements CommitLogic {
           return consumeFrom();
         }
 
-        StoreKey fromKey = fromElement.key();
-        StoreKey toKey = toElement.key();
-
-        int cmp = fromKey.compareTo(toKey);
+        // Compare the keys without materializing those, keys of unchanged elements are not needed
+        int cmp = compareKeys(fromElement, toElement);
         // Consume either the "from" element, the "to" element or produce a diff between
         // "from" and "to".
         if (cmp < 0) {
@@ -1029,7 +1035,7 @@ final class CommitLogicImpl implements CommitLogic {
     private StoreIndexElement<CommitOp> next(Iterator<StoreIndexElement<CommitOp>> iter) {
       while (iter.hasNext()) {
         StoreIndexElement<CommitOp> el = iter.next();
-        if (el.content().action().exists() && filter.test(el.key())) {
+        if (el.content().action().exists() && (filter == null || filter.test(el.key()))) {
           return el;
         }
       }
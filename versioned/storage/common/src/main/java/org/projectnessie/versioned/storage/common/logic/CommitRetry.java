@@ -54,17 +54,25 @@ public class CommitRetry {
     long t0 = tls.currentNanos();
     long t1 = t0;
     for (int i = 0; true; i++, t1 = tls.currentNanos()) {
+      CommitAttemptEvent event = new CommitAttemptEvent();
+      event.begin();
+      // Anything else than a result or a retryable exception, including errors, fails the commit.
+      String outcome = CommitAttemptEvent.OUTCOME_FAILED;
       try {
-        return attempt.attempt(persist, retryState);
+        T result = attempt.attempt(persist, retryState);
+        outcome = CommitAttemptEvent.OUTCOME_SUCCESS;
+        return result;
       } catch (RetryException e) {
-        if (!tls.retry(t1)) {
-          throw new RetryTimeoutException(i, tls.currentNanos() - t0);
-        }
+        outcome = CommitAttemptEvent.OUTCOME_RETRY;
         retryState = e.retryState();
       } catch (UnknownOperationResultException e) {
-        if (!tls.retry(t1)) {
-          throw new RetryTimeoutException(i, tls.currentNanos() - t0);
-        }
+        outcome = CommitAttemptEvent.OUTCOME_UNKNOWN_RESULT;
+      } finally {
+        event.finish(tls.repositoryId, i, outcome);
+      }
+
+      if (!tls.retry(t1)) {
+        throw new RetryTimeoutException(i, tls.currentNanos() - t0);
       }
     }
   }
@@ -102,6 +110,7 @@ public class CommitRetry {
   static final class TryLoopState {
 
     private final MonotonicClock monotonicClock;
+    private final String repositoryId;
     private final long t0;
     private final long maxTime;
     private final int maxRetries;
@@ -115,6 +124,7 @@ public class CommitRetry {
       this.maxTime = MILLISECONDS.toNanos(config.commitTimeoutMillis());
       this.maxRetries = config.commitRetries();
       this.monotonicClock = monotonicClock;
+      this.repositoryId = config.repositoryId();
       this.t0 = monotonicClock.currentNanos();
       this.lowerBound = config.retryInitialSleepMillisLower();
       this.upperBound = config.retryInitialSleepMillisUpper();
@@ -181,7 +191,19 @@ public class CommitRetry {
       Span.current()
           .addEvent(OTEL_SLEEP_EVENT_NAME, Attributes.of(OTEL_SLEEP_EVENT_TIME_KEY, sleepMillis));
 
-      monotonicClock.sleepMillis(sleepMillis);
+      CommitRetrySleepEvent event = new CommitRetrySleepEvent();
+      event.begin();
+      try {
+        monotonicClock.sleepMillis(sleepMillis);
+      } finally {
+        event.end();
+        if (event.shouldCommit()) {
+          event.repositoryId = repositoryId;
+          event.retry = retries;
+          event.sleepMillis = sleepMillis;
+          event.commit();
+        }
+      }
 
       upper = upper * 2;
       long max = maxSleep;
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.logic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/** JFR event for the back-off sleep between two commit attempts, see {@link CommitRetry}. */
+@Name(CommitRetrySleepEvent.NAME)
+@Label("Commit Retry Sleep")
+@Category({"Nessie", "Storage"})
+@Description("Back-off sleep before retrying a commit operation.")
+@StackTrace(false)
+public final class CommitRetrySleepEvent extends Event {
+  public static final String NAME = "org.projectnessie.storage.CommitRetrySleep";
+
+  @Label("Repository ID")
+  String repositoryId;
+
+  @Label("Retry")
+  @Description("Number of the retry, starting at 1.")
+  int retry;
+
+  @Label("Sleep Time")
+  @Description("The computed sleep time, the event duration is the actual sleep time.")
+  @Timespan(Timespan.MILLISECONDS)
+  long sleepMillis;
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.logic;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR event for loading stripes of a striped reference index, see {@link IndexesLogicImpl}. */
+@Name(IndexStripeLoadEvent.NAME)
+@Label("Index Stripe Load")
+@Category({"Nessie", "Storage"})
+@Description("Fetch and deserialization of one or more stripes of a reference index.")
+@StackTrace(false)
+public final class IndexStripeLoadEvent extends Event {
+  public static final String NAME = "org.projectnessie.storage.IndexStripeLoad";
+
+  @Label("Repository ID")
+  String repositoryId;
+
+  @Label("Stripes")
+  @Description("Number of loaded stripes.")
+  int stripes;
+
+  @Label("Serialized Size")
+  @Description("Total serialized size of the loaded stripes.")
+  @DataAmount
+  long bytes;
+}
@@ -22,11 +22,13 @@ import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
 import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
 import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
+import org.projectnessie.versioned.storage.common.indexes.StoreKey;
 import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
 import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
 import org.projectnessie.versioned.storage.common.objtypes.IndexStripe;
@@ -54,6 +56,43 @@ public interface IndexesLogic {
         : emptyImmutableIndex(COMMIT_OP_SERIALIZER);
   }
 
+  /**
+   * Returns an immutable, thread-safe view of the complete index of the given commit, which can be
+   * shared by concurrent readers. Views are cached via {@link Persist#commitIndexCache()}, so
+   * concurrent and subsequent reads of the same commit share the deserialized elements and the
+   * loaded reference index stripes.
+   *
+   * <p>Only use this function for read operations, all mutating operations on the returned index
+   * throw an {@link UnsupportedOperationException}.
+   */
+  @Nonnull
+  StoreIndex<CommitOp> buildSharedCompleteIndex(@Nonnull CommitObj commit);
+
+  /**
+   * Similar to {@link #buildSharedCompleteIndex(CommitObj)}, but returns an empty and immutable
+   * index for a {@code null} value for {@code commit}.
+   */
+  @Nonnull
+  default StoreIndex<CommitOp> buildSharedCompleteIndexOrEmpty(@Nullable CommitObj commit) {
+    return commit != null
+        ? buildSharedCompleteIndex(commit)
+        : emptyImmutableIndex(COMMIT_OP_SERIALIZER);
+  }
+
+  /**
+   * Builds the complete indexes for multiple commits at once, for read operations that look up the
+   * same keys on multiple commits, for example the HEADs of multiple references.
+   *
+   * <p>The reference index stripes of all commits that may contain any of the given {@code keys}
+   * are bulk-loaded upfront, stripes that are shared by multiple commits are loaded only once. A
+   * {@code null} element in {@code commits} yields an empty and immutable index.
+   *
+   * @return the indexes, in the same order as {@code commits}
+   */
+  @Nonnull
+  List<StoreIndex<CommitOp>> buildCompleteIndexes(
+      @Nonnull List<CommitObj> commits, @Nonnull Set<StoreKey> keys);
+
   @Nullable
   StoreIndex<CommitOp> buildReferenceIndexOnly(@Nonnull CommitObj commit);
 
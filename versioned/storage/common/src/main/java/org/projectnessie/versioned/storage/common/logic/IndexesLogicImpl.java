@@ -20,10 +20,17 @@ import static com.google.common.base.Preconditions.checkState;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.deserializeStoreIndex;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.emptyImmutableIndex;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.estimatedHeapSize;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.indexFromSplits;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.layeredIndex;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.lazyStoreIndex;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.materializeIndex;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.newStoreIndex;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.readOnlyIndex;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.sharedIndexFromSplits;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.sharedLazyStoreIndex;
+import static org.projectnessie.versioned.storage.common.logic.CommitLogQuery.DEFAULT_READ_AHEAD;
 import static org.projectnessie.versioned.storage.common.logic.CommitLogQuery.commitLogQuery;
 import static org.projectnessie.versioned.storage.common.logic.Logics.commitLogic;
 import static org.projectnessie.versioned.storage.common.logic.SuppliedCommitIndex.suppliedCommitIndex;
@@ -48,10 +55,17 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.IntFunction;
+import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 import org.projectnessie.nessie.relocated.protobuf.ByteString;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
@@ -202,6 +216,239 @@ final class IndexesLogicImpl implements IndexesLogic {
     return index;
   }
 
+  @Override
+  @Nonnull
+  public StoreIndex<CommitOp> buildSharedCompleteIndex(@Nonnull CommitObj commit) {
+    checkArgument(!commit.incompleteIndex(), "Commit %s has no complete key index", commit.id());
+
+    return persist.commitIndexCache().get(commit, this::sharedCompleteIndex);
+  }
+
+  private StoreIndex<CommitOp> sharedCompleteIndex(CommitObj commit, LongConsumer heapSize) {
+    StoreIndex<CommitOp> incremental = materializeIndex(incrementalIndexFromCommit(commit));
+    heapSize.accept(estimatedHeapSize(incremental));
+    StoreIndex<CommitOp> index = incremental;
+
+    ObjId referenceIndexId = commit.referenceIndex();
+    List<IndexStripe> commitStripes = commit.referenceIndexStripes();
+    if (!commitStripes.isEmpty()) {
+      checkState(
+          referenceIndexId == null,
+          "Commit %s: must not have both pointer to a reference index and stripes",
+          commit.id());
+      StoreIndex<CommitOp> referenceIndex =
+          sharedReferenceIndexFromStripes(commitStripes, commit.id(), heapSize);
+      index = layeredIndex(referenceIndex, incremental);
+    } else if (referenceIndexId != null) {
+      StoreIndex<CommitOp> referenceIndex =
+          sharedLazyStoreIndex(
+              () -> loadSharedReferenceIndex(referenceIndexId, commit.id(), heapSize),
+              loaded -> {},
+              referenceIndexId,
+              null,
+              null);
+      index = layeredIndex(referenceIndex, incremental);
+    }
+
+    return readOnlyIndex(index);
+  }
+
+  private StoreIndex<CommitOp> loadSharedReferenceIndex(
+      @Nonnull ObjId indexId, @Nonnull ObjId commitId, LongConsumer heapSize) {
+    Obj keyIndex;
+    try {
+      keyIndex = persist.fetchObj(indexId);
+    } catch (ObjNotFoundException e) {
+      throw new IllegalStateException(
+          format(
+              "Commit %s references the reference index %s, which does not exist",
+              commitId, indexId));
+    }
+    ObjType indexType = keyIndex.type();
+    if (indexType instanceof StandardObjType) {
+      switch ((StandardObjType) indexType) {
+        case INDEX_SEGMENTS:
+          IndexSegmentsObj split = (IndexSegmentsObj) keyIndex;
+          return sharedReferenceIndexFromStripes(split.stripes(), commitId, heapSize);
+        case INDEX:
+          StoreIndex<CommitOp> index =
+              materializeIndex(deserializeIndex(((IndexObj) keyIndex).index()));
+          heapSize.accept(estimatedHeapSize(index));
+          return index;
+        default:
+          // fall through
+      }
+    }
+    throw new IllegalStateException(
+        format(
+            "Commit %s references a reference index, which is of unsupported key index type %s",
+            commitId, indexType));
+  }
+
+  /**
+   * Variant of {@link #referenceIndexFromStripes(List, ObjId)} for shared index views. Each stripe
+   * is loaded at most once, either individually or via a bulk load, and is materialized before it
+   * becomes visible to other threads.
+   */
+  private StoreIndex<CommitOp> sharedReferenceIndexFromStripes(
+      List<IndexStripe> indexStripes, ObjId commitId, LongConsumer heapSize) {
+    List<StoreIndex<CommitOp>> stripes = new ArrayList<>(indexStripes.size());
+    List<StoreKey> firstLastKeys = new ArrayList<>(indexStripes.size() * 2);
+
+    for (int i = 0; i < indexStripes.size(); i++) {
+      IndexStripe s = indexStripes.get(i);
+      int idx = i;
+      stripes.add(
+          sharedLazyStoreIndex(
+              () -> {
+                LOGGER.debug(
+                    "Individual fetch of stripe #{} of {} stripes for commit {}",
+                    idx,
+                    indexStripes.size(),
+                    commitId);
+                return loadIndexSegment(s.segment());
+              },
+              loaded -> heapSize.accept(estimatedHeapSize(materializeIndex(loaded))),
+              s.segment(),
+              s.firstKey(),
+              s.lastKey()));
+      firstLastKeys.add(s.firstKey());
+      firstLastKeys.add(s.lastKey());
+    }
+    if (stripes.size() == 1) {
+      return stripes.get(0);
+    }
+
+    IndexLoader<CommitOp> indexLoader =
+        indexesToLoad -> {
+          ObjId[] ids = new ObjId[indexesToLoad.length];
+          int cnt = 0;
+          for (int i = 0; i < indexesToLoad.length; i++) {
+            StoreIndex<CommitOp> idx = indexesToLoad[i];
+            if (idx != null) {
+              ids[i] = idx.getObjId();
+              cnt++;
+            }
+          }
+          LOGGER.debug("Fetching {} of {} index segments for commit {}", cnt, ids.length, commitId);
+          return loadIndexSegments(ids);
+        };
+
+    return sharedIndexFromSplits(stripes, firstLastKeys, indexLoader);
+  }
+
+  @Override
+  @Nonnull
+  public List<StoreIndex<CommitOp>> buildCompleteIndexes(
+      @Nonnull List<CommitObj> commits, @Nonnull Set<StoreKey> keys) {
+    // Bulk-load the external reference indexes of all commits
+    Set<ObjId> referenceIndexIds = new LinkedHashSet<>();
+    for (CommitObj commit : commits) {
+      if (commit != null) {
+        checkArgument(
+            !commit.incompleteIndex(), "Commit %s has no complete key index", commit.id());
+        if (commit.referenceIndex() != null) {
+          referenceIndexIds.add(commit.referenceIndex());
+        }
+      }
+    }
+    Map<ObjId, Obj> referenceIndexes = new HashMap<>();
+    if (!referenceIndexIds.isEmpty()) {
+      try {
+        for (Obj obj : persist.fetchObjs(referenceIndexIds.toArray(new ObjId[0]))) {
+          referenceIndexes.put(obj.id(), obj);
+        }
+      } catch (ObjNotFoundException e) {
+        throw new IllegalStateException(format("Reference indexes %s not found", e.objIds()));
+      }
+    }
+
+    // Bulk-load the stripes of all commits that may contain any of the keys, stripes that are
+    // shared by multiple commits are loaded only once
+    NavigableSet<StoreKey> sortedKeys = new TreeSet<>(keys);
+    List<List<IndexStripe>> commitsStripes = new ArrayList<>(commits.size());
+    Set<ObjId> segmentIds = new LinkedHashSet<>();
+    for (CommitObj commit : commits) {
+      List<IndexStripe> stripes =
+          commit != null ? referenceIndexStripes(commit, referenceIndexes) : List.of();
+      commitsStripes.add(stripes);
+      for (IndexStripe stripe : stripes) {
+        StoreKey key = sortedKeys.ceiling(stripe.firstKey());
+        if (key != null && key.compareTo(stripe.lastKey()) <= 0) {
+          segmentIds.add(stripe.segment());
+        }
+      }
+    }
+    Map<ObjId, StoreIndex<CommitOp>> segments = new HashMap<>();
+    if (!segmentIds.isEmpty()) {
+      ObjId[] ids = segmentIds.toArray(new ObjId[0]);
+      LOGGER.debug("Fetching {} index segments for {} commits", ids.length, commits.size());
+      StoreIndex<CommitOp>[] loaded = loadIndexSegments(ids);
+      for (int i = 0; i < ids.length; i++) {
+        if (loaded[i] != null) {
+          segments.put(ids[i], loaded[i]);
+        }
+      }
+    }
+
+    List<StoreIndex<CommitOp>> indexes = new ArrayList<>(commits.size());
+    for (int i = 0; i < commits.size(); i++) {
+      CommitObj commit = commits.get(i);
+      if (commit == null) {
+        indexes.add(emptyImmutableIndex(COMMIT_OP_SERIALIZER));
+        continue;
+      }
+      StoreIndex<CommitOp> incremental = incrementalIndexFromCommit(commit);
+      List<IndexStripe> stripes = commitsStripes.get(i);
+      ObjId referenceIndexId = commit.referenceIndex();
+      if (!stripes.isEmpty()) {
+        StoreIndex<CommitOp> referenceIndex =
+            referenceIndexFromStripes(stripes, commit.id(), segments);
+        indexes.add(layeredIndex(referenceIndex, incremental));
+      } else if (referenceIndexId != null) {
+        IndexObj indexObj = (IndexObj) referenceIndexes.get(referenceIndexId);
+        StoreIndex<CommitOp> referenceIndex =
+            deserializeIndex(indexObj.index()).setObjId(referenceIndexId);
+        indexes.add(layeredIndex(referenceIndex, incremental));
+      } else {
+        indexes.add(incremental);
+      }
+    }
+    return indexes;
+  }
+
+  /**
+   * Returns the reference index stripes of the given commit, either from the commit itself or from
+   * the commit's external reference index, or an empty list if the commit has no reference index
+   * or a non-striped external reference index.
+   */
+  private static List<IndexStripe> referenceIndexStripes(
+      CommitObj commit, Map<ObjId, Obj> referenceIndexes) {
+    ObjId referenceIndexId = commit.referenceIndex();
+    List<IndexStripe> commitStripes = commit.referenceIndexStripes();
+    if (!commitStripes.isEmpty()) {
+      checkState(
+          referenceIndexId == null,
+          "Commit %s: must not have both pointer to a reference index and stripes",
+          commit.id());
+      return commitStripes;
+    }
+    if (referenceIndexId == null) {
+      return List.of();
+    }
+    ObjType indexType = referenceIndexes.get(referenceIndexId).type();
+    if (indexType == StandardObjType.INDEX_SEGMENTS) {
+      return ((IndexSegmentsObj) referenceIndexes.get(referenceIndexId)).stripes();
+    }
+    if (indexType == INDEX) {
+      return List.of();
+    }
+    throw new IllegalStateException(
+        format(
+            "Commit %s references a reference index, which is of unsupported key index type %s",
+            commit.id(), indexType));
+  }
+
   @Override
   @Nullable
   public StoreIndex<CommitOp> buildReferenceIndexOnly(@Nonnull CommitObj commit) {
@@ -233,7 +480,9 @@ final class IndexesLogicImpl implements IndexesLogic {
       keyIndex = persist.fetchObj(indexId);
     } catch (ObjNotFoundException e) {
       throw new IllegalStateException(
-          format("Commit %s references a reference index, which does not exist", indexId));
+          format(
+              "Commit %s references the reference index %s, which does not exist",
+              commitId, indexId));
     }
     ObjType indexType = keyIndex.type();
     if (indexType instanceof StandardObjType) {
@@ -258,6 +507,8 @@ final class IndexesLogicImpl implements IndexesLogic {
   }
 
   private StoreIndex<CommitOp> loadIndexSegment(@Nonnull ObjId indexId) {
+    IndexStripeLoadEvent event = new IndexStripeLoadEvent();
+    event.begin();
     IndexObj index;
     try {
       index = persist.fetchTypedObj(indexId, INDEX, IndexObj.class);
@@ -265,28 +516,58 @@ final class IndexesLogicImpl implements IndexesLogic {
       throw new IllegalStateException(
           format("Commit %s references a reference index, which does not exist", indexId));
     }
-    return deserializeIndex(index.index()).setObjId(indexId);
+    StoreIndex<CommitOp> r = deserializeIndex(index.index()).setObjId(indexId);
+    commitStripeLoadEvent(event, 1, index.index().size());
+    return r;
   }
 
   private StoreIndex<CommitOp>[] loadIndexSegments(@Nonnull ObjId[] indexes) {
+    IndexStripeLoadEvent event = new IndexStripeLoadEvent();
+    event.begin();
     try {
       IndexObj[] objs = persist.fetchTypedObjs(indexes, INDEX, IndexObj.class);
       @SuppressWarnings("unchecked")
       StoreIndex<CommitOp>[] r = new StoreIndex[indexes.length];
+      int stripes = 0;
+      long bytes = 0L;
       for (int i = 0; i < objs.length; i++) {
         IndexObj index = objs[i];
         if (index != null) {
           r[i] = deserializeIndex(index.index()).setObjId(indexes[i]);
+          stripes++;
+          bytes += index.index().size();
         }
       }
+      commitStripeLoadEvent(event, stripes, bytes);
       return r;
     } catch (ObjNotFoundException e) {
       throw new IllegalStateException(format("Reference index segments %s not found", e.objIds()));
     }
   }
 
+  private void commitStripeLoadEvent(IndexStripeLoadEvent event, int stripes, long bytes) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.repositoryId = persist.config().repositoryId();
+      event.stripes = stripes;
+      event.bytes = bytes;
+      event.commit();
+    }
+  }
+
   private StoreIndex<CommitOp> referenceIndexFromStripes(
       List<IndexStripe> indexStripes, ObjId commitId) {
+    return referenceIndexFromStripes(indexStripes, commitId, Collections.emptyMap());
+  }
+
+  /**
+   * Builds the striped reference index, stripes that are present in {@code preloaded} are used
+   * directly, all other stripes are loaded lazily.
+   */
+  private StoreIndex<CommitOp> referenceIndexFromStripes(
+      List<IndexStripe> indexStripes,
+      ObjId commitId,
+      Map<ObjId, StoreIndex<CommitOp>> preloaded) {
     List<StoreIndex<CommitOp>> stripes = new ArrayList<>(indexStripes.size());
     List<StoreKey> firstLastKeys = new ArrayList<>(indexStripes.size() * 2);
 
@@ -295,6 +576,14 @@ final class IndexesLogicImpl implements IndexesLogic {
 
     for (int i = 0; i < indexStripes.size(); i++) {
       IndexStripe s = indexStripes.get(i);
+      firstLastKeys.add(s.firstKey());
+      firstLastKeys.add(s.lastKey());
+      StoreIndex<CommitOp> preloadedStripe = preloaded.get(s.segment());
+      if (preloadedStripe != null) {
+        loaded[i] = preloadedStripe;
+        stripes.add(preloadedStripe);
+        continue;
+      }
       int idx = i;
       stripes.add(
           lazyStoreIndex(
@@ -314,8 +603,6 @@ final class IndexesLogicImpl implements IndexesLogic {
                   s.firstKey(),
                   s.lastKey())
               .setObjId(s.segment()));
-      firstLastKeys.add(s.firstKey());
-      firstLastKeys.add(s.lastKey());
     }
     if (stripes.size() == 1) {
       return stripes.get(0);
@@ -551,13 +838,15 @@ final class IndexesLogicImpl implements IndexesLogic {
   List<ObjId> findCommitsWithIncompleteIndex(@Nonnull ObjId commitId) {
     ArrayList<ObjId> commitsToUpdate = new ArrayList<>();
     CommitLogic commitLogic = commitLogic(persist);
-    for (PagedResult<CommitObj, ObjId> iter = commitLogic.commitLog(commitLogQuery(commitId));
-        iter.hasNext(); ) {
-      CommitObj c = iter.next();
-      if (!c.incompleteIndex()) {
-        break;
+    try (PagedResult<CommitObj, ObjId> iter =
+        commitLogic.commitLog(commitLogQuery(null, commitId, null, DEFAULT_READ_AHEAD))) {
+      while (iter.hasNext()) {
+        CommitObj c = iter.next();
+        if (!c.incompleteIndex()) {
+          break;
+        }
+        commitsToUpdate.add(c.id());
       }
-      commitsToUpdate.add(c.id());
     }
     commitsToUpdate.trimToSize();
     return commitsToUpdate;
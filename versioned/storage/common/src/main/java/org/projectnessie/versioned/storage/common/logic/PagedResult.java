@@ -22,7 +22,14 @@ import java.util.Iterator;
  * Extends {@link Iterator} with ability to generate a {@link PagingToken} instead of the next
  * element.
  */
-public interface PagedResult<E, K> extends Iterator<E> {
+public interface PagedResult<E, K> extends Iterator<E>, AutoCloseable {
   @Nonnull
   PagingToken tokenForKey(K key);
+
+  /**
+   * Releases resources held by this result, for example pending read-ahead fetches, when the
+   * result is not consumed until its end.
+   */
+  @Override
+  default void close() {}
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.logic;
+
+import static java.util.Collections.emptyIterator;
+import static org.projectnessie.versioned.storage.common.logic.PagingToken.emptyPagingToken;
+import static org.projectnessie.versioned.storage.common.logic.PagingToken.pagingToken;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ_ID;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+
+/**
+ * Commit log iterator that fetches up to {@link CommitLogQuery#readAhead()} batches of commits
+ * ahead of the consumer.
+ *
+ * <p>The IDs of the next batch are the {@link CommitObj#tail() tail} of the last commit of the
+ * current batch, so each batch is fetched as soon as its predecessor is available. Read-ahead only
+ * starts once the consumer moved past the first batch of parents, and grows by one batch per
+ * consumed batch, so consumers that only need a few commits do not trigger additional fetches.
+ * {@link #close()} cancels the pending fetches of a result that is not consumed until its end.
+ *
+ * <p>Fetches are submitted to a bounded, shared executor and use {@link
+ * Persist#fetchObjsAsync(ObjId[])}, so backends with asynchronous drivers do not block an executor
+ * thread. If the executor is saturated, the fetch runs on the calling thread.
+ */
+final class ReadAheadCommitLogIter extends AbstractIterator<CommitObj>
+    implements PagedResult<CommitObj, ObjId> {
+
+  private static final int READ_AHEAD_THREADS =
+      Math.max(2, Runtime.getRuntime().availableProcessors());
+
+  private static final Executor READ_AHEAD_EXECUTOR = readAheadExecutor();
+
+  private final Persist persist;
+  private final ObjId endCommitId;
+  private final int readAhead;
+  private final Deque<CompletableFuture<Batch>> inFlight = new ArrayDeque<>();
+
+  private Iterator<CommitObj> batch = emptyIterator();
+  private List<ObjId> nextIds;
+  private int consumedBatches;
+  private boolean closed;
+
+  ReadAheadCommitLogIter(Persist persist, ObjId startCommitId, ObjId endCommitId, int readAhead) {
+    this.persist = persist;
+    this.endCommitId = endCommitId;
+    this.readAhead = readAhead;
+    List<ObjId> ids = new ArrayList<>(1);
+    ids.add(startCommitId);
+    inFlight.add(fetch(ids));
+  }
+
+  @Override
+  protected CommitObj computeNext() {
+    while (true) {
+      if (batch.hasNext()) {
+        return batch.next();
+      }
+
+      if (closed) {
+        return endOfData();
+      }
+      CompletableFuture<Batch> head = inFlight.pollFirst();
+      if (head == null) {
+        if (nextIds == null) {
+          return endOfData();
+        }
+        head = fetch(nextIds);
+        nextIds = null;
+      }
+      // Keep up to 'readAhead' batches in flight while the consumer processes the current batch.
+      // The first batch contains only the start commit, the second batch its parents, read-ahead
+      // starts with the third batch.
+      int ahead = Math.min(readAhead, consumedBatches - 1);
+      while (inFlight.size() < ahead) {
+        CompletableFuture<Batch> last = inFlight.isEmpty() ? head : inFlight.peekLast();
+        inFlight.add(last.thenCompose(b -> fetch(b.next)));
+      }
+      consumedBatches++;
+
+      Batch b = join(head);
+      if (b.missing != null) {
+        cancelInFlight();
+        throw new NoSuchElementException(CommitLogicImpl.commitsNotFoundMessage(b.missing));
+      }
+      if (b.next == null) {
+        cancelInFlight();
+      } else if (inFlight.isEmpty()) {
+        // No read-ahead yet, fetch the next batch once the consumer needs it.
+        nextIds = b.next;
+      }
+      batch = b.commits.iterator();
+    }
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    batch = emptyIterator();
+    nextIds = null;
+    cancelInFlight();
+  }
+
+  private void cancelInFlight() {
+    // Cancelling a chained fetch prevents that it issues its database request, when its
+    // predecessor completes.
+    for (CompletableFuture<Batch> future : inFlight) {
+      future.cancel(false);
+    }
+    inFlight.clear();
+  }
+
+  @Nonnull
+  @Override
+  public PagingToken tokenForKey(ObjId key) {
+    return key != null ? pagingToken(key.asBytes()) : emptyPagingToken();
+  }
+
+  private CompletableFuture<Batch> fetch(List<ObjId> ids) {
+    if (ids == null) {
+      return CompletableFuture.completedFuture(Batch.END);
+    }
+    int i = ids.indexOf(EMPTY_OBJ_ID);
+    if (i != -1) {
+      ids = ids.subList(0, i);
+    }
+    if (ids.isEmpty()) {
+      return CompletableFuture.completedFuture(Batch.END);
+    }
+    ObjId[] idArray = ids.toArray(new ObjId[0]);
+    return CompletableFuture.supplyAsync(() -> persist.fetchObjsAsync(idArray), READ_AHEAD_EXECUTOR)
+        .thenCompose(stage -> stage)
+        .thenApply(objs -> batch(idArray, objs));
+  }
+
+  private Batch batch(ObjId[] ids, Obj[] objs) {
+    List<CommitObj> commits = new ArrayList<>(objs.length);
+    List<ObjId> missing = null;
+    for (int i = 0; i < objs.length; i++) {
+      Obj obj = objs[i];
+      if (obj == null) {
+        if (missing == null) {
+          missing = new ArrayList<>();
+        }
+        missing.add(ids[i]);
+        continue;
+      }
+      CommitObj commit = (CommitObj) obj;
+      commits.add(commit);
+      if (commit.id().equals(endCommitId)) {
+        return new Batch(commits, null, missing);
+      }
+    }
+    List<ObjId> next = missing == null ? commits.get(commits.size() - 1).tail() : null;
+    return new Batch(commits, next, missing);
+  }
+
+  private static Batch join(CompletableFuture<Batch> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private static final class Batch {
+    static final Batch END = new Batch(List.of(), null, null);
+
+    final List<CommitObj> commits;
+    final List<ObjId> next;
+    final List<ObjId> missing;
+
+    Batch(List<CommitObj> commits, List<ObjId> next, List<ObjId> missing) {
+      this.commits = commits;
+      this.next = next;
+      this.missing = missing;
+    }
+  }
+
+  private static Executor readAheadExecutor() {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            READ_AHEAD_THREADS,
+            READ_AHEAD_THREADS,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(16 * READ_AHEAD_THREADS),
+            new ThreadFactoryBuilder()
+                .setNameFormat("nessie-commit-log-read-ahead-%d")
+                .setDaemon(true)
+                .build(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.persist;
+
+import jakarta.annotation.Nonnull;
+import java.util.function.BiFunction;
+import java.util.function.LongConsumer;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+
+/**
+ * Cache of immutable, thread-safe views of complete commit indexes, keyed by the commit's {@link
+ * ObjId}, used to share an index view across concurrent readers of the same commit.
+ *
+ * <p>Commit objects are immutable, so cached index views never need to be invalidated because of
+ * a change to the commit.
+ */
+@FunctionalInterface
+public interface CommitIndexCache {
+
+  /**
+   * Returns the cached index view for the given commit or builds it using {@code builder}.
+   * Concurrent calls for the same commit share a single build.
+   *
+   * <p>The builder receives a callback to report the estimated heap size of the view. The callback
+   * is called for the parts of the view that are built eagerly and once for each part that is
+   * loaded later, for example a reference index stripe.
+   */
+  @Nonnull
+  StoreIndex<CommitOp> get(
+      @Nonnull CommitObj commit,
+      @Nonnull BiFunction<CommitObj, LongConsumer, StoreIndex<CommitOp>> builder);
+
+  /** Returns an instance that does not cache, but builds a new index view for every call. */
+  static CommitIndexCache noopCommitIndexCache() {
+    return (commit, builder) -> builder.apply(commit, heapSize -> {});
+  }
+}
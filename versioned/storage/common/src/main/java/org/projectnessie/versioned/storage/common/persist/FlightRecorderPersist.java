@@ -0,0 +1,551 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.persist;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
+import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
+import org.projectnessie.versioned.storage.common.exceptions.RefAlreadyExistsException;
+import org.projectnessie.versioned.storage.common.exceptions.RefConditionFailedException;
+import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundException;
+import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
+
+/**
+ * Emits a JFR {@link PersistCallEvent} for each call to the wrapped {@link Persist}, which is the
+ * storage backend itself and not a caching {@link Persist}, so that events represent actual
+ * storage round-trips.
+ */
+public class FlightRecorderPersist implements Persist {
+  private final Persist delegate;
+  private final String repositoryId;
+
+  public FlightRecorderPersist(Persist delegate) {
+    this.delegate = delegate;
+    this.repositoryId = delegate.config().repositoryId();
+  }
+
+  private static int nonNull(Object[] array) {
+    int n = 0;
+    for (Object o : array) {
+      if (o != null) {
+        n++;
+      }
+    }
+    return n;
+  }
+
+  private static int count(boolean[] array) {
+    int n = 0;
+    for (boolean b : array) {
+      if (b) {
+        n++;
+      }
+    }
+    return n;
+  }
+
+  @Override
+  public int hardObjectSizeLimit() {
+    return delegate.hardObjectSizeLimit();
+  }
+
+  @Override
+  public int effectiveIndexSegmentSizeLimit() {
+    return delegate.effectiveIndexSegmentSizeLimit();
+  }
+
+  @Override
+  public int effectiveIncrementalIndexSizeLimit() {
+    return delegate.effectiveIncrementalIndexSizeLimit();
+  }
+
+  @Override
+  @Nonnull
+  public String name() {
+    return delegate.name();
+  }
+
+  @Override
+  @Nonnull
+  public StoreConfig config() {
+    return delegate.config();
+  }
+
+  @Override
+  @Nonnull
+  public Reference addReference(@Nonnull Reference reference) throws RefAlreadyExistsException {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      Reference r = delegate.addReference(reference);
+      results = 1;
+      return r;
+    } finally {
+      event.finish(repositoryId, "addReference", 1, results);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public Reference markReferenceAsDeleted(@Nonnull Reference reference)
+      throws RefNotFoundException, RefConditionFailedException {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      Reference r = delegate.markReferenceAsDeleted(reference);
+      results = 1;
+      return r;
+    } finally {
+      event.finish(repositoryId, "markReferenceAsDeleted", 1, results);
+    }
+  }
+
+  @Override
+  public void purgeReference(@Nonnull Reference reference)
+      throws RefNotFoundException, RefConditionFailedException {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      delegate.purgeReference(reference);
+      results = 1;
+    } finally {
+      event.finish(repositoryId, "purgeReference", 1, results);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public Reference updateReferencePointer(@Nonnull Reference reference, @Nonnull ObjId newPointer)
+      throws RefNotFoundException, RefConditionFailedException {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      Reference r = delegate.updateReferencePointer(reference, newPointer);
+      results = 1;
+      return r;
+    } finally {
+      event.finish(repositoryId, "updateReferencePointer", 1, results);
+    }
+  }
+
+  @Override
+  @Nullable
+  public Reference fetchReference(@Nonnull String name) {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      Reference r = delegate.fetchReference(name);
+      results = r != null ? 1 : 0;
+      return r;
+    } finally {
+      event.finish(repositoryId, "fetchReference", 1, results);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public Reference[] fetchReferences(@Nonnull String[] names) {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      Reference[] r = delegate.fetchReferences(names);
+      results = nonNull(r);
+      return r;
+    } finally {
+      event.finish(repositoryId, "fetchReferences", names.length, results);
+    }
+  }
+
+  @Override
+  @Nullable
+  public Reference fetchReferenceForUpdate(@Nonnull String name) {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      Reference r = delegate.fetchReferenceForUpdate(name);
+      results = r != null ? 1 : 0;
+      return r;
+    } finally {
+      event.finish(repositoryId, "fetchReferenceForUpdate", 1, results);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public Reference[] fetchReferencesForUpdate(@Nonnull String[] names) {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      Reference[] r = delegate.fetchReferencesForUpdate(names);
+      results = nonNull(r);
+      return r;
+    } finally {
+      event.finish(repositoryId, "fetchReferencesForUpdate", names.length, results);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public Obj fetchObj(@Nonnull ObjId id) throws ObjNotFoundException {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      Obj r = delegate.fetchObj(id);
+      results = 1;
+      return r;
+    } finally {
+      event.finish(repositoryId, "fetchObj", 1, results);
+    }
+  }
+
+  @Override
+  public Obj getImmediate(@Nonnull ObjId id) {
+    return delegate.getImmediate(id);
+  }
+
+  @Override
+  @Nonnull
+  public <T extends Obj> T fetchTypedObj(
+      @Nonnull ObjId id, ObjType type, @Nonnull Class<T> typeClass) throws ObjNotFoundException {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      T r = delegate.fetchTypedObj(id, type, typeClass);
+      results = 1;
+      return r;
+    } finally {
+      event.finish(repositoryId, "fetchTypedObj", 1, results);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public ObjType fetchObjType(@Nonnull ObjId id) throws ObjNotFoundException {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      ObjType r = delegate.fetchObjType(id);
+      results = 1;
+      return r;
+    } finally {
+      event.finish(repositoryId, "fetchObjType", 1, results);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public Obj[] fetchObjs(@Nonnull ObjId[] ids) throws ObjNotFoundException {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      Obj[] r = delegate.fetchObjs(ids);
+      results = nonNull(r);
+      return r;
+    } finally {
+      event.finish(repositoryId, "fetchObjs", ids.length, results);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public Obj[] fetchObjsIfExist(@Nonnull ObjId[] ids) {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      Obj[] r = delegate.fetchObjsIfExist(ids);
+      results = nonNull(r);
+      return r;
+    } finally {
+      event.finish(repositoryId, "fetchObjsIfExist", ids.length, results);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public <T extends Obj> T[] fetchTypedObjs(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) throws ObjNotFoundException {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      T[] r = delegate.fetchTypedObjs(ids, type, typeClass);
+      results = nonNull(r);
+      return r;
+    } finally {
+      event.finish(repositoryId, "fetchTypedObjs", ids.length, results);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public <T extends Obj> T[] fetchTypedObjsIfExist(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      T[] r = delegate.fetchTypedObjsIfExist(ids, type, typeClass);
+      results = nonNull(r);
+      return r;
+    } finally {
+      event.finish(repositoryId, "fetchTypedObjsIfExist", ids.length, results);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public CompletionStage<Reference> fetchReferenceAsync(@Nonnull String name) {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    return delegate
+        .fetchReferenceAsync(name)
+        .whenComplete(
+            (r, e) ->
+                event.finish(
+                    repositoryId, "fetchReferenceAsync", 1, e != null ? -1 : r != null ? 1 : 0));
+  }
+
+  @Override
+  @Nonnull
+  public CompletionStage<Obj[]> fetchObjsAsync(@Nonnull ObjId[] ids) {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    return delegate
+        .fetchObjsAsync(ids)
+        .whenComplete(
+            (r, e) ->
+                event.finish(
+                    repositoryId, "fetchObjsAsync", ids.length, e != null ? -1 : nonNull(r)));
+  }
+
+  @Override
+  @Nonnull
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    return delegate
+        .fetchTypedObjsAsync(ids, type, typeClass)
+        .whenComplete(
+            (r, e) ->
+                event.finish(
+                    repositoryId, "fetchTypedObjsAsync", ids.length, e != null ? -1 : nonNull(r)));
+  }
+
+  @Override
+  public boolean storeObj(@Nonnull Obj obj) throws ObjTooLargeException {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      boolean r = delegate.storeObj(obj);
+      results = r ? 1 : 0;
+      return r;
+    } finally {
+      event.finish(repositoryId, "storeObj", 1, results);
+    }
+  }
+
+  @Override
+  public boolean storeObj(@Nonnull Obj obj, boolean ignoreSoftSizeRestrictions)
+      throws ObjTooLargeException {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      boolean r = delegate.storeObj(obj, ignoreSoftSizeRestrictions);
+      results = r ? 1 : 0;
+      return r;
+    } finally {
+      event.finish(repositoryId, "storeObj", 1, results);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public boolean[] storeObjs(@Nonnull Obj[] objs) throws ObjTooLargeException {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      boolean[] r = delegate.storeObjs(objs);
+      results = count(r);
+      return r;
+    } finally {
+      event.finish(repositoryId, "storeObjs", objs.length, results);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs) {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    return delegate
+        .storeObjsAsync(objs)
+        .whenComplete(
+            (r, e) ->
+                event.finish(
+                    repositoryId, "storeObjsAsync", objs.length, e != null ? -1 : count(r)));
+  }
+
+  @Override
+  public void deleteObj(@Nonnull ObjId id) {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      delegate.deleteObj(id);
+      results = 1;
+    } finally {
+      event.finish(repositoryId, "deleteObj", 1, results);
+    }
+  }
+
+  @Override
+  public void deleteObjs(@Nonnull ObjId[] ids) {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      delegate.deleteObjs(ids);
+      results = ids.length;
+    } finally {
+      event.finish(repositoryId, "deleteObjs", ids.length, results);
+    }
+  }
+
+  @Override
+  public void upsertObj(@Nonnull Obj obj) throws ObjTooLargeException {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      delegate.upsertObj(obj);
+      results = 1;
+    } finally {
+      event.finish(repositoryId, "upsertObj", 1, results);
+    }
+  }
+
+  @Override
+  public void upsertObjs(@Nonnull Obj[] objs) throws ObjTooLargeException {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      delegate.upsertObjs(objs);
+      results = objs.length;
+    } finally {
+      event.finish(repositoryId, "upsertObjs", objs.length, results);
+    }
+  }
+
+  @Override
+  public boolean deleteWithReferenced(@Nonnull Obj obj) {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      boolean r = delegate.deleteWithReferenced(obj);
+      results = r ? 1 : 0;
+      return r;
+    } finally {
+      event.finish(repositoryId, "deleteWithReferenced", 1, results);
+    }
+  }
+
+  @Override
+  public boolean deleteConditional(@Nonnull UpdateableObj obj) {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      boolean r = delegate.deleteConditional(obj);
+      results = r ? 1 : 0;
+      return r;
+    } finally {
+      event.finish(repositoryId, "deleteConditional", 1, results);
+    }
+  }
+
+  @Override
+  public boolean updateConditional(@Nonnull UpdateableObj expected, @Nonnull UpdateableObj newValue)
+      throws ObjTooLargeException {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      boolean r = delegate.updateConditional(expected, newValue);
+      results = r ? 1 : 0;
+      return r;
+    } finally {
+      event.finish(repositoryId, "updateConditional", 1, results);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public CloseableIterator<Obj> scanAllObjects(@Nonnull Set<ObjType> returnedObjTypes) {
+    return delegate.scanAllObjects(returnedObjTypes);
+  }
+
+  @Override
+  public void erase() {
+    PersistCallEvent event = new PersistCallEvent();
+    event.begin();
+    int results = -1;
+    try {
+      delegate.erase();
+      results = 0;
+    } finally {
+      event.finish(repositoryId, "erase", 0, results);
+    }
+  }
+
+  @Override
+  public boolean isCaching() {
+    return delegate.isCaching();
+  }
+
+  @Override
+  public boolean isAsyncNonBlocking() {
+    return delegate.isAsyncNonBlocking();
+  }
+
+  @Override
+  @Nonnull
+  public CommitIndexCache commitIndexCache() {
+    return delegate.commitIndexCache();
+  }
+}
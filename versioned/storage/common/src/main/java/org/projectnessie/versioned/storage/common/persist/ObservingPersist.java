@@ -17,10 +17,15 @@ package org.projectnessie.versioned.storage.common.persist;
 
 import io.micrometer.core.annotation.Counted;
 import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
@@ -31,11 +36,46 @@ import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
 
 public class ObservingPersist implements Persist {
   private final Persist delegate;
+  private final MeterRegistry meterRegistry;
 
   private static final String PREFIX = "nessie.storage.persist";
 
   public ObservingPersist(Persist delegate) {
+    this(delegate, null);
+  }
+
+  public ObservingPersist(Persist delegate, @Nullable MeterRegistry meterRegistry) {
     this.delegate = delegate;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Times asynchronous functions until the returned stage completes, the interceptor for {@link
+   * Timed} would only measure the time it takes to create the stage.
+   */
+  private <R> CompletionStage<R> timedAsync(String method, Supplier<CompletionStage<R>> call) {
+    if (meterRegistry == null) {
+      return call.get();
+    }
+    Timer.Sample sample = Timer.start(meterRegistry);
+    try {
+      return call.get().whenComplete((r, e) -> sample.stop(asyncTimer(method, e)));
+    } catch (RuntimeException e) {
+      sample.stop(asyncTimer(method, e));
+      throw e;
+    }
+  }
+
+  private Timer asyncTimer(String method, Throwable failure) {
+    if (failure instanceof CompletionException && failure.getCause() != null) {
+      failure = failure.getCause();
+    }
+    return Timer.builder(PREFIX)
+        .tag("class", ObservingPersist.class.getName())
+        .tag("method", method)
+        .tag("exception", failure != null ? failure.getClass().getSimpleName() : "none")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
   }
 
   @Override
@@ -213,6 +253,29 @@ public class ObservingPersist implements Persist {
     return delegate.fetchTypedObjsIfExist(ids, type, typeClass);
   }
 
+  @WithSpan
+  @Override
+  @Nonnull
+  public CompletionStage<Reference> fetchReferenceAsync(@Nonnull String name) {
+    return timedAsync("fetchReferenceAsync", () -> delegate.fetchReferenceAsync(name));
+  }
+
+  @WithSpan
+  @Override
+  @Nonnull
+  public CompletionStage<Obj[]> fetchObjsAsync(@Nonnull ObjId[] ids) {
+    return timedAsync("fetchObjsAsync", () -> delegate.fetchObjsAsync(ids));
+  }
+
+  @WithSpan
+  @Override
+  @Nonnull
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    return timedAsync(
+        "fetchTypedObjsAsync", () -> delegate.fetchTypedObjsAsync(ids, type, typeClass));
+  }
+
   @WithSpan
   @Override
   @Counted(PREFIX)
@@ -239,6 +302,13 @@ public class ObservingPersist implements Persist {
     return delegate.storeObjs(objs);
   }
 
+  @WithSpan
+  @Override
+  @Nonnull
+  public CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs) {
+    return timedAsync("storeObjsAsync", () -> delegate.storeObjsAsync(objs));
+  }
+
   @WithSpan
   @Override
   @Counted(PREFIX)
@@ -317,4 +387,15 @@ public class ObservingPersist implements Persist {
   public boolean isCaching() {
     return delegate.isCaching();
   }
+
+  @Override
+  public boolean isAsyncNonBlocking() {
+    return delegate.isAsyncNonBlocking();
+  }
+
+  @Override
+  @Nonnull
+  public CommitIndexCache commitIndexCache() {
+    return delegate.commitIndexCache();
+  }
 }
@@ -20,6 +20,8 @@ import jakarta.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
@@ -309,6 +311,51 @@ public interface Persist {
   <T extends Obj> T[] fetchTypedObjsIfExist(
       @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass);
 
+  /**
+   * Asynchronous variant of {@link #fetchReference(String)}.
+   *
+   * <p>The default implementation calls {@link #fetchReference(String)} on the calling thread.
+   * Implementations backed by asynchronous database drivers override this function to not block
+   * the calling thread.
+   */
+  @Nonnull
+  default CompletionStage<Reference> fetchReferenceAsync(@Nonnull String name) {
+    try {
+      return CompletableFuture.completedFuture(fetchReference(name));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Asynchronous variant of {@link #fetchObjsIfExist(ObjId[])}, the returned array contains {@code
+   * null} for objects that do not exist.
+   *
+   * @see #fetchTypedObjsAsync(ObjId[], ObjType, Class)
+   */
+  @Nonnull
+  default CompletionStage<Obj[]> fetchObjsAsync(@Nonnull ObjId[] ids) {
+    return fetchTypedObjsAsync(ids, null, Obj.class);
+  }
+
+  /**
+   * Asynchronous variant of {@link #fetchTypedObjsIfExist(ObjId[], ObjType, Class)}, the returned
+   * array contains {@code null} for objects that do not exist or have a different type.
+   *
+   * <p>The default implementation calls {@link #fetchTypedObjsIfExist(ObjId[], ObjType, Class)} on
+   * the calling thread. Implementations backed by asynchronous database drivers override this
+   * function to not block the calling thread.
+   */
+  @Nonnull
+  default <T extends Obj> CompletionStage<T[]> fetchTypedObjsAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    try {
+      return CompletableFuture.completedFuture(fetchTypedObjsIfExist(ids, type, typeClass));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   /**
    * Stores the given object as a new record.
    *
@@ -366,6 +413,23 @@ public interface Persist {
   @Nonnull
   boolean[] storeObjs(@Nonnull Obj[] objs) throws ObjTooLargeException;
 
+  /**
+   * Asynchronous variant of {@link #storeObjs(Obj[])}. An {@link ObjTooLargeException} is reported
+   * by completing the returned stage exceptionally.
+   *
+   * <p>The default implementation calls {@link #storeObjs(Obj[])} on the calling thread.
+   * Implementations backed by asynchronous database drivers override this function to not block
+   * the calling thread.
+   */
+  @Nonnull
+  default CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs) {
+    try {
+      return CompletableFuture.completedFuture(storeObjs(objs));
+    } catch (ObjTooLargeException | RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   void deleteObj(@Nonnull ObjId id);
 
   /**
@@ -453,4 +517,22 @@ public interface Persist {
   default boolean isCaching() {
     return false;
   }
+
+  /**
+   * Whether the asynchronous functions like {@link #fetchTypedObjsAsync(ObjId[], ObjType, Class)}
+   * are implemented without blocking the calling thread, {@code false} if those use the blocking
+   * default implementations.
+   */
+  default boolean isAsyncNonBlocking() {
+    return false;
+  }
+
+  /**
+   * Returns the cache for shared, read-only commit index views of this repository. The default
+   * implementation returns a {@link CommitIndexCache#noopCommitIndexCache() non-caching} instance.
+   */
+  @Nonnull
+  default CommitIndexCache commitIndexCache() {
+    return CommitIndexCache.noopCommitIndexCache();
+  }
 }
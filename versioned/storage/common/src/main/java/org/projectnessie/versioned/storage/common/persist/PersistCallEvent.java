@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.persist;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR event for a call to a storage backend, see {@link FlightRecorderPersist}. */
+@Name(PersistCallEvent.NAME)
+@Label("Persist Call")
+@Category({"Nessie", "Storage"})
+@Description("A call to the storage backend via the Persist API, cache hits are not included.")
+@StackTrace(false)
+public final class PersistCallEvent extends Event {
+  public static final String NAME = "org.projectnessie.storage.PersistCall";
+
+  @Label("Repository ID")
+  String repositoryId;
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Objects")
+  @Description("Number of requested or written objects or references.")
+  int objects;
+
+  @Label("Results")
+  @Description(
+      "Number of found objects or references, or number of actually written or deleted objects.")
+  int results;
+
+  @Label("Failed")
+  @Description("Whether the call threw an exception.")
+  boolean failed;
+
+  /** Ends and, if enabled, commits this event, {@code results} is negative for a failed call. */
+  void finish(String repositoryId, String operation, int objects, int results) {
+    end();
+    if (shouldCommit()) {
+      this.repositoryId = repositoryId;
+      this.operation = operation;
+      this.objects = objects;
+      this.results = Math.max(results, 0);
+      this.failed = results < 0;
+      commit();
+    }
+  }
+}
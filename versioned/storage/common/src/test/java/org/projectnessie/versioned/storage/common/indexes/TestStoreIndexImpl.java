@@ -25,6 +25,7 @@ import static org.projectnessie.versioned.storage.common.indexes.StoreIndexEleme
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.deserializeStoreIndex;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.newStoreIndex;
 import static org.projectnessie.versioned.storage.common.indexes.StoreKey.key;
+import static org.projectnessie.versioned.storage.common.indexes.StoreKey.keyFromString;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.Action.ADD;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.Action.NONE;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.COMMIT_OP_SERIALIZER;
@@ -235,6 +236,79 @@ public class TestStoreIndexImpl {
     }
   }
 
+  @Test
+  public void searchSerializedKeys() {
+    List<String> elements =
+        asList("a", "aa", "ab", "aπ", "a\ue000", "a\uffff", "a\ud83d\ude00", "b", "bπ", "x\u07ff");
+    List<StoreKey> keys =
+        elements.stream()
+            .flatMap(e1 -> Stream.of("x", "y\ud83d\ude01", "\uf000").map(e2 -> key(e1, e2)))
+            .collect(Collectors.toList());
+    StoreIndex<ObjId> segment = newStoreIndex(OBJ_ID_SERIALIZER);
+    keys.forEach(k -> segment.add(indexElement(k, randomObjId())));
+    ByteString serialized = segment.serialize();
+
+    List<StoreKey> missingKeys =
+        keys.stream()
+            .flatMap(
+                k ->
+                    Stream.of(
+                        keyFromString(k.rawString() + "a"),
+                        keyFromString(k.rawString() + "\ud83d\ude02")))
+            .collect(Collectors.toList());
+
+    // Searching does not need to materialize the keys of the probed elements
+    StoreIndex<ObjId> deserialized = deserializeStoreIndex(serialized, OBJ_ID_SERIALIZER);
+    for (StoreKey k : keys) {
+      soft.assertThat(deserialized.contains(k)).describedAs("%s", k).isTrue();
+    }
+    for (StoreKey k : missingKeys) {
+      soft.assertThat(deserialized.contains(k)).describedAs("%s", k).isFalse();
+    }
+    soft.assertThat(deserialized)
+        .allSatisfy(el -> soft.assertThat(el.toString()).contains("keyOffset="));
+
+    deserialized = deserializeStoreIndex(serialized, OBJ_ID_SERIALIZER);
+    for (StoreKey k : keys) {
+      soft.assertThat(deserialized.get(k)).describedAs("%s", k).isEqualTo(segment.get(k));
+    }
+    for (StoreKey k : missingKeys) {
+      soft.assertThat(deserialized.get(k)).describedAs("%s", k).isNull();
+    }
+
+    // Mix of materialized, not materialized and added elements
+    deserialized = deserializeStoreIndex(serialized, OBJ_ID_SERIALIZER);
+    for (int i = 0; i < missingKeys.size(); i += 3) {
+      StoreIndexElement<ObjId> el = indexElement(missingKeys.get(i), randomObjId());
+      deserialized.add(el);
+      segment.add(el);
+      deserialized.get(keys.get(i % keys.size()));
+    }
+    soft.assertThat(deserialized.asKeyList()).containsExactlyElementsOf(segment.asKeyList());
+    for (StoreKey k : missingKeys) {
+      soft.assertThat(deserialized.get(k)).describedAs("%s", k).isEqualTo(segment.get(k));
+    }
+  }
+
+  @Test
+  public void compareKeysOfDeserializedIndexes() {
+    StoreIndex<CommitOp> index = basicIndexTestSet().keyIndex();
+    ByteString serialized = index.serialize();
+    List<StoreIndexElement<CommitOp>> a =
+        newArrayList(deserializeStoreIndex(serialized, COMMIT_OP_SERIALIZER));
+    List<StoreIndexElement<CommitOp>> b =
+        newArrayList(deserializeStoreIndex(serialized, COMMIT_OP_SERIALIZER));
+    List<StoreKey> keys = index.asKeyList();
+
+    for (int i = 0; i < keys.size(); i += 7) {
+      for (int j = 0; j < keys.size(); j += 11) {
+        soft.assertThat(Integer.signum(StoreIndexes.compareKeys(a.get(i), b.get(j))))
+            .describedAs("%s vs %s", keys.get(i), keys.get(j))
+            .isEqualTo(Integer.signum(keys.get(i).compareTo(keys.get(j))));
+      }
+    }
+  }
+
   @Test
   public void similarPrefixLengths() {
     StoreKey keyA = key("a", "x", "A");
@@ -31,6 +31,7 @@ import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -105,6 +106,45 @@ public class TestStoreKey {
         .extracting(k -> Integer.signum(b.compareTo(k)))
         .asInstanceOf(INTEGER)
         .isEqualTo(-expectedCompare);
+
+    ByteBuffer serializedA = a.serialize(ByteBuffer.allocate(StoreIndexImpl.MAX_KEY_BYTES));
+    ByteBuffer serializedB = b.serialize(ByteBuffer.allocate(StoreIndexImpl.MAX_KEY_BYTES));
+    soft.assertThat(Integer.signum(StoreKey.compareSerialized(serializedA, serializedB)))
+        .describedAs("Serialized compare of %s to %s expect %d", a, b, expectedCompare)
+        .isEqualTo(expectedCompare);
+    soft.assertThat(Integer.signum(StoreKey.compareSerialized(serializedB, serializedA)))
+        .describedAs("Reverse serialized compare of %s to %s expect %d", a, b, expectedCompare)
+        .isEqualTo(-expectedCompare);
+  }
+
+  @Test
+  void compareSerializedRandom() {
+    Random random = new Random(42L);
+    char[] alphabet = {'a', 'z', '\u0001', 'π', '\u07ff', '\u0800', '\ud7ff', '\ue000', '\uffff'};
+    IntFunction<String> randomElement =
+        len -> {
+          StringBuilder sb = new StringBuilder();
+          for (int i = 0; i < len; i++) {
+            if (random.nextInt(5) == 0) {
+              // supplementary character, a surrogate pair
+              sb.appendCodePoint(0x10000 + random.nextInt(0x100000));
+            } else {
+              sb.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+          }
+          return sb.toString();
+        };
+
+    ByteBuffer bufferA = ByteBuffer.allocate(StoreIndexImpl.MAX_KEY_BYTES);
+    ByteBuffer bufferB = ByteBuffer.allocate(StoreIndexImpl.MAX_KEY_BYTES);
+    for (int i = 0; i < 10_000; i++) {
+      StoreKey a = key(randomElement.apply(1 + random.nextInt(3)), randomElement.apply(2));
+      StoreKey b = key(randomElement.apply(1 + random.nextInt(3)), randomElement.apply(2));
+      int cmp = StoreKey.compareSerialized(a.serialize(bufferA), b.serialize(bufferB));
+      soft.assertThat(Integer.signum(cmp))
+          .describedAs("Serialized compare of %s to %s", a, b)
+          .isEqualTo(Integer.signum(a.compareTo(b)));
+    }
   }
 
   static Stream<Arguments> compare() {
@@ -153,7 +193,12 @@ public class TestStoreKey {
         arguments(key("key.0"), key("key.1"), -1),
         arguments(key("key.42"), key("key.42"), 0),
         arguments(key("key", "0"), key("key", "1"), -1),
-        arguments(key("key", "42"), key("key", "42"), 0));
+        arguments(key("key", "42"), key("key", "42"), 0),
+        // supplementary characters (surrogate pairs) sort before U+E000..U+FFFF in UTF-16
+        arguments(key("a\ud83d\ude00"), key("a\ue000"), -1),
+        arguments(key("a\ud83d\ude00"), key("a\uffff"), -1),
+        arguments(key("a\ud83d\ude00"), key("a\ud7ff"), 1),
+        arguments(key("a\ud83d\ude00", "b"), key("a\ud83d\ude01"), -1));
   }
 
   @Test
@@ -36,11 +36,14 @@ import io.opentelemetry.context.Scope;
 import io.opentelemetry.sdk.testing.junit5.OpenTelemetryExtension;
 import io.opentelemetry.sdk.trace.data.EventData;
 import io.opentelemetry.sdk.trace.data.SpanData;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
@@ -48,6 +51,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentMatcher;
@@ -153,6 +157,42 @@ public class TestCommitRetry {
     soft.assertThat(result).hasValue("foo");
   }
 
+  @Test
+  public void commitAttemptEventOnError(@TempDir Path dir) throws Exception {
+    int retries = 3;
+    StoreConfig mockedConfig = mockedConfig(retries, Long.MAX_VALUE);
+
+    MonotonicClock clock = mockedClock(retries);
+    CommitRetry.TryLoopState tryLoopState = new CommitRetry.TryLoopState(mockedConfig, clock);
+
+    Persist persist = mock(Persist.class);
+
+    Path file = dir.resolve("recording.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(CommitAttemptEvent.NAME);
+      recording.start();
+
+      soft.assertThatThrownBy(
+              () ->
+                  commitRetry(
+                      persist,
+                      (p, retryState) -> {
+                        throw new StackOverflowError("attempt");
+                      },
+                      tryLoopState))
+          .isInstanceOf(StackOverflowError.class);
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    soft.assertThat(RecordingFile.readAllEvents(file))
+        .filteredOn(e -> e.getEventType().getName().equals(CommitAttemptEvent.NAME))
+        .singleElement()
+        .extracting(e -> e.getString("outcome"))
+        .isEqualTo(CommitAttemptEvent.OUTCOME_FAILED);
+  }
+
   @Test
   public void commitRetrySuccessAfterRetryUnmocked() {
     StoreConfig config = mockedConfig(3, Long.MAX_VALUE, 1, 1000, 1);
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.persist;
+
+import static org.assertj.core.api.Assertions.tuple;
+import static org.projectnessie.nessie.relocated.protobuf.ByteString.copyFromUtf8;
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
+import org.projectnessie.versioned.storage.testextension.NessiePersist;
+import org.projectnessie.versioned.storage.testextension.PersistExtension;
+
+@ExtendWith({PersistExtension.class, SoftAssertionsExtension.class})
+public class TestFlightRecorderPersist {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @NessiePersist protected Persist persist;
+
+  @TempDir Path dir;
+
+  @Test
+  public void persistCallEvents() throws Exception {
+    Persist recorded = new FlightRecorderPersist(persist);
+    Obj obj = contentValue("cid", 0, copyFromUtf8("foo"));
+    ObjId missing = randomObjId();
+
+    Path file = dir.resolve("recording.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(PersistCallEvent.NAME);
+      recording.start();
+
+      soft.assertThat(recorded.storeObj(obj)).isTrue();
+      soft.assertThat(recorded.fetchObjsIfExist(new ObjId[] {obj.id(), missing}))
+          .containsExactly(obj, null);
+      soft.assertThatThrownBy(() -> recorded.fetchObj(missing))
+          .isInstanceOf(ObjNotFoundException.class);
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    List<RecordedEvent> events =
+        RecordingFile.readAllEvents(file).stream()
+            .filter(e -> e.getEventType().getName().equals(PersistCallEvent.NAME))
+            .collect(Collectors.toList());
+    soft.assertThat(events)
+        .extracting(
+            e -> e.getString("operation"),
+            e -> e.getInt("objects"),
+            e -> e.getInt("results"),
+            e -> e.getBoolean("failed"))
+        .containsExactly(
+            tuple("storeObj", 1, 1, false),
+            tuple("fetchObjsIfExist", 2, 1, false),
+            tuple("fetchObj", 1, 0, true));
+    soft.assertThat(events)
+        .extracting(e -> e.getString("repositoryId"))
+        .containsOnly(persist.config().repositoryId());
+  }
+}
@@ -20,7 +20,10 @@ import org.immutables.value.Value;
 import org.projectnessie.versioned.storage.dynamodbtests2.ImmutableDynamoClientProducer.Builder;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClientBuilder;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
 
@@ -54,4 +57,22 @@ abstract class DynamoClientProducer {
 
     return clientBuilder.build();
   }
+
+  DynamoDbAsyncClient createAsyncClient() {
+    DynamoDbAsyncClientBuilder clientBuilder =
+        DynamoDbAsyncClient.builder()
+            .httpClientBuilder(NettyNioAsyncHttpClient.builder())
+            .region(Region.of(region()));
+
+    AwsCredentialsProvider credentialsProvider = credentialsProvider();
+    if (credentialsProvider != null) {
+      clientBuilder = clientBuilder.credentialsProvider(credentialsProvider);
+    }
+    String endpointURI = endpointURI();
+    if (endpointURI != null) {
+      clientBuilder = clientBuilder.endpointOverride(URI.create(endpointURI));
+    }
+
+    return clientBuilder.build();
+  }
 }
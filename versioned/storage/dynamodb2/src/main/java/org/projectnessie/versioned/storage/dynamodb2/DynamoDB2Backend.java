@@ -20,6 +20,7 @@ import static org.projectnessie.versioned.storage.dynamodb2.DynamoDB2Constants.T
 import static org.projectnessie.versioned.storage.dynamodb2.DynamoDB2Constants.TABLE_REFS;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -29,6 +30,7 @@ import org.projectnessie.versioned.storage.common.persist.Backend;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
@@ -47,6 +49,7 @@ public final class DynamoDB2Backend implements Backend {
   private static final Logger LOGGER = LoggerFactory.getLogger(DynamoDB2Backend.class);
 
   private final DynamoDbClient client;
+  private final DynamoDbAsyncClient asyncClient;
   private final boolean closeClient;
 
   final String tableRefs;
@@ -54,6 +57,7 @@ public final class DynamoDB2Backend implements Backend {
 
   public DynamoDB2Backend(@Nonnull DynamoDB2BackendConfig config, boolean closeClient) {
     this.client = config.client();
+    this.asyncClient = config.asyncClient().orElse(null);
     this.tableRefs =
         config.tablePrefix().map(prefix -> prefix + '_' + TABLE_REFS).orElse(TABLE_REFS);
     this.tableObjs =
@@ -66,6 +70,11 @@ public final class DynamoDB2Backend implements Backend {
     return client;
   }
 
+  @Nullable
+  DynamoDbAsyncClient asyncClient() {
+    return asyncClient;
+  }
+
   @Override
   @Nonnull
   public PersistFactory createFactory() {
@@ -76,6 +85,9 @@ public final class DynamoDB2Backend implements Backend {
   public void close() {
     if (closeClient) {
       client.close();
+      if (asyncClient != null) {
+        asyncClient.close();
+      }
     }
   }
 
@@ -17,12 +17,19 @@ package org.projectnessie.versioned.storage.dynamodb2;
 
 import java.util.Optional;
 import org.immutables.value.Value;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 @Value.Immutable
 public interface DynamoDB2BackendConfig {
   DynamoDbClient client();
 
+  /**
+   * Client used by the asynchronous {@code Persist} functions. If absent, those functions use the
+   * blocking {@link #client()}.
+   */
+  Optional<DynamoDbAsyncClient> asyncClient();
+
   Optional<String> tablePrefix();
 
   static ImmutableDynamoDB2BackendConfig.Builder builder() {
@@ -21,6 +21,7 @@ final class DynamoDB2Constants {
   static final int ITEM_SIZE_LIMIT = 400 * 1024;
   static final int BATCH_GET_LIMIT = 100;
   static final int BATCH_WRITE_MAX_REQUESTS = 25;
+  static final int MAX_CONCURRENT_STORES = 20;
 
   static final String TABLE_REFS = "refs";
   static final String TABLE_OBJS = "objs";
@@ -40,12 +40,13 @@ import static org.projectnessie.versioned.storage.dynamodb2.DynamoDB2Constants.C
 import static org.projectnessie.versioned.storage.dynamodb2.DynamoDB2Constants.CONDITION_STORE_REF;
 import static org.projectnessie.versioned.storage.dynamodb2.DynamoDB2Constants.ITEM_SIZE_LIMIT;
 import static org.projectnessie.versioned.storage.dynamodb2.DynamoDB2Constants.KEY_NAME;
+import static org.projectnessie.versioned.storage.dynamodb2.DynamoDB2Constants.MAX_CONCURRENT_STORES;
 import static org.projectnessie.versioned.storage.dynamodb2.DynamoDB2Serde.attributeToString;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObj;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializePreviousPointers;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeObj;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializePreviousPointers;
-import static software.amazon.awssdk.core.SdkBytes.fromByteArray;
+import static software.amazon.awssdk.core.SdkBytes.fromByteArrayUnsafe;
 import static software.amazon.awssdk.services.dynamodb.model.AttributeValue.fromB;
 import static software.amazon.awssdk.services.dynamodb.model.AttributeValue.fromBool;
 import static software.amazon.awssdk.services.dynamodb.model.AttributeValue.fromS;
@@ -64,6 +65,11 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.agrona.collections.Hashing;
 import org.agrona.collections.Object2IntHashMap;
@@ -87,6 +93,7 @@ import software.amazon.awssdk.core.exception.AbortedException;
 import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
 import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
 import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
@@ -97,7 +104,9 @@ import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 import software.amazon.awssdk.services.dynamodb.model.ExpectedAttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
 public class DynamoDB2Persist implements Persist {
 
@@ -223,21 +232,32 @@ public class DynamoDB2Persist implements Persist {
     } catch (RuntimeException e) {
       throw unhandledException(e);
     }
-    if (!item.hasItem()) {
-      return null;
-    }
+    return item.hasItem() ? itemToReference(name, item.item()) : null;
+  }
 
-    Map<String, AttributeValue> i = item.item();
+  @Nonnull
+  @Override
+  public CompletionStage<Reference> fetchReferenceAsync(@Nonnull String name) {
+    DynamoDbAsyncClient asyncClient = backend.asyncClient();
+    if (asyncClient == null) {
+      return Persist.super.fetchReferenceAsync(name);
+    }
+    return mapAsyncException(
+        asyncClient
+            .getItem(b -> b.tableName(backend.tableRefs).key(referenceKeyMap(name)))
+            .thenApply(item -> item.hasItem() ? itemToReference(name, item.item()) : null));
+  }
 
-    String createdAtStr = attributeToString(i, COL_REFERENCES_CREATED_AT);
+  private Reference itemToReference(String name, Map<String, AttributeValue> item) {
+    String createdAtStr = attributeToString(item, COL_REFERENCES_CREATED_AT);
     long createdAt = createdAtStr != null ? Long.parseLong(createdAtStr) : 0L;
     return reference(
         name,
-        DynamoDB2Serde.attributeToObjId(i, COL_REFERENCES_POINTER),
-        DynamoDB2Serde.attributeToBool(i, COL_REFERENCES_DELETED),
+        DynamoDB2Serde.attributeToObjId(item, COL_REFERENCES_POINTER),
+        DynamoDB2Serde.attributeToBool(item, COL_REFERENCES_DELETED),
         createdAt,
-        DynamoDB2Serde.attributeToObjId(i, COL_REFERENCES_EXTENDED_INFO),
-        attributeToPreviousPointers(i));
+        DynamoDB2Serde.attributeToObjId(item, COL_REFERENCES_EXTENDED_INFO),
+        attributeToPreviousPointers(item));
   }
 
   @Nonnull
@@ -402,25 +422,88 @@ public class DynamoDB2Persist implements Persist {
     try {
       BatchGetItemResponse response =
           backend.client().batchGetItem(b -> b.requestItems(requestItems));
-
-      response
-          .responses()
-          .get(backend.tableObjs)
-          .forEach(
-              item -> {
-                T obj = itemToObj(item, type, typeClass);
-                if (obj != null) {
-                  int idx = idToIndex.getValue(obj.id());
-                  if (idx != -1) {
-                    r[idx] = obj;
-                  }
-                }
-              });
+      objsPageResponse(r, response, idToIndex, type, typeClass);
     } catch (RuntimeException e) {
       throw unhandledException(e);
     }
   }
 
+  private <T extends Obj> void objsPageResponse(
+      T[] r,
+      BatchGetItemResponse response,
+      Object2IntHashMap<ObjId> idToIndex,
+      ObjType type,
+      Class<T> typeClass) {
+    response
+        .responses()
+        .get(backend.tableObjs)
+        .forEach(
+            item -> {
+              T obj = itemToObj(item, type, typeClass);
+              if (obj != null) {
+                int idx = idToIndex.getValue(obj.id());
+                if (idx != -1) {
+                  r[idx] = obj;
+                }
+              }
+            });
+  }
+
+  @Nonnull
+  @Override
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    DynamoDbAsyncClient asyncClient = backend.asyncClient();
+    if (asyncClient == null) {
+      return Persist.super.fetchTypedObjsAsync(ids, type, typeClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    T[] r = (T[]) Array.newInstance(typeClass, ids.length);
+    // The whole ID-to-index map must be populated before issuing requests, it is read by the
+    // threads that complete the requests
+    Object2IntHashMap<ObjId> idToIndex =
+        new Object2IntHashMap<>(200, Hashing.DEFAULT_LOAD_FACTOR, -1);
+    for (int i = 0; i < ids.length; i++) {
+      ObjId id = ids[i];
+      if (id != null) {
+        idToIndex.put(id, i);
+      }
+    }
+
+    List<CompletableFuture<?>> pages = new ArrayList<>();
+    List<Map<String, AttributeValue>> keys = new ArrayList<>();
+    for (ObjId id : ids) {
+      if (id != null) {
+        keys.add(objKeyMap(id));
+        if (keys.size() == BATCH_GET_LIMIT) {
+          pages.add(fetchObjsPageAsync(asyncClient, r, keys, idToIndex, type, typeClass));
+          keys = new ArrayList<>();
+        }
+      }
+    }
+    if (!keys.isEmpty()) {
+      pages.add(fetchObjsPageAsync(asyncClient, r, keys, idToIndex, type, typeClass));
+    }
+
+    return mapAsyncException(
+        CompletableFuture.allOf(pages.toArray(new CompletableFuture<?>[0])).thenApply(x -> r));
+  }
+
+  private <T extends Obj> CompletableFuture<Void> fetchObjsPageAsync(
+      DynamoDbAsyncClient asyncClient,
+      T[] r,
+      List<Map<String, AttributeValue>> keys,
+      Object2IntHashMap<ObjId> idToIndex,
+      ObjType type,
+      Class<T> typeClass) {
+    Map<String, KeysAndAttributes> requestItems =
+        singletonMap(backend.tableObjs, KeysAndAttributes.builder().keys(keys).build());
+    return asyncClient
+        .batchGetItem(b -> b.requestItems(requestItems))
+        .thenAccept(response -> objsPageResponse(r, response, idToIndex, type, typeClass));
+  }
+
   @Nonnull
   @Override
   public boolean[] storeObjs(@Nonnull Obj[] objs) throws ObjTooLargeException {
@@ -447,26 +530,9 @@ public class DynamoDB2Persist implements Persist {
 
     try {
       try {
-        backend
-            .client()
-            .putItem(
-                b ->
-                    b.tableName(backend.tableObjs)
-                        .conditionExpression(CONDITION_STORE_OBJ)
-                        .item(item));
+        backend.client().putItem(storeObjRequest(item));
       } catch (ConditionalCheckFailedException e) {
-        backend
-            .client()
-            .updateItem(
-                b ->
-                    b.tableName(backend.tableObjs)
-                        .key(objKeyMap(id))
-                        .attributeUpdates(
-                            Map.of(
-                                COL_OBJ_REFERENCED,
-                                AttributeValueUpdate.builder()
-                                    .value(fromS(Long.toString(referenced)))
-                                    .build())));
+        backend.client().updateItem(updateReferencedRequest(id, referenced));
         return false;
       }
     } catch (DynamoDbException e) {
@@ -483,6 +549,94 @@ public class DynamoDB2Persist implements Persist {
     return true;
   }
 
+  private PutItemRequest storeObjRequest(Map<String, AttributeValue> item) {
+    return PutItemRequest.builder()
+        .tableName(backend.tableObjs)
+        .conditionExpression(CONDITION_STORE_OBJ)
+        .item(item)
+        .build();
+  }
+
+  private UpdateItemRequest updateReferencedRequest(ObjId id, long referenced) {
+    return UpdateItemRequest.builder()
+        .tableName(backend.tableObjs)
+        .key(objKeyMap(id))
+        .attributeUpdates(
+            Map.of(
+                COL_OBJ_REFERENCED,
+                AttributeValueUpdate.builder().value(fromS(Long.toString(referenced))).build()))
+        .build();
+  }
+
+  @Nonnull
+  @Override
+  public CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs) {
+    DynamoDbAsyncClient asyncClient = backend.asyncClient();
+    if (asyncClient == null) {
+      return Persist.super.storeObjsAsync(objs);
+    }
+
+    long referenced = config.currentTimeMicros();
+    boolean[] r = new boolean[objs.length];
+    AtomicInteger next = new AtomicInteger();
+    // DynamoDB does not support "PUT IF NOT EXISTS" in a BatchWriteItemRequest, each "lane" issues
+    // the next conditional put when its previous put has completed.
+    CompletableFuture<?>[] lanes =
+        new CompletableFuture<?>[Math.min(objs.length, MAX_CONCURRENT_STORES)];
+    for (int i = 0; i < lanes.length; i++) {
+      lanes[i] = storeNextObjAsync(asyncClient, objs, referenced, r, next);
+    }
+    return mapAsyncException(CompletableFuture.allOf(lanes).thenApply(x -> r));
+  }
+
+  private CompletableFuture<Void> storeNextObjAsync(
+      DynamoDbAsyncClient asyncClient,
+      Obj[] objs,
+      long referenced,
+      boolean[] r,
+      AtomicInteger next) {
+    int i;
+    do {
+      i = next.getAndIncrement();
+      if (i >= objs.length) {
+        return CompletableFuture.completedFuture(null);
+      }
+    } while (objs[i] == null);
+
+    ObjId id = objs[i].id();
+    int idx = i;
+    Map<String, AttributeValue> item;
+    try {
+      item = objToItem(objs[i], referenced, id, false);
+    } catch (ObjTooLargeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    return asyncClient
+        .putItem(storeObjRequest(item))
+        .handle(
+            (response, e) -> {
+              if (e == null) {
+                r[idx] = true;
+                return CompletableFuture.<Void>completedFuture(null);
+              }
+              Throwable cause = unwrapCompletionException(e);
+              if (cause instanceof ConditionalCheckFailedException) {
+                return asyncClient
+                    .updateItem(updateReferencedRequest(id, referenced))
+                    .<Void>thenApply(x -> null);
+              }
+              // Best effort to detect whether an object exceeded DynamoDB's hard item size limit.
+              if (cause instanceof DynamoDbException
+                  && checkItemSizeExceeded(((DynamoDbException) cause).awsErrorDetails())) {
+                return CompletableFuture.<Void>failedFuture(new ObjTooLargeException());
+              }
+              return CompletableFuture.<Void>failedFuture(cause);
+            })
+        .thenCompose(Function.identity())
+        .thenCompose(x -> storeNextObjAsync(asyncClient, objs, referenced, r, next));
+  }
+
   @Override
   public void deleteObj(@Nonnull ObjId id) {
     backend.client().deleteItem(b -> b.tableName(backend.tableObjs).key(objKeyMap(id)));
@@ -658,6 +812,11 @@ public class DynamoDB2Persist implements Persist {
     backend.eraseRepositories(singleton(config().repositoryId()));
   }
 
+  @Override
+  public boolean isAsyncNonBlocking() {
+    return backend.asyncClient() != null;
+  }
+
   private <T extends Obj> T itemToObj(
       Map<String, AttributeValue> item, ObjType t, @SuppressWarnings("unused") Class<T> typeClass) {
     ObjId id = objIdFromString(item.get(KEY_NAME).s().substring(keyPrefix.length()));
@@ -693,7 +852,7 @@ public class DynamoDB2Persist implements Persist {
     int indexSizeLimit =
         ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIndexSegmentSizeLimit();
     byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, false);
-    item.put(COL_OBJ_VALUE, fromB(fromByteArray(serialized)));
+    item.put(COL_OBJ_VALUE, fromB(fromByteArrayUnsafe(serialized)));
     return item;
   }
 
@@ -715,7 +874,7 @@ public class DynamoDB2Persist implements Persist {
 
     byte[] previousPointers = serializePreviousPointers(reference.previousPointers());
     if (previousPointers != null) {
-      item.put(COL_REFERENCES_PREVIOUS, fromB(fromByteArray(previousPointers)));
+      item.put(COL_REFERENCES_PREVIOUS, fromB(fromByteArrayUnsafe(previousPointers)));
     }
 
     return item;
@@ -839,6 +998,27 @@ public class DynamoDB2Persist implements Persist {
     public void close() {}
   }
 
+  private static Throwable unwrapCompletionException(Throwable e) {
+    return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+  }
+
+  private static <R> CompletionStage<R> mapAsyncException(CompletionStage<R> stage) {
+    CompletableFuture<R> result = new CompletableFuture<>();
+    stage.whenComplete(
+        (value, e) -> {
+          if (e == null) {
+            result.complete(value);
+            return;
+          }
+          Throwable cause = unwrapCompletionException(e);
+          result.completeExceptionally(
+              cause instanceof RuntimeException
+                  ? unhandledException((RuntimeException) cause)
+                  : cause);
+        });
+    return result;
+  }
+
   static RuntimeException unhandledException(RuntimeException e) {
     if (e instanceof SdkException) {
       if (((SdkException) e).retryable()
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+plugins {
+  id("nessie-conventions-server")
+  alias(libs.plugins.jmh)
+}
+
+publishingHelper { mavenName = "Nessie - Storage - Mmap" }
+
+description = "Storage implementation using memory-mapped files."
+
+dependencies {
+  implementation(project(":nessie-versioned-storage-common"))
+  implementation(project(":nessie-versioned-storage-common-serialize"))
+
+  compileOnly(libs.jakarta.validation.api)
+  compileOnly(libs.jakarta.annotation.api)
+
+  compileOnly(libs.errorprone.annotations)
+  implementation(libs.guava)
+  implementation(libs.slf4j.api)
+
+  compileOnly(project(":nessie-immutables-std"))
+  annotationProcessor(project(":nessie-immutables-std", configuration = "processor"))
+
+  testImplementation(project(":nessie-versioned-storage-mmap-tests"))
+  testImplementation(project(":nessie-versioned-storage-common-tests"))
+  testImplementation(project(":nessie-versioned-storage-testextension"))
+  testImplementation(project(":nessie-versioned-tests"))
+  testImplementation(platform(libs.junit.bom))
+  testImplementation(libs.bundles.junit.testing)
+  testRuntimeOnly(libs.logback.classic)
+
+  jmhImplementation(libs.jmh.core)
+  jmhImplementation(project(":nessie-versioned-storage-rocksdb"))
+  jmhAnnotationProcessor(libs.jmh.generator.annprocess)
+}
+
+tasks.named("processJmhJandexIndex").configure { enabled = false }
+
+jmh { jmhVersion = libs.versions.jmh.get() }
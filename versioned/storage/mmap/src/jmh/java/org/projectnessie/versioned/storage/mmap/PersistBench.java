@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.mmap;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.persist.Backend;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.rocksdb.RocksDBBackend;
+import org.projectnessie.versioned.storage.rocksdb.RocksDBBackendConfig;
+
+/** Compares object reads and writes of the mmap backend against the RocksDB backend. */
+@Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 3, time = 1000, timeUnit = MILLISECONDS)
+@Fork(1)
+@Threads(4)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class PersistBench {
+  @State(Scope.Benchmark)
+  public static class BenchmarkParam {
+
+    @Param({"Mmap", "RocksDB"})
+    public String backendName;
+
+    @Param({"100000"})
+    public int numObjects;
+
+    @Param({"512"})
+    public int valueSize;
+
+    private Path directory;
+    private Backend backend;
+    private Persist persist;
+    private ObjId[] ids;
+    private ByteString value;
+
+    @Setup
+    public void init() throws Exception {
+      directory = Files.createTempDirectory("nessie-persist-bench");
+      switch (backendName) {
+        case "Mmap":
+          backend = new MmapBackend(MmapBackendConfig.builder().databasePath(directory).build());
+          break;
+        case "RocksDB":
+          backend =
+              new RocksDBBackend(RocksDBBackendConfig.builder().databasePath(directory).build());
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown backend " + backendName);
+      }
+      backend.setupSchema();
+      persist = backend.createFactory().newPersist(StoreConfig.Adjustable.empty());
+
+      byte[] bytes = new byte[valueSize];
+      ThreadLocalRandom.current().nextBytes(bytes);
+      value = ByteString.copyFrom(bytes);
+
+      ids = new ObjId[numObjects];
+      for (int i = 0; i < numObjects; i++) {
+        Obj obj = contentValue("cid-" + i, 0, value);
+        persist.storeObj(obj);
+        ids[i] = obj.id();
+      }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      backend.close();
+      try (Stream<Path> files = Files.walk(directory)) {
+        files.sorted(Comparator.reverseOrder()).forEach(f -> f.toFile().delete());
+      }
+    }
+  }
+
+  @Benchmark
+  public Obj fetch(BenchmarkParam param) throws Exception {
+    ObjId id = param.ids[ThreadLocalRandom.current().nextInt(param.ids.length)];
+    return param.persist.fetchObj(id);
+  }
+
+  @Benchmark
+  public boolean store(BenchmarkParam param) throws Exception {
+    String contentId = "new-" + ThreadLocalRandom.current().nextLong();
+    return param.persist.storeObj(contentValue(contentId, 0, param.value));
+  }
+
+  @Benchmark
+  public void upsert(BenchmarkParam param) throws Exception {
+    int i = ThreadLocalRandom.current().nextInt(param.ids.length);
+    param.persist.upsertObj(contentValue("cid-" + i, 0, param.value));
+  }
+}
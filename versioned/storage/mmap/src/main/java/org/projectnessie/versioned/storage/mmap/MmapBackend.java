@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.mmap;
+
+import static com.google.common.base.Preconditions.checkState;
+import static org.projectnessie.versioned.storage.common.util.Closing.closeMultiple;
+
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.persist.Backend;
+import org.projectnessie.versioned.storage.common.persist.PersistFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Single-node backend that stores objects in an append-only log of memory-mapped segment files and
+ * references in a memory-mapped file of fixed-size slots, see {@link ObjectLog} and {@link
+ * ReferenceSlots}. The database directory is locked against concurrent use by other processes.
+ */
+public final class MmapBackend implements Backend {
+  private static final Logger LOGGER = LoggerFactory.getLogger(MmapBackend.class);
+
+  static final String LOCK_FILE = "LOCK";
+  static final String REFERENCES_FILE = "references.slots";
+
+  private final MmapBackendConfig config;
+
+  private FileChannel lockChannel;
+  private FileLock lock;
+  private ObjectLog objects;
+  private ReferenceSlots references;
+  private ScheduledExecutorService compaction;
+
+  private final Map<String, MmapRepo> repositories = new ConcurrentHashMap<>();
+
+  public MmapBackend(MmapBackendConfig config) {
+    this.config = config;
+  }
+
+  ObjectLog objects() {
+    return objects;
+  }
+
+  ReferenceSlots references() {
+    return references;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (lockChannel != null) {
+      try {
+        if (compaction != null) {
+          compaction.shutdownNow();
+          compaction.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        closeMultiple(objects, references, lock, lockChannel);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      } finally {
+        compaction = null;
+        objects = null;
+        references = null;
+        lock = null;
+        lockChannel = null;
+      }
+    }
+  }
+
+  private synchronized void initialize() {
+    if (objects == null) {
+      Path dbPath = config.databasePath();
+
+      checkState(dbPath != null, "Mmap backend is missing the databasePath option.");
+      checkState(
+          !Files.exists(dbPath) || Files.isDirectory(dbPath),
+          "Mmap backend cannot use databasePath %s.",
+          dbPath);
+
+      try {
+        Files.createDirectories(dbPath);
+        lockChannel =
+            FileChannel.open(
+                dbPath.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        lock = lockChannel.tryLock();
+        checkState(lock != null, "Mmap backend database %s is in use by another process", dbPath);
+
+        references =
+            new ReferenceSlots(
+                dbPath.resolve(REFERENCES_FILE),
+                config.referenceSlotSize(),
+                config.referenceSlotsPerChunk(),
+                config.syncWrites());
+        objects = new ObjectLog(dbPath, config.segmentSize(), config.syncWrites());
+      } catch (IOException | RuntimeException e) {
+        close();
+        throw new RuntimeException("Mmap backend failed to start", e);
+      }
+
+      Duration interval = config.compactionInterval();
+      if (!interval.isZero()) {
+        compaction =
+            Executors.newSingleThreadScheduledExecutor(
+                r -> {
+                  Thread t = new Thread(r, "nessie-mmap-compaction");
+                  t.setDaemon(true);
+                  return t;
+                });
+        compaction.scheduleWithFixedDelay(
+            this::compactInBackground,
+            interval.toMillis(),
+            interval.toMillis(),
+            TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  private void compactInBackground() {
+    try {
+      compact();
+    } catch (Exception e) {
+      LOGGER.warn("Compaction of the mmap backend segments failed", e);
+    }
+  }
+
+  /**
+   * Compacts the segment files that exceed the configured garbage threshold, returns the number of
+   * compacted segments.
+   */
+  public int compact() throws IOException {
+    ObjectLog o = objects;
+    return o != null ? o.compact(config.compactionThreshold()) : 0;
+  }
+
+  @Override
+  public Optional<String> setupSchema() {
+    initialize();
+    return Optional.of("database path: " + config.databasePath());
+  }
+
+  @Nonnull
+  @Override
+  public PersistFactory createFactory() {
+    initialize();
+    return new MmapPersistFactory(this);
+  }
+
+  MmapRepo repo(StoreConfig config) {
+    return repositories.computeIfAbsent(config.repositoryId(), r -> new MmapRepo());
+  }
+
+  @Override
+  public void eraseRepositories(Set<String> repositoryIds) {
+    if (repositoryIds == null || repositoryIds.isEmpty()) {
+      return;
+    }
+
+    // erase() does not use any lock, it's use is rare, taking the risk of having a corrupted,
+    // erased repo
+
+    references().eraseRepositories(repositoryIds);
+    objects().eraseRepositories(repositoryIds);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.mmap;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.immutables.value.Value;
+
+@Value.Immutable
+public interface MmapBackendConfig {
+  int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+  int DEFAULT_REFERENCE_SLOT_SIZE = 4096;
+  int DEFAULT_REFERENCE_SLOTS_PER_CHUNK = 256;
+  double DEFAULT_COMPACTION_THRESHOLD = 0.5d;
+  Duration DEFAULT_COMPACTION_INTERVAL = Duration.ofMinutes(1);
+
+  /** Directory containing the object segment files and the references file. */
+  Path databasePath();
+
+  /**
+   * Size of an object segment file in bytes. Objects that are larger than a segment get a
+   * dedicated segment.
+   */
+  @Value.Default
+  default int segmentSize() {
+    return DEFAULT_SEGMENT_SIZE;
+  }
+
+  /**
+   * Size of a reference slot in bytes, must be a multiple of 8. A serialized reference, including
+   * its previous pointers, must fit into half of a slot. Only effective when the references file is
+   * created.
+   */
+  @Value.Default
+  default int referenceSlotSize() {
+    return DEFAULT_REFERENCE_SLOT_SIZE;
+  }
+
+  /**
+   * Number of reference slots by which the references file grows. Only effective when the
+   * references file is created.
+   */
+  @Value.Default
+  default int referenceSlotsPerChunk() {
+    return DEFAULT_REFERENCE_SLOTS_PER_CHUNK;
+  }
+
+  /** Minimum ratio of garbage in a segment file to let the segment be compacted. */
+  @Value.Default
+  default double compactionThreshold() {
+    return DEFAULT_COMPACTION_THRESHOLD;
+  }
+
+  /** Interval of the background segment compaction, a zero duration disables it. */
+  @Value.Default
+  default Duration compactionInterval() {
+    return DEFAULT_COMPACTION_INTERVAL;
+  }
+
+  /**
+   * Whether each write is flushed to the storage device. Without this option, written data
+   * survives a crash of the process, but may be lost in an operating system crash.
+   */
+  @Value.Default
+  default boolean syncWrites() {
+    return false;
+  }
+
+  @Value.Check
+  default void check() {
+    checkState(segmentSize() >= 1024, "segmentSize must be at least 1024");
+    checkState(
+        referenceSlotSize() >= 256 && referenceSlotSize() % 8 == 0,
+        "referenceSlotSize must be a multiple of 8 and at least 256");
+    checkState(referenceSlotsPerChunk() > 0, "referenceSlotsPerChunk must be positive");
+    checkState(
+        compactionThreshold() > 0d && compactionThreshold() <= 1d,
+        "compactionThreshold must be greater than 0 and not greater than 1");
+    checkState(!compactionInterval().isNegative(), "compactionInterval must not be negative");
+  }
+
+  static ImmutableMmapBackendConfig.Builder builder() {
+    return ImmutableMmapBackendConfig.builder();
+  }
+}
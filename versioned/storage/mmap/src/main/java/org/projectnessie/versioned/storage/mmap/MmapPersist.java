@@ -0,0 +1,446 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.mmap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singleton;
+import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObj;
+import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.releasePooledBuffer;
+import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeObjPooled;
+
+import jakarta.annotation.Nonnull;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Predicate;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
+import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
+import org.projectnessie.versioned.storage.common.exceptions.RefAlreadyExistsException;
+import org.projectnessie.versioned.storage.common.exceptions.RefConditionFailedException;
+import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundException;
+import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
+import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.ObjType;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.common.persist.Reference;
+import org.projectnessie.versioned.storage.mmap.ReferenceSlots.SlotValue;
+
+class MmapPersist implements Persist {
+
+  private final MmapBackend backend;
+  private final MmapRepo repo;
+  private final StoreConfig config;
+
+  private final byte[] repoKey;
+
+  MmapPersist(MmapBackend backend, MmapRepo repo, StoreConfig config) {
+    this.backend = backend;
+    this.repo = repo;
+    this.config = config;
+    this.repoKey = config.repositoryId().getBytes(UTF_8);
+  }
+
+  @Nonnull
+  @Override
+  public String name() {
+    return MmapBackendFactory.NAME;
+  }
+
+  @Override
+  @Nonnull
+  public StoreConfig config() {
+    return config;
+  }
+
+  @Override
+  public Reference fetchReference(@Nonnull String name) {
+    return backend.references().get(config.repositoryId(), name);
+  }
+
+  @Override
+  @Nonnull
+  public Reference[] fetchReferences(@Nonnull String[] names) {
+    ReferenceSlots references = backend.references();
+    int num = names.length;
+    Reference[] r = new Reference[num];
+    for (int i = 0; i < num; i++) {
+      String name = names[i];
+      if (name != null) {
+        r[i] = references.get(config.repositoryId(), name);
+      }
+    }
+    return r;
+  }
+
+  @Override
+  @Nonnull
+  public Reference addReference(@Nonnull Reference reference) throws RefAlreadyExistsException {
+    checkArgument(!reference.deleted(), "Deleted references must not be added");
+
+    Lock l = repo.referencesLock(reference.name());
+    try {
+      Reference existing = backend.references().add(config.repositoryId(), reference);
+      if (existing != null) {
+        throw new RefAlreadyExistsException(existing);
+      }
+      return reference;
+    } finally {
+      l.unlock();
+    }
+  }
+
+  @Override
+  @Nonnull
+  public Reference markReferenceAsDeleted(@Nonnull Reference reference)
+      throws RefNotFoundException, RefConditionFailedException {
+    Lock l = repo.referencesLock(reference.name());
+    try {
+      SlotValue current = checkReference(reference, false);
+
+      Reference asDeleted = reference.withDeleted(true);
+      if (!backend.references().update(config.repositoryId(), current, asDeleted)) {
+        throw conditionFailed(reference);
+      }
+      return asDeleted;
+    } finally {
+      l.unlock();
+    }
+  }
+
+  private SlotValue checkReference(Reference expected, boolean expectDeleted)
+      throws RefNotFoundException, RefConditionFailedException {
+    SlotValue current = backend.references().current(config.repositoryId(), expected.name());
+    if (current == null) {
+      throw new RefNotFoundException(expected);
+    }
+
+    Reference ref = current.reference;
+    if (ref.deleted() != expectDeleted || !ref.equals(expected)) {
+      throw new RefConditionFailedException(ref);
+    }
+    return current;
+  }
+
+  private RefConditionFailedException conditionFailed(Reference expected) {
+    Reference ref = fetchReference(expected.name());
+    return new RefConditionFailedException(ref != null ? ref : expected);
+  }
+
+  @Override
+  public void purgeReference(@Nonnull Reference reference)
+      throws RefNotFoundException, RefConditionFailedException {
+    Lock l = repo.referencesLock(reference.name());
+    try {
+      SlotValue current = checkReference(reference.withDeleted(true), true);
+
+      if (!backend.references().remove(config.repositoryId(), current)) {
+        throw conditionFailed(reference);
+      }
+    } finally {
+      l.unlock();
+    }
+  }
+
+  @Override
+  @Nonnull
+  public Reference updateReferencePointer(@Nonnull Reference reference, @Nonnull ObjId newPointer)
+      throws RefNotFoundException, RefConditionFailedException {
+    Lock l = repo.referencesLock(reference.name());
+    try {
+      SlotValue current = checkReference(reference, false);
+
+      Reference updated = reference.forNewPointer(newPointer, config);
+
+      if (!backend.references().update(config.repositoryId(), current, updated)) {
+        throw conditionFailed(reference);
+      }
+      return updated;
+    } finally {
+      l.unlock();
+    }
+  }
+
+  @Override
+  @Nonnull
+  public <T extends Obj> T fetchTypedObj(
+      @Nonnull ObjId id, ObjType type, @Nonnull Class<T> typeClass) throws ObjNotFoundException {
+    byte[] obj = backend.objects().get(repoKey, id);
+    if (obj == null) {
+      throw new ObjNotFoundException(id);
+    }
+    Obj o = deserializeObj(id, 0L, obj, null);
+    if (o == null || (type != null && !type.equals(o.type()))) {
+      throw new ObjNotFoundException(id);
+    }
+    @SuppressWarnings("unchecked")
+    T typed = (T) o;
+    return typed;
+  }
+
+  @Override
+  public <T extends Obj> T[] fetchTypedObjsIfExist(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    ObjectLog objects = backend.objects();
+
+    int num = ids.length;
+    @SuppressWarnings("unchecked")
+    T[] r = (T[]) Array.newInstance(typeClass, num);
+    for (int i = 0; i < num; i++) {
+      ObjId id = ids[i];
+      if (id != null) {
+        byte[] obj = objects.get(repoKey, id);
+        if (obj != null) {
+          Obj o = deserializeObj(id, 0L, obj, null);
+          if (o != null && type != null && !type.equals(o.type())) {
+            o = null;
+          }
+          @SuppressWarnings("unchecked")
+          T typed = (T) o;
+          r[i] = typed;
+        }
+      }
+    }
+    return r;
+  }
+
+  @Override
+  public boolean storeObj(@Nonnull Obj obj, boolean ignoreSoftSizeRestrictions)
+      throws ObjTooLargeException {
+    checkArgument(obj.id() != null, "Obj to store must have a non-null ID");
+
+    Lock l = repo.objLock(obj.id());
+    try {
+      ObjectLog objects = backend.objects();
+
+      long referenced = config.currentTimeMicros();
+      boolean r;
+
+      byte[] existing = objects.get(repoKey, obj.id());
+      if (existing != null) {
+        obj = deserializeObj(obj.id(), referenced, existing, null);
+        ignoreSoftSizeRestrictions = true;
+        r = false;
+      } else {
+        var objReferenced = obj.referenced();
+        // -1 is a sentinel for AbstractBasePersistTests.deleteWithReferenced()
+        obj = obj.withReferenced(objReferenced != -1L ? referenced : -1L);
+        r = true;
+      }
+
+      int incrementalIndexSizeLimit =
+          ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIncrementalIndexSizeLimit();
+      int indexSizeLimit =
+          ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIndexSegmentSizeLimit();
+      ByteBuffer serialized =
+          serializeObjPooled(obj, incrementalIndexSizeLimit, indexSizeLimit, true);
+      try {
+        objects.put(repoKey, obj.id(), serialized);
+      } finally {
+        releasePooledBuffer(serialized);
+      }
+      return r;
+    } finally {
+      l.unlock();
+    }
+  }
+
+  @Override
+  @Nonnull
+  public boolean[] storeObjs(@Nonnull Obj[] objs) throws ObjTooLargeException {
+    boolean[] r = new boolean[objs.length];
+    for (int i = 0; i < objs.length; i++) {
+      Obj o = objs[i];
+      if (o != null) {
+        r[i] = storeObj(o, false);
+      }
+    }
+    return r;
+  }
+
+  @Override
+  public void deleteObj(@Nonnull ObjId id) {
+    Lock l = repo.objLock(id);
+    try {
+      backend.objects().delete(repoKey, id);
+    } finally {
+      l.unlock();
+    }
+  }
+
+  @Override
+  public void deleteObjs(@Nonnull ObjId[] ids) {
+    for (ObjId id : ids) {
+      if (id != null) {
+        deleteObj(id);
+      }
+    }
+  }
+
+  @Override
+  public void upsertObj(@Nonnull Obj obj) throws ObjTooLargeException {
+    ObjId id = obj.id();
+    checkArgument(id != null, "Obj to store must have a non-null ID");
+
+    Lock l = repo.objLock(obj.id());
+    try {
+      long referenced = config.currentTimeMicros();
+      obj = obj.withReferenced(referenced);
+
+      ByteBuffer serialized =
+          serializeObjPooled(
+              obj, effectiveIncrementalIndexSizeLimit(), effectiveIndexSegmentSizeLimit(), true);
+      try {
+        backend.objects().put(repoKey, id, serialized);
+      } finally {
+        releasePooledBuffer(serialized);
+      }
+    } finally {
+      l.unlock();
+    }
+  }
+
+  @Override
+  public void upsertObjs(@Nonnull Obj[] objs) throws ObjTooLargeException {
+    for (Obj obj : objs) {
+      if (obj != null) {
+        upsertObj(obj);
+      }
+    }
+  }
+
+  @Override
+  public boolean deleteWithReferenced(@Nonnull Obj obj) {
+    ObjId id = obj.id();
+    Lock l = repo.objLock(id);
+    try {
+      ObjectLog objects = backend.objects();
+
+      byte[] bytes = objects.get(repoKey, id);
+      if (bytes == null) {
+        return false;
+      }
+      Obj existing = deserializeObj(id, 0L, bytes, null);
+      if (!existing.type().equals(obj.type())) {
+        return false;
+      }
+      var referenced = obj.referenced();
+      if (existing.referenced() != referenced && referenced != -1L) {
+        // -1 is a sentinel for AbstractBasePersistTests.deleteWithReferenced()
+        return false;
+      }
+
+      objects.delete(repoKey, id);
+      return true;
+    } finally {
+      l.unlock();
+    }
+  }
+
+  @Override
+  public boolean deleteConditional(@Nonnull UpdateableObj obj) {
+    ObjId id = obj.id();
+    Lock l = repo.objLock(id);
+    try {
+      ObjectLog objects = backend.objects();
+
+      byte[] bytes = objects.get(repoKey, id);
+      if (bytes == null) {
+        return false;
+      }
+      Obj existing = deserializeObj(id, 0L, bytes, null);
+      if (!existing.type().equals(obj.type())) {
+        return false;
+      }
+      UpdateableObj ex = (UpdateableObj) existing;
+      if (!ex.versionToken().equals(obj.versionToken())) {
+        return false;
+      }
+
+      objects.delete(repoKey, id);
+      return true;
+    } finally {
+      l.unlock();
+    }
+  }
+
+  @Override
+  public boolean updateConditional(@Nonnull UpdateableObj expected, @Nonnull UpdateableObj newValue)
+      throws ObjTooLargeException {
+    ObjId id = expected.id();
+    checkArgument(id != null && id.equals(newValue.id()));
+    checkArgument(expected.type().equals(newValue.type()));
+    checkArgument(!expected.versionToken().equals(newValue.versionToken()));
+
+    Lock l = repo.objLock(id);
+    try {
+      ObjectLog objects = backend.objects();
+
+      byte[] obj = objects.get(repoKey, id);
+      if (obj == null) {
+        return false;
+      }
+      Obj existing = deserializeObj(id, 0L, obj, null);
+      if (!existing.type().equals(expected.type())) {
+        return false;
+      }
+      UpdateableObj ex = (UpdateableObj) existing;
+      if (!ex.versionToken().equals(expected.versionToken())) {
+        return false;
+      }
+
+      long referenced = config.currentTimeMicros();
+      ByteBuffer serialized =
+          serializeObjPooled(
+              newValue.withReferenced(referenced),
+              effectiveIncrementalIndexSizeLimit(),
+              effectiveIndexSegmentSizeLimit(),
+              true);
+      try {
+        objects.put(repoKey, id, serialized);
+      } finally {
+        releasePooledBuffer(serialized);
+      }
+
+      return true;
+    } finally {
+      l.unlock();
+    }
+  }
+
+  @Override
+  public void erase() {
+    backend.eraseRepositories(singleton(config().repositoryId()));
+  }
+
+  @Nonnull
+  @Override
+  public CloseableIterator<Obj> scanAllObjects(@Nonnull Set<ObjType> returnedObjTypes) {
+    Predicate<ObjType> filter = returnedObjTypes.isEmpty() ? x -> true : returnedObjTypes::contains;
+    return backend
+        .objects()
+        .scan(
+            repoKey,
+            (id, bytes) -> {
+              Obj o = deserializeObj(id, 0L, bytes, null);
+              return filter.test(o.type()) ? o : null;
+            });
+  }
+}
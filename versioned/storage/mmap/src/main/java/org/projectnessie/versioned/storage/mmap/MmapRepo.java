@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.mmap;
+
+import com.google.common.util.concurrent.Striped;
+import java.util.concurrent.locks.Lock;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+final class MmapRepo {
+
+  private static final int STRIPES = 16;
+
+  @SuppressWarnings("UnstableApiUsage")
+  private final Striped<Lock> referencesLocks = Striped.lock(STRIPES);
+
+  @SuppressWarnings("UnstableApiUsage")
+  private final Striped<Lock> objLocks = Striped.lock(STRIPES);
+
+  @SuppressWarnings("UnstableApiUsage")
+  Lock referencesLock(String referenceName) {
+    Lock l = referencesLocks.get(referenceName);
+    l.lock();
+    return l;
+  }
+
+  @SuppressWarnings("UnstableApiUsage")
+  public Lock objLock(ObjId id) {
+    Lock l = objLocks.get(id);
+    l.lock();
+    return l;
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.mmap;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * Off-heap open-addressing hash table mapping the 64-bit hash of a repository ID + object ID to the
+ * location of the object's record in the {@link ObjectLog}.
+ *
+ * <p>Each slot holds the hash and the location. Hash collisions are resolved by the {@code
+ * matches} predicates, which compare the key of the record at a location. A location of {@link
+ * #EMPTY} marks a free slot, {@link #REMOVED} marks a removed entry. The table is rebuilt from the
+ * segment files when the backend is opened.
+ */
+final class ObjIndex {
+  static final long EMPTY = 0L;
+  private static final long REMOVED = -1L;
+
+  private static final int SLOT_SIZE = 16;
+  // The whole table must fit into a single direct buffer.
+  private static final int MAX_CAPACITY = 1 << 26;
+  private static final double MAX_LOAD_FACTOR = 0.75d;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private ByteBuffer table;
+  private int mask;
+  private int size;
+  private int used;
+
+  ObjIndex(int initialCapacity) {
+    allocate(Integer.highestOneBit(Math.max(initialCapacity, 16) - 1) << 1);
+  }
+
+  private void allocate(int capacity) {
+    table = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+    mask = capacity - 1;
+    size = 0;
+    used = 0;
+  }
+
+  private static int slot(long hash) {
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  private long hashAt(int slot) {
+    return table.getLong(slot * SLOT_SIZE);
+  }
+
+  private long locationAt(int slot) {
+    return table.getLong(slot * SLOT_SIZE + 8);
+  }
+
+  private void set(int slot, long hash, long location) {
+    table.putLong(slot * SLOT_SIZE, hash);
+    table.putLong(slot * SLOT_SIZE + 8, location);
+  }
+
+  int size() {
+    lock.readLock().lock();
+    try {
+      return size;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Returns the location of the entry matching {@code matches} or {@link #EMPTY}. */
+  long get(long hash, LongPredicate matches) {
+    lock.readLock().lock();
+    try {
+      int slot = find(hash, matches);
+      return slot >= 0 ? locationAt(slot) : EMPTY;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Adds or replaces an entry, returns the previous location or {@link #EMPTY}. */
+  long put(long hash, LongPredicate matches, long location) {
+    lock.writeLock().lock();
+    try {
+      int slot = find(hash, matches);
+      if (slot >= 0) {
+        long previous = locationAt(slot);
+        set(slot, hash, location);
+        return previous;
+      }
+
+      ensureCapacity();
+      insert(hash, location);
+      return EMPTY;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Updates the location of an entry, if the entry still has the location {@code expected}. */
+  boolean replace(long hash, long expected, long location) {
+    lock.writeLock().lock();
+    try {
+      int slot = find(hash, l -> l == expected);
+      if (slot < 0) {
+        return false;
+      }
+      set(slot, hash, location);
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Removes an entry, returns its location or {@link #EMPTY}. */
+  long remove(long hash, LongPredicate matches) {
+    lock.writeLock().lock();
+    try {
+      int slot = find(hash, matches);
+      if (slot < 0) {
+        return EMPTY;
+      }
+      long previous = locationAt(slot);
+      set(slot, 0L, REMOVED);
+      size--;
+      return previous;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private int find(long hash, LongPredicate matches) {
+    for (int slot = slot(hash) & mask; ; slot = (slot + 1) & mask) {
+      long location = locationAt(slot);
+      if (location == EMPTY) {
+        return -1;
+      }
+      if (location != REMOVED && hashAt(slot) == hash && matches.test(location)) {
+        return slot;
+      }
+    }
+  }
+
+  private void insert(long hash, long location) {
+    for (int slot = slot(hash) & mask; ; slot = (slot + 1) & mask) {
+      long existing = locationAt(slot);
+      if (existing == EMPTY || existing == REMOVED) {
+        if (existing == EMPTY) {
+          used++;
+        }
+        size++;
+        set(slot, hash, location);
+        return;
+      }
+    }
+  }
+
+  private void ensureCapacity() {
+    int capacity = mask + 1;
+    if (used + 1 <= capacity * MAX_LOAD_FACTOR) {
+      return;
+    }
+
+    // Grow, unless the table is mostly occupied by removed entries.
+    int newCapacity = size + 1 > capacity * MAX_LOAD_FACTOR / 2 ? capacity << 1 : capacity;
+    if (newCapacity > MAX_CAPACITY) {
+      throw new IllegalStateException("Object index exceeds its maximum capacity");
+    }
+
+    ByteBuffer old = table;
+    allocate(newCapacity);
+    for (int slot = 0; slot < capacity; slot++) {
+      long location = old.getLong(slot * SLOT_SIZE + 8);
+      if (location != EMPTY && location != REMOVED) {
+        insert(old.getLong(slot * SLOT_SIZE), location);
+      }
+    }
+  }
+}
@@ -0,0 +1,410 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.mmap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.objIdFromByteArray;
+import static org.projectnessie.versioned.storage.mmap.ObjIndex.EMPTY;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiFunction;
+import java.util.function.LongPredicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+/**
+ * Append-only log of serialized objects, stored in memory-mapped {@link Segment} files, with an
+ * off-heap {@link ObjIndex} from repository ID + object ID to the location of the latest record.
+ *
+ * <p>All appends are serialized, updates and deletes append a new record and mark the superseded
+ * record as garbage. {@link #compact(double)} rewrites the live records of sealed segments that
+ * contain too much garbage to the active segment and deletes the compacted segment files.
+ *
+ * <p>When opened, all segments are replayed in order to rebuild the index. Later records supersede
+ * earlier records, delete-records remove the index entry. Replay of a segment stops at the first
+ * torn record.
+ */
+final class ObjectLog implements AutoCloseable {
+  static final byte RECORD_OBJ = 1;
+  static final byte RECORD_DELETE = 2;
+
+  private static final ByteBuffer NO_PAYLOAD = ByteBuffer.allocate(0);
+  private static final Pattern SEGMENT_FILE = Pattern.compile("objects-(\\d{8})[.]seg");
+  private static final int INITIAL_INDEX_CAPACITY = 64 * 1024;
+
+  private final Path directory;
+  private final int segmentSize;
+  private final boolean syncWrites;
+
+  private final ConcurrentNavigableMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+  private final ObjIndex index = new ObjIndex(INITIAL_INDEX_CAPACITY);
+  private final Lock appendLock = new ReentrantLock();
+
+  /**
+   * Scans take a read-lock for their whole duration, compaction takes the write-lock per segment,
+   * so scans never observe a record twice or miss a moved record.
+   */
+  private final StampedLock compactionLock = new StampedLock();
+
+  private volatile Segment active;
+
+  ObjectLog(Path directory, int segmentSize, boolean syncWrites) throws IOException {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.syncWrites = syncWrites;
+
+    List<Path> files;
+    try (Stream<Path> list = Files.list(directory)) {
+      files =
+          list.filter(f -> SEGMENT_FILE.matcher(f.getFileName().toString()).matches())
+              .sorted()
+              .collect(Collectors.toList());
+    }
+    try {
+      for (Path file : files) {
+        Matcher m = SEGMENT_FILE.matcher(file.getFileName().toString());
+        if (!m.matches()) {
+          throw new IllegalStateException("Unexpected segment file name " + file);
+        }
+        Segment segment = Segment.open(file, Integer.parseInt(m.group(1)));
+        segments.put(segment.number(), segment);
+        segment.recover(offset -> replay(segment, offset));
+      }
+      active = segments.isEmpty() ? newSegment(0, segmentSize) : segments.lastEntry().getValue();
+    } catch (IOException | RuntimeException e) {
+      closeSegments(e);
+      throw e;
+    }
+  }
+
+  private Segment newSegment(int number, int capacity) throws IOException {
+    Path file = directory.resolve(String.format("objects-%08d.seg", number));
+    Segment segment = Segment.create(file, number, capacity);
+    segments.put(number, segment);
+    return segment;
+  }
+
+  static long location(int segment, int offset) {
+    return ((long) segment << 32) | (offset & 0xffffffffL);
+  }
+
+  private static int segmentOf(long location) {
+    return (int) (location >>> 32);
+  }
+
+  private static int offsetOf(long location) {
+    return (int) location;
+  }
+
+  private static long hash(byte[] repo, byte[] id) {
+    return Hashing.murmur3_128().newHasher().putBytes(repo).putBytes(id).hash().asLong();
+  }
+
+  private LongPredicate keyMatcher(byte[] repo, byte[] id) {
+    return location -> {
+      Segment segment = segments.get(segmentOf(location));
+      return segment != null && segment.keyEquals(offsetOf(location), repo, id);
+    };
+  }
+
+  private void replay(Segment segment, int offset) {
+    byte[] repo = segment.repo(offset);
+    byte[] id = segment.id(offset);
+    long hash = hash(repo, id);
+    if (segment.recordType(offset) == RECORD_OBJ) {
+      release(index.put(hash, keyMatcher(repo, id), location(segment.number(), offset)));
+    } else {
+      release(index.remove(hash, keyMatcher(repo, id)));
+      segment.addGarbage(segment.recordLength(offset));
+    }
+  }
+
+  /** Accounts the record at {@code location} as garbage. */
+  private void release(long location) {
+    if (location != EMPTY) {
+      Segment segment = segments.get(segmentOf(location));
+      if (segment != null) {
+        segment.addGarbage(segment.recordLength(offsetOf(location)));
+      }
+    }
+  }
+
+  /** Appends a record, the append-lock must be held. */
+  private long append(byte type, byte[] repo, byte[] id, ByteBuffer payload) {
+    Segment segment = active;
+    int offset = segment.append(type, repo, id, payload);
+    if (offset < 0) {
+      int length = Segment.recordLength(repo.length, id.length, payload.remaining());
+      try {
+        segment.force();
+        segment =
+            newSegment(
+                segment.number() + 1,
+                Math.max(segmentSize, Math.addExact(Segment.HEADER_SIZE, length)));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      active = segment;
+      offset = segment.append(type, repo, id, payload);
+    }
+    if (syncWrites) {
+      segment.force();
+    }
+    return location(segment.number(), offset);
+  }
+
+  byte[] get(byte[] repo, ObjId id) {
+    byte[] idBytes = id.asByteArray();
+    long hash = hash(repo, idBytes);
+    LongPredicate matcher = keyMatcher(repo, idBytes);
+    while (true) {
+      long location = index.get(hash, matcher);
+      if (location == EMPTY) {
+        return null;
+      }
+      Segment segment = segments.get(segmentOf(location));
+      if (segment != null) {
+        return segment.payload(offsetOf(location));
+      }
+      // The record has been moved by a concurrent compaction, retry.
+    }
+  }
+
+  void put(byte[] repo, ObjId id, ByteBuffer payload) {
+    byte[] idBytes = id.asByteArray();
+    long hash = hash(repo, idBytes);
+    appendLock.lock();
+    try {
+      long location = append(RECORD_OBJ, repo, idBytes, payload);
+      release(index.put(hash, keyMatcher(repo, idBytes), location));
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  boolean delete(byte[] repo, ObjId id) {
+    return delete(repo, id.asByteArray());
+  }
+
+  private boolean delete(byte[] repo, byte[] id) {
+    long hash = hash(repo, id);
+    LongPredicate matcher = keyMatcher(repo, id);
+    appendLock.lock();
+    try {
+      if (index.get(hash, matcher) == EMPTY) {
+        return false;
+      }
+      release(append(RECORD_DELETE, repo, id, NO_PAYLOAD));
+      release(index.remove(hash, matcher));
+      return true;
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  /**
+   * Returns the non-{@code null} results of {@code decoder} for all live objects of a repository.
+   * The returned iterator is weakly consistent, it may or may not reflect concurrent changes.
+   */
+  <T> CloseableIterator<T> scan(byte[] repo, BiFunction<ObjId, byte[], T> decoder) {
+    return new ScanIterator<>(repo, decoder);
+  }
+
+  void eraseRepositories(Set<String> repositoryIds) {
+    for (String repositoryId : repositoryIds) {
+      byte[] repo = repositoryId.getBytes(UTF_8);
+      List<ObjId> ids = new ArrayList<>();
+      try (CloseableIterator<ObjId> iter = scan(repo, (id, payload) -> id)) {
+        iter.forEachRemaining(ids::add);
+      }
+      ids.forEach(id -> delete(repo, id));
+    }
+  }
+
+  /**
+   * Compacts all sealed segments that have a garbage ratio of at least {@code threshold}, returns
+   * the number of compacted segments. Compaction is skipped while scans are in progress.
+   */
+  int compact(double threshold) throws IOException {
+    List<Segment> candidates = new ArrayList<>();
+    for (Segment segment : segments.values()) {
+      if (segment != active && segment.garbageRatio() >= threshold) {
+        candidates.add(segment);
+      }
+    }
+
+    int compacted = 0;
+    for (Segment segment : candidates) {
+      long stamp = compactionLock.tryWriteLock();
+      if (stamp == 0L) {
+        break;
+      }
+      try {
+        compactSegment(segment);
+        compacted++;
+      } finally {
+        compactionLock.unlockWrite(stamp);
+      }
+    }
+    return compacted;
+  }
+
+  private void compactSegment(Segment segment) throws IOException {
+    // Delete-records must be retained as long as older segments may contain a record for the key.
+    boolean oldest = segments.firstKey() == segment.number();
+
+    segment.forEachRecord(
+        offset -> {
+          byte[] repo = segment.repo(offset);
+          byte[] id = segment.id(offset);
+          long hash = hash(repo, id);
+          long location = location(segment.number(), offset);
+          appendLock.lock();
+          try {
+            if (segment.recordType(offset) == RECORD_OBJ) {
+              if (index.get(hash, l -> l == location) == location) {
+                long moved = append(RECORD_OBJ, repo, id, ByteBuffer.wrap(segment.payload(offset)));
+                index.replace(hash, location, moved);
+              }
+            } else if (!oldest && index.get(hash, keyMatcher(repo, id)) == EMPTY) {
+              release(append(RECORD_DELETE, repo, id, NO_PAYLOAD));
+            }
+          } finally {
+            appendLock.unlock();
+          }
+        });
+
+    // The moved records must be durable before the compacted segment is deleted.
+    appendLock.lock();
+    try {
+      active.force();
+    } finally {
+      appendLock.unlock();
+    }
+
+    segments.remove(segment.number());
+    segment.delete();
+  }
+
+  @Override
+  public void close() throws IOException {
+    appendLock.lock();
+    try {
+      active.force();
+    } finally {
+      appendLock.unlock();
+    }
+    closeSegments(null);
+  }
+
+  private void closeSegments(Exception failure) throws IOException {
+    IOException ex = null;
+    for (Segment segment : segments.values()) {
+      try {
+        segment.close();
+      } catch (IOException e) {
+        if (failure != null) {
+          failure.addSuppressed(e);
+        } else if (ex == null) {
+          ex = e;
+        } else {
+          ex.addSuppressed(e);
+        }
+      }
+    }
+    segments.clear();
+    if (ex != null) {
+      throw ex;
+    }
+  }
+
+  private final class ScanIterator<T> extends AbstractIterator<T> implements CloseableIterator<T> {
+    private final byte[] repo;
+    private final BiFunction<ObjId, byte[], T> decoder;
+    private final Iterator<Segment> segmentIter;
+    private long stamp;
+    private Segment segment;
+    private int offset;
+    private int end;
+
+    ScanIterator(byte[] repo, BiFunction<ObjId, byte[], T> decoder) {
+      this.repo = repo;
+      this.decoder = decoder;
+      this.stamp = compactionLock.readLock();
+      this.segmentIter = new ArrayList<>(segments.values()).iterator();
+    }
+
+    @Override
+    protected T computeNext() {
+      while (true) {
+        if (segment == null || offset >= end) {
+          if (!segmentIter.hasNext()) {
+            return endOfData();
+          }
+          segment = segmentIter.next();
+          offset = Segment.HEADER_SIZE;
+          end = segment.writePosition();
+          continue;
+        }
+
+        int current = offset;
+        offset += segment.recordLength(current);
+        if (segment.recordType(current) != RECORD_OBJ || !segment.repoEquals(current, repo)) {
+          continue;
+        }
+
+        byte[] id = segment.id(current);
+        long location = location(segment.number(), current);
+        if (index.get(hash(repo, id), l -> l == location) != location) {
+          // superseded or deleted
+          continue;
+        }
+
+        T result = decoder.apply(objIdFromByteArray(id), segment.payload(current));
+        if (result != null) {
+          return result;
+        }
+      }
+    }
+
+    @Override
+    public void close() {
+      if (stamp != 0L) {
+        compactionLock.unlockRead(stamp);
+        stamp = 0L;
+      }
+    }
+  }
+}
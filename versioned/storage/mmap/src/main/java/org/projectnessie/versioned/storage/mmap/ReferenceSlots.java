@@ -0,0 +1,411 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.mmap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeReference;
+import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeReference;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+import org.projectnessie.versioned.storage.common.persist.Reference;
+
+/**
+ * References stored in fixed-size slots of a memory-mapped file.
+ *
+ * <p>Each slot consists of an 8-byte state word and two halves. The state word holds the index of
+ * the active half, a "writing" flag and a generation counter. An update first claims the slot by
+ * setting the "writing" flag via compare-and-set on the expected state, then writes the new value
+ * into the inactive half and finally publishes it by switching the active half and incrementing the
+ * generation. The active half is never modified in place, so a crashed update leaves the previous
+ * value intact, and readers do not need any lock.
+ *
+ * <p>A half consists of the payload length, a CRC32 of the payload and the payload, which contains
+ * the repository ID and the serialized reference. A zero payload length denotes a free slot.
+ *
+ * <p>The file grows in chunks of slots, each chunk is a separate mapping. The state word uses the
+ * native byte order, the file is therefore not portable across platforms with different byte
+ * orders.
+ */
+final class ReferenceSlots implements AutoCloseable {
+  private static final int MAGIC = 0x4e524546;
+  private static final int FORMAT_VERSION = 1;
+  private static final int HEADER_SIZE = 16;
+
+  private static final int STATE_SIZE = 8;
+  private static final int HALF_HEADER_SIZE = 8;
+  private static final long ACTIVE_HALF = 1L;
+  private static final long WRITING = 2L;
+  private static final int GENERATION_SHIFT = 2;
+
+  private static final byte[] FREE = new byte[0];
+
+  private static final VarHandle STATE =
+      MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+  private final FileChannel channel;
+  private final int slotSize;
+  private final int slotsPerChunk;
+  private final int halfSize;
+  private final boolean syncWrites;
+
+  private final List<MappedByteBuffer> chunks = new CopyOnWriteArrayList<>();
+
+  /** Slot numbers by reference name by repository ID. */
+  private final Map<String, Map<String, Integer>> slots = new ConcurrentHashMap<>();
+
+  private final Lock allocationLock = new ReentrantLock();
+  private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+  ReferenceSlots(Path file, int slotSize, int slotsPerChunk, boolean syncWrites)
+      throws IOException {
+    this.channel = FileChannel.open(file, CREATE, READ, WRITE);
+    this.syncWrites = syncWrites;
+    try {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      if (channel.size() == 0L) {
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(slotSize).putInt(slotsPerChunk).flip();
+        channel.write(header, 0L);
+        channel.force(true);
+      } else {
+        channel.read(header, 0L);
+        header.flip();
+        if (header.remaining() != HEADER_SIZE
+            || header.getInt() != MAGIC
+            || header.getInt() != FORMAT_VERSION) {
+          throw new IllegalStateException("Unsupported references file " + file);
+        }
+        // The slot layout of an existing file takes precedence over the configuration.
+        slotSize = header.getInt();
+        slotsPerChunk = header.getInt();
+      }
+      this.slotSize = slotSize;
+      this.slotsPerChunk = slotsPerChunk;
+      this.halfSize = (slotSize - STATE_SIZE) / 2;
+
+      long chunkSize = chunkSize();
+      long numChunks = (channel.size() - HEADER_SIZE + chunkSize - 1) / chunkSize;
+      for (long i = 0; i < numChunks; i++) {
+        addChunk();
+      }
+      recover();
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private long chunkSize() {
+    return (long) slotSize * slotsPerChunk;
+  }
+
+  /** Maps a new chunk, the allocation-lock must be held, unless called from the constructor. */
+  private void addChunk() throws IOException {
+    int firstSlot = chunks.size() * slotsPerChunk;
+    chunks.add(channel.map(READ_WRITE, HEADER_SIZE + chunks.size() * chunkSize(), chunkSize()));
+    for (int i = 0; i < slotsPerChunk; i++) {
+      freeSlots.add(firstSlot + i);
+    }
+  }
+
+  private ByteBuffer chunk(int slot) {
+    return chunks.get(slot / slotsPerChunk);
+  }
+
+  private int base(int slot) {
+    return (slot % slotsPerChunk) * slotSize;
+  }
+
+  private int halfBase(int slot, long state) {
+    return base(slot) + STATE_SIZE + (int) (state & ACTIVE_HALF) * halfSize;
+  }
+
+  private static long state(ByteBuffer chunk, int base) {
+    return (long) STATE.getVolatile(chunk, base);
+  }
+
+  private void recover() {
+    int numSlots = chunks.size() * slotsPerChunk;
+    freeSlots.clear();
+    for (int slot = 0; slot < numSlots; slot++) {
+      ByteBuffer chunk = chunk(slot);
+      int base = base(slot);
+      long state = state(chunk, base);
+      if ((state & WRITING) != 0L) {
+        // Crashed while writing the inactive half, the active half is still intact.
+        state &= ~WRITING;
+        STATE.setVolatile(chunk, base, state);
+      }
+
+      byte[] payload = readHalf(chunk, halfBase(slot, state));
+      if (payload == null) {
+        // The active half has not been completely written to disk, fall back to the other half.
+        state = nextState(state, (state & ACTIVE_HALF) ^ ACTIVE_HALF);
+        payload = readHalf(chunk, halfBase(slot, state));
+        if (payload == null) {
+          throw new IllegalStateException("Corrupt reference slot " + slot);
+        }
+        STATE.setVolatile(chunk, base, state);
+      }
+
+      if (payload.length == 0) {
+        freeSlots.add(slot);
+      } else {
+        ByteBuffer b = ByteBuffer.wrap(payload);
+        String repositoryId = repositoryId(b);
+        Reference reference = deserializeReference(remaining(b));
+        slots
+            .computeIfAbsent(repositoryId, r -> new ConcurrentHashMap<>())
+            .put(reference.name(), slot);
+      }
+    }
+  }
+
+  private static long nextState(long state, long activeHalf) {
+    return (((state >>> GENERATION_SHIFT) + 1L) << GENERATION_SHIFT) | activeHalf;
+  }
+
+  /** Returns the payload of a half, {@link #FREE} or {@code null} if the half is corrupt. */
+  private byte[] readHalf(ByteBuffer chunk, int halfBase) {
+    int length = chunk.getInt(halfBase);
+    if (length == 0) {
+      return FREE;
+    }
+    if (length < 0 || length > halfSize - HALF_HEADER_SIZE) {
+      return null;
+    }
+    byte[] payload = new byte[length];
+    ByteBuffer b = chunk.duplicate();
+    b.position(halfBase + HALF_HEADER_SIZE);
+    b.get(payload);
+    return chunk.getInt(halfBase + 4) == crc(payload) ? payload : null;
+  }
+
+  private static int crc(byte[] payload) {
+    CRC32 crc = new CRC32();
+    crc.update(payload);
+    return (int) crc.getValue();
+  }
+
+  private static String repositoryId(ByteBuffer payload) {
+    byte[] repo = new byte[payload.getShort() & 0xffff];
+    payload.get(repo);
+    return new String(repo, UTF_8);
+  }
+
+  private static byte[] remaining(ByteBuffer payload) {
+    byte[] bytes = new byte[payload.remaining()];
+    payload.get(bytes);
+    return bytes;
+  }
+
+  private byte[] payload(String repositoryId, Reference reference) {
+    byte[] repo = repositoryId.getBytes(UTF_8);
+    byte[] serialized = serializeReference(reference);
+    int length = 2 + repo.length + serialized.length;
+    checkArgument(
+        length <= halfSize - HALF_HEADER_SIZE,
+        "Serialized reference '%s' with %s bytes exceeds the reference slot size",
+        reference.name(),
+        length);
+    return ByteBuffer.allocate(length)
+        .putShort((short) repo.length)
+        .put(repo)
+        .put(serialized)
+        .array();
+  }
+
+  /** The current value of a reference slot, used as the expected value for updates. */
+  static final class SlotValue {
+    final int slot;
+    final long state;
+    final Reference reference;
+
+    SlotValue(int slot, long state, Reference reference) {
+      this.slot = slot;
+      this.state = state;
+      this.reference = reference;
+    }
+  }
+
+  Reference get(String repositoryId, String name) {
+    SlotValue value = current(repositoryId, name);
+    return value != null ? value.reference : null;
+  }
+
+  SlotValue current(String repositoryId, String name) {
+    Map<String, Integer> repo = slots.get(repositoryId);
+    Integer slot = repo != null ? repo.get(name) : null;
+    if (slot == null) {
+      return null;
+    }
+
+    ByteBuffer chunk = chunk(slot);
+    int base = base(slot);
+    while (true) {
+      long state = state(chunk, base);
+      byte[] payload = readHalf(chunk, halfBase(slot, state));
+      if ((state(chunk, base) & ~WRITING) != (state & ~WRITING)) {
+        // Concurrently updated, retry.
+        continue;
+      }
+      if (payload == null || payload.length == 0) {
+        return null;
+      }
+
+      // The slot may have been purged and re-used for another reference concurrently.
+      ByteBuffer b = ByteBuffer.wrap(payload);
+      if (!repositoryId.equals(repositoryId(b))) {
+        return null;
+      }
+      Reference reference = deserializeReference(remaining(b));
+      return reference.name().equals(name) ? new SlotValue(slot, state, reference) : null;
+    }
+  }
+
+  /** Adds a new reference, returns the existing reference, if it already exists. */
+  Reference add(String repositoryId, Reference reference) {
+    SlotValue existing = current(repositoryId, reference.name());
+    if (existing != null) {
+      return existing.reference;
+    }
+
+    byte[] payload = payload(repositoryId, reference);
+    int slot = allocate();
+    if (!write(slot, state(chunk(slot), base(slot)), payload)) {
+      release(slot);
+      throw new IllegalStateException("Reference slot " + slot + " concurrently modified");
+    }
+    slots.computeIfAbsent(repositoryId, r -> new ConcurrentHashMap<>()).put(reference.name(), slot);
+    return null;
+  }
+
+  /** Atomically replaces the reference in a slot, if the slot's state is still the expected one. */
+  boolean update(String repositoryId, SlotValue expected, Reference reference) {
+    return write(expected.slot, expected.state, payload(repositoryId, reference));
+  }
+
+  /** Atomically frees a slot, if the slot's state is still the expected one. */
+  boolean remove(String repositoryId, SlotValue expected) {
+    if (!write(expected.slot, expected.state, FREE)) {
+      return false;
+    }
+    Map<String, Integer> repo = slots.get(repositoryId);
+    if (repo != null) {
+      repo.remove(expected.reference.name(), expected.slot);
+    }
+    release(expected.slot);
+    return true;
+  }
+
+  void eraseRepositories(Set<String> repositoryIds) {
+    for (String repositoryId : repositoryIds) {
+      Map<String, Integer> repo = slots.get(repositoryId);
+      if (repo == null) {
+        continue;
+      }
+      for (String name : repo.keySet()) {
+        SlotValue value = current(repositoryId, name);
+        if (value != null) {
+          remove(repositoryId, value);
+        }
+      }
+      slots.remove(repositoryId);
+    }
+  }
+
+  private boolean write(int slot, long expectedState, byte[] payload) {
+    ByteBuffer chunk = chunk(slot);
+    int base = base(slot);
+    if ((expectedState & WRITING) != 0L
+        || !STATE.compareAndSet(chunk, base, expectedState, expectedState | WRITING)) {
+      return false;
+    }
+
+    long target = (expectedState & ACTIVE_HALF) ^ ACTIVE_HALF;
+    int halfBase = base + STATE_SIZE + (int) target * halfSize;
+    chunk.putInt(halfBase, payload.length);
+    chunk.putInt(halfBase + 4, crc(payload));
+    ByteBuffer b = chunk.duplicate();
+    b.position(halfBase + HALF_HEADER_SIZE);
+    b.put(payload);
+    if (syncWrites) {
+      ((MappedByteBuffer) chunk).force();
+    }
+
+    STATE.setVolatile(chunk, base, nextState(expectedState, target));
+    if (syncWrites) {
+      ((MappedByteBuffer) chunk).force();
+    }
+    return true;
+  }
+
+  private int allocate() {
+    allocationLock.lock();
+    try {
+      if (freeSlots.isEmpty()) {
+        addChunk();
+      }
+      return freeSlots.removeFirst();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      allocationLock.unlock();
+    }
+  }
+
+  private void release(int slot) {
+    allocationLock.lock();
+    try {
+      freeSlots.addFirst(slot);
+    } finally {
+      allocationLock.unlock();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      for (MappedByteBuffer chunk : chunks) {
+        chunk.force();
+      }
+    } finally {
+      channel.close();
+    }
+  }
+}
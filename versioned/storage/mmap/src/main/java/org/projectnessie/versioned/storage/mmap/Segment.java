@@ -0,0 +1,284 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.mmap;
+
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * A memory-mapped, append-only segment file of the {@link ObjectLog}.
+ *
+ * <p>A segment starts with a {@link #HEADER_SIZE} bytes header, followed by records. A record
+ * consists of:
+ *
+ * <ul>
+ *   <li>{@code int} total length of the record, written last,
+ *   <li>{@code int} CRC32 over the following record bytes,
+ *   <li>{@code byte} record type,
+ *   <li>{@code short} length + UTF-8 bytes of the repository ID,
+ *   <li>{@code short} length + bytes of the object ID,
+ *   <li>the payload, the serialized object, or nothing for a delete-record.
+ * </ul>
+ *
+ * <p>A record with a zero length marks the end of the written data, a record with an invalid length
+ * or checksum is the torn tail of a crashed write and is overwritten by the next append.
+ */
+final class Segment {
+  static final int HEADER_SIZE = 16;
+
+  private static final int MAGIC = 0x4e534547;
+  private static final int FORMAT_VERSION = 1;
+
+  private static final int OFFSET_CRC = 4;
+  private static final int OFFSET_TYPE = 8;
+  private static final int OFFSET_REPO = 9;
+  static final int RECORD_OVERHEAD = 13;
+
+  private final int number;
+  private final Path file;
+  private final FileChannel channel;
+  private final MappedByteBuffer buffer;
+  private final int capacity;
+  private final AtomicLong garbage = new AtomicLong();
+
+  /** Guarded by the append-lock of the {@link ObjectLog}, volatile for concurrent scans. */
+  private volatile int writePosition;
+
+  private Segment(int number, Path file, FileChannel channel, MappedByteBuffer buffer) {
+    this.number = number;
+    this.file = file;
+    this.channel = channel;
+    this.buffer = buffer;
+    this.capacity = buffer.capacity();
+    this.writePosition = HEADER_SIZE;
+  }
+
+  static Segment create(Path file, int number, int capacity) throws IOException {
+    FileChannel channel = FileChannel.open(file, CREATE_NEW, READ, WRITE);
+    try {
+      MappedByteBuffer buffer = channel.map(READ_WRITE, 0, capacity);
+      buffer.putInt(0, MAGIC);
+      buffer.putInt(4, FORMAT_VERSION);
+      return new Segment(number, file, channel, buffer);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  static Segment open(Path file, int number) throws IOException {
+    FileChannel channel = FileChannel.open(file, READ, WRITE);
+    try {
+      long size = channel.size();
+      if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+        throw new IllegalStateException("Invalid size of segment file " + file);
+      }
+      MappedByteBuffer buffer = channel.map(READ_WRITE, 0, size);
+      if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+        throw new IllegalStateException("Unsupported segment file " + file);
+      }
+      return new Segment(number, file, channel, buffer);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  static int recordLength(int repoLength, int idLength, int payloadLength) {
+    return Math.addExact(RECORD_OVERHEAD + repoLength + idLength, payloadLength);
+  }
+
+  int number() {
+    return number;
+  }
+
+  int writePosition() {
+    return writePosition;
+  }
+
+  /**
+   * Scans the records of an existing segment, stops at the first invalid record and continues
+   * appending at that position.
+   */
+  void recover(IntConsumer records) {
+    int offset = HEADER_SIZE;
+    while (true) {
+      int length = validRecordLength(offset);
+      if (length < 0) {
+        break;
+      }
+      records.accept(offset);
+      offset += length;
+    }
+    writePosition = offset;
+  }
+
+  /** Invokes {@code records} with the offsets of all records written so far. */
+  void forEachRecord(IntConsumer records) {
+    int end = writePosition;
+    for (int offset = HEADER_SIZE; offset < end; offset += recordLength(offset)) {
+      records.accept(offset);
+    }
+  }
+
+  /**
+   * Appends a record with the remaining bytes of {@code payload}, returns its offset or {@code -1}
+   * if the segment does not have enough space left. The position of {@code payload} is not changed.
+   */
+  int append(byte type, byte[] repo, byte[] id, ByteBuffer payload) {
+    int length = recordLength(repo.length, id.length, payload.remaining());
+    int offset = writePosition;
+    if (length > capacity - offset) {
+      return -1;
+    }
+
+    ByteBuffer b = buffer.duplicate();
+    b.position(offset + OFFSET_TYPE);
+    b.put(type);
+    b.putShort((short) repo.length).put(repo);
+    b.putShort((short) id.length).put(id);
+    b.put(payload.duplicate());
+
+    buffer.putInt(offset + OFFSET_CRC, crc(offset, length));
+    buffer.putInt(offset, length);
+    writePosition = offset + length;
+    return offset;
+  }
+
+  private int validRecordLength(int offset) {
+    if (offset > capacity - RECORD_OVERHEAD) {
+      return -1;
+    }
+    int length = buffer.getInt(offset);
+    if (length < RECORD_OVERHEAD || length > capacity - offset) {
+      return -1;
+    }
+    int repoLength = repoLength(offset);
+    if (RECORD_OVERHEAD + repoLength > length
+        || RECORD_OVERHEAD + repoLength + idLength(offset, repoLength) > length) {
+      return -1;
+    }
+    return buffer.getInt(offset + OFFSET_CRC) == crc(offset, length) ? length : -1;
+  }
+
+  private int crc(int offset, int length) {
+    ByteBuffer b = buffer.duplicate();
+    b.position(offset + OFFSET_TYPE).limit(offset + length);
+    CRC32 crc = new CRC32();
+    crc.update(b);
+    return (int) crc.getValue();
+  }
+
+  int recordLength(int offset) {
+    return buffer.getInt(offset);
+  }
+
+  byte recordType(int offset) {
+    return buffer.get(offset + OFFSET_TYPE);
+  }
+
+  private int repoLength(int offset) {
+    return buffer.getShort(offset + OFFSET_REPO) & 0xffff;
+  }
+
+  private int idLength(int offset, int repoLength) {
+    return buffer.getShort(offset + OFFSET_REPO + 2 + repoLength) & 0xffff;
+  }
+
+  byte[] repo(int offset) {
+    return bytes(offset + OFFSET_REPO + 2, repoLength(offset));
+  }
+
+  byte[] id(int offset) {
+    int repoLength = repoLength(offset);
+    return bytes(offset + OFFSET_REPO + 4 + repoLength, idLength(offset, repoLength));
+  }
+
+  byte[] payload(int offset) {
+    int repoLength = repoLength(offset);
+    int start = OFFSET_REPO + 4 + repoLength + idLength(offset, repoLength);
+    return bytes(offset + start, recordLength(offset) - start);
+  }
+
+  boolean repoEquals(int offset, byte[] repo) {
+    return repoLength(offset) == repo.length && bytesEqual(offset + OFFSET_REPO + 2, repo);
+  }
+
+  boolean keyEquals(int offset, byte[] repo, byte[] id) {
+    int repoLength = repoLength(offset);
+    if (repoLength != repo.length || idLength(offset, repoLength) != id.length) {
+      return false;
+    }
+    return bytesEqual(offset + OFFSET_REPO + 2, repo)
+        && bytesEqual(offset + OFFSET_REPO + 4 + repoLength, id);
+  }
+
+  private boolean bytesEqual(int position, byte[] expected) {
+    for (int i = 0; i < expected.length; i++) {
+      if (buffer.get(position + i) != expected[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private byte[] bytes(int position, int length) {
+    byte[] bytes = new byte[length];
+    ByteBuffer b = buffer.duplicate();
+    b.position(position);
+    b.get(bytes);
+    return bytes;
+  }
+
+  void addGarbage(int bytes) {
+    garbage.addAndGet(bytes);
+  }
+
+  /** Ratio of the written bytes that belong to superseded or deleted records. */
+  double garbageRatio() {
+    int written = writePosition - HEADER_SIZE;
+    return written > 0 ? (double) garbage.get() / written : 0d;
+  }
+
+  void force() {
+    buffer.force();
+  }
+
+  /**
+   * Closes the file channel, the mapping stays valid until it is garbage collected, so concurrent
+   * readers that still hold a location within this segment can finish.
+   */
+  void close() throws IOException {
+    channel.close();
+  }
+
+  void delete() throws IOException {
+    close();
+    Files.deleteIfExists(file);
+  }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.mmap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+import static org.projectnessie.versioned.storage.common.persist.Reference.reference;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.common.persist.Reference;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestMmapRecovery {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @TempDir protected Path databaseDir;
+
+  private MmapBackend newBackend() {
+    MmapBackend backend =
+        new MmapBackend(
+            MmapBackendConfig.builder()
+                .databasePath(databaseDir)
+                .segmentSize(64 * 1024)
+                .referenceSlotsPerChunk(4)
+                .compactionInterval(Duration.ZERO)
+                .build());
+    backend.setupSchema();
+    return backend;
+  }
+
+  private static Persist persist(MmapBackend backend) {
+    return backend.createFactory().newPersist(StoreConfig.Adjustable.empty());
+  }
+
+  private static List<Obj> contentValues(int num, String data) {
+    List<Obj> objs = new ArrayList<>(num);
+    for (int i = 0; i < num; i++) {
+      objs.add(contentValue("cid-" + i, 0, ByteString.copyFromUtf8(data + i)));
+    }
+    return objs;
+  }
+
+  private long segmentFiles() throws Exception {
+    try (Stream<Path> files = Files.list(databaseDir)) {
+      return files.filter(f -> f.getFileName().toString().endsWith(".seg")).count();
+    }
+  }
+
+  @Test
+  public void reopen() throws Exception {
+    List<Obj> objs = contentValues(1000, "some content value ");
+    List<Obj> deleted = objs.subList(0, 100);
+    List<Obj> live = objs.subList(100, objs.size());
+    ObjId pointer = randomObjId();
+
+    try (MmapBackend backend = newBackend()) {
+      Persist persist = persist(backend);
+      persist.storeObjs(objs.toArray(new Obj[0]));
+      deleted.forEach(o -> persist.deleteObj(o.id()));
+
+      for (int i = 0; i < 10; i++) {
+        persist.addReference(reference("refs/heads/branch-" + i, randomObjId(), false, 42L, null));
+      }
+      Reference ref = persist.fetchReference("refs/heads/branch-3");
+      persist.updateReferencePointer(ref, pointer);
+      Reference purged = persist.fetchReference("refs/heads/branch-5");
+      persist.purgeReference(persist.markReferenceAsDeleted(purged));
+
+      // other repositories are not visible
+      Persist other =
+          backend
+              .createFactory()
+              .newPersist(StoreConfig.Adjustable.empty().withRepositoryId("other"));
+      soft.assertThat(other.fetchReference("refs/heads/branch-3")).isNull();
+      soft.assertThat(other.fetchObjsIfExist(ids(live.subList(0, 1)))).containsOnlyNulls();
+    }
+
+    soft.assertThat(segmentFiles()).isGreaterThan(1L);
+
+    try (MmapBackend backend = newBackend()) {
+      Persist persist = persist(backend);
+      for (Obj obj : live) {
+        soft.assertThat(persist.fetchObj(obj.id()))
+            .extracting(Obj::id, Obj::type)
+            .containsExactly(obj.id(), obj.type());
+      }
+      soft.assertThat(persist.fetchObjsIfExist(ids(deleted))).containsOnlyNulls();
+
+      soft.assertThat(persist.fetchReference("refs/heads/branch-3"))
+          .extracting(Reference::pointer)
+          .isEqualTo(pointer);
+      soft.assertThat(persist.fetchReference("refs/heads/branch-5")).isNull();
+      soft.assertThat(persist.fetchReference("refs/heads/branch-9")).isNotNull();
+
+      try (CloseableIterator<Obj> scan = persist.scanAllObjects(Set.of())) {
+        List<ObjId> scanned = new ArrayList<>();
+        scan.forEachRemaining(o -> scanned.add(o.id()));
+        soft.assertThat(scanned).containsExactlyInAnyOrderElementsOf(List.of(ids(live)));
+      }
+    }
+  }
+
+  @Test
+  public void compaction() throws Exception {
+    List<Obj> objs = contentValues(200, "some content value ");
+
+    try (MmapBackend backend = newBackend()) {
+      Persist persist = persist(backend);
+      for (int i = 0; i < 10; i++) {
+        persist.upsertObjs(objs.toArray(new Obj[0]));
+      }
+      objs.subList(0, 50).forEach(o -> persist.deleteObj(o.id()));
+      persist.upsertObjs(
+          contentValues(50, "padding to seal the active segment ").toArray(new Obj[0]));
+
+      long before = segmentFiles();
+      soft.assertThat(backend.compact()).isGreaterThan(0);
+      soft.assertThat(segmentFiles()).isLessThan(before);
+
+      verifyCompacted(persist, objs);
+    }
+
+    try (MmapBackend backend = newBackend()) {
+      verifyCompacted(persist(backend), objs);
+    }
+  }
+
+  private void verifyCompacted(Persist persist, List<Obj> objs) {
+    soft.assertThat(persist.fetchObjsIfExist(ids(objs.subList(0, 50)))).containsOnlyNulls();
+    soft.assertThat(persist.fetchObjsIfExist(ids(objs.subList(50, objs.size()))))
+        .doesNotContainNull()
+        .extracting(Obj::id)
+        .containsExactly(ids(objs.subList(50, objs.size())));
+  }
+
+  @Test
+  public void tornRecord() throws Exception {
+    Path file = databaseDir.resolve("segment");
+    byte[] repo = "repo".getBytes(UTF_8);
+    List<byte[]> ids =
+        Stream.generate(() -> randomObjId().asByteArray()).limit(3).collect(Collectors.toList());
+
+    Segment segment = Segment.create(file, 0, 4096);
+    for (byte[] id : ids) {
+      segment.append(ObjectLog.RECORD_OBJ, repo, id, ByteBuffer.wrap("payload".getBytes(UTF_8)));
+    }
+    int writePosition = segment.writePosition();
+    segment.force();
+    segment.close();
+
+    // simulate a record, of which only the length has been written to disk
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.allocate(4).putInt(0, 100), writePosition);
+    }
+
+    Segment recovered = Segment.open(file, 0);
+    List<byte[]> recoveredIds = new ArrayList<>();
+    recovered.recover(offset -> recoveredIds.add(recovered.id(offset)));
+    soft.assertThat(recoveredIds).containsExactlyElementsOf(ids);
+    soft.assertThat(recovered.writePosition()).isEqualTo(writePosition);
+
+    // the torn record is overwritten by the next append
+    soft.assertThat(
+            recovered.append(ObjectLog.RECORD_OBJ, repo, ids.get(0), ByteBuffer.allocate(0)))
+        .isEqualTo(writePosition);
+    recovered.close();
+  }
+
+  private static ObjId[] ids(List<Obj> objs) {
+    return objs.stream().map(Obj::id).toArray(ObjId[]::new);
+  }
+}
@@ -32,6 +32,7 @@ dependencies {
   annotationProcessor(nessieProject("nessie-immutables-std", configuration = "processor"))
 
   implementation(libs.mongodb.driver.sync)
+  implementation(libs.mongodb.driver.reactivestreams)
 
   implementation(platform(libs.testcontainers.bom))
   implementation("org.testcontainers:mongodb")
@@ -32,4 +32,8 @@ public abstract class MongoClientProducer {
   public MongoClient createClient() {
     return MongoClients.create(connectionString());
   }
+
+  public com.mongodb.reactivestreams.client.MongoClient createAsyncClient() {
+    return com.mongodb.reactivestreams.client.MongoClients.create(connectionString());
+  }
 }
@@ -93,7 +93,11 @@ public class MongoDB2BackendTestFactory implements BackendTestFactory {
     MongoClient client = buildNewClient();
 
     MongoDB2BackendConfig config =
-        MongoDB2BackendConfig.builder().databaseName(MONGO_DB_NAME).client(client).build();
+        MongoDB2BackendConfig.builder()
+            .databaseName(MONGO_DB_NAME)
+            .client(client)
+            .asyncClient(buildNewAsyncClient())
+            .build();
 
     return new MongoDB2Backend(config, true);
   }
@@ -102,6 +106,13 @@ public class MongoDB2BackendTestFactory implements BackendTestFactory {
     return MongoClientProducer.builder().connectionString(connectionString).build().createClient();
   }
 
+  public com.mongodb.reactivestreams.client.MongoClient buildNewAsyncClient() {
+    return MongoClientProducer.builder()
+        .connectionString(connectionString)
+        .build()
+        .createAsyncClient();
+  }
+
   public String getDatabaseName() {
     return MONGO_DB_NAME;
   }
@@ -36,6 +36,7 @@ dependencies {
   implementation(libs.slf4j.api)
 
   implementation(libs.mongodb.driver.sync)
+  implementation(libs.mongodb.driver.reactivestreams)
 
   compileOnly(nessieProject("nessie-immutables-std"))
   annotationProcessor(nessieProject("nessie-immutables-std", configuration = "processor"))
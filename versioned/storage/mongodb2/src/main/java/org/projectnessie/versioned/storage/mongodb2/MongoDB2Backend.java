@@ -24,6 +24,7 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -37,13 +38,17 @@ public class MongoDB2Backend implements Backend {
 
   private final MongoDB2BackendConfig config;
   private final MongoClient client;
+  private final com.mongodb.reactivestreams.client.MongoClient asyncClient;
   private final boolean closeClient;
   private MongoCollection<Document> refs;
   private MongoCollection<Document> objs;
+  private com.mongodb.reactivestreams.client.MongoCollection<Document> asyncRefs;
+  private com.mongodb.reactivestreams.client.MongoCollection<Document> asyncObjs;
 
   public MongoDB2Backend(@Nonnull MongoDB2BackendConfig config, boolean closeClient) {
     this.config = config;
     this.client = config.client();
+    this.asyncClient = config.asyncClient().orElse(null);
     this.closeClient = closeClient;
   }
 
@@ -57,6 +62,18 @@ public class MongoDB2Backend implements Backend {
     return objs;
   }
 
+  /** The references collection for the asynchronous functions, {@code null} if not configured. */
+  @Nullable
+  com.mongodb.reactivestreams.client.MongoCollection<Document> asyncRefs() {
+    return asyncRefs;
+  }
+
+  /** The objects collection for the asynchronous functions, {@code null} if not configured. */
+  @Nullable
+  com.mongodb.reactivestreams.client.MongoCollection<Document> asyncObjs() {
+    return asyncObjs;
+  }
+
   private synchronized void initialize() {
     if (refs == null) {
       String databaseName = config.databaseName();
@@ -65,6 +82,13 @@ public class MongoDB2Backend implements Backend {
 
       refs = database.getCollection(TABLE_REFS);
       objs = database.getCollection(TABLE_OBJS);
+
+      if (asyncClient != null) {
+        com.mongodb.reactivestreams.client.MongoDatabase asyncDatabase =
+            asyncClient.getDatabase(databaseName);
+        asyncRefs = asyncDatabase.getCollection(TABLE_REFS);
+        asyncObjs = asyncDatabase.getCollection(TABLE_OBJS);
+      }
     }
   }
 
@@ -79,6 +103,9 @@ public class MongoDB2Backend implements Backend {
   public synchronized void close() {
     if (closeClient) {
       client.close();
+      if (asyncClient != null) {
+        asyncClient.close();
+      }
     }
   }
 
@@ -16,6 +16,7 @@
 package org.projectnessie.versioned.storage.mongodb2;
 
 import com.mongodb.client.MongoClient;
+import java.util.Optional;
 import org.immutables.value.Value;
 
 @Value.Immutable
@@ -23,6 +24,12 @@ public interface MongoDB2BackendConfig extends MongoDB2BackendBaseConfig {
 
   MongoClient client();
 
+  /**
+   * Client used by the asynchronous {@code Persist} functions. If absent, those functions use the
+   * blocking {@link #client()}.
+   */
+  Optional<com.mongodb.reactivestreams.client.MongoClient> asyncClient();
+
   static ImmutableMongoDB2BackendConfig.Builder builder() {
     return ImmutableMongoDB2BackendConfig.builder();
   }
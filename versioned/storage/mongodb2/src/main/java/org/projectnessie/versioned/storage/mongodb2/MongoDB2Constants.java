@@ -38,5 +38,8 @@ final class MongoDB2Constants {
 
   static final String ID_REPO_PATH = ID_PROPERTY_NAME + "." + COL_REPO;
 
+  /** Maximum number of object IDs in a single {@code $in} query when fetching objects. */
+  static final int FETCH_BATCH_SIZE = 100;
+
   private MongoDB2Constants() {}
 }
@@ -40,10 +40,13 @@ import static org.projectnessie.versioned.storage.mongodb2.MongoDB2Constants.COL
 import static org.projectnessie.versioned.storage.mongodb2.MongoDB2Constants.COL_REFERENCES_POINTER;
 import static org.projectnessie.versioned.storage.mongodb2.MongoDB2Constants.COL_REFERENCES_PREVIOUS;
 import static org.projectnessie.versioned.storage.mongodb2.MongoDB2Constants.COL_REPO;
+import static org.projectnessie.versioned.storage.mongodb2.MongoDB2Constants.FETCH_BATCH_SIZE;
 import static org.projectnessie.versioned.storage.mongodb2.MongoDB2Constants.ID_PROPERTY_NAME;
 import static org.projectnessie.versioned.storage.mongodb2.MongoDB2Constants.ID_REPO_PATH;
 import static org.projectnessie.versioned.storage.mongodb2.MongoDB2Serde.binaryToObjId;
 import static org.projectnessie.versioned.storage.mongodb2.MongoDB2Serde.objIdToBinary;
+import static org.projectnessie.versioned.storage.mongodb2.PublisherFutures.collect;
+import static org.projectnessie.versioned.storage.mongodb2.PublisherFutures.first;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObj;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializePreviousPointers;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeObj;
@@ -65,6 +68,7 @@ import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.bulk.BulkWriteUpsert;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.ReplaceOneModel;
@@ -81,6 +85,10 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import org.agrona.collections.Hashing;
 import org.agrona.collections.Object2IntHashMap;
@@ -292,10 +300,22 @@ public class MongoDB2Persist implements Persist {
     }
 
     Document doc = result.first();
-    if (doc == null) {
-      return null;
+    return doc != null ? docToReference(name, doc) : null;
+  }
+
+  @Nonnull
+  @Override
+  public CompletionStage<Reference> fetchReferenceAsync(@Nonnull String name) {
+    com.mongodb.reactivestreams.client.MongoCollection<Document> asyncRefs = backend.asyncRefs();
+    if (asyncRefs == null) {
+      return Persist.super.fetchReferenceAsync(name);
     }
+    return mapAsyncException(
+        first(asyncRefs.find(eq(ID_PROPERTY_NAME, idRefDoc(name))).first())
+            .thenApply(doc -> doc != null ? docToReference(name, doc) : null));
+  }
 
+  private static Reference docToReference(String name, Document doc) {
     Binary prev = doc.get(COL_REFERENCES_PREVIOUS, Binary.class);
     List<Reference.PreviousPointer> previous =
         prev != null ? deserializePreviousPointers(prev.getData()) : emptyList();
@@ -328,17 +348,7 @@ public class MongoDB2Persist implements Persist {
 
     for (Document doc : result) {
       String name = doc.get(ID_PROPERTY_NAME, Document.class).getString(COL_REFERENCES_NAME);
-      Binary prev = doc.get(COL_REFERENCES_PREVIOUS, Binary.class);
-      List<Reference.PreviousPointer> previous =
-          prev != null ? deserializePreviousPointers(prev.getData()) : emptyList();
-      Reference reference =
-          reference(
-              name,
-              binaryToObjId(doc.get(COL_REFERENCES_POINTER, Binary.class)),
-              doc.getBoolean(COL_REFERENCES_DELETED),
-              refCreatedAt(doc),
-              binaryToObjId(doc.get(COL_REFERENCES_EXTENDED_INFO, Binary.class)),
-              previous);
+      Reference reference = docToReference(name, doc);
       for (int i = 0; i < names.length; i++) {
         if (name.equals(names[i])) {
           r[i] = reference;
@@ -395,7 +405,7 @@ public class MongoDB2Persist implements Persist {
   @Override
   public <T extends Obj> T[] fetchTypedObjsIfExist(
       @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
-    List<Document> list = new ArrayList<>(ids.length);
+    List<Document> list = new ArrayList<>(Math.min(ids.length, FETCH_BATCH_SIZE));
     Object2IntHashMap<ObjId> idToIndex =
         new Object2IntHashMap<>(ids.length * 2, Hashing.DEFAULT_LOAD_FACTOR, -1);
     @SuppressWarnings("unchecked")
@@ -405,6 +415,10 @@ public class MongoDB2Persist implements Persist {
       if (id != null) {
         list.add(idObjDoc(id));
         idToIndex.put(id, i);
+        if (list.size() == FETCH_BATCH_SIZE) {
+          fetchObjsPage(r, list, idToIndex, type, typeClass);
+          list.clear();
+        }
       }
     }
 
@@ -427,7 +441,16 @@ public class MongoDB2Persist implements Persist {
     } catch (RuntimeException e) {
       throw unhandledException(e);
     }
-    for (Document doc : result) {
+    objsPageDocs(r, result, idToIndex, type, typeClass);
+  }
+
+  private <T extends Obj> void objsPageDocs(
+      Obj[] r,
+      Iterable<Document> docs,
+      Object2IntHashMap<ObjId> idToIndex,
+      ObjType type,
+      Class<T> typeClass) {
+    for (Document doc : docs) {
       T obj = docToObj(doc, type, typeClass);
       if (obj != null) {
         int idx = idToIndex.getValue(obj.id());
@@ -438,6 +461,52 @@ public class MongoDB2Persist implements Persist {
     }
   }
 
+  @Nonnull
+  @Override
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    com.mongodb.reactivestreams.client.MongoCollection<Document> asyncObjs = backend.asyncObjs();
+    if (asyncObjs == null) {
+      return Persist.super.fetchTypedObjsAsync(ids, type, typeClass);
+    }
+
+    List<Document> list = new ArrayList<>(Math.min(ids.length, FETCH_BATCH_SIZE));
+    Object2IntHashMap<ObjId> idToIndex =
+        new Object2IntHashMap<>(ids.length * 2, Hashing.DEFAULT_LOAD_FACTOR, -1);
+    @SuppressWarnings("unchecked")
+    T[] r = (T[]) Array.newInstance(typeClass, ids.length);
+    List<CompletableFuture<List<Document>>> pages = new ArrayList<>();
+    for (int i = 0; i < ids.length; i++) {
+      ObjId id = ids[i];
+      if (id != null) {
+        list.add(idObjDoc(id));
+        idToIndex.put(id, i);
+        if (list.size() == FETCH_BATCH_SIZE) {
+          pages.add(collect(asyncObjs.find(in(ID_PROPERTY_NAME, list))));
+          list = new ArrayList<>(FETCH_BATCH_SIZE);
+        }
+      }
+    }
+    if (!list.isEmpty()) {
+      pages.add(collect(asyncObjs.find(in(ID_PROPERTY_NAME, list))));
+    }
+
+    if (pages.isEmpty()) {
+      return CompletableFuture.completedFuture(r);
+    }
+
+    // The pages are queried concurrently, the results are applied once all pages completed.
+    return mapAsyncException(
+        CompletableFuture.allOf(pages.toArray(new CompletableFuture<?>[0]))
+            .thenApply(
+                x -> {
+                  for (CompletableFuture<List<Document>> page : pages) {
+                    objsPageDocs(r, page.join(), idToIndex, type, typeClass);
+                  }
+                  return r;
+                }));
+  }
+
   @Override
   public boolean storeObj(@Nonnull Obj obj, boolean ignoreSoftSizeRestrictions)
       throws ObjTooLargeException {
@@ -489,13 +558,7 @@ public class MongoDB2Persist implements Persist {
   private void storeObjsUpdateReferenced(Obj[] objs, List<ObjId> updateReferenced) {
     long referenced = config.currentTimeMicros();
     List<UpdateOneModel<Document>> docs =
-        updateReferenced.stream()
-            .map(
-                id ->
-                    new UpdateOneModel<Document>(
-                        eq(ID_PROPERTY_NAME, idObjDoc(id)),
-                        Updates.set(COL_OBJ_REFERENCED, referenced)))
-            .collect(toList());
+        updateReferenced.stream().map(id -> updateReferenced(id, referenced)).collect(toList());
     List<WriteModel<Document>> updates = new ArrayList<>(docs);
     while (!updates.isEmpty()) {
       try {
@@ -523,6 +586,79 @@ public class MongoDB2Persist implements Persist {
     }
   }
 
+  private UpdateOneModel<Document> updateReferenced(ObjId id, long referenced) {
+    return new UpdateOneModel<>(
+        eq(ID_PROPERTY_NAME, idObjDoc(id)), Updates.set(COL_OBJ_REFERENCED, referenced));
+  }
+
+  @Nonnull
+  @Override
+  public CompletionStage<boolean[]> storeObjsAsync(@Nonnull Obj[] objs) {
+    com.mongodb.reactivestreams.client.MongoCollection<Document> asyncObjs = backend.asyncObjs();
+    if (asyncObjs == null) {
+      return Persist.super.storeObjsAsync(objs);
+    }
+
+    long referenced = config.currentTimeMicros();
+    boolean[] r = new boolean[objs.length];
+    List<WriteModel<Document>> inserts = new ArrayList<>(objs.length);
+    int[] objIndex = new int[objs.length];
+    try {
+      for (int i = 0; i < objs.length; i++) {
+        Obj obj = objs[i];
+        if (obj != null) {
+          objIndex[inserts.size()] = i;
+          inserts.add(new InsertOneModel<>(objToDoc(obj, referenced, false)));
+        }
+      }
+    } catch (ObjTooLargeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    if (inserts.isEmpty()) {
+      return CompletableFuture.completedFuture(r);
+    }
+
+    // Unordered, so already existing objects do not prevent the inserts of the other objects.
+    BulkWriteOptions unordered = new BulkWriteOptions().ordered(false);
+    return mapAsyncException(
+        first(asyncObjs.bulkWrite(inserts, unordered))
+            .handle(
+                (res, e) -> {
+                  boolean[] existing = new boolean[inserts.size()];
+                  if (e != null) {
+                    Throwable cause = unwrapCompletionException(e);
+                    if (!(cause instanceof MongoBulkWriteException)
+                        || ((MongoBulkWriteException) cause).getWriteConcernError() != null) {
+                      return CompletableFuture.<boolean[]>failedFuture(cause);
+                    }
+                    MongoBulkWriteException bulkWriteException = (MongoBulkWriteException) cause;
+                    for (BulkWriteError err : bulkWriteException.getWriteErrors()) {
+                      if (err.getCategory() != DUPLICATE_KEY) {
+                        return CompletableFuture.<boolean[]>failedFuture(
+                            handleMongoWriteError(bulkWriteException, err));
+                      }
+                      existing[err.getIndex()] = true;
+                    }
+                  }
+
+                  List<WriteModel<Document>> updates = new ArrayList<>();
+                  for (int k = 0; k < existing.length; k++) {
+                    int i = objIndex[k];
+                    if (existing[k]) {
+                      updates.add(updateReferenced(objs[i].id(), referenced));
+                    } else {
+                      r[i] = true;
+                    }
+                  }
+                  if (updates.isEmpty()) {
+                    return CompletableFuture.completedFuture(r);
+                  }
+                  return first(asyncObjs.bulkWrite(updates, unordered)).thenApply(x -> r);
+                })
+            .thenCompose(Function.identity()));
+  }
+
   private void storeObjsWrite(Obj[] objs, boolean[] r) throws ObjTooLargeException {
     List<WriteModel<Document>> docs = new ArrayList<>(objs.length);
     long referenced = config.currentTimeMicros();
@@ -752,6 +888,11 @@ public class MongoDB2Persist implements Persist {
     backend.eraseRepositories(singleton(config.repositoryId()));
   }
 
+  @Override
+  public boolean isAsyncNonBlocking() {
+    return backend.asyncObjs() != null;
+  }
+
   private <T extends Obj> T docToObj(Document doc, ObjType type, Class<T> typeClass) {
     ObjId id = objIdFromDoc(doc);
     return docToObj(id, doc, type, typeClass);
@@ -841,6 +982,27 @@ public class MongoDB2Persist implements Persist {
     }
   }
 
+  private static Throwable unwrapCompletionException(Throwable e) {
+    return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+  }
+
+  private static <R> CompletionStage<R> mapAsyncException(CompletionStage<R> stage) {
+    CompletableFuture<R> result = new CompletableFuture<>();
+    stage.whenComplete(
+        (value, e) -> {
+          if (e == null) {
+            result.complete(value);
+            return;
+          }
+          Throwable cause = unwrapCompletionException(e);
+          result.completeExceptionally(
+              cause instanceof RuntimeException
+                  ? unhandledException((RuntimeException) cause)
+                  : cause);
+        });
+    return result;
+  }
+
   static RuntimeException unhandledException(RuntimeException e) {
     if (e instanceof MongoInterruptedException
         || e instanceof MongoTimeoutException
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.mongodb2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/** Bridges the publishers of the MongoDB reactive-streams driver to {@link CompletableFuture}s. */
+final class PublisherFutures {
+  private PublisherFutures() {}
+
+  /** Collects all elements emitted by the given publisher. */
+  static <T> CompletableFuture<List<T>> collect(Publisher<T> publisher) {
+    CompletableFuture<List<T>> future = new CompletableFuture<>();
+    publisher.subscribe(
+        new Subscriber<T>() {
+          // Reactive-streams signals are serialized, no need to synchronize.
+          private final List<T> elements = new ArrayList<>();
+
+          @Override
+          public void onSubscribe(Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+          }
+
+          @Override
+          public void onNext(T element) {
+            elements.add(element);
+          }
+
+          @Override
+          public void onError(Throwable failure) {
+            future.completeExceptionally(failure);
+          }
+
+          @Override
+          public void onComplete() {
+            future.complete(elements);
+          }
+        });
+    return future;
+  }
+
+  /** Returns the first element emitted by the given publisher, or {@code null}. */
+  static <T> CompletableFuture<T> first(Publisher<T> publisher) {
+    return collect(publisher).thenApply(elements -> elements.isEmpty() ? null : elements.get(0));
+  }
+}
@@ -22,12 +22,14 @@ import static org.projectnessie.versioned.storage.rocksdb.RocksDBBackend.rocksDb
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObj;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObjId;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeReference;
-import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeObj;
+import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.releasePooledBuffer;
+import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeObjPooled;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeReference;
 
 import com.google.common.collect.AbstractIterator;
 import jakarta.annotation.Nonnull;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -359,9 +361,7 @@ class RocksDBPersist implements Persist {
           ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIncrementalIndexSizeLimit();
       int indexSizeLimit =
           ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIndexSegmentSizeLimit();
-      byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, true);
-
-      db.put(cf, key, serialized);
+      putObj(db, cf, key, obj, incrementalIndexSizeLimit, indexSizeLimit);
       return r;
     } catch (RocksDBException e) {
       throw rocksDbException(e);
@@ -424,11 +424,8 @@ class RocksDBPersist implements Persist {
       long referenced = config.currentTimeMicros();
       obj = obj.withReferenced(referenced);
 
-      byte[] serialized =
-          serializeObj(
-              obj, effectiveIncrementalIndexSizeLimit(), effectiveIndexSegmentSizeLimit(), true);
-
-      db.put(cf, key, serialized);
+      putObj(
+          db, cf, key, obj, effectiveIncrementalIndexSizeLimit(), effectiveIndexSegmentSizeLimit());
     } catch (RocksDBException e) {
       throw rocksDbException(e);
     } finally {
@@ -539,14 +536,13 @@ class RocksDBPersist implements Persist {
       }
 
       long referenced = config.currentTimeMicros();
-      byte[] serialized =
-          serializeObj(
-              newValue.withReferenced(referenced),
-              effectiveIncrementalIndexSizeLimit(),
-              effectiveIndexSegmentSizeLimit(),
-              true);
-
-      db.put(cf, key, serialized);
+      putObj(
+          db,
+          cf,
+          key,
+          newValue.withReferenced(referenced),
+          effectiveIncrementalIndexSizeLimit(),
+          effectiveIndexSegmentSizeLimit());
 
       return true;
     } catch (RocksDBException e) {
@@ -556,6 +552,34 @@ class RocksDBPersist implements Persist {
     }
   }
 
+  /**
+   * Writes a serialized object via a pooled buffer, which can be released immediately, because
+   * RocksDB copies the value.
+   */
+  private static void putObj(
+      TransactionDB db,
+      ColumnFamilyHandle cf,
+      byte[] key,
+      Obj obj,
+      int incrementalIndexSizeLimit,
+      int indexSizeLimit)
+      throws RocksDBException, ObjTooLargeException {
+    ByteBuffer serialized =
+        serializeObjPooled(obj, incrementalIndexSizeLimit, indexSizeLimit, true);
+    try {
+      db.put(
+          cf,
+          key,
+          0,
+          key.length,
+          serialized.array(),
+          serialized.arrayOffset() + serialized.position(),
+          serialized.remaining());
+    } finally {
+      releasePooledBuffer(serialized);
+    }
+  }
+
   @Override
   public void erase() {
     backend.eraseRepositories(singleton(config().repositoryId()));
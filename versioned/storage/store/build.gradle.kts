@@ -35,6 +35,7 @@ dependencies {
   compileOnly(libs.errorprone.annotations)
 
   implementation(libs.guava)
+  implementation(libs.micrometer.core)
   implementation(libs.slf4j.api)
 
   implementation(platform(libs.jackson.bom))
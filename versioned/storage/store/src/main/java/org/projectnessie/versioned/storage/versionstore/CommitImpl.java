@@ -100,22 +100,25 @@ class CommitImpl extends BaseCommitHelper {
   private final StoreIndex<CommitOp> expectedIndex;
   private final ContentMapping contentMapping;
   private final CommitLogic commitLogic;
+  private final CommitValuesMeters commitValuesMeters;
 
   CommitImpl(
       @Nonnull BranchName branch,
       @Nonnull Optional<Hash> referenceHash,
       @Nonnull Persist persist,
       @Nonnull Reference reference,
-      @Nullable CommitObj head)
+      @Nullable CommitObj head,
+      @Nonnull CommitValuesMeters commitValuesMeters)
       throws ReferenceNotFoundException {
     super(branch, referenceHash, persist, reference, head);
+    this.commitValuesMeters = commitValuesMeters;
     commitLogic = commitLogic(persist);
     contentMapping = new ContentMapping(persist);
     this.headIndex =
         lazyStoreIndex(
             () -> {
               IndexesLogic indexesLogic = indexesLogic(persist);
-              return indexesLogic.buildCompleteIndexOrEmpty(head);
+              return indexesLogic.buildSharedCompleteIndexOrEmpty(head);
             });
     this.expectedIndex =
         expected == head
@@ -123,7 +126,7 @@ class CommitImpl extends BaseCommitHelper {
             : lazyStoreIndex(
                 () -> {
                   IndexesLogic indexesLogic = indexesLogic(persist);
-                  return indexesLogic.buildCompleteIndexOrEmpty(expected);
+                  return indexesLogic.buildSharedCompleteIndexOrEmpty(expected);
                 });
   }
 
@@ -174,17 +177,33 @@ class CommitImpl extends BaseCommitHelper {
     // This mechanism ensures that we retry the store-objects in case that one fails with an
     // `UnknownOperationResultException`.
     Set<ObjId> toStore = new HashSet<>(commitRetryState.storedContents);
+    CommitValuesEvent valuesEvent = new CommitValuesEvent();
+    valuesEvent.begin();
+    // Values stored by a previous attempt are not passed to the backend again, but are still
+    // written by this commit.
+    CommitValuesMeters.Tally valuesTally = commitValuesMeters.tally();
     Consumer<Obj> valueConsumer =
         obj -> {
+          valuesTally.written(obj);
           if (toStore.add(obj.id())) {
             objectsToStore.add(obj);
+            valuesEvent.written(obj);
           }
         };
 
     ImmutableCommitValidation.Builder commitValidation = CommitValidation.builder();
 
     try {
-      commitAddOperations(operations, commit, valueConsumer, commitRetryState, commitValidation);
+      commitAddOperations(
+          operations,
+          commit,
+          valueConsumer,
+          obj -> {
+            valuesEvent.skipped(obj);
+            valuesTally.skipped(obj);
+          },
+          commitRetryState,
+          commitValidation);
     } catch (ObjNotFoundException e) {
       throw new IllegalStateException("Content value objects not found", e);
     }
@@ -207,6 +226,7 @@ class CommitImpl extends BaseCommitHelper {
       // an `UnknownOperationResultException` in one of the following operations (reference bump for
       // example).
       StoredObjResult<CommitObj> stored = commitLogic.storeCommit(newHead, objectsToStore);
+      valuesEvent.finish(persist.config().repositoryId());
       if (stored.obj().isPresent()) {
         newHead = stored.obj().get();
         commitRetryState.commitPersisted = newHead.id();
@@ -218,6 +238,7 @@ class CommitImpl extends BaseCommitHelper {
               + "headers/commit-metadata and operations already exists");
 
       bumpReferencePointer(newHead.id(), Optional.of(commitRetryState));
+      valuesTally.commitSucceeded();
 
       commitRetryState.generatedContentIds.forEach(addedContents);
 
@@ -239,6 +260,7 @@ class CommitImpl extends BaseCommitHelper {
       List<Operation> operations,
       CreateCommit.Builder commit,
       Consumer<Obj> contentToStore,
+      Consumer<Obj> unchangedContent,
       CommitRetryState commitRetryState,
       ImmutableCommitValidation.Builder commitValidation)
       throws ObjNotFoundException, ReferenceConflictException {
@@ -300,6 +322,7 @@ class CommitImpl extends BaseCommitHelper {
             (Put) operation,
             storeKey,
             contentToStore,
+            unchangedContent,
             commitRetryState,
             deleted,
             newContent,
@@ -424,6 +447,7 @@ class CommitImpl extends BaseCommitHelper {
       Put put,
       StoreKey storeKey,
       Consumer<Obj> contentToStore,
+      Consumer<Obj> unchangedContent,
       CommitRetryState commitRetryState,
       Map<UUID, StoreKey> deleted,
       Map<ContentKey, Content> newContent,
@@ -522,8 +546,14 @@ class CommitImpl extends BaseCommitHelper {
         putValueId != null, "INTERNAL: Must only persist a Content object with a content ID");
 
     ContentValueObj value = contentMapping.buildContent(putValue, payload);
-    contentToStore.accept(value);
     ObjId valueId = requireNonNull(value.id());
+    if (valueId.equals(existingValue)) {
+      // The same value is already referenced by the expected commit, so it exists and is
+      // reachable, no need to write it again.
+      unchangedContent.accept(value);
+    } else {
+      contentToStore.accept(value);
+    }
 
     // Note: the content-ID from legacy, imported Nessie repositories could theoretically been
     // any string value. If it's a UUID, use it, otherwise ignore it down the road.
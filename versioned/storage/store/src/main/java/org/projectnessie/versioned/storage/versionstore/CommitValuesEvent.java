@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+
+/**
+ * JFR event for the content values of a single commit attempt, distinguishing the values that are
+ * written to the backend from the values that are skipped, because the same value is already
+ * referenced by the expected commit.
+ */
+@Name(CommitValuesEvent.NAME)
+@Label("Commit Values")
+@Category({"Nessie", "Storage"})
+@Description("Content values written and skipped by a commit attempt.")
+@StackTrace(false)
+public final class CommitValuesEvent extends Event {
+  public static final String NAME = "org.projectnessie.storage.CommitValues";
+
+  @Label("Repository ID")
+  String repositoryId;
+
+  @Label("Written Values")
+  @Description("Number of content values passed to the backend.")
+  int writtenValues;
+
+  @Label("Written Bytes")
+  @Description("Serialized size of the content values passed to the backend.")
+  @DataAmount
+  long writtenBytes;
+
+  @Label("Skipped Values")
+  @Description("Number of content values not written, because those are already referenced.")
+  int skippedValues;
+
+  @Label("Skipped Bytes")
+  @Description("Serialized size of the content values not written.")
+  @DataAmount
+  long skippedBytes;
+
+  void written(Obj obj) {
+    writtenValues++;
+    writtenBytes += valueSize(obj);
+  }
+
+  void skipped(Obj obj) {
+    skippedValues++;
+    skippedBytes += valueSize(obj);
+  }
+
+  void finish(String repositoryId) {
+    end();
+    if (shouldCommit()) {
+      this.repositoryId = repositoryId;
+      commit();
+    }
+  }
+
+  static long valueSize(Obj obj) {
+    return obj instanceof ContentValueObj ? ((ContentValueObj) obj).data().size() : 0L;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import static org.projectnessie.versioned.storage.versionstore.CommitValuesEvent.valueSize;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import jakarta.annotation.Nullable;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+
+/**
+ * Micrometer counters for the content values written and skipped by successful commits. Unlike
+ * {@link CommitValuesEvent}, which reports each commit attempt, the values of a commit are counted
+ * once, after its reference bump succeeded.
+ */
+final class CommitValuesMeters {
+  static final String METER_COMMIT_VALUES = "nessie.versionstore.commit.values";
+  static final String METER_COMMIT_VALUES_BYTES = "nessie.versionstore.commit.values.bytes";
+
+  private final Counter writtenValues;
+  private final Counter writtenBytes;
+  private final Counter skippedValues;
+  private final Counter skippedBytes;
+
+  CommitValuesMeters(@Nullable MeterRegistry meterRegistry) {
+    MeterRegistry registry = meterRegistry != null ? meterRegistry : new CompositeMeterRegistry();
+    this.writtenValues = valuesCounter(registry, "written");
+    this.writtenBytes = bytesCounter(registry, "written");
+    this.skippedValues = valuesCounter(registry, "skipped");
+    this.skippedBytes = bytesCounter(registry, "skipped");
+  }
+
+  private static Counter valuesCounter(MeterRegistry registry, String result) {
+    return Counter.builder(METER_COMMIT_VALUES)
+        .description("Content values of commit attempts.")
+        .tag("result", result)
+        .register(registry);
+  }
+
+  private static Counter bytesCounter(MeterRegistry registry, String result) {
+    return Counter.builder(METER_COMMIT_VALUES_BYTES)
+        .description("Serialized size of the content values of commit attempts.")
+        .tag("result", result)
+        .baseUnit(BaseUnits.BYTES)
+        .register(registry);
+  }
+
+  Tally tally() {
+    return new Tally();
+  }
+
+  /** Collects the content values of a single commit attempt. */
+  final class Tally {
+    private int written;
+    private long writtenSize;
+    private int skipped;
+    private long skippedSize;
+
+    private Tally() {}
+
+    void written(Obj obj) {
+      written++;
+      writtenSize += valueSize(obj);
+    }
+
+    void skipped(Obj obj) {
+      skipped++;
+      skippedSize += valueSize(obj);
+    }
+
+    /** Records the collected values, called once the commit succeeded. */
+    void commitSucceeded() {
+      writtenValues.increment(written);
+      writtenBytes.increment(writtenSize);
+      skippedValues.increment(skipped);
+      skippedBytes.increment(skippedSize);
+    }
+  }
+}
@@ -106,6 +106,24 @@ public final class ContentMapping {
     return r;
   }
 
+  /**
+   * Fetches the contents for the given value object IDs with one bulk fetch.
+   *
+   * @return the contents by value object ID
+   */
+  @Nonnull
+  public Map<ObjId, Content> fetchContentValues(@Nonnull Collection<ObjId> ids)
+      throws ObjNotFoundException {
+    Obj[] objs = persist.fetchObjs(ids.toArray(new ObjId[0]));
+    Map<ObjId, Content> r = newHashMapWithExpectedSize(objs.length);
+    for (Obj obj : objs) {
+      if (obj instanceof ContentValueObj) {
+        r.put(obj.id(), valueToContent((ContentValueObj) obj));
+      }
+    }
+    return r;
+  }
+
   private Map<ContentKey, Content> fetchContentsDuplicateObjIds(
       StoreIndex<CommitOp> index, Collection<ContentKey> keys) throws ObjNotFoundException {
     Map<ObjId, List<ContentKey>> idsToKeys = newHashMapWithExpectedSize(keys.size());
@@ -132,7 +150,7 @@ public final class ContentMapping {
     return r;
   }
 
-  private static ObjId valueObjIdByKey(ContentKey key, StoreIndex<CommitOp> index) {
+  static ObjId valueObjIdByKey(ContentKey key, StoreIndex<CommitOp> index) {
     StoreKey storeKey = keyToStoreKey(key);
     StoreIndexElement<CommitOp> indexElement = index.get(storeKey);
     if (indexElement == null || !indexElement.content().action().exists()) {
@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import static org.projectnessie.versioned.storage.common.logic.CommitLogQuery.commitLogQuery;
+import static org.projectnessie.versioned.storage.common.logic.Logics.commitLogic;
+import static org.projectnessie.versioned.storage.common.logic.Logics.indexesLogic;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ_ID;
+import static org.projectnessie.versioned.storage.versionstore.TypeMapping.hashToObjId;
+import static org.projectnessie.versioned.storage.versionstore.TypeMapping.storeKeyToKey;
+import static org.projectnessie.versioned.storage.versionstore.TypeMapping.toCommitMeta;
+import static org.projectnessie.versioned.store.DefaultStoreWorker.contentTypeForPayload;
+
+import com.google.common.collect.AbstractIterator;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterators.AbstractSpliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.projectnessie.model.Content;
+import org.projectnessie.versioned.ReferenceCutoff;
+import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
+import org.projectnessie.versioned.storage.common.logic.CommitLogic;
+import org.projectnessie.versioned.storage.common.logic.IndexesLogic;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+
+/**
+ * Walks the commit logs of references back to their cutoff points and yields the distinct live
+ * content values, see {@link org.projectnessie.versioned.VersionStore#getLiveContents(List, Set)}.
+ *
+ * <p>Commits are read via {@link CommitLogic}, the operations of a live commit from its incremental
+ * index and the contents visible at the last live commit from its complete index via {@link
+ * IndexesLogic}. Index elements are filtered by the content type encoded in the elements, so only
+ * the values of the requested types are fetched, in batches of {@value #CONTENT_BATCH_SIZE}. Value
+ * object IDs that have already been yielded, for example for a commit that is live on multiple
+ * references, are skipped.
+ */
+final class LiveContents {
+
+  static final int CONTENT_BATCH_SIZE = 250;
+
+  private final CommitLogic commitLogic;
+  private final IndexesLogic indexesLogic;
+  private final ContentMapping contentMapping;
+  private final Set<Content.Type> types;
+  private final Set<ObjId> seenValues = new HashSet<>();
+
+  LiveContents(Persist persist, Set<Content.Type> types) {
+    this.commitLogic = commitLogic(persist);
+    this.indexesLogic = indexesLogic(persist);
+    this.contentMapping = new ContentMapping(persist);
+    this.types = types;
+  }
+
+  Stream<Content> liveContents(List<ReferenceCutoff> references) {
+    Iterator<ReferenceCutoff> refs = references.iterator();
+    Iterator<ObjId> valueIds =
+        new AbstractIterator<>() {
+          private Iterator<ObjId> current = Collections.emptyIterator();
+
+          @Override
+          protected ObjId computeNext() {
+            while (!current.hasNext()) {
+              if (!refs.hasNext()) {
+                return endOfData();
+              }
+              current = liveValueIds(refs.next());
+            }
+            return current.next();
+          }
+        };
+    return StreamSupport.stream(new ContentsSplit(valueIds), false);
+  }
+
+  /** Yields the not yet seen IDs of the live content values of a single reference. */
+  private Iterator<ObjId> liveValueIds(ReferenceCutoff reference) {
+    ObjId head = hashToObjId(reference.head());
+    if (EMPTY_OBJ_ID.equals(head)) {
+      return Collections.emptyIterator();
+    }
+    Iterator<CommitObj> commits = commitLogic.commitLog(commitLogQuery(head));
+
+    return new AbstractIterator<>() {
+      private Iterator<StoreIndexElement<CommitOp>> elements = Collections.emptyIterator();
+      private CommitObj lastLive;
+      private int numCommits;
+      private boolean allContents;
+
+      @Override
+      protected ObjId computeNext() {
+        while (true) {
+          while (elements.hasNext()) {
+            StoreIndexElement<CommitOp> el = elements.next();
+            CommitOp op = el.content();
+            // Note: storeKeyToKey() returns null, if not the "main universe" or not a "content"
+            // discriminator
+            if (op.action().exists()
+                && types.contains(contentTypeForPayload(op.payload()))
+                && storeKeyToKey(el.key()) != null
+                && seenValues.add(op.value())) {
+              return op.value();
+            }
+          }
+
+          if (allContents) {
+            return endOfData();
+          }
+
+          if (commits.hasNext()) {
+            CommitObj commit = commits.next();
+            numCommits++;
+            // The HEAD commit is always live, consult the cutoff for all other commits
+            if (lastLive == null || !reference.isCutoff(commitTime(commit), numCommits)) {
+              lastLive = commit;
+              elements = indexesLogic.commitOperations(commit).iterator();
+              continue;
+            }
+          }
+
+          // Reached the first non-live commit or the end of the commit log, all contents visible
+          // at the last live commit are live.
+          allContents = true;
+          elements = indexesLogic.buildCompleteIndexOrEmpty(lastLive).iterator();
+        }
+      }
+    };
+  }
+
+  private static Instant commitTime(CommitObj commit) {
+    Instant commitTime = toCommitMeta(commit).getCommitTime();
+    if (commitTime == null) {
+      commitTime = Instant.EPOCH.plus(commit.created(), ChronoUnit.MICROS);
+    }
+    return commitTime;
+  }
+
+  private final class ContentsSplit extends AbstractSpliterator<Content> {
+    private final Iterator<ObjId> valueIds;
+    private Iterator<Content> currentBatch = Collections.emptyIterator();
+
+    ContentsSplit(Iterator<ObjId> valueIds) {
+      super(Long.MAX_VALUE, 0);
+      this.valueIds = valueIds;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Content> action) {
+      while (true) {
+        if (currentBatch.hasNext()) {
+          action.accept(currentBatch.next());
+          return true;
+        }
+
+        List<ObjId> batch = new ArrayList<>(CONTENT_BATCH_SIZE);
+        while (batch.size() < CONTENT_BATCH_SIZE && valueIds.hasNext()) {
+          batch.add(valueIds.next());
+        }
+        if (batch.isEmpty()) {
+          return false;
+        }
+
+        Map<ObjId, Content> contents;
+        try {
+          contents = contentMapping.fetchContentValues(batch);
+        } catch (ObjNotFoundException e) {
+          throw new RuntimeException(e);
+        }
+        List<Content> batchContents = new ArrayList<>(batch.size());
+        for (ObjId id : batch) {
+          Content content = contents.get(id);
+          if (content == null) {
+            throw new IllegalStateException("Content object " + id + " not found");
+          }
+          batchContents.add(content);
+        }
+        currentBatch = batchContents.iterator();
+      }
+    }
+  }
+}
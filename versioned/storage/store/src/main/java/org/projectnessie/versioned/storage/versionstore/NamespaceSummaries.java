@@ -0,0 +1,509 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import static java.util.Map.Entry.comparingByKey;
+import static org.projectnessie.versioned.NamespaceSummary.namespaceSummary;
+import static org.projectnessie.versioned.storage.common.logic.Logics.indexesLogic;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.COMMIT;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ_ID;
+import static org.projectnessie.versioned.storage.versionstore.NamespaceSummaryObj.namespaceSummaryObjId;
+import static org.projectnessie.versioned.storage.versionstore.NamespaceSummaryObj.stripeOf;
+import static org.projectnessie.versioned.storage.versionstore.NamespaceSummaryStripeObj.Entry.entry;
+import static org.projectnessie.versioned.storage.versionstore.NamespaceSummaryStripeObj.namespaceSummaryStripe;
+import static org.projectnessie.versioned.storage.versionstore.TypeMapping.storeKeyToKey;
+import static org.projectnessie.versioned.store.DefaultStoreWorker.contentTypeForPayload;
+import static org.projectnessie.versioned.store.DefaultStoreWorker.payloadForContent;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import org.projectnessie.model.Content;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.versioned.NamespaceSummary;
+import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
+import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
+import org.projectnessie.versioned.storage.common.indexes.StoreKey;
+import org.projectnessie.versioned.storage.common.logic.IndexesLogic;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.versionstore.NamespaceSummaryStripeObj.Entry;
+
+/**
+ * Maintains per-commit summaries of all namespaces, with the number of contents per content type.
+ *
+ * <p>The summary of a new commit is {@linkplain #maintain(CommitObj) derived} from the persisted
+ * summary of the nearest commit in its {@link CommitObj#tail() tail}: only the keys changed since
+ * that commit are looked up in the complete indexes of both commits, and only the {@linkplain
+ * NamespaceSummaryStripeObj stripes} that contain the affected namespaces are rewritten, all other
+ * stripes are shared. The number of stripes is doubled once a stripe grows beyond twice the
+ * configured stripe size.
+ *
+ * <p>Maintenance never scans all keys of a commit. If none of the commits in the tail has a usable
+ * summary, for example for commits written before summaries were introduced or after summaries have
+ * been purged, the caller can {@linkplain #rescan(CommitObj) rescan} the commit in the background.
+ * Summaries with a stripe that is too large for a single object are replaced with an {@linkplain
+ * NamespaceSummaryObj#overflow() overflow marker}, which is propagated to the following commits
+ * until a rescan is requested {@value #RESCAN_OVERFLOW_AFTER_COMMITS} commits later. Readers only
+ * use persisted summaries.
+ */
+final class NamespaceSummaries {
+
+  /** The target number of namespaces per stripe. */
+  static final int DEFAULT_STRIPE_SIZE = 1000;
+
+  /** Number of commits after an overflow, after which a rescan is requested. */
+  static final int RESCAN_OVERFLOW_AFTER_COMMITS = 1000;
+
+  private static final int NAMESPACE_PAYLOAD = payloadForContent(Content.Type.NAMESPACE);
+
+  private final Persist persist;
+  private final IndexesLogic indexesLogic;
+  private final int stripeSize;
+  private final int rescanOverflowAfterCommits;
+
+  NamespaceSummaries(Persist persist) {
+    this(persist, DEFAULT_STRIPE_SIZE, RESCAN_OVERFLOW_AFTER_COMMITS);
+  }
+
+  NamespaceSummaries(Persist persist, int stripeSize, int rescanOverflowAfterCommits) {
+    this.persist = persist;
+    this.indexesLogic = indexesLogic(persist);
+    this.stripeSize = stripeSize;
+    this.rescanOverflowAfterCommits = rescanOverflowAfterCommits;
+  }
+
+  /**
+   * Returns the namespaces of the persisted summary of the given commit, ordered by namespace key,
+   * or an empty optional if no usable summary exists for that commit.
+   */
+  @Nonnull
+  Optional<List<Entry>> summary(@Nullable CommitObj head) {
+    if (head == null) {
+      return Optional.of(List.of());
+    }
+    NamespaceSummaryObj summary = fetchSummaries(List.of(head.id()))[0];
+    if (summary == null || summary.overflow()) {
+      return Optional.empty();
+    }
+    NamespaceSummaryStripeObj[] stripes = fetchStripes(summary.stripes());
+    List<Entry> entries = new ArrayList<>();
+    for (NamespaceSummaryStripeObj stripe : stripes) {
+      if (stripe == null) {
+        return Optional.empty();
+      }
+      entries.addAll(stripe.namespaces());
+    }
+    return Optional.of(sorted(entries));
+  }
+
+  /**
+   * Maintains the summary of the given, newly written commit incrementally.
+   *
+   * @return {@code true} if the commit should be {@linkplain #rescan(CommitObj) rescanned}, because
+   *     no usable summary exists in its tail
+   */
+  boolean maintain(@Nonnull CommitObj head) throws ObjNotFoundException, ObjTooLargeException {
+    List<ObjId> chain = new ArrayList<>(1 + head.tail().size());
+    chain.add(head.id());
+    chain.addAll(head.tail());
+    NamespaceSummaryObj[] summaries = fetchSummaries(chain);
+
+    int base = -1;
+    for (int i = 0; i < summaries.length; i++) {
+      if (summaries[i] != null || EMPTY_OBJ_ID.equals(chain.get(i))) {
+        base = i;
+        break;
+      }
+    }
+    if (base == 0) {
+      return false;
+    }
+    if (base == -1) {
+      return true;
+    }
+    NamespaceSummaryObj baseSummary = summaries[base];
+    if (baseSummary != null && baseSummary.overflow()) {
+      // Restart the countdown when requesting a rescan, so that the following commits do not
+      // request another one.
+      boolean rescan = head.seq() - baseSummary.overflowSeq() >= rescanOverflowAfterCommits;
+      persist.storeObj(overflow(head.id(), rescan ? head.seq() : baseSummary.overflowSeq()));
+      return rescan;
+    }
+
+    // The commits after the base, newest first, and the base commit itself.
+    CommitObj[] commits = new CommitObj[base + 1];
+    commits[0] = head;
+    int fetch = EMPTY_OBJ_ID.equals(chain.get(base)) ? base - 1 : base;
+    if (fetch > 0) {
+      ObjId[] commitIds = chain.subList(1, fetch + 1).toArray(new ObjId[0]);
+      CommitObj[] fetched = persist.fetchTypedObjs(commitIds, COMMIT, CommitObj.class);
+      System.arraycopy(fetched, 0, commits, 1, fetched.length);
+    }
+
+    Namespaces changes = changes(commits[base], head, Arrays.asList(commits).subList(0, base));
+    if (changes.counts.isEmpty()) {
+      if (baseSummary != null) {
+        store(head, baseSummary.stripes(), List.of(), false);
+      } else {
+        storeStriped(head, List.of(), 1, false);
+      }
+      return false;
+    }
+
+    // The summary of an empty base has a single, not persisted stripe.
+    List<ObjId> stripeIds = baseSummary != null ? baseSummary.stripes() : List.of(EMPTY_OBJ_ID);
+
+    Map<Integer, List<List<String>>> changedStripes = new TreeMap<>();
+    for (List<String> elements : changes.counts.keySet()) {
+      changedStripes
+          .computeIfAbsent(stripeOf(elements, stripeIds.size()), x -> new ArrayList<>())
+          .add(elements);
+    }
+    Map<Integer, NamespaceSummaryStripeObj> baseStripes = fetchStripes(stripeIds, changedStripes);
+    if (baseStripes == null) {
+      return true;
+    }
+
+    List<ObjId> newStripeIds = new ArrayList<>(stripeIds);
+    List<NamespaceSummaryStripeObj> newStripes = new ArrayList<>();
+    boolean resize = false;
+    for (Map.Entry<Integer, List<List<String>>> stripe : changedStripes.entrySet()) {
+      Namespaces namespaces = new Namespaces();
+      NamespaceSummaryStripeObj baseStripe = baseStripes.get(stripe.getKey());
+      if (baseStripe != null) {
+        namespaces.load(baseStripe.namespaces());
+      }
+      for (List<String> elements : stripe.getValue()) {
+        namespaces.counts(elements).apply(changes.counts.get(elements));
+      }
+      NamespaceSummaryStripeObj newStripe = namespaceSummaryStripe(namespaces.entries());
+      resize |= newStripe.namespaces().size() > 2 * stripeSize;
+      newStripeIds.set(stripe.getKey(), newStripe.id());
+      newStripes.add(newStripe);
+    }
+
+    if (resize) {
+      // Double the number of stripes, all stripes have to be rewritten.
+      List<Entry> all = new ArrayList<>();
+      newStripes.forEach(s -> all.addAll(s.namespaces()));
+      Map<Integer, NamespaceSummaryStripeObj> unchanged = fetchStripes(stripeIds, null);
+      if (unchanged == null) {
+        return true;
+      }
+      unchanged.forEach(
+          (i, s) -> {
+            if (!changedStripes.containsKey(i)) {
+              all.addAll(s.namespaces());
+            }
+          });
+      storeStriped(head, all, Math.max(stripeIds.size() * 2, stripeCount(all.size())), false);
+    } else {
+      store(head, newStripeIds, newStripes, false);
+    }
+    return false;
+  }
+
+  /**
+   * Computes the summary of the given commit by scanning all its keys. Replaces an existing summary
+   * or overflow marker of the commit.
+   */
+  void rescan(@Nonnull CommitObj head) throws ObjNotFoundException, ObjTooLargeException {
+    Namespaces namespaces = new Namespaces();
+    for (StoreIndexElement<CommitOp> el : indexesLogic.buildCompleteIndex(head, Optional.empty())) {
+      CommitOp op = el.content();
+      if (op.action().exists()) {
+        ContentKey key = storeKeyToKey(el.key());
+        if (key != null) {
+          namespaces.add(key, op.payload(), 1L);
+        }
+      }
+    }
+    List<Entry> entries = namespaces.entries();
+    storeStriped(head, entries, stripeCount(entries.size()), true);
+  }
+
+  /**
+   * Collects the changes to the namespaces from the contents visible on {@code base} to the
+   * contents visible on {@code head}. Only the keys changed by the given commits are looked up.
+   */
+  private Namespaces changes(
+      @Nullable CommitObj base, @Nonnull CommitObj head, List<CommitObj> commits)
+      throws ObjNotFoundException {
+    Set<StoreKey> changed = new HashSet<>();
+    for (CommitObj commit : commits) {
+      for (StoreIndexElement<CommitOp> el : indexesLogic.commitOperations(commit)) {
+        if (storeKeyToKey(el.key()) != null) {
+          changed.add(el.key());
+        }
+      }
+    }
+
+    Namespaces changes = new Namespaces();
+    if (changed.isEmpty()) {
+      return changes;
+    }
+
+    StoreIndex<CommitOp> before = indexesLogic.buildCompleteIndexOrEmpty(base);
+    before.loadIfNecessary(changed);
+    StoreIndex<CommitOp> after = indexesLogic.buildCompleteIndex(head, Optional.empty());
+    after.loadIfNecessary(changed);
+
+    for (StoreKey storeKey : changed) {
+      CommitOp previous = existing(before.get(storeKey));
+      CommitOp current = existing(after.get(storeKey));
+      if (previous != null && current != null && previous.payload() == current.payload()) {
+        continue;
+      }
+      ContentKey key = storeKeyToKey(storeKey);
+      if (previous != null) {
+        changes.add(key, previous.payload(), -1L);
+      }
+      if (current != null) {
+        changes.add(key, current.payload(), 1L);
+      }
+    }
+    return changes;
+  }
+
+  private static CommitOp existing(@Nullable StoreIndexElement<CommitOp> el) {
+    return el != null && el.content().action().exists() ? el.content() : null;
+  }
+
+  private int stripeCount(int namespaces) {
+    int stripes = 1;
+    while ((long) stripes * stripeSize < namespaces) {
+      stripes <<= 1;
+    }
+    return stripes;
+  }
+
+  private void storeStriped(CommitObj head, List<Entry> entries, int stripeCount, boolean upsert)
+      throws ObjTooLargeException {
+    List<List<Entry>> split = new ArrayList<>(stripeCount);
+    for (int i = 0; i < stripeCount; i++) {
+      split.add(new ArrayList<>());
+    }
+    for (Entry e : sorted(entries)) {
+      split.get(stripeOf(e.elements(), stripeCount)).add(e);
+    }
+    List<ObjId> stripeIds = new ArrayList<>(stripeCount);
+    List<NamespaceSummaryStripeObj> stripes = new ArrayList<>(stripeCount);
+    for (List<Entry> stripeEntries : split) {
+      NamespaceSummaryStripeObj stripe = namespaceSummaryStripe(stripeEntries);
+      stripeIds.add(stripe.id());
+      stripes.add(stripe);
+    }
+    store(head, stripeIds, stripes, upsert);
+  }
+
+  private void store(
+      CommitObj head,
+      List<ObjId> stripeIds,
+      List<NamespaceSummaryStripeObj> newStripes,
+      boolean upsert)
+      throws ObjTooLargeException {
+    Obj summary;
+    try {
+      persist.storeObjs(newStripes.toArray(new Obj[0]));
+      summary = NamespaceSummaryObj.builder().commitId(head.id()).stripes(stripeIds).build();
+    } catch (ObjTooLargeException e) {
+      // A stripe with very many namespaces might not fit into a single object, readers have to
+      // scan the keys until a later rescan succeeds.
+      summary = overflow(head.id(), head.seq());
+    }
+    if (upsert) {
+      persist.upsertObj(summary);
+    } else {
+      persist.storeObj(summary);
+    }
+  }
+
+  private static NamespaceSummaryObj overflow(ObjId commitId, long overflowSeq) {
+    return NamespaceSummaryObj.builder()
+        .commitId(commitId)
+        .overflow(true)
+        .overflowSeq(overflowSeq)
+        .build();
+  }
+
+  private NamespaceSummaryObj[] fetchSummaries(List<ObjId> commitIds) {
+    ObjId[] ids = new ObjId[commitIds.size()];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = namespaceSummaryObjId(commitIds.get(i));
+    }
+    return persist.fetchTypedObjsIfExist(
+        ids, NamespaceSummaryObj.OBJ_TYPE, NamespaceSummaryObj.class);
+  }
+
+  private NamespaceSummaryStripeObj[] fetchStripes(List<ObjId> stripeIds) {
+    return persist.fetchTypedObjsIfExist(
+        stripeIds.toArray(new ObjId[0]),
+        NamespaceSummaryStripeObj.OBJ_TYPE,
+        NamespaceSummaryStripeObj.class);
+  }
+
+  /**
+   * Fetches the stripes with the given indexes, or all stripes if {@code indexes} is {@code null}.
+   * Returns {@code null} if a stripe does not exist, the placeholder of an empty base summary
+   * yields no stripe.
+   */
+  @Nullable
+  private Map<Integer, NamespaceSummaryStripeObj> fetchStripes(
+      List<ObjId> stripeIds, @Nullable Map<Integer, ?> indexes) {
+    List<Integer> fetch = new ArrayList<>();
+    for (int i = 0; i < stripeIds.size(); i++) {
+      if ((indexes == null || indexes.containsKey(i)) && !EMPTY_OBJ_ID.equals(stripeIds.get(i))) {
+        fetch.add(i);
+      }
+    }
+    List<ObjId> ids = new ArrayList<>(fetch.size());
+    fetch.forEach(i -> ids.add(stripeIds.get(i)));
+    NamespaceSummaryStripeObj[] stripes = fetchStripes(ids);
+    Map<Integer, NamespaceSummaryStripeObj> result = new HashMap<>();
+    for (int i = 0; i < stripes.length; i++) {
+      if (stripes[i] == null) {
+        return null;
+      }
+      result.put(fetch.get(i), stripes[i]);
+    }
+    return result;
+  }
+
+  private static List<Entry> sorted(List<Entry> entries) {
+    List<Map.Entry<ContentKey, Entry>> keyed = new ArrayList<>(entries.size());
+    for (Entry e : entries) {
+      keyed.add(Map.entry(ContentKey.of(e.elements()), e));
+    }
+    keyed.sort(comparingByKey());
+    List<Entry> result = new ArrayList<>(keyed.size());
+    keyed.forEach(e -> result.add(e.getValue()));
+    return result;
+  }
+
+  /**
+   * Converts the persisted summary to the summaries of {@code namespace} and all namespaces below
+   * it.
+   */
+  static List<NamespaceSummary> namespaceSummaries(
+      List<Entry> entries, @Nullable ContentKey namespace) {
+    Map<List<String>, Integer> childNamespaces = new HashMap<>();
+    for (Entry e : entries) {
+      List<String> elements = e.elements();
+      if (!elements.isEmpty()) {
+        childNamespaces.merge(elements.subList(0, elements.size() - 1), 1, Integer::sum);
+      }
+    }
+
+    List<NamespaceSummary> result = new ArrayList<>();
+    for (Entry e : entries) {
+      ContentKey key = ContentKey.of(e.elements());
+      if (namespace != null && !key.startsWith(namespace)) {
+        continue;
+      }
+      Map<Content.Type, Long> contentCounts = new HashMap<>();
+      e.payloadCounts()
+          .forEach((payload, count) -> contentCounts.put(contentTypeForPayload(payload), count));
+      result.add(
+          namespaceSummary(
+              key,
+              e.explicit(),
+              contentCounts,
+              childNamespaces.getOrDefault(e.elements(), 0),
+              e.totalContents()));
+    }
+    return result;
+  }
+
+  /** Per-namespace counts, either the absolute values of a summary or changes to a summary. */
+  private static final class Namespaces {
+    private final Map<List<String>, Counts> counts = new HashMap<>();
+
+    void load(List<Entry> entries) {
+      for (Entry e : entries) {
+        Counts counts = counts(e.elements());
+        counts.explicit = e.explicit();
+        counts.total = e.totalContents();
+        counts.payloads.putAll(e.payloadCounts());
+      }
+    }
+
+    void add(ContentKey key, int payload, long delta) {
+      List<String> elements = key.getElements();
+      int parentLength = elements.size() - 1;
+      for (int i = 0; i <= parentLength; i++) {
+        Counts counts = counts(elements.subList(0, i));
+        counts.total += delta;
+        if (i == parentLength) {
+          counts.payloads.merge(payload, delta, Counts::sum);
+        }
+      }
+      if (payload == NAMESPACE_PAYLOAD) {
+        counts(elements).explicit = delta > 0L;
+      }
+    }
+
+    Counts counts(List<String> elements) {
+      return counts.computeIfAbsent(elements, x -> new Counts());
+    }
+
+    List<Entry> entries() {
+      List<Entry> entries = new ArrayList<>();
+      counts.forEach(
+          (elements, c) -> {
+            boolean explicit = Boolean.TRUE.equals(c.explicit);
+            if (explicit || c.total > 0L) {
+              entries.add(entry(elements, explicit, c.payloads, c.total));
+            }
+          });
+      return sorted(entries);
+    }
+  }
+
+  private static final class Counts {
+    /** Whether the namespace exists explicitly, {@code null} if a change does not affect it. */
+    Boolean explicit;
+
+    long total;
+    final Map<Integer, Long> payloads = new HashMap<>();
+
+    void apply(Counts change) {
+      if (change.explicit != null) {
+        explicit = change.explicit;
+      }
+      total += change.total;
+      change.payloads.forEach((payload, delta) -> payloads.merge(payload, delta, Counts::sum));
+    }
+
+    static Long sum(Long a, Long b) {
+      long sum = a + b;
+      return sum == 0L ? null : sum;
+    }
+  }
+}
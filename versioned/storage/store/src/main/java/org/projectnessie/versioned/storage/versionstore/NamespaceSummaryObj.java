@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import static org.projectnessie.versioned.storage.common.objtypes.CustomObjType.customObjType;
+import static org.projectnessie.versioned.storage.common.persist.ObjIdHasher.objIdHasher;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.List;
+import org.immutables.value.Value;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.ObjType;
+
+/**
+ * Persisted summary of all namespaces on a commit, see {@link NamespaceSummaries}.
+ *
+ * <p>The namespaces are distributed over {@linkplain NamespaceSummaryStripeObj stripes} by the hash
+ * of the namespace elements, see {@link #stripeOf(List, int)}. Summaries of consecutive commits
+ * share the stripes that did not change.
+ *
+ * <p>The {@link ObjId} of a summary is derived from the ID of its commit. Summaries are not
+ * referenced from commits, they can be purged at any time. Readers fall back to scanning the keys
+ * of a commit without a summary.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableNamespaceSummaryObj.class)
+@JsonDeserialize(as = ImmutableNamespaceSummaryObj.class)
+public interface NamespaceSummaryObj extends Obj {
+
+  ObjType OBJ_TYPE = customObjType("namespace-summary", "ns-s", NamespaceSummaryObj.class);
+
+  @Override
+  @Value.Default
+  default ObjId id() {
+    return namespaceSummaryObjId(commitId());
+  }
+
+  @Override
+  @Value.Default
+  default ObjType type() {
+    return OBJ_TYPE;
+  }
+
+  @JsonProperty("c")
+  ObjId commitId();
+
+  /** IDs of the {@linkplain NamespaceSummaryStripeObj stripes}, the number is a power of 2. */
+  @JsonProperty("s")
+  List<ObjId> stripes();
+
+  /**
+   * Whether a stripe of the summary is too large to be persisted, no {@link #stripes()} are present
+   * in that case.
+   */
+  @JsonProperty("o")
+  @Value.Default
+  default boolean overflow() {
+    return false;
+  }
+
+  /**
+   * The {@linkplain org.projectnessie.versioned.storage.common.objtypes.CommitObj#seq() commit
+   * sequence number} at which the summary has been found to be too large, used to schedule a
+   * rescan.
+   */
+  @JsonProperty("q")
+  @Value.Default
+  default long overflowSeq() {
+    return 0L;
+  }
+
+  static ObjId namespaceSummaryObjId(ObjId commitId) {
+    return objIdHasher(OBJ_TYPE.name()).hash(commitId).generate();
+  }
+
+  /** The index of the stripe that contains the namespace with the given elements. */
+  static int stripeOf(List<String> elements, int stripes) {
+    return Math.floorMod(elements.hashCode(), stripes);
+  }
+
+  static ImmutableNamespaceSummaryObj.Builder builder() {
+    return ImmutableNamespaceSummaryObj.builder();
+  }
+}
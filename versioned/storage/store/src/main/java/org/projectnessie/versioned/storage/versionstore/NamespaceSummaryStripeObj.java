@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2025 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import static org.projectnessie.versioned.storage.common.objtypes.CustomObjType.customObjType;
+import static org.projectnessie.versioned.storage.common.persist.ObjIdHasher.objIdHasher;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.immutables.value.Value;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.ObjIdHasher;
+import org.projectnessie.versioned.storage.common.persist.ObjType;
+
+/**
+ * A stripe of a {@linkplain NamespaceSummaryObj namespace summary}. The {@link ObjId} is derived
+ * from the content, so equal stripes of different commits are stored once.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableNamespaceSummaryStripeObj.class)
+@JsonDeserialize(as = ImmutableNamespaceSummaryStripeObj.class)
+public interface NamespaceSummaryStripeObj extends Obj {
+
+  ObjType OBJ_TYPE =
+      customObjType("namespace-summary-stripe", "ns-ss", NamespaceSummaryStripeObj.class);
+
+  @Override
+  @Value.Default
+  default ObjId id() {
+    ObjIdHasher hasher = objIdHasher(OBJ_TYPE.name());
+    for (Entry e : namespaces()) {
+      hasher.hash(e.elements().size());
+      e.elements().forEach(hasher::hash);
+      hasher.hash(e.explicit()).hash(e.totalContents());
+      Map<Integer, Long> payloadCounts = new TreeMap<>(e.payloadCounts());
+      payloadCounts.forEach((payload, count) -> hasher.hash(payload.intValue()).hash(count));
+    }
+    return hasher.generate();
+  }
+
+  @Override
+  @Value.Default
+  default ObjType type() {
+    return OBJ_TYPE;
+  }
+
+  /** The namespaces of the stripe, ordered by namespace key. */
+  @JsonProperty("n")
+  List<Entry> namespaces();
+
+  static NamespaceSummaryStripeObj namespaceSummaryStripe(List<Entry> namespaces) {
+    return ImmutableNamespaceSummaryStripeObj.builder().namespaces(namespaces).build();
+  }
+
+  @Value.Immutable
+  @JsonSerialize(as = ImmutableEntry.class)
+  @JsonDeserialize(as = ImmutableEntry.class)
+  interface Entry {
+    @JsonProperty("e")
+    @Value.Parameter(order = 1)
+    List<String> elements();
+
+    @JsonProperty("x")
+    @Value.Parameter(order = 2)
+    boolean explicit();
+
+    /** Number of direct children per content payload. */
+    @JsonProperty("p")
+    @Value.Parameter(order = 3)
+    Map<Integer, Long> payloadCounts();
+
+    @JsonProperty("t")
+    @Value.Parameter(order = 4)
+    long totalContents();
+
+    static Entry entry(
+        List<String> elements, boolean explicit, Map<Integer, Long> payloadCounts, long total) {
+      return ImmutableEntry.of(elements, explicit, payloadCounts, total);
+    }
+  }
+}
@@ -88,38 +88,36 @@ public final class TypeMapping {
    */
   @Nullable
   public static ContentKey storeKeyToKey(@Nonnull StoreKey storeKey) {
-    String universe;
-    List<String> keyElements;
-    String variant;
-
     String raw = storeKey.rawString();
     int idx1 = raw.indexOf((char) 0);
     if (idx1 == -1) {
       throw new IllegalArgumentException("Unsupported StoreKey '" + storeKey + "'");
     }
-    universe = raw.substring(0, idx1);
     int idx2 = raw.indexOf((char) 0, idx1 + 1);
+
+    // Check the universe and the variant in-place, before allocating the key elements.
+    int variantOffset = (idx2 == -1 ? idx1 : idx2) + 1;
+    if (idx1 != MAIN_UNIVERSE.length()
+        || !raw.startsWith(MAIN_UNIVERSE)
+        || raw.length() - variantOffset != CONTENT_DISCRIMINATOR.length()
+        || !raw.startsWith(CONTENT_DISCRIMINATOR, variantOffset)) {
+      return null;
+    }
+
     if (idx2 == -1) {
-      keyElements = emptyList();
-      variant = raw.substring(idx1 + 1);
-    } else {
-
-      keyElements = new ArrayList<>(10);
-      int off = idx1 + 1;
-      for (int i = off; i < idx2; i++) {
-        char c = raw.charAt(i);
-        if (c == (char) 1) {
-          keyElements.add(raw.substring(off, i));
-          off = i + 1;
-        }
-      }
-      keyElements.add(raw.substring(off, idx2));
-      variant = raw.substring(idx2 + 1);
+      return ContentKey.of(emptyList());
     }
 
-    if (!universe.equals(MAIN_UNIVERSE) || !CONTENT_DISCRIMINATOR.equals(variant)) {
-      return null;
+    List<String> keyElements = new ArrayList<>(10);
+    int off = idx1 + 1;
+    for (int i = off; i < idx2; i++) {
+      char c = raw.charAt(i);
+      if (c == (char) 1) {
+        keyElements.add(raw.substring(off, i));
+        off = i + 1;
+      }
     }
+    keyElements.add(raw.substring(off, idx2));
     return ContentKey.of(keyElements);
   }
 
@@ -23,8 +23,10 @@ import static java.util.Objects.requireNonNull;
 import static org.projectnessie.model.IdentifiedContentKey.identifiedContentKeyFromContent;
 import static org.projectnessie.nessie.relocated.protobuf.ByteString.copyFromUtf8;
 import static org.projectnessie.versioned.ContentResult.contentResult;
+import static org.projectnessie.versioned.ReferenceContents.referenceContents;
 import static org.projectnessie.versioned.ReferenceHistory.ReferenceHistoryElement.referenceHistoryElement;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.emptyImmutableIndex;
+import static org.projectnessie.versioned.storage.common.logic.CommitLogQuery.DEFAULT_READ_AHEAD;
 import static org.projectnessie.versioned.storage.common.logic.CommitLogQuery.commitLogQuery;
 import static org.projectnessie.versioned.storage.common.logic.DiffQuery.diffQuery;
 import static org.projectnessie.versioned.storage.common.logic.Logics.commitLogic;
@@ -41,6 +43,7 @@ import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ
 import static org.projectnessie.versioned.storage.common.persist.Reference.reference;
 import static org.projectnessie.versioned.storage.versionstore.BaseCommitHelper.committingOperation;
 import static org.projectnessie.versioned.storage.versionstore.BaseCommitHelper.dryRunCommitterSupplier;
+import static org.projectnessie.versioned.storage.versionstore.ContentMapping.valueObjIdByKey;
 import static org.projectnessie.versioned.storage.versionstore.KeyRanges.keyRanges;
 import static org.projectnessie.versioned.storage.versionstore.RefMapping.NO_ANCESTOR;
 import static org.projectnessie.versioned.storage.versionstore.RefMapping.asBranchName;
@@ -63,10 +66,15 @@ import static org.projectnessie.versioned.storage.versionstore.TypeMapping.toCom
 import static org.projectnessie.versioned.store.DefaultStoreWorker.contentTypeForPayload;
 
 import com.google.common.collect.AbstractIterator;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -74,6 +82,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -82,6 +92,8 @@ import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import javax.annotation.CheckForNull;
 import org.projectnessie.model.CommitConsistency;
 import org.projectnessie.model.CommitMeta;
@@ -110,15 +122,19 @@ import org.projectnessie.versioned.MergeConflictException;
 import org.projectnessie.versioned.MergeResult;
 import org.projectnessie.versioned.MergeTransplantResultBase;
 import org.projectnessie.versioned.NamedRef;
+import org.projectnessie.versioned.NamespaceSummary;
 import org.projectnessie.versioned.Ref;
 import org.projectnessie.versioned.ReferenceAlreadyExistsException;
 import org.projectnessie.versioned.ReferenceAssignedResult;
 import org.projectnessie.versioned.ReferenceConflictException;
+import org.projectnessie.versioned.ReferenceContents;
 import org.projectnessie.versioned.ReferenceCreatedResult;
+import org.projectnessie.versioned.ReferenceCutoff;
 import org.projectnessie.versioned.ReferenceDeletedResult;
 import org.projectnessie.versioned.ReferenceHistory;
 import org.projectnessie.versioned.ReferenceInfo;
 import org.projectnessie.versioned.ReferenceInfo.CommitsAheadBehind;
+import org.projectnessie.versioned.ReferenceKeys;
 import org.projectnessie.versioned.ReferenceNotFoundException;
 import org.projectnessie.versioned.RelativeCommitSpec;
 import org.projectnessie.versioned.RepositoryInformation;
@@ -150,11 +166,18 @@ import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.Reference;
 import org.projectnessie.versioned.storage.versionstore.BaseCommitHelper.CommitterSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class VersionStoreImpl implements VersionStore {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(VersionStoreImpl.class);
+
   public static final int GET_KEYS_CONTENT_BATCH_SIZE = 50;
   private final Persist persist;
+  private final CommitValuesMeters commitValuesMeters;
+  @Nullable private final Executor namespaceSummariesExecutor;
+  private final AtomicBoolean namespaceSummaryRescan = new AtomicBoolean();
 
   @SuppressWarnings("unused")
   public VersionStoreImpl() {
@@ -162,7 +185,28 @@ public class VersionStoreImpl implements VersionStore {
   }
 
   public VersionStoreImpl(Persist persist) {
+    this(persist, null);
+  }
+
+  public VersionStoreImpl(Persist persist, @Nullable MeterRegistry meterRegistry) {
+    this(persist, meterRegistry, null);
+  }
+
+  /**
+   * Creates a version store.
+   *
+   * @param namespaceSummariesExecutor executor that maintains the namespace summaries of new
+   *     commits and rescans commits without a usable summary in the background, preferably
+   *     single-threaded. If {@code null}, summaries are maintained on the committing thread and
+   *     commits are never rescanned.
+   */
+  public VersionStoreImpl(
+      Persist persist,
+      @Nullable MeterRegistry meterRegistry,
+      @Nullable Executor namespaceSummariesExecutor) {
     this.persist = persist;
+    this.commitValuesMeters = new CommitValuesMeters(meterRegistry);
+    this.namespaceSummariesExecutor = namespaceSummariesExecutor;
   }
 
   @Nonnull
@@ -644,7 +688,8 @@ public class VersionStoreImpl implements VersionStore {
       return emptyOrNotFound(ref, PaginationIterator.empty());
     }
     CommitLogic commitLogic = commitLogic(persist);
-    PagedResult<CommitObj, ObjId> result = commitLogic.commitLog(commitLogQuery(head.id()));
+    PagedResult<CommitObj, ObjId> result =
+        commitLogic.commitLog(commitLogQuery(null, head.id(), null, DEFAULT_READ_AHEAD));
 
     ContentMapping contentMapping = new ContentMapping(persist);
 
@@ -667,6 +712,11 @@ public class VersionStoreImpl implements VersionStore {
       public String tokenForEntry(Commit entry) {
         return pagingToken(entry.getHash().asBytes()).asString();
       }
+
+      @Override
+      public void close() {
+        result.close();
+      }
     };
   }
 
@@ -679,7 +729,7 @@ public class VersionStoreImpl implements VersionStore {
       return emptyList();
     }
     IndexesLogic indexesLogic = indexesLogic(persist);
-    StoreIndex<CommitOp> index = indexesLogic.buildCompleteIndex(head, Optional.empty());
+    StoreIndex<CommitOp> index = indexesLogic.buildSharedCompleteIndex(head);
 
     return keys.stream()
         .map(
@@ -715,7 +765,7 @@ public class VersionStoreImpl implements VersionStore {
       return emptyOrNotFound(ref, PaginationIterator.empty());
     }
     IndexesLogic indexesLogic = indexesLogic(persist);
-    StoreIndex<CommitOp> index = indexesLogic.buildCompleteIndex(head, Optional.empty());
+    StoreIndex<CommitOp> index = indexesLogic.buildSharedCompleteIndex(head);
 
     Iterator<StoreIndexElement<CommitOp>> result =
         index.iterator(keyRanges.beginStoreKey(), keyRanges.endStoreKey(), false);
@@ -902,7 +952,7 @@ public class VersionStoreImpl implements VersionStore {
 
       StoreKey storeKey = keyToStoreKey(key);
       IndexesLogic indexesLogic = indexesLogic(persist);
-      StoreIndex<CommitOp> index = indexesLogic.buildCompleteIndex(head, Optional.empty());
+      StoreIndex<CommitOp> index = indexesLogic.buildSharedCompleteIndex(head);
 
       index.loadIfNecessary(singleton(storeKey));
 
@@ -984,10 +1034,7 @@ public class VersionStoreImpl implements VersionStore {
 
     try {
       IndexesLogic indexesLogic = indexesLogic(persist);
-      StoreIndex<CommitOp> index =
-          head != null
-              ? indexesLogic.buildCompleteIndex(head, Optional.empty())
-              : emptyImmutableIndex(COMMIT_OP_SERIALIZER);
+      StoreIndex<CommitOp> index = indexesLogic.buildSharedCompleteIndexOrEmpty(head);
 
       ContentMapping contentMapping = new ContentMapping(persist);
       Map<ContentKey, Content> fetched = contentMapping.fetchContents(index, keys);
@@ -1012,6 +1059,197 @@ public class VersionStoreImpl implements VersionStore {
     }
   }
 
+  @Override
+  public Stream<ReferenceContents> getValuesOnReferences(
+      List<ReferenceKeys> requests, boolean returnNotFound) throws ReferenceNotFoundException {
+    int size = requests.size();
+
+    // Resolve all named references with one bulk fetch, branches take precedence over tags
+    Set<String> refNames = new LinkedHashSet<>();
+    for (ReferenceKeys request : requests) {
+      String refName = request.refName();
+      if (refName != null) {
+        refNames.add(asBranchName(refName));
+        refNames.add(asTagName(refName));
+      }
+    }
+    Map<String, Reference> references = newHashMapWithExpectedSize(refNames.size());
+    if (!refNames.isEmpty()) {
+      for (Reference reference : referenceLogic(persist).getReferences(new ArrayList<>(refNames))) {
+        if (reference != null) {
+          references.put(reference.name(), reference);
+        }
+      }
+    }
+
+    NamedRef[] namedRefs = new NamedRef[size];
+    ObjId[] headIds = new ObjId[size];
+    Set<ObjId> commitIds = new LinkedHashSet<>();
+    for (int i = 0; i < size; i++) {
+      ReferenceKeys request = requests.get(i);
+      String refName = request.refName();
+      if (refName != null) {
+        Reference reference = references.get(asBranchName(refName));
+        if (reference == null) {
+          reference = references.get(asTagName(refName));
+        }
+        if (reference == null) {
+          throw referenceNotFound(refName);
+        }
+        namedRefs[i] = referenceToNamedRef(reference);
+        headIds[i] = reference.pointer();
+      } else {
+        headIds[i] = hashToObjId(requireNonNull(request.hash()));
+      }
+      if (!EMPTY_OBJ_ID.equals(headIds[i])) {
+        commitIds.add(headIds[i]);
+      }
+    }
+
+    // Bulk-load the head commits, build their indexes and bulk-load the index stripes for all
+    // requested keys
+    ObjId[] ids = commitIds.toArray(new ObjId[0]);
+    CommitObj[] commits = persist.fetchTypedObjsIfExist(ids, COMMIT, CommitObj.class);
+    for (int i = 0; i < ids.length; i++) {
+      if (commits[i] == null) {
+        throw RefMapping.hashNotFound(objIdToHash(ids[i]));
+      }
+    }
+    Set<StoreKey> storeKeys = new HashSet<>();
+    for (ReferenceKeys request : requests) {
+      for (ContentKey key : request.keys()) {
+        storeKeys.add(keyToStoreKey(key));
+      }
+    }
+    List<StoreIndex<CommitOp>> commitIndexes =
+        indexesLogic(persist).buildCompleteIndexes(Arrays.asList(commits), storeKeys);
+    Map<ObjId, StoreIndex<CommitOp>> indexes = newHashMapWithExpectedSize(ids.length);
+    for (int i = 0; i < ids.length; i++) {
+      indexes.put(ids[i], commitIndexes.get(i));
+    }
+    StoreIndex<CommitOp> emptyIndex = emptyImmutableIndex(COMMIT_OP_SERIALIZER);
+
+    // Bulk-load the content values, values that are shared by multiple references are loaded once
+    Set<ObjId> valueIds = new LinkedHashSet<>();
+    for (int i = 0; i < size; i++) {
+      StoreIndex<CommitOp> index = indexes.getOrDefault(headIds[i], emptyIndex);
+      for (ContentKey key : requests.get(i).keys()) {
+        ObjId valueId = valueObjIdByKey(key, index);
+        if (valueId != null) {
+          valueIds.add(valueId);
+        }
+      }
+    }
+    Map<ObjId, Content> values;
+    try {
+      values = new ContentMapping(persist).fetchContentValues(valueIds);
+    } catch (ObjNotFoundException e) {
+      throw objectNotFound(e);
+    }
+
+    return IntStream.range(0, size)
+        .mapToObj(
+            i -> {
+              ReferenceKeys request = requests.get(i);
+              StoreIndex<CommitOp> index = indexes.getOrDefault(headIds[i], emptyIndex);
+              Map<ContentKey, ContentResult> result =
+                  newHashMapWithExpectedSize(request.keys().size());
+              for (ContentKey key : request.keys()) {
+                ObjId valueId = valueObjIdByKey(key, index);
+                Content content = valueId != null ? values.get(valueId) : null;
+                if (content != null) {
+                  result.put(
+                      key,
+                      contentResult(
+                          buildIdentifiedKey(key, index, content, x -> null), content, null));
+                } else if (returnNotFound) {
+                  IdentifiedContentKey identifiedKey =
+                      buildIdentifiedKey(key, index, null, null, x -> null);
+                  result.put(key, contentResult(identifiedKey, null, null));
+                }
+              }
+              return referenceContents(request, namedRefs[i], objIdToHash(headIds[i]), result);
+            });
+  }
+
+  @Override
+  public Stream<Content> getLiveContents(List<ReferenceCutoff> references, Set<Content.Type> types)
+      throws ReferenceNotFoundException {
+    // Check that all head commits exist, before walking the commit logs lazily
+    Set<ObjId> heads = new LinkedHashSet<>();
+    for (ReferenceCutoff reference : references) {
+      ObjId head = hashToObjId(reference.head());
+      if (!EMPTY_OBJ_ID.equals(head)) {
+        heads.add(head);
+      }
+    }
+    ObjId[] ids = heads.toArray(new ObjId[0]);
+    CommitObj[] commits = persist.fetchTypedObjsIfExist(ids, COMMIT, CommitObj.class);
+    for (int i = 0; i < ids.length; i++) {
+      if (commits[i] == null) {
+        throw RefMapping.hashNotFound(objIdToHash(ids[i]));
+      }
+    }
+
+    return new LiveContents(persist, types).liveContents(references);
+  }
+
+  @Override
+  public Optional<List<NamespaceSummary>> getNamespaceSummaries(Ref ref, ContentKey namespace)
+      throws ReferenceNotFoundException {
+    RefMapping refMapping = new RefMapping(persist);
+    CommitObj head = refMapping.resolveRefHead(ref);
+    if (head == null) {
+      return Optional.of(emptyOrNotFound(ref, emptyList()));
+    }
+    return new NamespaceSummaries(persist)
+        .summary(head)
+        .map(summary -> NamespaceSummaries.namespaceSummaries(summary, namespace));
+  }
+
+  /**
+   * Maintains the namespace summary of a new commit, in the background if an executor is
+   * configured. The commit has already been persisted, so failures are only logged, readers fall
+   * back to scanning the keys.
+   */
+  private void maintainNamespaceSummary(@Nullable Hash commitHash) {
+    if (commitHash == null) {
+      return;
+    }
+    if (namespaceSummariesExecutor == null) {
+      maintainNamespaceSummaryNow(commitHash);
+      return;
+    }
+    try {
+      namespaceSummariesExecutor.execute(() -> maintainNamespaceSummaryNow(commitHash));
+    } catch (RejectedExecutionException e) {
+      // The summary of a later commit is derived from an older summary in its tail.
+      LOGGER.debug("Skipping the namespace summary of commit {}", commitHash, e);
+    }
+  }
+
+  private void maintainNamespaceSummaryNow(Hash commitHash) {
+    try {
+      CommitObj commit = commitLogic(persist).fetchCommit(hashToObjId(commitHash));
+      if (commit == null) {
+        return;
+      }
+      NamespaceSummaries summaries = new NamespaceSummaries(persist);
+      // Rescans scan all keys of a commit, only run them in the background, one at a time.
+      if (summaries.maintain(commit)
+          && namespaceSummariesExecutor != null
+          && namespaceSummaryRescan.compareAndSet(false, true)) {
+        try {
+          summaries.rescan(commit);
+        } finally {
+          namespaceSummaryRescan.set(false);
+        }
+      }
+    } catch (Exception e) {
+      LOGGER.warn("Failed to maintain the namespace summary of commit {}", commitHash, e);
+    }
+  }
+
   @Override
   public CommitResult commit(
       @Nonnull BranchName branch,
@@ -1021,14 +1259,18 @@ public class VersionStoreImpl implements VersionStore {
       @Nonnull CommitValidator validator,
       @Nonnull BiConsumer<ContentKey, String> addedContents)
       throws ReferenceNotFoundException, ReferenceConflictException {
-    return committingOperation(
-        "commit",
-        branch,
-        referenceHash,
-        persist,
-        CommitImpl::new,
-        (commitImpl, retryState) ->
-            commitImpl.commit(retryState, metadata, operations, validator, addedContents));
+    CommitResult commitResult =
+        committingOperation(
+            "commit",
+            branch,
+            referenceHash,
+            persist,
+            (b, hash, p, ref, head) -> new CommitImpl(b, hash, p, ref, head, commitValuesMeters),
+            (commitImpl, retryState) ->
+                commitImpl.commit(retryState, metadata, operations, validator, addedContents));
+
+    maintainNamespaceSummary(commitResult.getCommitHash());
+    return commitResult;
   }
 
   @Override
@@ -1089,6 +1331,10 @@ public class VersionStoreImpl implements VersionStore {
           mergeResult);
     }
 
+    if (mergeResult.wasApplied()) {
+      maintainNamespaceSummary(mergeResult.getResultantTargetHash());
+    }
+
     return mergeResult;
   }
 
@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import static org.projectnessie.model.CommitMeta.fromMessage;
+import static org.projectnessie.versioned.storage.common.logic.Logics.commitLogic;
+import static org.projectnessie.versioned.storage.versionstore.NamespaceSummaryObj.namespaceSummaryObjId;
+import static org.projectnessie.versioned.storage.versionstore.TypeMapping.hashToObjId;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.Namespace;
+import org.projectnessie.model.Operation;
+import org.projectnessie.model.Operation.Delete;
+import org.projectnessie.model.Operation.Put;
+import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.Hash;
+import org.projectnessie.versioned.VersionStore;
+import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.testextension.NessiePersist;
+import org.projectnessie.versioned.storage.testextension.PersistExtension;
+
+@ExtendWith({PersistExtension.class, SoftAssertionsExtension.class})
+public class TestNamespaceSummaries {
+  @NessiePersist protected static Persist persist;
+
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  public void unchangedStripesAreShared() throws Exception {
+    // Summaries are maintained explicitly by this test.
+    VersionStore store = new VersionStoreImpl(persist, null, r -> {});
+    NamespaceSummaries summaries = new NamespaceSummaries(persist, 2, 1000);
+    BranchName branch = BranchName.of("shared");
+    store.create(branch, Optional.empty());
+
+    List<Operation> ops = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      ContentKey ns = ContentKey.of("ns" + i);
+      ops.add(Put.of(ns, Namespace.of(ns)));
+      ops.add(Put.of(ContentKey.of("ns" + i, "t"), table()));
+    }
+    CommitObj first = commit(store, branch, ops);
+    soft.assertThat(summaries.maintain(first)).isFalse();
+    NamespaceSummaryObj firstSummary = summaryObj(first);
+    // 11 namespaces including the root, more than twice the stripe size in a single stripe
+    soft.assertThat(firstSummary.stripes()).hasSize(8);
+    soft.assertThat(summaries.summary(first)).get().isEqualTo(rescanned(first));
+
+    CommitObj second =
+        commit(store, branch, List.of(Put.of(ContentKey.of("ns3", "t2"), table())));
+    soft.assertThat(summaries.maintain(second)).isFalse();
+    NamespaceSummaryObj secondSummary = summaryObj(second);
+    soft.assertThat(secondSummary.stripes()).hasSize(8);
+    // Only the stripes of "ns3" and of the root namespace, which are different, have changed.
+    Set<ObjId> changed = new HashSet<>(secondSummary.stripes());
+    changed.removeAll(firstSummary.stripes());
+    soft.assertThat(changed).hasSize(2);
+    soft.assertThat(summaries.summary(second)).get().isEqualTo(rescanned(second));
+
+    CommitObj third =
+        commit(
+            store,
+            branch,
+            List.of(Delete.of(ContentKey.of("ns3", "t")), Delete.of(ContentKey.of("ns5", "t"))));
+    CommitObj fourth = commit(store, branch, List.of(Delete.of(ContentKey.of("ns5"))));
+    // Derived from the summary of the second commit, skipping the third one.
+    soft.assertThat(summaries.maintain(fourth)).isFalse();
+    soft.assertThat(summaries.summary(third)).isEmpty();
+    soft.assertThat(summaries.summary(fourth)).get().isEqualTo(rescanned(fourth));
+  }
+
+  @Test
+  public void noSummarizedAncestor() throws Exception {
+    BranchName branch = BranchName.of("no-summary");
+    // Simulate commits written before namespace summaries were maintained, more commits than the
+    // tail of a commit contains, so that the empty commit is not in the tail.
+    VersionStore unsummarized = new VersionStoreImpl(persist, null, r -> {});
+    unsummarized.create(branch, Optional.empty());
+    commit(unsummarized, branch, namespaceWithTable("a"));
+    for (int i = 0; i < persist.config().parentsPerCommit(); i++) {
+      commit(unsummarized, branch, List.of(Put.of(ContentKey.of("a", "t" + i), table())));
+    }
+
+    // Without an executor, commits without a summarized ancestor are not summarized.
+    VersionStore store = new VersionStoreImpl(persist);
+    CommitObj second = commit(store, branch, List.of(Delete.of(ContentKey.of("a", "t0"))));
+    soft.assertThat(store.getNamespaceSummaries(branch, null)).isEmpty();
+    soft.assertThat(new NamespaceSummaries(persist).maintain(second)).isTrue();
+
+    // The background executor rescans the commit.
+    VersionStore background = new VersionStoreImpl(persist, null, Runnable::run);
+    CommitObj third = commit(background, branch, namespaceWithTable("b"));
+    soft.assertThat(background.getNamespaceSummaries(branch, null)).isPresent();
+    soft.assertThat(new NamespaceSummaries(persist).summary(third))
+        .get()
+        .isEqualTo(rescanned(third));
+
+    // The following commits are summarized incrementally again.
+    CommitObj fourth = commit(store, branch, List.of(Delete.of(ContentKey.of("a", "t"))));
+    soft.assertThat(new NamespaceSummaries(persist).summary(fourth))
+        .get()
+        .isEqualTo(rescanned(fourth));
+  }
+
+  @Test
+  public void overflowIsRescanned() throws Exception {
+    AtomicBoolean tooLarge = new AtomicBoolean(true);
+    Persist tested =
+        new PersistDelegate(persist) {
+          @Nonnull
+          @Override
+          public boolean[] storeObjs(@Nonnull Obj[] objs) throws ObjTooLargeException {
+            for (Obj obj : objs) {
+              if (tooLarge.get() && obj instanceof NamespaceSummaryStripeObj) {
+                throw new ObjTooLargeException();
+              }
+            }
+            return super.storeObjs(objs);
+          }
+        };
+    VersionStore store = new VersionStoreImpl(persist, null, r -> {});
+    NamespaceSummaries summaries = new NamespaceSummaries(tested, 1000, 2);
+    BranchName branch = BranchName.of("overflow");
+    store.create(branch, Optional.empty());
+
+    CommitObj first = commit(store, branch, namespaceWithTable("a"));
+    soft.assertThat(summaries.maintain(first)).isFalse();
+    soft.assertThat(summaryObj(first))
+        .extracting(NamespaceSummaryObj::overflow, NamespaceSummaryObj::overflowSeq)
+        .containsExactly(true, first.seq());
+    soft.assertThat(summaries.summary(first)).isEmpty();
+
+    // The overflow marker is propagated ...
+    CommitObj second = commit(store, branch, namespaceWithTable("b"));
+    soft.assertThat(summaries.maintain(second)).isFalse();
+    soft.assertThat(summaryObj(second).overflow()).isTrue();
+
+    // ... until a rescan is requested, the next rescan is requested later.
+    CommitObj third = commit(store, branch, namespaceWithTable("c"));
+    soft.assertThat(summaries.maintain(third)).isTrue();
+    soft.assertThat(summaryObj(third))
+        .extracting(NamespaceSummaryObj::overflow, NamespaceSummaryObj::overflowSeq)
+        .containsExactly(true, third.seq());
+
+    // A successful rescan replaces the overflow marker.
+    tooLarge.set(false);
+    summaries.rescan(third);
+    soft.assertThat(summaryObj(third).overflow()).isFalse();
+    soft.assertThat(summaries.summary(third)).get().isEqualTo(rescanned(third));
+
+    CommitObj fourth = commit(store, branch, namespaceWithTable("d"));
+    soft.assertThat(summaries.maintain(fourth)).isFalse();
+    soft.assertThat(summaries.summary(fourth)).get().isEqualTo(rescanned(fourth));
+  }
+
+  /** The summary of a commit computed by scanning all keys, restores the persisted summary. */
+  private static List<NamespaceSummaryStripeObj.Entry> rescanned(CommitObj commit)
+      throws Exception {
+    NamespaceSummaries summaries = new NamespaceSummaries(persist);
+    NamespaceSummaryObj existing = summaryObj(commit);
+    summaries.rescan(commit);
+    List<NamespaceSummaryStripeObj.Entry> entries = summaries.summary(commit).orElseThrow();
+    if (existing != null) {
+      persist.upsertObj(existing);
+    } else {
+      persist.deleteObj(namespaceSummaryObjId(commit.id()));
+    }
+    return entries;
+  }
+
+  private static NamespaceSummaryObj summaryObj(CommitObj commit) {
+    return persist.fetchTypedObjsIfExist(
+        new ObjId[] {namespaceSummaryObjId(commit.id())},
+        NamespaceSummaryObj.OBJ_TYPE,
+        NamespaceSummaryObj.class)[0];
+  }
+
+  private static CommitObj commit(VersionStore store, BranchName branch, List<Operation> ops)
+      throws Exception {
+    Hash hash =
+        store.commit(branch, Optional.empty(), fromMessage("commit"), ops).getCommitHash();
+    return commitLogic(persist).fetchCommit(hashToObjId(hash));
+  }
+
+  private static List<Operation> namespaceWithTable(String namespace) {
+    ContentKey key = ContentKey.of(namespace);
+    return List.of(Put.of(key, Namespace.of(key)), Put.of(ContentKey.of(namespace, "t"), table()));
+  }
+
+  private static IcebergTable table() {
+    return IcebergTable.of("meta", 42, 43, 44, 45);
+  }
+}
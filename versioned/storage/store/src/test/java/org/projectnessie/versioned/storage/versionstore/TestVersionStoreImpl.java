@@ -17,24 +17,36 @@ package org.projectnessie.versioned.storage.versionstore;
 
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.projectnessie.model.CommitMeta.fromMessage;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_COMMIT_RETRIES;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_COMMIT_TIMEOUT_MILLIS;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.annotation.Nonnull;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.Content;
 import org.projectnessie.model.IcebergTable;
 import org.projectnessie.model.Operation.Put;
 import org.projectnessie.versioned.BranchName;
@@ -47,6 +59,7 @@ import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeExceptio
 import org.projectnessie.versioned.storage.common.exceptions.RefConditionFailedException;
 import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.UnknownOperationResultException;
+import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.Persist;
@@ -121,6 +134,108 @@ public class TestVersionStoreImpl extends AbstractVersionStoreTests {
             "The commit operation could not be performed after 3 retries within the configured commit timeout after ");
   }
 
+  @Test
+  public void commitSkipsUnchangedValues(@TempDir Path dir) throws Exception {
+    VersionStore store = new VersionStoreImpl(persist);
+
+    BranchName branch = BranchName.of("branch1");
+    store.create(branch, Optional.empty());
+    ContentKey unchangedKey = ContentKey.of("unchanged");
+    ContentKey newKey = ContentKey.of("new");
+    store.commit(
+        branch,
+        Optional.empty(),
+        fromMessage("initial"),
+        singletonList(Put.of(unchangedKey, IcebergTable.of("meta", 42, 43, 44, 45))));
+    Content unchanged = store.getValue(branch, unchangedKey, false).content();
+
+    List<ObjId> storedValues = new ArrayList<>();
+    AtomicBoolean failedBump = new AtomicBoolean();
+    Persist tested =
+        new PersistDelegate(persist) {
+          @Nonnull
+          @Override
+          public boolean[] storeObjs(@Nonnull Obj[] objs) throws ObjTooLargeException {
+            for (Obj obj : objs) {
+              if (obj instanceof ContentValueObj) {
+                storedValues.add(obj.id());
+              }
+            }
+            return super.storeObjs(objs);
+          }
+
+          @Nonnull
+          @Override
+          public Reference updateReferencePointer(
+              @Nonnull Reference reference, @Nonnull ObjId newPointer)
+              throws RefNotFoundException, RefConditionFailedException {
+            // Let the first attempt fail, the commit is retried
+            if (failedBump.compareAndSet(false, true)) {
+              throw new RefConditionFailedException(reference);
+            }
+            return super.updateReferencePointer(reference, newPointer);
+          }
+        };
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    Path file = dir.resolve("recording.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(CommitValuesEvent.NAME);
+      recording.start();
+
+      new VersionStoreImpl(tested, meterRegistry)
+          .commit(
+              branch,
+              Optional.empty(),
+              fromMessage("bulk"),
+              List.of(
+                  Put.of(unchangedKey, unchanged),
+                  Put.of(newKey, IcebergTable.of("meta2", 42, 43, 44, 45))));
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    soft.assertThat(storedValues).hasSize(1);
+    soft.assertThat(store.getValue(branch, unchangedKey, false).content()).isEqualTo(unchanged);
+    soft.assertThat(store.getValue(branch, newKey, false)).isNotNull();
+
+    List<RecordedEvent> events =
+        RecordingFile.readAllEvents(file).stream()
+            .filter(e -> e.getEventType().getName().equals(CommitValuesEvent.NAME))
+            .collect(Collectors.toList());
+    // The retried attempt does not write the value, which was already written by the first one.
+    soft.assertThat(events)
+        .extracting(e -> e.getInt("writtenValues"), e -> e.getInt("skippedValues"))
+        .containsExactly(tuple(1, 1), tuple(0, 1));
+    soft.assertThat(events.get(0).getLong("writtenBytes")).isPositive();
+    soft.assertThat(events.get(0).getLong("skippedBytes")).isPositive();
+
+    // The metrics count the values of the successful commit once.
+
+    soft.assertThat(
+            meterRegistry
+                .get(CommitValuesMeters.METER_COMMIT_VALUES)
+                .tag("result", "written")
+                .counter()
+                .count())
+        .isEqualTo(1d);
+    soft.assertThat(
+            meterRegistry
+                .get(CommitValuesMeters.METER_COMMIT_VALUES)
+                .tag("result", "skipped")
+                .counter()
+                .count())
+        .isEqualTo(1d);
+    soft.assertThat(
+            meterRegistry
+                .get(CommitValuesMeters.METER_COMMIT_VALUES_BYTES)
+                .tag("result", "skipped")
+                .counter()
+                .count())
+        .isPositive();
+  }
+
   @Test
   public void commitWithSingleConcurrentConflict() throws Exception {
     VersionStore store = new VersionStoreImpl(persist);
@@ -20,12 +20,18 @@ import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 import static org.projectnessie.model.IdentifiedContentKey.identifiedContentKeyFromContent;
 import static org.projectnessie.versioned.ContentResult.contentResult;
+import static org.projectnessie.versioned.ReferenceCutoff.referenceCutoff;
+import static org.projectnessie.versioned.ReferenceKeys.commitKeys;
+import static org.projectnessie.versioned.ReferenceKeys.referenceKeys;
 import static org.projectnessie.versioned.testworker.OnRefOnly.newOnRef;
 
 import com.google.common.collect.ImmutableList;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
@@ -34,6 +40,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.projectnessie.model.CommitMeta;
 import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.IcebergTable;
 import org.projectnessie.model.IdentifiedContentKey;
 import org.projectnessie.model.Namespace;
 import org.projectnessie.model.Operation.Delete;
@@ -41,6 +48,11 @@ import org.projectnessie.model.Operation.Put;
 import org.projectnessie.versioned.BranchName;
 import org.projectnessie.versioned.CommitResult;
 import org.projectnessie.versioned.Hash;
+import org.projectnessie.versioned.ReferenceContents;
+import org.projectnessie.versioned.ReferenceCutoff;
+import org.projectnessie.versioned.ReferenceKeys;
+import org.projectnessie.versioned.ReferenceNotFoundException;
+import org.projectnessie.versioned.TagName;
 import org.projectnessie.versioned.VersionStore;
 
 @ExtendWith(SoftAssertionsExtension.class)
@@ -101,6 +113,131 @@ public abstract class AbstractContents extends AbstractNestedVersionStore {
                 key2, contentResult(notFoundIdentifiedKey2, null, null)));
   }
 
+  @Test
+  void getValuesOnReferences() throws Exception {
+    BranchName branch = BranchName.of("multiRef-main");
+    BranchName emptyBranch = BranchName.of("multiRef-empty");
+    TagName tag = TagName.of("multiRef-tag");
+    ContentKey key1 = ContentKey.of("multiRef1");
+    ContentKey key2 = ContentKey.of("multiRef2");
+    ContentKey missing = ContentKey.of("multiRefMissing");
+
+    store().create(branch, Optional.empty());
+    store().create(emptyBranch, Optional.empty());
+    Hash first = commit("First").put(key1, newOnRef("v1")).toBranch(branch);
+    store().create(tag, Optional.of(first));
+    Hash second = commit("Second").put(key2, newOnRef("v2")).toBranch(branch);
+
+    List<ReferenceKeys> requests =
+        List.of(
+            referenceKeys(branch.getName(), List.of(key1, key2, missing)),
+            referenceKeys(tag.getName(), List.of(key1, key2)),
+            commitKeys(first, List.of(key2)),
+            referenceKeys(emptyBranch.getName(), List.of(key1)));
+    List<ReferenceContents> results =
+        store().getValuesOnReferences(requests, false).collect(Collectors.toList());
+
+    soft.assertThat(results)
+        .extracting(ReferenceContents::request)
+        .containsExactlyElementsOf(requests);
+    soft.assertThat(results)
+        .extracting(ReferenceContents::namedRef)
+        .containsExactly(branch, tag, null, emptyBranch);
+    soft.assertThat(results)
+        .extracting(ReferenceContents::hash)
+        .containsExactly(second, first, first, store().noAncestorHash());
+    soft.assertThat(results.get(0).contents())
+        .isEqualTo(store().getValues(branch, List.of(key1, key2, missing), false))
+        .containsOnlyKeys(key1, key2);
+    soft.assertThat(results.get(1).contents())
+        .isEqualTo(store().getValues(tag, List.of(key1, key2), false))
+        .containsOnlyKeys(key1);
+    soft.assertThat(results.get(2).contents()).isEmpty();
+    soft.assertThat(results.get(3).contents()).isEmpty();
+
+    soft.assertThat(
+            store()
+                .getValuesOnReferences(
+                    List.of(referenceKeys(branch.getName(), List.of(key1, missing))), true))
+        .singleElement()
+        .extracting(ReferenceContents::contents)
+        .isEqualTo(store().getValues(branch, List.of(key1, missing), true));
+
+    soft.assertThatThrownBy(
+            () ->
+                store()
+                    .getValuesOnReferences(
+                        List.of(
+                            referenceKeys(branch.getName(), List.of(key1)),
+                            referenceKeys("multiRef-nope", List.of(key1))),
+                        false))
+        .isInstanceOf(ReferenceNotFoundException.class);
+  }
+
+  @Test
+  void getLiveContents() throws Exception {
+    BranchName branch = BranchName.of("liveContents-main");
+    TagName tag = TagName.of("liveContents-tag");
+    ContentKey key1 = ContentKey.of("liveContents1");
+    ContentKey key2 = ContentKey.of("liveContents2");
+
+    store().create(branch, Optional.empty());
+    Hash first = commit("First").put(key1, IcebergTable.of("meta-1", 1, 0, 0, 0)).toBranch(branch);
+    store().create(tag, Optional.of(first));
+    Content table1 = requireNonNull(store().getValue(branch, key1, false).content());
+    commit("Second")
+        .put(key1, IcebergTable.of("meta-2", 2, 0, 0, 0).withId(table1.getId()))
+        .toBranch(branch);
+    commit("Third").put(key2, IcebergTable.of("meta-3", 3, 0, 0, 0)).toBranch(branch);
+    Hash head = commit("Fourth").delete(key1).toBranch(branch);
+
+    Set<Content.Type> types = Set.of(Content.Type.ICEBERG_TABLE);
+
+    soft.assertThat(liveMetadataLocations(List.of(referenceCutoff(branch, head, 1, null)), types))
+        .containsExactly("meta-3");
+    soft.assertThat(liveMetadataLocations(List.of(referenceCutoff(branch, head, 3, null)), types))
+        .containsExactlyInAnyOrder("meta-3", "meta-2");
+    soft.assertThat(
+            liveMetadataLocations(List.of(referenceCutoff(branch, head, null, null)), types))
+        .containsExactlyInAnyOrder("meta-3", "meta-2", "meta-1");
+    soft.assertThat(
+            liveMetadataLocations(
+                List.of(referenceCutoff(branch, head, null, Instant.now().plusSeconds(3600))),
+                types))
+        .containsExactly("meta-3");
+    soft.assertThat(
+            liveMetadataLocations(List.of(referenceCutoff(branch, head, null, null)), Set.of()))
+        .isEmpty();
+
+    // Contents live on multiple references are returned only once
+    soft.assertThat(
+            liveMetadataLocations(
+                List.of(
+                    referenceCutoff(branch, head, 1, null),
+                    referenceCutoff(tag, first, null, null),
+                    referenceCutoff(branch, head, null, null)),
+                types))
+        .containsExactlyInAnyOrder("meta-3", "meta-1", "meta-2");
+
+    soft.assertThatThrownBy(
+            () ->
+                store()
+                    .getLiveContents(
+                        List.of(
+                            referenceCutoff(branch, head, null, null),
+                            referenceCutoff(tag, Hash.of("1234567812345678"), null, null)),
+                        types))
+        .isInstanceOf(ReferenceNotFoundException.class);
+  }
+
+  private List<String> liveMetadataLocations(
+      List<ReferenceCutoff> references, Set<Content.Type> types) throws Exception {
+    return store()
+        .getLiveContents(references, types)
+        .map(c -> ((IcebergTable) c).getMetadataLocation())
+        .collect(Collectors.toList());
+  }
+
   @Test
   void recreateTable() throws Exception {
     BranchName branch = BranchName.of("recreateTable-main");
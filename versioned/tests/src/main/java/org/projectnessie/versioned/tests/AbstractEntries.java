@@ -16,12 +16,15 @@
 package org.projectnessie.versioned.tests;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.InstanceOfAssertFactories.list;
 import static org.assertj.core.groups.Tuple.tuple;
+import static org.projectnessie.versioned.NamespaceSummary.namespaceSummary;
 import static org.projectnessie.versioned.VersionStore.KeyRestrictions.NO_KEY_RESTRICTIONS;
 import static org.projectnessie.versioned.testworker.OnRefOnly.newOnRef;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
@@ -31,6 +34,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.IdentifiedContentKey;
 import org.projectnessie.model.Namespace;
@@ -38,6 +42,7 @@ import org.projectnessie.versioned.BranchName;
 import org.projectnessie.versioned.ContentResult;
 import org.projectnessie.versioned.Hash;
 import org.projectnessie.versioned.KeyEntry;
+import org.projectnessie.versioned.NamespaceSummary;
 import org.projectnessie.versioned.Ref;
 import org.projectnessie.versioned.VersionStore;
 import org.projectnessie.versioned.VersionStore.KeyRestrictions;
@@ -267,4 +272,51 @@ public abstract class AbstractEntries extends AbstractNestedVersionStore {
     soft.assertThat(store.getIdentifiedKeys(commit, newArrayList(key2a)))
         .containsOnly(content2a.identifiedKey());
   }
+
+  @Test
+  void namespaceSummaries() throws Exception {
+    BranchName branch = BranchName.of("foo");
+    ContentKey ns = ContentKey.of("ns");
+    ContentKey nsA = ContentKey.of("ns", "a");
+    ContentKey nsT1 = ContentKey.of("ns", "t1");
+    ContentKey nsAT2 = ContentKey.of("ns", "a", "t2");
+    ContentKey nsAT3 = ContentKey.of("ns", "a", "t3");
+    ContentKey top = ContentKey.of("top");
+    Content.Type type = newOnRef("x").getType();
+    Content.Type namespace = Content.Type.NAMESPACE;
+    store().create(branch, Optional.empty());
+
+    Hash first =
+        commit("First")
+            .put(ns, Namespace.of(ns))
+            .put(nsA, Namespace.of(nsA))
+            .put(nsT1, newOnRef("t1"))
+            .put(nsAT2, newOnRef("t2"))
+            .put(top, newOnRef("top"))
+            .toBranch(branch);
+    Hash second = commit("Second").delete(nsT1).put(nsAT3, newOnRef("t3")).toBranch(branch);
+
+    // summaries are maintained by the commits
+    soft.assertThat(store().getNamespaceSummaries(first, null))
+        .get(list(NamespaceSummary.class))
+        .containsExactly(
+            namespaceSummary(ContentKey.of(), false, Map.of(namespace, 1L, type, 1L), 1, 5L),
+            namespaceSummary(ns, true, Map.of(namespace, 1L, type, 1L), 1, 3L),
+            namespaceSummary(nsA, true, Map.of(type, 1L), 0, 1L));
+    soft.assertThat(store().getNamespaceSummaries(second, null))
+        .get(list(NamespaceSummary.class))
+        .containsExactly(
+            namespaceSummary(ContentKey.of(), false, Map.of(namespace, 1L, type, 1L), 1, 5L),
+            namespaceSummary(ns, true, Map.of(namespace, 1L), 1, 3L),
+            namespaceSummary(nsA, true, Map.of(type, 2L), 0, 2L));
+    soft.assertThat(store().getNamespaceSummaries(branch, nsA))
+        .get(list(NamespaceSummary.class))
+        .containsExactly(namespaceSummary(nsA, true, Map.of(type, 2L), 0, 2L));
+    soft.assertThat(store().getNamespaceSummaries(branch, ContentKey.of("nope")))
+        .get(list(NamespaceSummary.class))
+        .isEmpty();
+    soft.assertThat(store().getNamespaceSummaries(store().noAncestorHash(), null))
+        .get(list(NamespaceSummary.class))
+        .isEmpty();
+  }
 }
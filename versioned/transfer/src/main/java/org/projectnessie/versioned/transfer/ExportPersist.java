@@ -17,6 +17,7 @@ package org.projectnessie.versioned.transfer;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Spliterators.spliteratorUnknownSize;
+import static org.projectnessie.versioned.storage.common.logic.CommitLogQuery.DEFAULT_READ_AHEAD;
 import static org.projectnessie.versioned.storage.common.logic.CommitLogQuery.commitLogQuery;
 import static org.projectnessie.versioned.storage.common.logic.ReferencesQuery.referencesQuery;
 
@@ -25,7 +26,6 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -38,6 +38,7 @@ import org.projectnessie.nessie.relocated.protobuf.ByteString;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.logic.HeadsAndForkPoints;
 import org.projectnessie.versioned.storage.common.logic.IdentifyHeadsAndForkPoints;
+import org.projectnessie.versioned.storage.common.logic.PagedResult;
 import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
 import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
 import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
@@ -101,16 +102,20 @@ final class ExportPersist extends ExportCommon {
           while (!commitsToProcess.isEmpty()) {
             ObjId id = commitsToProcess.removeFirst();
             if (identify.isCommitNew(id)) {
-              Iterator<CommitObj> commitIter = exporter.commitLogic().commitLog(commitLogQuery(id));
-              while (commitIter.hasNext()) {
-                CommitObj commit = commitIter.next();
-                if (!identify.handleCommit(commit)) {
-                  break;
-                }
-                commitHandler.accept(commit);
-                for (ObjId parentId : commit.secondaryParents()) {
-                  if (identify.isCommitNew(parentId)) {
-                    commitsToProcess.addLast(parentId);
+              try (PagedResult<CommitObj, ObjId> commitIter =
+                  exporter
+                      .commitLogic()
+                      .commitLog(commitLogQuery(null, id, null, DEFAULT_READ_AHEAD))) {
+                while (commitIter.hasNext()) {
+                  CommitObj commit = commitIter.next();
+                  if (!identify.handleCommit(commit)) {
+                    break;
+                  }
+                  commitHandler.accept(commit);
+                  for (ObjId parentId : commit.secondaryParents()) {
+                    if (identify.isCommitNew(parentId)) {
+                      commitsToProcess.addLast(parentId);
+                    }
                   }
                 }
               }